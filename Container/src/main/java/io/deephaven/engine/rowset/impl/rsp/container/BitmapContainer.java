@@ -903,23 +903,26 @@ public final class BitmapContainer extends Container implements Cloneable {
         if (b2.isEmpty()) {
             return Container.empty();
         }
+        // a branch free pass the JIT can vectorize; the positions of the first words set are only needed for tiny
+        // results, so are found separately.
         int newCardinality = 0;
+        for (int k = 0; k < bitmap.length; ++k) {
+            newCardinality += Long.bitCount(bitmap[k] & b2.bitmap[k]);
+        }
+        if (newCardinality == 0) {
+            return Container.empty();
+        }
         int ixFirstNonZero = -1;
         int ixSecondNonZero = -1;
-        for (int k = 0; k < bitmap.length; ++k) {
-            final long r = bitmap[k] & b2.bitmap[k];
-            if (r == 0) {
+        for (int k = 0; newCardinality <= 2 && ixSecondNonZero == -1 && k < bitmap.length; ++k) {
+            if ((bitmap[k] & b2.bitmap[k]) == 0) {
                 continue;
             }
             if (ixFirstNonZero == -1) {
                 ixFirstNonZero = k;
-            } else if (ixSecondNonZero == -1) {
+            } else {
                 ixSecondNonZero = k;
             }
-            newCardinality += Long.bitCount(r);
-        }
-        if (newCardinality == 0) {
-            return Container.empty();
         }
         if (newCardinality == 1) {
             final long v = bitmap[ixFirstNonZero] & b2.bitmap[ixFirstNonZero];
@@ -1024,23 +1027,25 @@ public final class BitmapContainer extends Container implements Cloneable {
     }
 
     private Container iandNotImpl(final BitmapContainer b2, final boolean inPlace) {
+        // as in iandImpl, count in a branch free pass and only locate the first words set for tiny results.
         int newCardinality = 0;
+        for (int k = 0; k < bitmap.length; ++k) {
+            newCardinality += Long.bitCount(bitmap[k] & ~b2.bitmap[k]);
+        }
+        if (newCardinality == 0) {
+            return Container.empty();
+        }
         int ixFirstNonZero = -1;
         int ixSecondNonZero = -1;
-        for (int k = 0; k < bitmap.length; ++k) {
-            final long v = bitmap[k] & ~b2.bitmap[k];
-            if (v == 0) {
+        for (int k = 0; newCardinality <= 2 && ixSecondNonZero == -1 && k < bitmap.length; ++k) {
+            if ((bitmap[k] & ~b2.bitmap[k]) == 0) {
                 continue;
             }
             if (ixFirstNonZero == -1) {
                 ixFirstNonZero = k;
-            } else if (ixSecondNonZero == -1) {
+            } else {
                 ixSecondNonZero = k;
             }
-            newCardinality += Long.bitCount(v);
-        }
-        if (newCardinality == 0) {
-            return Container.empty();
         }
         if (newCardinality == 1) {
             final long v = bitmap[ixFirstNonZero] & ~b2.bitmap[ixFirstNonZero];
@@ -1413,8 +1418,18 @@ public final class BitmapContainer extends Container implements Cloneable {
         if (isEmpty()) {
             return value2.cowRef();
         }
-        final BitmapContainer value1 = deepCopy();
-        return value1.iorImpl(value2);
+        // a single pass over both bitmaps, instead of copying this one and or-ing value2 into the copy.
+        final long[] answer = new long[BITMAP_CAPACITY];
+        int answerCardinality = 0;
+        for (int k = 0; k < answer.length; ++k) {
+            final long w = bitmap[k] | value2.bitmap[k];
+            answer[k] = w;
+            answerCardinality += Long.bitCount(w);
+        }
+        if (answerCardinality == MAX_RANGE) {
+            return Container.full();
+        }
+        return new BitmapContainer(answer, answerCardinality);
     }
 
     @Override
@@ -0,0 +1,136 @@
+package io.deephaven.engine.rowset.impl.rsp.container;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads and writes containers in a portable binary layout that mirrors their in-memory representation, so that reading
+ * a container is a bulk copy of its array, bitmap, or runs rather than a sequence of insertions.
+ * <p>
+ * Each container is written as a one byte type, followed by:
+ * <ul>
+ * <li>{@link #ARRAY}: the cardinality as an int, then that many sorted unsigned shorts.</li>
+ * <li>{@link #BITMAP}: the cardinality as an int, then {@value BitmapContainer#BITMAP_CAPACITY} longs.</li>
+ * <li>{@link #RUN}: the number of runs and the cardinality as ints, then a (start, length - 1) pair of unsigned shorts
+ * per run.</li>
+ * </ul>
+ * The byte order is that of the buffer provided; callers are expected to fix it, typically to little endian.
+ * Containers of other types are written as whichever of the above is smallest.
+ */
+public final class ContainerSerialization {
+
+    public static final byte ARRAY = 1;
+    public static final byte BITMAP = 2;
+    public static final byte RUN = 3;
+
+    private ContainerSerialization() {}
+
+    /**
+     * @param container the container
+     * @return the number of bytes {@link #write(Container, ByteBuffer)} will write for {@code container}
+     */
+    public static int serializedSizeInBytes(final Container container) {
+        switch (typeFor(container)) {
+            case ARRAY:
+                return 1 + Integer.BYTES + container.getCardinality() * Short.BYTES;
+            case BITMAP:
+                return 1 + Integer.BYTES + BitmapContainer.BITMAP_CAPACITY * Long.BYTES;
+            default:
+                return 1 + 2 * Integer.BYTES + container.numberOfRanges() * 2 * Short.BYTES;
+        }
+    }
+
+    private static byte typeFor(final Container container) {
+        if (container instanceof ArrayContainer) {
+            return ARRAY;
+        }
+        if (container instanceof BitmapContainer) {
+            return BITMAP;
+        }
+        if (container instanceof RunContainer) {
+            return RUN;
+        }
+        // the immutable specializations hold at most two values or a single range
+        return container.numberOfRanges() * 2 < container.getCardinality() ? RUN : ARRAY;
+    }
+
+    /**
+     * Write {@code container} at the current position of {@code out}, advancing it.
+     *
+     * @param container the container
+     * @param out the destination, with at least {@link #serializedSizeInBytes(Container)} bytes remaining
+     */
+    public static void write(final Container container, final ByteBuffer out) {
+        final byte type = typeFor(container);
+        out.put(type);
+        switch (type) {
+            case ARRAY: {
+                final int cardinality = container.getCardinality();
+                out.putInt(cardinality);
+                if (container instanceof ArrayContainer) {
+                    out.asShortBuffer().put(((ArrayContainer) container).content, 0, cardinality);
+                    out.position(out.position() + cardinality * Short.BYTES);
+                } else {
+                    container.forEach(v -> {
+                        out.putShort(v);
+                        return true;
+                    });
+                }
+                return;
+            }
+            case BITMAP: {
+                final BitmapContainer bitmapContainer = (BitmapContainer) container;
+                out.putInt(bitmapContainer.cardinality);
+                out.asLongBuffer().put(bitmapContainer.bitmap);
+                out.position(out.position() + BitmapContainer.BITMAP_CAPACITY * Long.BYTES);
+                return;
+            }
+            default: {
+                out.putInt(container.numberOfRanges());
+                out.putInt(container.getCardinality());
+                container.forEachRange(0, (unsignedStart, unsignedEndInclusive) -> {
+                    out.putShort(unsignedStart);
+                    out.putShort((short) (unsignedEndInclusive - unsignedStart));
+                    return true;
+                });
+            }
+        }
+    }
+
+    /**
+     * Read a container written by {@link #write(Container, ByteBuffer)} from the current position of {@code in},
+     * advancing it. The container's contents are copied out of {@code in} in bulk.
+     *
+     * @param in the source
+     * @return the container
+     */
+    public static Container read(final ByteBuffer in) {
+        final byte type = in.get();
+        switch (type) {
+            case ARRAY: {
+                final int cardinality = in.getInt();
+                final short[] content = new short[cardinality];
+                in.asShortBuffer().get(content);
+                in.position(in.position() + cardinality * Short.BYTES);
+                return ArrayContainer.makeByWrapping(content, cardinality);
+            }
+            case BITMAP: {
+                final int cardinality = in.getInt();
+                final long[] bitmap = new long[BitmapContainer.BITMAP_CAPACITY];
+                in.asLongBuffer().get(bitmap);
+                in.position(in.position() + BitmapContainer.BITMAP_CAPACITY * Long.BYTES);
+                return new BitmapContainer(bitmap, cardinality);
+            }
+            case RUN: {
+                final int numRuns = in.getInt();
+                final int cardinality = in.getInt();
+                final short[] valuesLength = new short[2 * numRuns];
+                in.asShortBuffer().get(valuesLength);
+                in.position(in.position() + valuesLength.length * Short.BYTES);
+                return RunContainer.makeByWrapping(valuesLength, numRuns, cardinality);
+            }
+            default:
+                throw new IllegalArgumentException("Unknown container type " + type + " at position "
+                        + (in.position() - 1));
+        }
+    }
+}
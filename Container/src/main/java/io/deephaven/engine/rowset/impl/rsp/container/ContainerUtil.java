@@ -23,6 +23,12 @@ public final class ContainerUtil {
      */
     public static final boolean USE_HYBRID_BINSEARCH = true;
 
+    /**
+     * When one sorted list is more than this many times longer than the other, set operations gallop through the longer
+     * list rather than merging the two element by element.
+     */
+    static final int GALLOPING_THRESHOLD = 25;
+
     /**
      * Find the smallest integer larger than pos such that array[pos]&gt;= min. If none can be found, return length.
      * Based on code by O. Kaser.
@@ -636,6 +642,12 @@ public final class ContainerUtil {
         if (0 == length1) {
             return 0;
         }
+        if (length2 * GALLOPING_THRESHOLD < length1) {
+            return unsignedGallopingDifferenceFromLarge(set1, length1, set2, length2, buffer);
+        }
+        if (length1 * GALLOPING_THRESHOLD < length2) {
+            return unsignedGallopingDifferenceFromSmall(set1, length1, set2, length2, buffer);
+        }
         short s1 = set1[k1];
         short s2 = set2[k2];
         while (true) {
@@ -670,6 +682,50 @@ public final class ContainerUtil {
         return pos;
     }
 
+    /**
+     * Remove the values of a small sorted list from a much larger one, copying the runs of the larger list between
+     * removed values in bulk. {@code buffer} may be {@code set1}.
+     */
+    private static int unsignedGallopingDifferenceFromLarge(final short[] largeSet, final int largeLength,
+            final short[] smallSet, final int smallLength, final short[] buffer) {
+        int pos = 0;
+        int kl = 0;
+        for (int ks = 0; ks < smallLength && kl < largeLength; ++ks) {
+            final short s = smallSet[ks];
+            int next = advanceUntil(largeSet, kl - 1, largeLength, s);
+            System.arraycopy(largeSet, kl, buffer, pos, next - kl);
+            pos += next - kl;
+            if (next < largeLength && largeSet[next] == s) {
+                ++next;
+            }
+            kl = next;
+        }
+        System.arraycopy(largeSet, kl, buffer, pos, largeLength - kl);
+        return pos + largeLength - kl;
+    }
+
+    /**
+     * Remove the values of a much larger sorted list from a small one, galloping through the larger list.
+     * {@code buffer} may be {@code set1}.
+     */
+    private static int unsignedGallopingDifferenceFromSmall(final short[] smallSet, final int smallLength,
+            final short[] largeSet, final int largeLength, final short[] buffer) {
+        int pos = 0;
+        int kl = 0;
+        for (int ks = 0; ks < smallLength; ++ks) {
+            final short s = smallSet[ks];
+            kl = advanceUntil(largeSet, kl - 1, largeLength, s);
+            if (kl == largeLength) {
+                System.arraycopy(smallSet, ks, buffer, pos, smallLength - ks);
+                return pos + smallLength - ks;
+            }
+            if (largeSet[kl] != s) {
+                buffer[pos++] = s;
+            }
+        }
+        return pos;
+    }
+
     /**
      * Compute the difference between two sorted lists and write the result to the provided output array
      *
@@ -797,10 +853,9 @@ public final class ContainerUtil {
      */
     public static int unsignedIntersect2by2(final short[] set1, final int length1, final short[] set2,
             final int length2, final short[] buffer) {
-        final int THRESHOLD = 25;
-        if (set1.length * THRESHOLD < set2.length) {
+        if (length1 * GALLOPING_THRESHOLD < length2) {
             return unsignedOneSidedGallopingIntersect2by2(set1, length1, set2, length2, buffer);
-        } else if (set2.length * THRESHOLD < set1.length) {
+        } else if (length2 * GALLOPING_THRESHOLD < length1) {
             return unsignedOneSidedGallopingIntersect2by2(set2, length2, set1, length1, buffer);
         } else {
             return unsignedLocalIntersect2by2(set1, length1, set2, length2, buffer);
@@ -1034,6 +1089,12 @@ public final class ContainerUtil {
             System.arraycopy(set2, offset2, buffer, 0, length2);
             return length2;
         }
+        if (length1 * GALLOPING_THRESHOLD < length2) {
+            return unsignedGallopingUnion2by2(set1, offset1, length1, set2, offset2, length2, buffer);
+        }
+        if (length2 * GALLOPING_THRESHOLD < length1) {
+            return unsignedGallopingUnion2by2(set2, offset2, length2, set1, offset1, length1, buffer);
+        }
         int pos = 0;
         int k1 = offset1, k2 = offset2;
         short s1 = set1[k1];
@@ -1076,6 +1137,35 @@ public final class ContainerUtil {
         // return pos;
     }
 
+    /**
+     * Unite a small sorted list with a much larger one, copying the runs of the larger list between the values of the
+     * smaller in bulk. {@code buffer} may be either list, as long as, like for
+     * {@link #unsignedUnion2by2(short[], int, int, short[], int, int, short[])}, that list's values start at an offset
+     * at least the length of the other.
+     */
+    private static int unsignedGallopingUnion2by2(
+            final short[] smallSet, final int smallOffset, final int smallLength,
+            final short[] largeSet, final int largeOffset, final int largeLength,
+            final short[] buffer) {
+        final int smallEnd = smallOffset + smallLength;
+        final int largeEnd = largeOffset + largeLength;
+        int pos = 0;
+        int kl = largeOffset;
+        for (int ks = smallOffset; ks < smallEnd; ++ks) {
+            final short s = smallSet[ks];
+            final int next = advanceUntil(largeSet, kl - 1, largeEnd, s);
+            System.arraycopy(largeSet, kl, buffer, pos, next - kl);
+            pos += next - kl;
+            kl = next;
+            if (kl == largeEnd || largeSet[kl] != s) {
+                // otherwise s is copied with the next run of the larger list
+                buffer[pos++] = s;
+            }
+        }
+        System.arraycopy(largeSet, kl, buffer, pos, largeEnd - kl);
+        return pos + largeEnd - kl;
+    }
+
     /**
      * Sorts the data by the 16 bit prefix.
      *
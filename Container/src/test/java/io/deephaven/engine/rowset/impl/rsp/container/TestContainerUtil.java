@@ -4,6 +4,9 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
 
 public class TestContainerUtil {
 
@@ -122,4 +125,69 @@ public class TestContainerUtil {
         Assert.assertEquals((short) -1, (short) 65535);
     }
 
+    private static short[] randomSortedUnsigned(final Random random, final int count, final int bound) {
+        final TreeSet<Integer> values = new TreeSet<>();
+        while (values.size() < count) {
+            values.add(random.nextInt(bound));
+        }
+        final short[] result = new short[count];
+        int i = 0;
+        for (final int v : values) {
+            result[i++] = (short) v;
+        }
+        return result;
+    }
+
+    private static void assertUnsignedSetEquals(final Set<Integer> expected, final short[] actual, final int length) {
+        Assert.assertEquals(expected.size(), length);
+        int i = 0;
+        for (final int v : expected) {
+            Assert.assertEquals(v, ContainerUtil.toIntUnsigned(actual[i++]));
+        }
+    }
+
+    @Test
+    public void testSkewedSetOperations() {
+        // one side at least GALLOPING_THRESHOLD times larger than the other exercises the galloping paths
+        final Random random = new Random(0);
+        for (int iteration = 0; iteration < 500; ++iteration) {
+            final int smallCount = random.nextInt(40);
+            final int largeCount = smallCount * ContainerUtil.GALLOPING_THRESHOLD + 1 + random.nextInt(2000);
+            final boolean smallFirst = random.nextBoolean();
+            // restricting one side to the low values makes some runs of the larger set entirely unmatched
+            final short[] set1 = randomSortedUnsigned(random, smallFirst ? smallCount : largeCount,
+                    smallFirst && random.nextBoolean() ? 8192 : 65536);
+            final short[] set2 = randomSortedUnsigned(random, smallFirst ? largeCount : smallCount, 65536);
+            final Set<Integer> s1 = new TreeSet<>();
+            final Set<Integer> s2 = new TreeSet<>();
+            for (final short v : set1) {
+                s1.add(ContainerUtil.toIntUnsigned(v));
+            }
+            for (final short v : set2) {
+                s2.add(ContainerUtil.toIntUnsigned(v));
+            }
+            final short[] buffer = new short[set1.length + set2.length];
+
+            final Set<Integer> union = new TreeSet<>(s1);
+            union.addAll(s2);
+            assertUnsignedSetEquals(union, buffer,
+                    ContainerUtil.unsignedUnion2by2(set1, 0, set1.length, set2, 0, set2.length, buffer));
+
+            final Set<Integer> intersection = new TreeSet<>(s1);
+            intersection.retainAll(s2);
+            assertUnsignedSetEquals(intersection, buffer,
+                    ContainerUtil.unsignedIntersect2by2(set1, set1.length, set2, set2.length, buffer));
+
+            final Set<Integer> difference = new TreeSet<>(s1);
+            difference.removeAll(s2);
+            assertUnsignedSetEquals(difference, buffer,
+                    ContainerUtil.unsignedDifference(set1, set1.length, set2, set2.length, buffer));
+
+            // the in place union used by ArrayContainer.ior, with the first set shifted up by the second's length
+            final short[] inPlace = new short[set1.length + set2.length];
+            System.arraycopy(set1, 0, inPlace, set2.length, set1.length);
+            assertUnsignedSetEquals(union, inPlace,
+                    ContainerUtil.unsignedUnion2by2(inPlace, set2.length, set1.length, set2, 0, set2.length, inPlace));
+        }
+    }
 }
@@ -4,9 +4,17 @@
 package io.deephaven.engine.table;
 
 import io.deephaven.base.verify.Assert;
+import io.deephaven.chunk.*;
+import io.deephaven.chunk.attributes.Values;
 import io.deephaven.engine.liveness.LivenessReferent;
 import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderRandom;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
 import io.deephaven.util.annotations.FinalDefault;
+import io.deephaven.util.type.TypeUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
@@ -134,6 +142,153 @@ public interface DataIndex extends BasicDataIndex {
         };
     }
 
+    /**
+     * Look up the row keys in the index {@link #table(DataIndexOptions) table} for a chunk of lookup keys at once.
+     * Unlike {@link #rowKeyLookup(DataIndexOptions)}, the lookup keys are supplied as one chunk of reinterpreted,
+     * unboxed values per key column, in the order of the index's key columns, and implementations may avoid boxing
+     * them. If {@link #isRefreshing()} is {@code true}, the result is only guaranteed to be accurate for the current
+     * cycle.
+     * <p>
+     * The default implementation boxes each lookup key and applies {@link #rowKeyLookup(DataIndexOptions)}.
+     *
+     * @param options parameters for building the table, if required
+     * @param lookupKeys One chunk of reinterpreted values per key column, all of the same size
+     * @param usePrev Whether to look up the keys in the previous version of the index table
+     * @param destination The destination for the row keys, set to the size of the lookup key chunks; keys that are not
+     *        found are given {@link RowSequence#NULL_ROW_KEY}
+     */
+    default void lookupRowKeys(
+            @NotNull final DataIndexOptions options,
+            @NotNull final Chunk<? extends Values>[] lookupKeys,
+            final boolean usePrev,
+            @NotNull final WritableLongChunk<? super RowKeys> destination) {
+        final RowKeyLookup rowKeyLookup = rowKeyLookup(options);
+        final int size = lookupKeys[0].size();
+        final Object[] compoundKey = lookupKeys.length == 1 ? null : new Object[lookupKeys.length];
+        for (int ii = 0; ii < size; ++ii) {
+            final Object lookupKey;
+            if (compoundKey == null) {
+                lookupKey = boxedLookupKeyValue(lookupKeys[0], ii);
+            } else {
+                for (int ci = 0; ci < lookupKeys.length; ++ci) {
+                    compoundKey[ci] = boxedLookupKeyValue(lookupKeys[ci], ii);
+                }
+                lookupKey = compoundKey;
+            }
+            destination.set(ii, rowKeyLookup.apply(lookupKey, usePrev));
+        }
+        destination.setSize(size);
+    }
+
+    private static Object boxedLookupKeyValue(@NotNull final Chunk<? extends Values> lookupKeys, final int position) {
+        switch (lookupKeys.getChunkType()) {
+            case Boolean:
+                return lookupKeys.asBooleanChunk().get(position);
+            case Char:
+                return TypeUtils.box(lookupKeys.asCharChunk().get(position));
+            case Byte:
+                return TypeUtils.box(lookupKeys.asByteChunk().get(position));
+            case Short:
+                return TypeUtils.box(lookupKeys.asShortChunk().get(position));
+            case Int:
+                return TypeUtils.box(lookupKeys.asIntChunk().get(position));
+            case Long:
+                return TypeUtils.box(lookupKeys.asLongChunk().get(position));
+            case Float:
+                return TypeUtils.box(lookupKeys.asFloatChunk().get(position));
+            case Double:
+                return TypeUtils.box(lookupKeys.asDoubleChunk().get(position));
+            case Object:
+                return lookupKeys.asObjectChunk().get(position);
+        }
+        throw new IllegalStateException("Unexpected chunk type " + lookupKeys.getChunkType());
+    }
+
+    /**
+     * Get the {@link RowSet row sets} from the index {@link #table(DataIndexOptions) table} for a chunk of index table
+     * row keys, such as those produced by
+     * {@link #lookupRowKeys(DataIndexOptions, Chunk[], boolean, WritableLongChunk)}. The row sets are owned by the
+     * index and must not be closed. Implementations may retrieve the row sets concurrently.
+     *
+     * @param options parameters for building the table, if required
+     * @param indexRowKeys The row keys in the index table, possibly including {@link RowSequence#NULL_ROW_KEY}
+     * @param usePrev Whether to get the previous row sets
+     * @param destination The destination for the row sets, set to the size of {@code indexRowKeys}; a
+     *        {@link RowSequence#NULL_ROW_KEY} row key is given a {@code null} row set
+     */
+    default void fillRowSets(
+            @NotNull final DataIndexOptions options,
+            @NotNull final LongChunk<? extends RowKeys> indexRowKeys,
+            final boolean usePrev,
+            @NotNull final WritableObjectChunk<RowSet, ? super Values> destination) {
+        final ColumnSource<RowSet> rowSetColumn = rowSetColumn(options);
+        final int size = indexRowKeys.size();
+        for (int ii = 0; ii < size; ++ii) {
+            final long indexRowKey = indexRowKeys.get(ii);
+            if (indexRowKey == RowSequence.NULL_ROW_KEY) {
+                destination.set(ii, null);
+            } else {
+                destination.set(ii, usePrev ? rowSetColumn.getPrev(indexRowKey) : rowSetColumn.get(indexRowKey));
+            }
+        }
+        destination.setSize(size);
+    }
+
+    /**
+     * Look up the {@link RowSet row sets} for a chunk of lookup keys at once, as with
+     * {@link #lookupRowKeys(DataIndexOptions, Chunk[], boolean, WritableLongChunk)} followed by
+     * {@link #fillRowSets(DataIndexOptions, LongChunk, boolean, WritableObjectChunk)}. The row sets are owned by the
+     * index and must not be closed.
+     *
+     * @param options parameters for building the table, if required
+     * @param lookupKeys One chunk of reinterpreted values per key column, all of the same size
+     * @param usePrev Whether to look up the keys in the previous version of the index table
+     * @param destination The destination for the row sets, set to the size of the lookup key chunks; keys that are not
+     *        found are given a {@code null} row set
+     */
+    @FinalDefault
+    default void lookupRowSets(
+            @NotNull final DataIndexOptions options,
+            @NotNull final Chunk<? extends Values>[] lookupKeys,
+            final boolean usePrev,
+            @NotNull final WritableObjectChunk<RowSet, ? super Values> destination) {
+        try (final WritableLongChunk<RowKeys> indexRowKeys =
+                WritableLongChunk.makeWritableChunk(lookupKeys[0].size())) {
+            lookupRowKeys(options, lookupKeys, usePrev, indexRowKeys);
+            fillRowSets(options, indexRowKeys, usePrev, destination);
+        }
+    }
+
+    /**
+     * Look up the {@link RowSet row sets} for a chunk of lookup keys at once, as with
+     * {@link #lookupRowSets(DataIndexOptions, Chunk[], boolean, WritableObjectChunk)}, and return their union.
+     *
+     * @param options parameters for building the table, if required
+     * @param lookupKeys One chunk of reinterpreted values per key column, all of the same size
+     * @param usePrev Whether to look up the keys in the previous version of the index table
+     * @return A new row set, owned by the caller, of all rows that match any of the lookup keys
+     */
+    @NotNull
+    @FinalDefault
+    default WritableRowSet lookupRowSetUnion(
+            @NotNull final DataIndexOptions options,
+            @NotNull final Chunk<? extends Values>[] lookupKeys,
+            final boolean usePrev) {
+        final RowSetBuilderRandom builder = RowSetFactory.builderRandom();
+        try (final WritableObjectChunk<RowSet, Values> rowSets =
+                WritableObjectChunk.makeWritableChunk(lookupKeys[0].size())) {
+            lookupRowSets(options, lookupKeys, usePrev, rowSets);
+            for (int ii = 0; ii < rowSets.size(); ++ii) {
+                final RowSet rowSet = rowSets.get(ii);
+                if (rowSet != null) {
+                    builder.addRowSet(rowSet);
+                }
+            }
+            rowSets.fillWithNullValue(0, rowSets.size());
+        }
+        return builder.build();
+    }
+
     /**
      * Transform and return a new {@link BasicDataIndex} with the provided transform operations applied. Some
      * transformations will force the result to be a static snapshot even when this DataIndex {@link #isRefreshing() is
@@ -3,6 +3,7 @@
 //
 package io.deephaven.benchmark.engine;
 
+import io.deephaven.api.agg.Aggregation;
 import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.context.TestExecutionContext;
 import io.deephaven.engine.table.PartitionedTable;
@@ -10,6 +11,7 @@ import io.deephaven.engine.table.Table;
 import io.deephaven.engine.testutil.ControlledUpdateGraph;
 import io.deephaven.engine.util.TableTools;
 import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.by.SimdAggregationKernels;
 import io.deephaven.benchmarking.*;
 import io.deephaven.benchmarking.generator.ColumnGenerator;
 import io.deephaven.benchmarking.generator.EnumStringGenerator;
@@ -22,6 +24,7 @@ import org.openjdk.jmh.infra.BenchmarkParams;
 import org.openjdk.jmh.infra.Blackhole;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @SuppressWarnings("unused")
@@ -31,7 +34,7 @@ import java.util.concurrent.TimeUnit;
 @Warmup(iterations = 1, time = 1)
 @Measurement(iterations = 5, time = 1)
 @Timeout(time = 12)
-@Fork(1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
 public class GroupByBenchmark {
     private TableBenchmarkState state;
 
@@ -50,12 +53,18 @@ public class GroupByBenchmark {
     @Param({"1000", "100000"})
     private int keyCount;
 
+    // compare the Vector API sum, min and max loops against the scalar ones in statsByStatic
+    @Param({"true", "false"})
+    private boolean simd;
+
     private Table table;
 
     private String keyName;
 
     @Setup(Level.Trial)
     public void setupEnv(BenchmarkParams params) {
+        SimdAggregationKernels.ENABLED = simd;
+        SimdAggregationKernels.INEXACT_ENABLED = simd;
         TestExecutionContext.createForUnitTests().open();
         ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().enableUnitTestMode();
         QueryTable.setMemoizeResults(false);
@@ -158,6 +167,17 @@ public class GroupByBenchmark {
         return state.setResult(TableTools.emptyTable(0));
     }
 
+    @Benchmark
+    public Table statsByStatic(@NotNull final Blackhole bh) {
+        final List<Aggregation> aggregations = List.of(Aggregation.AggSum("Sum=Sentinel"),
+                Aggregation.AggAvg("Avg=Sentinel"), Aggregation.AggMin("Min=Sentinel"),
+                Aggregation.AggMax("Max=Sentinel"));
+        final Table result = ExecutionContext.getContext().getUpdateGraph().sharedLock()
+                .computeLocked(() -> table.aggBy(aggregations, keyName.split("[, ]+")));
+        bh.consume(result);
+        return state.setResult(TableTools.emptyTable(0));
+    }
+
     @Benchmark
     public Table partitionByStatic(@NotNull final Blackhole bh) {
         final PartitionedTable result = ExecutionContext.getContext().getUpdateGraph().sharedLock().computeLocked(
@@ -9,6 +9,7 @@ import io.deephaven.engine.table.MatchOptions;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.testutil.ControlledUpdateGraph;
 import io.deephaven.time.DateTimeUtils;
+import io.deephaven.engine.table.impl.chunkfilter.SimdChunkFilters;
 import io.deephaven.engine.table.impl.select.*;
 import io.deephaven.benchmarking.*;
 import io.deephaven.benchmarking.runner.TableBenchmarkState;
@@ -31,7 +32,7 @@ import static io.deephaven.benchmarking.BenchmarkTools.applySparsity;
 @Warmup(iterations = 1, time = 1)
 @Measurement(iterations = 10, time = 5)
 @Timeout(time = 10)
-@Fork(1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
 public class MatchFilterBenchmark {
     private TableBenchmarkState state;
 
@@ -51,12 +52,17 @@ public class MatchFilterBenchmark {
     @Param({"1", "2", "3", "5", "100"})
     private int matchValues;
 
+    // compare the Vector API chunk filters against the scalar ones
+    @Param({"true", "false"})
+    private boolean simd;
+
     private Table inputTable;
     private WhereFilter matchFilter;
     private final ResultSizeProfiler resultSizeProfiler = new ResultSizeProfiler();
 
     @Setup(Level.Trial)
     public void setupEnv(BenchmarkParams params) {
+        SimdChunkFilters.ENABLED = simd;
         TestExecutionContext.createForUnitTests().open();
         ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().enableUnitTestMode();
 
@@ -6,8 +6,10 @@ package io.deephaven.benchmark.engine;
 import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.context.TestExecutionContext;
 import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.OperationInitializationThreadPool;
 import io.deephaven.engine.testutil.ControlledUpdateGraph;
 import io.deephaven.util.metrics.MetricsManager;
+import io.deephaven.util.thread.ThreadInitializationFactory;
 import io.deephaven.benchmarking.*;
 import io.deephaven.benchmarking.generator.ColumnGenerator;
 import io.deephaven.benchmarking.generator.EnumStringGenerator;
@@ -45,6 +47,14 @@ public class NaturalJoinBenchmark {
     @Param({"10000"}) // , "10"})
     private int rightSize;
 
+    /**
+     * The number of operation initializer threads, to measure how the parallel static probe scales with cores.
+     */
+    @Param({"1", "4", "16"})
+    private int initializerThreads;
+
+    private OperationInitializationThreadPool operationInitializer;
+
     private Table rightTable;
     private Table leftTable;
 
@@ -54,6 +64,9 @@ public class NaturalJoinBenchmark {
     public void setupEnv(BenchmarkParams params) {
         TestExecutionContext.createForUnitTests().open();
         ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().enableUnitTestMode();
+        operationInitializer =
+                new OperationInitializationThreadPool(ThreadInitializationFactory.NO_OP, initializerThreads);
+        ExecutionContext.getContext().withOperationInitializer(operationInitializer).open();
 
         final BenchmarkTableBuilder rightBuilder;
         final BenchmarkTableBuilder leftBuilder;
@@ -138,6 +151,7 @@ public class NaturalJoinBenchmark {
         } catch (IOException e) {
             e.printStackTrace();
         }
+        operationInitializer.shutdown();
     }
 
     @Setup(Level.Iteration)
@@ -8,6 +8,7 @@ import io.deephaven.engine.context.TestExecutionContext;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.testutil.ControlledUpdateGraph;
 import io.deephaven.time.DateTimeUtils;
+import io.deephaven.engine.table.impl.chunkfilter.SimdChunkFilters;
 import io.deephaven.engine.table.impl.select.*;
 import io.deephaven.benchmarking.*;
 import io.deephaven.benchmarking.runner.TableBenchmarkState;
@@ -27,7 +28,7 @@ import static io.deephaven.benchmarking.BenchmarkTools.applySparsity;
 @Warmup(iterations = 1, time = 1)
 @Measurement(iterations = 3, time = 5)
 @Timeout(time = 10)
-@Fork(1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
 public class RangeFilterBenchmark {
     private TableBenchmarkState state;
 
@@ -46,11 +47,16 @@ public class RangeFilterBenchmark {
     @Param({"0", "10", "50", "90", "100"})
     private int selectivity;
 
+    // compare the Vector API chunk filters against the scalar ones
+    @Param({"true", "false"})
+    private boolean simd;
+
     private Table inputTable;
     private AbstractRangeFilter rangeFilter;
 
     @Setup(Level.Trial)
     public void setupEnv(BenchmarkParams params) {
+        SimdChunkFilters.ENABLED = simd;
         TestExecutionContext.createForUnitTests().open();
         ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().enableUnitTestMode();
 
@@ -0,0 +1,102 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.benchmark.engine;
+
+import io.deephaven.base.verify.Assert;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.context.TestExecutionContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.SortedColumnsAttribute;
+import io.deephaven.engine.table.impl.SortingOrder;
+import io.deephaven.engine.table.impl.replay.FixedStepReplayer;
+import io.deephaven.engine.updategraph.impl.BaseUpdateGraph;
+import io.deephaven.engine.updategraph.impl.EventDrivenUpdateGraph;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.util.SafeCloseable;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to replay static tables to completion in lockstep under one {@link EventDrivenUpdateGraph}, driving
+ * a {@link FixedStepReplayer} through a fixed number of cycles.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Timeout(time = 120)
+@Fork(1)
+public class ReplayBenchmark {
+
+    private static final String GRAPH_NAME = "ReplayBenchmark";
+    private static final long START_NANOS = 1_700_000_000_000_000_000L;
+
+    @Param({"10000000"})
+    private int tableSize;
+
+    @Param({"1", "4"})
+    private int numTables;
+
+    @Param({"1000"})
+    private int numCycles;
+
+    @Param({"true", "false"})
+    private boolean sortedAttribute;
+
+    private SafeCloseable executionContext;
+    private EventDrivenUpdateGraph updateGraph;
+    private final List<Table> sources = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        updateGraph = EventDrivenUpdateGraph.newBuilder(GRAPH_NAME).build();
+        executionContext = TestExecutionContext.createForUnitTests().withUpdateGraph(updateGraph).open();
+
+        for (int ti = 0; ti < numTables; ++ti) {
+            // one timestamp per millisecond, with every table sharing the same span of replay time
+            final Table source = TableTools.emptyTable(tableSize).update(
+                    "Timestamp = DateTimeUtils.epochNanosToInstant(" + START_NANOS + "L + ii * 1_000_000L)",
+                    "Value = ii * " + (ti + 1));
+            sources.add(sortedAttribute
+                    ? SortedColumnsAttribute.withOrderForColumn(source, "Timestamp", SortingOrder.Ascending)
+                    : source);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        sources.clear();
+        executionContext.close();
+        BaseUpdateGraph.removeInstance(GRAPH_NAME);
+    }
+
+    @Benchmark
+    public long replayAll() {
+        final long spanNanos = tableSize * 1_000_000L;
+        final FixedStepReplayer replayer = new FixedStepReplayer(
+                Instant.ofEpochSecond(0, START_NANOS),
+                Instant.ofEpochSecond(0, START_NANOS + spanNanos),
+                spanNanos / numCycles);
+        final List<Table> replayed = new ArrayList<>(numTables);
+        for (final Table source : sources) {
+            replayed.add(replayer.replay(source, "Timestamp"));
+        }
+        replayer.start();
+        while (!replayer.isDone()) {
+            updateGraph.requestRefresh();
+        }
+
+        long totalSize = 0;
+        for (final Table table : replayed) {
+            totalSize += table.size();
+        }
+        Assert.eq(totalSize, "totalSize", (long) tableSize * numTables, "tableSize * numTables");
+        return totalSize;
+    }
+}
@@ -0,0 +1,72 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.benchmark.engine;
+
+import io.deephaven.api.updateby.UpdateByOperation;
+import io.deephaven.engine.context.TestExecutionContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.util.SafeCloseable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the native rolling median against the equivalent rolling formula, which sorts every window, over a static
+ * table with and without buckets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Timeout(time = 120)
+@Fork(1)
+public class RollingPercentileBenchmark {
+
+    @Param({"1000000"})
+    private int tableSize;
+
+    @Param({"100", "1000", "10000"})
+    private int windowTicks;
+
+    @Param({"1", "100"})
+    private int numBuckets;
+
+    @Param({"native", "formula"})
+    private String method;
+
+    private SafeCloseable executionContext;
+    private Table source;
+    private UpdateByOperation operation;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executionContext = TestExecutionContext.createForUnitTests().open();
+        source = TableTools.emptyTable(tableSize).update(
+                "Bucket = ii % " + numBuckets,
+                "Value = (ii * 0x9E3779B97F4A7C15L) >>> 40");
+        switch (method) {
+            case "native":
+                operation = UpdateByOperation.RollingMedian(windowTicks, 0, "Median = Value");
+                break;
+            case "formula":
+                operation = UpdateByOperation.RollingFormula(windowTicks, 0, "Median = median(Value)");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown method " + method);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        source = null;
+        executionContext.close();
+    }
+
+    @Benchmark
+    public Table rollingMedian() {
+        return numBuckets == 1 ? source.updateBy(operation) : source.updateBy(operation, "Bucket");
+    }
+}
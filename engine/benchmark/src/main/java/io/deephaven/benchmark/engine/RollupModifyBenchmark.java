@@ -0,0 +1,130 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.benchmark.engine;
+
+import io.deephaven.api.agg.Aggregation;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.context.TestExecutionContext;
+import io.deephaven.engine.rowset.RowSetBuilderRandom;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.RowSetShiftData;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.ModifiedColumnSet;
+import io.deephaven.engine.table.hierarchical.RollupTable;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.TableUpdateImpl;
+import io.deephaven.engine.table.impl.by.ChunkedOperatorAggregationHelper;
+import io.deephaven.engine.table.impl.sources.IntegerArraySource;
+import io.deephaven.engine.table.impl.sources.LongArraySource;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.util.SafeCloseable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures update cycles that modify the values of random rows under a rollup with {@code numKeys + 1} levels. Every
+ * modification is re-aggregated up through all the levels, so this exercises the re-aggregation of each level from the
+ * level below. The {@code rememberInputRowStates} parameter compares remembering the state of each input row against
+ * hashing the keys of every modified row at every level.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Timeout(time = 120)
+@Fork(1)
+public class RollupModifyBenchmark {
+
+    @Param({"10000000"})
+    private int tableSize;
+
+    @Param({"5"})
+    private int numKeys;
+
+    @Param({"10"})
+    private int keyFanOut;
+
+    @Param({"1000", "100000"})
+    private int rowsPerCycle;
+
+    @Param({"true", "false"})
+    private boolean rememberInputRowStates;
+
+    private SafeCloseable executionContext;
+    private ControlledUpdateGraph updateGraph;
+    private LongArraySource values;
+    private QueryTable source;
+    private ModifiedColumnSet valuesModified;
+    private RollupTable rollup;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ChunkedOperatorAggregationHelper.REMEMBER_INPUT_ROW_STATES = rememberInputRowStates;
+        executionContext = TestExecutionContext.createForUnitTests().open();
+        updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        updateGraph.enableUnitTestMode();
+        random = new Random(0);
+
+        final Map<String, ColumnSource<?>> columns = new LinkedHashMap<>();
+        final String[] keyNames = new String[numKeys];
+        long rowsPerKey = tableSize;
+        for (int ki = 0; ki < numKeys; ++ki) {
+            // Each key subdivides the groups of the previous key into keyFanOut contiguous ranges
+            rowsPerKey = Math.max(1, rowsPerKey / keyFanOut);
+            final IntegerArraySource keys = new IntegerArraySource();
+            keys.ensureCapacity(tableSize);
+            for (int ii = 0; ii < tableSize; ++ii) {
+                keys.set(ii, (int) (ii / rowsPerKey % keyFanOut));
+            }
+            keys.startTrackingPrevValues();
+            keyNames[ki] = "K" + ki;
+            columns.put(keyNames[ki], keys);
+        }
+        values = new LongArraySource();
+        values.ensureCapacity(tableSize);
+        for (int ii = 0; ii < tableSize; ++ii) {
+            values.set(ii, (long) random.nextInt(1_000_000));
+        }
+        values.startTrackingPrevValues();
+        columns.put("Value", values);
+
+        source = new QueryTable(RowSetFactory.flat(tableSize).toTracking(), columns);
+        source.setRefreshing(true);
+        valuesModified = source.newModifiedColumnSet("Value");
+        rollup = source.rollup(List.of(
+                Aggregation.AggSum("Sum=Value"),
+                Aggregation.AggAvg("Avg=Value"),
+                Aggregation.AggCount("Count")), keyNames);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        rollup = null;
+        source = null;
+        values = null;
+        executionContext.close();
+    }
+
+    @Benchmark
+    public RollupTable modifyValues() {
+        updateGraph.runWithinUnitTestCycle(() -> {
+            final RowSetBuilderRandom modified = RowSetFactory.builderRandom();
+            for (int ii = 0; ii < rowsPerCycle; ++ii) {
+                final long row = random.nextInt(tableSize);
+                values.set(row, (long) random.nextInt(1_000_000));
+                modified.addKey(row);
+            }
+            source.notifyListeners(new TableUpdateImpl(RowSetFactory.empty(), RowSetFactory.empty(),
+                    modified.build(), RowSetShiftData.EMPTY, valuesModified));
+        });
+        return rollup;
+    }
+}
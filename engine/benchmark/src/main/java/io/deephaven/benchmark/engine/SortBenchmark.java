@@ -11,6 +11,7 @@ import io.deephaven.engine.rowset.TrackingWritableRowSet;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.impl.TableUpdateImpl;
 import io.deephaven.engine.table.ModifiedColumnSet;
+import io.deephaven.engine.table.impl.OperationInitializationThreadPool;
 import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.engine.table.impl.SortHelpers;
 import io.deephaven.engine.table.impl.select.IncrementalReleaseFilter;
@@ -20,6 +21,7 @@ import io.deephaven.engine.rowset.RowSetShiftData;
 import io.deephaven.benchmarking.*;
 import io.deephaven.engine.testutil.ControlledUpdateGraph;
 import io.deephaven.util.mutable.MutableInt;
+import io.deephaven.util.thread.ThreadInitializationFactory;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.BenchmarkParams;
 
@@ -74,14 +76,27 @@ public class SortBenchmark {
     @Param({"1000", "10000", "100000"})
     private int sizePerStep;
 
+    /**
+     * The number of operation initializer threads, to measure how the parallel static sort scales with cores.
+     */
+    @Param({"1", "4", "16"})
+    private int initializerThreads;
+
+    private OperationInitializationThreadPool operationInitializer;
+
     @Setup(Level.Trial)
     public void setupEnv(BenchmarkParams params) {
         Assert.eqTrue(tableSize % sizePerStep == 0, "Cannot evenly divide input table size by step size.");
         Assert.eqTrue(workingSize % sizePerStep == 0, "Cannot evenly divide working size by step size.");
         workingSizeInSteps = workingSize / sizePerStep;
 
+        QueryTable.setMemoizeResults(false);
+
         TestExecutionContext.createForUnitTests().open();
         ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().enableUnitTestMode();
+        operationInitializer =
+                new OperationInitializationThreadPool(ThreadInitializationFactory.NO_OP, initializerThreads);
+        ExecutionContext.getContext().withOperationInitializer(operationInitializer).open();
 
         final int nVals = (int) (enumSize < 1 ? enumSize * tableSize : enumSize);
         System.out.println("String Values: " + nVals);
@@ -160,6 +175,11 @@ public class SortBenchmark {
         ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().enableUnitTestMode();
     }
 
+    @TearDown(Level.Trial)
+    public void finishTrial() {
+        operationInitializer.shutdown();
+    }
+
     private long currStep = 0;
     private Table incrementalTable;
     private IncrementalReleaseFilter incrementalReleaseFilter;
@@ -178,6 +198,11 @@ public class SortBenchmark {
         return incrementalTable;
     }
 
+    @Benchmark
+    public Table staticSort() {
+        return inputTable.sort(sortCol);
+    }
+
     @Benchmark
     public Table rollingSort() {
         Assert.eq(rollingSortTable.size(), "result.size()", workingSize, "inputTable.size()");
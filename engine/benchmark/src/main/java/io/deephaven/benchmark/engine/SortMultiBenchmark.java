@@ -4,9 +4,13 @@
 package io.deephaven.benchmark.engine;
 
 import io.deephaven.benchmarking.generator.ColumnGenerator;
+import io.deephaven.engine.context.TestExecutionContext;
 import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.OperationInitializationThreadPool;
+import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.benchmarking.*;
 import io.deephaven.benchmarking.runner.TableBenchmarkState;
+import io.deephaven.util.thread.ThreadInitializationFactory;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.BenchmarkParams;
 
@@ -41,10 +45,23 @@ public class SortMultiBenchmark {
 
     @Param({"90"}) // , "10", "5", "1"})
     private int sparsity;
+
+    /**
+     * The number of operation initializer threads, to measure how the parallel static sort scales with cores.
+     */
+    @Param({"1", "4", "16"})
+    private int initializerThreads;
+
+    private OperationInitializationThreadPool operationInitializer;
     private Table inputTable;
 
     @Setup(Level.Trial)
     public void setupEnv(BenchmarkParams params) {
+        QueryTable.setMemoizeResults(false);
+        operationInitializer =
+                new OperationInitializationThreadPool(ThreadInitializationFactory.NO_OP, initializerThreads);
+        TestExecutionContext.createForUnitTests().withOperationInitializer(operationInitializer).open();
+
         final ColumnGenerator<String> enumStringCol1 = BenchmarkTools.stringCol(
                 "Enum1", 10000, 6, 6, 0xB00FB00FL);
         final ColumnGenerator<String> enumStringCol2 = BenchmarkTools.stringCol(
@@ -90,6 +107,7 @@ public class SortMultiBenchmark {
         } catch (IOException e) {
             e.printStackTrace();
         }
+        operationInitializer.shutdown();
     }
 
     @Setup(Level.Iteration)
@@ -10,6 +10,7 @@ import io.deephaven.engine.table.Table;
 import io.deephaven.engine.testutil.ControlledUpdateGraph;
 import io.deephaven.engine.util.TableTools;
 import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.by.SimdAggregationKernels;
 import io.deephaven.benchmarking.*;
 import io.deephaven.benchmarking.generator.ColumnGenerator;
 import io.deephaven.benchmarking.generator.EnumStringGenerator;
@@ -37,7 +38,7 @@ import static io.deephaven.api.agg.Aggregation.AggMin;
 @Warmup(iterations = 1, time = 1)
 @Measurement(iterations = 5, time = 1)
 @Timeout(time = 15)
-@Fork(1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
 public class SumByBenchmark {
     private TableBenchmarkState state;
 
@@ -59,6 +60,10 @@ public class SumByBenchmark {
     @Param({"1", "8"})
     private int valueCount;
 
+    // compare the Vector API sum, min and max loops against the scalar ones
+    @Param({"true", "false"})
+    private boolean simd;
+
     private Table table;
 
     private String keyName;
@@ -66,6 +71,8 @@ public class SumByBenchmark {
 
     @Setup(Level.Trial)
     public void setupEnv(BenchmarkParams params) {
+        SimdAggregationKernels.ENABLED = simd;
+        SimdAggregationKernels.INEXACT_ENABLED = simd;
         TestExecutionContext.createForUnitTests().open();
         ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().enableUnitTestMode();
         QueryTable.setMemoizeResults(false);
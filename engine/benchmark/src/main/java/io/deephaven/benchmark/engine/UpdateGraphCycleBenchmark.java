@@ -0,0 +1,148 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.benchmark.engine;
+
+import io.deephaven.base.log.LogOutput;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.table.impl.HasPerformanceEntry;
+import io.deephaven.engine.table.impl.perf.PerformanceEntry;
+import io.deephaven.engine.updategraph.AbstractNotification;
+import io.deephaven.engine.updategraph.impl.BaseUpdateGraph;
+import io.deephaven.engine.updategraph.impl.PeriodicUpdateGraph;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the duration of {@link PeriodicUpdateGraph} cycles over a synthetic notification graph: a long chain of
+ * expensive notifications (think source, join, aggregation, Barrage) that becomes satisfied alongside many cheap
+ * leaves. The chain's head is enqueued last, so that first-in first-out dispatch leaves it waiting behind the leaves,
+ * while critical path scheduling learns to start it first. Work stealing dispatch, which ignores critical paths but
+ * keeps each chain on one update thread, is measured for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Timeout(time = 60)
+@Fork(1)
+public class UpdateGraphCycleBenchmark {
+
+    @Param({"true", "false"})
+    private boolean criticalPathScheduling;
+
+    @Param({"false", "true"})
+    private boolean workStealing;
+
+    @Param({"4"})
+    private int updateThreads;
+
+    @Param({"400"})
+    private int numLeaves;
+
+    @Param({"100"})
+    private int leafMicros;
+
+    @Param({"8"})
+    private int chainLength;
+
+    @Param({"2000"})
+    private int chainMicros;
+
+    private String graphName;
+    private PeriodicUpdateGraph updateGraph;
+    private final List<SyntheticNotification> roots = new ArrayList<>();
+    private volatile boolean armed;
+    private volatile CountDownLatch cycleComplete;
+
+    private final class SyntheticNotification extends AbstractNotification implements HasPerformanceEntry {
+        private final PerformanceEntry entry;
+        private final long workNanos;
+        private final SyntheticNotification next;
+
+        private SyntheticNotification(final String description, final long workMicros,
+                final SyntheticNotification next) {
+            super(false);
+            this.entry = BaseUpdateGraph.createUpdatePerformanceEntry(updateGraph, description, null);
+            this.workNanos = TimeUnit.MICROSECONDS.toNanos(workMicros);
+            this.next = next;
+        }
+
+        @Override
+        public void run() {
+            final long endNanos = System.nanoTime() + workNanos;
+            // noinspection StatementWithEmptyBody
+            while (System.nanoTime() < endNanos);
+            if (next != null) {
+                updateGraph.addNotification(next);
+            } else {
+                cycleComplete.countDown();
+            }
+        }
+
+        @Override
+        public boolean canExecute(final long step) {
+            return true;
+        }
+
+        @Override
+        public PerformanceEntry getPerformanceEntry() {
+            return entry;
+        }
+
+        @Override
+        public LogOutput append(@NotNull final LogOutput logOutput) {
+            return logOutput.append("SyntheticNotification{").append(entry).append('}');
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Configuration.getInstance().setProperty(PeriodicUpdateGraph.ALLOW_UNIT_TEST_MODE_PROP, "false");
+        Configuration.getInstance().setProperty(PeriodicUpdateGraph.CRITICAL_PATH_SCHEDULING_PROP,
+                Boolean.toString(criticalPathScheduling));
+        Configuration.getInstance().setProperty(PeriodicUpdateGraph.WORK_STEALING_PROP, Boolean.toString(workStealing));
+
+        graphName = "UpdateGraphCycleBenchmark-" + criticalPathScheduling + "-" + workStealing;
+        updateGraph = PeriodicUpdateGraph.newBuilder(graphName)
+                .numUpdateThreads(updateThreads)
+                .targetCycleDurationMillis(TimeUnit.MINUTES.toMillis(1))
+                .build();
+
+        for (int li = 0; li < numLeaves; ++li) {
+            roots.add(new SyntheticNotification("leaf" + li, leafMicros, null));
+        }
+        SyntheticNotification chain = null;
+        for (int ci = chainLength - 1; ci >= 0; --ci) {
+            chain = new SyntheticNotification("chain" + ci, chainMicros, chain);
+        }
+        roots.add(chain);
+
+        updateGraph.addSource(() -> {
+            if (armed) {
+                armed = false;
+                roots.forEach(updateGraph::addNotification);
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        updateGraph.stop();
+        BaseUpdateGraph.removeInstance(graphName);
+    }
+
+    @Benchmark
+    public void cycle() throws InterruptedException {
+        cycleComplete = new CountDownLatch(numLeaves + 1);
+        armed = true;
+        updateGraph.requestRefresh();
+        cycleComplete.await();
+    }
+}
@@ -26,6 +26,8 @@ public class QueryPerformanceReadTracker {
     private long readBytes;
     private long metadataOperationCount;
     private long metadataOperationNanos;
+    private long tieredStateHitCount;
+    private long tieredStateMissCount;
 
     // static use only
     private QueryPerformanceReadTracker() {}
@@ -57,6 +59,19 @@ public class QueryPerformanceReadTracker {
         READ_TRACKER.get().recordMetadataOperationForThread(nanos);
     }
 
+    /**
+     * Record accesses to tiered state, which keeps recently used blocks on the heap and spills the others to disk.
+     * Accumulates into the current thread's cumulative counters.
+     *
+     * @param hits the number of accesses that found their block on the heap
+     * @param misses the number of accesses that had to read their block from disk
+     */
+    public static void recordTieredStateAccess(final long hits, final long misses) {
+        final QueryPerformanceReadTracker tracker = READ_TRACKER.get();
+        tracker.tieredStateHitCount += hits;
+        tracker.tieredStateMissCount += misses;
+    }
+
     /**
      * Gets the tracker for the current thread. The tracker is not thread-safe and is mutable. You must capture any
      * values from the tracker rather than holding a reference to the returned object.
@@ -123,4 +138,22 @@ public class QueryPerformanceReadTracker {
     public long getMetadataOperationCount() {
         return metadataOperationCount;
     }
+
+    /**
+     * Get the cumulative number of tiered state accesses that found their block on the heap.
+     *
+     * @return total tiered state hits accumulated on this tracker
+     */
+    public long getTieredStateHitCount() {
+        return tieredStateHitCount;
+    }
+
+    /**
+     * Get the cumulative number of tiered state accesses that had to read their block from disk.
+     *
+     * @return total tiered state misses accumulated on this tracker
+     */
+    public long getTieredStateMissCount() {
+        return tieredStateMissCount;
+    }
 }
@@ -0,0 +1,168 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.rowset.bench;
+
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderRandom;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link RowSet#union(RowSet)}, {@link RowSet#intersect(RowSet)} and {@link RowSet#minus(RowSet)} between a
+ * large row set and one {@code sizeRatio} times smaller, for row key layouts typical of tables:
+ * <ul>
+ * <li>{@link Shape#DENSE}: long contiguous ranges, which become full block spans and run containers.</li>
+ * <li>{@link Shape#SPARSE}: keys scattered over a large key space, mostly one per block.</li>
+ * <li>{@link Shape#CLUSTERED}: groups of nearby keys, which become array and bitmap containers.</li>
+ * <li>{@link Shape#REGION_ALIGNED}: contiguous rows at the start of regions addressed by the high bits of the row key,
+ * as for tables backed by many Parquet files.</li>
+ * </ul>
+ * The smaller row set draws half of its keys from the larger one and half from the same layout, so that every
+ * operation has both matches and misses. A ratio of one exercises balanced merges, larger ratios the galloping paths
+ * for skewed sizes.
+ *
+ * <pre>
+ * ./gradlew engine-rowset:jmhJar
+ * java -jar engine/rowset/build/libs/deephaven-engine-rowset-&lt;version&gt;-jmh.jar RowSetSetOperationsBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowSetSetOperationsBenchmark {
+
+    /**
+     * The number of bits of a row key that address a row within a region, matching the engine's regioned column
+     * sources.
+     */
+    private static final int REGION_ROW_BITS = 43;
+
+    public enum Shape {
+        DENSE, SPARSE, CLUSTERED, REGION_ALIGNED
+    }
+
+    @Param({"DENSE", "SPARSE", "CLUSTERED", "REGION_ALIGNED"})
+    public Shape shape;
+
+    @Param({"1000000"})
+    public int largeSize;
+
+    @Param({"1", "100", "10000"})
+    public int sizeRatio;
+
+    private RowSet large;
+    private RowSet small;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(0);
+        large = generate(random, largeSize);
+        final int smallSize = Math.max(1, largeSize / sizeRatio);
+        final RowSetBuilderRandom smallBuilder = RowSetFactory.builderRandom();
+        for (int ii = 0; ii < smallSize / 2; ++ii) {
+            smallBuilder.addKey(large.get((long) (random.nextDouble() * large.size())));
+        }
+        try (final RowSet others = generate(random, smallSize - smallSize / 2)) {
+            smallBuilder.addRowSet(others);
+        }
+        small = smallBuilder.build();
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        large.close();
+        small.close();
+    }
+
+    private RowSet generate(final Random random, final int size) {
+        final RowSetBuilderRandom builder = RowSetFactory.builderRandom();
+        long added = 0;
+        switch (shape) {
+            case DENSE:
+                // ranges of about 100k rows separated by small gaps
+                for (long start = 0; added < size;) {
+                    final long length = Math.min(size - added, 50_000 + random.nextInt(100_000));
+                    builder.addRange(start, start + length - 1);
+                    added += length;
+                    start += length + 1 + random.nextInt(1_000);
+                }
+                break;
+            case SPARSE:
+                for (; added < size; ++added) {
+                    builder.addKey((long) (random.nextDouble() * (1L << 40)));
+                }
+                break;
+            case CLUSTERED:
+                // clusters of 16 to 4096 keys, each within a window twice its size
+                for (; added < size;) {
+                    final int clusterSize = (int) Math.min(size - added, 16 << random.nextInt(9));
+                    final long clusterStart = (long) (random.nextDouble() * (1L << 36));
+                    for (int ii = 0; ii < clusterSize; ++ii) {
+                        builder.addKey(clusterStart + random.nextInt(2 * clusterSize));
+                    }
+                    added += clusterSize;
+                }
+                break;
+            case REGION_ALIGNED:
+                // regions of 10k to 200k rows
+                for (long region = 0; added < size; ++region) {
+                    final long length = Math.min(size - added, 10_000 + random.nextInt(190_000));
+                    final long regionStart = region << REGION_ROW_BITS;
+                    builder.addRange(regionStart, regionStart + length - 1);
+                    added += length;
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unexpected shape " + shape);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public long union() {
+        try (final WritableRowSet result = large.union(small)) {
+            return result.size();
+        }
+    }
+
+    @Benchmark
+    public long intersect() {
+        try (final WritableRowSet result = large.intersect(small)) {
+            return result.size();
+        }
+    }
+
+    @Benchmark
+    public long minus() {
+        try (final WritableRowSet result = large.minus(small)) {
+            return result.size();
+        }
+    }
+
+    @Benchmark
+    public long smallMinusLarge() {
+        try (final WritableRowSet result = small.minus(large)) {
+            return result.size();
+        }
+    }
+}
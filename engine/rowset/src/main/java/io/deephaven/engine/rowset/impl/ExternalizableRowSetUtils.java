@@ -6,6 +6,9 @@ package io.deephaven.engine.rowset.impl;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.rowset.RowSetBuilderSequential;
 import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.rowset.impl.rsp.RspBitmap;
+import io.deephaven.engine.rowset.impl.rsp.RspBitmapSerialization;
 import io.deephaven.util.datastructures.list.ShortArrayList;
 import io.deephaven.util.mutable.MutableLong;
 import org.jetbrains.annotations.NotNull;
@@ -13,6 +16,8 @@ import org.jetbrains.annotations.NotNull;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.function.LongConsumer;
 
 /**
@@ -36,6 +41,13 @@ public class ExternalizableRowSetUtils {
     private static final byte CMD_MASK    = 0b00111000;
     // @formatter:on
 
+    /**
+     * The leading int of the container format, written little endian. Its first byte has the high bits set, which no
+     * compressed delta command does, so the two formats can be told apart by their first byte.
+     */
+    private static final int CONTAINER_FORMAT_MAGIC = 0x315352D5;
+    private static final byte CONTAINER_FORMAT_FIRST_BYTE = (byte) CONTAINER_FORMAT_MAGIC;
+
     /**
      * Write a {@link RowSet} to {@code out}.
      *
@@ -272,4 +284,97 @@ public class ExternalizableRowSetUtils {
         }
         return value;
     }
+
+    /**
+     * Get the number of bytes {@link #writeContainerFormat(RowSet, ByteBuffer)} will write for {@code rowSet}.
+     *
+     * @param rowSet The RowSet
+     * @return The size of {@code rowSet} in the container format
+     */
+    public static int containerFormatSizeInBytes(@NotNull final RowSet rowSet) {
+        final RspBitmap rsp = WritableRowSetImpl.getInnerSet(rowSet).ixToRspOnNew();
+        final long sizeInBytes;
+        try {
+            sizeInBytes = Integer.BYTES + Long.BYTES + RspBitmapSerialization.serializedSizeInBytes(rsp);
+        } finally {
+            rsp.ixRelease();
+        }
+        if (sizeInBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("RowSet is too large for the container format: " + sizeInBytes
+                    + " bytes");
+        }
+        return (int) sizeInBytes;
+    }
+
+    /**
+     * Write a {@link RowSet} in the container format, which mirrors the layout of the
+     * {@link io.deephaven.engine.rowset.impl.rsp.RspArray RSP} spans and containers that back large RowSets, so that it
+     * can be {@link #readContainerFormat(ByteBuffer) read} with a bulk copy per container rather than by appending
+     * ranges one at a time. The format is little endian, regardless of the order of {@code out}.
+     *
+     * @param rowSet The RowSet
+     * @param out The destination, with at least {@link #containerFormatSizeInBytes(RowSet)} bytes remaining
+     */
+    public static void writeContainerFormat(@NotNull final RowSet rowSet, @NotNull final ByteBuffer out) {
+        final RspBitmap rsp = WritableRowSetImpl.getInnerSet(rowSet).ixToRspOnNew();
+        final ByteOrder order = out.order();
+        try {
+            out.order(ByteOrder.LITTLE_ENDIAN);
+            out.putInt(CONTAINER_FORMAT_MAGIC);
+            out.putLong(rsp.getCardinality());
+            RspBitmapSerialization.write(rsp, out);
+        } finally {
+            out.order(order);
+            rsp.ixRelease();
+        }
+    }
+
+    /**
+     * Write a {@link RowSet} in the {@link #writeContainerFormat(RowSet, ByteBuffer) container format}.
+     *
+     * @param rowSet The RowSet
+     * @return A new array holding the encoded RowSet
+     */
+    public static byte[] writeContainerFormat(@NotNull final RowSet rowSet) {
+        final ByteBuffer out = ByteBuffer.allocate(containerFormatSizeInBytes(rowSet));
+        writeContainerFormat(rowSet, out);
+        return out.array();
+    }
+
+    /**
+     * @param firstByte The first byte of an encoded RowSet
+     * @return Whether the RowSet was written in the {@link #writeContainerFormat(RowSet, ByteBuffer) container format},
+     *         rather than with {@link #writeExternalCompressedDeltas(DataOutput, RowSet) compressed deltas}
+     */
+    public static boolean isContainerFormat(final byte firstByte) {
+        return firstByte == CONTAINER_FORMAT_FIRST_BYTE;
+    }
+
+    /**
+     * Read a {@link RowSet} written in the {@link #writeContainerFormat(RowSet, ByteBuffer) container format} from the
+     * current position of {@code in}, advancing it. {@code in} may be a heap buffer wrapping a larger array or a
+     * memory-mapped file; no intermediate copy of the encoded bytes is made.
+     *
+     * @param in The source
+     * @return The RowSet
+     */
+    public static WritableRowSet readContainerFormat(@NotNull final ByteBuffer in) {
+        final ByteOrder order = in.order();
+        try {
+            in.order(ByteOrder.LITTLE_ENDIAN);
+            final int magic = in.getInt();
+            if (magic != CONTAINER_FORMAT_MAGIC) {
+                throw new IllegalStateException("Bad container format magic: " + Integer.toHexString(magic));
+            }
+            final long cardinality = in.getLong();
+            final RspBitmap rsp = RspBitmapSerialization.read(in);
+            if (rsp.getCardinality() != cardinality) {
+                throw new IllegalStateException("Container format cardinality mismatch: expected " + cardinality
+                        + ", read " + rsp.getCardinality());
+            }
+            return new WritableRowSetImpl(rsp.ixCompact());
+        } finally {
+            in.order(order);
+        }
+    }
 }
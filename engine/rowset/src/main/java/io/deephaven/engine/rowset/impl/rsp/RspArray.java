@@ -1438,6 +1438,18 @@ public abstract class RspArray<T extends RspArray> extends RefCountedCow<T> {
         return unsignedBinarySearch(this::getKey, startPos, endPosExclusive, blockKey);
     }
 
+    /**
+     * Like {@link #keySearch(int, long)}, but gallops forward from {@code startPos}, so that its cost is logarithmic in
+     * the distance to the result rather than in the number of spans after {@code startPos}.
+     */
+    int keyGallopingSearch(final int startPos, final long key) {
+        final long blockKey = highBits(key);
+        if (size == 0 || getKey(size - 1) == blockKey) {
+            return size - 1;
+        }
+        return unsignedGallopingSearch(this::getKey, startPos, size, blockKey);
+    }
+
     public static boolean isFullBlockSpan(final Object s) {
         return (s == FULL_BLOCK_SPAN_MARKER) || (s instanceof Long);
     }
@@ -1479,7 +1491,19 @@ public abstract class RspArray<T extends RspArray> extends RefCountedCow<T> {
     }
 
     public int getSpanIndex(final int fromIndex, final int endIndexExclusive, final long key) {
-        final int i = keySearch(fromIndex, endIndexExclusive, key);
+        return spanIndexForKeySearchResult(fromIndex, key, keySearch(fromIndex, endIndexExclusive, key));
+    }
+
+    /**
+     * Like {@link #getSpanIndex(int, long)}, but gallops forward from {@code fromIndex} instead of binary searching the
+     * whole remaining array. Use it when merging another array's spans in order, where the span sought is typically
+     * close to {@code fromIndex}.
+     */
+    int getSpanIndexGalloping(final int fromIndex, final long key) {
+        return spanIndexForKeySearchResult(fromIndex, key, keyGallopingSearch(fromIndex, key));
+    }
+
+    private int spanIndexForKeySearchResult(final int fromIndex, final long key, final int i) {
         if (i >= 0) {
             return i;
         }
@@ -2094,6 +2118,33 @@ public abstract class RspArray<T extends RspArray> extends RefCountedCow<T> {
         return -(x + 1);
     }
 
+    /**
+     * Search like {@link #unsignedBinarySearch(IntToLongFunction, int, int, long)}, but first gallop forward from
+     * {@code fromIndex} in exponentially growing steps to bound the binary search. Merges of a small array into a large
+     * one, or of two arrays with similar keys, search forward from the previous result and mostly find it nearby.
+     */
+    static int unsignedGallopingSearch(
+            final IntToLongFunction fun, final int fromIndex, final int toIndex, final long k) {
+        int low = fromIndex;
+        int high = toIndex - 1;
+        int step = 1;
+        while (low + step <= high) {
+            final int probe = low + step;
+            final int comp = Long.compareUnsigned(fun.applyAsLong(probe), k);
+            if (comp == 0) {
+                return probe;
+            }
+            if (comp > 0) {
+                high = probe - 1;
+                break;
+            }
+            low = probe + 1;
+            step <<= 1;
+        }
+        // every key before low is less than k, and every key after high is greater
+        return unsignedBinarySearch(fun, low, high + 1, k);
+    }
+
     public int binarySearchKeys(final int fromIndex, final int toIndex, final Comparator comp) {
         int low = fromIndex;
         int high = toIndex - 1;
@@ -2773,7 +2824,7 @@ public abstract class RspArray<T extends RspArray> extends RefCountedCow<T> {
         try (SpanView otherView = wd.borrowSpanView(other, otherIdx, otherSpanInfo, otherSpan)) {
             final long otherKey = otherView.getKey();
             final long otherflen = otherView.getFullBlockSpanLen();
-            final int orIdx = getSpanIndex(startPos, otherKey);
+            final int orIdx = getSpanIndexGalloping(startPos, otherKey);
             if (otherflen > 0) {
                 final int j = setOrInsertFullBlockSpanAtIndex(orIdx, otherKey, otherflen, sortedRangesMu);
                 // can't increment for return since it may have been absorbed by a longer full block span.
@@ -3002,7 +3053,7 @@ public abstract class RspArray<T extends RspArray> extends RefCountedCow<T> {
                 continue;
             }
             final long otherSpanKey = shiftAmount + other.getKey(otherIdx);
-            int i = unsignedBinarySearch(this::getKey, startPos, size, otherSpanKey);
+            int i = unsignedGallopingSearch(this::getKey, startPos, size, otherSpanKey);
             if (i >= 0) {
                 startPos = i + 1;
                 continue;
@@ -3171,7 +3222,7 @@ public abstract class RspArray<T extends RspArray> extends RefCountedCow<T> {
             final long removeKey = otherView.getKey();
             final long removeflen = otherView.getFullBlockSpanLen();
             if (removeflen == 0) {
-                final int i = getSpanIndex(startPos, removeKey);
+                final int i = getSpanIndexGalloping(startPos, removeKey);
                 if (i < 0) {
                     return ~i;
                 }
@@ -3269,7 +3320,7 @@ public abstract class RspArray<T extends RspArray> extends RefCountedCow<T> {
                 }
             }
             // removeflen > 0.
-            int idxBegin = getSpanIndex(startPos, removeKey);
+            int idxBegin = getSpanIndexGalloping(startPos, removeKey);
             if (idxBegin < 0) {
                 idxBegin = -idxBegin - 1;
                 if (idxBegin >= size) {
@@ -3445,7 +3496,7 @@ public abstract class RspArray<T extends RspArray> extends RefCountedCow<T> {
                 }
                 return -andLastKeyIdx - 1;
             }
-            int andIdx = getSpanIndex(startPos, andKey);
+            int andIdx = getSpanIndexGalloping(startPos, andKey);
             if (andIdx < 0) {
                 return -andIdx - 1;
             }
@@ -3632,7 +3683,7 @@ public abstract class RspArray<T extends RspArray> extends RefCountedCow<T> {
             final long andSpanKey = spanInfoToKey(andSpanInfo);
             final long andflen = getFullBlockSpanLen(andSpanInfo, andSpan);
             final long andLastKey = getKeyForLastBlockInSpan(andSpanKey, andflen);
-            int firstIdx = getSpanIndex(startPos, andSpanKey);
+            int firstIdx = getSpanIndexGalloping(startPos, andSpanKey);
             if (firstIdx < 0) {
                 firstIdx = -firstIdx - 1;
                 if (firstIdx == size) {
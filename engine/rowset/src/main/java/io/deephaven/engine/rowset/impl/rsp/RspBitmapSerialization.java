@@ -0,0 +1,105 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.rowset.impl.rsp;
+
+import io.deephaven.engine.rowset.impl.rsp.container.Container;
+import io.deephaven.engine.rowset.impl.rsp.container.ContainerSerialization;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads and writes the spans of an {@link RspBitmap} in a portable binary layout that mirrors {@link RspArray}: the
+ * number of spans as an int, then for each span its key (or, for a singleton span, its value) as a long, followed by
+ * <ul>
+ * <li>{@link #SINGLETON_SPAN} for a singleton span,</li>
+ * <li>{@link #FULL_BLOCK_SPAN} and the number of full blocks as a long, for a full block span, or</li>
+ * <li>the container, as written by {@link ContainerSerialization}.</li>
+ * </ul>
+ * Reading appends each span to the result as-is, so it costs one bulk copy per container instead of one insertion per
+ * range or value.
+ */
+public final class RspBitmapSerialization {
+
+    public static final byte SINGLETON_SPAN = 0x10;
+    public static final byte FULL_BLOCK_SPAN = 0x11;
+
+    private RspBitmapSerialization() {}
+
+    /**
+     * @param rb the bitmap
+     * @return the number of bytes {@link #write(RspBitmap, ByteBuffer)} will write for {@code rb}
+     */
+    public static long serializedSizeInBytes(final RspBitmap rb) {
+        long bytes = Integer.BYTES;
+        for (int si = 0; si < rb.size; ++si) {
+            bytes += Long.BYTES;
+            final Object span = rb.spans[si];
+            if (RspArray.isSingletonSpan(span)) {
+                bytes += 1;
+            } else if (RspArray.isFullBlockSpan(span)) {
+                bytes += 1 + Long.BYTES;
+            } else {
+                try (final RspArray.SpanView view = RspArray.workDataPerThread.get().borrowSpanView(rb, si)) {
+                    bytes += ContainerSerialization.serializedSizeInBytes(view.getContainer());
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Write the spans of {@code rb} at the current position of {@code out}, advancing it.
+     *
+     * @param rb the bitmap
+     * @param out the destination, with at least {@link #serializedSizeInBytes(RspBitmap)} bytes remaining
+     */
+    public static void write(final RspBitmap rb, final ByteBuffer out) {
+        out.putInt(rb.size);
+        for (int si = 0; si < rb.size; ++si) {
+            final long spanInfo = rb.spanInfos[si];
+            final Object span = rb.spans[si];
+            if (RspArray.isSingletonSpan(span)) {
+                out.putLong(RspArray.spanInfoToSingletonSpanValue(spanInfo));
+                out.put(SINGLETON_SPAN);
+            } else if (RspArray.isFullBlockSpan(span)) {
+                out.putLong(RspArray.spanInfoToKey(spanInfo));
+                out.put(FULL_BLOCK_SPAN);
+                out.putLong(RspArray.getFullBlockSpanLen(spanInfo, span));
+            } else {
+                out.putLong(RspArray.spanInfoToKey(spanInfo));
+                try (final RspArray.SpanView view = RspArray.workDataPerThread.get().borrowSpanView(rb, si)) {
+                    ContainerSerialization.write(view.getContainer(), out);
+                }
+            }
+        }
+    }
+
+    /**
+     * Read a bitmap written by {@link #write(RspBitmap, ByteBuffer)} from the current position of {@code in},
+     * advancing it.
+     *
+     * @param in the source
+     * @return a new bitmap
+     */
+    public static RspBitmap read(final ByteBuffer in) {
+        final int numSpans = in.getInt();
+        final RspBitmap rb = new RspBitmap();
+        for (int si = 0; si < numSpans; ++si) {
+            final long keyOrValue = in.getLong();
+            final byte spanType = in.get(in.position());
+            if (spanType == SINGLETON_SPAN) {
+                in.get();
+                rb.appendSingletonSpan(keyOrValue);
+            } else if (spanType == FULL_BLOCK_SPAN) {
+                in.get();
+                rb.appendFullBlockSpanUnsafeNoWriteCheck(keyOrValue, in.getLong());
+            } else {
+                final Container container = ContainerSerialization.read(in);
+                rb.appendContainerUnsafeNoWriteCheck(keyOrValue, container);
+            }
+        }
+        rb.finishMutations();
+        return rb;
+    }
+}
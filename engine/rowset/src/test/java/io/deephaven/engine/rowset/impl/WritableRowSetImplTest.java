@@ -35,6 +35,7 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.experimental.categories.Category;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.PrimitiveIterator;
@@ -202,6 +203,49 @@ public class WritableRowSetImplTest extends TestCase {
         }
     }
 
+    public void testContainerFormatRandom() {
+        final Random random = new Random(42);
+        for (int ii = 0; ii < 100; ++ii) {
+            final RowSet rowSet = RowSetTstUtils.getRandomRowSet(0, 100000, random);
+            final byte[] bytes = ExternalizableRowSetUtils.writeContainerFormat(rowSet);
+            assertEquals(ExternalizableRowSetUtils.containerFormatSizeInBytes(rowSet), bytes.length);
+            assertTrue(ExternalizableRowSetUtils.isContainerFormat(bytes[0]));
+            try (final RowSet copy = ExternalizableRowSetUtils.readContainerFormat(ByteBuffer.wrap(bytes))) {
+                copy.validate();
+                assertEquals(rowSet, copy);
+            }
+        }
+    }
+
+    public void testContainerFormatContainerTypes() {
+        final RowSetBuilderSequential builder = RowSetFactory.builderSequential();
+        // a singleton span, an array container, a bitmap container, a run container, and a full block span
+        builder.appendKey(3);
+        for (long key = BLOCK_SIZE; key < BLOCK_SIZE + 200; key += 7) {
+            builder.appendKey(key);
+        }
+        for (long key = 2L * BLOCK_SIZE; key < 3L * BLOCK_SIZE; key += 3) {
+            builder.appendKey(key);
+        }
+        builder.appendRange(4L * BLOCK_SIZE + 10, 4L * BLOCK_SIZE + 1000);
+        builder.appendRange(4L * BLOCK_SIZE + 2000, 4L * BLOCK_SIZE + 3000);
+        builder.appendRange(6L * BLOCK_SIZE, 9L * BLOCK_SIZE - 1);
+        builder.appendKey(Long.MAX_VALUE - 1);
+        try (final RowSet rowSet = builder.build()) {
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(
+                    ExternalizableRowSetUtils.containerFormatSizeInBytes(rowSet) + 5);
+            buffer.position(5);
+            ExternalizableRowSetUtils.writeContainerFormat(rowSet, buffer);
+            assertFalse(buffer.hasRemaining());
+            buffer.position(5);
+            try (final RowSet copy = ExternalizableRowSetUtils.readContainerFormat(buffer)) {
+                copy.validate();
+                assertEquals(rowSet, copy);
+            }
+            assertFalse(buffer.hasRemaining());
+        }
+    }
+
     private Object doSerDeser(Object object) throws IOException, ClassNotFoundException {
         final ByteArrayOutputStream bos = new ByteArrayOutputStream();
         final ObjectOutputStream out = new ObjectOutputStream(bos);
@@ -0,0 +1,87 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit FloatSimdMinMax and run "./gradlew replicateOperators" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.by.simd;
+
+import io.deephaven.chunk.DoubleChunk;
+import io.deephaven.util.mutable.MutableInt;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import static io.deephaven.util.QueryConstants.NEG_INFINITY_DOUBLE;
+import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
+import static io.deephaven.util.QueryConstants.POS_INFINITY_DOUBLE;
+
+/**
+ * The minimum and maximum of the non-null values in a range of a {@link DoubleChunk}, which is NaN if any value is NaN.
+ * Each vector lane keeps its own running minimum or maximum, and null lanes are masked out of the comparison.
+ */
+final class DoubleSimdMinMax {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private DoubleSimdMinMax() {} // static use only
+
+    static double min(DoubleChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        return minOrMax(values, chunkNonNull, chunkStart, chunkEnd, VectorOperators.MIN, POS_INFINITY_DOUBLE);
+    }
+
+    static double max(DoubleChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        return minOrMax(values, chunkNonNull, chunkStart, chunkEnd, VectorOperators.MAX, NEG_INFINITY_DOUBLE);
+    }
+
+    private static double minOrMax(
+            final DoubleChunk<?> values,
+            final MutableInt chunkNonNull,
+            final int chunkStart,
+            final int chunkEnd,
+            final VectorOperators.Associative operator,
+            final double identity) {
+        final int chunkSize = chunkEnd - chunkStart;
+        final double[] block = new double[Math.min(chunkSize, SimdAggregationKernelImpl.BLOCK_SIZE)];
+        DoubleVector results = DoubleVector.broadcast(SPECIES, identity);
+        double result = identity;
+        int nonNull = 0;
+
+        for (int blockStart = 0; blockStart < chunkSize; blockStart += block.length) {
+            final int blockLen = Math.min(block.length, chunkSize - blockStart);
+            values.copyToTypedArray(chunkStart + blockStart, block, 0, blockLen);
+            final int vectorBound = SPECIES.loopBound(blockLen);
+            int ii = 0;
+            for (; ii < vectorBound; ii += SPECIES.length()) {
+                final DoubleVector vector = DoubleVector.fromArray(SPECIES, block, ii);
+                if (vector.test(VectorOperators.IS_NAN).anyTrue()) {
+                    chunkNonNull.set(1);
+                    return Double.NaN;
+                }
+                final VectorMask<Double> nonNullMask = vector.compare(VectorOperators.NE, NULL_DOUBLE);
+                results = results.lanewise(operator, vector, nonNullMask);
+                nonNull += nonNullMask.trueCount();
+            }
+            for (; ii < blockLen; ++ii) {
+                final double value = block[ii];
+                if (Double.isNaN(value)) {
+                    chunkNonNull.set(1);
+                    return Double.NaN;
+                }
+                if (value != NULL_DOUBLE) {
+                    result = operator == VectorOperators.MIN ? Math.min(result, value) : Math.max(result, value);
+                    ++nonNull;
+                }
+            }
+        }
+
+        chunkNonNull.set(nonNull);
+        if (nonNull == 0) {
+            return NULL_DOUBLE;
+        }
+        final double lanesResult = results.reduceLanes(operator);
+        return operator == VectorOperators.MIN ? Math.min(result, lanesResult) : Math.max(result, lanesResult);
+    }
+}
@@ -0,0 +1,83 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.simd;
+
+import io.deephaven.chunk.FloatChunk;
+import io.deephaven.util.mutable.MutableInt;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import static io.deephaven.util.QueryConstants.NEG_INFINITY_FLOAT;
+import static io.deephaven.util.QueryConstants.NULL_FLOAT;
+import static io.deephaven.util.QueryConstants.POS_INFINITY_FLOAT;
+
+/**
+ * The minimum and maximum of the non-null values in a range of a {@link FloatChunk}, which is NaN if any value is NaN.
+ * Each vector lane keeps its own running minimum or maximum, and null lanes are masked out of the comparison.
+ */
+final class FloatSimdMinMax {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    private FloatSimdMinMax() {} // static use only
+
+    static float min(FloatChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        return minOrMax(values, chunkNonNull, chunkStart, chunkEnd, VectorOperators.MIN, POS_INFINITY_FLOAT);
+    }
+
+    static float max(FloatChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        return minOrMax(values, chunkNonNull, chunkStart, chunkEnd, VectorOperators.MAX, NEG_INFINITY_FLOAT);
+    }
+
+    private static float minOrMax(
+            final FloatChunk<?> values,
+            final MutableInt chunkNonNull,
+            final int chunkStart,
+            final int chunkEnd,
+            final VectorOperators.Associative operator,
+            final float identity) {
+        final int chunkSize = chunkEnd - chunkStart;
+        final float[] block = new float[Math.min(chunkSize, SimdAggregationKernelImpl.BLOCK_SIZE)];
+        FloatVector results = FloatVector.broadcast(SPECIES, identity);
+        float result = identity;
+        int nonNull = 0;
+
+        for (int blockStart = 0; blockStart < chunkSize; blockStart += block.length) {
+            final int blockLen = Math.min(block.length, chunkSize - blockStart);
+            values.copyToTypedArray(chunkStart + blockStart, block, 0, blockLen);
+            final int vectorBound = SPECIES.loopBound(blockLen);
+            int ii = 0;
+            for (; ii < vectorBound; ii += SPECIES.length()) {
+                final FloatVector vector = FloatVector.fromArray(SPECIES, block, ii);
+                if (vector.test(VectorOperators.IS_NAN).anyTrue()) {
+                    chunkNonNull.set(1);
+                    return Float.NaN;
+                }
+                final VectorMask<Float> nonNullMask = vector.compare(VectorOperators.NE, NULL_FLOAT);
+                results = results.lanewise(operator, vector, nonNullMask);
+                nonNull += nonNullMask.trueCount();
+            }
+            for (; ii < blockLen; ++ii) {
+                final float value = block[ii];
+                if (Float.isNaN(value)) {
+                    chunkNonNull.set(1);
+                    return Float.NaN;
+                }
+                if (value != NULL_FLOAT) {
+                    result = operator == VectorOperators.MIN ? Math.min(result, value) : Math.max(result, value);
+                    ++nonNull;
+                }
+            }
+        }
+
+        chunkNonNull.set(nonNull);
+        if (nonNull == 0) {
+            return NULL_FLOAT;
+        }
+        final float lanesResult = results.reduceLanes(operator);
+        return operator == VectorOperators.MIN ? Math.min(result, lanesResult) : Math.max(result, lanesResult);
+    }
+}
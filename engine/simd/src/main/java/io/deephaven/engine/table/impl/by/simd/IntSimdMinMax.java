@@ -0,0 +1,78 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit LongSimdMinMax and run "./gradlew replicateOperators" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.by.simd;
+
+import io.deephaven.chunk.IntChunk;
+import io.deephaven.util.mutable.MutableInt;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import static io.deephaven.util.QueryConstants.MAX_INT;
+import static io.deephaven.util.QueryConstants.NULL_INT;
+
+/**
+ * The minimum and maximum of the non-null values in a range of a {@link IntChunk}. Each vector lane keeps its own
+ * running minimum or maximum, and null lanes are masked out of the comparison.
+ */
+final class IntSimdMinMax {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private IntSimdMinMax() {} // static use only
+
+    static int min(IntChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        return minOrMax(values, chunkNonNull, chunkStart, chunkEnd, VectorOperators.MIN, MAX_INT);
+    }
+
+    static int max(IntChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        return minOrMax(values, chunkNonNull, chunkStart, chunkEnd, VectorOperators.MAX, NULL_INT);
+    }
+
+    private static int minOrMax(
+            final IntChunk<?> values,
+            final MutableInt chunkNonNull,
+            final int chunkStart,
+            final int chunkEnd,
+            final VectorOperators.Associative operator,
+            final int identity) {
+        final int chunkSize = chunkEnd - chunkStart;
+        final int[] block = new int[Math.min(chunkSize, SimdAggregationKernelImpl.BLOCK_SIZE)];
+        IntVector results = IntVector.broadcast(SPECIES, identity);
+        int result = identity;
+        int nonNull = 0;
+
+        for (int blockStart = 0; blockStart < chunkSize; blockStart += block.length) {
+            final int blockLen = Math.min(block.length, chunkSize - blockStart);
+            values.copyToTypedArray(chunkStart + blockStart, block, 0, blockLen);
+            final int vectorBound = SPECIES.loopBound(blockLen);
+            int ii = 0;
+            for (; ii < vectorBound; ii += SPECIES.length()) {
+                final IntVector vector = IntVector.fromArray(SPECIES, block, ii);
+                final VectorMask<Integer> nonNullMask = vector.compare(VectorOperators.NE, NULL_INT);
+                results = results.lanewise(operator, vector, nonNullMask);
+                nonNull += nonNullMask.trueCount();
+            }
+            for (; ii < blockLen; ++ii) {
+                final int value = block[ii];
+                if (value != NULL_INT) {
+                    result = operator == VectorOperators.MIN ? Math.min(result, value) : Math.max(result, value);
+                    ++nonNull;
+                }
+            }
+        }
+
+        chunkNonNull.set(nonNull);
+        if (nonNull == 0) {
+            return NULL_INT;
+        }
+        final int lanesResult = results.reduceLanes(operator);
+        return operator == VectorOperators.MIN ? Math.min(result, lanesResult) : Math.max(result, lanesResult);
+    }
+}
@@ -0,0 +1,74 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.simd;
+
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.util.mutable.MutableInt;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import static io.deephaven.util.QueryConstants.MAX_LONG;
+import static io.deephaven.util.QueryConstants.NULL_LONG;
+
+/**
+ * The minimum and maximum of the non-null values in a range of a {@link LongChunk}. Each vector lane keeps its own
+ * running minimum or maximum, and null lanes are masked out of the comparison.
+ */
+final class LongSimdMinMax {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private LongSimdMinMax() {} // static use only
+
+    static long min(LongChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        return minOrMax(values, chunkNonNull, chunkStart, chunkEnd, VectorOperators.MIN, MAX_LONG);
+    }
+
+    static long max(LongChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        return minOrMax(values, chunkNonNull, chunkStart, chunkEnd, VectorOperators.MAX, NULL_LONG);
+    }
+
+    private static long minOrMax(
+            final LongChunk<?> values,
+            final MutableInt chunkNonNull,
+            final int chunkStart,
+            final int chunkEnd,
+            final VectorOperators.Associative operator,
+            final long identity) {
+        final int chunkSize = chunkEnd - chunkStart;
+        final long[] block = new long[Math.min(chunkSize, SimdAggregationKernelImpl.BLOCK_SIZE)];
+        LongVector results = LongVector.broadcast(SPECIES, identity);
+        long result = identity;
+        int nonNull = 0;
+
+        for (int blockStart = 0; blockStart < chunkSize; blockStart += block.length) {
+            final int blockLen = Math.min(block.length, chunkSize - blockStart);
+            values.copyToTypedArray(chunkStart + blockStart, block, 0, blockLen);
+            final int vectorBound = SPECIES.loopBound(blockLen);
+            int ii = 0;
+            for (; ii < vectorBound; ii += SPECIES.length()) {
+                final LongVector vector = LongVector.fromArray(SPECIES, block, ii);
+                final VectorMask<Long> nonNullMask = vector.compare(VectorOperators.NE, NULL_LONG);
+                results = results.lanewise(operator, vector, nonNullMask);
+                nonNull += nonNullMask.trueCount();
+            }
+            for (; ii < blockLen; ++ii) {
+                final long value = block[ii];
+                if (value != NULL_LONG) {
+                    result = operator == VectorOperators.MIN ? Math.min(result, value) : Math.max(result, value);
+                    ++nonNull;
+                }
+            }
+        }
+
+        chunkNonNull.set(nonNull);
+        if (nonNull == 0) {
+            return NULL_LONG;
+        }
+        final long lanesResult = results.reduceLanes(operator);
+        return operator == VectorOperators.MIN ? Math.min(result, lanesResult) : Math.max(result, lanesResult);
+    }
+}
@@ -0,0 +1,124 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.simd;
+
+import com.google.auto.service.AutoService;
+import io.deephaven.chunk.DoubleChunk;
+import io.deephaven.chunk.FloatChunk;
+import io.deephaven.chunk.IntChunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.attributes.Any;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.impl.by.SimdAggregationKernels;
+import io.deephaven.util.mutable.MutableInt;
+
+/**
+ * The SIMD sum, min and max loops for int, long, float and double values. Narrower integral types and chars are
+ * rarely aggregated over enough rows to be worth widening lane by lane, and keep their scalar loops.
+ */
+public final class SimdAggregationKernelImpl implements SimdAggregationKernels.SimdAggregationKernel {
+
+    @AutoService(SimdAggregationKernels.SimdAggregationKernelProvider.class)
+    public static final class SimdAggregationKernelProvider
+            implements SimdAggregationKernels.SimdAggregationKernelProvider {
+
+        @Override
+        public SimdAggregationKernels.SimdAggregationKernel get() {
+            return INSTANCE;
+        }
+    }
+
+    /**
+     * Values are copied out of their chunk in blocks of at most this size, which is a multiple of every vector length.
+     */
+    static final int BLOCK_SIZE = 512;
+
+    private static final SimdAggregationKernels.SimdAggregationKernel INSTANCE = new SimdAggregationKernelImpl();
+
+    private SimdAggregationKernelImpl() {}
+
+    @Override
+    public long sumIntChunk(
+            final IntChunk<? extends Any> values,
+            final int chunkStart,
+            final int chunkSize,
+            final MutableInt nonNullCount) {
+        return SimdSums.sumIntChunk(values, chunkStart, chunkSize, nonNullCount);
+    }
+
+    @Override
+    public long sumLongChunk(
+            final LongChunk<? extends Any> values,
+            final int chunkStart,
+            final int chunkSize,
+            final MutableInt nonNullCount) {
+        return SimdSums.sumLongChunk(values, chunkStart, chunkSize, nonNullCount);
+    }
+
+    @Override
+    public double sumFloatChunk(
+            final FloatChunk<? extends Values> values,
+            final int chunkStart,
+            final int chunkSize,
+            final MutableInt chunkNormalCount,
+            final MutableInt chunkNanCount,
+            final MutableInt chunkInfinityCount,
+            final MutableInt chunkMinusInfinityCount) {
+        return SimdSums.sumFloatChunk(values, chunkStart, chunkSize, chunkNormalCount, chunkNanCount,
+                chunkInfinityCount, chunkMinusInfinityCount);
+    }
+
+    @Override
+    public double sumDoubleChunk(
+            final DoubleChunk<? extends Values> values,
+            final int chunkStart,
+            final int chunkSize,
+            final MutableInt chunkNormalCount,
+            final MutableInt chunkNanCount,
+            final MutableInt chunkInfinityCount,
+            final MutableInt chunkMinusInfinityCount) {
+        return SimdSums.sumDoubleChunk(values, chunkStart, chunkSize, chunkNormalCount, chunkNanCount,
+                chunkInfinityCount, chunkMinusInfinityCount);
+    }
+
+    @Override
+    public int minIntChunk(IntChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        return IntSimdMinMax.min(values, chunkNonNull, chunkStart, chunkEnd);
+    }
+
+    @Override
+    public int maxIntChunk(IntChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        return IntSimdMinMax.max(values, chunkNonNull, chunkStart, chunkEnd);
+    }
+
+    @Override
+    public long minLongChunk(LongChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        return LongSimdMinMax.min(values, chunkNonNull, chunkStart, chunkEnd);
+    }
+
+    @Override
+    public long maxLongChunk(LongChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        return LongSimdMinMax.max(values, chunkNonNull, chunkStart, chunkEnd);
+    }
+
+    @Override
+    public float minFloatChunk(FloatChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        return FloatSimdMinMax.min(values, chunkNonNull, chunkStart, chunkEnd);
+    }
+
+    @Override
+    public float maxFloatChunk(FloatChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        return FloatSimdMinMax.max(values, chunkNonNull, chunkStart, chunkEnd);
+    }
+
+    @Override
+    public double minDoubleChunk(DoubleChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        return DoubleSimdMinMax.min(values, chunkNonNull, chunkStart, chunkEnd);
+    }
+
+    @Override
+    public double maxDoubleChunk(DoubleChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        return DoubleSimdMinMax.max(values, chunkNonNull, chunkStart, chunkEnd);
+    }
+}
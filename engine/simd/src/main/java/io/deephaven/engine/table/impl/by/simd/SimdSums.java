@@ -0,0 +1,195 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.simd;
+
+import io.deephaven.chunk.DoubleChunk;
+import io.deephaven.chunk.FloatChunk;
+import io.deephaven.chunk.IntChunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.util.mutable.MutableInt;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
+import static io.deephaven.util.QueryConstants.NULL_FLOAT;
+import static io.deephaven.util.QueryConstants.NULL_INT;
+import static io.deephaven.util.QueryConstants.NULL_LONG;
+
+/**
+ * Sums of the non-null values in a range of a chunk, with each vector lane accumulating its own partial sum. Int and
+ * float values are widened as they are added, so that they accumulate into long and double sums just as the scalar
+ * loops do; both halves of a widened vector fill a vector of the same shape.
+ */
+final class SimdSums {
+
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private SimdSums() {} // static use only
+
+    static long sumIntChunk(IntChunk<?> values, int chunkStart, int chunkSize, MutableInt nonNullCount) {
+        final int[] block = new int[Math.min(chunkSize, SimdAggregationKernelImpl.BLOCK_SIZE)];
+        LongVector sums = LongVector.zero(LONG_SPECIES);
+        long sum = 0;
+        int nonNull = 0;
+
+        for (int blockStart = 0; blockStart < chunkSize; blockStart += block.length) {
+            final int blockLen = Math.min(block.length, chunkSize - blockStart);
+            values.copyToTypedArray(chunkStart + blockStart, block, 0, blockLen);
+            final int vectorBound = INT_SPECIES.loopBound(blockLen);
+            int ii = 0;
+            for (; ii < vectorBound; ii += INT_SPECIES.length()) {
+                final IntVector vector = IntVector.fromArray(INT_SPECIES, block, ii);
+                final VectorMask<Integer> nonNullMask = vector.compare(VectorOperators.NE, NULL_INT);
+                final IntVector addends = IntVector.zero(INT_SPECIES).blend(vector, nonNullMask);
+                sums = sums.add(addends.convertShape(VectorOperators.I2L, LONG_SPECIES, 0))
+                        .add(addends.convertShape(VectorOperators.I2L, LONG_SPECIES, 1));
+                nonNull += nonNullMask.trueCount();
+            }
+            for (; ii < blockLen; ++ii) {
+                final int value = block[ii];
+                if (value != NULL_INT) {
+                    sum += value;
+                    ++nonNull;
+                }
+            }
+        }
+
+        nonNullCount.add(nonNull);
+        return sum + sums.reduceLanes(VectorOperators.ADD);
+    }
+
+    static long sumLongChunk(LongChunk<?> values, int chunkStart, int chunkSize, MutableInt nonNullCount) {
+        final long[] block = new long[Math.min(chunkSize, SimdAggregationKernelImpl.BLOCK_SIZE)];
+        LongVector sums = LongVector.zero(LONG_SPECIES);
+        long sum = 0;
+        int nonNull = 0;
+
+        for (int blockStart = 0; blockStart < chunkSize; blockStart += block.length) {
+            final int blockLen = Math.min(block.length, chunkSize - blockStart);
+            values.copyToTypedArray(chunkStart + blockStart, block, 0, blockLen);
+            final int vectorBound = LONG_SPECIES.loopBound(blockLen);
+            int ii = 0;
+            for (; ii < vectorBound; ii += LONG_SPECIES.length()) {
+                final LongVector vector = LongVector.fromArray(LONG_SPECIES, block, ii);
+                final VectorMask<Long> nonNullMask = vector.compare(VectorOperators.NE, NULL_LONG);
+                sums = sums.add(vector, nonNullMask);
+                nonNull += nonNullMask.trueCount();
+            }
+            for (; ii < blockLen; ++ii) {
+                final long value = block[ii];
+                if (value != NULL_LONG) {
+                    sum += value;
+                    ++nonNull;
+                }
+            }
+        }
+
+        nonNullCount.add(nonNull);
+        return sum + sums.reduceLanes(VectorOperators.ADD);
+    }
+
+    static double sumFloatChunk(FloatChunk<?> values, int chunkStart, int chunkSize,
+            MutableInt chunkNormalCount,
+            MutableInt chunkNanCount,
+            MutableInt chunkInfinityCount,
+            MutableInt chunkMinusInfinityCount) {
+        final float[] block = new float[Math.min(chunkSize, SimdAggregationKernelImpl.BLOCK_SIZE)];
+        DoubleVector sums = DoubleVector.zero(DOUBLE_SPECIES);
+        double sum = 0;
+        int normal = 0;
+
+        for (int blockStart = 0; blockStart < chunkSize; blockStart += block.length) {
+            final int blockLen = Math.min(block.length, chunkSize - blockStart);
+            values.copyToTypedArray(chunkStart + blockStart, block, 0, blockLen);
+            final int vectorBound = FLOAT_SPECIES.loopBound(blockLen);
+            int ii = 0;
+            for (; ii < vectorBound; ii += FLOAT_SPECIES.length()) {
+                final FloatVector vector = FloatVector.fromArray(FLOAT_SPECIES, block, ii);
+                final VectorMask<Float> finite = vector.test(VectorOperators.IS_FINITE);
+                final VectorMask<Float> normalMask = finite.andNot(vector.compare(VectorOperators.EQ, NULL_FLOAT));
+                final FloatVector addends = FloatVector.zero(FLOAT_SPECIES).blend(vector, normalMask);
+                sums = sums.add(addends.convertShape(VectorOperators.F2D, DOUBLE_SPECIES, 0))
+                        .add(addends.convertShape(VectorOperators.F2D, DOUBLE_SPECIES, 1));
+                normal += normalMask.trueCount();
+                if (!finite.allTrue()) {
+                    chunkNanCount.add(vector.test(VectorOperators.IS_NAN).trueCount());
+                    chunkInfinityCount.add(vector.compare(VectorOperators.EQ, Float.POSITIVE_INFINITY).trueCount());
+                    chunkMinusInfinityCount
+                            .add(vector.compare(VectorOperators.EQ, Float.NEGATIVE_INFINITY).trueCount());
+                }
+            }
+            for (; ii < blockLen; ++ii) {
+                final float value = block[ii];
+                if (Float.isNaN(value)) {
+                    chunkNanCount.increment();
+                } else if (value == Float.POSITIVE_INFINITY) {
+                    chunkInfinityCount.increment();
+                } else if (value == Float.NEGATIVE_INFINITY) {
+                    chunkMinusInfinityCount.increment();
+                } else if (value != NULL_FLOAT) {
+                    sum += value;
+                    ++normal;
+                }
+            }
+        }
+
+        chunkNormalCount.add(normal);
+        return sum + sums.reduceLanes(VectorOperators.ADD);
+    }
+
+    static double sumDoubleChunk(DoubleChunk<?> values, int chunkStart, int chunkSize,
+            MutableInt chunkNormalCount,
+            MutableInt chunkNanCount,
+            MutableInt chunkInfinityCount,
+            MutableInt chunkMinusInfinityCount) {
+        final double[] block = new double[Math.min(chunkSize, SimdAggregationKernelImpl.BLOCK_SIZE)];
+        DoubleVector sums = DoubleVector.zero(DOUBLE_SPECIES);
+        double sum = 0;
+        int normal = 0;
+
+        for (int blockStart = 0; blockStart < chunkSize; blockStart += block.length) {
+            final int blockLen = Math.min(block.length, chunkSize - blockStart);
+            values.copyToTypedArray(chunkStart + blockStart, block, 0, blockLen);
+            final int vectorBound = DOUBLE_SPECIES.loopBound(blockLen);
+            int ii = 0;
+            for (; ii < vectorBound; ii += DOUBLE_SPECIES.length()) {
+                final DoubleVector vector = DoubleVector.fromArray(DOUBLE_SPECIES, block, ii);
+                final VectorMask<Double> finite = vector.test(VectorOperators.IS_FINITE);
+                final VectorMask<Double> normalMask = finite.andNot(vector.compare(VectorOperators.EQ, NULL_DOUBLE));
+                sums = sums.add(vector, normalMask);
+                normal += normalMask.trueCount();
+                if (!finite.allTrue()) {
+                    chunkNanCount.add(vector.test(VectorOperators.IS_NAN).trueCount());
+                    chunkInfinityCount.add(vector.compare(VectorOperators.EQ, Double.POSITIVE_INFINITY).trueCount());
+                    chunkMinusInfinityCount
+                            .add(vector.compare(VectorOperators.EQ, Double.NEGATIVE_INFINITY).trueCount());
+                }
+            }
+            for (; ii < blockLen; ++ii) {
+                final double value = block[ii];
+                if (Double.isNaN(value)) {
+                    chunkNanCount.increment();
+                } else if (value == Double.POSITIVE_INFINITY) {
+                    chunkInfinityCount.increment();
+                } else if (value == Double.NEGATIVE_INFINITY) {
+                    chunkMinusInfinityCount.increment();
+                } else if (value != NULL_DOUBLE) {
+                    sum += value;
+                    ++normal;
+                }
+            }
+        }
+
+        chunkNormalCount.add(normal);
+        return sum + sums.reduceLanes(VectorOperators.ADD);
+    }
+}
@@ -0,0 +1,203 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit LongSimdFilters and run "./gradlew replicateChunkFilters" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.chunkfilter.simd;
+
+import io.deephaven.engine.table.impl.chunkfilter.ByteChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.ByteChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.chunkfilter.ByteRangeComparator;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * SIMD equivalents of the range filters from {@link ByteRangeComparator} and the one, two and three value filters from
+ * {@link ByteChunkMatchFilterFactory}. Null byte values are the minimum byte, so plain comparisons order them first,
+ * exactly as {@code ByteComparisons} does.
+ */
+final class ByteSimdFilters {
+
+    private ByteSimdFilters() {} // static use only
+
+    static ByteChunkFilter makeRangeFilter(byte lower, byte upper, boolean lowerInclusive, boolean upperInclusive) {
+        if (lowerInclusive) {
+            if (upperInclusive) {
+                return new InclusiveInclusiveFilter(lower, upper);
+            } else {
+                return new InclusiveExclusiveFilter(lower, upper);
+            }
+        } else {
+            if (upperInclusive) {
+                return new ExclusiveInclusiveFilter(lower, upper);
+            } else {
+                return new ExclusiveExclusiveFilter(lower, upper);
+            }
+        }
+    }
+
+    @Nullable
+    static ByteChunkFilter makeMatchFilter(final boolean inverted, final byte... values) {
+        switch (values.length) {
+            case 1:
+                return new SingleValueFilter(inverted, values[0]);
+            case 2:
+                return new TwoValueFilter(inverted, values[0], values[1]);
+            case 3:
+                return new ThreeValueFilter(inverted, values[0], values[1], values[2]);
+            default:
+                // A hash set lookup is cheaper than comparing each value against every key
+                return null;
+        }
+    }
+
+    private abstract static class RangeFilter extends ByteSimdChunkFilter {
+        final byte lower;
+        final byte upper;
+
+        RangeFilter(byte lower, byte upper) {
+            this.lower = lower;
+            this.upper = upper;
+        }
+    }
+
+    private static final class InclusiveInclusiveFilter extends RangeFilter {
+        private InclusiveInclusiveFilter(byte lower, byte upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(byte value) {
+            return value >= lower && value <= upper;
+        }
+
+        @Override
+        VectorMask<Byte> matches(ByteVector values) {
+            return values.compare(VectorOperators.GE, lower).and(values.compare(VectorOperators.LE, upper));
+        }
+    }
+
+    private static final class InclusiveExclusiveFilter extends RangeFilter {
+        private InclusiveExclusiveFilter(byte lower, byte upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(byte value) {
+            return value >= lower && value < upper;
+        }
+
+        @Override
+        VectorMask<Byte> matches(ByteVector values) {
+            return values.compare(VectorOperators.GE, lower).and(values.compare(VectorOperators.LT, upper));
+        }
+    }
+
+    private static final class ExclusiveInclusiveFilter extends RangeFilter {
+        private ExclusiveInclusiveFilter(byte lower, byte upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(byte value) {
+            return value > lower && value <= upper;
+        }
+
+        @Override
+        VectorMask<Byte> matches(ByteVector values) {
+            return values.compare(VectorOperators.GT, lower).and(values.compare(VectorOperators.LE, upper));
+        }
+    }
+
+    private static final class ExclusiveExclusiveFilter extends RangeFilter {
+        private ExclusiveExclusiveFilter(byte lower, byte upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(byte value) {
+            return value > lower && value < upper;
+        }
+
+        @Override
+        VectorMask<Byte> matches(ByteVector values) {
+            return values.compare(VectorOperators.GT, lower).and(values.compare(VectorOperators.LT, upper));
+        }
+    }
+
+    private static final class SingleValueFilter extends ByteSimdChunkFilter {
+        private final boolean inverted;
+        private final byte value;
+
+        private SingleValueFilter(boolean inverted, byte value) {
+            this.inverted = inverted;
+            this.value = value;
+        }
+
+        @Override
+        public boolean matches(byte value) {
+            return (value == this.value) != inverted;
+        }
+
+        @Override
+        VectorMask<Byte> matches(ByteVector values) {
+            final VectorMask<Byte> mask = values.compare(VectorOperators.EQ, value);
+            return inverted ? mask.not() : mask;
+        }
+    }
+
+    private static final class TwoValueFilter extends ByteSimdChunkFilter {
+        private final boolean inverted;
+        private final byte value1;
+        private final byte value2;
+
+        private TwoValueFilter(boolean inverted, byte value1, byte value2) {
+            this.inverted = inverted;
+            this.value1 = value1;
+            this.value2 = value2;
+        }
+
+        @Override
+        public boolean matches(byte value) {
+            return (value == value1 || value == value2) != inverted;
+        }
+
+        @Override
+        VectorMask<Byte> matches(ByteVector values) {
+            final VectorMask<Byte> mask = values.compare(VectorOperators.EQ, value1)
+                    .or(values.compare(VectorOperators.EQ, value2));
+            return inverted ? mask.not() : mask;
+        }
+    }
+
+    private static final class ThreeValueFilter extends ByteSimdChunkFilter {
+        private final boolean inverted;
+        private final byte value1;
+        private final byte value2;
+        private final byte value3;
+
+        private ThreeValueFilter(boolean inverted, byte value1, byte value2, byte value3) {
+            this.inverted = inverted;
+            this.value1 = value1;
+            this.value2 = value2;
+            this.value3 = value3;
+        }
+
+        @Override
+        public boolean matches(byte value) {
+            return (value == value1 || value == value2 || value == value3) != inverted;
+        }
+
+        @Override
+        VectorMask<Byte> matches(ByteVector values) {
+            final VectorMask<Byte> mask = values.compare(VectorOperators.EQ, value1)
+                    .or(values.compare(VectorOperators.EQ, value2))
+                    .or(values.compare(VectorOperators.EQ, value3));
+            return inverted ? mask.not() : mask;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit LongSimdChunkFilter and run "./gradlew replicateChunkFilters" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.chunkfilter.simd;
+
+import io.deephaven.chunk.*;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
+import io.deephaven.engine.table.impl.chunkfilter.DoubleChunkFilter;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * A {@link DoubleChunkFilter} whose bulk methods evaluate a full vector of values at a time with
+ * {@link #matches(DoubleVector)}, falling back to {@link #matches(double)} for the values that don't fill a vector.
+ */
+abstract class DoubleSimdChunkFilter extends DoubleChunkFilter {
+
+    static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Values are copied out of their chunk in blocks of this size, which is a multiple of every vector length.
+     */
+    private static final int BLOCK_SIZE = 512;
+
+    /**
+     * A block for each thread to copy values into, so that filtering a chunk doesn't allocate.
+     */
+    private static final ThreadLocal<double[]> BLOCKS = ThreadLocal.withInitial(() -> new double[BLOCK_SIZE]);
+
+    /**
+     * Evaluate this filter for every lane of {@code values}, consistently with {@link #matches(double)}.
+     *
+     * @param values the values to filter
+     * @return a mask with the lanes that match set
+     */
+    abstract VectorMask<Double> matches(DoubleVector values);
+
+    @Override
+    public final void filter(
+            final Chunk<? extends Values> values,
+            final LongChunk<OrderedRowKeys> keys,
+            final WritableLongChunk<OrderedRowKeys> results) {
+        final DoubleChunk<? extends Values> doubleChunk = values.asDoubleChunk();
+        final int len = doubleChunk.size();
+        final double[] block = BLOCKS.get();
+
+        results.setSize(0);
+        for (int blockStart = 0; blockStart < len; blockStart += BLOCK_SIZE) {
+            final int blockLen = Math.min(BLOCK_SIZE, len - blockStart);
+            doubleChunk.copyToTypedArray(blockStart, block, 0, blockLen);
+            final int vectorBound = SPECIES.loopBound(blockLen);
+            int ii = 0;
+            for (; ii < vectorBound; ii += SPECIES.length()) {
+                final VectorMask<Double> mask = matches(DoubleVector.fromArray(SPECIES, block, ii));
+                SimdMasks.appendMatchingKeys(mask.toLong(), keys, blockStart + ii, results);
+            }
+            for (; ii < blockLen; ++ii) {
+                if (matches(block[ii])) {
+                    results.add(keys.get(blockStart + ii));
+                }
+            }
+        }
+    }
+
+    @Override
+    public final int filter(final Chunk<? extends Values> values, final WritableBooleanChunk<Values> results) {
+        final DoubleChunk<? extends Values> doubleChunk = values.asDoubleChunk();
+        final int len = values.size();
+        final double[] block = BLOCKS.get();
+        int count = 0;
+
+        for (int blockStart = 0; blockStart < len; blockStart += BLOCK_SIZE) {
+            final int blockLen = Math.min(BLOCK_SIZE, len - blockStart);
+            doubleChunk.copyToTypedArray(blockStart, block, 0, blockLen);
+            final int vectorBound = SPECIES.loopBound(blockLen);
+            int ii = 0;
+            for (; ii < vectorBound; ii += SPECIES.length()) {
+                final VectorMask<Double> mask = matches(DoubleVector.fromArray(SPECIES, block, ii));
+                count += SimdMasks.setResults(mask.toLong(), SPECIES.length(), results, blockStart + ii);
+            }
+            for (; ii < blockLen; ++ii) {
+                final boolean newResult = matches(block[ii]);
+                results.set(blockStart + ii, newResult);
+                count += newResult ? 1 : 0;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public final int filterAnd(final Chunk<? extends Values> values, final WritableBooleanChunk<Values> results) {
+        final DoubleChunk<? extends Values> doubleChunk = values.asDoubleChunk();
+        final int len = values.size();
+        final double[] block = BLOCKS.get();
+        int count = 0;
+
+        // Evaluating values whose results are already false is cheaper than skipping them lane by lane
+        for (int blockStart = 0; blockStart < len; blockStart += BLOCK_SIZE) {
+            final int blockLen = Math.min(BLOCK_SIZE, len - blockStart);
+            doubleChunk.copyToTypedArray(blockStart, block, 0, blockLen);
+            final int vectorBound = SPECIES.loopBound(blockLen);
+            int ii = 0;
+            for (; ii < vectorBound; ii += SPECIES.length()) {
+                final VectorMask<Double> mask = matches(DoubleVector.fromArray(SPECIES, block, ii));
+                count += SimdMasks.andResults(mask.toLong(), SPECIES.length(), results, blockStart + ii);
+            }
+            for (; ii < blockLen; ++ii) {
+                if (!results.get(blockStart + ii)) {
+                    continue;
+                }
+                final boolean newResult = matches(block[ii]);
+                results.set(blockStart + ii, newResult);
+                count += newResult ? 1 : 0;
+            }
+        }
+        return count;
+    }
+}
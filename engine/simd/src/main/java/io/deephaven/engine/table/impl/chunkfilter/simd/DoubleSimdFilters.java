@@ -0,0 +1,231 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit FloatSimdFilters and run "./gradlew replicateChunkFilters" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.chunkfilter.simd;
+
+import io.deephaven.engine.table.impl.chunkfilter.DoubleChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.DoubleChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.chunkfilter.DoubleRangeComparator;
+import io.deephaven.util.compare.DoubleComparisons;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import org.jetbrains.annotations.Nullable;
+
+import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
+
+/**
+ * SIMD equivalents of the range filters from {@link DoubleRangeComparator} and the one, two and three value filters
+ * from {@link DoubleChunkMatchFilterFactory} that don't match NaN.
+ * <p>
+ * Range filters order values as {@link DoubleComparisons} does: null first and NaN last. Bounds that are themselves
+ * null or NaN are left to the scalar filters.
+ */
+final class DoubleSimdFilters {
+
+    private DoubleSimdFilters() {} // static use only
+
+    @Nullable
+    static DoubleChunkFilter makeRangeFilter(
+            double lower, double upper, boolean lowerInclusive, boolean upperInclusive) {
+        if (lower == NULL_DOUBLE || upper == NULL_DOUBLE || Double.isNaN(lower) || Double.isNaN(upper)) {
+            return null;
+        }
+        if (lowerInclusive) {
+            if (upperInclusive) {
+                return new InclusiveInclusiveFilter(lower, upper);
+            } else {
+                return new InclusiveExclusiveFilter(lower, upper);
+            }
+        } else {
+            if (upperInclusive) {
+                return new ExclusiveInclusiveFilter(lower, upper);
+            } else {
+                return new ExclusiveExclusiveFilter(lower, upper);
+            }
+        }
+    }
+
+    @Nullable
+    static DoubleChunkFilter makeMatchFilter(final boolean inverted, final double... values) {
+        switch (values.length) {
+            case 1:
+                return new SingleValueFilter(inverted, values[0]);
+            case 2:
+                return new TwoValueFilter(inverted, values[0], values[1]);
+            case 3:
+                return new ThreeValueFilter(inverted, values[0], values[1], values[2]);
+            default:
+                // A hash set lookup is cheaper than comparing each value against every key
+                return null;
+        }
+    }
+
+    /**
+     * The lanes of {@code values} that are {@link DoubleComparisons#geq(double, double) geq} {@code rhs}, which must be
+     * neither null nor NaN.
+     */
+    private static VectorMask<Double> geq(final DoubleVector values, final double rhs) {
+        return values.compare(VectorOperators.GE, rhs)
+                .andNot(values.compare(VectorOperators.EQ, NULL_DOUBLE))
+                .or(values.test(VectorOperators.IS_NAN));
+    }
+
+    /**
+     * The lanes of {@code values} that are {@link DoubleComparisons#leq(double, double) leq} {@code rhs}, which must be
+     * neither null nor NaN.
+     */
+    private static VectorMask<Double> leq(final DoubleVector values, final double rhs) {
+        return values.compare(VectorOperators.LE, rhs).or(values.compare(VectorOperators.EQ, NULL_DOUBLE));
+    }
+
+    private abstract static class RangeFilter extends DoubleSimdChunkFilter {
+        final double lower;
+        final double upper;
+
+        RangeFilter(double lower, double upper) {
+            this.lower = lower;
+            this.upper = upper;
+        }
+    }
+
+    private static final class InclusiveInclusiveFilter extends RangeFilter {
+        private InclusiveInclusiveFilter(double lower, double upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(double value) {
+            return DoubleComparisons.geq(value, lower) && DoubleComparisons.leq(value, upper);
+        }
+
+        @Override
+        VectorMask<Double> matches(DoubleVector values) {
+            return geq(values, lower).and(leq(values, upper));
+        }
+    }
+
+    private static final class InclusiveExclusiveFilter extends RangeFilter {
+        private InclusiveExclusiveFilter(double lower, double upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(double value) {
+            return DoubleComparisons.geq(value, lower) && DoubleComparisons.lt(value, upper);
+        }
+
+        @Override
+        VectorMask<Double> matches(DoubleVector values) {
+            return geq(values, lower).andNot(geq(values, upper));
+        }
+    }
+
+    private static final class ExclusiveInclusiveFilter extends RangeFilter {
+        private ExclusiveInclusiveFilter(double lower, double upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(double value) {
+            return DoubleComparisons.gt(value, lower) && DoubleComparisons.leq(value, upper);
+        }
+
+        @Override
+        VectorMask<Double> matches(DoubleVector values) {
+            return leq(values, upper).andNot(leq(values, lower));
+        }
+    }
+
+    private static final class ExclusiveExclusiveFilter extends RangeFilter {
+        private ExclusiveExclusiveFilter(double lower, double upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(double value) {
+            return DoubleComparisons.gt(value, lower) && DoubleComparisons.lt(value, upper);
+        }
+
+        @Override
+        VectorMask<Double> matches(DoubleVector values) {
+            return leq(values, lower).or(geq(values, upper)).not();
+        }
+    }
+
+    private static final class SingleValueFilter extends DoubleSimdChunkFilter {
+        private final boolean inverted;
+        private final double value;
+
+        private SingleValueFilter(boolean inverted, double value) {
+            this.inverted = inverted;
+            this.value = value;
+        }
+
+        @Override
+        public boolean matches(double value) {
+            return (value == this.value) != inverted;
+        }
+
+        @Override
+        VectorMask<Double> matches(DoubleVector values) {
+            final VectorMask<Double> mask = values.compare(VectorOperators.EQ, value);
+            return inverted ? mask.not() : mask;
+        }
+    }
+
+    private static final class TwoValueFilter extends DoubleSimdChunkFilter {
+        private final boolean inverted;
+        private final double value1;
+        private final double value2;
+
+        private TwoValueFilter(boolean inverted, double value1, double value2) {
+            this.inverted = inverted;
+            this.value1 = value1;
+            this.value2 = value2;
+        }
+
+        @Override
+        public boolean matches(double value) {
+            return (value == value1 || value == value2) != inverted;
+        }
+
+        @Override
+        VectorMask<Double> matches(DoubleVector values) {
+            final VectorMask<Double> mask = values.compare(VectorOperators.EQ, value1)
+                    .or(values.compare(VectorOperators.EQ, value2));
+            return inverted ? mask.not() : mask;
+        }
+    }
+
+    private static final class ThreeValueFilter extends DoubleSimdChunkFilter {
+        private final boolean inverted;
+        private final double value1;
+        private final double value2;
+        private final double value3;
+
+        private ThreeValueFilter(boolean inverted, double value1, double value2, double value3) {
+            this.inverted = inverted;
+            this.value1 = value1;
+            this.value2 = value2;
+            this.value3 = value3;
+        }
+
+        @Override
+        public boolean matches(double value) {
+            return (value == value1 || value == value2 || value == value3) != inverted;
+        }
+
+        @Override
+        VectorMask<Double> matches(DoubleVector values) {
+            final VectorMask<Double> mask = values.compare(VectorOperators.EQ, value1)
+                    .or(values.compare(VectorOperators.EQ, value2))
+                    .or(values.compare(VectorOperators.EQ, value3));
+            return inverted ? mask.not() : mask;
+        }
+    }
+}
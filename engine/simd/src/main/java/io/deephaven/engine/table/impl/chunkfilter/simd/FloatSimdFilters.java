@@ -0,0 +1,227 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.chunkfilter.simd;
+
+import io.deephaven.engine.table.impl.chunkfilter.FloatChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.FloatChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.chunkfilter.FloatRangeComparator;
+import io.deephaven.util.compare.FloatComparisons;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import org.jetbrains.annotations.Nullable;
+
+import static io.deephaven.util.QueryConstants.NULL_FLOAT;
+
+/**
+ * SIMD equivalents of the range filters from {@link FloatRangeComparator} and the one, two and three value filters
+ * from {@link FloatChunkMatchFilterFactory} that don't match NaN.
+ * <p>
+ * Range filters order values as {@link FloatComparisons} does: null first and NaN last. Bounds that are themselves
+ * null or NaN are left to the scalar filters.
+ */
+final class FloatSimdFilters {
+
+    private FloatSimdFilters() {} // static use only
+
+    @Nullable
+    static FloatChunkFilter makeRangeFilter(
+            float lower, float upper, boolean lowerInclusive, boolean upperInclusive) {
+        if (lower == NULL_FLOAT || upper == NULL_FLOAT || Float.isNaN(lower) || Float.isNaN(upper)) {
+            return null;
+        }
+        if (lowerInclusive) {
+            if (upperInclusive) {
+                return new InclusiveInclusiveFilter(lower, upper);
+            } else {
+                return new InclusiveExclusiveFilter(lower, upper);
+            }
+        } else {
+            if (upperInclusive) {
+                return new ExclusiveInclusiveFilter(lower, upper);
+            } else {
+                return new ExclusiveExclusiveFilter(lower, upper);
+            }
+        }
+    }
+
+    @Nullable
+    static FloatChunkFilter makeMatchFilter(final boolean inverted, final float... values) {
+        switch (values.length) {
+            case 1:
+                return new SingleValueFilter(inverted, values[0]);
+            case 2:
+                return new TwoValueFilter(inverted, values[0], values[1]);
+            case 3:
+                return new ThreeValueFilter(inverted, values[0], values[1], values[2]);
+            default:
+                // A hash set lookup is cheaper than comparing each value against every key
+                return null;
+        }
+    }
+
+    /**
+     * The lanes of {@code values} that are {@link FloatComparisons#geq(float, float) geq} {@code rhs}, which must be
+     * neither null nor NaN.
+     */
+    private static VectorMask<Float> geq(final FloatVector values, final float rhs) {
+        return values.compare(VectorOperators.GE, rhs)
+                .andNot(values.compare(VectorOperators.EQ, NULL_FLOAT))
+                .or(values.test(VectorOperators.IS_NAN));
+    }
+
+    /**
+     * The lanes of {@code values} that are {@link FloatComparisons#leq(float, float) leq} {@code rhs}, which must be
+     * neither null nor NaN.
+     */
+    private static VectorMask<Float> leq(final FloatVector values, final float rhs) {
+        return values.compare(VectorOperators.LE, rhs).or(values.compare(VectorOperators.EQ, NULL_FLOAT));
+    }
+
+    private abstract static class RangeFilter extends FloatSimdChunkFilter {
+        final float lower;
+        final float upper;
+
+        RangeFilter(float lower, float upper) {
+            this.lower = lower;
+            this.upper = upper;
+        }
+    }
+
+    private static final class InclusiveInclusiveFilter extends RangeFilter {
+        private InclusiveInclusiveFilter(float lower, float upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(float value) {
+            return FloatComparisons.geq(value, lower) && FloatComparisons.leq(value, upper);
+        }
+
+        @Override
+        VectorMask<Float> matches(FloatVector values) {
+            return geq(values, lower).and(leq(values, upper));
+        }
+    }
+
+    private static final class InclusiveExclusiveFilter extends RangeFilter {
+        private InclusiveExclusiveFilter(float lower, float upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(float value) {
+            return FloatComparisons.geq(value, lower) && FloatComparisons.lt(value, upper);
+        }
+
+        @Override
+        VectorMask<Float> matches(FloatVector values) {
+            return geq(values, lower).andNot(geq(values, upper));
+        }
+    }
+
+    private static final class ExclusiveInclusiveFilter extends RangeFilter {
+        private ExclusiveInclusiveFilter(float lower, float upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(float value) {
+            return FloatComparisons.gt(value, lower) && FloatComparisons.leq(value, upper);
+        }
+
+        @Override
+        VectorMask<Float> matches(FloatVector values) {
+            return leq(values, upper).andNot(leq(values, lower));
+        }
+    }
+
+    private static final class ExclusiveExclusiveFilter extends RangeFilter {
+        private ExclusiveExclusiveFilter(float lower, float upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(float value) {
+            return FloatComparisons.gt(value, lower) && FloatComparisons.lt(value, upper);
+        }
+
+        @Override
+        VectorMask<Float> matches(FloatVector values) {
+            return leq(values, lower).or(geq(values, upper)).not();
+        }
+    }
+
+    private static final class SingleValueFilter extends FloatSimdChunkFilter {
+        private final boolean inverted;
+        private final float value;
+
+        private SingleValueFilter(boolean inverted, float value) {
+            this.inverted = inverted;
+            this.value = value;
+        }
+
+        @Override
+        public boolean matches(float value) {
+            return (value == this.value) != inverted;
+        }
+
+        @Override
+        VectorMask<Float> matches(FloatVector values) {
+            final VectorMask<Float> mask = values.compare(VectorOperators.EQ, value);
+            return inverted ? mask.not() : mask;
+        }
+    }
+
+    private static final class TwoValueFilter extends FloatSimdChunkFilter {
+        private final boolean inverted;
+        private final float value1;
+        private final float value2;
+
+        private TwoValueFilter(boolean inverted, float value1, float value2) {
+            this.inverted = inverted;
+            this.value1 = value1;
+            this.value2 = value2;
+        }
+
+        @Override
+        public boolean matches(float value) {
+            return (value == value1 || value == value2) != inverted;
+        }
+
+        @Override
+        VectorMask<Float> matches(FloatVector values) {
+            final VectorMask<Float> mask = values.compare(VectorOperators.EQ, value1)
+                    .or(values.compare(VectorOperators.EQ, value2));
+            return inverted ? mask.not() : mask;
+        }
+    }
+
+    private static final class ThreeValueFilter extends FloatSimdChunkFilter {
+        private final boolean inverted;
+        private final float value1;
+        private final float value2;
+        private final float value3;
+
+        private ThreeValueFilter(boolean inverted, float value1, float value2, float value3) {
+            this.inverted = inverted;
+            this.value1 = value1;
+            this.value2 = value2;
+            this.value3 = value3;
+        }
+
+        @Override
+        public boolean matches(float value) {
+            return (value == value1 || value == value2 || value == value3) != inverted;
+        }
+
+        @Override
+        VectorMask<Float> matches(FloatVector values) {
+            final VectorMask<Float> mask = values.compare(VectorOperators.EQ, value1)
+                    .or(values.compare(VectorOperators.EQ, value2))
+                    .or(values.compare(VectorOperators.EQ, value3));
+            return inverted ? mask.not() : mask;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit LongSimdFilters and run "./gradlew replicateChunkFilters" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.chunkfilter.simd;
+
+import io.deephaven.engine.table.impl.chunkfilter.IntChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.IntChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.chunkfilter.IntRangeComparator;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * SIMD equivalents of the range filters from {@link IntRangeComparator} and the one, two and three value filters from
+ * {@link IntChunkMatchFilterFactory}. Null int values are the minimum int, so plain comparisons order them first,
+ * exactly as {@code IntComparisons} does.
+ */
+final class IntSimdFilters {
+
+    private IntSimdFilters() {} // static use only
+
+    static IntChunkFilter makeRangeFilter(int lower, int upper, boolean lowerInclusive, boolean upperInclusive) {
+        if (lowerInclusive) {
+            if (upperInclusive) {
+                return new InclusiveInclusiveFilter(lower, upper);
+            } else {
+                return new InclusiveExclusiveFilter(lower, upper);
+            }
+        } else {
+            if (upperInclusive) {
+                return new ExclusiveInclusiveFilter(lower, upper);
+            } else {
+                return new ExclusiveExclusiveFilter(lower, upper);
+            }
+        }
+    }
+
+    @Nullable
+    static IntChunkFilter makeMatchFilter(final boolean inverted, final int... values) {
+        switch (values.length) {
+            case 1:
+                return new SingleValueFilter(inverted, values[0]);
+            case 2:
+                return new TwoValueFilter(inverted, values[0], values[1]);
+            case 3:
+                return new ThreeValueFilter(inverted, values[0], values[1], values[2]);
+            default:
+                // A hash set lookup is cheaper than comparing each value against every key
+                return null;
+        }
+    }
+
+    private abstract static class RangeFilter extends IntSimdChunkFilter {
+        final int lower;
+        final int upper;
+
+        RangeFilter(int lower, int upper) {
+            this.lower = lower;
+            this.upper = upper;
+        }
+    }
+
+    private static final class InclusiveInclusiveFilter extends RangeFilter {
+        private InclusiveInclusiveFilter(int lower, int upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(int value) {
+            return value >= lower && value <= upper;
+        }
+
+        @Override
+        VectorMask<Integer> matches(IntVector values) {
+            return values.compare(VectorOperators.GE, lower).and(values.compare(VectorOperators.LE, upper));
+        }
+    }
+
+    private static final class InclusiveExclusiveFilter extends RangeFilter {
+        private InclusiveExclusiveFilter(int lower, int upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(int value) {
+            return value >= lower && value < upper;
+        }
+
+        @Override
+        VectorMask<Integer> matches(IntVector values) {
+            return values.compare(VectorOperators.GE, lower).and(values.compare(VectorOperators.LT, upper));
+        }
+    }
+
+    private static final class ExclusiveInclusiveFilter extends RangeFilter {
+        private ExclusiveInclusiveFilter(int lower, int upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(int value) {
+            return value > lower && value <= upper;
+        }
+
+        @Override
+        VectorMask<Integer> matches(IntVector values) {
+            return values.compare(VectorOperators.GT, lower).and(values.compare(VectorOperators.LE, upper));
+        }
+    }
+
+    private static final class ExclusiveExclusiveFilter extends RangeFilter {
+        private ExclusiveExclusiveFilter(int lower, int upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(int value) {
+            return value > lower && value < upper;
+        }
+
+        @Override
+        VectorMask<Integer> matches(IntVector values) {
+            return values.compare(VectorOperators.GT, lower).and(values.compare(VectorOperators.LT, upper));
+        }
+    }
+
+    private static final class SingleValueFilter extends IntSimdChunkFilter {
+        private final boolean inverted;
+        private final int value;
+
+        private SingleValueFilter(boolean inverted, int value) {
+            this.inverted = inverted;
+            this.value = value;
+        }
+
+        @Override
+        public boolean matches(int value) {
+            return (value == this.value) != inverted;
+        }
+
+        @Override
+        VectorMask<Integer> matches(IntVector values) {
+            final VectorMask<Integer> mask = values.compare(VectorOperators.EQ, value);
+            return inverted ? mask.not() : mask;
+        }
+    }
+
+    private static final class TwoValueFilter extends IntSimdChunkFilter {
+        private final boolean inverted;
+        private final int value1;
+        private final int value2;
+
+        private TwoValueFilter(boolean inverted, int value1, int value2) {
+            this.inverted = inverted;
+            this.value1 = value1;
+            this.value2 = value2;
+        }
+
+        @Override
+        public boolean matches(int value) {
+            return (value == value1 || value == value2) != inverted;
+        }
+
+        @Override
+        VectorMask<Integer> matches(IntVector values) {
+            final VectorMask<Integer> mask = values.compare(VectorOperators.EQ, value1)
+                    .or(values.compare(VectorOperators.EQ, value2));
+            return inverted ? mask.not() : mask;
+        }
+    }
+
+    private static final class ThreeValueFilter extends IntSimdChunkFilter {
+        private final boolean inverted;
+        private final int value1;
+        private final int value2;
+        private final int value3;
+
+        private ThreeValueFilter(boolean inverted, int value1, int value2, int value3) {
+            this.inverted = inverted;
+            this.value1 = value1;
+            this.value2 = value2;
+            this.value3 = value3;
+        }
+
+        @Override
+        public boolean matches(int value) {
+            return (value == value1 || value == value2 || value == value3) != inverted;
+        }
+
+        @Override
+        VectorMask<Integer> matches(IntVector values) {
+            final VectorMask<Integer> mask = values.compare(VectorOperators.EQ, value1)
+                    .or(values.compare(VectorOperators.EQ, value2))
+                    .or(values.compare(VectorOperators.EQ, value3));
+            return inverted ? mask.not() : mask;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.chunkfilter.simd;
+
+import io.deephaven.engine.table.impl.chunkfilter.LongChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.LongChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.chunkfilter.LongRangeComparator;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * SIMD equivalents of the range filters from {@link LongRangeComparator} and the one, two and three value filters from
+ * {@link LongChunkMatchFilterFactory}. Null long values are the minimum long, so plain comparisons order them first,
+ * exactly as {@code LongComparisons} does.
+ */
+final class LongSimdFilters {
+
+    private LongSimdFilters() {} // static use only
+
+    static LongChunkFilter makeRangeFilter(long lower, long upper, boolean lowerInclusive, boolean upperInclusive) {
+        if (lowerInclusive) {
+            if (upperInclusive) {
+                return new InclusiveInclusiveFilter(lower, upper);
+            } else {
+                return new InclusiveExclusiveFilter(lower, upper);
+            }
+        } else {
+            if (upperInclusive) {
+                return new ExclusiveInclusiveFilter(lower, upper);
+            } else {
+                return new ExclusiveExclusiveFilter(lower, upper);
+            }
+        }
+    }
+
+    @Nullable
+    static LongChunkFilter makeMatchFilter(final boolean inverted, final long... values) {
+        switch (values.length) {
+            case 1:
+                return new SingleValueFilter(inverted, values[0]);
+            case 2:
+                return new TwoValueFilter(inverted, values[0], values[1]);
+            case 3:
+                return new ThreeValueFilter(inverted, values[0], values[1], values[2]);
+            default:
+                // A hash set lookup is cheaper than comparing each value against every key
+                return null;
+        }
+    }
+
+    private abstract static class RangeFilter extends LongSimdChunkFilter {
+        final long lower;
+        final long upper;
+
+        RangeFilter(long lower, long upper) {
+            this.lower = lower;
+            this.upper = upper;
+        }
+    }
+
+    private static final class InclusiveInclusiveFilter extends RangeFilter {
+        private InclusiveInclusiveFilter(long lower, long upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(long value) {
+            return value >= lower && value <= upper;
+        }
+
+        @Override
+        VectorMask<Long> matches(LongVector values) {
+            return values.compare(VectorOperators.GE, lower).and(values.compare(VectorOperators.LE, upper));
+        }
+    }
+
+    private static final class InclusiveExclusiveFilter extends RangeFilter {
+        private InclusiveExclusiveFilter(long lower, long upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(long value) {
+            return value >= lower && value < upper;
+        }
+
+        @Override
+        VectorMask<Long> matches(LongVector values) {
+            return values.compare(VectorOperators.GE, lower).and(values.compare(VectorOperators.LT, upper));
+        }
+    }
+
+    private static final class ExclusiveInclusiveFilter extends RangeFilter {
+        private ExclusiveInclusiveFilter(long lower, long upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(long value) {
+            return value > lower && value <= upper;
+        }
+
+        @Override
+        VectorMask<Long> matches(LongVector values) {
+            return values.compare(VectorOperators.GT, lower).and(values.compare(VectorOperators.LE, upper));
+        }
+    }
+
+    private static final class ExclusiveExclusiveFilter extends RangeFilter {
+        private ExclusiveExclusiveFilter(long lower, long upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(long value) {
+            return value > lower && value < upper;
+        }
+
+        @Override
+        VectorMask<Long> matches(LongVector values) {
+            return values.compare(VectorOperators.GT, lower).and(values.compare(VectorOperators.LT, upper));
+        }
+    }
+
+    private static final class SingleValueFilter extends LongSimdChunkFilter {
+        private final boolean inverted;
+        private final long value;
+
+        private SingleValueFilter(boolean inverted, long value) {
+            this.inverted = inverted;
+            this.value = value;
+        }
+
+        @Override
+        public boolean matches(long value) {
+            return (value == this.value) != inverted;
+        }
+
+        @Override
+        VectorMask<Long> matches(LongVector values) {
+            final VectorMask<Long> mask = values.compare(VectorOperators.EQ, value);
+            return inverted ? mask.not() : mask;
+        }
+    }
+
+    private static final class TwoValueFilter extends LongSimdChunkFilter {
+        private final boolean inverted;
+        private final long value1;
+        private final long value2;
+
+        private TwoValueFilter(boolean inverted, long value1, long value2) {
+            this.inverted = inverted;
+            this.value1 = value1;
+            this.value2 = value2;
+        }
+
+        @Override
+        public boolean matches(long value) {
+            return (value == value1 || value == value2) != inverted;
+        }
+
+        @Override
+        VectorMask<Long> matches(LongVector values) {
+            final VectorMask<Long> mask = values.compare(VectorOperators.EQ, value1)
+                    .or(values.compare(VectorOperators.EQ, value2));
+            return inverted ? mask.not() : mask;
+        }
+    }
+
+    private static final class ThreeValueFilter extends LongSimdChunkFilter {
+        private final boolean inverted;
+        private final long value1;
+        private final long value2;
+        private final long value3;
+
+        private ThreeValueFilter(boolean inverted, long value1, long value2, long value3) {
+            this.inverted = inverted;
+            this.value1 = value1;
+            this.value2 = value2;
+            this.value3 = value3;
+        }
+
+        @Override
+        public boolean matches(long value) {
+            return (value == value1 || value == value2 || value == value3) != inverted;
+        }
+
+        @Override
+        VectorMask<Long> matches(LongVector values) {
+            final VectorMask<Long> mask = values.compare(VectorOperators.EQ, value1)
+                    .or(values.compare(VectorOperators.EQ, value2))
+                    .or(values.compare(VectorOperators.EQ, value3));
+            return inverted ? mask.not() : mask;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit LongSimdFilters and run "./gradlew replicateChunkFilters" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.chunkfilter.simd;
+
+import io.deephaven.engine.table.impl.chunkfilter.ShortChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.ShortChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.chunkfilter.ShortRangeComparator;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * SIMD equivalents of the range filters from {@link ShortRangeComparator} and the one, two and three value filters from
+ * {@link ShortChunkMatchFilterFactory}. Null short values are the minimum short, so plain comparisons order them first,
+ * exactly as {@code ShortComparisons} does.
+ */
+final class ShortSimdFilters {
+
+    private ShortSimdFilters() {} // static use only
+
+    static ShortChunkFilter makeRangeFilter(short lower, short upper, boolean lowerInclusive, boolean upperInclusive) {
+        if (lowerInclusive) {
+            if (upperInclusive) {
+                return new InclusiveInclusiveFilter(lower, upper);
+            } else {
+                return new InclusiveExclusiveFilter(lower, upper);
+            }
+        } else {
+            if (upperInclusive) {
+                return new ExclusiveInclusiveFilter(lower, upper);
+            } else {
+                return new ExclusiveExclusiveFilter(lower, upper);
+            }
+        }
+    }
+
+    @Nullable
+    static ShortChunkFilter makeMatchFilter(final boolean inverted, final short... values) {
+        switch (values.length) {
+            case 1:
+                return new SingleValueFilter(inverted, values[0]);
+            case 2:
+                return new TwoValueFilter(inverted, values[0], values[1]);
+            case 3:
+                return new ThreeValueFilter(inverted, values[0], values[1], values[2]);
+            default:
+                // A hash set lookup is cheaper than comparing each value against every key
+                return null;
+        }
+    }
+
+    private abstract static class RangeFilter extends ShortSimdChunkFilter {
+        final short lower;
+        final short upper;
+
+        RangeFilter(short lower, short upper) {
+            this.lower = lower;
+            this.upper = upper;
+        }
+    }
+
+    private static final class InclusiveInclusiveFilter extends RangeFilter {
+        private InclusiveInclusiveFilter(short lower, short upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(short value) {
+            return value >= lower && value <= upper;
+        }
+
+        @Override
+        VectorMask<Short> matches(ShortVector values) {
+            return values.compare(VectorOperators.GE, lower).and(values.compare(VectorOperators.LE, upper));
+        }
+    }
+
+    private static final class InclusiveExclusiveFilter extends RangeFilter {
+        private InclusiveExclusiveFilter(short lower, short upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(short value) {
+            return value >= lower && value < upper;
+        }
+
+        @Override
+        VectorMask<Short> matches(ShortVector values) {
+            return values.compare(VectorOperators.GE, lower).and(values.compare(VectorOperators.LT, upper));
+        }
+    }
+
+    private static final class ExclusiveInclusiveFilter extends RangeFilter {
+        private ExclusiveInclusiveFilter(short lower, short upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(short value) {
+            return value > lower && value <= upper;
+        }
+
+        @Override
+        VectorMask<Short> matches(ShortVector values) {
+            return values.compare(VectorOperators.GT, lower).and(values.compare(VectorOperators.LE, upper));
+        }
+    }
+
+    private static final class ExclusiveExclusiveFilter extends RangeFilter {
+        private ExclusiveExclusiveFilter(short lower, short upper) {
+            super(lower, upper);
+        }
+
+        @Override
+        public boolean matches(short value) {
+            return value > lower && value < upper;
+        }
+
+        @Override
+        VectorMask<Short> matches(ShortVector values) {
+            return values.compare(VectorOperators.GT, lower).and(values.compare(VectorOperators.LT, upper));
+        }
+    }
+
+    private static final class SingleValueFilter extends ShortSimdChunkFilter {
+        private final boolean inverted;
+        private final short value;
+
+        private SingleValueFilter(boolean inverted, short value) {
+            this.inverted = inverted;
+            this.value = value;
+        }
+
+        @Override
+        public boolean matches(short value) {
+            return (value == this.value) != inverted;
+        }
+
+        @Override
+        VectorMask<Short> matches(ShortVector values) {
+            final VectorMask<Short> mask = values.compare(VectorOperators.EQ, value);
+            return inverted ? mask.not() : mask;
+        }
+    }
+
+    private static final class TwoValueFilter extends ShortSimdChunkFilter {
+        private final boolean inverted;
+        private final short value1;
+        private final short value2;
+
+        private TwoValueFilter(boolean inverted, short value1, short value2) {
+            this.inverted = inverted;
+            this.value1 = value1;
+            this.value2 = value2;
+        }
+
+        @Override
+        public boolean matches(short value) {
+            return (value == value1 || value == value2) != inverted;
+        }
+
+        @Override
+        VectorMask<Short> matches(ShortVector values) {
+            final VectorMask<Short> mask = values.compare(VectorOperators.EQ, value1)
+                    .or(values.compare(VectorOperators.EQ, value2));
+            return inverted ? mask.not() : mask;
+        }
+    }
+
+    private static final class ThreeValueFilter extends ShortSimdChunkFilter {
+        private final boolean inverted;
+        private final short value1;
+        private final short value2;
+        private final short value3;
+
+        private ThreeValueFilter(boolean inverted, short value1, short value2, short value3) {
+            this.inverted = inverted;
+            this.value1 = value1;
+            this.value2 = value2;
+            this.value3 = value3;
+        }
+
+        @Override
+        public boolean matches(short value) {
+            return (value == value1 || value == value2 || value == value3) != inverted;
+        }
+
+        @Override
+        VectorMask<Short> matches(ShortVector values) {
+            final VectorMask<Short> mask = values.compare(VectorOperators.EQ, value1)
+                    .or(values.compare(VectorOperators.EQ, value2))
+                    .or(values.compare(VectorOperators.EQ, value3));
+            return inverted ? mask.not() : mask;
+        }
+    }
+}
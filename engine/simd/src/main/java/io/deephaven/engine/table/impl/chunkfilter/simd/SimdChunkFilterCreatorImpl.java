@@ -0,0 +1,100 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.chunkfilter.simd;
+
+import com.google.auto.service.AutoService;
+import io.deephaven.engine.table.impl.chunkfilter.ByteChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.DoubleChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.FloatChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.IntChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.LongChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.ShortChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.SimdChunkFilters;
+
+/**
+ * Creates the SIMD chunk filters for byte, short, int, long, float and double values. There are no SIMD filters for
+ * char values, which would need unsigned comparisons that order the null char first.
+ */
+public final class SimdChunkFilterCreatorImpl implements SimdChunkFilters.SimdChunkFilterCreator {
+
+    @AutoService(SimdChunkFilters.SimdChunkFilterCreatorProvider.class)
+    public static final class SimdChunkFilterCreatorProvider
+            implements SimdChunkFilters.SimdChunkFilterCreatorProvider {
+
+        @Override
+        public SimdChunkFilters.SimdChunkFilterCreator get() {
+            return INSTANCE;
+        }
+    }
+
+    private static final SimdChunkFilters.SimdChunkFilterCreator INSTANCE = new SimdChunkFilterCreatorImpl();
+
+    private SimdChunkFilterCreatorImpl() {}
+
+    @Override
+    public ByteChunkFilter makeByteRangeFilter(
+            final byte lower, final byte upper, final boolean lowerInclusive, final boolean upperInclusive) {
+        return ByteSimdFilters.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+    }
+
+    @Override
+    public ShortChunkFilter makeShortRangeFilter(
+            final short lower, final short upper, final boolean lowerInclusive, final boolean upperInclusive) {
+        return ShortSimdFilters.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+    }
+
+    @Override
+    public IntChunkFilter makeIntRangeFilter(
+            final int lower, final int upper, final boolean lowerInclusive, final boolean upperInclusive) {
+        return IntSimdFilters.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+    }
+
+    @Override
+    public LongChunkFilter makeLongRangeFilter(
+            final long lower, final long upper, final boolean lowerInclusive, final boolean upperInclusive) {
+        return LongSimdFilters.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+    }
+
+    @Override
+    public FloatChunkFilter makeFloatRangeFilter(
+            final float lower, final float upper, final boolean lowerInclusive, final boolean upperInclusive) {
+        return FloatSimdFilters.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+    }
+
+    @Override
+    public DoubleChunkFilter makeDoubleRangeFilter(
+            final double lower, final double upper, final boolean lowerInclusive, final boolean upperInclusive) {
+        return DoubleSimdFilters.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+    }
+
+    @Override
+    public ByteChunkFilter makeByteMatchFilter(final boolean inverted, final byte... values) {
+        return ByteSimdFilters.makeMatchFilter(inverted, values);
+    }
+
+    @Override
+    public ShortChunkFilter makeShortMatchFilter(final boolean inverted, final short... values) {
+        return ShortSimdFilters.makeMatchFilter(inverted, values);
+    }
+
+    @Override
+    public IntChunkFilter makeIntMatchFilter(final boolean inverted, final int... values) {
+        return IntSimdFilters.makeMatchFilter(inverted, values);
+    }
+
+    @Override
+    public LongChunkFilter makeLongMatchFilter(final boolean inverted, final long... values) {
+        return LongSimdFilters.makeMatchFilter(inverted, values);
+    }
+
+    @Override
+    public FloatChunkFilter makeFloatMatchFilter(final boolean inverted, final float... values) {
+        return FloatSimdFilters.makeMatchFilter(inverted, values);
+    }
+
+    @Override
+    public DoubleChunkFilter makeDoubleMatchFilter(final boolean inverted, final double... values) {
+        return DoubleSimdFilters.makeMatchFilter(inverted, values);
+    }
+}
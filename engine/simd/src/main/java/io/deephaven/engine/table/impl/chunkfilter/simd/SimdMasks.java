@@ -0,0 +1,70 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.chunkfilter.simd;
+
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.WritableBooleanChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
+
+/**
+ * Helpers for applying the result of a vector comparison, as returned by {@code VectorMask.toLong()}, to the outputs
+ * of a chunk filter. Bit {@code i} of {@code bits} is the result for the value at {@code offset + i}.
+ */
+final class SimdMasks {
+
+    private SimdMasks() {} // static use only
+
+    /**
+     * Append the keys of the matching values to {@code results}.
+     */
+    static void appendMatchingKeys(
+            long bits,
+            final LongChunk<OrderedRowKeys> keys,
+            final int offset,
+            final WritableLongChunk<OrderedRowKeys> results) {
+        while (bits != 0) {
+            results.add(keys.get(offset + Long.numberOfTrailingZeros(bits)));
+            bits &= bits - 1;
+        }
+    }
+
+    /**
+     * Set {@code length} results from {@code bits}.
+     *
+     * @return the number of results set to true
+     */
+    static int setResults(
+            final long bits,
+            final int length,
+            final WritableBooleanChunk<Values> results,
+            final int offset) {
+        for (int ii = 0; ii < length; ++ii) {
+            results.set(offset + ii, ((bits >>> ii) & 1) != 0);
+        }
+        return Long.bitCount(bits);
+    }
+
+    /**
+     * AND {@code length} results with {@code bits}.
+     *
+     * @return the number of results that are true afterwards
+     */
+    static int andResults(
+            final long bits,
+            final int length,
+            final WritableBooleanChunk<Values> results,
+            final int offset) {
+        int count = 0;
+        for (int ii = 0; ii < length; ++ii) {
+            if (results.get(offset + ii)) {
+                final boolean newResult = ((bits >>> ii) & 1) != 0;
+                results.set(offset + ii, newResult);
+                count += newResult ? 1 : 0;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,235 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.simd;
+
+import io.deephaven.chunk.DoubleChunk;
+import io.deephaven.chunk.FloatChunk;
+import io.deephaven.chunk.IntChunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.impl.by.SimdAggregationKernels;
+import io.deephaven.util.mutable.MutableInt;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
+import static io.deephaven.util.QueryConstants.NULL_FLOAT;
+import static io.deephaven.util.QueryConstants.NULL_INT;
+import static io.deephaven.util.QueryConstants.NULL_LONG;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the SIMD sum, min and max loops against straightforward scalar loops. Floating point values are multiples of a
+ * power of two, so that their sums are exact in any order.
+ */
+public class SimdAggregationKernelTest {
+
+    private static final int[] SIZES = {0, 1, 7, 63, 64, 65, 511, 512, 513, 1000, 2048};
+
+    private final SimdAggregationKernels.SimdAggregationKernel kernel =
+            new SimdAggregationKernelImpl.SimdAggregationKernelProvider().get();
+    private final Random random = new Random(0);
+
+    @Test
+    public void testIntegral() {
+        for (final int size : SIZES) {
+            for (final int nullFrequency : new int[] {1, 3, 50, Integer.MAX_VALUE}) {
+                final int[] ints = new int[size];
+                final long[] longs = new long[size];
+                for (int ii = 0; ii < size; ++ii) {
+                    final boolean isNull = random.nextInt(nullFrequency) == 0;
+                    ints[ii] = isNull ? NULL_INT : random.nextInt();
+                    longs[ii] = isNull ? NULL_LONG : random.nextLong();
+                }
+                final int start = size / 5;
+                checkInts(IntChunk.chunkWrap(ints), start, size);
+                checkLongs(LongChunk.chunkWrap(longs), start, size);
+            }
+        }
+    }
+
+    @Test
+    public void testFloatingPoint() {
+        for (final int size : SIZES) {
+            for (final boolean specials : new boolean[] {false, true}) {
+                final float[] floats = new float[size];
+                final double[] doubles = new double[size];
+                for (int ii = 0; ii < size; ++ii) {
+                    final int kind = random.nextInt(20);
+                    if (kind == 0) {
+                        floats[ii] = NULL_FLOAT;
+                        doubles[ii] = NULL_DOUBLE;
+                    } else if (specials && kind == 1) {
+                        floats[ii] = Float.NaN;
+                        doubles[ii] = Double.NaN;
+                    } else if (specials && kind == 2) {
+                        floats[ii] = Float.POSITIVE_INFINITY;
+                        doubles[ii] = Double.POSITIVE_INFINITY;
+                    } else if (specials && kind == 3) {
+                        floats[ii] = Float.NEGATIVE_INFINITY;
+                        doubles[ii] = Double.NEGATIVE_INFINITY;
+                    } else {
+                        floats[ii] = (random.nextInt(4000) - 2000) / 8.0f;
+                        doubles[ii] = (random.nextInt(4000) - 2000) / 8.0;
+                    }
+                }
+                final int start = size / 5;
+                checkFloats(FloatChunk.chunkWrap(floats), start, size);
+                checkDoubles(DoubleChunk.chunkWrap(doubles), start, size);
+            }
+        }
+    }
+
+    private void checkInts(final IntChunk<?> values, final int start, final int end) {
+        long sum = 0;
+        int nonNull = 0;
+        int min = NULL_INT;
+        int max = NULL_INT;
+        for (int ii = start; ii < end; ++ii) {
+            final int value = values.get(ii);
+            if (value != NULL_INT) {
+                sum += value;
+                min = nonNull == 0 ? value : Math.min(min, value);
+                max = nonNull == 0 ? value : Math.max(max, value);
+                ++nonNull;
+            }
+        }
+
+        final MutableInt count = new MutableInt(7);
+        assertEquals(sum, kernel.sumIntChunk(values, start, end - start, count));
+        assertEquals(nonNull + 7, count.get());
+        assertEquals(min, kernel.minIntChunk(values, count, start, end));
+        assertEquals(nonNull, count.get());
+        assertEquals(max, kernel.maxIntChunk(values, count, start, end));
+        assertEquals(nonNull, count.get());
+    }
+
+    private void checkLongs(final LongChunk<?> values, final int start, final int end) {
+        long sum = 0;
+        int nonNull = 0;
+        long min = NULL_LONG;
+        long max = NULL_LONG;
+        for (int ii = start; ii < end; ++ii) {
+            final long value = values.get(ii);
+            if (value != NULL_LONG) {
+                sum += value;
+                min = nonNull == 0 ? value : Math.min(min, value);
+                max = nonNull == 0 ? value : Math.max(max, value);
+                ++nonNull;
+            }
+        }
+
+        final MutableInt count = new MutableInt(7);
+        assertEquals(sum, kernel.sumLongChunk(values, start, end - start, count));
+        assertEquals(nonNull + 7, count.get());
+        assertEquals(min, kernel.minLongChunk(values, count, start, end));
+        assertEquals(nonNull, count.get());
+        assertEquals(max, kernel.maxLongChunk(values, count, start, end));
+        assertEquals(nonNull, count.get());
+    }
+
+    private void checkFloats(final FloatChunk<Values> values, final int start, final int end) {
+        double sum = 0;
+        int normal = 0;
+        int nan = 0;
+        int infinity = 0;
+        int minusInfinity = 0;
+        int nonNull = 0;
+        float min = NULL_FLOAT;
+        float max = NULL_FLOAT;
+        for (int ii = start; ii < end; ++ii) {
+            final float value = values.get(ii);
+            if (Float.isNaN(value)) {
+                ++nan;
+            } else if (value == Float.POSITIVE_INFINITY) {
+                ++infinity;
+            } else if (value == Float.NEGATIVE_INFINITY) {
+                ++minusInfinity;
+            } else if (value != NULL_FLOAT) {
+                sum += value;
+                ++normal;
+            }
+            if (value != NULL_FLOAT) {
+                min = nonNull == 0 ? value : Math.min(min, value);
+                max = nonNull == 0 ? value : Math.max(max, value);
+                ++nonNull;
+            }
+        }
+
+        final MutableInt normalCount = new MutableInt(0);
+        final MutableInt nanCount = new MutableInt(0);
+        final MutableInt infinityCount = new MutableInt(0);
+        final MutableInt minusInfinityCount = new MutableInt(0);
+        assertEquals(sum, kernel.sumFloatChunk(values, start, end - start, normalCount, nanCount,
+                infinityCount, minusInfinityCount), 0.0);
+        assertEquals(normal, normalCount.get());
+        assertEquals(nan, nanCount.get());
+        assertEquals(infinity, infinityCount.get());
+        assertEquals(minusInfinity, minusInfinityCount.get());
+
+        final MutableInt count = new MutableInt(0);
+        if (nan > 0) {
+            assertTrue(Float.isNaN(kernel.minFloatChunk(values, count, start, end)));
+            assertTrue(Float.isNaN(kernel.maxFloatChunk(values, count, start, end)));
+        } else {
+            assertEquals(min, kernel.minFloatChunk(values, count, start, end), 0.0f);
+            assertEquals(nonNull, count.get());
+            assertEquals(max, kernel.maxFloatChunk(values, count, start, end), 0.0f);
+            assertEquals(nonNull, count.get());
+        }
+    }
+
+    private void checkDoubles(final DoubleChunk<Values> values, final int start, final int end) {
+        double sum = 0;
+        int normal = 0;
+        int nan = 0;
+        int infinity = 0;
+        int minusInfinity = 0;
+        int nonNull = 0;
+        double min = NULL_DOUBLE;
+        double max = NULL_DOUBLE;
+        for (int ii = start; ii < end; ++ii) {
+            final double value = values.get(ii);
+            if (Double.isNaN(value)) {
+                ++nan;
+            } else if (value == Double.POSITIVE_INFINITY) {
+                ++infinity;
+            } else if (value == Double.NEGATIVE_INFINITY) {
+                ++minusInfinity;
+            } else if (value != NULL_DOUBLE) {
+                sum += value;
+                ++normal;
+            }
+            if (value != NULL_DOUBLE) {
+                min = nonNull == 0 ? value : Math.min(min, value);
+                max = nonNull == 0 ? value : Math.max(max, value);
+                ++nonNull;
+            }
+        }
+
+        final MutableInt normalCount = new MutableInt(0);
+        final MutableInt nanCount = new MutableInt(0);
+        final MutableInt infinityCount = new MutableInt(0);
+        final MutableInt minusInfinityCount = new MutableInt(0);
+        assertEquals(sum, kernel.sumDoubleChunk(values, start, end - start, normalCount, nanCount,
+                infinityCount, minusInfinityCount), 0.0);
+        assertEquals(normal, normalCount.get());
+        assertEquals(nan, nanCount.get());
+        assertEquals(infinity, infinityCount.get());
+        assertEquals(minusInfinity, minusInfinityCount.get());
+
+        final MutableInt count = new MutableInt(0);
+        if (nan > 0) {
+            assertTrue(Double.isNaN(kernel.minDoubleChunk(values, count, start, end)));
+            assertTrue(Double.isNaN(kernel.maxDoubleChunk(values, count, start, end)));
+        } else {
+            assertEquals(min, kernel.minDoubleChunk(values, count, start, end), 0.0);
+            assertEquals(nonNull, count.get());
+            assertEquals(max, kernel.maxDoubleChunk(values, count, start, end), 0.0);
+            assertEquals(nonNull, count.get());
+        }
+    }
+}
@@ -0,0 +1,252 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.chunkfilter.simd;
+
+import io.deephaven.chunk.ByteChunk;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.DoubleChunk;
+import io.deephaven.chunk.FloatChunk;
+import io.deephaven.chunk.IntChunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.ShortChunk;
+import io.deephaven.chunk.WritableBooleanChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
+import io.deephaven.engine.table.MatchOptions;
+import io.deephaven.engine.table.impl.chunkfilter.ByteRangeComparator;
+import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.DoubleChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.chunkfilter.DoubleRangeComparator;
+import io.deephaven.engine.table.impl.chunkfilter.FloatRangeComparator;
+import io.deephaven.engine.table.impl.chunkfilter.IntChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.chunkfilter.IntRangeComparator;
+import io.deephaven.engine.table.impl.chunkfilter.LongChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.chunkfilter.LongRangeComparator;
+import io.deephaven.engine.table.impl.chunkfilter.ShortChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.chunkfilter.SimdChunkFilters;
+import io.deephaven.util.QueryConstants;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+
+/**
+ * Checks that each SIMD filter agrees with the scalar filter it replaces, including for null and NaN values and for
+ * chunk sizes that don't fill a vector.
+ */
+public class SimdChunkFiltersTest {
+
+    private static final int[] SIZES = {0, 1, 7, 63, 64, 65, 511, 512, 513, 2048};
+    private static final boolean[] BOOLEANS = {false, true};
+
+    private final SimdChunkFilters.SimdChunkFilterCreator simd =
+            new SimdChunkFilterCreatorImpl.SimdChunkFilterCreatorProvider().get();
+    private final Random random = new Random(0);
+
+    private boolean oldEnabled;
+
+    @Before
+    public void setUp() {
+        oldEnabled = SimdChunkFilters.ENABLED;
+        // the factories in engine-table must produce the scalar filters we compare against
+        SimdChunkFilters.ENABLED = false;
+    }
+
+    @After
+    public void tearDown() {
+        SimdChunkFilters.ENABLED = oldEnabled;
+    }
+
+    @Test
+    public void testByteRange() {
+        for (final int size : SIZES) {
+            final byte[] values = new byte[size];
+            random.nextBytes(values);
+            if (size > 0) {
+                values[size / 2] = QueryConstants.NULL_BYTE;
+            }
+            for (final boolean lowerInclusive : BOOLEANS) {
+                for (final boolean upperInclusive : BOOLEANS) {
+                    checkFilter(ByteChunk.chunkWrap(values),
+                            ByteRangeComparator.makeByteFilter((byte) -20, (byte) 40, lowerInclusive, upperInclusive),
+                            simd.makeByteRangeFilter((byte) -20, (byte) 40, lowerInclusive, upperInclusive));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testShortMatch() {
+        for (final int size : SIZES) {
+            final short[] values = new short[size];
+            for (int ii = 0; ii < size; ++ii) {
+                values[ii] = ii % 11 == 0 ? QueryConstants.NULL_SHORT : (short) random.nextInt(8);
+            }
+            for (final boolean inverted : BOOLEANS) {
+                final MatchOptions options = inverted ? MatchOptions.INVERTED : MatchOptions.REGULAR;
+                final short[][] keySets = {{3}, {1, QueryConstants.NULL_SHORT}, {0, 2, 7}};
+                for (final short[] keys : keySets) {
+                    checkFilter(ShortChunk.chunkWrap(values),
+                            ShortChunkMatchFilterFactory.makeFilter(options, keys),
+                            simd.makeShortMatchFilter(inverted, keys));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testIntRangeAndMatch() {
+        for (final int size : SIZES) {
+            final int[] values = new int[size];
+            for (int ii = 0; ii < size; ++ii) {
+                values[ii] = ii % 13 == 0 ? QueryConstants.NULL_INT : random.nextInt(1000) - 500;
+            }
+            for (final boolean lowerInclusive : BOOLEANS) {
+                for (final boolean upperInclusive : BOOLEANS) {
+                    checkFilter(IntChunk.chunkWrap(values),
+                            IntRangeComparator.makeIntFilter(-100, 250, lowerInclusive, upperInclusive),
+                            simd.makeIntRangeFilter(-100, 250, lowerInclusive, upperInclusive));
+                }
+            }
+            checkFilter(IntChunk.chunkWrap(values),
+                    IntChunkMatchFilterFactory.makeFilter(MatchOptions.REGULAR, QueryConstants.NULL_INT),
+                    simd.makeIntMatchFilter(false, QueryConstants.NULL_INT));
+        }
+    }
+
+    @Test
+    public void testLongRangeAndMatch() {
+        for (final int size : SIZES) {
+            final long[] values = new long[size];
+            for (int ii = 0; ii < size; ++ii) {
+                values[ii] = ii % 17 == 0 ? QueryConstants.NULL_LONG : random.nextInt(100);
+            }
+            for (final boolean lowerInclusive : BOOLEANS) {
+                for (final boolean upperInclusive : BOOLEANS) {
+                    checkFilter(LongChunk.chunkWrap(values),
+                            LongRangeComparator.makeLongFilter(10, 60, lowerInclusive, upperInclusive),
+                            simd.makeLongRangeFilter(10, 60, lowerInclusive, upperInclusive));
+                }
+            }
+            for (final boolean inverted : BOOLEANS) {
+                final MatchOptions options = inverted ? MatchOptions.INVERTED : MatchOptions.REGULAR;
+                checkFilter(LongChunk.chunkWrap(values),
+                        LongChunkMatchFilterFactory.makeFilter(options, 5, 50, QueryConstants.NULL_LONG),
+                        simd.makeLongMatchFilter(inverted, 5, 50, QueryConstants.NULL_LONG));
+            }
+        }
+    }
+
+    @Test
+    public void testFloatRange() {
+        final float[] bounds = {Float.NEGATIVE_INFINITY, -0.0f, 0.5f, Float.POSITIVE_INFINITY};
+        for (final int size : SIZES) {
+            final float[] values = new float[size];
+            for (int ii = 0; ii < size; ++ii) {
+                values[ii] = floatValue(ii);
+            }
+            for (final float lower : bounds) {
+                for (final float upper : bounds) {
+                    for (final boolean lowerInclusive : BOOLEANS) {
+                        for (final boolean upperInclusive : BOOLEANS) {
+                            checkFilter(FloatChunk.chunkWrap(values),
+                                    FloatRangeComparator.makeFloatFilter(lower, upper, lowerInclusive, upperInclusive),
+                                    simd.makeFloatRangeFilter(lower, upper, lowerInclusive, upperInclusive));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDoubleRangeAndMatch() {
+        for (final int size : SIZES) {
+            final double[] values = new double[size];
+            for (int ii = 0; ii < size; ++ii) {
+                values[ii] = ii % 7 == 0 ? QueryConstants.NULL_DOUBLE : floatValue(ii);
+            }
+            for (final boolean lowerInclusive : BOOLEANS) {
+                for (final boolean upperInclusive : BOOLEANS) {
+                    checkFilter(DoubleChunk.chunkWrap(values),
+                            DoubleRangeComparator.makeDoubleFilter(-0.25, 0.0, lowerInclusive, upperInclusive),
+                            simd.makeDoubleRangeFilter(-0.25, 0.0, lowerInclusive, upperInclusive));
+                }
+            }
+            for (final boolean inverted : BOOLEANS) {
+                final MatchOptions options = inverted ? MatchOptions.INVERTED : MatchOptions.REGULAR;
+                checkFilter(DoubleChunk.chunkWrap(values),
+                        DoubleChunkMatchFilterFactory.makeFilter(options, 0.0, QueryConstants.NULL_DOUBLE),
+                        simd.makeDoubleMatchFilter(inverted, 0.0, QueryConstants.NULL_DOUBLE));
+            }
+        }
+    }
+
+    private float floatValue(final int ii) {
+        switch (ii % 7) {
+            case 0:
+                return QueryConstants.NULL_FLOAT;
+            case 1:
+                return Float.NaN;
+            case 2:
+                return ii % 2 == 0 ? 0.0f : -0.0f;
+            case 3:
+                return ii % 2 == 0 ? Float.POSITIVE_INFINITY : Float.NEGATIVE_INFINITY;
+            default:
+                return random.nextFloat() * 2 - 1;
+        }
+    }
+
+    private static void checkFilter(
+            final Chunk<? extends Values> values,
+            final ChunkFilter scalar,
+            final ChunkFilter simd) {
+        assertNotNull(simd);
+        assertNotSame(scalar.getClass(), simd.getClass());
+        final int size = values.size();
+
+        try (final WritableLongChunk<OrderedRowKeys> keys = WritableLongChunk.makeWritableChunk(size);
+                final WritableLongChunk<OrderedRowKeys> expectedKeys = WritableLongChunk.makeWritableChunk(size);
+                final WritableLongChunk<OrderedRowKeys> actualKeys = WritableLongChunk.makeWritableChunk(size)) {
+            for (int ii = 0; ii < size; ++ii) {
+                keys.set(ii, 3L * ii + 1);
+            }
+            scalar.filter(values, keys, expectedKeys);
+            simd.filter(values, keys, actualKeys);
+            assertEquals(expectedKeys.size(), actualKeys.size());
+            for (int ii = 0; ii < expectedKeys.size(); ++ii) {
+                assertEquals(expectedKeys.get(ii), actualKeys.get(ii));
+            }
+        }
+
+        try (final WritableBooleanChunk<Values> expected = WritableBooleanChunk.makeWritableChunk(size);
+                final WritableBooleanChunk<Values> actual = WritableBooleanChunk.makeWritableChunk(size)) {
+            assertEquals(scalar.filter(values, expected), simd.filter(values, actual));
+            assertBooleansEqual(expected, actual);
+
+            // leave some results false before the filter is applied
+            for (int ii = 0; ii < size; ++ii) {
+                expected.set(ii, ii % 3 != 0);
+                actual.set(ii, ii % 3 != 0);
+            }
+            assertEquals(scalar.filterAnd(values, expected), simd.filterAnd(values, actual));
+            assertBooleansEqual(expected, actual);
+        }
+    }
+
+    private static void assertBooleansEqual(
+            final WritableBooleanChunk<Values> expected,
+            final WritableBooleanChunk<Values> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int ii = 0; ii < expected.size(); ++ii) {
+            assertEquals("index " + ii, expected.get(ii), actual.get(ii));
+        }
+    }
+}
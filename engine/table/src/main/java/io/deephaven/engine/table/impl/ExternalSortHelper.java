@@ -0,0 +1,330 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl;
+
+import io.deephaven.base.verify.Assert;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ChunkSource;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.impl.sort.LongSortKernel;
+import io.deephaven.engine.table.impl.sources.MappedFileLongColumnSource;
+import io.deephaven.util.QueryConstants;
+import io.deephaven.util.SafeCloseable;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts the row keys of a single primitive column without holding the whole sort in heap memory.
+ * <p>
+ * The input is read in runs that fit within the memory budget. Each run is sorted with the same {@link LongSortKernel}
+ * as an in-memory sort, and written to a local file as (sort key, row key) records, where the sort key is a
+ * {@code long} encoding of the value whose natural order matches the engine's ordering of the column's type. The runs
+ * are then merged with a streaming k-way merge into a file of row keys, which is memory-mapped to serve as the sort's
+ * redirection. Equal values are emitted in the order of their runs, so the result is identical to an in-memory sort.
+ */
+final class ExternalSortHelper {
+
+    /**
+     * A conservative estimate of the heap used per row while sorting a run: the row keys, the values, and the timsort
+     * scratch space for both.
+     */
+    static final int IN_MEMORY_BYTES_PER_ROW = 4 * Long.BYTES;
+
+    private static final int RECORD_BYTES = 2 * Long.BYTES;
+    private static final int MIN_BUFFER_BYTES = 1 << 16;
+    private static final int MAX_BUFFER_BYTES = 1 << 24;
+
+    private ExternalSortHelper() {}
+
+    /**
+     * @return whether values of {@code chunkType} can be encoded into sort keys for an external sort
+     */
+    static boolean canSort(@NotNull final ChunkType chunkType) {
+        switch (chunkType) {
+            case Byte:
+            case Char:
+            case Short:
+            case Int:
+            case Long:
+            case Float:
+            case Double:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Sort the row keys of {@code rowSet} by {@code columnSource}.
+     *
+     * @param order the order of the sort
+     * @param columnSource the column to sort by, which must have a chunk type for which {@link #canSort} is true
+     * @param rowSet the rows to sort
+     * @param usePrev whether to sort by the previous values of {@code columnSource}
+     * @param memoryBudget the approximate number of heap bytes the sort may use for its runs and merge buffers
+     * @param directory the directory in which to write the temporary run and result files
+     * @return a source of the sorted row keys, in positions {@code [0, rowSet.size())}
+     */
+    static MappedFileLongColumnSource sort(
+            @NotNull final SortingOrder order,
+            @NotNull final ColumnSource<?> columnSource,
+            @NotNull final RowSet rowSet,
+            final boolean usePrev,
+            final long memoryBudget,
+            @NotNull final Path directory) {
+        final List<Path> runFiles = new ArrayList<>();
+        try {
+            writeRuns(order, columnSource, rowSet, usePrev, memoryBudget, directory, runFiles);
+            return mergeRuns(order, rowSet.size(), memoryBudget, directory, runFiles);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to sort " + rowSet.size() + " rows in " + directory, e);
+        } finally {
+            for (final Path runFile : runFiles) {
+                deleteQuietly(runFile);
+            }
+        }
+    }
+
+    private static void writeRuns(
+            @NotNull final SortingOrder order,
+            @NotNull final ColumnSource<?> columnSource,
+            @NotNull final RowSet rowSet,
+            final boolean usePrev,
+            final long memoryBudget,
+            @NotNull final Path directory,
+            @NotNull final List<Path> runFiles) throws IOException {
+        final ChunkType chunkType = columnSource.getChunkType();
+        final SortKeyEncoder encoder = makeEncoder(chunkType);
+        final int runSize = (int) Math.max(1, Math.min(
+                Math.min(rowSet.size(), SortHelpers.sortChunkSize), memoryBudget / IN_MEMORY_BYTES_PER_ROW));
+        final ByteBuffer buffer = makeBuffer(memoryBudget / 8);
+
+        try (final LongSortKernel<Values, RowKeys> sortContext =
+                LongSortKernel.makeContext(chunkType, order, runSize, true);
+                final WritableLongChunk<RowKeys> runKeys = WritableLongChunk.makeWritableChunk(runSize);
+                final WritableChunk<Values> runValues = chunkType.makeWritableChunk(runSize);
+                final ChunkSource.FillContext fillContext = columnSource.makeFillContext(runSize);
+                final RowSequence.Iterator rsIt = rowSet.getRowSequenceIterator()) {
+            while (rsIt.hasMore()) {
+                final RowSequence runRows = rsIt.getNextRowSequenceWithLength(runSize);
+                runRows.fillRowKeyChunk(runKeys);
+                if (usePrev) {
+                    columnSource.fillPrevChunk(fillContext, runValues, runRows);
+                } else {
+                    columnSource.fillChunk(fillContext, runValues, runRows);
+                }
+                sortContext.sort(runKeys, runValues);
+
+                final Path runFile = Files.createTempFile(directory, "sort-run-", ".bin");
+                runFiles.add(runFile);
+                try (final FileChannel channel = FileChannel.open(runFile, StandardOpenOption.WRITE)) {
+                    final int size = runKeys.size();
+                    for (int ii = 0; ii < size; ++ii) {
+                        if (buffer.remaining() < RECORD_BYTES) {
+                            flush(buffer, channel);
+                        }
+                        buffer.putLong(encoder.encode(runValues, ii));
+                        buffer.putLong(runKeys.get(ii));
+                    }
+                    flush(buffer, channel);
+                }
+            }
+        }
+    }
+
+    private static MappedFileLongColumnSource mergeRuns(
+            @NotNull final SortingOrder order,
+            final long sortSize,
+            final long memoryBudget,
+            @NotNull final Path directory,
+            @NotNull final List<Path> runFiles) throws IOException {
+        final int bufferBytes = (int) Math.min(MAX_BUFFER_BYTES, memoryBudget / (runFiles.size() + 1));
+        final Comparator<RunReader> sortKeyOrder = order == SortingOrder.Ascending
+                ? Comparator.comparingLong(reader -> reader.sortKey)
+                : Comparator.comparingLong((RunReader reader) -> reader.sortKey).reversed();
+        // equal sort keys are taken from the earliest run, which holds the earliest rows
+        final PriorityQueue<RunReader> readers = new PriorityQueue<>(Math.max(1, runFiles.size()),
+                sortKeyOrder.thenComparingInt(reader -> reader.runIndex));
+
+        final List<RunReader> allReaders = new ArrayList<>(runFiles.size());
+        final Path resultFile = Files.createTempFile(directory, "sort-result-", ".bin");
+        try {
+            try (final SafeCloseable ignored = () -> SafeCloseable.closeAll(allReaders.stream());
+                    final FileChannel resultChannel =
+                            FileChannel.open(resultFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                for (int ri = 0; ri < runFiles.size(); ++ri) {
+                    final RunReader reader = new RunReader(ri, runFiles.get(ri), makeBuffer(bufferBytes));
+                    allReaders.add(reader);
+                    if (reader.advance()) {
+                        readers.add(reader);
+                    }
+                }
+
+                final ByteBuffer resultBuffer = makeBuffer(bufferBytes);
+                long written = 0;
+                while (!readers.isEmpty()) {
+                    final RunReader reader = readers.poll();
+                    if (!resultBuffer.hasRemaining()) {
+                        flush(resultBuffer, resultChannel);
+                    }
+                    resultBuffer.putLong(reader.rowKey);
+                    ++written;
+                    if (reader.advance()) {
+                        readers.add(reader);
+                    }
+                }
+                flush(resultBuffer, resultChannel);
+                Assert.eq(written, "written", sortSize, "sortSize");
+
+                return new MappedFileLongColumnSource(resultChannel, sortSize);
+            }
+        } finally {
+            // the mapping outlives the file on platforms that permit deleting mapped files
+            deleteQuietly(resultFile);
+        }
+    }
+
+    private static ByteBuffer makeBuffer(final long desiredBytes) {
+        final int bytes = (int) Math.max(MIN_BUFFER_BYTES, Math.min(MAX_BUFFER_BYTES, desiredBytes));
+        return ByteBuffer.allocate(bytes - bytes % RECORD_BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    private static void flush(@NotNull final ByteBuffer buffer, @NotNull final FileChannel channel)
+            throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void deleteQuietly(@NotNull final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    /**
+     * Reads the (sort key, row key) records of a single sorted run.
+     */
+    private static final class RunReader implements SafeCloseable {
+
+        private final int runIndex;
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        private long sortKey;
+        private long rowKey;
+
+        private RunReader(final int runIndex, @NotNull final Path runFile, @NotNull final ByteBuffer buffer)
+                throws IOException {
+            this.runIndex = runIndex;
+            this.channel = FileChannel.open(runFile, StandardOpenOption.READ);
+            this.buffer = buffer;
+            buffer.limit(0);
+        }
+
+        /**
+         * Read the next record of this run.
+         *
+         * @return false if this run is exhausted
+         */
+        private boolean advance() throws IOException {
+            if (buffer.remaining() < RECORD_BYTES) {
+                buffer.compact();
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // keep reading until the buffer is full or the run is exhausted
+                }
+                buffer.flip();
+                if (buffer.remaining() < RECORD_BYTES) {
+                    return false;
+                }
+            }
+            sortKey = buffer.getLong();
+            rowKey = buffer.getLong();
+            return true;
+        }
+
+        @Override
+        public void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Encodes the value at a position in a chunk as a {@code long}, such that the natural order of the encoded values
+     * matches the engine's ordering of the original values: nulls first, and for floating point values, {@code -0.0}
+     * equal to {@code 0.0} and {@code NaN} last.
+     */
+    @FunctionalInterface
+    private interface SortKeyEncoder {
+        long encode(@NotNull Chunk<? extends Values> values, int position);
+    }
+
+    private static SortKeyEncoder makeEncoder(@NotNull final ChunkType chunkType) {
+        switch (chunkType) {
+            case Byte:
+                return (values, position) -> values.asByteChunk().get(position);
+            case Char:
+                return (values, position) -> {
+                    final char value = values.asCharChunk().get(position);
+                    return value == QueryConstants.NULL_CHAR ? -1 : value;
+                };
+            case Short:
+                return (values, position) -> values.asShortChunk().get(position);
+            case Int:
+                return (values, position) -> values.asIntChunk().get(position);
+            case Long:
+                return (values, position) -> values.asLongChunk().get(position);
+            case Float:
+                return (values, position) -> {
+                    final float value = values.asFloatChunk().get(position);
+                    return value == QueryConstants.NULL_FLOAT ? Long.MIN_VALUE : encodeDouble(value);
+                };
+            case Double:
+                return (values, position) -> {
+                    final double value = values.asDoubleChunk().get(position);
+                    return value == QueryConstants.NULL_DOUBLE ? Long.MIN_VALUE : encodeDouble(value);
+                };
+            default:
+                throw new IllegalArgumentException("Cannot externally sort values of chunk type " + chunkType);
+        }
+    }
+
+    private static long encodeDouble(final double value) {
+        if (value == 0) {
+            // -0.0 and 0.0 are equal
+            return 0;
+        }
+        // canonicalizes NaN, which is then greater than positive infinity
+        final long bits = Double.doubleToLongBits(value);
+        // reverse the order of the negative values, whose magnitude increases with their bits
+        return bits >= 0 ? bits : bits ^ Long.MAX_VALUE;
+    }
+}
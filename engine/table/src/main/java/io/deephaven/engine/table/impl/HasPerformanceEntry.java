@@ -0,0 +1,24 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl;
+
+import io.deephaven.engine.table.impl.perf.PerformanceEntry;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An interface for notifications that perform the update tracked by a {@link PerformanceEntry performance entry}.
+ *
+ * <p>
+ * Notifications are created anew for each update, but the entry persists across cycles; the update graph uses it to
+ * remember how much work each notification has historically led to, and prioritizes the notifications on the critical
+ * path of a cycle accordingly.
+ * </p>
+ */
+public interface HasPerformanceEntry {
+    /**
+     * @return the performance entry for the update this notification performs, or null if it is not instrumented
+     */
+    @Nullable
+    PerformanceEntry getPerformanceEntry();
+}
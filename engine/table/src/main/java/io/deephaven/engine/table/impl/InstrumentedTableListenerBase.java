@@ -280,7 +280,8 @@ public abstract class InstrumentedTableListenerBase extends LivenessArtifact
         }
     }
 
-    protected abstract class NotificationBase extends AbstractNotification implements LogOutputAppendable {
+    protected abstract class NotificationBase extends AbstractNotification
+            implements LogOutputAppendable, HasPerformanceEntry {
 
         final TableUpdate update;
 
@@ -315,6 +316,11 @@ public abstract class InstrumentedTableListenerBase extends LivenessArtifact
             return InstrumentedTableListenerBase.this.canExecute(step);
         }
 
+        @Override
+        public final PerformanceEntry getPerformanceEntry() {
+            return entry;
+        }
+
         void doRun(final Runnable invokeOnUpdate) {
             try {
                 doRunInternal(invokeOnUpdate);
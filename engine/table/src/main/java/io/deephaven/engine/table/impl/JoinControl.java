@@ -3,6 +3,7 @@
 //
 package io.deephaven.engine.table.impl;
 
+import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.liveness.LivenessScopeStack;
 import io.deephaven.engine.table.DataIndex;
 import io.deephaven.engine.table.Table;
@@ -57,6 +58,36 @@ public class JoinControl {
         return DEFAULT_TARGET_LOAD_FACTOR;
     }
 
+    /**
+     * Determine how many contiguous segments the left side of a naturalJoin against a static right side should be
+     * probed in. Each segment is probed concurrently against the completed right side hash table.
+     *
+     * @param probeSize the number of left rows to probe
+     * @return the number of segments to probe in parallel, or 1 if the probe should be done serially
+     */
+    int staticProbeSegments(final long probeSize) {
+        if (QueryTable.DISABLE_PARALLEL_NATURAL_JOIN
+                || !ExecutionContext.getContext().getOperationInitializer().canParallelize()) {
+            return 1;
+        }
+        final int parallelismFactor = ExecutionContext.getContext().getOperationInitializer().parallelismFactor();
+        final long maximumSegments = QueryTable.FORCE_PARALLEL_NATURAL_JOIN
+                ? probeSize
+                : probeSize / QueryTable.PARALLEL_NATURAL_JOIN_ROWS_PER_SEGMENT;
+        return (int) Math.max(1, Math.min(parallelismFactor, maximumSegments));
+    }
+
+    /**
+     * Determine how many partitions of the hash table a static right side of a naturalJoin should be built in. Right
+     * rows are partitioned by hash slot, and each partition of the hash table is built concurrently.
+     *
+     * @param buildSize the number of right rows to build from
+     * @return the number of partitions to build in parallel, or 1 if the build should be done serially
+     */
+    int staticBuildPartitions(final long buildSize) {
+        return staticProbeSegments(buildSize);
+    }
+
     @Nullable
     DataIndex dataIndexToUse(Table table, ColumnSource<?>[] sources) {
         // Configuration property that serves as an escape hatch
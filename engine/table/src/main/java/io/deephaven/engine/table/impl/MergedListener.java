@@ -358,7 +358,7 @@ public abstract class MergedListener extends LivenessArtifact implements Notific
         }
     }
 
-    private class MergedNotification extends AbstractNotification {
+    private class MergedNotification extends AbstractNotification implements HasPerformanceEntry {
 
         public MergedNotification() {
             super(false);
@@ -434,5 +434,10 @@ public abstract class MergedListener extends LivenessArtifact implements Notific
         public boolean canExecute(final long step) {
             return MergedListener.this.canExecute(step);
         }
+
+        @Override
+        public PerformanceEntry getPerformanceEntry() {
+            return entry;
+        }
     }
 }
@@ -147,16 +147,17 @@ class NaturalJoinHelper {
                         initialHashTableSize, control.getMaximumLoadFactor(),
                         control.getTargetLoadFactor(), joinType, rightAddOnly);
 
-                jsm.buildFromRightSide(rightTable, bc.rightSources);
+                jsm.buildFromRightSide(rightTable, bc.rightSources, control.staticBuildPartitions(rightTable.size()));
                 if (bc.leftDataIndexTable != null) {
                     jsm.decorateLeftSide(bc.leftDataIndexTable.getRowSet(), bc.leftDataIndexSources, leftRedirections);
                     rowRedirection = jsm.buildIndexedRowRedirectionFromRedirections(leftTable,
                             bc.leftDataIndexTable.getRowSet(), leftRedirections, bc.leftDataIndexRowSetSource,
                             control.getRedirectionType(leftTable));
                 } else {
-                    jsm.decorateLeftSide(leftTable.getRowSet(), bc.leftSources, leftRedirections);
+                    final int probeSegments = control.staticProbeSegments(leftTable.size());
+                    jsm.decorateLeftSide(leftTable.getRowSet(), bc.leftSources, leftRedirections, probeSegments);
                     rowRedirection = jsm.buildRowRedirectionFromRedirections(leftTable, leftRedirections,
-                            control.getRedirectionType(leftTable));
+                            control.getRedirectionType(leftTable), probeSegments);
                 }
 
                 final QueryTable result = makeResult(leftTable, rightTable, columnsToAdd, rowRedirection, true);
@@ -258,10 +259,13 @@ class NaturalJoinHelper {
                         initialHashTableSize, control.getMaximumLoadFactor(),
                         control.getTargetLoadFactor(), joinType, rightAddOnly);
 
-                jsm.buildFromRightSide(rightTable, bc.rightSources);
-                jsm.decorateLeftSide(leftTable.getRowSet(), bc.leftSources, leftRedirections);
+                jsm.buildFromRightSide(rightTable, bc.rightSources, control.staticBuildPartitions(rightTable.size()));
+                // the right side hash table is complete and read-only from here, so the left side may be probed in
+                // parallel segments
+                final int probeSegments = control.staticProbeSegments(leftTable.size());
+                jsm.decorateLeftSide(leftTable.getRowSet(), bc.leftSources, leftRedirections, probeSegments);
                 rowRedirection = jsm.buildRowRedirectionFromRedirections(leftTable, leftRedirections,
-                        control.getRedirectionType(leftTable));
+                        control.getRedirectionType(leftTable), probeSegments);
             }
             return makeResult(leftTable, rightTable, columnsToAdd, rowRedirection, false);
         }
@@ -333,6 +333,51 @@ public class QueryTable extends BaseTable<QueryTable> {
     public static long MINIMUM_PARALLEL_SNAPSHOT_ROWS =
             Configuration.getInstance().getLongWithDefault("QueryTable.minimumParallelSnapshotRows", 1L << 20);
 
+    /**
+     * For unit tests we may like to force the partitioned parallel build of static aggregations to exercise the
+     * partial state merge path.
+     */
+    public static boolean FORCE_PARALLEL_AGGREGATION =
+            Configuration.getInstance().getBooleanWithDefault("QueryTable.forceParallelAggregation", false);
+
+    /**
+     * You can choose to disable the partitioned parallel build of static aggregations.
+     */
+    public static boolean DISABLE_PARALLEL_AGGREGATION =
+            Configuration.getInstance().getBooleanWithDefault("QueryTable.disableParallelAggregation", false);
+
+    /**
+     * The minimum number of input rows in each segment of a partitioned parallel aggregation build.
+     */
+    public static long PARALLEL_AGGREGATION_ROWS_PER_SEGMENT =
+            Configuration.getInstance().getLongWithDefault("QueryTable.parallelAggregationRowsPerSegment", 1L << 20);
+
+    /**
+     * The number of segments for a partitioned parallel aggregation build. Values less than or equal to zero use the
+     * parallelism factor of the operation initializer.
+     */
+    public static int PARALLEL_AGGREGATION_SEGMENTS =
+            Configuration.getInstance().getIntegerWithDefault("QueryTable.parallelAggregationSegments", -1);
+
+    /**
+     * For unit tests we may like to force the static right side of a naturalJoin to be built in parallel partitions,
+     * and the left side to be probed in parallel segments.
+     */
+    public static boolean FORCE_PARALLEL_NATURAL_JOIN =
+            Configuration.getInstance().getBooleanWithDefault("QueryTable.forceParallelNaturalJoin", false);
+
+    /**
+     * You can choose to disable the parallel build and probe of a naturalJoin against a static right side.
+     */
+    public static boolean DISABLE_PARALLEL_NATURAL_JOIN =
+            Configuration.getInstance().getBooleanWithDefault("QueryTable.disableParallelNaturalJoin", false);
+
+    /**
+     * The minimum number of rows in each segment of a parallel naturalJoin probe, or partition of a parallel build.
+     */
+    public static long PARALLEL_NATURAL_JOIN_ROWS_PER_SEGMENT =
+            Configuration.getInstance().getLongWithDefault("QueryTable.parallelNaturalJoinRowsPerSegment", 1L << 20);
+
     /**
      * If set to true, then the default behavior of condition filters is to be stateless. Stateless filters are allowed
      * to be processed in parallel by the engine. Also, enabling this setting allows the engine to push down filters to
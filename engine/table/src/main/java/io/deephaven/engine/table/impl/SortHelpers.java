@@ -11,11 +11,14 @@ import io.deephaven.chunk.attributes.ChunkLengths;
 import io.deephaven.chunk.attributes.ChunkPositions;
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.primitive.iterator.CloseableIterator;
 import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.RowSequenceFactory;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ChunkSink;
+import io.deephaven.engine.table.ChunkSource;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.DataIndex;
 import io.deephaven.engine.table.Table;
@@ -30,7 +33,10 @@ import io.deephaven.engine.table.impl.sources.*;
 import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
 import io.deephaven.engine.table.impl.util.ContiguousWritableRowRedirection;
 import io.deephaven.engine.table.impl.util.GroupedWritableRowRedirection;
+import io.deephaven.engine.table.impl.util.JobScheduler;
+import io.deephaven.engine.table.impl.util.LongColumnSourceRowRedirection;
 import io.deephaven.engine.table.impl.util.LongColumnSourceWritableRowRedirection;
+import io.deephaven.engine.table.impl.util.OperationInitializerJobScheduler;
 import io.deephaven.engine.table.impl.util.RowRedirection;
 import io.deephaven.engine.table.impl.util.StaticWrappedRowSetRowRedirection;
 import io.deephaven.engine.table.impl.util.WritableRowRedirection;
@@ -41,7 +47,9 @@ import io.deephaven.util.datastructures.LongSizedDataStructure;
 import io.deephaven.util.mutable.MutableInt;
 import io.deephaven.util.type.ArrayTypeUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.nio.file.Paths;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.function.LongPredicate;
@@ -104,6 +112,41 @@ public class SortHelpers {
     @VisibleForTesting
     static int sortChunkSize = Configuration.getInstance().getIntegerWithDefault("QueryTable.sortChunkSize", 1 << 30);
 
+    /**
+     * Whether sorts of static tables and initial snapshots may sort contiguous segments of their input concurrently on
+     * the operation initializer, and then merge the sorted segments.
+     */
+    public static boolean PARALLEL_SORT =
+            Configuration.getInstance().getBooleanWithDefault("SortHelpers.parallelSort", true);
+
+    /**
+     * The minimum number of rows in each segment of a parallel sort.
+     */
+    @VisibleForTesting
+    static long parallelSortRowsPerSegment =
+            Configuration.getInstance().getLongWithDefault("SortHelpers.parallelSortRowsPerSegment", 1L << 20);
+
+    /**
+     * Whether sorts of static tables by a single primitive column may spill sorted runs to disk rather than sorting
+     * entirely on the heap, when their estimated footprint exceeds {@link #externalSortMemoryBudget}.
+     */
+    public static boolean EXTERNAL_SORT =
+            Configuration.getInstance().getBooleanWithDefault("SortHelpers.externalSort", false);
+
+    /**
+     * The approximate number of heap bytes an external sort may use. Sorts whose estimated in-memory footprint is
+     * larger than this budget are performed externally when {@link #EXTERNAL_SORT} is true.
+     */
+    @VisibleForTesting
+    static long externalSortMemoryBudget =
+            Configuration.getInstance().getLongWithDefault("SortHelpers.externalSortMemoryBudget", 1L << 30);
+
+    /**
+     * The directory in which an external sort writes its temporary files.
+     */
+    public static String externalSortDirectory = Configuration.getInstance()
+            .getStringWithDefault("SortHelpers.externalSortDirectory", System.getProperty("java.io.tmpdir"));
+
     interface SortMapping extends LongSizedDataStructure {
         long size();
 
@@ -200,6 +243,43 @@ public class SortHelpers {
         }
     }
 
+    final static class ExternalSortMapping implements SortMapping {
+        /**
+         * The mapping as a memory-mapped column source, in locations 0..size-1
+         */
+        final MappedFileLongColumnSource columnSource;
+
+        private ExternalSortMapping(MappedFileLongColumnSource columnSource) {
+            this.columnSource = columnSource;
+        }
+
+        @Override
+        public long size() {
+            return columnSource.size();
+        }
+
+        @NotNull
+        public long[] getArrayMapping() {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        @Override
+        public boolean forEachLong(LongPredicate consumer) {
+            final long size = columnSource.size();
+            for (long ii = 0; ii < size; ++ii) {
+                if (!consumer.test(columnSource.getLong(ii))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public RowRedirection makeHistoricalRowRedirection() {
+            return new LongColumnSourceRowRedirection<>(columnSource);
+        }
+    }
+
     final static class IndexedSortMapping implements SortMapping {
         private final long size;
         private final long[] groupSize;
@@ -316,6 +396,28 @@ public class SortHelpers {
             final RowSet rowSetToSort,
             final boolean usePrev,
             final AllowSymbolTable allowSymbolTable) {
+        return getSortedKeys(order, originalColumnsToSortBy, columnsToSortBy, comparators, comparatorsRespectEquality,
+                dataIndex, rowSetToSort, usePrev, allowSymbolTable, false);
+    }
+
+    /**
+     * Note that if usePrev is true, then rowSetToSort is the previous RowSet; not the current RowSet, and we should not
+     * need to call prev().
+     *
+     * @param allowExternalSort whether the result may be an {@link ExternalSortMapping}, which only supports
+     *        {@link SortMapping#makeHistoricalRowRedirection()} and {@link SortMapping#forEachLong(LongPredicate)}
+     */
+    static SortMapping getSortedKeys(
+            SortingOrder[] order,
+            ColumnSource<Comparable<?>>[] originalColumnsToSortBy,
+            ColumnSource<Comparable<?>>[] columnsToSortBy,
+            Comparator[] comparators,
+            boolean[] comparatorsRespectEquality,
+            final DataIndex dataIndex,
+            final RowSet rowSetToSort,
+            final boolean usePrev,
+            final AllowSymbolTable allowSymbolTable,
+            final boolean allowExternalSort) {
         if (rowSetToSort.isEmpty()) {
             return EMPTY_SORT_MAPPING;
         }
@@ -373,6 +475,9 @@ public class SortHelpers {
                     && ((SymbolTableSource<Comparable<?>>) columnsToSortBy[0]).hasSymbolTable(rowSetToSort)) {
                 return doSymbolTableMapping(order[0], columnsToSortBy[0], comparators[0], comparatorsRespectEquality[0],
                         rowSetToSort, usePrev);
+            } else if (allowExternalSort && useExternalSort(columnsToSortBy[0], comparators[0], rowSetToSort.size())) {
+                return new ExternalSortMapping(ExternalSortHelper.sort(order[0], columnsToSortBy[0], rowSetToSort,
+                        usePrev, externalSortMemoryBudget, Paths.get(externalSortDirectory)));
             } else {
                 return getSortMappingOne(order[0], columnsToSortBy[0], comparators[0], rowSetToSort, usePrev);
             }
@@ -585,6 +690,19 @@ public class SortHelpers {
         }
     }
 
+    /**
+     * @return whether a sort of {@code sortSize} rows by {@code columnSource} should spill to disk
+     */
+    private static boolean useExternalSort(
+            final ColumnSource<Comparable<?>> columnSource,
+            final Comparator comparator,
+            final long sortSize) {
+        return EXTERNAL_SORT
+                && comparator == null
+                && ExternalSortHelper.canSort(columnSource.getChunkType())
+                && sortSize > externalSortMemoryBudget / ExternalSortHelper.IN_MEMORY_BYTES_PER_ROW;
+    }
+
     private static SortMapping getSortMappingOne(final SortingOrder order,
             final ColumnSource<Comparable<?>> columnSource,
             final Comparator comparator,
@@ -598,10 +716,137 @@ public class SortHelpers {
                         "Cannot sort more than " + megaSortSize + " rows with a comparator");
             }
             return doMegaSortOne(order, columnSource, rowSet, usePrev, sortSize);
-        } else {
-            return new ArraySortMapping(
-                    doChunkSortingOne(order, columnSource, comparator, rowSet, usePrev, (int) sortSize));
         }
+        final int segments = parallelSortSegments(columnSource, comparator, sortSize);
+        if (segments > 1) {
+            final long[] rowKeysArray = new long[(int) sortSize];
+            doParallelChunkSort(order, columnSource, rowSet, usePrev, segments, rowKeysArray, null);
+            return new ArraySortMapping(rowKeysArray);
+        }
+        return new ArraySortMapping(
+                doChunkSortingOne(order, columnSource, comparator, rowSet, usePrev, (int) sortSize));
+    }
+
+    /**
+     * Determine how many contiguous segments a sort of {@code sortSize} rows by {@code columnSource} should be split
+     * into.
+     *
+     * @return the number of segments to sort in parallel, or 1 if the sort should be done serially
+     */
+    private static int parallelSortSegments(
+            final ColumnSource<Comparable<?>> columnSource,
+            final Comparator comparator,
+            final long sortSize) {
+        // the merge kernels do not support comparators, and booleans are radix sorted in a single cheap pass
+        if (!PARALLEL_SORT || comparator != null || columnSource.getChunkType() == ChunkType.Boolean) {
+            return 1;
+        }
+        final ExecutionContext executionContext = ExecutionContext.getContext();
+        if (!executionContext.getOperationInitializer().canParallelize()
+                || executionContext.getUpdateGraph().currentThreadProcessesUpdates()) {
+            return 1;
+        }
+        final int parallelismFactor = executionContext.getOperationInitializer().parallelismFactor();
+        return (int) Math.max(1, Math.min(parallelismFactor, sortSize / parallelSortRowsPerSegment));
+    }
+
+    /**
+     * Sort the row keys of {@code rowSet} by {@code columnSource} into {@code rowKeysArray}. Contiguous segments of
+     * {@code rowSet} are filled and sorted concurrently, and adjacent sorted runs are then merged pairwise, also
+     * concurrently. The merge never places a row from a later run before an equal row from an earlier run, so the
+     * result is identical to a serial sort.
+     *
+     * @param rowKeysArray the array to fill with the sorted row keys, of size {@code rowSet.size()}
+     * @param values if not null, the chunk to fill with the sorted values, of size {@code rowSet.size()}
+     */
+    private static void doParallelChunkSort(
+            final SortingOrder order,
+            final ColumnSource<Comparable<?>> columnSource,
+            final RowSet rowSet,
+            final boolean usePrev,
+            final int segments,
+            @NotNull final long[] rowKeysArray,
+            @Nullable final WritableChunk<Values> values) {
+        final int sortSize = rowSet.intSize();
+        final int segmentSize = (sortSize + segments - 1) / segments;
+        final ChunkType chunkType = columnSource.getChunkType();
+
+        // The sorted runs are merged within these sources, which are fully allocated up front so that disjoint ranges
+        // may be written concurrently.
+        final LongArraySource mergedKeys = new LongArraySource();
+        mergedKeys.ensureCapacity(sortSize, false);
+        final WritableColumnSource<?> mergedValues =
+                ArrayBackedColumnSource.getMemoryColumnSource(0, columnSource.getType());
+        mergedValues.ensureCapacity(sortSize, false);
+
+        final JobScheduler jobScheduler = new OperationInitializerJobScheduler();
+        jobScheduler.iterateParallelAndWait("sort parallel segment sort", segments, segment -> {
+            final int firstPosition = segment * segmentSize;
+            final int length = Math.min(segmentSize, sortSize - firstPosition);
+            if (length <= 0) {
+                return;
+            }
+            try (final RowSet segmentRows = rowSet.subSetByPositionRange(firstPosition, firstPosition + length);
+                    final WritableChunk<Values> segmentValues = makeAndFillValues(usePrev, segmentRows, columnSource);
+                    final WritableLongChunk<RowKeys> segmentKeys = WritableLongChunk.makeWritableChunk(length);
+                    final LongSortKernel<Values, RowKeys> sortContext =
+                            LongSortKernel.makeContext(chunkType, order, length, true);
+                    final RowSequence destination =
+                            RowSequenceFactory.forRange(firstPosition, firstPosition + length - 1);
+                    final ChunkSink.FillFromContext keysContext = mergedKeys.makeFillFromContext(length);
+                    final ChunkSink.FillFromContext valuesContext = mergedValues.makeFillFromContext(length)) {
+                segmentRows.fillRowKeyChunk(segmentKeys);
+                sortContext.sort(segmentKeys, segmentValues);
+                mergedKeys.fillFromChunk(keysContext, segmentKeys, destination);
+                mergedValues.fillFromChunk(valuesContext, segmentValues, destination);
+            }
+        });
+
+        final LongMegaMergeKernel<Values, RowKeys> mergeKernel = LongMegaMergeKernel.makeContext(chunkType, order);
+        for (int step = 1; step < segments; step <<= 1) {
+            final long runSize = (long) segmentSize * step;
+            final int stride = step << 1;
+            final int mergeCount = (segments - step + stride - 1) / stride;
+            jobScheduler.iterateParallelAndWait("sort parallel merge", mergeCount, merge -> {
+                final long firstRunStart = merge * 2 * runSize;
+                final long secondRunStart = firstRunStart + runSize;
+                if (secondRunStart >= sortSize) {
+                    return;
+                }
+                final int secondRunLength = (int) Math.min(runSize, sortSize - secondRunStart);
+                // copy out the second run, so that the kernel can merge it into place after the first run
+                try (final RowSequence secondRun =
+                        RowSequenceFactory.forRange(secondRunStart, secondRunStart + secondRunLength - 1);
+                        final WritableLongChunk<RowKeys> secondKeys =
+                                WritableLongChunk.makeWritableChunk(secondRunLength);
+                        final WritableChunk<Values> secondValues = chunkType.makeWritableChunk(secondRunLength);
+                        final ChunkSource.FillContext keysContext = mergedKeys.makeFillContext(secondRunLength);
+                        final ChunkSource.FillContext valuesContext =
+                                mergedValues.makeFillContext(secondRunLength)) {
+                    mergedKeys.fillChunk(keysContext, WritableLongChunk.<Values, RowKeys>upcast(secondKeys), secondRun);
+                    mergedValues.fillChunk(valuesContext, secondValues, secondRun);
+                    mergeKernel.merge(mergedKeys, mergedValues, firstRunStart, runSize, secondKeys, secondValues);
+                }
+            });
+        }
+
+        jobScheduler.iterateParallelAndWait("sort parallel copy", segments, segment -> {
+            final int firstPosition = segment * segmentSize;
+            final int length = Math.min(segmentSize, sortSize - firstPosition);
+            if (length <= 0) {
+                return;
+            }
+            try (final RowSequence sorted = RowSequenceFactory.forRange(firstPosition, firstPosition + length - 1);
+                    final ChunkSource.FillContext keysContext = mergedKeys.makeFillContext(length);
+                    final ChunkSource.FillContext valuesContext =
+                            values == null ? null : mergedValues.makeFillContext(length)) {
+                mergedKeys.fillChunk(keysContext,
+                        WritableLongChunk.writableChunkWrap(rowKeysArray, firstPosition, length), sorted);
+                if (values != null) {
+                    mergedValues.fillChunk(valuesContext, values.slice(firstPosition, length), sorted);
+                }
+            }
+        });
     }
 
     @NotNull
@@ -799,14 +1044,20 @@ public class SortHelpers {
                 });
             }
         } else {
-            rowSet.fillRowKeyChunk(rowKeys);
-
             final ChunkType chunkType = columnSource.getChunkType();
 
-            final WritableChunk<Values> values = makeAndFillValues(usePrev, rowSet, columnSource);
-            try (final LongSortKernel<Values, RowKeys> sortContext =
-                    getSortContext(columnSource, order[0], sortSize, comparators[0], true)) {
-                sortContext.sort(rowKeys, values);
+            final WritableChunk<Values> values;
+            final int segments = parallelSortSegments(columnSource, comparators[0], sortSize);
+            if (segments > 1) {
+                values = chunkType.makeWritableChunk(sortSize);
+                doParallelChunkSort(order[0], columnSource, rowSet, usePrev, segments, rowKeysArray, values);
+            } else {
+                rowSet.fillRowKeyChunk(rowKeys);
+                values = makeAndFillValues(usePrev, rowSet, columnSource);
+                try (final LongSortKernel<Values, RowKeys> sortContext =
+                        getSortContext(columnSource, order[0], sortSize, comparators[0], true)) {
+                    sortContext.sort(rowKeys, values);
+                }
             }
 
             final FindRunsKernel findRunsKernel = FindRunsKernel.getInstance(chunkType);
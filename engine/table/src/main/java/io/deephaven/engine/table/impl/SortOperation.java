@@ -272,7 +272,8 @@ public class SortOperation implements QueryTable.MemoizableOperation<QueryTable>
         if (!parent.isRefreshing()) {
             final SortHelpers.SortMapping sortedKeys =
                     SortHelpers.getSortedKeys(sortOrder, originalSortColumns, sortColumns, comparators,
-                            comparatorsRespectEquality, dataIndex, parent.getRowSet(), false, ALLOW_SYMBOL_TABLE);
+                            comparatorsRespectEquality, dataIndex, parent.getRowSet(), false, ALLOW_SYMBOL_TABLE,
+                            true);
             return new Result<>(historicalSort(sortedKeys));
         }
         if (parent.isBlink()) {
@@ -10,6 +10,7 @@ import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.impl.sources.LongArraySource;
 import io.deephaven.engine.table.impl.sources.LongSparseArraySource;
 import io.deephaven.engine.table.impl.util.*;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
 import java.util.Objects;
@@ -100,6 +101,36 @@ public abstract class StaticNaturalJoinStateManager {
         throw new IllegalStateException("Bad redirectionType: " + redirectionType);
     }
 
+    /**
+     * Build a row redirection as in {@link #buildRowRedirection(QueryTable, LongUnaryOperator,
+     * JoinControl.RedirectionType)}, filling a {@link JoinControl.RedirectionType#Contiguous contiguous} redirection in
+     * {@code segments} parallel segments. Other redirection types are not safe for concurrent population, and are
+     * always built serially.
+     */
+    public WritableRowRedirection buildRowRedirection(QueryTable leftTable, LongUnaryOperator rightSideFromSlot,
+            JoinControl.RedirectionType redirectionType, int segments) {
+        if (segments <= 1 || redirectionType != JoinControl.RedirectionType.Contiguous) {
+            return buildRowRedirection(leftTable, rightSideFromSlot, redirectionType);
+        }
+        if (!leftTable.isFlat()) {
+            throw new IllegalStateException("Left table is not flat for contiguous row redirection build!");
+        }
+        final long[] innerIndex = new long[leftTable.intSize("contiguous redirection build")];
+        final int positionsPerSegment = (innerIndex.length + segments - 1) / segments;
+        final JobScheduler jobScheduler = new OperationInitializerJobScheduler();
+        jobScheduler.iterateParallelAndWait("naturalJoin parallel redirection build", segments, segment -> {
+            final int firstPosition = segment * positionsPerSegment;
+            final int lastPosition = Math.min(innerIndex.length, firstPosition + positionsPerSegment);
+            for (int ii = firstPosition; ii < lastPosition; ++ii) {
+                final long rightSide = rightSideFromSlot.applyAsLong(ii);
+                // the left table is flat, so the position is the row key
+                checkExactMatch(ii, rightSide);
+                innerIndex[ii] = rightSide;
+            }
+        });
+        return new ContiguousWritableRowRedirection(innerIndex);
+    }
+
     protected abstract void decorateLeftSide(RowSet leftRowSet, ColumnSource<?>[] leftSources,
             final LongArraySource leftRedirections);
 }
@@ -38,6 +38,11 @@ class AggAllByExcludeFormattingColumns implements AggSpec.Visitor {
         drop();
     }
 
+    @Override
+    public void visit(AggSpecApproximateCountDistinct approxCountDistinct) {
+        drop();
+    }
+
     @Override
     public void visit(AggSpecApproximatePercentile approxPct) {
         drop();
@@ -103,6 +108,11 @@ class AggAllByExcludeFormattingColumns implements AggSpec.Visitor {
         drop();
     }
 
+    @Override
+    public void visit(AggSpecSketchPercentile sketchPct) {
+        drop();
+    }
+
     @Override
     public void visit(AggSpecSortedFirst sortedFirst) {
         keep();
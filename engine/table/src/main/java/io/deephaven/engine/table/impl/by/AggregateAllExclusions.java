@@ -44,6 +44,11 @@ public final class AggregateAllExclusions implements Visitor {
         out = Collections.emptySet();
     }
 
+    @Override
+    public void visit(AggSpecApproximateCountDistinct approxCountDistinct) {
+        out = Collections.emptySet();
+    }
+
     @Override
     public void visit(AggSpecApproximatePercentile approxPct) {
         out = Collections.emptySet();
@@ -109,6 +114,11 @@ public final class AggregateAllExclusions implements Visitor {
         out = Collections.emptySet();
     }
 
+    @Override
+    public void visit(AggSpecSketchPercentile sketchPct) {
+        out = Collections.emptySet();
+    }
+
     @Override
     public void visit(AggSpecSortedFirst sortedFirst) {
         out = Collections.emptySet();
@@ -10,10 +10,12 @@ import io.deephaven.engine.table.impl.TableUpdateImpl;
 import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.engine.table.impl.perf.PerformanceEntry;
 import io.deephaven.engine.table.impl.sort.permute.PermuteKernel;
+import io.deephaven.chunk.IntChunk;
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.chunk.WritableChunk;
 import io.deephaven.engine.table.impl.util.UpdateSizeCalculator;
 import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
@@ -65,6 +67,12 @@ public class AggregationContext {
      */
     private final boolean unchunkedIndices;
 
+    /**
+     * Do all operators support merging partial state? See
+     * {@link IterativeChunkedAggregationOperator#supportsPartialStateMerge()}.
+     */
+    private final boolean supportsPartialStateMerge;
+
     /**
      * Our overall result columns.
      */
@@ -95,6 +103,8 @@ public class AggregationContext {
                 Arrays.stream(this.operators).anyMatch(IterativeChunkedAggregationOperator::requiresRunFinds);
         requiresInputs = Arrays.stream(this.inputColumns).anyMatch(Objects::nonNull);
         unchunkedIndices = Arrays.stream(this.operators).allMatch(IterativeChunkedAggregationOperator::unchunkedRowSet);
+        supportsPartialStateMerge =
+                Arrays.stream(this.operators).allMatch(IterativeChunkedAggregationOperator::supportsPartialStateMerge);
         // noinspection unchecked
         resultColumns = merge(Arrays.stream(this.operators).map(IterativeChunkedAggregationOperator::getResultColumns)
                 .toArray(Map[]::new));
@@ -151,6 +161,10 @@ public class AggregationContext {
         return requiresInputs;
     }
 
+    boolean supportsPartialStateMerge() {
+        return supportsPartialStateMerge;
+    }
+
     int inputSlot(int oi) {
         return inputSlots[oi];
     }
@@ -170,6 +184,21 @@ public class AggregationContext {
         }
     }
 
+    /**
+     * Merge the state of each operator in {@code partialContext} into the parallel operator of this context.
+     *
+     * @param partialContext a context made by the same factory as this one, holding partial state
+     * @param firstPartialDestination the first destination in {@code partialContext} to merge
+     * @param destinations the destinations in this context to merge into, parallel to the contiguous partial
+     *        destinations starting at {@code firstPartialDestination}
+     */
+    void mergePartialState(@NotNull final AggregationContext partialContext, final int firstPartialDestination,
+            @NotNull final IntChunk<RowKeys> destinations) {
+        for (int oi = 0; oi < size(); ++oi) {
+            operators[oi].mergePartialState(partialContext.operators[oi], firstPartialDestination, destinations);
+        }
+    }
+
     void startTrackingPrevValues() {
         for (final IterativeChunkedAggregationOperator operator : operators) {
             operator.startTrackingPrevValues();
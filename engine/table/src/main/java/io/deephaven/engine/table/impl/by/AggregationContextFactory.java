@@ -23,4 +23,16 @@ public interface AggregationContextFactory {
      */
     AggregationContext makeAggregationContext(
             @NotNull Table table, boolean requireStateChangeRecorder, @NotNull String... groupByColumns);
+
+    /**
+     * Whether every row key of the input table keeps the same group-by values for as long as the input exists, and the
+     * input never shifts, as when re-aggregating the result of another aggregation by a subset of its keys. If so, the
+     * aggregation may remember the state each input row was added to, rather than hashing its keys again when it is
+     * modified or removed.
+     *
+     * @return Whether input row keys always map to the same state
+     */
+    default boolean inputRowKeysHaveStableStates() {
+        return false;
+    }
 }
@@ -7,6 +7,7 @@ import io.deephaven.api.*;
 import io.deephaven.api.agg.*;
 import io.deephaven.api.agg.spec.AggSpec;
 import io.deephaven.api.agg.spec.AggSpecAbsSum;
+import io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct;
 import io.deephaven.api.agg.spec.AggSpecApproximatePercentile;
 import io.deephaven.api.agg.spec.AggSpecAvg;
 import io.deephaven.api.agg.spec.AggSpecCountDistinct;
@@ -20,6 +21,7 @@ import io.deephaven.api.agg.spec.AggSpecMax;
 import io.deephaven.api.agg.spec.AggSpecMedian;
 import io.deephaven.api.agg.spec.AggSpecMin;
 import io.deephaven.api.agg.spec.AggSpecPercentile;
+import io.deephaven.api.agg.spec.AggSpecSketchPercentile;
 import io.deephaven.api.agg.spec.AggSpecSortedFirst;
 import io.deephaven.api.agg.spec.AggSpecSortedLast;
 import io.deephaven.api.agg.spec.AggSpecStd;
@@ -87,6 +89,8 @@ import io.deephaven.engine.table.impl.by.ssmcountdistinct.unique.ObjectRollupUni
 import io.deephaven.engine.table.impl.by.ssmcountdistinct.unique.ShortChunkedUniqueOperator;
 import io.deephaven.engine.table.impl.by.ssmcountdistinct.unique.ShortRollupUniqueOperator;
 import io.deephaven.engine.table.impl.by.ssmminmax.SsmChunkedMinMaxOperator;
+import io.deephaven.engine.table.impl.by.sketch.DDSketchPercentileOperator;
+import io.deephaven.engine.table.impl.by.sketch.HyperLogLogCountDistinctOperator;
 import io.deephaven.engine.table.impl.by.ssmpercentile.SsmChunkedPercentileOperator;
 import io.deephaven.engine.table.impl.select.SelectColumn;
 import io.deephaven.engine.table.impl.select.WhereFilter;
@@ -348,6 +352,12 @@ public class AggregationProcessor implements AggregationContextFactory {
         }
     }
 
+    @Override
+    public boolean inputRowKeysHaveStableStates() {
+        // Re-aggregated rollup levels aggregate the level below, whose rows never shift or change their keys
+        return type == Type.ROLLUP_REAGGREGATED;
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
     // Converter Framework
     // -----------------------------------------------------------------------------------------------------------------
@@ -397,6 +407,14 @@ public class AggregationProcessor implements AggregationContextFactory {
             return aggregationContext;
         }
 
+        /**
+         * Make a count operator, whose counts are kept in tiered state if this is a keyed aggregation of a refreshing
+         * table and tiered state is configured.
+         */
+        final CountAggregationOperator makeCountOperator(@Nullable final String resultName) {
+            return new CountAggregationOperator(resultName, table.isRefreshing() && groupByColumnNames.length > 0);
+        }
+
         final void walkAllAggregations() {
             for (final Aggregation aggregation : aggregations) {
                 aggregation.walk(this);
@@ -406,7 +424,7 @@ public class AggregationProcessor implements AggregationContextFactory {
         @NotNull
         final AggregationContext makeAggregationContext() {
             if (requireStateChangeRecorder && operators.stream().noneMatch(op -> op instanceof StateChangeRecorder)) {
-                addNoInputOperator(new CountAggregationOperator(null));
+                addNoInputOperator(makeCountOperator(null));
             }
             // noinspection unchecked
             return new AggregationContext(
@@ -530,6 +548,37 @@ public class AggregationProcessor implements AggregationContextFactory {
                     inputName);
         }
 
+        final void addSketchPercentileOperators(final double percentile, final double relativeAccuracy) {
+            for (final Pair pair : resultPairs) {
+                final String inputName = pair.input().name();
+                final String resultName = pair.output().name();
+
+                addSketchPercentileOperator(percentile, relativeAccuracy, inputName, resultName);
+            }
+        }
+
+        final void addSketchPercentileOperator(final double percentile, final double relativeAccuracy,
+                @NotNull final String inputName, @NotNull final String resultName) {
+            final ColumnSource<?> inputSource = table.getColumnSource(inputName);
+            final Class<?> type = inputSource.getType();
+
+            final int size = inputSources.size();
+            for (int ii = 0; ii < size; ii++) {
+                final IterativeChunkedAggregationOperator operator;
+                if (inputSources.get(ii) == inputSource &&
+                        (operator = operators.get(ii)) instanceof DDSketchPercentileOperator) {
+                    final DDSketchPercentileOperator sketchOperator = (DDSketchPercentileOperator) operator;
+                    if (sketchOperator.relativeAccuracy() == relativeAccuracy) {
+                        addOperator(sketchOperator.makeSecondaryOperator(percentile, resultName), null,
+                                inputName);
+                        return;
+                    }
+                }
+            }
+            addOperator(new DDSketchPercentileOperator(type, relativeAccuracy, percentile, resultName), inputSource,
+                    inputName);
+        }
+
         final void addFreezeOperators() {
             final FreezeByCountOperator countOperator;
             if (freezeByCountIndex >= 0) {
@@ -968,7 +1017,7 @@ public class AggregationProcessor implements AggregationContextFactory {
 
         @Override
         public void visit(@NotNull final Count count) {
-            addNoInputOperator(new CountAggregationOperator(count.column().name()));
+            addNoInputOperator(makeCountOperator(count.column().name()));
         }
 
         @Override
@@ -1033,6 +1082,13 @@ public class AggregationProcessor implements AggregationContextFactory {
             addBasicOperators((t, n) -> makeSumOperator(t, n, true));
         }
 
+        @Override
+        public void visit(@NotNull final AggSpecApproximateCountDistinct approxCountDistinct) {
+            final int precision = approxCountDistinct.precision()
+                    .orElse(HyperLogLogCountDistinctOperator.PRECISION_DEFAULT);
+            addBasicOperators((t, n) -> new HyperLogLogCountDistinctOperator(t, precision, n, null, false));
+        }
+
         @Override
         public void visit(@NotNull final AggSpecApproximatePercentile approxPct) {
             addApproximatePercentileOperators(approxPct.percentile(),
@@ -1120,6 +1176,12 @@ public class AggregationProcessor implements AggregationContextFactory {
                     (t, n) -> new SsmChunkedPercentileOperator(t, pct.percentile(), pct.averageEvenlyDivided(), n));
         }
 
+        @Override
+        public void visit(@NotNull final AggSpecSketchPercentile sketchPct) {
+            addSketchPercentileOperators(sketchPct.percentile(), sketchPct.relativeAccuracy()
+                    .orElse(DDSketchPercentileOperator.RELATIVE_ACCURACY_DEFAULT));
+        }
+
         @Override
         public void visit(@NotNull final AggSpecSortedFirst sortedFirst) {
             addSortedFirstOrLastOperator(sortedFirst.columns(), true, null);
@@ -1351,7 +1413,7 @@ public class AggregationProcessor implements AggregationContextFactory {
 
         @Override
         public void visit(@NotNull final Count count) {
-            addNoInputOperator(new CountAggregationOperator(count.column().name()));
+            addNoInputOperator(makeCountOperator(count.column().name()));
         }
 
         @Override
@@ -1460,6 +1522,14 @@ public class AggregationProcessor implements AggregationContextFactory {
             addBasicOperators((t, n) -> makeSumOperator(t, n, true));
         }
 
+        @Override
+        public void visit(@NotNull final AggSpecApproximateCountDistinct approxCountDistinct) {
+            final int precision = approxCountDistinct.precision()
+                    .orElse(HyperLogLogCountDistinctOperator.PRECISION_DEFAULT);
+            addBasicOperators((t, n) -> new HyperLogLogCountDistinctOperator(t, precision, n,
+                    n + ROLLUP_HLL_REGISTERS_COLUMN_ID + ROLLUP_COLUMN_SUFFIX, false));
+        }
+
         @Override
         public void visit(@NotNull final AggSpecAvg avg) {
             addBasicOperators((t, n) -> makeAvgOperator(t, n, true));
@@ -1495,6 +1565,22 @@ public class AggregationProcessor implements AggregationContextFactory {
             addMinOrMaxOperators(true);
         }
 
+        @Override
+        public void visit(@NotNull final AggSpecSketchPercentile sketchPct) {
+            final double relativeAccuracy = sketchPct.relativeAccuracy()
+                    .orElse(DDSketchPercentileOperator.RELATIVE_ACCURACY_DEFAULT);
+            for (final Pair pair : resultPairs) {
+                final String inputName = pair.input().name();
+                final String resultName = pair.output().name();
+                final ColumnSource<?> inputSource = table.getColumnSource(inputName);
+                final String sketchName = resultName + ROLLUP_SKETCH_COLUMN_ID + ROLLUP_COLUMN_SUFFIX;
+
+                addOperator(new DDSketchPercentileOperator(inputSource.getType(), relativeAccuracy,
+                        new double[] {sketchPct.percentile()}, new String[] {resultName}, sketchName, false),
+                        inputSource, inputName);
+            }
+        }
+
         @Override
         public void visit(@NotNull final AggSpecSortedFirst sortedFirst) {
             addSortedFirstOrLastOperator(sortedFirst.columns(), true, makeRedirectionName(nextColumnIdentifier++));
@@ -1734,6 +1820,20 @@ public class AggregationProcessor implements AggregationContextFactory {
             reaggregateAsSum();
         }
 
+        @Override
+        public void visit(@NotNull final AggSpecApproximateCountDistinct approxCountDistinct) {
+            final int precision = approxCountDistinct.precision()
+                    .orElse(HyperLogLogCountDistinctOperator.PRECISION_DEFAULT);
+            for (final Pair pair : resultPairs) {
+                final String resultName = pair.output().name();
+                final String registersName = resultName + ROLLUP_HLL_REGISTERS_COLUMN_ID + ROLLUP_COLUMN_SUFFIX;
+                final ColumnSource<byte[]> registersSource = table.getColumnSource(registersName);
+
+                addOperator(new HyperLogLogCountDistinctOperator(byte[].class, precision, resultName, registersName,
+                        true), registersSource, registersName);
+            }
+        }
+
         @Override
         public void visit(@NotNull final AggSpecAvg avg) {
             reaggregateAvgOperator();
@@ -1771,6 +1871,21 @@ public class AggregationProcessor implements AggregationContextFactory {
             reaggregateMinOrMaxOperators(true);
         }
 
+        @Override
+        public void visit(@NotNull final AggSpecSketchPercentile sketchPct) {
+            final double relativeAccuracy = sketchPct.relativeAccuracy()
+                    .orElse(DDSketchPercentileOperator.RELATIVE_ACCURACY_DEFAULT);
+            for (final Pair pair : resultPairs) {
+                final String resultName = pair.output().name();
+                final String sketchName = resultName + ROLLUP_SKETCH_COLUMN_ID + ROLLUP_COLUMN_SUFFIX;
+                final ColumnSource<byte[]> sketchSource = table.getColumnSource(sketchName);
+
+                addOperator(new DDSketchPercentileOperator(byte[].class, relativeAccuracy,
+                        new double[] {sketchPct.percentile()}, new String[] {resultName}, sketchName, true),
+                        sketchSource, sketchName);
+            }
+        }
+
         @Override
         public void visit(@NotNull final AggSpecSortedFirst sortedFirst) {
             reaggregateSortedFirstOrLastOperator(sortedFirst.columns(), true);
@@ -170,6 +170,27 @@ public class ByteChunkedSumOperator implements IterativeChunkedAggregationOperat
         return true;
     }
 
+    @Override
+    public boolean supportsPartialStateMerge() {
+        return true;
+    }
+
+    @Override
+    public void mergePartialState(@NotNull final IterativeChunkedAggregationOperator partialOperator,
+            final int firstPartialDestination, @NotNull final IntChunk<RowKeys> destinations) {
+        final ByteChunkedSumOperator partial = (ByteChunkedSumOperator) partialOperator;
+        for (int ii = 0; ii < destinations.size(); ++ii) {
+            final long partialDestination = firstPartialDestination + ii;
+            final long partialNonNullCount = partial.nonNullCount.getCountUnsafe(partialDestination);
+            if (partialNonNullCount > 0) {
+                final long destination = destinations.get(ii);
+                nonNullCount.addNonNullUnsafe(destination, partialNonNullCount);
+                resultColumn.set(destination, plusLong(resultColumn.getUnsafe(destination),
+                        partial.resultColumn.getUnsafe(partialDestination)));
+            }
+        }
+    }
+
     @Override
     public void ensureCapacity(long tableSize) {
         resultColumn.ensureCapacity(tableSize);
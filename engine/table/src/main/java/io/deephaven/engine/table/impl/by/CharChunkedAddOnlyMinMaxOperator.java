@@ -6,13 +6,17 @@ package io.deephaven.engine.table.impl.by;
 import io.deephaven.chunk.attributes.ChunkLengths;
 import io.deephaven.chunk.attributes.ChunkPositions;
 import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSequenceFactory;
 import io.deephaven.engine.rowset.chunkattributes.RowKeys;
 import io.deephaven.util.QueryConstants;
 import io.deephaven.util.compare.CharComparisons;
 import io.deephaven.engine.table.impl.sources.CharacterArraySource;
+import io.deephaven.engine.table.ChunkSource;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.chunk.*;
 import io.deephaven.util.mutable.MutableInt;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.Collections;
 import java.util.Map;
@@ -39,6 +43,8 @@ class CharChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOpe
     }
 
     private char min(CharChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region simd min
+        // endregion simd min
         int nonNull = 0;
         char value = QueryConstants.NULL_CHAR;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -58,6 +64,8 @@ class CharChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOpe
     }
 
     private char max(CharChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region simd max
+        // endregion simd max
         int nonNull = 0;
         char value = QueryConstants.NULL_CHAR;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -163,6 +171,31 @@ class CharChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOpe
         }
     }
 
+    @Override
+    public boolean supportsPartialStateMerge() {
+        return true;
+    }
+
+    @Override
+    public void mergePartialState(@NotNull final IterativeChunkedAggregationOperator partialOperator,
+            final int firstPartialDestination, @NotNull final IntChunk<RowKeys> destinations) {
+        final CharChunkedAddOnlyMinMaxOperator partial = (CharChunkedAddOnlyMinMaxOperator) partialOperator;
+        final int size = destinations.size();
+        if (size == 0) {
+            return;
+        }
+        try (final ChunkSource.GetContext getContext = partial.resultColumn.makeGetContext(size);
+                final RowSequence partialRows = RowSequenceFactory.forRange(
+                        firstPartialDestination, firstPartialDestination + size - 1)) {
+            // each partial result is a single-value chunk to add, so that merging shares the null and NaN handling
+            final CharChunk<? extends Values> partialValues =
+                    partial.resultColumn.getChunk(getContext, partialRows).asCharChunk();
+            for (int ii = 0; ii < size; ++ii) {
+                addChunk(partialValues, destinations.get(ii), ii, 1);
+            }
+        }
+    }
+
     @Override
     public void ensureCapacity(long tableSize) {
         resultColumn.ensureCapacity(tableSize);
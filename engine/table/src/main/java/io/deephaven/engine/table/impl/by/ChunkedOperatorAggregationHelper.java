@@ -28,9 +28,12 @@ import io.deephaven.engine.table.impl.sort.permute.LongPermuteKernel;
 import io.deephaven.engine.table.impl.sort.permute.PermuteKernel;
 import io.deephaven.engine.table.impl.sort.timsort.IntIntTimsortKernel;
 import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.engine.table.impl.sources.IntegerArraySource;
 import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
 import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
 import io.deephaven.engine.table.impl.util.ChunkUtils;
+import io.deephaven.engine.table.impl.util.JobScheduler;
+import io.deephaven.engine.table.impl.util.OperationInitializerJobScheduler;
 import io.deephaven.engine.table.impl.util.UpdateSizeCalculator;
 import io.deephaven.engine.table.iterators.ChunkedColumnIterator;
 import io.deephaven.util.SafeCloseable;
@@ -60,6 +63,13 @@ public class ChunkedOperatorAggregationHelper {
             Configuration.getInstance().getBooleanWithDefault("ChunkedOperatorAggregationHelper.skipRunFind", false);
     static final boolean HASHED_RUN_FIND =
             Configuration.getInstance().getBooleanWithDefault("ChunkedOperatorAggregationHelper.hashedRunFind", true);
+    /**
+     * Whether aggregations whose input rows always keep their state remember each row's state when it is added, rather
+     * than hashing its keys again when it is modified or removed. Read when an aggregation is created; not final so
+     * that unit tests can compare results with and without it.
+     */
+    public static boolean REMEMBER_INPUT_ROW_STATES = Configuration.getInstance()
+            .getBooleanWithDefault("ChunkedOperatorAggregationHelper.rememberInputRowStates", true);
 
     public static QueryTable aggregation(
             @NotNull final AggregationContextFactory aggregationContextFactory,
@@ -199,12 +209,28 @@ public class ChunkedOperatorAggregationHelper {
 
         final RowSetBuilderRandom initialRowsBuilder =
                 initialKeys != null && !preserveEmpty ? new BitmapRandomBuilder(stateManager.maxTableSize() - 1) : null;
+        // Remember the state of each input row, if they never change, so that updates need not hash the keys again
+        final IntegerArraySource inputRowStates = REMEMBER_INPUT_ROW_STATES && input.isRefreshing()
+                && !input.isBlink() && dataIndex == null && initialKeys == null
+                && aggregationContextFactory.inputRowKeysHaveStableStates()
+                        ? new IntegerArraySource()
+                        : null;
         if (dataIndex != null) {
             initialIndexedKeyAddition(dataIndex, keySources, ac, stateManager, outputPosition, initialRowsBuilder,
                     usePrev);
         } else {
-            initialBucketedKeyAddition(input, reinterpretedKeySources, ac, permuteKernels, stateManager,
-                    outputPosition, initialRowsBuilder, usePrev);
+            final RowSet initialRowSet = usePrev ? input.getRowSet().prev() : input.getRowSet();
+            final int segmentCount = input.isRefreshing() || initialKeys != null || useSymbolTable
+                    ? 1
+                    : parallelInitialBuildSegments(ac, initialRowSet.size());
+            if (segmentCount > 1) {
+                parallelInitialBucketedKeyAddition(control, aggregationContextFactory, input, keyNames, keySources,
+                        reinterpretedKeySources, ac, permuteKernels, stateManager, outputPosition, initialRowSet,
+                        segmentCount);
+            } else {
+                initialBucketedKeyAddition(initialRowSet, reinterpretedKeySources, ac, permuteKernels, stateManager,
+                        outputPosition, initialRowsBuilder, inputRowStates, usePrev);
+            }
         }
 
         // Construct and return result table
@@ -264,6 +290,8 @@ public class ChunkedOperatorAggregationHelper {
                 final StateChangeRecorder stateChangeRecorder =
                         preserveEmpty ? null : ac.getStateChangeRecorder();
 
+                IntegerArraySource stableInputRowStates = inputRowStates;
+
                 @Override
                 public void onUpdate(@NotNull final TableUpdate upstream) {
                     incrementalStateManager.beginUpdateCycle();
@@ -272,11 +300,17 @@ public class ChunkedOperatorAggregationHelper {
                     if (upstreamToUse.empty()) {
                         return;
                     }
+                    if (stableInputRowStates != null && (upstreamToUse.shifted().nonempty()
+                            || (upstreamToUse.modified().isNonempty() && upstreamToUse.modifiedColumnSet()
+                                    .containsAny(keysUpstreamModifiedColumnSet)))) {
+                        // The input does not keep each row in one state after all; probe from now on
+                        stableInputRowStates = null;
+                    }
                     final TableUpdate downstream;
                     try (final KeyedUpdateContext kuc = new KeyedUpdateContext(ac, incrementalStateManager,
                             reinterpretedKeySources, permuteKernels, keysUpstreamModifiedColumnSet,
-                            operatorInputModifiedColumnSets, stateChangeRecorder, upstreamToUse,
-                            outputPosition)) {
+                            operatorInputModifiedColumnSets, stateChangeRecorder, stableInputRowStates,
+                            upstreamToUse, outputPosition)) {
                         downstream = kuc.computeDownstreamIndicesAndCopyKeys(input.getRowSet(),
                                 keyColumnsRaw,
                                 keyColumnsCopied,
@@ -359,6 +393,7 @@ public class ChunkedOperatorAggregationHelper {
         private final ColumnSource[] reinterpretedKeySources;
         private final PermuteKernel[] permuteKernels;
         private final StateChangeRecorder stateChangeRecorder;
+        private final IntegerArraySource inputRowStates;
         private final TableUpdate upstream; // Not to be mutated
         private final MutableInt outputPosition;
 
@@ -417,6 +452,7 @@ public class ChunkedOperatorAggregationHelper {
                 @NotNull final ModifiedColumnSet keysUpstreamModifiedColumnSet,
                 @NotNull final ModifiedColumnSet[] operatorInputUpstreamModifiedColumnSets,
                 @Nullable final StateChangeRecorder stateChangeRecorder,
+                @Nullable final IntegerArraySource inputRowStates,
                 @NotNull final TableUpdate upstream,
                 @NotNull final MutableInt outputPosition) {
             this.ac = ac;
@@ -424,6 +460,7 @@ public class ChunkedOperatorAggregationHelper {
             this.reinterpretedKeySources = reinterpretedKeySources;
             this.permuteKernels = permuteKernels;
             this.stateChangeRecorder = stateChangeRecorder;
+            this.inputRowStates = inputRowStates;
             this.upstream = upstream;
             this.outputPosition = outputPosition;
 
@@ -673,7 +710,11 @@ public class ChunkedOperatorAggregationHelper {
         }
 
         private void doRemovesForChunk(@NotNull final RowSequence keyIndicesToRemoveChunk) {
-            incrementalStateManager.remove(pc, keyIndicesToRemoveChunk, reinterpretedKeySources, slots);
+            if (inputRowStates != null) {
+                lookupInputRowStates(inputRowStates, keyIndicesToRemoveChunk, slots);
+            } else {
+                incrementalStateManager.remove(pc, keyIndicesToRemoveChunk, reinterpretedKeySources, slots);
+            }
             propagateRemovesToOperators(keyIndicesToRemoveChunk, slots);
         }
 
@@ -757,6 +798,9 @@ public class ChunkedOperatorAggregationHelper {
             if (addToStateManager) {
                 incrementalStateManager.add(bc, keyIndicesToInsertChunk, reinterpretedKeySources, outputPosition,
                         slots);
+                if (inputRowStates != null) {
+                    recordInputRowStates(inputRowStates, keyIndicesToInsertChunk, slots);
+                }
             } else {
                 incrementalStateManager.findModifications(pc, keyIndicesToInsertChunk, reinterpretedKeySources, slots);
             }
@@ -944,6 +988,18 @@ public class ChunkedOperatorAggregationHelper {
             }
         }
 
+        /**
+         * Fill {@link #slots} with the states that the rows of {@code postShiftKeyIndices} are aggregated into,
+         * remembered from when they were added if possible, else found by probing the state manager.
+         */
+        private void findModifiedStates(@NotNull final RowSequence postShiftKeyIndices) {
+            if (inputRowStates != null) {
+                lookupInputRowStates(inputRowStates, postShiftKeyIndices, slots);
+            } else {
+                incrementalStateManager.findModifications(pc, postShiftKeyIndices, reinterpretedKeySources, slots);
+            }
+        }
+
         private void doSameSlotModifies(@NotNull final RowSequence preShiftKeyIndicesToModify,
                 @NotNull final RowSequence postShiftKeyIndicesToModify,
                 final boolean supplyPostIndices, @NotNull final boolean[] operatorsToProcess,
@@ -964,8 +1020,7 @@ public class ChunkedOperatorAggregationHelper {
                     postSharedContext.reset();
                     Arrays.fill(chunkInitialized, false);
 
-                    incrementalStateManager.findModifications(pc, postShiftKeyIndicesChunk, reinterpretedKeySources,
-                            slots);
+                    findModifiedStates(postShiftKeyIndicesChunk);
                     final boolean permute = findSlotRuns(sortKernelContext, hashedRunContext, runStarts, runLengths,
                             chunkPositions, slots,
                             ac.requiresRunFinds(SKIP_RUN_FIND));
@@ -1071,8 +1126,7 @@ public class ChunkedOperatorAggregationHelper {
                     final RowSequence postShiftKeyIndicesChunk =
                             postShiftIterator.getNextRowSequenceWithLength(CHUNK_SIZE);
 
-                    incrementalStateManager.findModifications(pc, postShiftKeyIndicesChunk, reinterpretedKeySources,
-                            slots);
+                    findModifiedStates(postShiftKeyIndicesChunk);
                     final boolean permute = findSlotRuns(sortKernelContext, hashedRunContext, runStarts, runLengths,
                             chunkPositions, slots,
                             ac.requiresRunFinds(SKIP_RUN_FIND));
@@ -1577,6 +1631,28 @@ public class ChunkedOperatorAggregationHelper {
         }
     }
 
+    private static void recordInputRowStates(
+            @NotNull final IntegerArraySource inputRowStates,
+            @NotNull final RowSequence rowSequence,
+            @NotNull final IntChunk<RowKeys> states) {
+        inputRowStates.ensureCapacity(rowSequence.lastRowKey() + 1, false);
+        final LongChunk<OrderedRowKeys> rowKeys = rowSequence.asRowKeyChunk();
+        for (int ii = 0; ii < rowKeys.size(); ++ii) {
+            inputRowStates.set(rowKeys.get(ii), states.get(ii));
+        }
+    }
+
+    private static void lookupInputRowStates(
+            @NotNull final IntegerArraySource inputRowStates,
+            @NotNull final RowSequence rowSequence,
+            @NotNull final WritableIntChunk<RowKeys> states) {
+        final LongChunk<OrderedRowKeys> rowKeys = rowSequence.asRowKeyChunk();
+        states.setSize(rowKeys.size());
+        for (int ii = 0; ii < rowKeys.size(); ++ii) {
+            states.set(ii, inputRowStates.getInt(rowKeys.get(ii)));
+        }
+    }
+
     /**
      * Get values from the inputColumn, and permute them into workingChunk.
      */
@@ -1831,13 +1907,14 @@ public class ChunkedOperatorAggregationHelper {
         return stateManager;
     }
 
-    private static void initialBucketedKeyAddition(QueryTable input,
+    private static void initialBucketedKeyAddition(RowSet rowSet,
             ColumnSource<?>[] reinterpretedKeySources,
             AggregationContext ac,
             PermuteKernel[] permuteKernels,
             OperatorAggregationStateManager stateManager,
             MutableInt outputPosition,
             RowSetBuilderRandom initialRowsBuilder,
+            IntegerArraySource inputRowStates,
             boolean usePrev) {
         final boolean findRuns = ac.requiresRunFinds(SKIP_RUN_FIND);
 
@@ -1857,8 +1934,6 @@ public class ChunkedOperatorAggregationHelper {
             buildSources = reinterpretedKeySources;
         }
 
-        final RowSet rowSet = usePrev ? input.getRowSet().prev() : input.getRowSet();
-
         if (rowSet.isEmpty()) {
             return;
         }
@@ -1897,6 +1972,9 @@ public class ChunkedOperatorAggregationHelper {
                 if (initialRowsBuilder != null) {
                     initialRowsBuilder.addRowKeysChunk(outputPositions);
                 }
+                if (inputRowStates != null) {
+                    recordInputRowStates(inputRowStates, chunkOk, outputPositions);
+                }
 
                 ac.ensureCapacity(outputPosition.get());
 
@@ -1946,6 +2024,137 @@ public class ChunkedOperatorAggregationHelper {
         }
     }
 
+    /**
+     * Determine how many segments the initial build of a static aggregation should be partitioned into. Each segment
+     * is aggregated into its own hash table and operators, and the partial states are then merged.
+     *
+     * @param ac the aggregation context
+     * @param rowCount the number of input rows
+     * @return the number of segments to build in parallel, or 1 if the build should be done serially
+     */
+    private static int parallelInitialBuildSegments(@NotNull final AggregationContext ac, final long rowCount) {
+        if (QueryTable.DISABLE_PARALLEL_AGGREGATION || !ac.supportsPartialStateMerge()
+                || !ExecutionContext.getContext().getOperationInitializer().canParallelize()) {
+            return 1;
+        }
+        final int targetSegments = QueryTable.PARALLEL_AGGREGATION_SEGMENTS <= 0
+                ? ExecutionContext.getContext().getOperationInitializer().parallelismFactor()
+                : QueryTable.PARALLEL_AGGREGATION_SEGMENTS;
+        final long maximumSegments = QueryTable.FORCE_PARALLEL_AGGREGATION
+                ? rowCount
+                : rowCount / QueryTable.PARALLEL_AGGREGATION_ROWS_PER_SEGMENT;
+        return (int) Math.max(1, Math.min(targetSegments, maximumSegments));
+    }
+
+    /**
+     * Build the initial state of a static aggregation by aggregating contiguous segments of {@code rowSet} in parallel,
+     * each into its own hash table and operators, and then merging the partial states pairwise. The first segment is
+     * aggregated directly into {@code ac} and {@code stateManager}, which hold the merged result at completion.
+     * <p>
+     * A later segment is always merged into an earlier one, so that output positions are assigned in order of first
+     * appearance in {@code rowSet}, exactly as a serial build would assign them.
+     */
+    private static void parallelInitialBucketedKeyAddition(
+            @NotNull final AggregationControl control,
+            @NotNull final AggregationContextFactory aggregationContextFactory,
+            @NotNull final QueryTable input,
+            @NotNull final String[] keyNames,
+            @NotNull final ColumnSource<?>[] keySources,
+            @NotNull final ColumnSource<?>[] reinterpretedKeySources,
+            @NotNull final AggregationContext ac,
+            @NotNull final PermuteKernel[] permuteKernels,
+            @NotNull final OperatorAggregationStateManager stateManager,
+            @NotNull final MutableInt outputPosition,
+            @NotNull final RowSet rowSet,
+            final int segmentCount) {
+        final AggregationContext[] segmentContexts = new AggregationContext[segmentCount];
+        final OperatorAggregationStateManager[] segmentStateManagers =
+                new OperatorAggregationStateManager[segmentCount];
+        final MutableInt[] segmentOutputPositions = new MutableInt[segmentCount];
+        segmentContexts[0] = ac;
+        segmentStateManagers[0] = stateManager;
+        segmentOutputPositions[0] = outputPosition;
+        for (int si = 1; si < segmentCount; ++si) {
+            segmentContexts[si] = aggregationContextFactory.makeAggregationContext(input, false, keyNames);
+            if (segmentContexts[si] == ac) {
+                // The factory re-uses its context, so there are no independent operators to hold partial state
+                initialBucketedKeyAddition(rowSet, reinterpretedKeySources, ac, permuteKernels, stateManager,
+                        outputPosition, null, null, false);
+                return;
+            }
+            // We do not use makeStateManager, as the result row lookup must only be supplied from the merged state
+            segmentStateManagers[si] = TypedHasherFactory.make(
+                    StaticChunkedOperatorAggregationStateManagerOpenAddressedBase.class,
+                    reinterpretedKeySources,
+                    keySources, control.initialHashTableSize(input), control.getMaximumLoadFactor(),
+                    control.getTargetLoadFactor());
+            segmentOutputPositions[si] = new MutableInt();
+        }
+
+        final JobScheduler jobScheduler = new OperationInitializerJobScheduler();
+        final long rowsPerSegment = (rowSet.size() + segmentCount - 1) / segmentCount;
+        jobScheduler.iterateParallelAndWait("by() parallel initial build", segmentCount, si -> {
+            try (final RowSet segmentRowSet =
+                    rowSet.subSetByPositionRange(si * rowsPerSegment, (si + 1) * rowsPerSegment)) {
+                final AggregationContext segmentContext = segmentContexts[si];
+                initialBucketedKeyAddition(segmentRowSet, reinterpretedKeySources, segmentContext,
+                        si == 0 ? permuteKernels : segmentContext.makePermuteKernels(),
+                        segmentStateManagers[si], segmentOutputPositions[si], null, null, false);
+            }
+        });
+
+        for (int step = 1; step < segmentCount; step <<= 1) {
+            final int mergeStep = step;
+            final int stride = step << 1;
+            final int mergeCount = (segmentCount - step + stride - 1) / stride;
+            jobScheduler.iterateParallelAndWait("by() parallel initial merge", mergeCount, mi -> {
+                final int intoSegment = mi * stride;
+                final int fromSegment = intoSegment + mergeStep;
+                mergePartialAggregation(segmentContexts[intoSegment], segmentStateManagers[intoSegment],
+                        segmentOutputPositions[intoSegment], segmentContexts[fromSegment],
+                        segmentStateManagers[fromSegment], segmentOutputPositions[fromSegment].get());
+                // Release the merged segment's state as soon as possible
+                segmentContexts[fromSegment] = null;
+                segmentStateManagers[fromSegment] = null;
+            });
+        }
+    }
+
+    /**
+     * Merge the partial state of a segment into the state of the segment preceding it.
+     *
+     * @param ac the aggregation context to merge into
+     * @param stateManager the state manager to merge into
+     * @param outputPosition the next output position of {@code stateManager}
+     * @param partialContext the aggregation context holding the partial state
+     * @param partialStateManager the state manager holding the partial keys
+     * @param partialSize the number of states in {@code partialStateManager}
+     */
+    private static void mergePartialAggregation(
+            @NotNull final AggregationContext ac,
+            @NotNull final OperatorAggregationStateManager stateManager,
+            @NotNull final MutableInt outputPosition,
+            @NotNull final AggregationContext partialContext,
+            @NotNull final OperatorAggregationStateManager partialStateManager,
+            final int partialSize) {
+        if (partialSize == 0) {
+            return;
+        }
+        final ColumnSource<?>[] partialKeySources = partialStateManager.getKeyHashTableSources();
+        final int chunkSize = chunkSize(partialSize);
+        try (final SafeCloseable bc = stateManager.makeAggregationStateBuildContext(partialKeySources, chunkSize);
+                final RowSequence partialStates = RowSequenceFactory.forRange(0, partialSize - 1);
+                final RowSequence.Iterator rsIt = partialStates.getRowSequenceIterator();
+                final WritableIntChunk<RowKeys> destinations = WritableIntChunk.makeWritableChunk(chunkSize)) {
+            while (rsIt.hasMore()) {
+                final RowSequence chunkStates = rsIt.getNextRowSequenceWithLength(chunkSize);
+                stateManager.add(bc, chunkStates, partialKeySources, outputPosition, destinations);
+                ac.ensureCapacity(outputPosition.get());
+                ac.mergePartialState(partialContext, (int) chunkStates.firstRowKey(), destinations);
+            }
+        }
+    }
+
     private static void initialIndexedKeyAddition(
             final BasicDataIndex dataIndex,
             final ColumnSource<?>[] keySources,
@@ -8,18 +8,36 @@ import io.deephaven.chunk.attributes.ChunkPositions;
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.WritableColumnSource;
 import io.deephaven.engine.table.impl.sources.LongArraySource;
+import io.deephaven.engine.table.impl.sources.offheap.TieredLongArraySource;
 import io.deephaven.chunk.*;
 import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.Map;
 
+import static io.deephaven.engine.table.impl.by.IncrementalChunkedOperatorAggregationStateManagerOpenAddressedBase.TIERED_STATE_DIRECTORY;
+import static io.deephaven.engine.table.impl.by.IncrementalChunkedOperatorAggregationStateManagerOpenAddressedBase.TIERED_STATE_HOT_BLOCKS;
+import static io.deephaven.util.QueryConstants.NULL_LONG;
+
 class CountAggregationOperator extends BasicStateChangeRecorder implements IterativeChunkedAggregationOperator {
 
     private final String resultName;
-    private final LongArraySource countColumnSource;
+    private final WritableColumnSource<Long> countColumnSource;
+    /**
+     * The counts, if they are kept on the heap.
+     */
+    @Nullable
+    private final LongArraySource heapCounts;
+    /**
+     * The counts, if they are kept in tiered state.
+     */
+    @Nullable
+    private final TieredLongArraySource tieredCounts;
 
     /**
      * Construct a count aggregation operator.
@@ -27,23 +45,70 @@ class CountAggregationOperator extends BasicStateChangeRecorder implements Itera
      * @param resultName The name of the result column if this operator should expose its results, else {@code null}
      */
     CountAggregationOperator(@Nullable final String resultName) {
+        this(resultName, false);
+    }
+
+    /**
+     * Construct a count aggregation operator.
+     *
+     * @param resultName The name of the result column if this operator should expose its results, else {@code null}
+     * @param refreshingKeyed Whether this operator belongs to a keyed aggregation of a refreshing table, in which case
+     *        its counts are kept in tiered state if {@code TIERED_STATE_HOT_BLOCKS} is positive
+     */
+    CountAggregationOperator(@Nullable final String resultName, final boolean refreshingKeyed) {
         this.resultName = resultName;
-        this.countColumnSource = new LongArraySource();
+        if (refreshingKeyed && TIERED_STATE_HOT_BLOCKS > 0) {
+            heapCounts = null;
+            countColumnSource = tieredCounts =
+                    new TieredLongArraySource(TIERED_STATE_HOT_BLOCKS, Paths.get(TIERED_STATE_DIRECTORY));
+        } else {
+            countColumnSource = heapCounts = new LongArraySource();
+            tieredCounts = null;
+        }
     }
 
     private boolean exposesResult() {
         return resultName != null;
     }
 
+    private long getCount(final long destination) {
+        if (heapCounts != null) {
+            return heapCounts.getUnsafe(destination);
+        }
+        // tiered state reads as null until written, rather than zero
+        final long count = tieredCounts.getLong(destination);
+        return count == NULL_LONG ? 0 : count;
+    }
+
+    private long getAndAdd(final long destination, final long addend) {
+        if (heapCounts != null) {
+            return heapCounts.getAndAddUnsafe(destination, addend);
+        }
+        final long oldCount = getCount(destination);
+        if (addend != 0) {
+            tieredCounts.set(destination, oldCount + addend);
+        }
+        return oldCount;
+    }
+
+    /**
+     * Report the tiered state accesses counted for this chunk's single-row writes.
+     */
+    private void flushTieredAccessCounts() {
+        if (tieredCounts != null) {
+            tieredCounts.flushAccessCounts();
+        }
+    }
+
     private void recordAdd(final long destination, final long rowsAdded) {
-        final long oldCount = countColumnSource.getAndAddUnsafe(destination, rowsAdded);
+        final long oldCount = getAndAdd(destination, rowsAdded);
         if (oldCount == 0) {
             onReincarnated(destination);
         }
     }
 
     private void recordRemove(final long destination, final long rowsRemoved) {
-        final long oldCount = countColumnSource.getAndAddUnsafe(destination, -rowsRemoved);
+        final long oldCount = getAndAdd(destination, -rowsRemoved);
         if (oldCount == rowsRemoved) {
             onEmptied(destination);
         }
@@ -60,6 +125,7 @@ class CountAggregationOperator extends BasicStateChangeRecorder implements Itera
             final long rowsAdded = length.get(ii);
             recordAdd(destination, rowsAdded);
         }
+        flushTieredAccessCounts();
         if (exposesResult()) {
             stateModified.fillWithValue(0, startPositions.size(), true);
         }
@@ -76,6 +142,7 @@ class CountAggregationOperator extends BasicStateChangeRecorder implements Itera
             final long rowsRemoved = length.get(ii);
             recordRemove(destination, rowsRemoved);
         }
+        flushTieredAccessCounts();
         if (exposesResult()) {
             stateModified.fillWithValue(0, startPositions.size(), true);
         }
@@ -109,6 +176,21 @@ class CountAggregationOperator extends BasicStateChangeRecorder implements Itera
         return true;
     }
 
+    @Override
+    public boolean supportsPartialStateMerge() {
+        return true;
+    }
+
+    @Override
+    public void mergePartialState(@NotNull final IterativeChunkedAggregationOperator partialOperator,
+            final int firstPartialDestination, @NotNull final IntChunk<RowKeys> destinations) {
+        final CountAggregationOperator partial = (CountAggregationOperator) partialOperator;
+        for (int ii = 0; ii < destinations.size(); ++ii) {
+            recordAdd(destinations.get(ii), partial.getCount(firstPartialDestination + ii));
+        }
+        flushTieredAccessCounts();
+    }
+
     @Override
     public void modifyChunk(BucketedContext context, Chunk<? extends Values> previousValues,
             Chunk<? extends Values> newValues, LongChunk<? extends RowKeys> postShiftRowKeys,
@@ -10,13 +10,17 @@ package io.deephaven.engine.table.impl.by;
 import io.deephaven.chunk.attributes.ChunkLengths;
 import io.deephaven.chunk.attributes.ChunkPositions;
 import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSequenceFactory;
 import io.deephaven.engine.rowset.chunkattributes.RowKeys;
 import io.deephaven.util.QueryConstants;
 import io.deephaven.util.compare.DoubleComparisons;
 import io.deephaven.engine.table.impl.sources.DoubleArraySource;
+import io.deephaven.engine.table.ChunkSource;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.chunk.*;
 import io.deephaven.util.mutable.MutableInt;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.Collections;
 import java.util.Map;
@@ -43,6 +47,13 @@ class DoubleChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationO
     }
 
     private double min(DoubleChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region simd min
+        final SimdAggregationKernels.SimdAggregationKernel simd =
+                SimdAggregationKernels.inexactKernel(chunkEnd - chunkStart);
+        if (simd != null) {
+            return simd.minDoubleChunk(values, chunkNonNull, chunkStart, chunkEnd);
+        }
+        // endregion simd min
         int nonNull = 0;
         double value = QueryConstants.NULL_DOUBLE;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -66,6 +77,13 @@ class DoubleChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationO
     }
 
     private double max(DoubleChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region simd max
+        final SimdAggregationKernels.SimdAggregationKernel simd =
+                SimdAggregationKernels.inexactKernel(chunkEnd - chunkStart);
+        if (simd != null) {
+            return simd.maxDoubleChunk(values, chunkNonNull, chunkStart, chunkEnd);
+        }
+        // endregion simd max
         int nonNull = 0;
         double value = QueryConstants.NULL_DOUBLE;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -180,6 +198,31 @@ class DoubleChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationO
         }
     }
 
+    @Override
+    public boolean supportsPartialStateMerge() {
+        return true;
+    }
+
+    @Override
+    public void mergePartialState(@NotNull final IterativeChunkedAggregationOperator partialOperator,
+            final int firstPartialDestination, @NotNull final IntChunk<RowKeys> destinations) {
+        final DoubleChunkedAddOnlyMinMaxOperator partial = (DoubleChunkedAddOnlyMinMaxOperator) partialOperator;
+        final int size = destinations.size();
+        if (size == 0) {
+            return;
+        }
+        try (final ChunkSource.GetContext getContext = partial.resultColumn.makeGetContext(size);
+                final RowSequence partialRows = RowSequenceFactory.forRange(
+                        firstPartialDestination, firstPartialDestination + size - 1)) {
+            // each partial result is a single-value chunk to add, so that merging shares the null and NaN handling
+            final DoubleChunk<? extends Values> partialValues =
+                    partial.resultColumn.getChunk(getContext, partialRows).asDoubleChunk();
+            for (int ii = 0; ii < size; ++ii) {
+                addChunk(partialValues, destinations.get(ii), ii, 1);
+            }
+        }
+    }
+
     @Override
     public void ensureCapacity(long tableSize) {
         resultColumn.ensureCapacity(tableSize);
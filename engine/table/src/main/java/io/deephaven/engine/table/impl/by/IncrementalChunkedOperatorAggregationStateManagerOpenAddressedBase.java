@@ -8,6 +8,7 @@ import io.deephaven.base.verify.Require;
 import io.deephaven.chunk.Chunk;
 import io.deephaven.chunk.WritableIntChunk;
 import io.deephaven.chunk.attributes.Values;
+import io.deephaven.configuration.Configuration;
 import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.chunkattributes.RowKeys;
 import io.deephaven.engine.table.ColumnSource;
@@ -17,6 +18,7 @@ import io.deephaven.engine.table.impl.sources.InMemoryColumnSource;
 import io.deephaven.engine.table.impl.sources.IntegerArraySource;
 import io.deephaven.engine.table.impl.sources.RedirectedColumnSource;
 import io.deephaven.engine.table.impl.sources.immutable.ImmutableIntArraySource;
+import io.deephaven.engine.table.impl.sources.offheap.TieredIntegerArraySource;
 import io.deephaven.engine.table.impl.util.IntColumnSourceWritableRowRedirection;
 import io.deephaven.engine.table.impl.util.RowRedirection;
 import io.deephaven.engine.table.impl.util.TypedHasherUtil;
@@ -27,6 +29,8 @@ import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.mutable.MutableInt;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.file.Paths;
+
 import static io.deephaven.engine.table.impl.util.TypedHasherUtil.getKeyChunks;
 import static io.deephaven.engine.table.impl.util.TypedHasherUtil.getPrevKeyChunks;
 
@@ -35,6 +39,21 @@ public abstract class IncrementalChunkedOperatorAggregationStateManagerOpenAddre
     public static final int CHUNK_SIZE = ChunkedOperatorAggregationHelper.CHUNK_SIZE;
     private static final long MAX_TABLE_SIZE = 1 << 30; // maximum array size
 
+    /**
+     * If positive, the number of blocks of {@link #outputPositionToHashSlot}, and of each operator's per-state counts,
+     * that refreshing aggregations keep on the heap; the remaining blocks are spilled to a file in
+     * {@link #TIERED_STATE_DIRECTORY}. If zero, the state is kept entirely on the heap.
+     */
+    public static int TIERED_STATE_HOT_BLOCKS = Configuration.getInstance()
+            .getIntegerWithDefault("IncrementalChunkedOperatorAggregationStateManager.tieredStateHotBlocks", 0);
+
+    /**
+     * The directory in which tiered state spills its cold blocks, defaulting to the temporary directory.
+     */
+    public static String TIERED_STATE_DIRECTORY = Configuration.getInstance().getStringWithDefault(
+            "IncrementalChunkedOperatorAggregationStateManager.tieredStateDirectory",
+            System.getProperty("java.io.tmpdir"));
+
     /** The number of slots in our table. */
     protected int tableSize;
 
@@ -83,7 +102,7 @@ public abstract class IncrementalChunkedOperatorAggregationStateManagerOpenAddre
      * Used as a row redirection for the output key sources, updated using the mainInsertMask to identify the main vs.
      * alternate values.
      */
-    protected final IntegerArraySource outputPositionToHashSlot = new IntegerArraySource();
+    protected final WritableColumnSource<Integer> outputPositionToHashSlot = makeOutputPositionToHashSlot();
 
     /** State variables that exist as part of the update. */
     protected MutableInt nextOutputPosition;
@@ -171,6 +190,9 @@ public abstract class IncrementalChunkedOperatorAggregationStateManagerOpenAddre
                 bc.resetSharedContexts();
             }
         }
+        if (outputPositionToHashSlot instanceof TieredIntegerArraySource) {
+            ((TieredIntegerArraySource) outputPositionToHashSlot).flushAccessCounts();
+        }
     }
 
     abstract protected void migrateFront();
@@ -360,6 +382,13 @@ public abstract class IncrementalChunkedOperatorAggregationStateManagerOpenAddre
         this.nextOutputPosition = null;
     }
 
+    private static WritableColumnSource<Integer> makeOutputPositionToHashSlot() {
+        if (TIERED_STATE_HOT_BLOCKS > 0) {
+            return new TieredIntegerArraySource(TIERED_STATE_HOT_BLOCKS, Paths.get(TIERED_STATE_DIRECTORY));
+        }
+        return new IntegerArraySource();
+    }
+
     @Override
     public ColumnSource[] getKeyHashTableSources() {
         final RowRedirection resultIndexToHashSlot =
@@ -256,6 +256,32 @@ public interface IterativeChunkedAggregationOperator {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Whether this operator can {@link #mergePartialState(IterativeChunkedAggregationOperator, int, IntChunk) merge}
+     * the state of another instance of the same operator. All operators of an aggregation must return true for the
+     * initial state of a static aggregation to be built in parallel segments.
+     *
+     * @return true if the operator supports merging partial state, false otherwise
+     */
+    default boolean supportsPartialStateMerge() {
+        return false;
+    }
+
+    /**
+     * Merge the state accumulated by {@code partialOperator} into this operator. The partial operator was made by the
+     * same {@link AggregationContextFactory} as this operator, and has aggregated a segment of the input rows that
+     * follows every segment already aggregated into this operator.
+     *
+     * @param partialOperator the operator holding the partial state, of the same class as this operator
+     * @param firstPartialDestination the first destination in {@code partialOperator} to merge; the partial
+     *        destinations are the contiguous range starting here and parallel to {@code destinations}
+     * @param destinations the destinations in this operator to merge the partial state into
+     */
+    default void mergePartialState(@NotNull IterativeChunkedAggregationOperator partialOperator,
+            int firstPartialDestination, @NotNull IntChunk<RowKeys> destinations) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Ensure that this operator can handle destinations up to tableSize - 1.
      *
@@ -14,13 +14,17 @@ import io.deephaven.engine.table.impl.sources.NanosBasedTimeArraySource;
 import io.deephaven.chunk.attributes.ChunkLengths;
 import io.deephaven.chunk.attributes.ChunkPositions;
 import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSequenceFactory;
 import io.deephaven.engine.rowset.chunkattributes.RowKeys;
 import io.deephaven.util.QueryConstants;
 import io.deephaven.util.compare.LongComparisons;
 import io.deephaven.engine.table.impl.sources.LongArraySource;
+import io.deephaven.engine.table.ChunkSource;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.chunk.*;
 import io.deephaven.util.mutable.MutableInt;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.Collections;
 import java.util.Map;
@@ -54,6 +58,12 @@ class LongChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOpe
     }
 
     private long min(LongChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region simd min
+        final SimdAggregationKernels.SimdAggregationKernel simd = SimdAggregationKernels.kernel(chunkEnd - chunkStart);
+        if (simd != null) {
+            return simd.minLongChunk(values, chunkNonNull, chunkStart, chunkEnd);
+        }
+        // endregion simd min
         int nonNull = 0;
         long value = QueryConstants.NULL_LONG;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -73,6 +83,12 @@ class LongChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOpe
     }
 
     private long max(LongChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region simd max
+        final SimdAggregationKernels.SimdAggregationKernel simd = SimdAggregationKernels.kernel(chunkEnd - chunkStart);
+        if (simd != null) {
+            return simd.maxLongChunk(values, chunkNonNull, chunkStart, chunkEnd);
+        }
+        // endregion simd max
         int nonNull = 0;
         long value = QueryConstants.NULL_LONG;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -178,6 +194,31 @@ class LongChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOpe
         }
     }
 
+    @Override
+    public boolean supportsPartialStateMerge() {
+        return true;
+    }
+
+    @Override
+    public void mergePartialState(@NotNull final IterativeChunkedAggregationOperator partialOperator,
+            final int firstPartialDestination, @NotNull final IntChunk<RowKeys> destinations) {
+        final LongChunkedAddOnlyMinMaxOperator partial = (LongChunkedAddOnlyMinMaxOperator) partialOperator;
+        final int size = destinations.size();
+        if (size == 0) {
+            return;
+        }
+        try (final ChunkSource.GetContext getContext = partial.resultColumn.makeGetContext(size);
+                final RowSequence partialRows = RowSequenceFactory.forRange(
+                        firstPartialDestination, firstPartialDestination + size - 1)) {
+            // each partial result is a single-value chunk to add, so that merging shares the null and NaN handling
+            final LongChunk<? extends Values> partialValues =
+                    partial.resultColumn.getChunk(getContext, partialRows).asLongChunk();
+            for (int ii = 0; ii < size; ++ii) {
+                addChunk(partialValues, destinations.get(ii), ii, 1);
+            }
+        }
+    }
+
     @Override
     public void ensureCapacity(long tableSize) {
         resultColumn.ensureCapacity(tableSize);
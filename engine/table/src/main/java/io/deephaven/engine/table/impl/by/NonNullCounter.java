@@ -34,7 +34,7 @@ public final class NonNullCounter {
      * @param count how many additional non-nulls
      * @return the new count
      */
-    long addNonNullUnsafe(long destPos, int count) {
+    long addNonNullUnsafe(long destPos, long count) {
         long value = nonNullCount.getUnsafe(destPos);
         if (value == QueryConstants.NULL_LONG) {
             value = count;
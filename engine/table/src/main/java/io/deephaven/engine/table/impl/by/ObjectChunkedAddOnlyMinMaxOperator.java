@@ -10,12 +10,16 @@ package io.deephaven.engine.table.impl.by;
 import io.deephaven.chunk.attributes.ChunkLengths;
 import io.deephaven.chunk.attributes.ChunkPositions;
 import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSequenceFactory;
 import io.deephaven.engine.rowset.chunkattributes.RowKeys;
 import io.deephaven.util.compare.ObjectComparisons;
 import io.deephaven.engine.table.impl.sources.ObjectArraySource;
+import io.deephaven.engine.table.ChunkSource;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.chunk.*;
 import io.deephaven.util.mutable.MutableInt;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.Collections;
 import java.util.Map;
@@ -43,6 +47,8 @@ class ObjectChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationO
     }
 
     private Object min(ObjectChunk<Object, ?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region simd min
+        // endregion simd min
         int nonNull = 0;
         Object value = null;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -62,6 +68,8 @@ class ObjectChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationO
     }
 
     private Object max(ObjectChunk<Object, ?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region simd max
+        // endregion simd max
         int nonNull = 0;
         Object value = null;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -167,6 +175,31 @@ class ObjectChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationO
         }
     }
 
+    @Override
+    public boolean supportsPartialStateMerge() {
+        return true;
+    }
+
+    @Override
+    public void mergePartialState(@NotNull final IterativeChunkedAggregationOperator partialOperator,
+            final int firstPartialDestination, @NotNull final IntChunk<RowKeys> destinations) {
+        final ObjectChunkedAddOnlyMinMaxOperator partial = (ObjectChunkedAddOnlyMinMaxOperator) partialOperator;
+        final int size = destinations.size();
+        if (size == 0) {
+            return;
+        }
+        try (final ChunkSource.GetContext getContext = partial.resultColumn.makeGetContext(size);
+                final RowSequence partialRows = RowSequenceFactory.forRange(
+                        firstPartialDestination, firstPartialDestination + size - 1)) {
+            // each partial result is a single-value chunk to add, so that merging shares the null and NaN handling
+            final ObjectChunk<Object, ? extends Values> partialValues =
+                    partial.resultColumn.getChunk(getContext, partialRows).asObjectChunk();
+            for (int ii = 0; ii < size; ++ii) {
+                addChunk(partialValues, destinations.get(ii), ii, 1);
+            }
+        }
+    }
+
     @Override
     public void ensureCapacity(long tableSize) {
         resultColumn.ensureCapacity(tableSize);
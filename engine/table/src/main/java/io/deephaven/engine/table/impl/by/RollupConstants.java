@@ -75,6 +75,18 @@ public final class RollupConstants {
      */
     static final String ROLLUP_NI_COUNT_COLUMN_ID = "_NIC_";
 
+    /**
+     * Middle column name component (between source column name and {@link #ROLLUP_COLUMN_SUFFIX suffix}) for serialized
+     * DDSketch columns used in sketch percentile rollup aggregations.
+     */
+    static final String ROLLUP_SKETCH_COLUMN_ID = "_DDS_";
+
+    /**
+     * Middle column name component (between source column name and {@link #ROLLUP_COLUMN_SUFFIX suffix}) for
+     * HyperLogLog register columns used in approximate count distinct rollup aggregations.
+     */
+    static final String ROLLUP_HLL_REGISTERS_COLUMN_ID = "_HLL_";
+
     /**
      * Middle column name component (between source column name and {@link #ROLLUP_COLUMN_SUFFIX suffix}) for group
      * columns used in support of rollup formulas.
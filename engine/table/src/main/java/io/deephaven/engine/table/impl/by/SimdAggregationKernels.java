@@ -0,0 +1,155 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by;
+
+import io.deephaven.chunk.DoubleChunk;
+import io.deephaven.chunk.FloatChunk;
+import io.deephaven.chunk.IntChunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.attributes.Any;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import io.deephaven.util.mutable.MutableInt;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ServiceLoader;
+
+/**
+ * Access to the inner loops of the sum, average, min and max operators that evaluate many values per instruction, using
+ * the incubating {@code jdk.incubator.vector} API.
+ * <p>
+ * The implementation lives in the {@code engine-simd} project and is discovered with a {@link ServiceLoader}. That
+ * project depends on this one, so applications add it to their runtime classpath; the server does. It is only used
+ * when that project is on the classpath, the JVM was started with {@code --add-modules jdk.incubator.vector}, and
+ * {@link #ENABLED} is true. Otherwise {@link #kernel(int)} returns null, and the operators use their scalar loops.
+ * <p>
+ * Each operator calls the kernel once per run of values with the same destination, which is the whole chunk for
+ * zero-key aggregations. Short runs are left to the scalar loops, which are cheaper than filling a vector.
+ * <p>
+ * Integral sums, minimums and maximums are exactly those of the scalar loops. Floating point sums are
+ * accumulated in one partial sum per vector lane, so they may differ from the scalar sums in their last bits, and a
+ * floating point minimum or maximum of zero may have either sign. The floating point kernels are therefore only used
+ * when {@link #INEXACT_ENABLED} is also true, which it is not by default.
+ */
+public final class SimdAggregationKernels {
+
+    private static final Logger log = LoggerFactory.getLogger(SimdAggregationKernels.class);
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     * Whether aggregation operators should use the SIMD kernel when it is available.
+     */
+    public static boolean ENABLED =
+            Configuration.getInstance().getBooleanWithDefault("SimdAggregationKernels.enabled", true);
+
+    /**
+     * Whether floating point sums, minimums and maximums should also use the SIMD kernel, although their results may
+     * differ from those of the scalar loops in their last bits or the sign of zero.
+     */
+    public static boolean INEXACT_ENABLED =
+            Configuration.getInstance().getBooleanWithDefault("SimdAggregationKernels.inexactEnabled", false);
+
+    /**
+     * The shortest run of values for which the SIMD kernel is used.
+     */
+    public static int MINIMUM_RUN_LENGTH =
+            Configuration.getInstance().getIntegerWithDefault("SimdAggregationKernels.minimumRunLength", 64);
+
+    private SimdAggregationKernels() {} // static use only
+
+    @FunctionalInterface
+    public interface SimdAggregationKernelProvider {
+        /**
+         * @return the kernel, or null if SIMD kernels can't be used in this JVM
+         */
+        @Nullable
+        SimdAggregationKernel get();
+    }
+
+    /**
+     * Vectorized equivalents of the {@code SumXChunk} helpers and the min and max loops of the
+     * {@code XChunkedAddOnlyMinMaxOperator} classes. Each method has the same arguments and results as the scalar loop
+     * it replaces; counts are added to the supplied {@link MutableInt MutableInts} for sums and set for minimums and
+     * maximums.
+     */
+    public interface SimdAggregationKernel {
+        // region sums
+        long sumIntChunk(IntChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount);
+
+        long sumLongChunk(LongChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount);
+
+        double sumFloatChunk(FloatChunk<? extends Values> values, int chunkStart, int chunkSize,
+                MutableInt chunkNormalCount,
+                MutableInt chunkNanCount,
+                MutableInt chunkInfinityCount,
+                MutableInt chunkMinusInfinityCount);
+
+        double sumDoubleChunk(DoubleChunk<? extends Values> values, int chunkStart, int chunkSize,
+                MutableInt chunkNormalCount,
+                MutableInt chunkNanCount,
+                MutableInt chunkInfinityCount,
+                MutableInt chunkMinusInfinityCount);
+        // endregion sums
+
+        // region min and max
+        int minIntChunk(IntChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd);
+
+        int maxIntChunk(IntChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd);
+
+        long minLongChunk(LongChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd);
+
+        long maxLongChunk(LongChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd);
+
+        float minFloatChunk(FloatChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd);
+
+        float maxFloatChunk(FloatChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd);
+
+        double minDoubleChunk(DoubleChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd);
+
+        double maxDoubleChunk(DoubleChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd);
+        // endregion min and max
+    }
+
+    private static final class SimdAggregationKernelHolder {
+        private static final SimdAggregationKernel kernel = loadKernel();
+    }
+
+    @Nullable
+    private static SimdAggregationKernel loadKernel() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            log.info().append("SIMD aggregation kernels are disabled, add the JVM argument --add-modules ")
+                    .append(VECTOR_MODULE).append(" to enable them").endl();
+            return null;
+        }
+        for (final SimdAggregationKernelProvider provider : ServiceLoader.load(SimdAggregationKernelProvider.class)) {
+            final SimdAggregationKernel kernel = provider.get();
+            if (kernel != null) {
+                return kernel;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param runLength the number of values that will be aggregated into a single destination
+     * @return the kernel to aggregate the run with, or null if the run should use the scalar loop
+     */
+    @Nullable
+    static SimdAggregationKernel kernel(final int runLength) {
+        return ENABLED && runLength >= MINIMUM_RUN_LENGTH ? SimdAggregationKernelHolder.kernel : null;
+    }
+
+    /**
+     * @param runLength the number of values that will be aggregated into a single destination
+     * @return the kernel to aggregate the run with, or null if the run should use the scalar loop; floating point
+     *         operators use this instead of {@link #kernel(int)}, as the kernel may change their results' bits
+     */
+    @Nullable
+    static SimdAggregationKernel inexactKernel(final int runLength) {
+        return INEXACT_ENABLED ? kernel(runLength) : null;
+    }
+}
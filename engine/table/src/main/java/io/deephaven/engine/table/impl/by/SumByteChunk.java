@@ -17,6 +17,8 @@ public class SumByteChunk {
     private SumByteChunk() {} // static use only
 
     static long sumByteChunk(ByteChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount) {
+        // region simd sum
+        // endregion simd sum
         final int end = chunkStart + chunkSize;
         long sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
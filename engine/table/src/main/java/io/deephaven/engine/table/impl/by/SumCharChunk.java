@@ -13,6 +13,8 @@ public class SumCharChunk {
     private SumCharChunk() {} // static use only
 
     static long sumCharChunk(CharChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount) {
+        // region simd sum
+        // endregion simd sum
         final int end = chunkStart + chunkSize;
         long sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
@@ -21,6 +21,11 @@ class SumDoubleChunk {
             MutableInt chunkNanCount,
             MutableInt chunkInfinityCount,
             MutableInt chunkMinusInfinityCount) {
+        final SimdAggregationKernels.SimdAggregationKernel simd = SimdAggregationKernels.inexactKernel(chunkSize);
+        if (simd != null) {
+            return simd.sumDoubleChunk(values, chunkStart, chunkSize, chunkNormalCount, chunkNanCount,
+                    chunkInfinityCount, chunkMinusInfinityCount);
+        }
         final int end = chunkStart + chunkSize;
         double sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
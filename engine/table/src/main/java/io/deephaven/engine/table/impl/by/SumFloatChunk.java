@@ -17,6 +17,11 @@ class SumFloatChunk {
             MutableInt chunkNanCount,
             MutableInt chunkInfinityCount,
             MutableInt chunkMinusInfinityCount) {
+        final SimdAggregationKernels.SimdAggregationKernel simd = SimdAggregationKernels.inexactKernel(chunkSize);
+        if (simd != null) {
+            return simd.sumFloatChunk(values, chunkStart, chunkSize, chunkNormalCount, chunkNanCount,
+                    chunkInfinityCount, chunkMinusInfinityCount);
+        }
         final int end = chunkStart + chunkSize;
         double sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
@@ -17,6 +17,12 @@ public class SumIntChunk {
     private SumIntChunk() {} // static use only
 
     static long sumIntChunk(IntChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount) {
+        // region simd sum
+        final SimdAggregationKernels.SimdAggregationKernel simd = SimdAggregationKernels.kernel(chunkSize);
+        if (simd != null) {
+            return simd.sumIntChunk(values, chunkStart, chunkSize, nonNullCount);
+        }
+        // endregion simd sum
         final int end = chunkStart + chunkSize;
         long sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
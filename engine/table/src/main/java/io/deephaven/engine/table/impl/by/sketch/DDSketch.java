@@ -0,0 +1,386 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.sketch;
+
+import io.deephaven.util.QueryConstants;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * A DDSketch (Masson, Rim and Lee, "DDSketch: A Fast and Fully-Mergeable Quantile Sketch with Relative-Error
+ * Guarantees") of double values.
+ * <p>
+ * Positive and negative values are counted in logarithmically sized buckets, so that every bucket's representative
+ * value is within the {@link Mapping#relativeAccuracy() relative accuracy} of each value it counts. The counts of each
+ * sign are kept in one dense {@code long[]} covering the range of occupied buckets; when that range would exceed
+ * {@link Mapping#maxBuckets()}, the lowest buckets are collapsed into the lowest retained bucket, which only costs
+ * accuracy for the smallest magnitudes.
+ * <p>
+ * Because the state is just bucket counts, values may be {@link #remove(double) removed} exactly, and sketches with the
+ * same mapping may be {@link #merge(byte[]) merged} and {@link #subtract(byte[]) subtracted} through their
+ * {@link #toBytes() serialized} form. Instances are not thread safe.
+ */
+public final class DDSketch {
+
+    private final Mapping mapping;
+    private Store positive;
+    private Store negative;
+    private long zeroCount;
+
+    /**
+     * Create an empty sketch.
+     *
+     * @param mapping The mapping from values to buckets
+     */
+    public DDSketch(@NotNull final Mapping mapping) {
+        this.mapping = mapping;
+    }
+
+    /**
+     * The mapping from values to buckets, which may be shared by any number of sketches.
+     */
+    public static final class Mapping {
+
+        /**
+         * The smallest supported relative accuracy, which keeps every bucket index within the range of an int.
+         */
+        public static final double MIN_RELATIVE_ACCURACY = 1e-6;
+
+        private final double relativeAccuracy;
+        private final int maxBuckets;
+        private final double gamma;
+        private final double multiplier;
+
+        /**
+         * @param relativeAccuracy The relative accuracy, in range [{@link #MIN_RELATIVE_ACCURACY}, 1.0)
+         * @param maxBuckets The maximum number of buckets for the values of each sign
+         */
+        public Mapping(final double relativeAccuracy, final int maxBuckets) {
+            if (!(relativeAccuracy >= MIN_RELATIVE_ACCURACY && relativeAccuracy < 1.0)) {
+                throw new IllegalArgumentException(String.format(
+                        "Relative accuracy must be in range [%s, 1.0), but was %s",
+                        MIN_RELATIVE_ACCURACY, relativeAccuracy));
+            }
+            if (maxBuckets < 1) {
+                throw new IllegalArgumentException("Max buckets must be positive, but was " + maxBuckets);
+            }
+            this.relativeAccuracy = relativeAccuracy;
+            this.maxBuckets = maxBuckets;
+            gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+            multiplier = 1 / Math.log(gamma);
+        }
+
+        public double relativeAccuracy() {
+            return relativeAccuracy;
+        }
+
+        public int maxBuckets() {
+            return maxBuckets;
+        }
+
+        /**
+         * @param value A positive, finite value
+         * @return The index of the bucket {@code (gamma^(index - 1), gamma^index]} that contains {@code value}
+         */
+        private int index(final double value) {
+            return (int) Math.ceil(Math.log(value) * multiplier);
+        }
+
+        /**
+         * @param index A bucket index
+         * @return The value that is within the relative accuracy of every value in the bucket
+         */
+        private double value(final int index) {
+            return Math.exp(index / multiplier) * (2 / (1 + gamma));
+        }
+    }
+
+    public Mapping mapping() {
+        return mapping;
+    }
+
+    /**
+     * @return The number of values in this sketch
+     */
+    public long count() {
+        return zeroCount + (positive == null ? 0 : positive.total) + (negative == null ? 0 : negative.total);
+    }
+
+    public boolean isEmpty() {
+        return count() == 0;
+    }
+
+    /**
+     * Add a value to this sketch. Null, NaN, and infinite values are ignored.
+     *
+     * @param value The value
+     * @return Whether the value was added
+     */
+    public boolean add(final double value) {
+        return update(value, 1);
+    }
+
+    /**
+     * Remove a value previously {@link #add(double) added} to this sketch. Null, NaN, and infinite values are ignored.
+     *
+     * @param value The value
+     * @return Whether the value was removed
+     */
+    public boolean remove(final double value) {
+        return update(value, -1);
+    }
+
+    private boolean update(final double value, final long delta) {
+        if (value == QueryConstants.NULL_DOUBLE || !Double.isFinite(value)) {
+            return false;
+        }
+        if (value > 0) {
+            positive = updateStore(positive, mapping.index(value), delta);
+        } else if (value < 0) {
+            negative = updateStore(negative, mapping.index(-value), delta);
+        } else {
+            zeroCount = checkCount(zeroCount + delta);
+        }
+        return true;
+    }
+
+    private Store updateStore(final Store store, final int index, final long delta) {
+        final Store result = store == null ? new Store() : store;
+        result.update(index, delta, mapping.maxBuckets);
+        // An empty store has no collapsed values left, so it is safe to forget its collapse bound.
+        return result.total == 0 ? null : result;
+    }
+
+    private static long checkCount(final long count) {
+        if (count < 0) {
+            throw neverAdded();
+        }
+        return count;
+    }
+
+    private static IllegalStateException neverAdded() {
+        return new IllegalStateException("DDSketch removed a value that was never added");
+    }
+
+    /**
+     * @param quantile The quantile, in range [0.0, 1.0]
+     * @return The approximate value at {@code quantile}, or {@link QueryConstants#NULL_DOUBLE} if this sketch is empty
+     */
+    public double quantile(final double quantile) {
+        final long count = count();
+        if (count == 0) {
+            return QueryConstants.NULL_DOUBLE;
+        }
+        final double rank = quantile * (count - 1);
+        long cumulative = 0;
+        if (negative != null) {
+            // The largest negative bucket index holds the smallest values.
+            for (int pos = negative.counts.length - 1; pos >= 0; --pos) {
+                cumulative += negative.counts[pos];
+                if (cumulative > rank) {
+                    return -mapping.value(negative.offset + pos);
+                }
+            }
+        }
+        cumulative += zeroCount;
+        if (cumulative > rank || positive == null) {
+            return 0;
+        }
+        for (int pos = 0; pos < positive.counts.length; ++pos) {
+            cumulative += positive.counts[pos];
+            if (cumulative > rank) {
+                return mapping.value(positive.offset + pos);
+            }
+        }
+        throw new IllegalStateException("DDSketch bucket counts do not add up to its count");
+    }
+
+    /**
+     * Serialize the counts of this sketch. Leading and trailing empty buckets are trimmed, and counts are written as
+     * variable-length integers, so that a sketch costs about one byte per occupied bucket.
+     *
+     * @return The serialized sketch
+     */
+    public byte[] toBytes() {
+        final int positiveLength = positive == null ? 0 : positive.counts.length;
+        final int negativeLength = negative == null ? 0 : negative.counts.length;
+        final byte[] bytes = new byte[Long.BYTES + 3 * MAX_VAR_LONG_BYTES + 2 * MAX_VAR_INT_BYTES
+                + (positiveLength + negativeLength) * MAX_VAR_LONG_BYTES];
+        final long accuracyBits = Double.doubleToLongBits(mapping.relativeAccuracy);
+        for (int bi = 0; bi < Long.BYTES; ++bi) {
+            bytes[bi] = (byte) (accuracyBits >>> (Long.SIZE - Byte.SIZE * (bi + 1)));
+        }
+        int pos = writeVarLong(bytes, Long.BYTES, zeroCount);
+        pos = writeStore(bytes, pos, positive);
+        pos = writeStore(bytes, pos, negative);
+        return Arrays.copyOf(bytes, pos);
+    }
+
+    /**
+     * Add the counts of a {@link #toBytes() serialized} sketch to this sketch.
+     *
+     * @param bytes The serialized sketch, which must have the same relative accuracy as this sketch
+     */
+    public void merge(@NotNull final byte[] bytes) {
+        update(bytes, 1);
+    }
+
+    /**
+     * Remove the counts of a {@link #toBytes() serialized} sketch that was previously {@link #merge(byte[]) merged}
+     * into this sketch.
+     *
+     * @param bytes The serialized sketch, which must have the same relative accuracy as this sketch
+     */
+    public void subtract(@NotNull final byte[] bytes) {
+        update(bytes, -1);
+    }
+
+    private void update(final byte[] bytes, final long sign) {
+        long accuracyBits = 0;
+        for (int bi = 0; bi < Long.BYTES; ++bi) {
+            accuracyBits = (accuracyBits << Byte.SIZE) | (bytes[bi] & 0xFF);
+        }
+        final double relativeAccuracy = Double.longBitsToDouble(accuracyBits);
+        if (relativeAccuracy != mapping.relativeAccuracy) {
+            throw new IllegalArgumentException(String.format(
+                    "Cannot combine a DDSketch with relative accuracy %s into one with relative accuracy %s",
+                    relativeAccuracy, mapping.relativeAccuracy));
+        }
+        final int[] position = new int[] {Long.BYTES};
+        zeroCount = checkCount(zeroCount + sign * readVarLong(bytes, position));
+        positive = readStore(bytes, position, positive, sign);
+        negative = readStore(bytes, position, negative, sign);
+    }
+
+    private Store readStore(final byte[] bytes, final int[] position, Store store, final long sign) {
+        final int length = (int) readVarLong(bytes, position);
+        if (length == 0) {
+            return store;
+        }
+        final long encodedOffset = readVarLong(bytes, position);
+        final int offset = (int) ((encodedOffset >>> 1) ^ -(encodedOffset & 1));
+        for (int ii = 0; ii < length; ++ii) {
+            final long count = readVarLong(bytes, position);
+            if (count != 0) {
+                store = updateStore(store, offset + ii, sign * count);
+            }
+        }
+        return store;
+    }
+
+    private static int writeStore(final byte[] bytes, int pos, final Store store) {
+        if (store == null) {
+            return writeVarLong(bytes, pos, 0);
+        }
+        int first = 0;
+        while (store.counts[first] == 0) {
+            ++first;
+        }
+        int last = store.counts.length - 1;
+        while (store.counts[last] == 0) {
+            --last;
+        }
+        pos = writeVarLong(bytes, pos, last - first + 1);
+        final int offset = store.offset + first;
+        pos = writeVarLong(bytes, pos, ((long) offset << 1) ^ (offset >> 31));
+        for (int ii = first; ii <= last; ++ii) {
+            pos = writeVarLong(bytes, pos, store.counts[ii]);
+        }
+        return pos;
+    }
+
+    private static final int MAX_VAR_INT_BYTES = 5;
+    private static final int MAX_VAR_LONG_BYTES = 10;
+
+    private static int writeVarLong(final byte[] bytes, int pos, long value) {
+        while ((value & ~0x7FL) != 0) {
+            bytes[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[pos++] = (byte) value;
+        return pos;
+    }
+
+    private static long readVarLong(final byte[] bytes, final int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = bytes[position[0]++];
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while (current < 0);
+        return value;
+    }
+
+    /**
+     * The bucket counts for the values of one sign, indexed by bucket index minus {@link #offset}.
+     */
+    private static final class Store {
+
+        private static final int INITIAL_LENGTH = 8;
+
+        private long[] counts;
+        private int offset;
+        /**
+         * Once buckets have been collapsed, the lowest retained bucket index; lower indices are counted here.
+         */
+        private int collapseIndex = Integer.MIN_VALUE;
+        private long total;
+
+        private void update(int index, final long delta, final int maxBuckets) {
+            index = Math.max(index, collapseIndex);
+            if (counts == null) {
+                if (delta < 0) {
+                    throw neverAdded();
+                }
+                final int length = Math.min(INITIAL_LENGTH, maxBuckets);
+                counts = new long[length];
+                offset = index - length / 2;
+            } else if (index < offset || index >= offset + counts.length) {
+                if (delta < 0) {
+                    throw neverAdded();
+                }
+                grow(index, maxBuckets);
+                index = Math.max(index, collapseIndex);
+            }
+            final int pos = index - offset;
+            counts[pos] = checkCount(counts[pos] + delta);
+            total += delta;
+        }
+
+        private void grow(final int index, final int maxBuckets) {
+            int dataLow = 0;
+            while (counts[dataLow] == 0) {
+                ++dataLow;
+            }
+            int dataHigh = counts.length - 1;
+            while (counts[dataHigh] == 0) {
+                --dataHigh;
+            }
+            dataLow += offset;
+            dataHigh += offset;
+
+            final boolean growingUp = index > dataHigh;
+            int newLow = Math.min(index, dataLow);
+            final int newHigh = Math.max(index, dataHigh);
+            if (newHigh - newLow + 1 > maxBuckets) {
+                // Collapse the lowest buckets to stay within the bucket budget.
+                newLow = newHigh - maxBuckets + 1;
+                collapseIndex = newLow;
+            }
+            final int needed = newHigh - newLow + 1;
+            final int length = (int) Math.min(maxBuckets, needed + Math.max(INITIAL_LENGTH, (long) needed >> 2));
+            final int newOffset = growingUp ? newLow : newHigh - length + 1;
+
+            final long[] newCounts = new long[length];
+            for (int pos = dataLow - offset; pos <= dataHigh - offset; ++pos) {
+                newCounts[Math.max(offset + pos, newLow) - newOffset] += counts[pos];
+            }
+            counts = newCounts;
+            offset = newOffset;
+        }
+    }
+}
@@ -0,0 +1,463 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.sketch;
+
+import io.deephaven.base.verify.Assert;
+import io.deephaven.chunk.*;
+import io.deephaven.chunk.attributes.ChunkLengths;
+import io.deephaven.chunk.attributes.ChunkPositions;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.TableUpdate;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.by.IterativeChunkedAggregationOperator;
+import io.deephaven.engine.table.impl.sources.DoubleArraySource;
+import io.deephaven.engine.table.impl.sources.ObjectArraySource;
+import io.deephaven.engine.table.impl.util.cast.ToDoubleCast;
+import io.deephaven.util.QueryConstants;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Iterative DDSketch percentile operator.
+ * <p>
+ * Each destination keeps a {@link DDSketch}, which supports additions, removals, and modifications exactly. The
+ * operator may expose the {@link DDSketch#toBytes() serialized} sketch of each destination, so that a rollup's next
+ * level can re-aggregate with an operator that {@link DDSketch#merge(byte[]) merges} and
+ * {@link DDSketch#subtract(byte[]) subtracts} its constituents' serialized sketches.
+ */
+public class DDSketchPercentileOperator implements IterativeChunkedAggregationOperator {
+
+    public static final double RELATIVE_ACCURACY_DEFAULT = 0.01;
+
+    /** The maximum number of buckets for the values of each sign in each sketch. (2048 default) */
+    private static final int MAX_BUCKETS =
+            Configuration.getInstance().getIntegerWithDefault("DDSketchPercentileOperator.maxBuckets", 2048);
+
+    private final DDSketch.Mapping mapping;
+    private final double[] percentiles;
+    private final String[] resultNames;
+    private final String sketchColumnName;
+    private final boolean reaggregate;
+
+    private final ChunkType chunkType;
+    private final ObjectArraySource<DDSketch> sketches;
+    private final ObjectArraySource<byte[]> serializedSketches;
+    private final DoubleArraySource[] resultColumns;
+
+    private boolean modifiedThisStep;
+    private WritableIntChunk<ChunkPositions> chunkModifiedPositions;
+
+    public DDSketchPercentileOperator(@NotNull final Class<?> type, final double relativeAccuracy,
+            final double percentile, @NotNull final String name) {
+        this(type, relativeAccuracy, new double[] {percentile}, new String[] {name}, null, false);
+    }
+
+    /**
+     * @param type The input column type; {@code byte[]} when {@code reaggregate} is true
+     * @param relativeAccuracy The relative accuracy of the sketches
+     * @param percentiles The percentiles to compute
+     * @param resultNames The result column name for each percentile
+     * @param sketchColumnName The name of a result column exposing the serialized sketch of each destination, or
+     *        {@code null} to not expose the sketches
+     * @param reaggregate Whether the input column holds serialized sketches to combine, rather than values to add
+     */
+    public DDSketchPercentileOperator(@NotNull final Class<?> type, final double relativeAccuracy,
+            @NotNull final double[] percentiles, @NotNull final String[] resultNames,
+            @Nullable final String sketchColumnName, final boolean reaggregate) {
+        if (resultNames.length != percentiles.length) {
+            throw new IllegalArgumentException("percentiles length and resultName length must be identical:"
+                    + resultNames.length + " (resultNames) != " + percentiles.length + " (percentiles)");
+        }
+        if (resultNames.length == 0) {
+            throw new IllegalArgumentException("Must have at least one percentile result");
+        }
+        if (type == Instant.class) {
+            throw new UnsupportedOperationException("Instant is not supported for sketch percentiles.");
+        }
+        if (reaggregate && type != byte[].class) {
+            throw new IllegalArgumentException("Re-aggregation requires serialized sketches, but input type is "
+                    + type);
+        }
+        this.mapping = new DDSketch.Mapping(relativeAccuracy, MAX_BUCKETS);
+        this.percentiles = percentiles;
+        this.resultNames = resultNames;
+        this.sketchColumnName = sketchColumnName;
+        this.reaggregate = reaggregate;
+        chunkType = ChunkType.fromElementType(type);
+        sketches = new ObjectArraySource<>(DDSketch.class);
+        serializedSketches = sketchColumnName == null ? null : new ObjectArraySource<>(byte[].class);
+        resultColumns = new DoubleArraySource[percentiles.length];
+        for (int ii = 0; ii < percentiles.length; ++ii) {
+            resultColumns[ii] = new DoubleArraySource();
+        }
+    }
+
+    public double relativeAccuracy() {
+        return mapping.relativeAccuracy();
+    }
+
+    @Override
+    public void addChunk(BucketedContext bucketedContext, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, IntChunk<RowKeys> destinations,
+            IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+            WritableBooleanChunk<Values> stateModified) {
+        final SketchContext context = (SketchContext) bucketedContext;
+        updateChunk(null, context.castNew(values), destinations, startPositions, length, stateModified);
+    }
+
+    @Override
+    public void removeChunk(BucketedContext bucketedContext, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, IntChunk<RowKeys> destinations,
+            IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+            WritableBooleanChunk<Values> stateModified) {
+        final SketchContext context = (SketchContext) bucketedContext;
+        updateChunk(context.castPrevious(values), null, destinations, startPositions, length, stateModified);
+    }
+
+    @Override
+    public void modifyChunk(BucketedContext bucketedContext, Chunk<? extends Values> preValues,
+            Chunk<? extends Values> postValues, LongChunk<? extends RowKeys> postShiftRowKeys,
+            IntChunk<RowKeys> destinations, IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+            WritableBooleanChunk<Values> stateModified) {
+        final SketchContext context = (SketchContext) bucketedContext;
+        updateChunk(context.castPrevious(preValues), context.castNew(postValues), destinations, startPositions,
+                length, stateModified);
+    }
+
+    @Override
+    public boolean addChunk(SingletonContext singletonContext, int chunkSize, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, long destination) {
+        final SketchContext context = (SketchContext) singletonContext;
+        return updateSingleton(null, context.castNew(values), destination);
+    }
+
+    @Override
+    public boolean removeChunk(SingletonContext singletonContext, int chunkSize, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, long destination) {
+        final SketchContext context = (SketchContext) singletonContext;
+        return updateSingleton(context.castPrevious(values), null, destination);
+    }
+
+    @Override
+    public boolean modifyChunk(SingletonContext singletonContext, int chunkSize, Chunk<? extends Values> preValues,
+            Chunk<? extends Values> postValues, LongChunk<? extends RowKeys> postShiftRowKeys, long destination) {
+        final SketchContext context = (SketchContext) singletonContext;
+        return updateSingleton(context.castPrevious(preValues), context.castNew(postValues), destination);
+    }
+
+    private void updateChunk(
+            @Nullable final Chunk<? extends Values> removed,
+            @Nullable final Chunk<? extends Values> added,
+            @NotNull final IntChunk<RowKeys> destinations,
+            @NotNull final IntChunk<ChunkPositions> startPositions,
+            @NotNull final IntChunk<ChunkLengths> length,
+            @NotNull final WritableBooleanChunk<Values> stateModified) {
+        chunkModifiedPositions.setSize(0);
+        for (int ii = 0; ii < startPositions.size(); ++ii) {
+            final int runLength = length.get(ii);
+            if (runLength == 0) {
+                continue;
+            }
+            final int startPosition = startPositions.get(ii);
+            if (updateRun(removed, added, startPosition, runLength, destinations.get(startPosition))) {
+                stateModified.set(ii, true);
+                chunkModifiedPositions.add(ii);
+            }
+        }
+    }
+
+    private boolean updateSingleton(
+            @Nullable final Chunk<? extends Values> removed,
+            @Nullable final Chunk<? extends Values> added,
+            final long destination) {
+        chunkModifiedPositions.setSize(0);
+        final int size = added == null ? removed.size() : added.size();
+        if (updateRun(removed, added, 0, size, destination)) {
+            chunkModifiedPositions.add(0);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Remove the {@code removed} values and add the {@code added} values in {@code [start, start + length)} to the
+     * sketch for {@code destination}.
+     *
+     * @return Whether the sketch changed
+     */
+    private boolean updateRun(
+            @Nullable final Chunk<? extends Values> removed,
+            @Nullable final Chunk<? extends Values> added,
+            final int start,
+            final int length,
+            final long destination) {
+        final DDSketch existing = sketches.getUnsafe(destination);
+        final DDSketch sketch = existing == null ? new DDSketch(mapping) : existing;
+        boolean changed = false;
+        if (reaggregate) {
+            final ObjectChunk<byte[], ? extends Values> removedSketches =
+                    removed == null ? null : removed.asObjectChunk();
+            final ObjectChunk<byte[], ? extends Values> addedSketches = added == null ? null : added.asObjectChunk();
+            for (int ii = start; ii < start + length; ++ii) {
+                final byte[] removedSketch = removedSketches == null ? null : removedSketches.get(ii);
+                final byte[] addedSketch = addedSketches == null ? null : addedSketches.get(ii);
+                if (removedSketch == addedSketch) {
+                    // The constituent's sketch was not re-serialized, so it is unchanged.
+                    continue;
+                }
+                if (removedSketch != null) {
+                    sketch.subtract(removedSketch);
+                }
+                if (addedSketch != null) {
+                    sketch.merge(addedSketch);
+                }
+                changed = true;
+            }
+        } else {
+            if (removed != null) {
+                final DoubleChunk<? extends Values> removedValues = removed.asDoubleChunk();
+                for (int ii = start; ii < start + length; ++ii) {
+                    changed |= sketch.remove(removedValues.get(ii));
+                }
+            }
+            if (added != null) {
+                final DoubleChunk<? extends Values> addedValues = added.asDoubleChunk();
+                for (int ii = start; ii < start + length; ++ii) {
+                    changed |= sketch.add(addedValues.get(ii));
+                }
+            }
+        }
+        if (sketch.isEmpty()) {
+            if (existing != null) {
+                sketches.set(destination, null);
+            }
+        } else if (existing == null) {
+            sketches.set(destination, sketch);
+        }
+        modifiedThisStep |= changed;
+        return changed;
+    }
+
+    @Override
+    public void propagateInitialState(@NotNull final QueryTable resultTable, int startingDestinationsCount) {
+        resultTable.getRowSet().forAllRowKeys(this::updateDestination);
+    }
+
+    private void updateDestination(final long destination) {
+        final DDSketch sketch = sketches.getUnsafe(destination);
+        for (int jj = 0; jj < resultColumns.length; ++jj) {
+            resultColumns[jj].set(destination,
+                    sketch == null ? QueryConstants.NULL_DOUBLE : sketch.quantile(percentiles[jj]));
+        }
+        if (serializedSketches != null) {
+            serializedSketches.set(destination, sketch == null ? null : sketch.toBytes());
+        }
+    }
+
+    @Override
+    public boolean resetForStep(@NotNull final TableUpdate upstream, final int startingDestinationsCount) {
+        modifiedThisStep = false;
+        return false;
+    }
+
+    @Override
+    public void propagateUpdates(@NotNull final TableUpdate downstream, @NotNull final RowSet newDestinations) {
+        downstream.added().forAllRowKeys(this::updateDestination);
+        if (modifiedThisStep) {
+            downstream.modified().forAllRowKeys(this::updateDestination);
+        }
+    }
+
+    @Override
+    public void ensureCapacity(long tableSize) {
+        for (int jj = 0; jj < resultColumns.length; ++jj) {
+            resultColumns[jj].ensureCapacity(tableSize);
+        }
+        sketches.ensureCapacity(tableSize);
+        if (serializedSketches != null) {
+            serializedSketches.ensureCapacity(tableSize);
+        }
+    }
+
+    @Override
+    public Map<String, ? extends ColumnSource<?>> getResultColumns() {
+        final Map<String, ColumnSource<?>> results = new LinkedHashMap<>(resultNames.length + 1);
+        for (int jj = 0; jj < resultColumns.length; ++jj) {
+            results.put(resultNames[jj], resultColumns[jj]);
+        }
+        if (serializedSketches != null) {
+            results.put(sketchColumnName, serializedSketches);
+        }
+        return results;
+    }
+
+    @Override
+    public void startTrackingPrevValues() {
+        for (final DoubleArraySource resultColumn : resultColumns) {
+            resultColumn.startTrackingPrevValues();
+        }
+        if (serializedSketches != null) {
+            // The next rollup level subtracts the previous serialized sketch of each modified or removed constituent.
+            serializedSketches.startTrackingPrevValues();
+        }
+    }
+
+    private class SketchContext implements SingletonContext, BucketedContext {
+        private final ToDoubleCast previousCast;
+        private final ToDoubleCast newCast;
+
+        private SketchContext(int size) {
+            previousCast = reaggregate ? null : ToDoubleCast.makeToDoubleCast(chunkType, size);
+            newCast = reaggregate ? null : ToDoubleCast.makeToDoubleCast(chunkType, size);
+            Assert.eqNull(chunkModifiedPositions, "chunkModifiedPositions");
+            chunkModifiedPositions = WritableIntChunk.makeWritableChunk(size);
+        }
+
+        private Chunk<? extends Values> castPrevious(@NotNull final Chunk<? extends Values> values) {
+            return previousCast == null ? values : previousCast.cast(values);
+        }
+
+        private Chunk<? extends Values> castNew(@NotNull final Chunk<? extends Values> values) {
+            return newCast == null ? values : newCast.cast(values);
+        }
+
+        @Override
+        public void close() {
+            if (previousCast != null) {
+                previousCast.close();
+                newCast.close();
+            }
+            chunkModifiedPositions.close();
+            chunkModifiedPositions = null;
+        }
+    }
+
+    @Override
+    public SingletonContext makeSingletonContext(int size) {
+        return new SketchContext(size);
+    }
+
+    @Override
+    public BucketedContext makeBucketedContext(int size) {
+        return new SketchContext(size);
+    }
+
+    /**
+     * Make an operator that computes another percentile from the sketches of this operator, which must be added to
+     * the aggregation after this operator.
+     *
+     * @param percentile The percentile
+     * @param resultName The result column name
+     * @return The secondary operator
+     */
+    public IterativeChunkedAggregationOperator makeSecondaryOperator(double percentile, @NotNull String resultName) {
+        return new SecondaryOperator(percentile, resultName);
+    }
+
+    private class SecondaryOperator implements IterativeChunkedAggregationOperator {
+
+        private final double percentile;
+        private final String resultName;
+
+        private final DoubleArraySource resultColumn;
+
+        private SecondaryOperator(final double percentile, @NotNull final String resultName) {
+            this.percentile = percentile;
+            this.resultName = resultName;
+
+            resultColumn = new DoubleArraySource();
+        }
+
+        @Override
+        public void addChunk(BucketedContext context, Chunk<? extends Values> values,
+                LongChunk<? extends RowKeys> inputRowKeys, IntChunk<RowKeys> destinations,
+                IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+                WritableBooleanChunk<Values> stateModified) {
+            copyModifiedPositions(stateModified);
+        }
+
+        @Override
+        public void removeChunk(BucketedContext context, Chunk<? extends Values> values,
+                LongChunk<? extends RowKeys> inputRowKeys, IntChunk<RowKeys> destinations,
+                IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+                WritableBooleanChunk<Values> stateModified) {
+            copyModifiedPositions(stateModified);
+        }
+
+        @Override
+        public void modifyChunk(BucketedContext context, Chunk<? extends Values> previousValues,
+                Chunk<? extends Values> newValues, LongChunk<? extends RowKeys> postShiftRowKeys,
+                IntChunk<RowKeys> destinations, IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+                WritableBooleanChunk<Values> stateModified) {
+            copyModifiedPositions(stateModified);
+        }
+
+        private void copyModifiedPositions(@NotNull final WritableBooleanChunk<Values> stateModified) {
+            final int numModifiedPositions = chunkModifiedPositions.size();
+            for (int mpi = 0; mpi < numModifiedPositions; ++mpi) {
+                stateModified.set(chunkModifiedPositions.get(mpi), true);
+            }
+        }
+
+        @Override
+        public boolean addChunk(SingletonContext context, int chunkSize, Chunk<? extends Values> values,
+                LongChunk<? extends RowKeys> inputRowKeys, long destination) {
+            return chunkModifiedPositions.size() > 0;
+        }
+
+        @Override
+        public boolean removeChunk(SingletonContext context, int chunkSize, Chunk<? extends Values> values,
+                LongChunk<? extends RowKeys> inputRowKeys, long destination) {
+            return chunkModifiedPositions.size() > 0;
+        }
+
+        @Override
+        public boolean modifyChunk(SingletonContext context, int chunkSize, Chunk<? extends Values> previousValues,
+                Chunk<? extends Values> newValues, LongChunk<? extends RowKeys> postShiftRowKeys, long destination) {
+            return chunkModifiedPositions.size() > 0;
+        }
+
+        @Override
+        public void ensureCapacity(final long tableSize) {
+            resultColumn.ensureCapacity(tableSize);
+        }
+
+        @Override
+        public Map<String, ? extends ColumnSource<?>> getResultColumns() {
+            return Collections.singletonMap(resultName, resultColumn);
+        }
+
+        @Override
+        public void propagateInitialState(@NotNull final QueryTable resultTable, int startingDestinationsCount) {
+            resultTable.getRowSet().forAllRowKeys(this::updateDestination);
+        }
+
+        @Override
+        public void startTrackingPrevValues() {
+            resultColumn.startTrackingPrevValues();
+        }
+
+        @Override
+        public void propagateUpdates(@NotNull final TableUpdate downstream, @NotNull final RowSet newDestinations) {
+            downstream.added().forAllRowKeys(this::updateDestination);
+            if (modifiedThisStep) {
+                downstream.modified().forAllRowKeys(this::updateDestination);
+            }
+        }
+
+        private void updateDestination(final long destination) {
+            final DDSketch sketch = sketches.getUnsafe(destination);
+            resultColumn.set(destination, sketch == null ? QueryConstants.NULL_DOUBLE : sketch.quantile(percentile));
+        }
+    }
+}
@@ -0,0 +1,208 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.sketch;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+
+/**
+ * Hashing and estimation for HyperLogLog sketches with {@code 2^precision} one-byte registers.
+ * <p>
+ * Values are reduced to 64-bit hashes, as in HLL++, so that there is no need for a large-cardinality correction. The
+ * top {@code precision} bits of a hash select a register, and the register keeps the maximum over its hashes of the
+ * position of the first one bit in the remaining bits. Cardinality is estimated from the histogram of register values
+ * with Ertl's improved raw estimator, which is unbiased across the whole cardinality range without HLL++'s empirical
+ * bias-correction tables.
+ */
+public final class HyperLogLog {
+
+    private HyperLogLog() {}
+
+    private static final double ALPHA_INF = 1 / (2 * Math.log(2));
+
+    /**
+     * @param precision The precision
+     * @return The number of registers in a sketch with {@code precision}
+     */
+    public static int registerCount(final int precision) {
+        return 1 << precision;
+    }
+
+    /**
+     * @param hash A value hash
+     * @param precision The precision
+     * @return The register that {@code hash} updates
+     */
+    public static int registerIndex(final long hash, final int precision) {
+        return (int) (hash >>> (Long.SIZE - precision));
+    }
+
+    /**
+     * @param hash A value hash
+     * @param precision The precision
+     * @return The value that {@code hash} offers to its register, in range [1, 65 - precision]
+     */
+    public static byte registerValue(final long hash, final int precision) {
+        final long remaining = hash << precision;
+        return (byte) (remaining == 0 ? Long.SIZE - precision + 1 : Long.numberOfLeadingZeros(remaining) + 1);
+    }
+
+    /**
+     * Hash a primitive value, widened to a {@code long} or reinterpreted as its bits.
+     *
+     * @param value The value
+     * @return The hash
+     */
+    public static long hash(final long value) {
+        // SplitMix64 finalizer, which avalanches every input bit into the high bits that select registers
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Hash a floating point value, such that {@code -0.0} and {@code 0.0} hash alike, as do all NaNs.
+     *
+     * @param value The value
+     * @return The hash
+     */
+    public static long hash(final double value) {
+        return hash(Double.doubleToLongBits(value == 0 ? 0 : value));
+    }
+
+    /**
+     * Hash an object over all 64 bits where its type allows, so that distinct values do not share the collisions of
+     * 32-bit {@link Object#hashCode() hash codes}. Strings, big numbers and byte arrays are hashed from their contents,
+     * and boxed primitives and {@link Instant Instants} as the primitive columns of their types are. Other objects can
+     * only be hashed from their hash codes, so their estimates are limited by the collisions of those codes.
+     *
+     * @param value The value
+     * @return The hash
+     */
+    public static long hash(@NotNull final Object value) {
+        if (value instanceof String) {
+            final String string = (String) value;
+            long h = string.length();
+            for (int ci = 0; ci < string.length(); ++ci) {
+                h = h * 0x100000001B3L + string.charAt(ci);
+            }
+            return hash(h);
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return hash(((Number) value).longValue());
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return hash(((Number) value).doubleValue());
+        }
+        if (value instanceof Character) {
+            return hash((long) (Character) value);
+        }
+        if (value instanceof Instant) {
+            final Instant instant = (Instant) value;
+            return hash(instant.getEpochSecond() * 1_000_000_000L + instant.getNano());
+        }
+        if (value instanceof BigInteger) {
+            return hash(((BigInteger) value).toByteArray());
+        }
+        if (value instanceof BigDecimal) {
+            // BigDecimals of different scales are not equal
+            final BigDecimal decimal = (BigDecimal) value;
+            return hash(hash(decimal.unscaledValue().toByteArray()) + decimal.scale());
+        }
+        if (value instanceof byte[]) {
+            return hash((byte[]) value);
+        }
+        return hash((long) value.hashCode());
+    }
+
+    private static long hash(@NotNull final byte[] bytes) {
+        long h = bytes.length;
+        for (final byte b : bytes) {
+            h = h * 0x100000001B3L + b;
+        }
+        return hash(h);
+    }
+
+    /**
+     * Estimate the number of distinct values offered to a sketch.
+     *
+     * @param registers The register storage
+     * @param offset The offset of the sketch's first register in {@code registers}
+     * @param precision The precision
+     * @param histogram Scratch space for the register histogram, of length at least {@code 66 - precision}
+     * @return The estimated cardinality
+     */
+    public static long estimate(
+            @NotNull final byte[] registers,
+            final int offset,
+            final int precision,
+            @NotNull final int[] histogram) {
+        final int m = registerCount(precision);
+        final int histogramLength = Long.SIZE - precision + 2;
+        for (int hi = 0; hi < histogramLength; ++hi) {
+            histogram[hi] = 0;
+        }
+        for (int ri = offset; ri < offset + m; ++ri) {
+            ++histogram[registers[ri]];
+        }
+        return estimate(histogram, precision);
+    }
+
+    /**
+     * Estimate the number of distinct values offered to a sketch from the histogram of its register values.
+     *
+     * @param histogram The number of registers with each value, of length at least {@code 66 - precision}
+     * @param precision The precision
+     * @return The estimated cardinality
+     */
+    public static long estimate(@NotNull final int[] histogram, final int precision) {
+        final int m = registerCount(precision);
+        final int q = Long.SIZE - precision;
+        if (histogram[0] == m) {
+            return 0;
+        }
+        double z = m * tau(1 - (double) histogram[q + 1] / m);
+        for (int k = q; k >= 1; --k) {
+            z = 0.5 * (z + histogram[k]);
+        }
+        z += m * sigma((double) histogram[0] / m);
+        return Math.round(ALPHA_INF * m * m / z);
+    }
+
+    private static double sigma(double x) {
+        if (x == 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double y = 1;
+        double z = x;
+        double zPrev;
+        do {
+            x *= x;
+            zPrev = z;
+            z += x * y;
+            y += y;
+        } while (z != zPrev);
+        return z;
+    }
+
+    private static double tau(double x) {
+        if (x == 0 || x == 1) {
+            return 0;
+        }
+        double y = 1;
+        double z = 1 - x;
+        double zPrev;
+        do {
+            x = Math.sqrt(x);
+            zPrev = z;
+            y *= 0.5;
+            z -= (1 - x) * (1 - x) * y;
+        } while (z != zPrev);
+        return z / 3;
+    }
+}
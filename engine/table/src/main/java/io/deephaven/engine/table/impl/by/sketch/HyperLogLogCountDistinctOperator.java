@@ -0,0 +1,348 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.sketch;
+
+import io.deephaven.chunk.*;
+import io.deephaven.chunk.attributes.ChunkLengths;
+import io.deephaven.chunk.attributes.ChunkPositions;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.TableUpdate;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.by.IterativeChunkedAggregationOperator;
+import io.deephaven.engine.table.impl.sources.LongArraySource;
+import io.deephaven.engine.table.impl.sources.ObjectArraySource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.deephaven.util.QueryConstants.*;
+
+/**
+ * Iterative approximate count distinct operator, backed by a {@link HyperLogLog} sketch for each destination.
+ * <p>
+ * The registers of every destination are kept in a single {@link HyperLogLogRegisters} store, in which a destination
+ * with few distinct values keeps only the registers it has set, and any other keeps all {@code 2^precision} one-byte
+ * registers: 4 KiB at {@link #PRECISION_DEFAULT}. The registers exposed for a rollup's next level use the same sparse or
+ * dense encoding. Registers only
+ * ever increase, so the operator supports additions only, which suffices for static, add-only, and blink tables. The
+ * operator may expose a copy of the registers of each destination, so that a rollup's next level can re-aggregate by
+ * merging its constituents' registers; a constituent's registers can only grow, so a modified constituent is merged
+ * again without first being subtracted.
+ */
+public class HyperLogLogCountDistinctOperator implements IterativeChunkedAggregationOperator {
+
+    /**
+     * The precision used when none is specified, with a relative standard error of about 1.6%.
+     */
+    public static final int PRECISION_DEFAULT = 12;
+
+    private final ChunkType chunkType;
+    private final String name;
+    private final String registersName;
+    private final boolean reaggregate;
+
+    private final HyperLogLogRegisters registers;
+    private final LongArraySource resultColumn;
+    private final ObjectArraySource<byte[]> exposedRegisters;
+    private final int[] histogram;
+
+    private boolean modifiedThisStep;
+
+    /**
+     * @param type The input column type; {@code byte[]} when {@code reaggregate} is true. {@link Instant} inputs are
+     *        read as their {@code long} epoch nanoseconds.
+     * @param precision The HyperLogLog precision
+     * @param name The result column name
+     * @param registersName The name of a result column exposing a copy of the registers of each destination, or
+     *        {@code null} to not expose the registers
+     * @param reaggregate Whether the input column holds registers to merge, rather than values to count
+     */
+    public HyperLogLogCountDistinctOperator(
+            @NotNull final Class<?> type,
+            final int precision,
+            @NotNull final String name,
+            @Nullable final String registersName,
+            final boolean reaggregate) {
+        if (reaggregate && type != byte[].class) {
+            throw new IllegalArgumentException("Re-aggregation requires registers, but input type is " + type);
+        }
+        chunkType = type == Instant.class ? ChunkType.Long : ChunkType.fromElementType(type);
+        this.name = name;
+        this.registersName = registersName;
+        this.reaggregate = reaggregate;
+        registers = new HyperLogLogRegisters(precision);
+        resultColumn = new LongArraySource();
+        exposedRegisters = registersName == null ? null : new ObjectArraySource<>(byte[].class);
+        histogram = new int[Long.SIZE - precision + 2];
+    }
+
+    private static UnsupportedOperationException removalUnsupported() {
+        return new UnsupportedOperationException(
+                "HyperLogLog approximate count distinct does not support data removal");
+    }
+
+    private static UnsupportedOperationException modificationUnsupported() {
+        return new UnsupportedOperationException(
+                "HyperLogLog approximate count distinct does not support data modification");
+    }
+
+    @Override
+    public void addChunk(BucketedContext bucketedContext, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, IntChunk<RowKeys> destinations,
+            IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+            WritableBooleanChunk<Values> stateModified) {
+        for (int ii = 0; ii < startPositions.size(); ++ii) {
+            final int startPosition = startPositions.get(ii);
+            if (addRun(values, startPosition, length.get(ii), destinations.get(startPosition))) {
+                stateModified.set(ii, true);
+            }
+        }
+    }
+
+    @Override
+    public void removeChunk(BucketedContext bucketedContext, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, IntChunk<RowKeys> destinations,
+            IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+            WritableBooleanChunk<Values> stateModified) {
+        throw removalUnsupported();
+    }
+
+    @Override
+    public void modifyChunk(BucketedContext bucketedContext, Chunk<? extends Values> preValues,
+            Chunk<? extends Values> postValues, LongChunk<? extends RowKeys> postShiftRowKeys,
+            IntChunk<RowKeys> destinations, IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+            WritableBooleanChunk<Values> stateModified) {
+        if (!reaggregate) {
+            throw modificationUnsupported();
+        }
+        for (int ii = 0; ii < startPositions.size(); ++ii) {
+            final int startPosition = startPositions.get(ii);
+            if (mergeModifiedRun(preValues, postValues, startPosition, length.get(ii),
+                    destinations.get(startPosition))) {
+                stateModified.set(ii, true);
+            }
+        }
+    }
+
+    @Override
+    public boolean addChunk(SingletonContext singletonContext, int chunkSize, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, long destination) {
+        return addRun(values, 0, values.size(), destination);
+    }
+
+    @Override
+    public boolean removeChunk(SingletonContext singletonContext, int chunkSize, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, long destination) {
+        throw removalUnsupported();
+    }
+
+    @Override
+    public boolean modifyChunk(SingletonContext singletonContext, int chunkSize, Chunk<? extends Values> preValues,
+            Chunk<? extends Values> postValues, LongChunk<? extends RowKeys> postShiftRowKeys, long destination) {
+        if (!reaggregate) {
+            throw modificationUnsupported();
+        }
+        return mergeModifiedRun(preValues, postValues, 0, postValues.size(), destination);
+    }
+
+    private boolean mergeModifiedRun(
+            @NotNull final Chunk<? extends Values> preValues,
+            @NotNull final Chunk<? extends Values> postValues,
+            final int start,
+            final int length,
+            final long destination) {
+        final ObjectChunk<byte[], ? extends Values> preRegisters = preValues.asObjectChunk();
+        final ObjectChunk<byte[], ? extends Values> postRegisters = postValues.asObjectChunk();
+        boolean changed = false;
+        for (int ii = start; ii < start + length; ++ii) {
+            final byte[] post = postRegisters.get(ii);
+            // Registers only grow, so a re-copied constituent can be merged again without subtracting its previous
+            // registers.
+            if (post != null && post != preRegisters.get(ii)) {
+                changed |= registers.merge(destination, post);
+            }
+        }
+        modifiedThisStep |= changed;
+        return changed;
+    }
+
+    private boolean addRun(
+            @NotNull final Chunk<? extends Values> values,
+            final int start,
+            final int length,
+            final long destination) {
+        final int end = start + length;
+        boolean changed = false;
+        if (reaggregate) {
+            final ObjectChunk<byte[], ? extends Values> addedRegisters = values.asObjectChunk();
+            for (int ii = start; ii < end; ++ii) {
+                final byte[] added = addedRegisters.get(ii);
+                if (added != null) {
+                    changed |= registers.merge(destination, added);
+                }
+            }
+            modifiedThisStep |= changed;
+            return changed;
+        }
+        switch (chunkType) {
+            case Char: {
+                final CharChunk<? extends Values> typed = values.asCharChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final char value = typed.get(ii);
+                    if (value != NULL_CHAR) {
+                        changed |= registers.offer(destination, HyperLogLog.hash((long) value));
+                    }
+                }
+                break;
+            }
+            case Byte: {
+                final ByteChunk<? extends Values> typed = values.asByteChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final byte value = typed.get(ii);
+                    if (value != NULL_BYTE) {
+                        changed |= registers.offer(destination, HyperLogLog.hash((long) value));
+                    }
+                }
+                break;
+            }
+            case Short: {
+                final ShortChunk<? extends Values> typed = values.asShortChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final short value = typed.get(ii);
+                    if (value != NULL_SHORT) {
+                        changed |= registers.offer(destination, HyperLogLog.hash((long) value));
+                    }
+                }
+                break;
+            }
+            case Int: {
+                final IntChunk<? extends Values> typed = values.asIntChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final int value = typed.get(ii);
+                    if (value != NULL_INT) {
+                        changed |= registers.offer(destination, HyperLogLog.hash((long) value));
+                    }
+                }
+                break;
+            }
+            case Long: {
+                final LongChunk<? extends Values> typed = values.asLongChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final long value = typed.get(ii);
+                    if (value != NULL_LONG) {
+                        changed |= registers.offer(destination, HyperLogLog.hash(value));
+                    }
+                }
+                break;
+            }
+            case Float: {
+                final FloatChunk<? extends Values> typed = values.asFloatChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final float value = typed.get(ii);
+                    if (value != NULL_FLOAT) {
+                        changed |= registers.offer(destination, HyperLogLog.hash((double) value));
+                    }
+                }
+                break;
+            }
+            case Double: {
+                final DoubleChunk<? extends Values> typed = values.asDoubleChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final double value = typed.get(ii);
+                    if (value != NULL_DOUBLE) {
+                        changed |= registers.offer(destination, HyperLogLog.hash(value));
+                    }
+                }
+                break;
+            }
+            case Object: {
+                final ObjectChunk<?, ? extends Values> typed = values.asObjectChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final Object value = typed.get(ii);
+                    if (value != null) {
+                        changed |= registers.offer(destination, HyperLogLog.hash(value));
+                    }
+                }
+                break;
+            }
+            default:
+                throw new IllegalStateException("Unexpected chunk type " + chunkType);
+        }
+        modifiedThisStep |= changed;
+        return changed;
+    }
+
+    @Override
+    public boolean supportsPartialStateMerge() {
+        return true;
+    }
+
+    @Override
+    public void mergePartialState(@NotNull final IterativeChunkedAggregationOperator partialOperator,
+            final int firstPartialDestination, @NotNull final IntChunk<RowKeys> destinations) {
+        final HyperLogLogCountDistinctOperator partial = (HyperLogLogCountDistinctOperator) partialOperator;
+        for (int ii = 0; ii < destinations.size(); ++ii) {
+            registers.merge(destinations.get(ii), partial.registers, firstPartialDestination + ii);
+        }
+    }
+
+    @Override
+    public void propagateInitialState(@NotNull final QueryTable resultTable, int startingDestinationsCount) {
+        resultTable.getRowSet().forAllRowKeys(this::updateDestination);
+    }
+
+    private void updateDestination(final long destination) {
+        resultColumn.set(destination, registers.estimate(destination, histogram));
+        if (exposedRegisters != null) {
+            exposedRegisters.set(destination, registers.copy(destination));
+        }
+    }
+
+    @Override
+    public boolean resetForStep(@NotNull final TableUpdate upstream, final int startingDestinationsCount) {
+        modifiedThisStep = false;
+        return false;
+    }
+
+    @Override
+    public void propagateUpdates(@NotNull final TableUpdate downstream, @NotNull final RowSet newDestinations) {
+        downstream.added().forAllRowKeys(this::updateDestination);
+        if (modifiedThisStep) {
+            downstream.modified().forAllRowKeys(this::updateDestination);
+        }
+    }
+
+    @Override
+    public void ensureCapacity(long tableSize) {
+        registers.ensureCapacity(tableSize);
+        resultColumn.ensureCapacity(tableSize);
+        if (exposedRegisters != null) {
+            exposedRegisters.ensureCapacity(tableSize);
+        }
+    }
+
+    @Override
+    public Map<String, ? extends ColumnSource<?>> getResultColumns() {
+        final Map<String, ColumnSource<?>> results = new LinkedHashMap<>(2);
+        results.put(name, resultColumn);
+        if (exposedRegisters != null) {
+            results.put(registersName, exposedRegisters);
+        }
+        return results;
+    }
+
+    @Override
+    public void startTrackingPrevValues() {
+        resultColumn.startTrackingPrevValues();
+        if (exposedRegisters != null) {
+            exposedRegisters.startTrackingPrevValues();
+        }
+    }
+}
@@ -0,0 +1,295 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.sketch;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Storage for the {@link HyperLogLog} registers of many keys. Like an array-backed column source, the per-key state
+ * lives in fixed-size blocks, so growing never copies existing registers.
+ * <p>
+ * A key starts out sparse, keeping a sorted array of only the registers it has set, encoded as
+ * {@code index << 8 | value} in four bytes each. Once that would take more space than the {@code 2^precision} one-byte
+ * registers themselves, the key is promoted to dense, and keeps every register. A key with few distinct values, as most
+ * keys of a rollup's lower levels have, therefore costs a few bytes per distinct value rather than
+ * {@code 2^precision} bytes, and no key ever costs more than {@code 2^precision} bytes plus its share of the blocks.
+ * <p>
+ * Registers are exchanged with {@link #copy(long)} and {@link #merge(long, byte[])} in a compact encoding: a dense key
+ * is its {@code 2^precision} registers, and a sparse key is three bytes per set register, holding its index in the top
+ * 18 bits and its value in the low 6 bits. The encodings are told apart by length, which is a power of two only for
+ * dense keys.
+ */
+final class HyperLogLogRegisters {
+
+    private static final int LOG_KEYS_PER_BLOCK = 10;
+    private static final int KEYS_PER_BLOCK = 1 << LOG_KEYS_PER_BLOCK;
+    private static final int KEY_IN_BLOCK_MASK = KEYS_PER_BLOCK - 1;
+
+    private static final int SPARSE_BYTES_PER_REGISTER = 3;
+    private static final int SPARSE_VALUE_BITS = 6;
+    private static final int SPARSE_VALUE_MASK = (1 << SPARSE_VALUE_BITS) - 1;
+
+    private static final int[] EMPTY_SPARSE = new int[0];
+
+    private final int precision;
+    private final int registerCount;
+    /**
+     * The most registers a sparse key may set before it is promoted to dense.
+     */
+    private final int maxSparseRegisters;
+
+    /**
+     * The registers of each dense key, or null for sparse keys.
+     */
+    private byte[][][] denseBlocks = new byte[0][][];
+    /**
+     * The sorted {@code index << 8 | value} entries of each sparse key, or null for dense keys and empty keys.
+     */
+    private int[][][] sparseBlocks = new int[0][][];
+    /**
+     * The number of entries used in each sparse key's array.
+     */
+    private int[][] sparseSizeBlocks = new int[0][];
+
+    HyperLogLogRegisters(final int precision) {
+        this.precision = precision;
+        registerCount = HyperLogLog.registerCount(precision);
+        maxSparseRegisters = registerCount / Integer.BYTES;
+    }
+
+    int precision() {
+        return precision;
+    }
+
+    /**
+     * Ensure that registers are allocated for keys up to {@code capacity - 1}. New keys have no registers set.
+     *
+     * @param capacity The number of keys
+     */
+    void ensureCapacity(final long capacity) {
+        final int requiredBlocks = Math.toIntExact((capacity + KEY_IN_BLOCK_MASK) >>> LOG_KEYS_PER_BLOCK);
+        if (requiredBlocks <= denseBlocks.length) {
+            return;
+        }
+        final int oldLength = denseBlocks.length;
+        denseBlocks = Arrays.copyOf(denseBlocks, requiredBlocks);
+        sparseBlocks = Arrays.copyOf(sparseBlocks, requiredBlocks);
+        sparseSizeBlocks = Arrays.copyOf(sparseSizeBlocks, requiredBlocks);
+        for (int bi = oldLength; bi < requiredBlocks; ++bi) {
+            denseBlocks[bi] = new byte[KEYS_PER_BLOCK][];
+            sparseBlocks[bi] = new int[KEYS_PER_BLOCK][];
+            sparseSizeBlocks[bi] = new int[KEYS_PER_BLOCK];
+        }
+    }
+
+    private static int blockIndex(final long key) {
+        return (int) (key >>> LOG_KEYS_PER_BLOCK);
+    }
+
+    private static int keyInBlock(final long key) {
+        return (int) (key & KEY_IN_BLOCK_MASK);
+    }
+
+    /**
+     * Raise register {@code registerIndex} of {@code key} to {@code value}, if it is lower.
+     *
+     * @return Whether the register increased
+     */
+    private boolean raise(final long key, final int registerIndex, final byte value) {
+        final int bi = blockIndex(key);
+        final int ki = keyInBlock(key);
+        final byte[] dense = denseBlocks[bi][ki];
+        if (dense != null) {
+            if (value <= dense[registerIndex]) {
+                return false;
+            }
+            dense[registerIndex] = value;
+            return true;
+        }
+
+        int[] sparse = sparseBlocks[bi][ki];
+        final int size = sparseSizeBlocks[bi][ki];
+        final int position = sparse == null ? -1 : findSparse(sparse, size, registerIndex);
+        if (position >= 0) {
+            if (value <= (byte) sparse[position]) {
+                return false;
+            }
+            sparse[position] = registerIndex << 8 | value;
+            return true;
+        }
+
+        if (size == maxSparseRegisters) {
+            promote(bi, ki)[registerIndex] = value;
+            return true;
+        }
+        if (sparse == null || size == sparse.length) {
+            sparse = sparseBlocks[bi][ki] = Arrays.copyOf(sparse == null ? EMPTY_SPARSE : sparse,
+                    Math.min(maxSparseRegisters, Math.max(4, size * 2)));
+        }
+        final int insertAt = -position - 1;
+        System.arraycopy(sparse, insertAt, sparse, insertAt + 1, size - insertAt);
+        sparse[insertAt] = registerIndex << 8 | value;
+        sparseSizeBlocks[bi][ki] = size + 1;
+        return true;
+    }
+
+    /**
+     * @return The position of the entry for {@code registerIndex} in {@code sparse}, or {@code -(insertion point) - 1}
+     */
+    private static int findSparse(@NotNull final int[] sparse, final int size, final int registerIndex) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int midIndex = sparse[mid] >>> 8;
+            if (midIndex < registerIndex) {
+                low = mid + 1;
+            } else if (midIndex > registerIndex) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Replace the sparse entries of a key with dense registers.
+     *
+     * @return The dense registers
+     */
+    private byte[] promote(final int bi, final int ki) {
+        final byte[] dense = new byte[registerCount];
+        final int[] sparse = sparseBlocks[bi][ki];
+        final int size = sparseSizeBlocks[bi][ki];
+        for (int ei = 0; ei < size; ++ei) {
+            dense[sparse[ei] >>> 8] = (byte) sparse[ei];
+        }
+        denseBlocks[bi][ki] = dense;
+        sparseBlocks[bi][ki] = null;
+        sparseSizeBlocks[bi][ki] = 0;
+        return dense;
+    }
+
+    /**
+     * Offer a value hash to the registers of {@code key}.
+     *
+     * @param key The key
+     * @param hash The value hash
+     * @return Whether a register increased
+     */
+    boolean offer(final long key, final long hash) {
+        return raise(key, HyperLogLog.registerIndex(hash, precision), HyperLogLog.registerValue(hash, precision));
+    }
+
+    /**
+     * Merge registers of the same precision, in the encoding of {@link #copy(long)}, into the registers of
+     * {@code key}, keeping the maximum of each register.
+     *
+     * @param key The key
+     * @param encoded The registers to merge
+     * @return Whether a register increased
+     */
+    boolean merge(final long key, @NotNull final byte[] encoded) {
+        boolean changed = false;
+        if (encoded.length == registerCount) {
+            final int bi = blockIndex(key);
+            final int ki = keyInBlock(key);
+            final byte[] dense = denseBlocks[bi][ki] != null ? denseBlocks[bi][ki] : promote(bi, ki);
+            for (int ri = 0; ri < registerCount; ++ri) {
+                if (encoded[ri] > dense[ri]) {
+                    dense[ri] = encoded[ri];
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+        if (encoded.length % SPARSE_BYTES_PER_REGISTER != 0) {
+            throw new IllegalArgumentException("Encoded HyperLogLog registers of length " + encoded.length
+                    + " do not have precision " + precision);
+        }
+        for (int ei = 0; ei < encoded.length; ei += SPARSE_BYTES_PER_REGISTER) {
+            final int entry = (encoded[ei] & 0xFF) << 16 | (encoded[ei + 1] & 0xFF) << 8 | (encoded[ei + 2] & 0xFF);
+            final int registerIndex = entry >>> SPARSE_VALUE_BITS;
+            if (registerIndex >= registerCount) {
+                throw new IllegalArgumentException("Encoded HyperLogLog register " + registerIndex
+                        + " is out of range for precision " + precision);
+            }
+            changed |= raise(key, registerIndex, (byte) (entry & SPARSE_VALUE_MASK));
+        }
+        return changed;
+    }
+
+    /**
+     * Merge the registers of {@code sourceKey} in {@code source}, which must have the same precision, into the
+     * registers of {@code key}.
+     *
+     * @param key The key
+     * @param source The register storage to merge from
+     * @param sourceKey The key to merge from {@code source}
+     * @return Whether a register increased
+     */
+    boolean merge(final long key, @NotNull final HyperLogLogRegisters source, final long sourceKey) {
+        final int sbi = blockIndex(sourceKey);
+        final int ski = keyInBlock(sourceKey);
+        final byte[] sourceDense = source.denseBlocks[sbi][ski];
+        if (sourceDense != null) {
+            return merge(key, sourceDense);
+        }
+        final int[] sourceSparse = source.sparseBlocks[sbi][ski];
+        final int sourceSize = source.sparseSizeBlocks[sbi][ski];
+        boolean changed = false;
+        for (int ei = 0; ei < sourceSize; ++ei) {
+            changed |= raise(key, sourceSparse[ei] >>> 8, (byte) sourceSparse[ei]);
+        }
+        return changed;
+    }
+
+    /**
+     * @param key The key
+     * @return A copy of the registers of {@code key}, in the encoding described above
+     */
+    byte[] copy(final long key) {
+        final int bi = blockIndex(key);
+        final int ki = keyInBlock(key);
+        final byte[] dense = denseBlocks[bi][ki];
+        if (dense != null) {
+            return dense.clone();
+        }
+        final int[] sparse = sparseBlocks[bi][ki];
+        final int size = sparseSizeBlocks[bi][ki];
+        final byte[] encoded = new byte[size * SPARSE_BYTES_PER_REGISTER];
+        for (int ei = 0; ei < size; ++ei) {
+            final int entry = (sparse[ei] >>> 8) << SPARSE_VALUE_BITS | (sparse[ei] & SPARSE_VALUE_MASK);
+            encoded[ei * SPARSE_BYTES_PER_REGISTER] = (byte) (entry >>> 16);
+            encoded[ei * SPARSE_BYTES_PER_REGISTER + 1] = (byte) (entry >>> 8);
+            encoded[ei * SPARSE_BYTES_PER_REGISTER + 2] = (byte) entry;
+        }
+        return encoded;
+    }
+
+    /**
+     * @param key The key
+     * @param histogram Scratch space for {@link HyperLogLog#estimate(int[], int)}
+     * @return The estimated number of distinct values offered to the registers of {@code key}
+     */
+    long estimate(final long key, @NotNull final int[] histogram) {
+        final int bi = blockIndex(key);
+        final int ki = keyInBlock(key);
+        final byte[] dense = denseBlocks[bi][ki];
+        if (dense != null) {
+            return HyperLogLog.estimate(dense, 0, precision, histogram);
+        }
+        final int[] sparse = sparseBlocks[bi][ki];
+        final int size = sparseSizeBlocks[bi][ki];
+        Arrays.fill(histogram, 0, Long.SIZE - precision + 2, 0);
+        histogram[0] = registerCount - size;
+        for (int ei = 0; ei < size; ++ei) {
+            ++histogram[(byte) sparse[ei]];
+        }
+        return HyperLogLog.estimate(histogram, precision);
+    }
+}
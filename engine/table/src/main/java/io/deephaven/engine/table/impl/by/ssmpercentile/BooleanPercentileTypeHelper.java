@@ -37,7 +37,7 @@ public class BooleanPercentileTypeHelper implements SsmChunkedPercentileOperator
         if (totalSize == 0) {
             return setResult(destination, null);
         } else {
-            final long targetLo = Math.round((totalSize - 1) * percentile) + 1;
+            final long targetLo = SsmChunkedPercentileOperator.targetLoSize(totalSize, percentile, false);
             if (loSize < targetLo) {
                 ssmHi.moveFrontToBack(ssmLo, targetLo - loSize);
             } else if (loSize > targetLo) {
@@ -49,7 +49,7 @@ public class DoublePercentileTypeHelper implements SsmChunkedPercentileOperator.
                 return setResult(destination, Double.NaN);
             }
             // endregion maybeHandleNaN
-            final long targetLo = Math.round((totalSize - 1) * percentile) + 1;
+            final long targetLo = SsmChunkedPercentileOperator.targetLoSize(totalSize, percentile, false);
             if (loSize < targetLo) {
                 ssmHi.moveFrontToBack(ssmLo, targetLo - loSize);
             } else if (loSize > targetLo) {
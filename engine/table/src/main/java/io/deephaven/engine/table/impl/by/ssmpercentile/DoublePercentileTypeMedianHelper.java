@@ -41,7 +41,7 @@ public class DoublePercentileTypeMedianHelper extends DoublePercentileTypeHelper
                 return setResult(destination, Double.NaN);
             }
             // endregion maybeHandleNaN
-            final long targetLo = (int) ((totalSize - 1) * percentile) + 1;
+            final long targetLo = SsmChunkedPercentileOperator.targetLoSize(totalSize, percentile, true);
             if (loSize < targetLo) {
                 ssmHi.moveFrontToBack(ssmLo, targetLo - loSize);
             } else if (loSize > targetLo) {
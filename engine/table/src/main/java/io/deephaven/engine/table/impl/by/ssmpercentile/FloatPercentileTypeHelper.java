@@ -49,7 +49,7 @@ public class FloatPercentileTypeHelper implements SsmChunkedPercentileOperator.P
                 return setResult(destination, Float.NaN);
             }
             // endregion maybeHandleNaN
-            final long targetLo = Math.round((totalSize - 1) * percentile) + 1;
+            final long targetLo = SsmChunkedPercentileOperator.targetLoSize(totalSize, percentile, false);
             if (loSize < targetLo) {
                 ssmHi.moveFrontToBack(ssmLo, targetLo - loSize);
             } else if (loSize > targetLo) {
@@ -37,7 +37,7 @@ public class FloatPercentileTypeMedianHelper extends FloatPercentileTypeHelper {
                 return setResult(destination, Float.NaN);
             }
             // endregion maybeHandleNaN
-            final long targetLo = (int) ((totalSize - 1) * percentile) + 1;
+            final long targetLo = SsmChunkedPercentileOperator.targetLoSize(totalSize, percentile, true);
             if (loSize < targetLo) {
                 ssmHi.moveFrontToBack(ssmLo, targetLo - loSize);
             } else if (loSize > targetLo) {
@@ -36,7 +36,7 @@ public class InstantPercentileTypeHelper implements SsmChunkedPercentileOperator
         if (totalSize == 0) {
             return setResult(destination, QueryConstants.NULL_LONG);
         } else {
-            final long targetLo = Math.round((totalSize - 1) * percentile) + 1;
+            final long targetLo = SsmChunkedPercentileOperator.targetLoSize(totalSize, percentile, false);
             if (loSize < targetLo) {
                 ssmHi.moveFrontToBack(ssmLo, targetLo - loSize);
             } else if (loSize > targetLo) {
@@ -42,7 +42,7 @@ public class IntPercentileTypeHelper implements SsmChunkedPercentileOperator.Per
         } else {
             // region maybeHandleNaN
             // endregion maybeHandleNaN
-            final long targetLo = Math.round((totalSize - 1) * percentile) + 1;
+            final long targetLo = SsmChunkedPercentileOperator.targetLoSize(totalSize, percentile, false);
             if (loSize < targetLo) {
                 ssmHi.moveFrontToBack(ssmLo, targetLo - loSize);
             } else if (loSize > targetLo) {
@@ -43,7 +43,7 @@ public class LongPercentileTypeHelper implements SsmChunkedPercentileOperator.Pe
         } else {
             // region maybeHandleNaN
             // endregion maybeHandleNaN
-            final long targetLo = Math.round((totalSize - 1) * percentile) + 1;
+            final long targetLo = SsmChunkedPercentileOperator.targetLoSize(totalSize, percentile, false);
             if (loSize < targetLo) {
                 ssmHi.moveFrontToBack(ssmLo, targetLo - loSize);
             } else if (loSize > targetLo) {
@@ -38,7 +38,7 @@ public class LongPercentileTypeMedianHelper extends LongPercentileTypeHelper {
         } else {
             // region maybeHandleNaN
             // endregion maybeHandleNaN
-            final long targetLo = (int) ((totalSize - 1) * percentile) + 1;
+            final long targetLo = SsmChunkedPercentileOperator.targetLoSize(totalSize, percentile, true);
             if (loSize < targetLo) {
                 ssmHi.moveFrontToBack(ssmLo, targetLo - loSize);
             } else if (loSize > targetLo) {
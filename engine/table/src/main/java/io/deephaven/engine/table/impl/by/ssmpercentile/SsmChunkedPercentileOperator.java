@@ -84,20 +84,47 @@ public class SsmChunkedPercentileOperator implements IterativeChunkedAggregation
         percentileTypeHelper = makeTypeHelper(chunkType, type, percentile, averageEvenlyDivided, internalResult);
     }
 
+    /**
+     * The number of values that belong in the low bucket, whose largest value is the percentile. Percentiles that
+     * average evenly divided buckets truncate the rank, so that the median of an even number of values leaves the
+     * buckets equal in size; other percentiles round to the nearest rank.
+     *
+     * @param totalSize the number of non-null values
+     * @param percentile the percentile, between 0 and 1
+     * @param averageEvenlyDivided whether evenly divided buckets are averaged, see
+     *        {@link #averagesEvenlyDivided(ChunkType)}
+     * @return the target size of the low bucket
+     */
+    public static long targetLoSize(final long totalSize, final double percentile,
+            final boolean averageEvenlyDivided) {
+        return averageEvenlyDivided
+                ? (long) ((totalSize - 1) * percentile) + 1
+                : Math.round((totalSize - 1) * percentile) + 1;
+    }
+
+    /**
+     * For things that are not int, long, double, or float we do not actually average the median; we just do the
+     * standard 50-%tile thing. It might be worth defining this to be friendlier.
+     *
+     * @param chunkType the chunk type of the values
+     * @return whether a percentile that asks to average evenly divided buckets actually does so for {@code chunkType}
+     */
+    public static boolean averagesEvenlyDivided(final ChunkType chunkType) {
+        switch (chunkType) {
+            case Int:
+            case Long:
+            case Float:
+            case Double:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     private static PercentileTypeHelper makeTypeHelper(ChunkType chunkType, Class<?> type, double percentile,
             boolean averageEvenlyDivided, WritableColumnSource resultColumn) {
-        if (averageEvenlyDivided) {
+        if (averageEvenlyDivided && averagesEvenlyDivided(chunkType)) {
             switch (chunkType) {
-                // for things that are not int, long, double, or float we do not actually average the median;
-                // we just do the standard 50-%tile thing. It might be worth defining this to be friendlier.
-                case Char:
-                    return new CharPercentileTypeHelper(percentile, resultColumn);
-                case Byte:
-                    return new BytePercentileTypeHelper(percentile, resultColumn);
-                case Short:
-                    return new ShortPercentileTypeHelper(percentile, resultColumn);
-                case Object:
-                    return makeObjectHelper(type, percentile, resultColumn);
                 // For the int, long, float, and double types we actually average the adjacent values to compute the
                 // median
                 case Int:
@@ -109,7 +136,6 @@ public class SsmChunkedPercentileOperator implements IterativeChunkedAggregation
                 case Double:
                     return new DoublePercentileTypeMedianHelper(percentile, resultColumn);
                 default:
-                case Boolean:
                     throw new UnsupportedOperationException();
             }
         } else {
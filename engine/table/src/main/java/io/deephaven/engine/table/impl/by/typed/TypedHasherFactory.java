@@ -9,6 +9,7 @@ import io.deephaven.UncheckedDeephavenException;
 import io.deephaven.api.NaturalJoinType;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.chunk.*;
+import io.deephaven.chunk.attributes.ChunkPositions;
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.chunk.util.hashing.CharChunkHasher;
 import io.deephaven.configuration.Configuration;
@@ -203,6 +204,8 @@ public class TypedHasherFactory {
 
             builder.addProbe(new HasherConfig.ProbeSpec("decorateWithRightSide", "existingStateValue",
                     true, TypedNaturalJoinFactory::staticProbeDecorateRightFound, null));
+
+            builder.addExtraMethod(TypedHasherFactory::createStaticNaturalJoinPartitionBuildMethod);
         } else if (baseClass.equals(RightIncrementalNaturalJoinStateManagerTypedBase.class)) {
             final ParameterSpec modifiedSlotTrackerParam =
                     ParameterSpec.builder(NaturalJoinModifiedSlotTracker.class, "modifiedSlotTracker").build();
@@ -1125,6 +1128,73 @@ public class TypedHasherFactory {
                 .build();
     }
 
+    /**
+     * Create the method that builds one partition of a static natural join hash table from the right side. Every row
+     * passed in must hash to a location before {@code partitionEnd}, and the probe never wraps or crosses
+     * {@code partitionEnd}. Rows that would need to probe past the end of the partition are appended to
+     * {@code overflowPositions} for a serial build, so concurrent partitions never touch each other's slots. The
+     * number of inserted entries is returned rather than accumulated into {@code numEntries}.
+     */
+    @NotNull
+    private static MethodSpec createStaticNaturalJoinPartitionBuildMethod(HasherConfig<?> hasherConfig,
+            ChunkType[] chunkTypes) {
+        final CodeBlock.Builder builder = CodeBlock.builder();
+        for (int ii = 0; ii < chunkTypes.length; ++ii) {
+            final ClassName chunkName =
+                    ClassName.get(CharChunk.class.getPackageName(), chunkTypes[ii].name() + "Chunk");
+            final ClassName valuesName = ClassName.get(Values.class);
+            final ParameterizedTypeName chunkTypeName = chunkTypes[ii] == ChunkType.Object
+                    ? ParameterizedTypeName.get(chunkName, ClassName.get(Object.class), valuesName)
+                    : ParameterizedTypeName.get(chunkName, valuesName);
+            builder.addStatement("final $T keyChunk$L = sourceKeyChunks[$L].as$LChunk()", chunkTypeName, ii, ii,
+                    chunkTypes[ii].name());
+        }
+        builder.addStatement("final int chunkSize = keyChunk0.size()");
+        builder.addStatement("final $T rowKeyChunk = rowSequence.asRowKeyChunk()",
+                ParameterizedTypeName.get(LongChunk.class, OrderedRowKeys.class));
+        builder.addStatement("int insertedEntries = 0");
+        builder.beginControlFlow("for (int chunkPosition = 0; chunkPosition < chunkSize; ++chunkPosition)");
+        for (int ii = 0; ii < chunkTypes.length; ++ii) {
+            final Class<?> element = elementType(chunkTypes[ii]);
+            builder.addStatement("final $T k$L = keyChunk$L.get(chunkPosition)", element, ii, ii);
+        }
+        builder.addStatement("final int hash = hash("
+                + IntStream.range(0, chunkTypes.length).mapToObj(x -> "k" + x).collect(Collectors.joining(", ")) + ")");
+        builder.addStatement("int tableLocation = hashToTableLocation(hash)");
+        builder.beginControlFlow("while (true)");
+        builder.beginControlFlow("if (tableLocation == partitionEnd)");
+        builder.addStatement("overflowPositions.add(chunkPosition)");
+        builder.addStatement("break");
+        builder.endControlFlow();
+        builder.addStatement("$T rightSideSentinel = $L.getUnsafe(tableLocation)", hasherConfig.stateType,
+                hasherConfig.mainStateName);
+        builder.beginControlFlow("if (isStateEmpty(rightSideSentinel))");
+        builder.addStatement("insertedEntries++");
+        for (int ii = 0; ii < chunkTypes.length; ++ii) {
+            builder.addStatement("mainKeySource$L.set(tableLocation, k$L)", ii, ii);
+        }
+        TypedNaturalJoinFactory.staticBuildRightInsert(hasherConfig, builder);
+        builder.addStatement("break");
+        builder.nextControlFlow("else if (" + getEqualsStatement(chunkTypes) + ")");
+        TypedNaturalJoinFactory.staticBuildRightFound(hasherConfig, false, builder);
+        builder.addStatement("break");
+        builder.nextControlFlow("else");
+        builder.addStatement("++tableLocation");
+        builder.endControlFlow();
+        builder.endControlFlow();
+        builder.endControlFlow();
+        builder.addStatement("return insertedEntries");
+
+        return MethodSpec.methodBuilder("buildFromRightSidePartition")
+                .addParameter(RowSequence.class, "rowSequence")
+                .addParameter(Chunk[].class, "sourceKeyChunks")
+                .addParameter(int.class, "partitionEnd")
+                .addParameter(ParameterizedTypeName.get(WritableIntChunk.class, ChunkPositions.class),
+                        "overflowPositions")
+                .returns(int.class).addModifiers(Modifier.PROTECTED).addCode(builder.build())
+                .build();
+    }
+
     private static void doBuildSearch(HasherConfig<?> hasherConfig, HasherConfig.BuildSpec buildSpec,
             ChunkType[] chunkTypes,
             CodeBlock.Builder builder, boolean alternate) {
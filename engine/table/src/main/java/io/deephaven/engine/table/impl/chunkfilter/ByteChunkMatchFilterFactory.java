@@ -23,6 +23,13 @@ public class ByteChunkMatchFilterFactory {
     private ByteChunkMatchFilterFactory() {} // static use only
 
     public static ByteChunkFilter makeFilter(final MatchOptions matchOptions, final byte... values) {
+        final SimdChunkFilters.SimdChunkFilterCreator simdCreator = SimdChunkFilters.creator();
+        if (simdCreator != null) {
+            final ByteChunkFilter simdFilter = simdCreator.makeByteMatchFilter(matchOptions.inverted(), values);
+            if (simdFilter != null) {
+                return simdFilter;
+            }
+        }
         if (matchOptions.inverted()) {
             if (values.length == 1) {
                 return new InverseSingleValueByteChunkFilter(values[0]);
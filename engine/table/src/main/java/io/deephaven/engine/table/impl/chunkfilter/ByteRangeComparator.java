@@ -68,6 +68,14 @@ public class ByteRangeComparator {
 
     public static ByteChunkFilter makeByteFilter(byte lower, byte upper, boolean lowerInclusive,
             boolean upperInclusive) {
+        final SimdChunkFilters.SimdChunkFilterCreator simdCreator = SimdChunkFilters.creator();
+        if (simdCreator != null) {
+            final ByteChunkFilter simdFilter =
+                    simdCreator.makeByteRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+            if (simdFilter != null) {
+                return simdFilter;
+            }
+        }
         if (lowerInclusive) {
             if (upperInclusive) {
                 return new ByteByteInclusiveInclusiveFilter(lower, upper);
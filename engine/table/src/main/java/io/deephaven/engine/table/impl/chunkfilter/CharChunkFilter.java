@@ -7,11 +7,17 @@ import io.deephaven.chunk.*;
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
 
+/**
+ * A {@link ChunkFilter} for char values, defined by a predicate on a single value.
+ * <p>
+ * The bulk methods evaluate {@link #matches(char)} one value at a time; subclasses may override them with equivalent
+ * implementations that evaluate many values at once (see {@link SimdChunkFilters}).
+ */
 public abstract class CharChunkFilter implements ChunkFilter {
     public abstract boolean matches(char value);
 
     @Override
-    public final void filter(
+    public void filter(
             final Chunk<? extends Values> values,
             final LongChunk<OrderedRowKeys> keys,
             final WritableLongChunk<OrderedRowKeys> results) {
@@ -27,7 +33,7 @@ public abstract class CharChunkFilter implements ChunkFilter {
     }
 
     @Override
-    public final int filter(final Chunk<? extends Values> values, final WritableBooleanChunk<Values> results) {
+    public int filter(final Chunk<? extends Values> values, final WritableBooleanChunk<Values> results) {
         final CharChunk<? extends Values> charChunk = values.asCharChunk();
         final int len = values.size();
         int count = 0;
@@ -41,7 +47,7 @@ public abstract class CharChunkFilter implements ChunkFilter {
     }
 
     @Override
-    public final int filterAnd(final Chunk<? extends Values> values, final WritableBooleanChunk<Values> results) {
+    public int filterAnd(final Chunk<? extends Values> values, final WritableBooleanChunk<Values> results) {
         final CharChunk<? extends Values> charChunk = values.asCharChunk();
         final int len = values.size();
         int count = 0;
@@ -19,6 +19,13 @@ public class CharChunkMatchFilterFactory {
     private CharChunkMatchFilterFactory() {} // static use only
 
     public static CharChunkFilter makeFilter(final MatchOptions matchOptions, final char... values) {
+        final SimdChunkFilters.SimdChunkFilterCreator simdCreator = SimdChunkFilters.creator();
+        if (simdCreator != null) {
+            final CharChunkFilter simdFilter = simdCreator.makeCharMatchFilter(matchOptions.inverted(), values);
+            if (simdFilter != null) {
+                return simdFilter;
+            }
+        }
         if (matchOptions.inverted()) {
             if (values.length == 1) {
                 return new InverseSingleValueCharChunkFilter(values[0]);
@@ -64,6 +64,14 @@ public class CharRangeComparator {
 
     public static CharChunkFilter makeCharFilter(char lower, char upper, boolean lowerInclusive,
             boolean upperInclusive) {
+        final SimdChunkFilters.SimdChunkFilterCreator simdCreator = SimdChunkFilters.creator();
+        if (simdCreator != null) {
+            final CharChunkFilter simdFilter =
+                    simdCreator.makeCharRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+            if (simdFilter != null) {
+                return simdFilter;
+            }
+        }
         if (lowerInclusive) {
             if (upperInclusive) {
                 return new CharCharInclusiveInclusiveFilter(lower, upper);
@@ -50,6 +50,13 @@ public class DoubleChunkMatchFilterFactory {
             }
         }
 
+        final SimdChunkFilters.SimdChunkFilterCreator simdCreator = SimdChunkFilters.creator();
+        if (simdCreator != null) {
+            final DoubleChunkFilter simdFilter = simdCreator.makeDoubleMatchFilter(matchOptions.inverted(), values);
+            if (simdFilter != null) {
+                return simdFilter;
+            }
+        }
         if (matchOptions.inverted()) {
             if (values.length == 1) {
                 return new InverseSingleValueDoubleChunkFilter(values[0]);
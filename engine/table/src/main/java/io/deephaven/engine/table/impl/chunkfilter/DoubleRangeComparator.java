@@ -68,6 +68,14 @@ public class DoubleRangeComparator {
 
     public static DoubleChunkFilter makeDoubleFilter(double lower, double upper, boolean lowerInclusive,
             boolean upperInclusive) {
+        final SimdChunkFilters.SimdChunkFilterCreator simdCreator = SimdChunkFilters.creator();
+        if (simdCreator != null) {
+            final DoubleChunkFilter simdFilter =
+                    simdCreator.makeDoubleRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+            if (simdFilter != null) {
+                return simdFilter;
+            }
+        }
         if (lowerInclusive) {
             if (upperInclusive) {
                 return new DoubleDoubleInclusiveInclusiveFilter(lower, upper);
@@ -47,6 +47,13 @@ public class FloatChunkMatchFilterFactory {
             }
         }
 
+        final SimdChunkFilters.SimdChunkFilterCreator simdCreator = SimdChunkFilters.creator();
+        if (simdCreator != null) {
+            final FloatChunkFilter simdFilter = simdCreator.makeFloatMatchFilter(matchOptions.inverted(), values);
+            if (simdFilter != null) {
+                return simdFilter;
+            }
+        }
         if (matchOptions.inverted()) {
             if (values.length == 1) {
                 return new InverseSingleValueFloatChunkFilter(values[0]);
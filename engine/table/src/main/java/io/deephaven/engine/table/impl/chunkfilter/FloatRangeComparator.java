@@ -68,6 +68,14 @@ public class FloatRangeComparator {
 
     public static FloatChunkFilter makeFloatFilter(float lower, float upper, boolean lowerInclusive,
             boolean upperInclusive) {
+        final SimdChunkFilters.SimdChunkFilterCreator simdCreator = SimdChunkFilters.creator();
+        if (simdCreator != null) {
+            final FloatChunkFilter simdFilter =
+                    simdCreator.makeFloatRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+            if (simdFilter != null) {
+                return simdFilter;
+            }
+        }
         if (lowerInclusive) {
             if (upperInclusive) {
                 return new FloatFloatInclusiveInclusiveFilter(lower, upper);
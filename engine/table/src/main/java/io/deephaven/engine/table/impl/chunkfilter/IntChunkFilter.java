@@ -11,11 +11,17 @@ import io.deephaven.chunk.*;
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
 
+/**
+ * A {@link ChunkFilter} for int values, defined by a predicate on a single value.
+ * <p>
+ * The bulk methods evaluate {@link #matches(int)} one value at a time; subclasses may override them with equivalent
+ * implementations that evaluate many values at once (see {@link SimdChunkFilters}).
+ */
 public abstract class IntChunkFilter implements ChunkFilter {
     public abstract boolean matches(int value);
 
     @Override
-    public final void filter(
+    public void filter(
             final Chunk<? extends Values> values,
             final LongChunk<OrderedRowKeys> keys,
             final WritableLongChunk<OrderedRowKeys> results) {
@@ -31,7 +37,7 @@ public abstract class IntChunkFilter implements ChunkFilter {
     }
 
     @Override
-    public final int filter(final Chunk<? extends Values> values, final WritableBooleanChunk<Values> results) {
+    public int filter(final Chunk<? extends Values> values, final WritableBooleanChunk<Values> results) {
         final IntChunk<? extends Values> intChunk = values.asIntChunk();
         final int len = values.size();
         int count = 0;
@@ -45,7 +51,7 @@ public abstract class IntChunkFilter implements ChunkFilter {
     }
 
     @Override
-    public final int filterAnd(final Chunk<? extends Values> values, final WritableBooleanChunk<Values> results) {
+    public int filterAnd(final Chunk<? extends Values> values, final WritableBooleanChunk<Values> results) {
         final IntChunk<? extends Values> intChunk = values.asIntChunk();
         final int len = values.size();
         int count = 0;
@@ -23,6 +23,13 @@ public class IntChunkMatchFilterFactory {
     private IntChunkMatchFilterFactory() {} // static use only
 
     public static IntChunkFilter makeFilter(final MatchOptions matchOptions, final int... values) {
+        final SimdChunkFilters.SimdChunkFilterCreator simdCreator = SimdChunkFilters.creator();
+        if (simdCreator != null) {
+            final IntChunkFilter simdFilter = simdCreator.makeIntMatchFilter(matchOptions.inverted(), values);
+            if (simdFilter != null) {
+                return simdFilter;
+            }
+        }
         if (matchOptions.inverted()) {
             if (values.length == 1) {
                 return new InverseSingleValueIntChunkFilter(values[0]);
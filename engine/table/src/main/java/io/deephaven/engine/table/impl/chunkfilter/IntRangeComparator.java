@@ -68,6 +68,14 @@ public class IntRangeComparator {
 
     public static IntChunkFilter makeIntFilter(int lower, int upper, boolean lowerInclusive,
             boolean upperInclusive) {
+        final SimdChunkFilters.SimdChunkFilterCreator simdCreator = SimdChunkFilters.creator();
+        if (simdCreator != null) {
+            final IntChunkFilter simdFilter =
+                    simdCreator.makeIntRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+            if (simdFilter != null) {
+                return simdFilter;
+            }
+        }
         if (lowerInclusive) {
             if (upperInclusive) {
                 return new IntIntInclusiveInclusiveFilter(lower, upper);
@@ -23,6 +23,13 @@ public class LongChunkMatchFilterFactory {
     private LongChunkMatchFilterFactory() {} // static use only
 
     public static LongChunkFilter makeFilter(final MatchOptions matchOptions, final long... values) {
+        final SimdChunkFilters.SimdChunkFilterCreator simdCreator = SimdChunkFilters.creator();
+        if (simdCreator != null) {
+            final LongChunkFilter simdFilter = simdCreator.makeLongMatchFilter(matchOptions.inverted(), values);
+            if (simdFilter != null) {
+                return simdFilter;
+            }
+        }
         if (matchOptions.inverted()) {
             if (values.length == 1) {
                 return new InverseSingleValueLongChunkFilter(values[0]);
@@ -68,6 +68,14 @@ public class LongRangeComparator {
 
     public static LongChunkFilter makeLongFilter(long lower, long upper, boolean lowerInclusive,
             boolean upperInclusive) {
+        final SimdChunkFilters.SimdChunkFilterCreator simdCreator = SimdChunkFilters.creator();
+        if (simdCreator != null) {
+            final LongChunkFilter simdFilter =
+                    simdCreator.makeLongRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+            if (simdFilter != null) {
+                return simdFilter;
+            }
+        }
         if (lowerInclusive) {
             if (upperInclusive) {
                 return new LongLongInclusiveInclusiveFilter(lower, upper);
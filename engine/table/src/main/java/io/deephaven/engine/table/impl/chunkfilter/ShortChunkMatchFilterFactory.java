@@ -23,6 +23,13 @@ public class ShortChunkMatchFilterFactory {
     private ShortChunkMatchFilterFactory() {} // static use only
 
     public static ShortChunkFilter makeFilter(final MatchOptions matchOptions, final short... values) {
+        final SimdChunkFilters.SimdChunkFilterCreator simdCreator = SimdChunkFilters.creator();
+        if (simdCreator != null) {
+            final ShortChunkFilter simdFilter = simdCreator.makeShortMatchFilter(matchOptions.inverted(), values);
+            if (simdFilter != null) {
+                return simdFilter;
+            }
+        }
         if (matchOptions.inverted()) {
             if (values.length == 1) {
                 return new InverseSingleValueShortChunkFilter(values[0]);
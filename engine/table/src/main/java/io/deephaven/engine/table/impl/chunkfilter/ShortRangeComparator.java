@@ -68,6 +68,14 @@ public class ShortRangeComparator {
 
     public static ShortChunkFilter makeShortFilter(short lower, short upper, boolean lowerInclusive,
             boolean upperInclusive) {
+        final SimdChunkFilters.SimdChunkFilterCreator simdCreator = SimdChunkFilters.creator();
+        if (simdCreator != null) {
+            final ShortChunkFilter simdFilter =
+                    simdCreator.makeShortRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+            if (simdFilter != null) {
+                return simdFilter;
+            }
+        }
         if (lowerInclusive) {
             if (upperInclusive) {
                 return new ShortShortInclusiveInclusiveFilter(lower, upper);
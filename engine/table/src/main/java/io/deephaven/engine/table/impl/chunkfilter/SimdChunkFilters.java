@@ -0,0 +1,170 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.chunkfilter;
+
+import io.deephaven.configuration.Configuration;
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ServiceLoader;
+
+/**
+ * Access to chunk filters that evaluate many values per instruction, using the incubating {@code jdk.incubator.vector}
+ * API.
+ * <p>
+ * The implementations live in the {@code engine-simd} project and are discovered with a {@link ServiceLoader}. That
+ * project depends on this one, so applications add it to their runtime classpath; the server does, and its launchers
+ * start the JVM with {@code --add-modules jdk.incubator.vector} unless built with {@code -PexcludeSimd}. They are only
+ * used when that project is on the classpath, the JVM was started with {@code --add-modules jdk.incubator.vector}, and
+ * {@link #ENABLED} is true. Otherwise {@link #creator()} returns null, and the range comparators and match filter
+ * factories use their scalar filters.
+ * <p>
+ * Every SIMD filter is also an ordinary typed chunk filter: its {@code matches} method evaluates a single value with
+ * exactly the semantics of the scalar filter it replaces, and only the bulk methods are vectorized.
+ */
+public final class SimdChunkFilters {
+
+    private static final Logger log = LoggerFactory.getLogger(SimdChunkFilters.class);
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     * Whether newly created range and match filters should use SIMD implementations when they are available.
+     */
+    public static boolean ENABLED =
+            Configuration.getInstance().getBooleanWithDefault("SimdChunkFilters.enabled", true);
+
+    private SimdChunkFilters() {} // static use only
+
+    @FunctionalInterface
+    public interface SimdChunkFilterCreatorProvider {
+        /**
+         * @return the creator, or null if SIMD filters can't be used in this JVM
+         */
+        @Nullable
+        SimdChunkFilterCreator get();
+    }
+
+    /**
+     * Creates SIMD chunk filters. Each method returns null if it has no SIMD implementation for its arguments, in
+     * which case the caller should fall back to the scalar filter.
+     */
+    public interface SimdChunkFilterCreator {
+        // region range filters
+        @Nullable
+        default CharChunkFilter makeCharRangeFilter(
+                char lower, char upper, boolean lowerInclusive, boolean upperInclusive) {
+            return null;
+        }
+
+        @Nullable
+        default ByteChunkFilter makeByteRangeFilter(
+                byte lower, byte upper, boolean lowerInclusive, boolean upperInclusive) {
+            return null;
+        }
+
+        @Nullable
+        default ShortChunkFilter makeShortRangeFilter(
+                short lower, short upper, boolean lowerInclusive, boolean upperInclusive) {
+            return null;
+        }
+
+        @Nullable
+        default IntChunkFilter makeIntRangeFilter(
+                int lower, int upper, boolean lowerInclusive, boolean upperInclusive) {
+            return null;
+        }
+
+        @Nullable
+        default LongChunkFilter makeLongRangeFilter(
+                long lower, long upper, boolean lowerInclusive, boolean upperInclusive) {
+            return null;
+        }
+
+        @Nullable
+        default FloatChunkFilter makeFloatRangeFilter(
+                float lower, float upper, boolean lowerInclusive, boolean upperInclusive) {
+            return null;
+        }
+
+        @Nullable
+        default DoubleChunkFilter makeDoubleRangeFilter(
+                double lower, double upper, boolean lowerInclusive, boolean upperInclusive) {
+            return null;
+        }
+        // endregion range filters
+
+        // region match filters
+        @Nullable
+        default CharChunkFilter makeCharMatchFilter(boolean inverted, char... values) {
+            return null;
+        }
+
+        @Nullable
+        default ByteChunkFilter makeByteMatchFilter(boolean inverted, byte... values) {
+            return null;
+        }
+
+        @Nullable
+        default ShortChunkFilter makeShortMatchFilter(boolean inverted, short... values) {
+            return null;
+        }
+
+        @Nullable
+        default IntChunkFilter makeIntMatchFilter(boolean inverted, int... values) {
+            return null;
+        }
+
+        @Nullable
+        default LongChunkFilter makeLongMatchFilter(boolean inverted, long... values) {
+            return null;
+        }
+
+        /**
+         * Make a filter for float values that are {@code ==} to one of {@code values}, so that NaN matches nothing.
+         */
+        @Nullable
+        default FloatChunkFilter makeFloatMatchFilter(boolean inverted, float... values) {
+            return null;
+        }
+
+        /**
+         * Make a filter for double values that are {@code ==} to one of {@code values}, so that NaN matches nothing.
+         */
+        @Nullable
+        default DoubleChunkFilter makeDoubleMatchFilter(boolean inverted, double... values) {
+            return null;
+        }
+        // endregion match filters
+    }
+
+    private static final class SimdChunkFilterCreatorHolder {
+        private static final SimdChunkFilterCreator creator = loadCreator();
+    }
+
+    @Nullable
+    private static SimdChunkFilterCreator loadCreator() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            log.info().append("SIMD chunk filters are disabled, add the JVM argument --add-modules ")
+                    .append(VECTOR_MODULE).append(" to enable them").endl();
+            return null;
+        }
+        for (final SimdChunkFilterCreatorProvider provider : ServiceLoader.load(SimdChunkFilterCreatorProvider.class)) {
+            final SimdChunkFilterCreator creator = provider.get();
+            if (creator != null) {
+                return creator;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the creator to use for new filters, or null if SIMD filters are disabled or unavailable
+     */
+    @Nullable
+    public static SimdChunkFilterCreator creator() {
+        return ENABLED ? SimdChunkFilterCreatorHolder.creator : null;
+    }
+}
@@ -3,10 +3,14 @@
 //
 package io.deephaven.engine.table.impl.dataindex;
 
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
 import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.liveness.LivenessArtifact;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.rowset.TrackingRowSet;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
 import io.deephaven.engine.table.*;
 import io.deephaven.engine.table.impl.BaseTable;
 import io.deephaven.engine.table.impl.OperationSnapshotControl;
@@ -33,6 +37,12 @@ public abstract class AbstractDataIndex extends LivenessArtifact implements Data
      */
     protected static final String ROW_SET_COLUMN_NAME = "dh_row_set";
 
+    /**
+     * The chunked lookup for the most recently used static index table, built on first use by
+     * {@link #lookupRowKeys(DataIndexOptions, Chunk[], boolean, WritableLongChunk)}.
+     */
+    private volatile DataIndexChunkedLookup chunkedLookup;
+
     @Override
     @NotNull
     public final String rowSetColumnName() {
@@ -51,6 +61,43 @@ public abstract class AbstractDataIndex extends LivenessArtifact implements Data
         return RemappedDataIndex.from(this, oldToNewColumnMap);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Static indexes probe a hash table of the index table's keys with the lookup key chunks directly, without boxing.
+     * Refreshing indexes use the {@link #rowKeyLookup(DataIndexOptions) boxed lookup}.
+     */
+    @Override
+    public void lookupRowKeys(
+            @NotNull final DataIndexOptions options,
+            @NotNull final Chunk<? extends Values>[] lookupKeys,
+            final boolean usePrev,
+            @NotNull final WritableLongChunk<? super RowKeys> destination) {
+        final DataIndexChunkedLookup lookup = isRefreshing() ? null : chunkedLookup(table(options));
+        if (lookup == null) {
+            DataIndex.super.lookupRowKeys(options, lookupKeys, usePrev, destination);
+            return;
+        }
+        lookup.lookup(lookupKeys, destination);
+    }
+
+    private DataIndexChunkedLookup chunkedLookup(@NotNull final Table indexTable) {
+        DataIndexChunkedLookup localLookup;
+        if ((localLookup = chunkedLookup) != null && localLookup.isFor(indexTable)) {
+            return localLookup;
+        }
+        synchronized (this) {
+            if ((localLookup = chunkedLookup) != null && localLookup.isFor(indexTable)) {
+                return localLookup;
+            }
+            localLookup = DataIndexChunkedLookup.build(indexTable, keyColumnNames());
+            if (localLookup != null) {
+                chunkedLookup = localLookup;
+            }
+            return localLookup;
+        }
+    }
+
     /**
      * Whether this AbstractDataIndex is potentially usable. This will return {@code true} when there are no known
      * issues for this data index. This performs fast checks, such as verifying all locations have index table files,
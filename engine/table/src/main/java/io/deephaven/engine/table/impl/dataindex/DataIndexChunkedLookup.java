@@ -0,0 +1,248 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.dataindex;
+
+import io.deephaven.chunk.*;
+import io.deephaven.chunk.attributes.ChunkPositions;
+import io.deephaven.chunk.attributes.HashCodes;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.chunk.util.hashing.ChunkEquals;
+import io.deephaven.chunk.util.hashing.ChunkHasher;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ChunkSource;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable hash table from the keys of a static data index table to its row keys, probed with chunks of
+ * reinterpreted lookup keys using the typed {@link ChunkHasher hashers} and {@link ChunkEquals equality kernels}, so
+ * that no lookup key is boxed.
+ * <p>
+ * The key values are copied into one dense chunk per key column, and the hash table stores the full hash code and the
+ * position of each key. Probing proceeds in rounds: each pending lookup key is advanced past slots with a different
+ * hash code, and the keys that stopped at a slot with the same hash code are then compared a column at a time.
+ * Instances are safe for concurrent use.
+ */
+final class DataIndexChunkedLookup {
+
+    private static final int BUILD_CHUNK_SIZE = 1 << 16;
+    private static final int MIN_CAPACITY = 16;
+    /**
+     * The largest index table we will copy, leaving room for a hash table of at least twice its size.
+     */
+    private static final int MAX_SIZE = 1 << 29;
+    private static final int EMPTY_SLOT = -1;
+
+    private final Table indexTable;
+    private final ChunkHasher[] hashers;
+    private final ChunkEquals[] equals;
+    private final WritableChunk<Values>[] keyValues;
+    /**
+     * The row key in the index table of each key position, or {@code null} if the index table is flat.
+     */
+    private final @Nullable LongChunk<OrderedRowKeys> rowKeys;
+    private final int[] slotPositions;
+    private final int[] slotHashes;
+    private final int slotMask;
+
+    /**
+     * Build a lookup for the key columns of a static index table.
+     *
+     * @param indexTable The static index table
+     * @param keyColumnNames The names of the key columns, in the order of the index's key columns
+     * @return The lookup, or {@code null} if {@code indexTable} is too large to copy
+     */
+    @Nullable
+    static DataIndexChunkedLookup build(
+            @NotNull final Table indexTable,
+            @NotNull final List<String> keyColumnNames) {
+        if (indexTable.size() > MAX_SIZE) {
+            return null;
+        }
+        return new DataIndexChunkedLookup(indexTable, keyColumnNames);
+    }
+
+    private DataIndexChunkedLookup(
+            @NotNull final Table indexTable,
+            @NotNull final List<String> keyColumnNames) {
+        this.indexTable = indexTable;
+        final RowSet indexRowSet = indexTable.getRowSet();
+        final int size = indexRowSet.intSize();
+        final int numKeyColumns = keyColumnNames.size();
+
+        hashers = new ChunkHasher[numKeyColumns];
+        equals = new ChunkEquals[numKeyColumns];
+        // noinspection unchecked
+        keyValues = new WritableChunk[numKeyColumns];
+        for (int ci = 0; ci < numKeyColumns; ++ci) {
+            final ColumnSource<?> keySource =
+                    ReinterpretUtils.maybeConvertToPrimitive(indexTable.getColumnSource(keyColumnNames.get(ci)));
+            final ChunkType chunkType = keySource.getChunkType();
+            hashers[ci] = ChunkHasher.makeHasher(chunkType);
+            equals[ci] = ChunkEquals.makeEqual(chunkType);
+            keyValues[ci] = chunkType.makeWritableChunk(size);
+            copyKeyValues(keySource, indexRowSet, keyValues[ci]);
+        }
+        if (indexRowSet.isEmpty() || indexRowSet.lastRowKey() == size - 1) {
+            rowKeys = null;
+        } else {
+            final WritableLongChunk<OrderedRowKeys> indexRowKeys = WritableLongChunk.makeWritableChunk(size);
+            indexRowSet.fillRowKeyChunk(indexRowKeys);
+            rowKeys = indexRowKeys;
+        }
+
+        final int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1);
+        slotPositions = new int[capacity];
+        slotHashes = new int[capacity];
+        slotMask = capacity - 1;
+        Arrays.fill(slotPositions, EMPTY_SLOT);
+
+        // The index keys are unique, so each one is placed in the first empty slot of its probe sequence.
+        try (final WritableIntChunk<HashCodes> hashes = WritableIntChunk.makeWritableChunk(size)) {
+            hashKeys(keyValues, hashes);
+            for (int position = 0; position < size; ++position) {
+                final int hash = hashes.get(position);
+                int slot = hash & slotMask;
+                while (slotPositions[slot] != EMPTY_SLOT) {
+                    slot = (slot + 1) & slotMask;
+                }
+                slotPositions[slot] = position;
+                slotHashes[slot] = hash;
+            }
+        }
+    }
+
+    private static void copyKeyValues(
+            @NotNull final ColumnSource<?> keySource,
+            @NotNull final RowSet indexRowSet,
+            @NotNull final WritableChunk<Values> destination) {
+        final int chunkSize = (int) Math.min(BUILD_CHUNK_SIZE, Math.max(1, indexRowSet.size()));
+        try (final ChunkSource.FillContext fillContext = keySource.makeFillContext(chunkSize);
+                final RowSequence.Iterator rowsIterator = indexRowSet.getRowSequenceIterator()) {
+            int offset = 0;
+            while (rowsIterator.hasMore()) {
+                final RowSequence rows = rowsIterator.getNextRowSequenceWithLength(chunkSize);
+                final int rowsSize = rows.intSize();
+                keySource.fillChunk(fillContext, destination.slice(offset, rowsSize), rows);
+                offset += rowsSize;
+            }
+            destination.setSize(offset);
+        }
+    }
+
+    private void hashKeys(
+            @NotNull final Chunk<? extends Values>[] keys,
+            @NotNull final WritableIntChunk<HashCodes> destination) {
+        // noinspection unchecked
+        hashers[0].hashInitial((Chunk<Values>) keys[0], destination);
+        for (int ci = 1; ci < keys.length; ++ci) {
+            // noinspection unchecked
+            hashers[ci].hashUpdate((Chunk<Values>) keys[ci], destination);
+        }
+    }
+
+    /**
+     * @param indexTable An index table
+     * @return Whether this lookup was built for {@code indexTable}
+     */
+    boolean isFor(@NotNull final Table indexTable) {
+        return this.indexTable == indexTable;
+    }
+
+    /**
+     * Look up the index table row keys for a chunk of lookup keys.
+     *
+     * @param lookupKeys One chunk of reinterpreted values per key column, all of the same size
+     * @param destination The destination for the row keys, set to the size of the lookup key chunks; keys that are not
+     *        found are given {@link RowSequence#NULL_ROW_KEY}
+     */
+    void lookup(
+            @NotNull final Chunk<? extends Values>[] lookupKeys,
+            @NotNull final WritableLongChunk<? super RowKeys> destination) {
+        if (lookupKeys.length != keyValues.length) {
+            throw new IllegalArgumentException(String.format("Expected %d lookup key chunks, but got %d",
+                    keyValues.length, lookupKeys.length));
+        }
+        for (int ci = 0; ci < lookupKeys.length; ++ci) {
+            if (lookupKeys[ci].getChunkType() != keyValues[ci].getChunkType()) {
+                throw new IllegalArgumentException(String.format(
+                        "Lookup key chunk type mismatch for key column %d: expected %s, but got %s",
+                        ci, keyValues[ci].getChunkType(), lookupKeys[ci].getChunkType()));
+            }
+        }
+        final int size = lookupKeys[0].size();
+        destination.setSize(size);
+
+        try (final WritableIntChunk<HashCodes> hashes = WritableIntChunk.makeWritableChunk(size);
+                final WritableIntChunk<ChunkPositions> pending = WritableIntChunk.makeWritableChunk(size);
+                final WritableIntChunk<ChunkPositions> pendingSlots = WritableIntChunk.makeWritableChunk(size);
+                final WritableIntChunk<ChunkPositions> candidates = WritableIntChunk.makeWritableChunk(size);
+                final WritableIntChunk<ChunkPositions> candidateSlots = WritableIntChunk.makeWritableChunk(size);
+                final WritableIntChunk<ChunkPositions> candidateKeyPositions =
+                        WritableIntChunk.makeWritableChunk(size);
+                final WritableBooleanChunk<Values> candidateMatches = WritableBooleanChunk.makeWritableChunk(size)) {
+            hashKeys(lookupKeys, hashes);
+            for (int ii = 0; ii < size; ++ii) {
+                pending.set(ii, ii);
+                pendingSlots.set(ii, hashes.get(ii) & slotMask);
+            }
+            pending.setSize(size);
+            pendingSlots.setSize(size);
+
+            while (pending.size() > 0) {
+                // Advance each pending lookup key to an empty slot, or to a slot with the same hash code.
+                candidates.setSize(0);
+                candidateSlots.setSize(0);
+                candidateKeyPositions.setSize(0);
+                for (int pi = 0; pi < pending.size(); ++pi) {
+                    final int lookupPosition = pending.get(pi);
+                    final int hash = hashes.get(lookupPosition);
+                    int slot = pendingSlots.get(pi);
+                    int keyPosition;
+                    while ((keyPosition = slotPositions[slot]) != EMPTY_SLOT && slotHashes[slot] != hash) {
+                        slot = (slot + 1) & slotMask;
+                    }
+                    if (keyPosition == EMPTY_SLOT) {
+                        destination.set(lookupPosition, RowSequence.NULL_ROW_KEY);
+                    } else {
+                        candidates.add(lookupPosition);
+                        candidateSlots.add(slot);
+                        candidateKeyPositions.add(keyPosition);
+                    }
+                }
+
+                // Compare the candidates a key column at a time; those that differ continue probing from the next slot.
+                pending.setSize(0);
+                pendingSlots.setSize(0);
+                if (candidates.size() == 0) {
+                    break;
+                }
+                equals[0].equalPermuted(candidates, candidateKeyPositions, lookupKeys[0], keyValues[0],
+                        candidateMatches);
+                for (int ci = 1; ci < lookupKeys.length; ++ci) {
+                    equals[ci].andEqualPermuted(candidates, candidateKeyPositions, lookupKeys[ci], keyValues[ci],
+                            candidateMatches);
+                }
+                for (int ii = 0; ii < candidates.size(); ++ii) {
+                    if (candidateMatches.get(ii)) {
+                        final int keyPosition = candidateKeyPositions.get(ii);
+                        destination.set(candidates.get(ii), rowKeys == null ? keyPosition : rowKeys.get(keyPosition));
+                    } else {
+                        pending.add(candidates.get(ii));
+                        pendingSlots.add((candidateSlots.get(ii) + 1) & slotMask);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -9,7 +9,9 @@ import io.deephaven.api.Strings;
 import io.deephaven.base.verify.Require;
 import io.deephaven.engine.exceptions.TableInitializationException;
 import io.deephaven.engine.liveness.LivenessScopeStack;
-import io.deephaven.engine.primitive.iterator.CloseableIterator;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.rowset.RowSetBuilderRandom;
 import io.deephaven.engine.rowset.RowSetFactory;
@@ -19,7 +21,6 @@ import io.deephaven.engine.table.impl.*;
 import io.deephaven.engine.table.impl.filter.ExtractFilterWithoutBarriers;
 import io.deephaven.engine.table.impl.select.WhereFilter;
 import io.deephaven.engine.table.impl.util.JobScheduler;
-import io.deephaven.engine.table.vectors.ColumnVectors;
 import io.deephaven.util.SafeCloseable;
 import org.jetbrains.annotations.NotNull;
 
@@ -34,6 +35,8 @@ import java.util.stream.Collectors;
  * the cost ceiling is too low to use the DataIndex.
  */
 public class DataIndexPushdownManager implements PushdownPredicateManager {
+    private static final int CHUNK_SIZE = 1 << 12;
+
     private final DataIndex dataIndex;
     private final PushdownFilterMatcher wrappedMatcher;
 
@@ -45,7 +48,8 @@ public class DataIndexPushdownManager implements PushdownPredicateManager {
         this.dataIndex = dataIndex;
         this.wrappedMatcher = wrappedMatcher;
 
-        selectionThreshold = (long) (dataIndex.table().size() / QueryTable.DATA_INDEX_FOR_WHERE_THRESHOLD);
+        selectionThreshold = (long) (dataIndex.table(DataIndexOptions.USING_PARTIAL_TABLE).size()
+                / QueryTable.DATA_INDEX_FOR_WHERE_THRESHOLD);
     }
 
     @Override
@@ -208,38 +212,50 @@ public class DataIndexPushdownManager implements PushdownPredicateManager {
     }
 
     /**
-     * Apply the filter to the data index table and return the result.
+     * Apply the filter to the data index table and return the result. The filter is applied to the
+     * {@link DataIndexOptions#USING_PARTIAL_TABLE partial} index table, and only the row sets of the matching keys are
+     * then retrieved, a chunk at a time, with {@link DataIndex#fillRowSets}.
      */
     @NotNull
     private PushdownResult pushdownDataIndex(
             final RowSet selection,
             final WhereFilter filter,
             final Map<String, String> renameMap,
-            final BasicDataIndex dataIndex,
+            final DataIndex dataIndex,
             final PushdownResult result) {
         final RowSetBuilderRandom matchingBuilder = RowSetFactory.builderRandom();
         try (final SafeCloseable ignored = LivenessScopeStack.open()) {
             // Extract the fundamental filter, ignoring barriers.
             final WhereFilter copiedFilter = ExtractFilterWithoutBarriers.of(filter).copy();
+            final Table indexTable = dataIndex.table(DataIndexOptions.USING_PARTIAL_TABLE);
             final Table toFilter;
             if (!renameMap.isEmpty()) {
                 final Collection<Pair> renamePairs = renameMap.entrySet().stream()
                         .map(entry -> io.deephaven.api.Pair.of(ColumnName.of(entry.getValue()),
                                 ColumnName.of(entry.getKey())))
                         .collect(Collectors.toList());
-                toFilter = dataIndex.table().renameColumns(renamePairs);
+                toFilter = indexTable.renameColumns(renamePairs);
             } else {
-                toFilter = dataIndex.table();
+                toFilter = indexTable;
             }
             try {
-                final Table filteredTable = toFilter.where(copiedFilter);
-                try (final CloseableIterator<RowSet> it =
-                        ColumnVectors.ofObject(filteredTable, dataIndex.rowSetColumnName(), RowSet.class).iterator()) {
-                    it.forEachRemaining(rowSet -> {
-                        try (final RowSet matching = rowSet.intersect(result.maybeMatch())) {
-                            matchingBuilder.addRowSet(matching);
+                // The filtered table shares its row keys with the index table.
+                final RowSet filteredRowSet = toFilter.where(copiedFilter).getRowSet();
+                final int chunkSize = (int) Math.min(CHUNK_SIZE, Math.max(1, filteredRowSet.size()));
+                try (final RowSequence.Iterator filteredRowsIterator = filteredRowSet.getRowSequenceIterator();
+                        final WritableObjectChunk<RowSet, Values> rowSets =
+                                WritableObjectChunk.makeWritableChunk(chunkSize)) {
+                    while (filteredRowsIterator.hasMore()) {
+                        final RowSequence filteredRows = filteredRowsIterator.getNextRowSequenceWithLength(chunkSize);
+                        dataIndex.fillRowSets(DataIndexOptions.USING_PARTIAL_TABLE, filteredRows.asRowKeyChunk(),
+                                false, rowSets);
+                        for (int ii = 0; ii < rowSets.size(); ++ii) {
+                            try (final RowSet matching = rowSets.get(ii).intersect(result.maybeMatch())) {
+                                matchingBuilder.addRowSet(matching);
+                            }
                         }
-                    });
+                        rowSets.fillWithNullValue(0, rowSets.size());
+                    }
                 }
             } catch (final Exception e) {
                 throw new TableInitializationException(
@@ -4,6 +4,13 @@
 package io.deephaven.engine.table.impl.dataindex;
 
 import io.deephaven.base.verify.Assert;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.DataIndex;
 import io.deephaven.engine.table.DataIndexOptions;
@@ -107,6 +114,24 @@ public class RemappedDataIndex extends AbstractDataIndex implements DataIndexer.
         return sourceIndex.rowKeyLookup(options);
     }
 
+    @Override
+    public void lookupRowKeys(
+            @NotNull final DataIndexOptions options,
+            @NotNull final Chunk<? extends Values>[] lookupKeys,
+            final boolean usePrev,
+            @NotNull final WritableLongChunk<? super RowKeys> destination) {
+        sourceIndex.lookupRowKeys(options, lookupKeys, usePrev, destination);
+    }
+
+    @Override
+    public void fillRowSets(
+            @NotNull final DataIndexOptions options,
+            @NotNull final LongChunk<? extends RowKeys> indexRowKeys,
+            final boolean usePrev,
+            @NotNull final WritableObjectChunk<RowSet, ? super Values> destination) {
+        sourceIndex.fillRowSets(options, indexRowKeys, usePrev, destination);
+    }
+
     @Override
     public boolean isRefreshing() {
         return sourceIndex.isRefreshing();
@@ -3,6 +3,7 @@
 //
 package io.deephaven.engine.table.impl.dataindex;
 
+import io.deephaven.configuration.Configuration;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.rowset.impl.ExternalizableRowSetUtils;
 import io.deephaven.util.codec.ObjectCodec;
@@ -10,12 +11,22 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 
 /**
  * A codec to encode and decode generic row set to a column.
+ * <p>
+ * Row sets are encoded in the {@link ExternalizableRowSetUtils#writeExternalCompressedDeltas compressed delta format}
+ * that all versions read. If {@code RowSetCodec.writeContainerFormat} is true, row sets for which the
+ * {@link ExternalizableRowSetUtils#writeContainerFormat(RowSet) container format} is no larger are written in that
+ * format instead, which decodes with a bulk copy per container but cannot be read by older versions. Either format is
+ * decoded.
  */
 public class RowSetCodec implements ObjectCodec<RowSet> {
 
+    private static final boolean WRITE_CONTAINER_FORMAT = Configuration.getInstance()
+            .getBooleanForClassWithDefault(RowSetCodec.class, "writeContainerFormat", false);
+
     public RowSetCodec(@SuppressWarnings("unused") String arguments) {}
 
     @Override
@@ -24,6 +35,15 @@ public class RowSetCodec implements ObjectCodec<RowSet> {
         if (input == null) {
             throw new UnsupportedOperationException(getClass() + " does not support null input");
         }
+        final byte[] compressedDeltas = writeCompressedDeltas(input);
+        if (WRITE_CONTAINER_FORMAT
+                && ExternalizableRowSetUtils.containerFormatSizeInBytes(input) <= compressedDeltas.length) {
+            return ExternalizableRowSetUtils.writeContainerFormat(input);
+        }
+        return compressedDeltas;
+    }
+
+    private static byte[] writeCompressedDeltas(@NotNull final RowSet input) {
         try {
             final ByteArrayOutputStream byteOutput = new ByteArrayOutputStream();
             final DataOutputStream dataOutputStream = new DataOutputStream(byteOutput);
@@ -53,6 +73,9 @@ public class RowSetCodec implements ObjectCodec<RowSet> {
     @Nullable
     @Override
     public RowSet decode(@NotNull final byte[] input, final int offset, final int length) {
+        if (length > 0 && ExternalizableRowSetUtils.isContainerFormat(input[offset])) {
+            return ExternalizableRowSetUtils.readContainerFormat(ByteBuffer.wrap(input, offset, length));
+        }
         try {
             final ByteArrayInputStream byteInput = new ByteArrayInputStream(input, offset, length);
             final DataInputStream dataInputStream = new DataInputStream(byteInput);
@@ -36,11 +36,30 @@ public abstract class StaticHashedNaturalJoinStateManager extends StaticNaturalJ
             final Table rightTable,
             final ColumnSource<?>[] rightSources);
 
+    /**
+     * Build the hash table from {@code rightTable}, splitting the table into up to {@code partitions} ranges of hash
+     * slots that are built concurrently. The result is identical to {@link #buildFromRightSide(Table, ColumnSource[])}.
+     */
+    public abstract void buildFromRightSide(
+            final Table rightTable,
+            final ColumnSource<?>[] rightSources,
+            final int partitions);
+
     public abstract void decorateLeftSide(
             final RowSet leftRowSet,
             final ColumnSource<?>[] leftSources,
             final LongArraySource leftRedirections);
 
+    /**
+     * Probe {@code leftRowSet} against the completed right side hash table in {@code segments} contiguous segments,
+     * concurrently. The result is identical to {@link #decorateLeftSide(RowSet, ColumnSource[], LongArraySource)}.
+     */
+    public abstract void decorateLeftSide(
+            final RowSet leftRowSet,
+            final ColumnSource<?>[] leftSources,
+            final LongArraySource leftRedirections,
+            final int segments);
+
     public abstract void decorateWithRightSide(
             final Table rightTable,
             final ColumnSource<?>[] rightSources);
@@ -51,6 +70,9 @@ public abstract class StaticHashedNaturalJoinStateManager extends StaticNaturalJ
     public abstract WritableRowRedirection buildRowRedirectionFromRedirections(QueryTable leftTable,
             LongArraySource leftRedirections, JoinControl.RedirectionType redirectionType);
 
+    public abstract WritableRowRedirection buildRowRedirectionFromRedirections(QueryTable leftTable,
+            LongArraySource leftRedirections, JoinControl.RedirectionType redirectionType, int segments);
+
     public abstract WritableRowRedirection buildIndexedRowRedirectionFromRedirections(QueryTable leftTable,
             RowSet indexTableRowSet, LongArraySource leftRedirections,
             ColumnSource<RowSet> indexRowSets, JoinControl.RedirectionType redirectionType);
@@ -7,14 +7,25 @@ import io.deephaven.api.NaturalJoinType;
 import io.deephaven.base.verify.Require;
 import io.deephaven.chunk.Chunk;
 import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.attributes.ChunkPositions;
+import io.deephaven.chunk.attributes.HashCodes;
 import io.deephaven.chunk.attributes.Values;
+import io.deephaven.chunk.util.hashing.ChunkHasher;
 import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
 import io.deephaven.engine.table.*;
 import io.deephaven.engine.table.impl.JoinControl;
 import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.engine.table.impl.sources.*;
 import io.deephaven.engine.table.impl.sources.immutable.ImmutableLongArraySource;
+import io.deephaven.engine.table.impl.util.JobScheduler;
+import io.deephaven.engine.table.impl.util.OperationInitializerJobScheduler;
 import io.deephaven.engine.table.impl.util.TypedHasherUtil;
 import io.deephaven.engine.table.impl.util.TypedHasherUtil.BuildOrProbeContext.BuildContext;
 import io.deephaven.engine.table.impl.util.TypedHasherUtil.BuildOrProbeContext.ProbeContext;
@@ -112,7 +123,12 @@ public abstract class StaticNaturalJoinStateManagerTypedBase extends StaticHashe
         long offset = 0;
 
         private LeftProbeHandler(LongArraySource leftRedirections) {
+            this(leftRedirections, 0);
+        }
+
+        private LeftProbeHandler(LongArraySource leftRedirections, long offset) {
             this.leftRedirections = leftRedirections;
+            this.offset = offset;
         }
 
         @Override
@@ -149,6 +165,132 @@ public abstract class StaticNaturalJoinStateManagerTypedBase extends StaticHashe
 
     abstract protected void buildFromRightSide(RowSequence rowSequence, Chunk[] sourceKeyChunks);
 
+    @Override
+    public void buildFromRightSide(Table rightTable, ColumnSource<?>[] rightSources, int partitions) {
+        // the partitioned build relies on there always being an empty slot for the serial overflow pass
+        if (partitions <= 1 || rightTable.size() < 2 || rightTable.size() >= tableSize) {
+            buildFromRightSide(rightTable, rightSources);
+            return;
+        }
+        final int partitionBits = Math.min(31 - Integer.numberOfLeadingZeros(partitions),
+                Integer.numberOfTrailingZeros(tableSize));
+        final int numPartitions = 1 << partitionBits;
+        final int partitionShift = Integer.numberOfTrailingZeros(tableSize) - partitionBits;
+        final RowSet rightRowSet = rightTable.getRowSet();
+        final long rowsPerSegment = (rightRowSet.size() + partitions - 1) / partitions;
+        final JobScheduler jobScheduler = new OperationInitializerJobScheduler();
+
+        // first split each contiguous segment of the right side by the partition of each row's hash slot
+        final RowSet[][] partitionedRows = new RowSet[partitions][];
+        jobScheduler.iterateParallelAndWait("naturalJoin partition right side", partitions, segment -> {
+            final long firstPosition = segment * rowsPerSegment;
+            final RowSetBuilderSequential[] builders = new RowSetBuilderSequential[numPartitions];
+            for (int partition = 0; partition < numPartitions; ++partition) {
+                builders[partition] = RowSetFactory.builderSequential();
+            }
+            try (final RowSet segmentRows =
+                    rightRowSet.subSetByPositionRange(firstPosition, firstPosition + rowsPerSegment)) {
+                if (!segmentRows.isEmpty()) {
+                    partitionRows(segmentRows, rightSources, partitionShift, builders);
+                }
+            }
+            partitionedRows[segment] = new RowSet[numPartitions];
+            for (int partition = 0; partition < numPartitions; ++partition) {
+                partitionedRows[segment][partition] = builders[partition].build();
+            }
+        });
+
+        // then build each range of hash slots concurrently, visiting the segments in order so that the first and last
+        // match semantics are preserved; probes that would leave the partition are deferred to a serial pass
+        final RowSet[] overflowRows = new RowSet[numPartitions];
+        final long[] insertedEntries = new long[numPartitions];
+        jobScheduler.iterateParallelAndWait("naturalJoin partitioned right side build", numPartitions, partition -> {
+            final int partitionEnd = (partition + 1) << partitionShift;
+            final RowSetBuilderSequential overflowBuilder = RowSetFactory.builderSequential();
+            try (final BuildContext bc = makeBuildContext(rightSources, rightRowSet.size());
+                    final WritableIntChunk<ChunkPositions> overflowPositions =
+                            WritableIntChunk.makeWritableChunk(bc.chunkSize)) {
+                // noinspection unchecked
+                final Chunk<Values>[] sourceKeyChunks = new Chunk[rightSources.length];
+                for (int segment = 0; segment < partitions; ++segment) {
+                    try (final RowSet rows = partitionedRows[segment][partition];
+                            final RowSequence.Iterator rsIt = rows.getRowSequenceIterator()) {
+                        while (rsIt.hasMore()) {
+                            final RowSequence chunkOk = rsIt.getNextRowSequenceWithLength(bc.chunkSize);
+                            getKeyChunks(rightSources, bc.getContexts, sourceKeyChunks, chunkOk);
+                            overflowPositions.setSize(0);
+                            insertedEntries[partition] += buildFromRightSidePartition(chunkOk, sourceKeyChunks,
+                                    partitionEnd, overflowPositions);
+                            if (overflowPositions.size() > 0) {
+                                final LongChunk<OrderedRowKeys> rowKeys = chunkOk.asRowKeyChunk();
+                                for (int ii = 0; ii < overflowPositions.size(); ++ii) {
+                                    overflowBuilder.appendKey(rowKeys.get(overflowPositions.get(ii)));
+                                }
+                            }
+                            bc.resetSharedContexts();
+                        }
+                    }
+                }
+            }
+            overflowRows[partition] = overflowBuilder.build();
+        });
+
+        for (final long inserted : insertedEntries) {
+            numEntries += inserted;
+        }
+        try (final WritableRowSet overflow = RowSetFactory.empty()) {
+            for (final RowSet rows : overflowRows) {
+                overflow.insert(rows);
+                rows.close();
+            }
+            if (!overflow.isEmpty()) {
+                try (final BuildContext bc = makeBuildContext(rightSources, overflow.size())) {
+                    buildTable(bc, overflow, rightSources, this::buildFromRightSide);
+                }
+            }
+        }
+    }
+
+    private void partitionRows(
+            final RowSet rows,
+            final ColumnSource<?>[] sources,
+            final int partitionShift,
+            final RowSetBuilderSequential[] builders) {
+        final ChunkHasher[] hashers = new ChunkHasher[chunkTypes.length];
+        for (int ii = 0; ii < chunkTypes.length; ++ii) {
+            hashers[ii] = ChunkHasher.makeHasher(chunkTypes[ii]);
+        }
+        try (final BuildContext bc = makeBuildContext(sources, rows.size());
+                final WritableIntChunk<HashCodes> hashes = WritableIntChunk.makeWritableChunk(bc.chunkSize);
+                final RowSequence.Iterator rsIt = rows.getRowSequenceIterator()) {
+            // noinspection unchecked
+            final Chunk<Values>[] sourceKeyChunks = new Chunk[sources.length];
+            while (rsIt.hasMore()) {
+                final RowSequence chunkOk = rsIt.getNextRowSequenceWithLength(bc.chunkSize);
+                getKeyChunks(sources, bc.getContexts, sourceKeyChunks, chunkOk);
+                hashers[0].hashInitial(sourceKeyChunks[0], hashes);
+                for (int ii = 1; ii < sourceKeyChunks.length; ++ii) {
+                    hashers[ii].hashUpdate(sourceKeyChunks[ii], hashes);
+                }
+                final LongChunk<OrderedRowKeys> rowKeys = chunkOk.asRowKeyChunk();
+                for (int ii = 0; ii < rowKeys.size(); ++ii) {
+                    builders[hashToTableLocation(hashes.get(ii)) >> partitionShift].appendKey(rowKeys.get(ii));
+                }
+                bc.resetSharedContexts();
+            }
+        }
+    }
+
+    /**
+     * Build the rows of {@code rowSequence} into the hash slots before {@code partitionEnd}. Every row must hash to a
+     * slot in the partition that ends at {@code partitionEnd}; rows whose probe would leave the partition are added to
+     * {@code overflowPositions} instead of being inserted.
+     *
+     * @return the number of new entries in the hash table
+     */
+    abstract protected int buildFromRightSidePartition(RowSequence rowSequence, Chunk[] sourceKeyChunks,
+            int partitionEnd, WritableIntChunk<ChunkPositions> overflowPositions);
+
     @Override
     public void decorateLeftSide(RowSet leftRowSet, ColumnSource<?>[] leftSources, LongArraySource leftRedirections) {
         if (leftRowSet.isEmpty()) {
@@ -159,6 +301,32 @@ public abstract class StaticNaturalJoinStateManagerTypedBase extends StaticHashe
         }
     }
 
+    @Override
+    public void decorateLeftSide(RowSet leftRowSet, ColumnSource<?>[] leftSources, LongArraySource leftRedirections,
+            int segments) {
+        if (segments <= 1) {
+            decorateLeftSide(leftRowSet, leftSources, leftRedirections);
+            return;
+        }
+        // allocate every redirection up front, so the segments never resize the source while writing concurrently
+        leftRedirections.ensureCapacity(leftRowSet.size());
+        final long rowsPerSegment = (leftRowSet.size() + segments - 1) / segments;
+        final JobScheduler jobScheduler = new OperationInitializerJobScheduler();
+        jobScheduler.iterateParallelAndWait("naturalJoin parallel probe", segments, segment -> {
+            final long firstPosition = segment * rowsPerSegment;
+            try (final RowSet segmentRows =
+                    leftRowSet.subSetByPositionRange(firstPosition, firstPosition + rowsPerSegment)) {
+                if (segmentRows.isEmpty()) {
+                    return;
+                }
+                try (final ProbeContext pc = makeProbeContext(leftSources, segmentRows.size())) {
+                    probeTable(pc, segmentRows, false, leftSources,
+                            new LeftProbeHandler(leftRedirections, firstPosition));
+                }
+            }
+        });
+    }
+
     abstract protected void decorateLeftSide(RowSequence rowSequence, Chunk[] sourceKeyChunks,
             LongArraySource leftRedirections, long redirectionsOffset);
 
@@ -248,6 +416,12 @@ public abstract class StaticNaturalJoinStateManagerTypedBase extends StaticHashe
         return buildRowRedirection(leftTable, leftRedirections::getUnsafe, redirectionType);
     }
 
+    @Override
+    public WritableRowRedirection buildRowRedirectionFromRedirections(QueryTable leftTable,
+            LongArraySource leftRedirections, JoinControl.RedirectionType redirectionType, int segments) {
+        return buildRowRedirection(leftTable, leftRedirections::getUnsafe, redirectionType, segments);
+    }
+
     public WritableRowRedirection buildIndexedRowRedirectionFromRedirections(
             QueryTable leftTable,
             RowSet indexTableRowSet,
@@ -14,6 +14,8 @@ import io.deephaven.base.verify.Assert;
 import io.deephaven.chunk.CharChunk;
 import io.deephaven.chunk.Chunk;
 import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.attributes.ChunkPositions;
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.chunk.util.hashing.CharChunkHasher;
 import io.deephaven.engine.rowset.RowSequence;
@@ -176,4 +178,44 @@ final class StaticNaturalJoinHasherChar extends StaticNaturalJoinStateManagerTyp
     private static boolean isStateEmpty(long state) {
         return state == EMPTY_RIGHT_STATE;
     }
+
+    protected int buildFromRightSidePartition(RowSequence rowSequence, Chunk[] sourceKeyChunks,
+            int partitionEnd, WritableIntChunk<ChunkPositions> overflowPositions) {
+        final CharChunk<Values> keyChunk0 = sourceKeyChunks[0].asCharChunk();
+        final int chunkSize = keyChunk0.size();
+        final LongChunk<OrderedRowKeys> rowKeyChunk = rowSequence.asRowKeyChunk();
+        int insertedEntries = 0;
+        for (int chunkPosition = 0; chunkPosition < chunkSize; ++chunkPosition) {
+            final char k0 = keyChunk0.get(chunkPosition);
+            final int hash = hash(k0);
+            int tableLocation = hashToTableLocation(hash);
+            while (true) {
+                if (tableLocation == partitionEnd) {
+                    overflowPositions.add(chunkPosition);
+                    break;
+                }
+                long rightSideSentinel = mainRightRowKey.getUnsafe(tableLocation);
+                if (isStateEmpty(rightSideSentinel)) {
+                    insertedEntries++;
+                    mainKeySource0.set(tableLocation, k0);
+                    final long rightRowKeyToInsert = rowKeyChunk.get(chunkPosition);
+                    mainRightRowKey.set(tableLocation, rightRowKeyToInsert);
+                    break;
+                } else if (eq(mainKeySource0.getUnsafe(tableLocation), k0)) {
+                    if (joinType == NaturalJoinType.FIRST_MATCH) {
+                        // no-op, we already have the first match;
+                    } else if (joinType == NaturalJoinType.LAST_MATCH) {
+                        // we are processing sequentially so this is the latest;
+                        mainRightRowKey.set(tableLocation, rowKeyChunk.get(chunkPosition));
+                    } else {
+                        mainRightRowKey.set(tableLocation, DUPLICATE_RIGHT_STATE);
+                    }
+                    break;
+                } else {
+                    ++tableLocation;
+                }
+            }
+        }
+        return insertedEntries;
+    }
 }
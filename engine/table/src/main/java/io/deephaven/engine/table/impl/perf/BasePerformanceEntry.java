@@ -32,6 +32,8 @@ public class BasePerformanceEntry implements LogOutputAppendable {
     private long dataReadBytes;
     private long metadataOperationNanos;
     private long metadataOperationCount;
+    private long tieredStateHitCount;
+    private long tieredStateMissCount;
 
     private long startTimeNanos;
 
@@ -46,6 +48,8 @@ public class BasePerformanceEntry implements LogOutputAppendable {
     private long startDataReadBytes;
     private long startMetadataOperationNanos;
     private long startMetadataOperationCount;
+    private long startTieredStateHitCount;
+    private long startTieredStateMissCount;
 
     public synchronized void onBaseEntryStart() {
         startAllocatedBytes = ThreadProfiler.DEFAULT.getCurrentThreadAllocatedBytes();
@@ -58,6 +62,8 @@ public class BasePerformanceEntry implements LogOutputAppendable {
         startDataReadBytes = readTracker.getDataReadBytes();
         startMetadataOperationNanos = readTracker.getMetadataOperationNanos();
         startMetadataOperationCount = readTracker.getMetadataOperationCount();
+        startTieredStateHitCount = readTracker.getTieredStateHitCount();
+        startTieredStateMissCount = readTracker.getTieredStateMissCount();
 
         startUserCpuNanos = ThreadProfiler.DEFAULT.getCurrentThreadUserTime();
         startCpuNanos = ThreadProfiler.DEFAULT.getCurrentThreadCpuTime();
@@ -84,6 +90,8 @@ public class BasePerformanceEntry implements LogOutputAppendable {
         dataReadBytes += readTracker.getDataReadBytes() - startDataReadBytes;
         metadataOperationNanos += readTracker.getMetadataOperationNanos() - startMetadataOperationNanos;
         metadataOperationCount += readTracker.getMetadataOperationCount() - startMetadataOperationCount;
+        tieredStateHitCount += readTracker.getTieredStateHitCount() - startTieredStateHitCount;
+        tieredStateMissCount += readTracker.getTieredStateMissCount() - startTieredStateMissCount;
 
         startAllocatedBytes = 0;
         startPoolAllocatedBytes = 0;
@@ -109,6 +117,18 @@ public class BasePerformanceEntry implements LogOutputAppendable {
         dataReadBytes = 0;
         metadataOperationNanos = 0;
         metadataOperationCount = 0;
+        tieredStateHitCount = 0;
+        tieredStateMissCount = 0;
+    }
+
+    /**
+     * Add wall clock time that was measured by the caller, rather than between {@link #onBaseEntryStart()} and
+     * {@link #onBaseEntryEnd()}, to this entry's usage.
+     *
+     * @param nanos the nanoseconds to add
+     */
+    synchronized void accumulateUsageNanos(final long nanos) {
+        usageNanos += nanos;
     }
 
     /**
@@ -212,6 +232,26 @@ public class BasePerformanceEntry implements LogOutputAppendable {
         return metadataOperationCount;
     }
 
+    /**
+     * Get the aggregate number of tiered state accesses that found their block on the heap. This getter should be
+     * called by exclusive owners of the entry, and never concurrently with mutators.
+     *
+     * @return total number of tiered state hits
+     */
+    public long getTieredStateHitCount() {
+        return tieredStateHitCount;
+    }
+
+    /**
+     * Get the aggregate number of tiered state accesses that had to read their block from disk. This getter should be
+     * called by exclusive owners of the entry, and never concurrently with mutators.
+     *
+     * @return total number of tiered state misses
+     */
+    public long getTieredStateMissCount() {
+        return tieredStateMissCount;
+    }
+
 
     @Override
     public LogOutput append(@NotNull final LogOutput logOutput) {
@@ -225,7 +265,9 @@ public class BasePerformanceEntry implements LogOutputAppendable {
                 .append(", dataReadCount=").append(dataReadCount)
                 .append(", dataReadBytes=").append(dataReadBytes)
                 .append(", metadataOperationNanos=").append(metadataOperationNanos)
-                .append(", metadataOperationCount=").append(metadataOperationCount);
+                .append(", metadataOperationCount=").append(metadataOperationCount)
+                .append(", tieredStateHitCount=").append(tieredStateHitCount)
+                .append(", tieredStateMissCount=").append(tieredStateMissCount);
         return appendStart(currentValues)
                 .append('}');
     }
@@ -241,7 +283,9 @@ public class BasePerformanceEntry implements LogOutputAppendable {
                 .append(", startDataReadCount=").append(startDataReadCount)
                 .append(", startDataReadBytes=").append(startDataReadBytes)
                 .append(", startMetadataOperationNanos=").append(startMetadataOperationNanos)
-                .append(", startMetadataOperationCount=").append(startMetadataOperationCount);
+                .append(", startMetadataOperationCount=").append(startMetadataOperationCount)
+                .append(", startTieredStateHitCount=").append(startTieredStateHitCount)
+                .append(", startTieredStateMissCount=").append(startTieredStateMissCount);
     }
 
     @Override
@@ -267,5 +311,7 @@ public class BasePerformanceEntry implements LogOutputAppendable {
         this.dataReadBytes += entry.dataReadBytes;
         this.metadataOperationNanos += entry.metadataOperationNanos;
         this.metadataOperationCount += entry.metadataOperationCount;
+        this.tieredStateHitCount += entry.tieredStateHitCount;
+        this.tieredStateMissCount += entry.tieredStateMissCount;
     }
 }
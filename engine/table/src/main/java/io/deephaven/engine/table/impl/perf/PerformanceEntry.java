@@ -53,6 +53,12 @@ public class PerformanceEntry extends BasePerformanceEntry implements TableListe
     private boolean loggedOnce;
     private RuntimeMemory.PooledSample startSample;
 
+    /**
+     * Estimated time from the start of this entry's update until every notification it transitively enqueued within
+     * the same cycle has completed. Maintained by the update graph to prioritize notifications on the critical path.
+     */
+    private volatile long criticalPathNanos;
+
     PerformanceEntry(final long id, final long evaluationNumber, final int operationNumber,
             final String description, final String callerLine, final String updateGraphName) {
         this.id = id;
@@ -227,6 +233,36 @@ public class PerformanceEntry extends BasePerformanceEntry implements TableListe
         return invocationCount;
     }
 
+    /**
+     * Record invocations whose wall clock time was measured by the caller, for entries that account for work outside
+     * of a single {@link #onUpdateStart()} and {@link #onUpdateEnd()} interval. Must not be called concurrently with
+     * the update performance tracker's flush of this entry.
+     *
+     * @param invocations the number of invocations to add
+     * @param usageNanos the nanoseconds of wall clock time to add
+     */
+    public void onExternalIntervals(final long invocations, final long usageNanos) {
+        invocationCount += invocations;
+        accumulateUsageNanos(usageNanos);
+    }
+
+    /**
+     * @return the estimated nanoseconds of work on the longest chain of notifications starting with this entry's
+     *         update, or zero if it has not been observed
+     */
+    public long getCriticalPathNanos() {
+        return criticalPathNanos;
+    }
+
+    /**
+     * Set the estimated nanoseconds of work on the longest chain of notifications starting with this entry's update.
+     *
+     * @param criticalPathNanos the new estimate
+     */
+    public void setCriticalPathNanos(final long criticalPathNanos) {
+        this.criticalPathNanos = criticalPathNanos;
+    }
+
     /**
      * Suppress de minimus update entry intervals using the properties defined in the QueryPerformanceNugget class.
      *
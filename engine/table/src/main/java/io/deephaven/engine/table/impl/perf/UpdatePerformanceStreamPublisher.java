@@ -48,7 +48,9 @@ class UpdatePerformanceStreamPublisher implements StreamPublisher {
             ColumnDefinition.ofLong("MetadataOperationCount"),
             ColumnDefinition.ofString("AuthContext"),
             ColumnDefinition.ofString("UpdateGraph"),
-            ColumnDefinition.ofLong("WorkerHeapSize"));
+            ColumnDefinition.ofLong("WorkerHeapSize"),
+            ColumnDefinition.ofLong("TieredStateHitCount"),
+            ColumnDefinition.ofLong("TieredStateMissCount"));
 
     public static TableDefinition definition() {
         return DEFINITION;
@@ -133,6 +135,10 @@ class UpdatePerformanceStreamPublisher implements StreamPublisher {
         chunks[ci++].<String>asWritableObjectChunk().add(Objects.toString(performanceEntry.getUpdateGraphName()));
         // ColumnDefinition.ofLong("WorkerHeapSize")
         chunks[ci++].asWritableLongChunk().add(heapSize);
+        // ColumnDefinition.ofLong("TieredStateHitCount"),
+        chunks[ci++].asWritableLongChunk().add(performanceEntry.getTieredStateHitCount());
+        // ColumnDefinition.ofLong("TieredStateMissCount"));
+        chunks[ci++].asWritableLongChunk().add(performanceEntry.getTieredStateMissCount());
 
         if (chunks[0].size() == CHUNK_SIZE) {
             flushInternal();
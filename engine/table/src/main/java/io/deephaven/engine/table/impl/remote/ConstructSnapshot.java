@@ -1344,7 +1344,7 @@ public class ConstructSnapshot {
             final ExecutionContext executionContext = ExecutionContext.getContext();
             canParallelize = ENABLE_PARALLEL_SNAPSHOT &&
                     executionContext.getOperationInitializer().canParallelize() &&
-                    numNonEmptyColumns > 1 &&
+                    (numNonEmptyColumns > 1 || snapshot.rowsIncluded.size() > SNAPSHOT_CHUNK_SIZE) &&
                     (snapshot.rowsIncluded.size() >= MINIMUM_PARALLEL_SNAPSHOT_ROWS ||
                             !allColumnSourcesInMemory(nonEmptyColumnSources));
             if (canParallelize) {
@@ -1402,7 +1402,10 @@ public class ConstructSnapshot {
     }
 
     /**
-     * Snapshot the specified columns in parallel.
+     * Snapshot the specified columns in parallel. When there are fewer columns than the operation initializer can run
+     * at once, each column is further split into ranges of row positions that are snapshotted independently. Ranges
+     * always span whole chunks of {@link #SNAPSHOT_CHUNK_SIZE} rows, so the resulting chunks are identical to those of
+     * a serial snapshot.
      */
     private static boolean snapshotColumnsParallel(
             @NotNull final IntList columnIndices,
@@ -1410,17 +1413,49 @@ public class ConstructSnapshot {
             final boolean usePrev,
             final ExecutionContext executionContext,
             @NotNull final BarrageMessage snapshot) {
+        final int numCols = columnIndices.size();
+        final long numRows = snapshot.rowsIncluded.size();
+        final int maxChunkSize = (int) Math.min(numRows, SNAPSHOT_CHUNK_SIZE);
+        final long numChunks = (numRows + maxChunkSize - 1) / maxChunkSize;
+        final int parallelism = executionContext.getOperationInitializer().parallelismFactor();
+
+        final int rangesPerColumn;
+        final long chunksPerRange;
+        if (numCols >= parallelism || numChunks == 1) {
+            rangesPerColumn = 1;
+            chunksPerRange = numChunks;
+        } else {
+            final long targetRanges = Math.min(numChunks, (parallelism + numCols - 1) / numCols);
+            chunksPerRange = (numChunks + targetRanges - 1) / targetRanges;
+            rangesPerColumn = (int) ((numChunks + chunksPerRange - 1) / chunksPerRange);
+            // Ranges complete out of order; reserve a slot for each chunk so they can be stored by position
+            final int numChunkSlots = (int) numChunks;
+            for (int colRank = 0; colRank < numCols; ++colRank) {
+                snapshot.addColumnData[columnIndices.getInt(colRank)].data =
+                        new ArrayList<>(Collections.nCopies(numChunkSlots, null));
+            }
+        }
+
         final JobScheduler jobScheduler = new OperationInitializerJobScheduler();
         final CompletableFuture<Void> waitForParallelSnapshot = new CompletableFuture<>();
         jobScheduler.iterateParallel(
                 executionContext,
                 logOutput -> logOutput.append("snapshotColumnsParallel"),
                 JobScheduler.DEFAULT_CONTEXT_FACTORY,
-                0, columnIndices.size(),
-                (context, colRank, nestedErrorConsumer) -> snapshotColumnsSerial(
-                        new IntArrayList(new int[] {columnIndices.getInt(colRank)}),
-                        columnSources.subList(colRank, colRank + 1),
-                        usePrev, snapshot),
+                0, numCols * rangesPerColumn,
+                (context, taskIndex, nestedErrorConsumer) -> {
+                    final int colRank = taskIndex / rangesPerColumn;
+                    if (rangesPerColumn == 1) {
+                        snapshotColumnsSerial(
+                                new IntArrayList(new int[] {columnIndices.getInt(colRank)}),
+                                columnSources.subList(colRank, colRank + 1),
+                                usePrev, snapshot);
+                    } else {
+                        snapshotColumnRange(columnIndices.getInt(colRank), columnSources.get(colRank), usePrev,
+                                snapshot, maxChunkSize, (taskIndex % rangesPerColumn) * chunksPerRange,
+                                chunksPerRange);
+                    }
+                },
                 () -> waitForParallelSnapshot.complete(null),
                 () -> {
                 },
@@ -1436,6 +1471,39 @@ public class ConstructSnapshot {
         return true;
     }
 
+    /**
+     * Snapshot a range of whole chunks of a single column, storing each chunk in the slot reserved for it by
+     * {@link #snapshotColumnsParallel}.
+     */
+    private static void snapshotColumnRange(
+            final int colIdx,
+            @NotNull final ColumnSource<?> columnSource,
+            final boolean usePrev,
+            @NotNull final BarrageMessage snapshot,
+            final int maxChunkSize,
+            final long firstChunk,
+            final long maxChunks) {
+        final RowSet rowSet = snapshot.rowsIncluded;
+        final long firstPosition = firstChunk * maxChunkSize;
+        final List<Chunk<Values>> data = snapshot.addColumnData[colIdx].data;
+        int chunkIdx = (int) firstChunk;
+        try (final ColumnSource.FillContext fillContext = columnSource.makeFillContext(maxChunkSize);
+                final RowSequence range = rowSet.getRowSequenceByPosition(firstPosition, maxChunks * maxChunkSize);
+                final RowSequence.Iterator it = range.getRowSequenceIterator()) {
+            while (it.hasMore()) {
+                final RowSequence reducedRowSet = it.getNextRowSequenceWithLength(maxChunkSize);
+                final WritableChunk<Values> currentChunk =
+                        columnSource.getChunkType().makeWritableChunk(reducedRowSet.intSize());
+                if (usePrev) {
+                    columnSource.fillPrevChunk(fillContext, currentChunk, reducedRowSet);
+                } else {
+                    columnSource.fillChunk(fillContext, currentChunk, reducedRowSet);
+                }
+                data.set(chunkIdx++, currentChunk);
+            }
+        }
+    }
+
     /**
      * Allocate add and mod column data for each column, and populate the snapshot data for empty columns. Also, collect
      * the indices and column sources of non-empty columns, for which we will populate snapshot data later.
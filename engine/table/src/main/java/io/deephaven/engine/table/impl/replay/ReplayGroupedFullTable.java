@@ -29,7 +29,7 @@ public class ReplayGroupedFullTable extends QueryReplayGroupedTable {
         }
         RowSetBuilderRandom rowSetBuilder = RowSetFactory.builderRandom();
         while (!allIterators.isEmpty()
-                && DateTimeUtils.epochNanos(allIterators.peek().lastTime) < replayer.clock().currentTimeNanos()) {
+                && DateTimeUtils.epochNanos(allIterators.peek().lastTime) < replayer.currentReplayTimeNanos()) {
             IteratorsAndNextTime currentIt = allIterators.poll();
             final long key = redirIndexSize++;
             rowRedirection.put(key, currentIt.lastIndex);
@@ -29,7 +29,7 @@ public class ReplayLastByGroupedTable extends QueryReplayGroupedTable {
         RowSetBuilderRandom modifiedBuilder = RowSetFactory.builderRandom();
         // List<IteratorsAndNextTime> iteratorsToAddBack = new ArrayList<>(allIterators.size());
         while (!allIterators.isEmpty()
-                && DateTimeUtils.epochNanos(allIterators.peek().lastTime) < replayer.clock().currentTimeNanos()) {
+                && DateTimeUtils.epochNanos(allIterators.peek().lastTime) < replayer.currentReplayTimeNanos()) {
             IteratorsAndNextTime currentIt = allIterators.poll();
             rowRedirection.put(currentIt.pos, currentIt.lastIndex);
             if (getRowSet().find(currentIt.pos) >= 0) {
@@ -40,7 +40,7 @@ public class ReplayLastByGroupedTable extends QueryReplayGroupedTable {
             do {
                 currentIt = currentIt.next();
             } while (currentIt != null
-                    && DateTimeUtils.epochNanos(currentIt.lastTime) < replayer.clock().currentTimeNanos());
+                    && DateTimeUtils.epochNanos(currentIt.lastTime) < replayer.currentReplayTimeNanos());
             if (currentIt != null) {
                 allIterators.add(currentIt);
             }
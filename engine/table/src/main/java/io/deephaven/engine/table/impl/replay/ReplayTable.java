@@ -4,7 +4,10 @@
 package io.deephaven.engine.table.impl.replay;
 
 import io.deephaven.base.verify.Require;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.attributes.Values;
 import io.deephaven.engine.rowset.*;
+import io.deephaven.engine.table.ChunkSource;
 import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.util.QueryConstants;
@@ -13,78 +16,164 @@ import org.jetbrains.annotations.NotNull;
 import java.time.Instant;
 import java.util.Map;
 
+/**
+ * Replays a static table whose time column is non-decreasing in row set order.
+ * <p>
+ * Rather than visiting each row to decide whether it is due, each cycle searches the time column by row position for
+ * the end of the rows that are due, galloping forward from the first unreleased position, and releases them as a
+ * single position range of the source row set. If the source is known to be sorted ascending by its time column (see
+ * {@link io.deephaven.engine.table.impl.SortedColumnsAttribute}), no further work is done per row; otherwise the
+ * released rows are checked for null or decreasing times a chunk at a time.
+ */
 public class ReplayTable extends ReplayTableBase implements Runnable {
+
+    private static final int CHECK_CHUNK_SIZE = 4096;
+
     /**
      * Creates a new ReplayTable based on a row set, set of column sources, time column, and a replayer
      */
     private final Replayer replayer;
+    private final RowSet sourceRowSet;
     private final ColumnSource<Long> nanoTimeSource;
-    private final RowSet.Iterator rowSetIterator;
+    private final boolean timesKnownSorted;
+    private final long sourceSize;
 
-    private long nextRowKey = RowSequence.NULL_ROW_KEY;
-    private long nextTimeNanos = QueryConstants.NULL_LONG;
-    private boolean done;
+    private long nextPosition;
+    private long lastTimeNanos = QueryConstants.NULL_LONG;
 
     public ReplayTable(
             @NotNull final RowSet rowSet,
             @NotNull final Map<String, ? extends ColumnSource<?>> columns,
             @NotNull final String timeColumn,
             @NotNull final Replayer replayer) {
+        this(rowSet, columns, timeColumn, replayer, false);
+    }
+
+    /**
+     * @param rowSet the row set of the static source table
+     * @param columns the column sources of the static source table
+     * @param timeColumn the name of the time column, which must be non-decreasing in row set order
+     * @param replayer the replayer that provides the replay time
+     * @param timesKnownSorted whether the source is known to be sorted ascending by {@code timeColumn}, in which case
+     *        released rows are not checked
+     */
+    public ReplayTable(
+            @NotNull final RowSet rowSet,
+            @NotNull final Map<String, ? extends ColumnSource<?>> columns,
+            @NotNull final String timeColumn,
+            @NotNull final Replayer replayer,
+            final boolean timesKnownSorted) {
         super("ReplayTable", RowSetFactory.empty().toTracking(), columns);
         this.replayer = Require.neqNull(replayer, "replayer");
         // NB: This will behave incorrectly if our row set or any data in columns can change. Our source table *must*
-        // be static. We also seem to be assuming that timeSource has no null values in rowSet. It would be nice to use
-        // a column iterator for this, but that would upset unit tests by keeping pooled chunks across cycles.
+        // be static.
         final ColumnSource<Instant> instantSource = getColumnSource(timeColumn, Instant.class);
         replayer.registerTimeSource(rowSet, instantSource);
         nanoTimeSource = ReinterpretUtils.instantToLongSource(instantSource);
-        rowSetIterator = rowSet.iterator();
+        sourceRowSet = rowSet;
+        sourceSize = rowSet.size();
+        this.timesKnownSorted = timesKnownSorted;
+        // nulls sort first, so a sorted source can only contain a null time in its first row
+        if (timesKnownSorted && sourceSize > 0 && timeNanosAt(0) == QueryConstants.NULL_LONG) {
+            throw nullOrDecreasingTime();
+        }
 
-        advanceIterators();
-        if (!done) {
+        if (sourceSize > 0) {
             try (final RowSet initial = advanceToCurrentTime()) {
                 getRowSet().writableCast().insert(initial);
             }
         }
     }
 
+    private static RuntimeException nullOrDecreasingTime() {
+        return new RuntimeException(
+                "The historical table contains a null or decreasing time that cannot be replayed.");
+    }
+
+    private long timeNanosAt(final long position) {
+        return nanoTimeSource.getLong(sourceRowSet.get(position));
+    }
+
+    /**
+     * Find the end of the rows that are due at {@code currentTimeNanos}, assuming non-decreasing times.
+     *
+     * @return the first position at or after {@link #nextPosition} whose time is after {@code currentTimeNanos}, or
+     *         {@link #sourceSize} if there is none
+     */
+    private long findReleaseEnd(final long currentTimeNanos) {
+        // gallop to bound the search by the number of rows released, rather than the number remaining
+        long lo = nextPosition;
+        long step = 1;
+        long hi = lo;
+        while (hi < sourceSize && timeNanosAt(hi) <= currentTimeNanos) {
+            lo = hi + 1;
+            hi = lo + step;
+            step <<= 1;
+        }
+        hi = Math.min(hi, sourceSize);
+        // the end is now within [lo, hi]
+        while (lo < hi) {
+            final long mid = (lo + hi) >>> 1;
+            if (timeNanosAt(mid) <= currentTimeNanos) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
     /**
-     * Advance the row key and time iterators if there are any left in the table.
-     * 
-     * @throws RuntimeException if time is null, or if the next time is before the current time.
+     * Check that the times of the newly released rows are non-null and continue non-decreasing from the rows released
+     * before them.
+     *
+     * @throws RuntimeException if time is null, or if a time is before the time of the preceding row.
      */
-    private void advanceIterators() {
-        if (rowSetIterator.hasNext()) {
-            nextRowKey = rowSetIterator.nextLong();
-            final long currentTimeNanos = nextTimeNanos;
-            nextTimeNanos = nanoTimeSource.getLong(nextRowKey);
-            if (nextTimeNanos == QueryConstants.NULL_LONG || nextTimeNanos < currentTimeNanos) {
-                throw new RuntimeException(
-                        "The historical table contains a null or decreasing time that cannot be replayed.");
+    private void checkReleasedTimes(@NotNull final RowSet released) {
+        try (final ChunkSource.GetContext getContext = nanoTimeSource.makeGetContext(CHECK_CHUNK_SIZE);
+                final RowSequence.Iterator releasedIterator = released.getRowSequenceIterator()) {
+            while (releasedIterator.hasMore()) {
+                final RowSequence chunkRows = releasedIterator.getNextRowSequenceWithLength(CHECK_CHUNK_SIZE);
+                final LongChunk<? extends Values> times =
+                        nanoTimeSource.getChunk(getContext, chunkRows).asLongChunk();
+                for (int ii = 0; ii < times.size(); ++ii) {
+                    final long timeNanos = times.get(ii);
+                    if (timeNanos == QueryConstants.NULL_LONG || timeNanos < lastTimeNanos) {
+                        throw nullOrDecreasingTime();
+                    }
+                    lastTimeNanos = timeNanos;
+                }
             }
-        } else {
-            // NB: It would be best to ensure that if this is hit during construction, we're never added to the UGP.
-            // If this is hit during update processing, it would be great to remove ourselves from the UGP right away.
-            done = true;
         }
     }
 
     /**
-     * Advance iterators to the current time.
+     * Release the rows that are due at the current replay time.
      */
     private RowSet advanceToCurrentTime() {
-        final RowSetBuilderSequential addedBuilder = RowSetFactory.builderSequential();
-        final long currentReplayTimeNanos = replayer.clock().currentTimeNanos();
-        while (!done && nextTimeNanos <= currentReplayTimeNanos) {
-            addedBuilder.appendKey(nextRowKey);
-            advanceIterators();
+        if (nextPosition >= sourceSize) {
+            return RowSetFactory.empty();
+        }
+        final long releaseEnd = findReleaseEnd(replayer.currentReplayTimeNanos());
+        if (releaseEnd == nextPosition) {
+            return RowSetFactory.empty();
+        }
+        final WritableRowSet released = sourceRowSet.subSetByPositionRange(nextPosition, releaseEnd);
+        if (!timesKnownSorted) {
+            try {
+                checkReleasedTimes(released);
+            } catch (RuntimeException e) {
+                released.close();
+                throw e;
+            }
         }
-        return addedBuilder.build();
+        nextPosition = releaseEnd;
+        return released;
     }
 
     @Override
     public void run() {
-        if (done) {
+        if (nextPosition >= sourceSize) {
             return;
         }
         final RowSet added = advanceToCurrentTime();
@@ -7,6 +7,7 @@ import io.deephaven.engine.rowset.TrackingRowSet;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.impl.InstrumentedTableUpdateSource;
 import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.updategraph.UpdateSourceRegistrar;
 import io.deephaven.internal.log.LoggerFactory;
 import io.deephaven.io.logger.Logger;
 import org.jetbrains.annotations.NotNull;
@@ -30,11 +31,19 @@ public abstract class ReplayTableBase extends QueryTable implements Runnable {
     }
 
     public void start() {
-        updateGraph.addSource(sourceRefresher);
+        start(updateGraph);
     }
 
     public void stop() {
-        updateGraph.removeSource(sourceRefresher);
+        stop(updateGraph);
+    }
+
+    void start(@NotNull final UpdateSourceRegistrar registrar) {
+        registrar.addSource(sourceRefresher);
+    }
+
+    void stop(@NotNull final UpdateSourceRegistrar registrar) {
+        registrar.removeSource(sourceRefresher);
     }
 
     private class SourceRefresher extends InstrumentedTableUpdateSource {
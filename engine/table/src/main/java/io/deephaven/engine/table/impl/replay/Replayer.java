@@ -7,6 +7,9 @@ import io.deephaven.base.clock.Clock;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.table.impl.InstrumentedUpdateSource;
+import io.deephaven.engine.table.impl.SortedColumnsAttribute;
+import io.deephaven.engine.table.impl.SortingOrder;
+import io.deephaven.engine.updategraph.UpdateSourceCombiner;
 import io.deephaven.engine.updategraph.UpdateGraph;
 import io.deephaven.engine.exceptions.CancellationException;
 import io.deephaven.engine.table.Table;
@@ -26,6 +29,11 @@ import java.util.concurrent.locks.Condition;
 
 /**
  * Replay historical data as simulated real-time data.
+ * <p>
+ * The replayer and all of its tables are refreshed serially, as a single update source, and every table releases the
+ * rows that are due at the same {@link #currentReplayTimeNanos() replay time} in each update graph cycle. Tables
+ * replayed by one replayer therefore advance in lockstep, whether the update graph is periodic or
+ * {@link io.deephaven.engine.updategraph.impl.EventDrivenUpdateGraph event driven}.
  */
 public class Replayer implements ReplayerInterface, Runnable {
     private static final Logger log = LoggerFactory.getLogger(Replayer.class);
@@ -41,6 +49,17 @@ public class Replayer implements ReplayerInterface, Runnable {
 
     private final UpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph();
     private final SourceRefresher sourceRefresher = new SourceRefresher();
+    /**
+     * Refreshes {@link #sourceRefresher} first, and then each started table, so that the tables see time advanced by
+     * this replayer's {@link #run()}.
+     */
+    private final UpdateSourceCombiner replaySources = new UpdateSourceCombiner(updateGraph);
+
+    /**
+     * The update graph step for which {@link #cycleReplayTimeNanos} was sampled. Guarded by {@code this}.
+     */
+    private long cycleStep = -1;
+    private long cycleReplayTimeNanos;
 
     // Condition variable for use with PeriodicUpdateGraph lock - the object monitor is no longer used
     private final Condition ugpCondition = updateGraph.exclusiveLock().newCondition();
@@ -54,6 +73,7 @@ public class Replayer implements ReplayerInterface, Runnable {
     public Replayer(Instant startTime, Instant endTime) {
         this.endTime = endTime;
         this.startTime = startTime;
+        replaySources.addSource(sourceRefresher);
     }
 
     /**
@@ -62,12 +82,10 @@ public class Replayer implements ReplayerInterface, Runnable {
     @Override
     public void start() {
         deltaNanos = DateTimeUtils.millisToNanos(System.currentTimeMillis()) - DateTimeUtils.epochNanos(startTime);
-        // Note: ReplayTables are allowed to run in parallel with this Replayer. However, we may wish to use an
-        // UpdateSourceCombiner to ensure that all of these tables are refreshed as a unit.
-        updateGraph.addSource(sourceRefresher);
         for (ReplayTableBase currentTable : currentTables) {
-            currentTable.start();
+            currentTable.start(replaySources);
         }
+        replaySources.install();
     }
 
     /**
@@ -90,9 +108,9 @@ public class Replayer implements ReplayerInterface, Runnable {
         if (done) {
             return;
         }
-        updateGraph.removeSource(sourceRefresher);
+        updateGraph.removeSource(replaySources);
         for (ReplayTableBase currentTable : currentTables) {
-            currentTable.stop();
+            currentTable.stop(replaySources);
         }
         currentTables = null;
         if (updateGraph.exclusiveLock().isHeldByCurrentThread()) {
@@ -198,11 +216,12 @@ public class Replayer implements ReplayerInterface, Runnable {
         }
         final ReplayTable result;
         try (final SafeCloseable ignored = ExecutionContext.getContext().withUpdateGraph(updateGraph).open()) {
-            result = new ReplayTable(dataSource.getRowSet(), dataSource.getColumnSourceMap(), timeColumn, this);
+            result = new ReplayTable(dataSource.getRowSet(), dataSource.getColumnSourceMap(), timeColumn, this,
+                    SortedColumnsAttribute.isSortedBy(dataSource, timeColumn, SortingOrder.Ascending));
         }
         currentTables.add(result);
         if (deltaNanos < Long.MAX_VALUE) {
-            result.start();
+            result.start(replaySources);
         }
         return result;
     }
@@ -227,7 +246,7 @@ public class Replayer implements ReplayerInterface, Runnable {
         }
         currentTables.add(result);
         if (deltaNanos < Long.MAX_VALUE) {
-            result.start();
+            result.start(replaySources);
         }
         return result;
     }
@@ -251,7 +270,7 @@ public class Replayer implements ReplayerInterface, Runnable {
         }
         currentTables.add(result);
         if (deltaNanos < Long.MAX_VALUE) {
-            result.start();
+            result.start(replaySources);
         }
         return result;
     }
@@ -267,6 +286,21 @@ public class Replayer implements ReplayerInterface, Runnable {
         // Does nothing
     }
 
+    /**
+     * Get the replay time at which tables release rows during the current update graph cycle. The time is sampled once
+     * per cycle, so that every table of this replayer releases rows up to the same time.
+     *
+     * @return the replay time for the current cycle, in nanoseconds since the epoch
+     */
+    synchronized long currentReplayTimeNanos() {
+        final long step = updateGraph.clock().currentStep();
+        if (step != cycleStep) {
+            cycleStep = step;
+            cycleReplayTimeNanos = clock().currentTimeNanos();
+        }
+        return cycleReplayTimeNanos;
+    }
+
     /**
      * Refresh the simulated live tables.
      */
@@ -17,10 +17,12 @@ import io.deephaven.engine.table.impl.indexer.DataIndexer;
 import io.deephaven.engine.table.impl.perf.PerformanceEntry;
 import io.deephaven.engine.table.impl.select.setinclusion.SetInclusionKernel;
 import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
+import io.deephaven.engine.table.impl.util.unboxer.ChunkUnboxer;
 import io.deephaven.engine.table.iterators.ChunkedColumnIterator;
 import io.deephaven.engine.updategraph.NotificationQueue;
 import io.deephaven.engine.updategraph.UpdateGraph;
 import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.SafeCloseableArray;
 import io.deephaven.util.annotations.ReferentialIntegrity;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -420,7 +422,8 @@ public class DynamicWhereFilter extends WhereFilterLivenessArtifactImpl
         }
 
         if (sourceDataIndex != null) {
-            final long threshold = (long) (sourceDataIndex.table().size() / QueryTable.DATA_INDEX_FOR_WHERE_THRESHOLD);
+            final long threshold = (long) (sourceDataIndex.table(DataIndexOptions.USING_PARTIAL_TABLE).size()
+                    / QueryTable.DATA_INDEX_FOR_WHERE_THRESHOLD);
             if (selection.size() <= threshold) {
                 return filterLinear(selection, inclusion);
             }
@@ -437,11 +440,6 @@ public class DynamicWhereFilter extends WhereFilterLivenessArtifactImpl
     private WritableRowSet filterFullIndex(@NotNull final RowSet selection) {
         Assert.neqNull(sourceDataIndex, "sourceDataIndex");
 
-        final WritableRowSet filtered = inclusion ? RowSetFactory.empty() : selection.copy();
-        // noinspection DataFlowIssue
-        final DataIndex.RowKeyLookup rowKeyLookup = sourceDataIndex.rowKeyLookup();
-        final ColumnSource<RowSet> rowSetColumn = sourceDataIndex.rowSetColumn();
-
         final Iterator<Object> values;
         final Function<Object, Object> keyMappingFunction;
         if (staticSetLookupKeys != null) {
@@ -455,21 +453,9 @@ public class DynamicWhereFilter extends WhereFilterLivenessArtifactImpl
             keyMappingFunction = tupleToFullKeyMappingFunction();
         }
 
-        values.forEachRemaining(key -> {
-            final Object mappedKey = keyMappingFunction.apply(key);
-            final long rowKey = rowKeyLookup.apply(mappedKey, false);
-            final RowSet rowSet = rowSetColumn.get(rowKey);
-            if (rowSet != null) {
-                if (inclusion) {
-                    try (final RowSet intersected = rowSet.intersect(selection)) {
-                        filtered.insert(intersected);
-                    }
-                } else {
-                    filtered.remove(rowSet);
-                }
-            }
-        });
-        return filtered;
+        try (final WritableRowSet indexed = lookupIndexRowSetUnion(values, keyMappingFunction)) {
+            return inclusion ? indexed.intersect(selection) : selection.minus(indexed);
+        }
     }
 
     @NotNull
@@ -477,41 +463,26 @@ public class DynamicWhereFilter extends WhereFilterLivenessArtifactImpl
         Assert.neqNull(sourceDataIndex, "sourceDataIndex");
         Assert.gt(sourceKeyColumns.length, "sourceKeyColumns.length", 1);
 
-        final WritableRowSet matching;
-        try (final WritableRowSet possiblyMatching = RowSetFactory.empty()) {
-            // First, compute a possibly-matching subset of selection based on the partial index.
-
+        final Iterator<Object> values;
+        final Function<Object, Object> keyMappingFunction;
+        if (staticSetLookupKeys != null) {
+            values = staticSetLookupKeys.iterator();
+            keyMappingFunction = Function.identity();
+        } else {
+            values = setKernel.iterator();
             // noinspection DataFlowIssue
-            final DataIndex.RowKeyLookup rowKeyLookup = sourceDataIndex.rowKeyLookup();
-            final ColumnSource<RowSet> rowSetColumn = sourceDataIndex.rowSetColumn();
-
-            final Iterator<Object> values;
-            final Function<Object, Object> keyMappingFunction;
-
-            if (staticSetLookupKeys != null) {
-                values = staticSetLookupKeys.iterator();
-                keyMappingFunction = Function.identity();
+            if (sourceDataIndex.keyColumnNames().size() == 1) {
+                final int keyOffset = indexToTupleMap == null ? 0 : indexToTupleMap[0];
+                keyMappingFunction = (final Object key) -> sourceKeySource.exportElement(key, keyOffset);
             } else {
-                values = setKernel.iterator();
-                if (sourceDataIndex.keyColumnNames().size() == 1) {
-                    final int keyOffset = indexToTupleMap == null ? 0 : indexToTupleMap[0];
-                    keyMappingFunction = (final Object key) -> sourceKeySource.exportElement(key, keyOffset);
-                } else {
-                    keyMappingFunction = tupleToPartialKeyMappingFunction();
-                }
+                keyMappingFunction = tupleToPartialKeyMappingFunction();
             }
+        }
 
-            values.forEachRemaining(key -> {
-                final Object lookupKey = keyMappingFunction.apply(key);
-                final long rowKey = rowKeyLookup.apply(lookupKey, false);
-                final RowSet rowSet = rowSetColumn.get(rowKey);
-                if (rowSet != null) {
-                    try (final RowSet intersected = rowSet.intersect(selection)) {
-                        possiblyMatching.insert(intersected);
-                    }
-                }
-            });
-
+        final WritableRowSet matching;
+        // First, compute a possibly-matching subset of selection based on the partial index.
+        try (final WritableRowSet indexed = lookupIndexRowSetUnion(values, keyMappingFunction);
+                final WritableRowSet possiblyMatching = indexed.intersect(selection)) {
             // Now, do linear filter on possiblyMatching to determine the values to include or exclude from selection.
             matching = filterLinear(possiblyMatching, true);
         }
@@ -523,6 +494,70 @@ public class DynamicWhereFilter extends WhereFilterLivenessArtifactImpl
         }
     }
 
+    /**
+     * Look up the {@link #sourceDataIndex} row sets for {@code keys} with
+     * {@link DataIndex#lookupRowSetUnion(DataIndexOptions, Chunk[], boolean) batched lookups}, unboxing up to
+     * {@link #CHUNK_SIZE} keys at a time into one chunk per index key column.
+     *
+     * @param keys The keys to look up
+     * @param keyMappingFunction Maps each key to a lookup key for {@link #sourceDataIndex}
+     * @return The union of the row sets of all keys that are found in the index
+     */
+    @NotNull
+    private WritableRowSet lookupIndexRowSetUnion(
+            @NotNull final Iterator<Object> keys,
+            @NotNull final Function<Object, Object> keyMappingFunction) {
+        Assert.neqNull(sourceDataIndex, "sourceDataIndex");
+
+        // noinspection DataFlowIssue
+        final ColumnSource<?>[] indexKeyColumns = sourceDataIndex.keyColumns();
+        final int numKeyColumns = indexKeyColumns.length;
+        final int chunkSize = (int) Math.min(CHUNK_SIZE,
+                Math.max(1, staticSetLookupKeys != null ? staticSetLookupKeys.size() : setKernel.size()));
+
+        // noinspection unchecked
+        final WritableObjectChunk<Object, Values>[] boxedKeys = new WritableObjectChunk[numKeyColumns];
+        final ChunkUnboxer.UnboxerKernel[] unboxers = new ChunkUnboxer.UnboxerKernel[numKeyColumns];
+        // noinspection unchecked
+        final Chunk<? extends Values>[] lookupKeys = new Chunk[numKeyColumns];
+        final WritableRowSet result = RowSetFactory.empty();
+        try (final SafeCloseable ignored1 = new SafeCloseableArray<>(boxedKeys);
+                final SafeCloseable ignored2 = new SafeCloseableArray<>(unboxers)) {
+            for (int ci = 0; ci < numKeyColumns; ++ci) {
+                boxedKeys[ci] = WritableObjectChunk.makeWritableChunk(chunkSize);
+                final ChunkType chunkType =
+                        ReinterpretUtils.maybeConvertToPrimitiveChunkType(indexKeyColumns[ci].getType());
+                if (chunkType != ChunkType.Object) {
+                    unboxers[ci] = ChunkUnboxer.getUnboxer(chunkType, chunkSize);
+                }
+            }
+            while (keys.hasNext()) {
+                int size = 0;
+                while (size < chunkSize && keys.hasNext()) {
+                    final Object lookupKey = keyMappingFunction.apply(keys.next());
+                    if (numKeyColumns == 1) {
+                        boxedKeys[0].set(size, lookupKey);
+                    } else {
+                        final Object[] compoundLookupKey = (Object[]) lookupKey;
+                        for (int ci = 0; ci < numKeyColumns; ++ci) {
+                            boxedKeys[ci].set(size, compoundLookupKey[ci]);
+                        }
+                    }
+                    ++size;
+                }
+                for (int ci = 0; ci < numKeyColumns; ++ci) {
+                    boxedKeys[ci].setSize(size);
+                    lookupKeys[ci] = unboxers[ci] == null ? boxedKeys[ci] : unboxers[ci].unbox(boxedKeys[ci]);
+                }
+                try (final RowSet found = sourceDataIndex.lookupRowSetUnion(
+                        DataIndexOptions.USING_PARTIAL_TABLE, lookupKeys, false)) {
+                    result.insert(found);
+                }
+            }
+        }
+        return result;
+    }
+
     private WritableRowSet filterLinear(final RowSet selection, final boolean filterInclusion) {
         if (selection.isEmpty()) {
             return RowSetFactory.empty();
@@ -26,6 +26,7 @@ import io.deephaven.engine.table.impl.sources.PossiblyImmutableColumnSource;
 import io.deephaven.engine.table.impl.sources.RedirectedColumnSource;
 import io.deephaven.engine.table.impl.sources.SingleValueColumnSource;
 import io.deephaven.engine.table.impl.sources.WritableRedirectedColumnSource;
+import io.deephaven.engine.table.impl.sources.offheap.OffHeapArraySources;
 import io.deephaven.engine.table.impl.util.InverseWrappedRowSetRowRedirection;
 import io.deephaven.engine.table.impl.util.JobScheduler;
 import io.deephaven.engine.table.impl.util.RowRedirection;
@@ -283,7 +284,7 @@ public class SelectAndViewAnalyzer implements LogOutputAppendable {
                     // We need to call newDestInstance because only newDestInstance has the knowledge to endow our
                     // created array with the proper componentType (in the case of Vectors).
                     final WritableColumnSource<?> scs = parentIsFlat || context.flatResult
-                            ? sc.newFlatDestInstance(targetDestinationCapacity)
+                            ? newFlatDestInstance(sc, targetDestinationCapacity)
                             : sc.newDestInstance(targetDestinationCapacity);
                     maybeSetStaticColumnSourceImmutable(scs);
                     maybeCreateAlias.accept(scs);
@@ -294,7 +295,7 @@ public class SelectAndViewAnalyzer implements LogOutputAppendable {
                     break;
                 }
                 case SELECT_REDIRECTED_STATIC: {
-                    final WritableColumnSource<?> underlyingSource = sc.newDestInstance(rowSet.size());
+                    final WritableColumnSource<?> underlyingSource = newRedirectedDestInstance(sc, rowSet.size());
                     final WritableColumnSource<?> scs = WritableRedirectedColumnSource.maybeRedirect(
                             rowRedirection, underlyingSource, rowSet.size());
                     maybeSetStaticColumnSourceImmutable(scs);
@@ -309,7 +310,9 @@ public class SelectAndViewAnalyzer implements LogOutputAppendable {
                 case SELECT_REFRESHING: {
                     // We need to call newDestInstance because only newDestInstance has the knowledge to endow our
                     // created array with the proper componentType (in the case of Vectors).
-                    WritableColumnSource<?> scs = sc.newDestInstance(targetDestinationCapacity);
+                    WritableColumnSource<?> scs = rowRedirection == null
+                            ? sc.newDestInstance(targetDestinationCapacity)
+                            : newRedirectedDestInstance(sc, targetDestinationCapacity);
                     WritableColumnSource<?> underlyingSource = null;
                     if (rowRedirection != null) {
                         underlyingSource = scs;
@@ -352,6 +355,25 @@ public class SelectAndViewAnalyzer implements LogOutputAppendable {
         context.addLayer(layer);
     }
 
+    /**
+     * Create a flat destination for {@code sc}, with its values stored off the Java heap if
+     * {@link OffHeapArraySources#ENABLED enabled} for the column's type.
+     */
+    private static WritableColumnSource<?> newFlatDestInstance(final SelectColumn sc, final long size) {
+        final WritableColumnSource<?> offHeap = OffHeapArraySources.maybeMake(sc.getReturnedType());
+        return offHeap != null ? offHeap : sc.newFlatDestInstance(size);
+    }
+
+    /**
+     * Create the underlying destination of a redirected result for {@code sc}, with its values stored off the Java heap
+     * if {@link OffHeapArraySources#ENABLED enabled} for the column's type. Redirected results are written densely, so
+     * an off-heap source is suitable even though the result may be refreshing.
+     */
+    private static WritableColumnSource<?> newRedirectedDestInstance(final SelectColumn sc, final long size) {
+        final WritableColumnSource<?> offHeap = OffHeapArraySources.maybeMake(sc.getReturnedType());
+        return offHeap != null ? offHeap : sc.newDestInstance(size);
+    }
+
     private static void maybeSetStaticColumnSourceImmutable(final ColumnSource<?> columnSource) {
         if (columnSource instanceof PossiblyImmutableColumnSource) {
             ((PossiblyImmutableColumnSource) columnSource).setImmutable();
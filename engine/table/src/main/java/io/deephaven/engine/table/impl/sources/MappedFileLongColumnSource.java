@@ -0,0 +1,135 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.sources;
+
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.impl.AbstractColumnSource;
+import io.deephaven.engine.table.impl.ImmutableColumnSourceGetDefaults;
+import io.deephaven.util.QueryConstants;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * An immutable column source of {@code longs} in positions {@code [0, size)}, read from a file of native-order
+ * {@code longs} that is memory-mapped rather than copied onto the heap.
+ * <p>
+ * The mapping remains valid after the file channel is closed (and, on most platforms, after the file is deleted); the
+ * mapped memory is released when this source is garbage collected.
+ */
+public class MappedFileLongColumnSource extends AbstractColumnSource<Long>
+        implements ImmutableColumnSourceGetDefaults.ForLong, FillUnordered<Values> {
+
+    /**
+     * The number of {@code longs} in each mapped segment; a single mapping is limited to {@link Integer#MAX_VALUE}
+     * bytes.
+     */
+    private static final int SEGMENT_SHIFT = 27;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final long size;
+    private final LongBuffer[] segments;
+
+    /**
+     * Map the first {@code size} {@code longs} of {@code channel}.
+     *
+     * @param channel the channel to map, which must be open for reading and contain at least {@code size} longs
+     * @param size the number of {@code longs} to map
+     */
+    public MappedFileLongColumnSource(@NotNull final FileChannel channel, final long size) throws IOException {
+        super(Long.class);
+        this.size = size;
+        segments = new LongBuffer[(int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+        for (int si = 0; si < segments.length; ++si) {
+            final long firstPosition = (long) si << SEGMENT_SHIFT;
+            final long segmentSize = Math.min(1L << SEGMENT_SHIFT, size - firstPosition);
+            segments[si] = channel
+                    .map(FileChannel.MapMode.READ_ONLY, firstPosition * Long.BYTES, segmentSize * Long.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asLongBuffer();
+        }
+    }
+
+    /**
+     * @return the number of {@code longs} in this source
+     */
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public long getLong(final long rowKey) {
+        if (rowKey < 0 || rowKey >= size) {
+            return QueryConstants.NULL_LONG;
+        }
+        return segments[(int) (rowKey >>> SEGMENT_SHIFT)].get((int) (rowKey & SEGMENT_MASK));
+    }
+
+    @Override
+    public void fillChunk(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> destination,
+            @NotNull final RowSequence rowSequence) {
+        doFillChunk(destination, rowSequence);
+    }
+
+    @Override
+    public void fillPrevChunk(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> destination,
+            @NotNull final RowSequence rowSequence) {
+        doFillChunk(destination, rowSequence);
+    }
+
+    private void doFillChunk(
+            @NotNull final WritableChunk<? super Values> destination,
+            @NotNull final RowSequence rowSequence) {
+        final WritableLongChunk<? super Values> longChunk = destination.asWritableLongChunk();
+        longChunk.setSize(0);
+        rowSequence.forAllRowKeyRanges((final long firstRowKey, final long lastRowKey) -> {
+            for (long rowKey = firstRowKey; rowKey <= lastRowKey; ++rowKey) {
+                longChunk.add(getLong(rowKey));
+            }
+        });
+    }
+
+    @Override
+    public boolean providesFillUnordered() {
+        return true;
+    }
+
+    @Override
+    public void fillChunkUnordered(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> dest,
+            @NotNull final LongChunk<? extends RowKeys> keys) {
+        doFillUnordered(dest, keys);
+    }
+
+    @Override
+    public void fillPrevChunkUnordered(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> dest,
+            @NotNull final LongChunk<? extends RowKeys> keys) {
+        doFillUnordered(dest, keys);
+    }
+
+    private void doFillUnordered(
+            @NotNull final WritableChunk<? super Values> dest,
+            @NotNull final LongChunk<? extends RowKeys> keys) {
+        final WritableLongChunk<? super Values> longChunk = dest.asWritableLongChunk();
+        longChunk.setSize(keys.size());
+        for (int ii = 0; ii < keys.size(); ++ii) {
+            longChunk.set(ii, getLong(keys.get(ii)));
+        }
+    }
+}
@@ -0,0 +1,309 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.sources.offheap;
+
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.WritableSourceWithPrepareForParallelPopulation;
+import io.deephaven.engine.table.impl.AbstractColumnSource;
+import io.deephaven.engine.table.impl.sources.FillUnordered;
+import io.deephaven.engine.table.impl.sources.InMemoryColumnSource;
+import io.deephaven.engine.updategraph.UpdateCommitter;
+import io.deephaven.util.datastructures.LongSizedDataStructure;
+import io.deephaven.util.reference.CleanupReferenceProcessor;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Common functionality for dense, writable column sources of primitives whose values are stored outside the Java heap,
+ * in direct {@link ByteBuffer ByteBuffers} or in blocks of a memory-mapped temporary file.
+ * <p>
+ * The storage is divided into blocks so that the source can be expanded without copying. Previous values are tracked on
+ * the heap, in pages that are allocated only for rows modified during the current update cycle and released when the
+ * cycle completes.
+ * <p>
+ * The storage belongs to the source rather than to any one table, since tables derived with operations such as where
+ * and view share the source. Direct memory and mappings are reclaimed when the blocks are collected, and the mapped
+ * file is closed (and thereby deleted) once the source itself is no longer reachable.
+ */
+public abstract class AbstractOffHeapArraySource<T> extends AbstractColumnSource<T>
+        implements WritableColumnSource<T>, FillUnordered<Values>, InMemoryColumnSource,
+        WritableSourceWithPrepareForParallelPopulation {
+
+    static final int LOG_BLOCK_SIZE = 16;
+    static final int BLOCK_SIZE = 1 << LOG_BLOCK_SIZE;
+    static final long INDEX_MASK = BLOCK_SIZE - 1;
+
+    static final int LOG_PREV_PAGE_SIZE = 11;
+    static final int PREV_PAGE_SIZE = 1 << LOG_PREV_PAGE_SIZE;
+    static final long PREV_PAGE_MASK = PREV_PAGE_SIZE - 1;
+    private static final int LOG_IN_USE_BITSET_SIZE = 6;
+    private static final int IN_USE_MASK = (1 << LOG_IN_USE_BITSET_SIZE) - 1;
+
+    private final int elementBytes;
+    @Nullable
+    private final FileChannel mappedChannel;
+
+    /**
+     * The number of blocks that have been allocated.
+     */
+    int numBlocks;
+
+    /**
+     * The presence of a prevFlusher means that this source is tracking previous values.
+     */
+    private UpdateCommitter<AbstractOffHeapArraySource<T>> prevFlusher;
+    /**
+     * Bitsets of the rows in each previous value page whose previous values have been recorded this cycle.
+     */
+    private Long2ObjectOpenHashMap<long[]> prevInUse;
+    private long ensurePreviousClockCycle = -1;
+
+    /**
+     * @param type the type of the source
+     * @param elementBytes the number of bytes in each element
+     * @param mappedDirectory if non-null, the directory in which to create a temporary file to map, rather than
+     *        allocating direct memory
+     */
+    AbstractOffHeapArraySource(
+            @NotNull final Class<T> type,
+            final int elementBytes,
+            @Nullable final Path mappedDirectory) {
+        super(type);
+        this.elementBytes = elementBytes;
+        if (mappedDirectory == null) {
+            mappedChannel = null;
+        } else {
+            try {
+                final Path file = Files.createTempFile(mappedDirectory, "offheap-", ".bin");
+                mappedChannel = FileChannel.open(file,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not create a mapped file in " + mappedDirectory, e);
+            }
+            // the cleanup action must not refer to this source, only to the channel
+            final FileChannel channel = mappedChannel;
+            CleanupReferenceProcessor.getDefault().registerPhantom(this, () -> closeMappedChannel(channel));
+        }
+    }
+
+    private static void closeMappedChannel(@NotNull final FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close mapped file", e);
+        }
+    }
+
+    /**
+     * Get the capacity of this column source. This number is one higher than the highest key that may be accessed (read
+     * or written).
+     *
+     * @return The capacity of this column source
+     */
+    public final long getCapacity() {
+        return (long) numBlocks << LOG_BLOCK_SIZE;
+    }
+
+    /**
+     * @return the number of blocks required to hold {@code capacity} elements
+     */
+    static int requiredBlocks(final long capacity) {
+        return LongSizedDataStructure.intSize("AbstractOffHeapArraySource block allocation",
+                (capacity + BLOCK_SIZE - 1) >> LOG_BLOCK_SIZE);
+    }
+
+    /**
+     * Allocate the storage for a block, in direct memory or in the mapped file. The storage is initially zeroed.
+     */
+    final ByteBuffer allocateBlock(final int blockIndex) {
+        final int blockBytes = BLOCK_SIZE * elementBytes;
+        if (mappedChannel == null) {
+            return ByteBuffer.allocateDirect(blockBytes).order(ByteOrder.nativeOrder());
+        }
+        try {
+            return mappedChannel.map(FileChannel.MapMode.READ_WRITE, (long) blockIndex * blockBytes, blockBytes)
+                    .order(ByteOrder.nativeOrder());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map block " + blockIndex, e);
+        }
+    }
+
+    // The typed views of a block are obtained through these methods, rather than directly from the ByteBuffer, so that
+    // the replicated byte source need not be special-cased.
+
+    static ByteBuffer asByteBuffer(@NotNull final ByteBuffer block) {
+        return block;
+    }
+
+    static CharBuffer asCharBuffer(@NotNull final ByteBuffer block) {
+        return block.asCharBuffer();
+    }
+
+    static ShortBuffer asShortBuffer(@NotNull final ByteBuffer block) {
+        return block.asShortBuffer();
+    }
+
+    static IntBuffer asIntBuffer(@NotNull final ByteBuffer block) {
+        return block.asIntBuffer();
+    }
+
+    static LongBuffer asLongBuffer(@NotNull final ByteBuffer block) {
+        return block.asLongBuffer();
+    }
+
+    static FloatBuffer asFloatBuffer(@NotNull final ByteBuffer block) {
+        return block.asFloatBuffer();
+    }
+
+    static DoubleBuffer asDoubleBuffer(@NotNull final ByteBuffer block) {
+        return block.asDoubleBuffer();
+    }
+
+    @Override
+    public final void startTrackingPrevValues() {
+        if (prevFlusher != null) {
+            throw new IllegalStateException("Can't call startTrackingPrevValues() twice: " +
+                    this.getClass().getCanonicalName());
+        }
+        prevFlusher = new UpdateCommitter<>(this, updateGraph, AbstractOffHeapArraySource::commitPrevious);
+        prevInUse = new Long2ObjectOpenHashMap<>();
+    }
+
+    final boolean isTrackingPrevValues() {
+        return prevFlusher != null;
+    }
+
+    /**
+     * Determine whether bulk writes must record previous values. After {@link #prepareForParallelPopulation}, the
+     * previous values of the rows to be written have already been recorded, and writes may proceed concurrently.
+     *
+     * @return true if bulk writes must check {@link #shouldRecordPrevious(long)}
+     */
+    final boolean shouldTrackPrevious() {
+        if (prevFlusher == null || ensurePreviousClockCycle == updateGraph.clock().currentStep()) {
+            return false;
+        }
+        prevFlusher.maybeActivate();
+        return true;
+    }
+
+    /**
+     * Determine whether the current value of {@code rowKey} must be recorded as its previous value before it is
+     * changed, marking it as recorded.
+     *
+     * @return true if the caller must call {@link #recordPrevious(long)} before changing the current value
+     */
+    final boolean shouldRecordPrevious(final long rowKey) {
+        if (prevFlusher == null) {
+            return false;
+        }
+        // If we want to track previous values, we make sure we are registered with the update graph.
+        prevFlusher.maybeActivate();
+
+        final long page = rowKey >> LOG_PREV_PAGE_SIZE;
+        final int indexWithinPage = (int) (rowKey & PREV_PAGE_MASK);
+        long[] inUse = prevInUse.get(page);
+        if (inUse == null) {
+            prevInUse.put(page, inUse = new long[PREV_PAGE_SIZE >> LOG_IN_USE_BITSET_SIZE]);
+        }
+        final int indexWithinInUse = indexWithinPage >> LOG_IN_USE_BITSET_SIZE;
+        final long maskWithinInUse = 1L << (indexWithinPage & IN_USE_MASK);
+        if ((inUse[indexWithinInUse] & maskWithinInUse) != 0) {
+            return false;
+        }
+        inUse[indexWithinInUse] |= maskWithinInUse;
+        return true;
+    }
+
+    /**
+     * @return true if the previous value of {@code rowKey} differs from its current value, and must be read from the
+     *         previous value pages
+     */
+    final boolean shouldUsePrevious(final long rowKey) {
+        if (prevFlusher == null) {
+            return false;
+        }
+        final long[] inUse = prevInUse.get(rowKey >> LOG_PREV_PAGE_SIZE);
+        if (inUse == null) {
+            return false;
+        }
+        final int indexWithinPage = (int) (rowKey & PREV_PAGE_MASK);
+        return (inUse[indexWithinPage >> LOG_IN_USE_BITSET_SIZE] & (1L << (indexWithinPage & IN_USE_MASK))) != 0;
+    }
+
+    /**
+     * Copy the current value of {@code rowKey} into the previous value pages.
+     */
+    abstract void recordPrevious(long rowKey);
+
+    /**
+     * Release all previous value pages.
+     */
+    abstract void clearPrevious();
+
+    private void commitPrevious() {
+        if (prevInUse.isEmpty()) {
+            return;
+        }
+        prevInUse.clear();
+        clearPrevious();
+    }
+
+    /**
+     * This version of {@code prepareForParallelPopulation} will internally call {@link #ensureCapacity(long, boolean)}
+     * to make sure there is room for the incoming values, and records the previous values of {@code changedRows} so
+     * that they may be set concurrently.
+     *
+     * @param changedRows row set in the dense table
+     */
+    @Override
+    public final void prepareForParallelPopulation(@NotNull final RowSequence changedRows) {
+        final long currentStep = updateGraph.clock().currentStep();
+        if (ensurePreviousClockCycle == currentStep) {
+            throw new IllegalStateException("May not call ensurePrevious twice on one clock cycle!");
+        }
+        ensurePreviousClockCycle = currentStep;
+
+        if (changedRows.isEmpty()) {
+            return;
+        }
+
+        // ensure that this source will have sufficient capacity to store these rows, does not need to be
+        // null-filled as the values will be immediately written
+        ensureCapacity(changedRows.lastRowKey() + 1, false);
+
+        if (prevFlusher == null) {
+            // we are not tracking this source yet so we have nothing to do for the previous values
+            return;
+        }
+        changedRows.forAllRowKeys(rowKey -> {
+            if (shouldRecordPrevious(rowKey)) {
+                recordPrevious(rowKey);
+            }
+        });
+    }
+
+    @Override
+    public final boolean providesFillUnordered() {
+        return true;
+    }
+}
@@ -0,0 +1,413 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.sources.offheap;
+
+import io.deephaven.base.verify.Require;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.readtracker.impl.QueryPerformanceReadTracker;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.impl.AbstractColumnSource;
+import io.deephaven.engine.table.impl.sources.FillUnordered;
+import io.deephaven.engine.table.impl.sources.InMemoryColumnSource;
+import io.deephaven.engine.updategraph.UpdateCommitter;
+import io.deephaven.util.datastructures.LongSizedDataStructure;
+import io.deephaven.util.reference.CleanupReferenceProcessor;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Common functionality for dense, writable column sources of primitives that keep a bounded number of blocks on the
+ * Java heap (the hot tier), and spill the remaining blocks to a slab in a memory-mapped temporary file (the cold tier).
+ * <p>
+ * Writes fault their block into the hot tier, evicting the least recently written block (approximated by a clock) to
+ * the slab if the hot tier is full. Each block's state is a single reference, published with volatile semantics after
+ * an evicted block has been copied to the slab, so a reader sees either the hot block or the complete slab copy. Reads
+ * use the hot tier if their block is present, and otherwise read the slab directly; they never write to the source, so
+ * concurrent readers do not change the tiers. The operating system pages cold slab memory out to the file as required.
+ * <p>
+ * Accesses are reported to the {@link QueryPerformanceReadTracker}, and so appear as tiered state hits and misses in
+ * the update performance log. Chunked accesses are reported once per chunk; single-row writes are counted on the source
+ * and reported in batches.
+ * <p>
+ * Previous values are tracked on the heap, in pages that are allocated only for rows modified during the current update
+ * cycle and released when the cycle completes.
+ * <p>
+ * The slab file is closed, and thereby deleted, once the source is no longer reachable.
+ */
+public abstract class AbstractTieredArraySource<T> extends AbstractColumnSource<T>
+        implements WritableColumnSource<T>, FillUnordered<Values>, InMemoryColumnSource {
+
+    static final int LOG_BLOCK_SIZE = 12;
+    static final int BLOCK_SIZE = 1 << LOG_BLOCK_SIZE;
+    static final long INDEX_MASK = BLOCK_SIZE - 1;
+
+    static final int LOG_PREV_PAGE_SIZE = 11;
+    static final int PREV_PAGE_SIZE = 1 << LOG_PREV_PAGE_SIZE;
+    static final long PREV_PAGE_MASK = PREV_PAGE_SIZE - 1;
+    private static final int LOG_IN_USE_BITSET_SIZE = 6;
+    private static final int IN_USE_MASK = (1 << LOG_IN_USE_BITSET_SIZE) - 1;
+
+    /**
+     * The number of blocks in each mapping of the slab; a single mapping is limited to {@link Integer#MAX_VALUE}
+     * bytes.
+     */
+    private static final int LOG_SEGMENT_BLOCKS = 10;
+    private static final int SEGMENT_BLOCKS = 1 << LOG_SEGMENT_BLOCKS;
+
+    /**
+     * The number of single-row writes to count before reporting them.
+     */
+    private static final int ACCESS_REPORT_INTERVAL = 1 << 12;
+
+    private final int blockBytes;
+    private final FileChannel slabChannel;
+    private volatile ByteBuffer[] slabSegments = new ByteBuffer[0];
+
+    /**
+     * The number of blocks in this source.
+     */
+    int numBlocks;
+    /**
+     * Whether each hot block has been written since the clock last passed it. Only writers use this.
+     */
+    private boolean[] referenced = new boolean[0];
+
+    private final int maxHotBlocks;
+    /**
+     * The hot blocks, in clock order.
+     */
+    private final int[] clock;
+    private int hotBlocks;
+    private int clockHand;
+
+    /**
+     * The presence of a prevFlusher means that this source is tracking previous values.
+     */
+    private UpdateCommitter<AbstractTieredArraySource<T>> prevFlusher;
+    /**
+     * Bitsets of the rows in each previous value page whose previous values have been recorded this cycle, indexed by
+     * page; null for pages without previous values.
+     */
+    private long[][] prevInUse;
+    /**
+     * The pages allocated this cycle, which are released when it completes.
+     */
+    private IntArrayList prevAllocated;
+
+    private long pendingHits;
+    private long pendingMisses;
+
+    /**
+     * @param type the type of the source
+     * @param elementBytes the number of bytes in each element
+     * @param maxHotBlocks the maximum number of blocks to keep on the heap
+     * @param slabDirectory the directory in which to create the temporary file that holds the slab
+     */
+    AbstractTieredArraySource(
+            @NotNull final Class<T> type,
+            final int elementBytes,
+            final int maxHotBlocks,
+            @NotNull final Path slabDirectory) {
+        super(type);
+        Require.gtZero(maxHotBlocks, "maxHotBlocks");
+        blockBytes = BLOCK_SIZE * elementBytes;
+        this.maxHotBlocks = maxHotBlocks;
+        clock = new int[maxHotBlocks];
+        try {
+            final Path file = Files.createTempFile(slabDirectory, "tiered-", ".slab");
+            slabChannel = FileChannel.open(file,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create a slab file in " + slabDirectory, e);
+        }
+        // the cleanup action must not refer to this source, only to the channel
+        final FileChannel channel = slabChannel;
+        CleanupReferenceProcessor.getDefault().registerPhantom(this, () -> closeSlabChannel(channel));
+    }
+
+    private static void closeSlabChannel(@NotNull final FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close slab file", e);
+        }
+    }
+
+    /**
+     * Get the capacity of this column source. This number is one higher than the highest key that may be accessed (read
+     * or written).
+     *
+     * @return The capacity of this column source
+     */
+    public final long getCapacity() {
+        return (long) numBlocks << LOG_BLOCK_SIZE;
+    }
+
+    /**
+     * @return the maximum number of blocks this source keeps on the heap
+     */
+    public final int getMaxHotBlocks() {
+        return maxHotBlocks;
+    }
+
+    @Override
+    public final void ensureCapacity(final long capacity, final boolean nullFilled) {
+        // blocks that have never been written read as null, so we need not distinguish nullFilled
+        final int requiredBlocks = LongSizedDataStructure.intSize("AbstractTieredArraySource block allocation",
+                (capacity + BLOCK_SIZE - 1) >> LOG_BLOCK_SIZE);
+        if (requiredBlocks <= numBlocks) {
+            return;
+        }
+        final int newLength = Math.max(requiredBlocks, referenced.length * 2);
+        if (newLength > referenced.length) {
+            referenced = Arrays.copyOf(referenced, newLength);
+            growBlocks(newLength);
+            if (prevInUse != null) {
+                prevInUse = Arrays.copyOf(prevInUse, prevPagesFor(newLength));
+                growPrevPages(prevInUse.length);
+            }
+        }
+        numBlocks = requiredBlocks;
+    }
+
+    private static int prevPagesFor(final int blocks) {
+        return blocks << (LOG_BLOCK_SIZE - LOG_PREV_PAGE_SIZE);
+    }
+
+    /**
+     * Grow the array of block states to {@code length}. The new array is published only after the existing states have
+     * been copied, so that readers see either the old or the new array.
+     */
+    abstract void growBlocks(int length);
+
+    /**
+     * @return true if {@code block} is in the hot tier
+     */
+    abstract boolean isHot(int block);
+
+    /**
+     * Bring {@code block} into the hot tier, copying its values from the slab if it has been spilled, and otherwise
+     * filling it with nulls.
+     */
+    abstract void loadHotBlock(int block);
+
+    /**
+     * Copy the values of hot {@code block} to the slab, and then publish that the block is in the slab rather than in
+     * the hot tier. The hot array is not reused, as a concurrent reader may still hold it.
+     */
+    abstract void evictHotBlock(int block);
+
+    /**
+     * Ensure that {@code block} is in the hot tier, so that it may be written.
+     *
+     * @return true if the block was already hot
+     */
+    final boolean makeHot(final int block) {
+        if (isHot(block)) {
+            referenced[block] = true;
+            return true;
+        }
+        final int slot;
+        if (hotBlocks < maxHotBlocks) {
+            slot = hotBlocks++;
+        } else {
+            // advance the clock until we find a block that has not been referenced since our last pass
+            while (referenced[clock[clockHand]]) {
+                referenced[clock[clockHand]] = false;
+                clockHand = (clockHand + 1) % maxHotBlocks;
+            }
+            slot = clockHand;
+            clockHand = (clockHand + 1) % maxHotBlocks;
+            evictHotBlock(clock[slot]);
+        }
+        loadHotBlock(block);
+        clock[slot] = block;
+        referenced[block] = true;
+        return false;
+    }
+
+    /**
+     * Get a view of {@code block} within the slab, mapping the slab segment that contains it if necessary. The view's
+     * position and limit are private to the caller.
+     */
+    final ByteBuffer slabBlock(final int block) {
+        final int segment = block >> LOG_SEGMENT_BLOCKS;
+        ByteBuffer[] segments = slabSegments;
+        if (segment >= segments.length || segments[segment] == null) {
+            segments = mapSegment(segment);
+        }
+        final int offset = (block & (SEGMENT_BLOCKS - 1)) * blockBytes;
+        return segments[segment].slice(offset, blockBytes).order(ByteOrder.nativeOrder());
+    }
+
+    private synchronized ByteBuffer[] mapSegment(final int segment) {
+        if (segment < slabSegments.length && slabSegments[segment] != null) {
+            return slabSegments;
+        }
+        // readers do not synchronize, so we publish a new array rather than modifying the current one
+        final ByteBuffer[] segments =
+                Arrays.copyOf(slabSegments, Math.max(segment + 1, slabSegments.length * 2));
+        final long segmentBytes = (long) SEGMENT_BLOCKS * blockBytes;
+        try {
+            segments[segment] = slabChannel.map(FileChannel.MapMode.READ_WRITE, segment * segmentBytes, segmentBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map slab segment " + segment, e);
+        }
+        return slabSegments = segments;
+    }
+
+    /**
+     * Report accesses to the current thread's {@link QueryPerformanceReadTracker}.
+     */
+    static void recordAccess(final long hits, final long misses) {
+        QueryPerformanceReadTracker.recordTieredStateAccess(hits, misses);
+    }
+
+    /**
+     * Count a single-row write, reporting the writes counted so far once there are enough of them. Writers are never
+     * concurrent, so the counts need no synchronization.
+     */
+    final void countWrite(final boolean hit) {
+        if (hit) {
+            ++pendingHits;
+        } else {
+            ++pendingMisses;
+        }
+        if (pendingHits + pendingMisses >= ACCESS_REPORT_INTERVAL) {
+            flushAccessCounts();
+        }
+    }
+
+    /**
+     * Report the single-row writes that have been counted but not yet reported to the current thread's
+     * {@link QueryPerformanceReadTracker}.
+     */
+    public final void flushAccessCounts() {
+        if (pendingHits + pendingMisses == 0) {
+            return;
+        }
+        recordAccess(pendingHits, pendingMisses);
+        pendingHits = 0;
+        pendingMisses = 0;
+    }
+
+    @Override
+    public final void startTrackingPrevValues() {
+        if (prevFlusher != null) {
+            throw new IllegalStateException("Can't call startTrackingPrevValues() twice: " +
+                    this.getClass().getCanonicalName());
+        }
+        prevFlusher = new UpdateCommitter<>(this, updateGraph, AbstractTieredArraySource::commitPrevious);
+        prevInUse = new long[prevPagesFor(referenced.length)][];
+        growPrevPages(prevInUse.length);
+    }
+
+    final boolean isTrackingPrevValues() {
+        return prevFlusher != null;
+    }
+
+    /**
+     * Determine whether the current value of {@code rowKey} must be recorded as its previous value before it is
+     * changed, marking it as recorded.
+     *
+     * @return true if the caller must record the current value in the previous value pages before changing it
+     */
+    final boolean shouldRecordPrevious(final long rowKey) {
+        if (prevFlusher == null) {
+            return false;
+        }
+        // If we want to track previous values, we make sure we are registered with the update graph.
+        prevFlusher.maybeActivate();
+
+        final int page = (int) (rowKey >> LOG_PREV_PAGE_SIZE);
+        final int indexWithinPage = (int) (rowKey & PREV_PAGE_MASK);
+        long[] inUse = prevInUse[page];
+        if (inUse == null) {
+            allocatePrevPage(page);
+            prevInUse[page] = inUse = new long[PREV_PAGE_SIZE >> LOG_IN_USE_BITSET_SIZE];
+            if (prevAllocated == null) {
+                prevAllocated = new IntArrayList();
+            }
+            prevAllocated.add(page);
+        }
+        final int indexWithinInUse = indexWithinPage >> LOG_IN_USE_BITSET_SIZE;
+        final long maskWithinInUse = 1L << (indexWithinPage & IN_USE_MASK);
+        if ((inUse[indexWithinInUse] & maskWithinInUse) != 0) {
+            return false;
+        }
+        inUse[indexWithinInUse] |= maskWithinInUse;
+        return true;
+    }
+
+    /**
+     * @return true if the previous value of {@code rowKey} differs from its current value, and must be read from the
+     *         previous value pages
+     */
+    final boolean shouldUsePrevious(final long rowKey) {
+        if (prevFlusher == null) {
+            return false;
+        }
+        final long[][] prevInUse = this.prevInUse;
+        final long page = rowKey >> LOG_PREV_PAGE_SIZE;
+        if (page >= prevInUse.length) {
+            return false;
+        }
+        final long[] inUse = prevInUse[(int) page];
+        if (inUse == null) {
+            return false;
+        }
+        final int indexWithinPage = (int) (rowKey & PREV_PAGE_MASK);
+        return (inUse[indexWithinPage >> LOG_IN_USE_BITSET_SIZE] & (1L << (indexWithinPage & IN_USE_MASK))) != 0;
+    }
+
+    /**
+     * @return true if any previous values have been recorded this cycle
+     */
+    final boolean hasPreviousValues() {
+        final IntArrayList prevAllocated = this.prevAllocated;
+        return prevAllocated != null && !prevAllocated.isEmpty();
+    }
+
+    /**
+     * Grow the array of previous value pages to {@code length} pages.
+     */
+    abstract void growPrevPages(int length);
+
+    /**
+     * Allocate the previous value page {@code page}, before its first previous value of the cycle is recorded.
+     */
+    abstract void allocatePrevPage(int page);
+
+    /**
+     * Release the previous value page {@code page}.
+     */
+    abstract void releasePrevPage(int page);
+
+    private void commitPrevious() {
+        if (prevAllocated == null || prevAllocated.isEmpty()) {
+            return;
+        }
+        // the pages are dropped rather than recycled, so that a burst of modifications does not pin heap memory
+        prevAllocated.forEach(page -> {
+            prevInUse[page] = null;
+            releasePrevPage(page);
+        });
+        prevAllocated.clear();
+    }
+
+    @Override
+    public final boolean providesFillUnordered() {
+        return true;
+    }
+}
@@ -0,0 +1,89 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.sources.offheap;
+
+import io.deephaven.configuration.Configuration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Factory for {@link AbstractOffHeapArraySource off-heap array sources}.
+ */
+public final class OffHeapArraySources {
+
+    /**
+     * Whether select and update should store dense, primitive results in off-heap sources rather than in arrays on the
+     * Java heap.
+     */
+    public static boolean ENABLED =
+            Configuration.getInstance().getBooleanWithDefault("OffHeapArraySources.enabled", false);
+
+    /**
+     * The directory in which off-heap sources create the temporary files that are mapped to hold their values. If
+     * empty, the values are stored in direct memory instead.
+     */
+    public static String MAPPED_DIRECTORY =
+            Configuration.getInstance().getStringWithDefault("OffHeapArraySources.mappedDirectory", "");
+
+    private OffHeapArraySources() {}
+
+    /**
+     * @param dataType the data type of a source
+     * @return true if off-heap sources support {@code dataType}
+     */
+    public static boolean isSupported(@NotNull final Class<?> dataType) {
+        return dataType == byte.class || dataType == char.class || dataType == short.class || dataType == int.class
+                || dataType == long.class || dataType == float.class || dataType == double.class;
+    }
+
+    /**
+     * Create an off-heap source for {@code dataType} if off-heap sources are {@link #ENABLED enabled} and support it.
+     *
+     * @param dataType the data type of the source
+     * @return a new off-heap source using the configured storage, or null if the caller should create an on-heap source
+     */
+    @Nullable
+    public static <T> AbstractOffHeapArraySource<T> maybeMake(@NotNull final Class<T> dataType) {
+        if (!ENABLED || !isSupported(dataType)) {
+            return null;
+        }
+        return make(dataType, MAPPED_DIRECTORY.isEmpty() ? null : Paths.get(MAPPED_DIRECTORY));
+    }
+
+    /**
+     * Create an off-heap source for {@code dataType}.
+     *
+     * @param dataType the data type of the source, which must be {@link #isSupported(Class) supported}
+     * @param mappedDirectory if non-null, the directory in which to create the temporary file that holds the source's
+     *        values; otherwise the values are stored in direct memory
+     * @return a new, empty off-heap source
+     */
+    public static <T> AbstractOffHeapArraySource<T> make(
+            @NotNull final Class<T> dataType,
+            @Nullable final Path mappedDirectory) {
+        final AbstractOffHeapArraySource<?> result;
+        if (dataType == byte.class) {
+            result = new OffHeapByteArraySource(mappedDirectory);
+        } else if (dataType == char.class) {
+            result = new OffHeapCharacterArraySource(mappedDirectory);
+        } else if (dataType == short.class) {
+            result = new OffHeapShortArraySource(mappedDirectory);
+        } else if (dataType == int.class) {
+            result = new OffHeapIntegerArraySource(mappedDirectory);
+        } else if (dataType == long.class) {
+            result = new OffHeapLongArraySource(mappedDirectory);
+        } else if (dataType == float.class) {
+            result = new OffHeapFloatArraySource(mappedDirectory);
+        } else if (dataType == double.class) {
+            result = new OffHeapDoubleArraySource(mappedDirectory);
+        } else {
+            throw new IllegalArgumentException("Off-heap sources do not support " + dataType);
+        }
+        // noinspection unchecked
+        return (AbstractOffHeapArraySource<T>) result;
+    }
+}
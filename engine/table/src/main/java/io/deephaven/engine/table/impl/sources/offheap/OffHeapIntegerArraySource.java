@@ -0,0 +1,262 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit OffHeapCharacterArraySource and run "./gradlew replicateSourcesAndChunks" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.sources.offheap;
+
+import io.deephaven.chunk.*;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.impl.MutableColumnSourceGetDefaults;
+import io.deephaven.util.mutable.MutableInt;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static io.deephaven.util.QueryConstants.NULL_INT;
+import static io.deephaven.util.type.TypeUtils.unbox;
+
+/**
+ * A dense array source for Integer, with its values stored off the Java heap.
+ * <p>
+ * The C-haracter source is replicated to all other primitive types except boolean with
+ * io.deephaven.replicators.ReplicateSourcesAndChunks.
+ * <p>
+ * (C-haracter is deliberately spelled that way in order to prevent Replicate from altering this very comment).
+ */
+public final class OffHeapIntegerArraySource extends AbstractOffHeapArraySource<Integer>
+        implements MutableColumnSourceGetDefaults.ForInt {
+
+    private static final int[] NULL_VALUES = new int[PREV_PAGE_SIZE];
+    static {
+        Arrays.fill(NULL_VALUES, NULL_INT);
+    }
+
+    private IntBuffer[] blocks = new IntBuffer[0];
+    private Long2ObjectOpenHashMap<int[]> prevPages;
+
+    /**
+     * Create a source whose values are stored in direct memory.
+     */
+    public OffHeapIntegerArraySource() {
+        this(null);
+    }
+
+    /**
+     * @param mappedDirectory if non-null, the directory in which to create the temporary file that holds this source's
+     *        values; otherwise the values are stored in direct memory
+     */
+    public OffHeapIntegerArraySource(@Nullable final Path mappedDirectory) {
+        super(int.class, Integer.BYTES, mappedDirectory);
+    }
+
+    @Override
+    public void ensureCapacity(final long capacity, final boolean nullFill) {
+        final int requiredBlocks = requiredBlocks(capacity);
+        if (requiredBlocks <= numBlocks) {
+            return;
+        }
+        if (requiredBlocks > blocks.length) {
+            blocks = Arrays.copyOf(blocks, Math.max(requiredBlocks, blocks.length * 2));
+        }
+        for (int bi = numBlocks; bi < requiredBlocks; ++bi) {
+            final IntBuffer block = asIntBuffer(allocateBlock(bi));
+            if (nullFill) {
+                for (int offset = 0; offset < BLOCK_SIZE; offset += NULL_VALUES.length) {
+                    block.put(offset, NULL_VALUES);
+                }
+            }
+            blocks[bi] = block;
+        }
+        numBlocks = requiredBlocks;
+    }
+
+    @Override
+    public void set(final long key, final Integer value) {
+        set(key, unbox(value));
+    }
+
+    @Override
+    public void set(final long key, final int value) {
+        if (shouldRecordPrevious(key)) {
+            recordPrevious(key);
+        }
+        blocks[(int) (key >> LOG_BLOCK_SIZE)].put((int) (key & INDEX_MASK), value);
+    }
+
+    @Override
+    public void setNull(final long key) {
+        set(key, NULL_INT);
+    }
+
+    @Override
+    public int getInt(final long rowKey) {
+        if (rowKey < 0 || rowKey >= getCapacity()) {
+            return NULL_INT;
+        }
+        return getUnsafe(rowKey);
+    }
+
+    private int getUnsafe(final long rowKey) {
+        return blocks[(int) (rowKey >> LOG_BLOCK_SIZE)].get((int) (rowKey & INDEX_MASK));
+    }
+
+    @Override
+    public int getPrevInt(final long rowKey) {
+        if (rowKey < 0 || rowKey >= getCapacity()) {
+            return NULL_INT;
+        }
+        return getPrevUnsafe(rowKey);
+    }
+
+    private int getPrevUnsafe(final long rowKey) {
+        if (shouldUsePrevious(rowKey)) {
+            return prevPages.get(rowKey >> LOG_PREV_PAGE_SIZE)[(int) (rowKey & PREV_PAGE_MASK)];
+        }
+        return getUnsafe(rowKey);
+    }
+
+    @Override
+    void recordPrevious(final long rowKey) {
+        if (prevPages == null) {
+            prevPages = new Long2ObjectOpenHashMap<>();
+        }
+        final long page = rowKey >> LOG_PREV_PAGE_SIZE;
+        int[] prevPage = prevPages.get(page);
+        if (prevPage == null) {
+            prevPages.put(page, prevPage = new int[PREV_PAGE_SIZE]);
+        }
+        prevPage[(int) (rowKey & PREV_PAGE_MASK)] = getUnsafe(rowKey);
+    }
+
+    @Override
+    void clearPrevious() {
+        // the pages are dropped rather than recycled, so that a burst of modifications does not pin heap memory
+        prevPages = null;
+    }
+
+    @Override
+    public void fillChunk(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> destination,
+            @NotNull final RowSequence rowSequence) {
+        final WritableIntChunk<? super Values> chunk = destination.asWritableIntChunk();
+        chunk.setSize(0);
+        final long capacity = getCapacity();
+        rowSequence.forAllRowKeyRanges((final long firstRowKey, final long lastRowKey) -> {
+            long rowKey = firstRowKey;
+            final long lastInRange = Math.min(lastRowKey, capacity - 1);
+            while (rowKey <= lastInRange) {
+                // copy the run within a single block in bulk; the copy moves the buffer's position, so we use a
+                // private view to permit concurrent reads
+                final IntBuffer block = blocks[(int) (rowKey >> LOG_BLOCK_SIZE)].duplicate();
+                final int firstIndex = (int) (rowKey & INDEX_MASK);
+                final int length = (int) Math.min(BLOCK_SIZE - firstIndex, lastInRange - rowKey + 1);
+                final int offset = chunk.size();
+                chunk.setSize(offset + length);
+                chunk.copyFromTypedBuffer(block, firstIndex, offset, length);
+                rowKey += length;
+            }
+            if (rowKey <= lastRowKey) {
+                final int nullCount = Math.toIntExact(lastRowKey - rowKey + 1);
+                final int offset = chunk.size();
+                chunk.setSize(offset + nullCount);
+                chunk.fillWithNullValue(offset, nullCount);
+            }
+        });
+    }
+
+    @Override
+    public void fillPrevChunk(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> destination,
+            @NotNull final RowSequence rowSequence) {
+        if (!isTrackingPrevValues() || prevPages == null) {
+            fillChunk(context, destination, rowSequence);
+            return;
+        }
+        final WritableIntChunk<? super Values> chunk = destination.asWritableIntChunk();
+        chunk.setSize(0);
+        rowSequence.forAllRowKeys((final long rowKey) -> chunk.add(getPrevInt(rowKey)));
+    }
+
+    @Override
+    public void fillChunkUnordered(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> dest,
+            @NotNull final LongChunk<? extends RowKeys> keys) {
+        final WritableIntChunk<? super Values> chunk = dest.asWritableIntChunk();
+        final int size = keys.size();
+        for (int ii = 0; ii < size; ++ii) {
+            // RowSequence.NULL_ROW_KEY is negative, and so maps to null
+            chunk.set(ii, getInt(keys.get(ii)));
+        }
+        chunk.setSize(size);
+    }
+
+    @Override
+    public void fillPrevChunkUnordered(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> dest,
+            @NotNull final LongChunk<? extends RowKeys> keys) {
+        final WritableIntChunk<? super Values> chunk = dest.asWritableIntChunk();
+        final int size = keys.size();
+        for (int ii = 0; ii < size; ++ii) {
+            chunk.set(ii, getPrevInt(keys.get(ii)));
+        }
+        chunk.setSize(size);
+    }
+
+    @Override
+    public void fillFromChunk(
+            @NotNull final FillFromContext context,
+            @NotNull final Chunk<? extends Values> src,
+            @NotNull final RowSequence rowSequence) {
+        final IntChunk<? extends Values> chunk = src.asIntChunk();
+        final boolean trackPrevious = shouldTrackPrevious();
+        final MutableInt offset = new MutableInt(0);
+        rowSequence.forAllRowKeyRanges((final long firstRowKey, final long lastRowKey) -> {
+            long rowKey = firstRowKey;
+            while (rowKey <= lastRowKey) {
+                final IntBuffer block = blocks[(int) (rowKey >> LOG_BLOCK_SIZE)].duplicate();
+                final int firstIndex = (int) (rowKey & INDEX_MASK);
+                final int length = (int) Math.min(BLOCK_SIZE - firstIndex, lastRowKey - rowKey + 1);
+                if (trackPrevious) {
+                    for (long key = rowKey; key < rowKey + length; ++key) {
+                        if (shouldRecordPrevious(key)) {
+                            recordPrevious(key);
+                        }
+                    }
+                }
+                chunk.copyToTypedBuffer(offset.get(), block, firstIndex, length);
+                offset.add(length);
+                rowKey += length;
+            }
+        });
+    }
+
+    @Override
+    public void fillFromChunkUnordered(
+            @NotNull final FillFromContext context,
+            @NotNull final Chunk<? extends Values> src,
+            @NotNull final LongChunk<RowKeys> keys) {
+        final IntChunk<? extends Values> chunk = src.asIntChunk();
+        final boolean trackPrevious = shouldTrackPrevious();
+        final int size = keys.size();
+        for (int ii = 0; ii < size; ++ii) {
+            final long key = keys.get(ii);
+            if (trackPrevious && shouldRecordPrevious(key)) {
+                recordPrevious(key);
+            }
+            blocks[(int) (key >> LOG_BLOCK_SIZE)].put((int) (key & INDEX_MASK), chunk.get(ii));
+        }
+    }
+}
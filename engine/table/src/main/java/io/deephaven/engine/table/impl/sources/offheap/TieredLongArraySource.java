@@ -0,0 +1,339 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit TieredCharacterArraySource and run "./gradlew replicateSourcesAndChunks" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.sources.offheap;
+
+import io.deephaven.chunk.*;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.impl.MutableColumnSourceGetDefaults;
+import io.deephaven.util.mutable.MutableInt;
+import io.deephaven.util.mutable.MutableLong;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static io.deephaven.util.QueryConstants.NULL_LONG;
+import static io.deephaven.util.type.TypeUtils.unbox;
+
+/**
+ * A dense array source for Long that keeps a bounded number of blocks on the heap and spills the rest to disk.
+ * <p>
+ * The C-haracter source is replicated to the integer and long sources used for aggregation state with
+ * io.deephaven.replicators.ReplicateSourcesAndChunks.
+ * <p>
+ * (C-haracter is deliberately spelled that way in order to prevent Replicate from altering this very comment).
+ */
+public final class TieredLongArraySource extends AbstractTieredArraySource<Long>
+        implements MutableColumnSourceGetDefaults.ForLong {
+
+    /**
+     * The state of a block that has been spilled to the slab.
+     */
+    private static final long[] IN_SLAB = new long[0];
+
+    /**
+     * The state of each block: its values if it is hot, {@link #IN_SLAB} if it has been spilled, or null if it has never
+     * been written.
+     */
+    private volatile AtomicReferenceArray<long[]> blocks = new AtomicReferenceArray<>(0);
+    private long[][] prevPages;
+
+    /**
+     * @param maxHotBlocks the maximum number of blocks to keep on the heap
+     * @param slabDirectory the directory in which to create the temporary file that holds the spilled blocks
+     */
+    public TieredLongArraySource(final int maxHotBlocks, @NotNull final Path slabDirectory) {
+        super(long.class, Long.BYTES, maxHotBlocks, slabDirectory);
+    }
+
+    @Override
+    void growBlocks(final int length) {
+        final AtomicReferenceArray<long[]> oldBlocks = blocks;
+        final AtomicReferenceArray<long[]> newBlocks = new AtomicReferenceArray<>(length);
+        for (int bi = 0; bi < oldBlocks.length(); ++bi) {
+            newBlocks.set(bi, oldBlocks.get(bi));
+        }
+        blocks = newBlocks;
+    }
+
+    /**
+     * @return the state of {@code block}, or null if it is beyond the blocks this reader can see
+     */
+    private long[] blockState(final int block) {
+        final AtomicReferenceArray<long[]> blocks = this.blocks;
+        return block < blocks.length() ? blocks.get(block) : null;
+    }
+
+    @Override
+    boolean isHot(final int block) {
+        final long[] state = blocks.get(block);
+        return state != null && state != IN_SLAB;
+    }
+
+    @Override
+    void loadHotBlock(final int block) {
+        final long[] values = new long[BLOCK_SIZE];
+        if (blocks.get(block) == IN_SLAB) {
+            AbstractOffHeapArraySource.asLongBuffer(slabBlock(block)).get(values);
+        } else {
+            Arrays.fill(values, NULL_LONG);
+        }
+        blocks.set(block, values);
+    }
+
+    @Override
+    void evictHotBlock(final int block) {
+        AbstractOffHeapArraySource.asLongBuffer(slabBlock(block)).put(blocks.get(block));
+        // readers that do not find the block on the heap must find it in the slab
+        blocks.set(block, IN_SLAB);
+    }
+
+    @Override
+    public void set(final long key, final Long value) {
+        set(key, unbox(value));
+    }
+
+    @Override
+    public void set(final long key, final long value) {
+        final int block = (int) (key >> LOG_BLOCK_SIZE);
+        countWrite(makeHot(block));
+        final long[] values = blocks.get(block);
+        final int indexWithinBlock = (int) (key & INDEX_MASK);
+        if (shouldRecordPrevious(key)) {
+            recordPrevious(key, values[indexWithinBlock]);
+        }
+        values[indexWithinBlock] = value;
+    }
+
+    @Override
+    public void setNull(final long key) {
+        set(key, NULL_LONG);
+    }
+
+    @Override
+    public long getLong(final long rowKey) {
+        if (rowKey < 0 || rowKey >= getCapacity()) {
+            return NULL_LONG;
+        }
+        return readBlock(blockState((int) (rowKey >> LOG_BLOCK_SIZE)), rowKey);
+    }
+
+    private long readBlock(final long[] state, final long rowKey) {
+        if (state == null) {
+            return NULL_LONG;
+        }
+        final int indexWithinBlock = (int) (rowKey & INDEX_MASK);
+        if (state == IN_SLAB) {
+            return AbstractOffHeapArraySource.asLongBuffer(slabBlock((int) (rowKey >> LOG_BLOCK_SIZE)))
+                    .get(indexWithinBlock);
+        }
+        return state[indexWithinBlock];
+    }
+
+    @Override
+    public long getPrevLong(final long rowKey) {
+        if (shouldUsePrevious(rowKey)) {
+            final long[] prevPage = prevPage(rowKey >> LOG_PREV_PAGE_SIZE);
+            if (prevPage != null) {
+                return prevPage[(int) (rowKey & PREV_PAGE_MASK)];
+            }
+        }
+        return getLong(rowKey);
+    }
+
+    private long[] prevPage(final long page) {
+        final long[][] prevPages = this.prevPages;
+        return page < prevPages.length ? prevPages[(int) page] : null;
+    }
+
+    private void recordPrevious(final long rowKey, final long value) {
+        prevPages[(int) (rowKey >> LOG_PREV_PAGE_SIZE)][(int) (rowKey & PREV_PAGE_MASK)] = value;
+    }
+
+    @Override
+    void growPrevPages(final int length) {
+        prevPages = prevPages == null ? new long[length][] : Arrays.copyOf(prevPages, length);
+    }
+
+    @Override
+    void allocatePrevPage(final int page) {
+        prevPages[page] = new long[PREV_PAGE_SIZE];
+    }
+
+    @Override
+    void releasePrevPage(final int page) {
+        prevPages[page] = null;
+    }
+
+    @Override
+    public void fillChunk(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> destination,
+            @NotNull final RowSequence rowSequence) {
+        final WritableLongChunk<? super Values> chunk = destination.asWritableLongChunk();
+        chunk.setSize(0);
+        final long capacity = getCapacity();
+        final MutableLong hits = new MutableLong(0);
+        final MutableLong misses = new MutableLong(0);
+        rowSequence.forAllRowKeyRanges((final long firstRowKey, final long lastRowKey) -> {
+            long rowKey = firstRowKey;
+            final long lastInRange = Math.min(lastRowKey, capacity - 1);
+            while (rowKey <= lastInRange) {
+                final int block = (int) (rowKey >> LOG_BLOCK_SIZE);
+                final int firstIndex = (int) (rowKey & INDEX_MASK);
+                final int length = (int) Math.min(BLOCK_SIZE - firstIndex, lastInRange - rowKey + 1);
+                final int offset = chunk.size();
+                chunk.setSize(offset + length);
+                final long[] state = blockState(block);
+                if (state == null) {
+                    misses.increment();
+                    chunk.fillWithNullValue(offset, length);
+                } else if (state == IN_SLAB) {
+                    misses.increment();
+                    final LongBuffer slab = AbstractOffHeapArraySource.asLongBuffer(slabBlock(block));
+                    chunk.copyFromTypedBuffer(slab, firstIndex, offset, length);
+                } else {
+                    hits.increment();
+                    chunk.copyFromTypedArray(state, firstIndex, offset, length);
+                }
+                rowKey += length;
+            }
+            if (rowKey <= lastRowKey) {
+                final int nullCount = Math.toIntExact(lastRowKey - rowKey + 1);
+                final int offset = chunk.size();
+                chunk.setSize(offset + nullCount);
+                chunk.fillWithNullValue(offset, nullCount);
+            }
+        });
+        recordAccess(hits.get(), misses.get());
+    }
+
+    @Override
+    public void fillPrevChunk(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> destination,
+            @NotNull final RowSequence rowSequence) {
+        if (!isTrackingPrevValues() || !hasPreviousValues()) {
+            fillChunk(context, destination, rowSequence);
+            return;
+        }
+        final WritableLongChunk<? super Values> chunk = destination.asWritableLongChunk();
+        chunk.setSize(0);
+        rowSequence.forAllRowKeys((final long rowKey) -> chunk.add(getPrevLong(rowKey)));
+    }
+
+    @Override
+    public void fillChunkUnordered(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> dest,
+            @NotNull final LongChunk<? extends RowKeys> keys) {
+        final WritableLongChunk<? super Values> chunk = dest.asWritableLongChunk();
+        final int size = keys.size();
+        final long capacity = getCapacity();
+        long hits = 0;
+        for (int ii = 0; ii < size; ++ii) {
+            final long key = keys.get(ii);
+            // RowSequence.NULL_ROW_KEY is negative, and so maps to null
+            if (key < 0 || key >= capacity) {
+                chunk.set(ii, NULL_LONG);
+                continue;
+            }
+            final long[] state = blockState((int) (key >> LOG_BLOCK_SIZE));
+            if (state != null && state != IN_SLAB) {
+                ++hits;
+            }
+            chunk.set(ii, readBlock(state, key));
+        }
+        chunk.setSize(size);
+        recordAccess(hits, size - hits);
+    }
+
+    @Override
+    public void fillPrevChunkUnordered(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> dest,
+            @NotNull final LongChunk<? extends RowKeys> keys) {
+        if (!isTrackingPrevValues() || !hasPreviousValues()) {
+            fillChunkUnordered(context, dest, keys);
+            return;
+        }
+        final WritableLongChunk<? super Values> chunk = dest.asWritableLongChunk();
+        final int size = keys.size();
+        for (int ii = 0; ii < size; ++ii) {
+            chunk.set(ii, getPrevLong(keys.get(ii)));
+        }
+        chunk.setSize(size);
+    }
+
+    @Override
+    public void fillFromChunk(
+            @NotNull final FillFromContext context,
+            @NotNull final Chunk<? extends Values> src,
+            @NotNull final RowSequence rowSequence) {
+        final LongChunk<? extends Values> chunk = src.asLongChunk();
+        final boolean trackPrevious = isTrackingPrevValues();
+        final MutableInt offset = new MutableInt(0);
+        final MutableLong hits = new MutableLong(0);
+        final MutableLong misses = new MutableLong(0);
+        rowSequence.forAllRowKeyRanges((final long firstRowKey, final long lastRowKey) -> {
+            long rowKey = firstRowKey;
+            while (rowKey <= lastRowKey) {
+                final int block = (int) (rowKey >> LOG_BLOCK_SIZE);
+                final int firstIndex = (int) (rowKey & INDEX_MASK);
+                final int length = (int) Math.min(BLOCK_SIZE - firstIndex, lastRowKey - rowKey + 1);
+                if (makeHot(block)) {
+                    hits.increment();
+                } else {
+                    misses.increment();
+                }
+                final long[] values = blocks.get(block);
+                if (trackPrevious) {
+                    for (int ii = firstIndex; ii < firstIndex + length; ++ii) {
+                        final long key = rowKey + ii - firstIndex;
+                        if (shouldRecordPrevious(key)) {
+                            recordPrevious(key, values[ii]);
+                        }
+                    }
+                }
+                chunk.copyToTypedArray(offset.get(), values, firstIndex, length);
+                offset.add(length);
+                rowKey += length;
+            }
+        });
+        recordAccess(hits.get(), misses.get());
+    }
+
+    @Override
+    public void fillFromChunkUnordered(
+            @NotNull final FillFromContext context,
+            @NotNull final Chunk<? extends Values> src,
+            @NotNull final LongChunk<RowKeys> keys) {
+        final LongChunk<? extends Values> chunk = src.asLongChunk();
+        final boolean trackPrevious = isTrackingPrevValues();
+        final int size = keys.size();
+        long hits = 0;
+        for (int ii = 0; ii < size; ++ii) {
+            final long key = keys.get(ii);
+            final int block = (int) (key >> LOG_BLOCK_SIZE);
+            if (makeHot(block)) {
+                ++hits;
+            }
+            final long[] values = blocks.get(block);
+            final int indexWithinBlock = (int) (key & INDEX_MASK);
+            if (trackPrevious && shouldRecordPrevious(key)) {
+                recordPrevious(key, values[indexWithinBlock]);
+            }
+            values[indexWithinBlock] = chunk.get(ii);
+        }
+        recordAccess(hits, size - hits);
+    }
+}
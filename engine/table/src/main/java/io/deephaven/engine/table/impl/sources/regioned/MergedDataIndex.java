@@ -11,12 +11,16 @@ import io.deephaven.base.stats.ThreadSafeCounter;
 import io.deephaven.base.stats.Value;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.base.verify.Require;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.attributes.Values;
 import io.deephaven.configuration.Configuration;
 import io.deephaven.engine.primitive.iterator.CloseableIterator;
 import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.rowset.RowSetBuilderSequential;
 import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
 import io.deephaven.engine.table.*;
 import io.deephaven.engine.table.impl.ForkJoinPoolOperationInitializer;
 import io.deephaven.engine.table.impl.by.AggregationProcessor;
@@ -448,6 +452,33 @@ class MergedDataIndex extends AbstractDataIndex implements DataIndexer.Retainabl
         };
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the row sets are merged lazily, the row sets for a chunk of keys are fetched in parallel if
+     * {@link #USE_PARALLEL_LAZY_FETCH} is set, so that the location indexes for different keys are read concurrently.
+     */
+    @Override
+    public void fillRowSets(
+            @NotNull final DataIndexOptions options,
+            @NotNull final LongChunk<? extends RowKeys> indexRowKeys,
+            final boolean usePrev,
+            @NotNull final WritableObjectChunk<RowSet, ? super Values> destination) {
+        final Table localIndexTable = table(options);
+        final int size = indexRowKeys.size();
+        if (!USE_PARALLEL_LAZY_FETCH || localIndexTable != lazyTable || size <= 1) {
+            super.fillRowSets(options, indexRowKeys, usePrev, destination);
+            return;
+        }
+        // This index is static, so the previous row sets are the current ones.
+        final ColumnSource<RowSet> rowSetColumn = localIndexTable.getColumnSource(ROW_SET_COLUMN_NAME, RowSet.class);
+        IntStream.range(0, size).parallel().forEach(ii -> {
+            final long indexRowKey = indexRowKeys.get(ii);
+            destination.set(ii, indexRowKey == RowSequence.NULL_ROW_KEY ? null : rowSetColumn.get(indexRowKey));
+        });
+        destination.setSize(size);
+    }
+
     @Override
     public boolean isRefreshing() {
         return false;
@@ -65,6 +65,14 @@ public abstract class UpdateBy {
     private static final int PARALLEL_CACHE_CHUNK_SIZE =
             Configuration.getInstance().getIntegerWithDefault("UpdateBy.parallelCacheChunkSize", 1 << 16);
 
+    /**
+     * When processing the buckets of a window, how many affected rows should be grouped into each parallel job? Small
+     * buckets are packed together until this target is reached, so that they share one job and one set of operator
+     * contexts. (16K default; not final, so that unit tests can mix batched buckets with buckets of their own)
+     */
+    static int BUCKET_BATCH_TARGET_ROWS =
+            Configuration.getInstance().getIntegerWithDefault("UpdateBy.bucketBatchTargetRows", 1 << 14);
+
     /** When extracting keys from the redirection, what size chunks to use? (2K default) */
     private static final int REDIRECTION_CHUNK_SIZE = 1 << 11;
 
@@ -565,11 +573,82 @@ public abstract class UpdateBy {
                     }, this::onError);
         }
 
+        /**
+         * The buckets that are dirty for one window, grouped into contiguous batches of roughly
+         * {@link #BUCKET_BATCH_TARGET_ROWS} affected rows. Each batch is processed as a single parallel job, so that a
+         * table with millions of small buckets is not scheduled (and does not set up operator contexts) one bucket at a
+         * time. A bucket larger than the target forms a batch of its own.
+         */
+        private class BucketBatches {
+            /** The buckets that are dirty for the window, in {@code dirtyBuckets} order */
+            final UpdateByBucketHelper[] buckets;
+            /** The offset into {@code buckets} of the first bucket of each batch, followed by {@code buckets.length} */
+            private final int[] batchOffsets;
+
+            private BucketBatches(final int winIdx) {
+                final List<UpdateByBucketHelper> windowBuckets = new ArrayList<>(dirtyBuckets.length);
+                final IntArrayList offsets = new IntArrayList();
+                offsets.add(0);
+                long batchRows = 0;
+                for (final UpdateByBucketHelper bucket : dirtyBuckets) {
+                    final UpdateByWindow.UpdateByWindowBucketContext bucketContext = bucket.windowContexts[winIdx];
+                    if (!bucketContext.isDirty) {
+                        continue;
+                    }
+                    windowBuckets.add(bucket);
+                    // Count every bucket as at least one row, so that empty buckets are still bounded per batch.
+                    batchRows += Math.max(1, bucketContext.affectedRows.size());
+                    if (batchRows >= BUCKET_BATCH_TARGET_ROWS) {
+                        offsets.add(windowBuckets.size());
+                        batchRows = 0;
+                    }
+                }
+                if (batchRows > 0) {
+                    offsets.add(windowBuckets.size());
+                }
+                buckets = windowBuckets.toArray(new UpdateByBucketHelper[0]);
+                batchOffsets = offsets.toIntArray();
+            }
+
+            int batchCount() {
+                return batchOffsets.length - 1;
+            }
+
+            int batchStart(final int batchIdx) {
+                return batchOffsets[batchIdx];
+            }
+
+            int batchEnd(final int batchIdx) {
+                return batchOffsets[batchIdx + 1];
+            }
+
+            /**
+             * Apply {@code action} to the window context of each bucket, in parallel by batch. Calls
+             * {@code onComplete} when the work is complete.
+             */
+            void forEachBucketParallel(
+                    @NotNull final String description,
+                    final int winIdx,
+                    @NotNull final Consumer<UpdateByWindow.UpdateByWindowBucketContext> action,
+                    @NotNull final Runnable onComplete,
+                    @NotNull final Consumer<Exception> onError) {
+                jobScheduler.iterateParallel(executionContext,
+                        chainAppendables(PhasedUpdateProcessor.this, stringAndIndexToAppendable(description, winIdx)),
+                        JobScheduler.DEFAULT_CONTEXT_FACTORY, 0, batchCount(),
+                        (context, batchIdx, nec) -> {
+                            for (int bi = batchStart(batchIdx); bi < batchEnd(batchIdx); bi++) {
+                                action.accept(buckets[bi].windowContexts[winIdx]);
+                            }
+                        }, onComplete, () -> {
+                        }, onError);
+            }
+        }
+
         /**
          * Process all {@code windows} in a serial manner (to minimize cached column memory usage). This function will
          * prepare the shared window resources (e.g. push/pop chunks for Rolling operators) for each dirty bucket in the
-         * current window then call {@link #processWindowOperators}. When all operators have been processed then all
-         * resources for this window are released before iterating.
+         * current window, in parallel by {@link BucketBatches batch}, then call {@link #processWindowOperators}. When
+         * all operators have been processed then all resources for this window are released before iterating.
          */
         private void processWindows(final Runnable onWindowsComplete) {
             if (dirtyWindows.isEmpty()) {
@@ -585,39 +664,36 @@ public abstract class UpdateBy {
                     dirtyWindowIndices.length,
                     (context, idx, nestedErrorConsumer, windowComplete) -> {
                         final int winIdx = dirtyWindowIndices[idx];
-
-                        int maxAffectedChunkSize = 0;
-                        int maxInfluencerChunkSize = 0;
-
-                        for (UpdateByBucketHelper bucket : dirtyBuckets) {
-                            if (bucket.windowContexts[winIdx].isDirty) {
-                                // Assign the (maybe cached) input sources.
-                                windows[winIdx].assignInputSources(bucket.windowContexts[winIdx],
-                                        maybeCachedInputSources);
-
-                                // Prepare this bucket for processing this window. This allocates window context
-                                // resources and rolling ops pre-computes push/pop chunks.
-                                windows[winIdx].prepareWindowBucket(bucket.windowContexts[winIdx]);
-
-                                // Determine the largest chunk sizes needed to process the window buckets.
-                                maxAffectedChunkSize =
-                                        Math.max(maxAffectedChunkSize, bucket.windowContexts[winIdx].workingChunkSize);
+                        final BucketBatches batches = new BucketBatches(winIdx);
+
+                        // Prepare the buckets for this window in parallel. This allocates window context resources
+                        // and rolling ops pre-compute push/pop chunks.
+                        batches.forEachBucketParallel("-prepareWindowBuckets", winIdx, bucketContext -> {
+                            // Assign the (maybe cached) input sources.
+                            windows[winIdx].assignInputSources(bucketContext, maybeCachedInputSources);
+                            windows[winIdx].prepareWindowBucket(bucketContext);
+                        }, () -> {
+                            // Determine the largest chunk sizes needed to process the window buckets.
+                            int maxAffectedChunkSize = 0;
+                            int maxInfluencerChunkSize = 0;
+                            for (final UpdateByBucketHelper bucket : batches.buckets) {
+                                final UpdateByWindow.UpdateByWindowBucketContext bucketContext =
+                                        bucket.windowContexts[winIdx];
+                                maxAffectedChunkSize = Math.max(maxAffectedChunkSize, bucketContext.workingChunkSize);
                                 maxInfluencerChunkSize = Math.max(maxInfluencerChunkSize,
-                                        bucket.windowContexts[winIdx] instanceof UpdateByWindowRollingBase.UpdateByWindowRollingBucketContext
-                                                ? ((UpdateByWindowRollingBase.UpdateByWindowRollingBucketContext) bucket.windowContexts[winIdx]).maxGetContextSize
-                                                : bucket.windowContexts[winIdx].workingChunkSize);
+                                        bucketContext instanceof UpdateByWindowRollingBase.UpdateByWindowRollingBucketContext
+                                                ? ((UpdateByWindowRollingBase.UpdateByWindowRollingBucketContext) bucketContext).maxGetContextSize
+                                                : bucketContext.workingChunkSize);
                             }
-                        }
 
-                        // Process all the operators in this window
-                        processWindowOperators(winIdx, maxAffectedChunkSize, maxInfluencerChunkSize, () -> {
-                            // This window has been fully processed, release the resources we allocated
-                            for (UpdateByBucketHelper bucket : dirtyBuckets) {
-                                if (bucket.windowContexts[winIdx].isDirty) {
-                                    windows[winIdx].finalizeWindowBucket(bucket.windowContexts[winIdx]);
-                                }
-                            }
-                            windowComplete.run();
+                            // Process all the operators in this window
+                            processWindowOperators(winIdx, batches, maxAffectedChunkSize, maxInfluencerChunkSize,
+                                    () -> {
+                                        // This window has been fully processed, release the resources we allocated
+                                        batches.forEachBucketParallel("-finalizeWindowBuckets", winIdx,
+                                                windows[winIdx]::finalizeWindowBucket,
+                                                windowComplete, nestedErrorConsumer);
+                                    }, nestedErrorConsumer);
                         }, nestedErrorConsumer);
                     }, onWindowsComplete,
                     () -> {
@@ -636,6 +712,7 @@ public abstract class UpdateBy {
          */
         private void processWindowOperators(
                 final int winIdx,
+                final BucketBatches batches,
                 final int maxAffectedChunkSize,
                 final int maxInfluencerChunkSize,
                 final Runnable onProcessWindowOperatorsComplete,
@@ -693,8 +770,8 @@ public abstract class UpdateBy {
                         // Cache the input sources for these operators.
                         cacheOperatorInputSources(winIdx, srcIndices, () -> {
                             // Process the subset of operators for this window.
-                            processWindowOperatorSet(winIdx, opIndices, srcIndices, maxAffectedChunkSize,
-                                    maxInfluencerChunkSize,
+                            processWindowOperatorSet(winIdx, batches, opIndices, srcIndices,
+                                    maxAffectedChunkSize, maxInfluencerChunkSize,
                                     () -> {
                                         // Release the cached sources that are no longer needed. Decrement once
                                         // per (operator, distinct srcIdx) pair to match how computeCachedColumnRowSets
@@ -817,10 +894,12 @@ public abstract class UpdateBy {
         }
 
         /**
-         * Process a subset of operators from {@code windows[winIdx]} in parallel by bucket. Calls
+         * Process a subset of operators from {@code windows[winIdx]} in parallel by batch of buckets. The buckets of
+         * each batch are processed serially with the operator contexts of the thread that picked up the batch. Calls
          * {@code onProcessWindowOperatorSetComplete} when the work is complete
          */
         private void processWindowOperatorSet(final int winIdx,
+                final BucketBatches batches,
                 final int[] opIndices,
                 final int[] srcIndices,
                 final int maxAffectedChunkSize,
@@ -862,12 +941,11 @@ public abstract class UpdateBy {
             jobScheduler.iterateParallel(executionContext,
                     chainAppendables(this, stringAndIndexToAppendable("-processWindowBucketOperators", winIdx)),
                     OperatorThreadContext::new,
-                    0, dirtyBuckets.length,
-                    (context, bucketIdx, nec) -> {
-                        UpdateByBucketHelper bucket = dirtyBuckets[bucketIdx];
-                        if (bucket.windowContexts[winIdx].isDirty) {
+                    0, batches.batchCount(),
+                    (context, batchIdx, nec) -> {
+                        for (int bi = batches.batchStart(batchIdx); bi < batches.batchEnd(batchIdx); bi++) {
                             windows[winIdx].processWindowBucketOperatorSet(
-                                    bucket.windowContexts[winIdx],
+                                    batches.buckets[bi].windowContexts[winIdx],
                                     opIndices,
                                     srcIndices,
                                     context.winOpContexts,
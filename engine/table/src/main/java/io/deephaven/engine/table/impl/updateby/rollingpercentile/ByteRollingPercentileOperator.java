@@ -0,0 +1,178 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit CharRollingPercentileOperator and run "./gradlew replicateUpdateBy" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.updateby.rollingpercentile;
+
+import io.deephaven.base.ringbuffer.ByteRingBuffer;
+import io.deephaven.base.verify.Assert;
+import io.deephaven.chunk.ByteChunk;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.table.impl.MatchPair;
+import io.deephaven.engine.table.impl.by.ssmpercentile.SsmChunkedPercentileOperator;
+import io.deephaven.engine.table.impl.ssms.ByteSegmentedSortedMultiset;
+import io.deephaven.engine.table.impl.updateby.UpdateByOperator;
+import io.deephaven.engine.table.impl.updateby.internal.BaseDoubleUpdateByOperator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static io.deephaven.util.QueryConstants.NULL_BYTE;
+import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
+
+/**
+ * A rolling percentile that keeps the non-null values of the window in two sorted multisets, a low bucket holding the
+ * values at or below the percentile and a high bucket holding the rest. Each value entering or leaving the window is
+ * inserted into or removed from one bucket, and the buckets are rebalanced by moving values across the boundary when
+ * the result is written, so each row costs time logarithmic in the window size.
+ */
+public class ByteRollingPercentileOperator extends BaseDoubleUpdateByOperator {
+    private static final int BUFFER_INITIAL_CAPACITY = 128;
+    private static final int NODE_SIZE =
+            Configuration.getInstance().getIntegerWithDefault("RollingPercentileOperator.nodeSize", 512);
+    private final double percentile;
+    private final boolean averageEvenlyDivided;
+    // region extra-fields
+    // endregion extra-fields
+
+    protected class Context extends BaseDoubleUpdateByOperator.Context {
+        protected ByteChunk<? extends Values> influencerValuesChunk;
+        protected ByteRingBuffer byteWindowValues;
+        protected ByteSegmentedSortedMultiset ssmLo;
+        protected ByteSegmentedSortedMultiset ssmHi;
+
+        @SuppressWarnings("unused")
+        protected Context(final int affectedChunkSize, final int influencerChunkSize) {
+            super(affectedChunkSize);
+            byteWindowValues = new ByteRingBuffer(BUFFER_INITIAL_CAPACITY, true);
+            ssmLo = new ByteSegmentedSortedMultiset(NODE_SIZE);
+            ssmHi = new ByteSegmentedSortedMultiset(NODE_SIZE);
+        }
+
+        @Override
+        public void close() {
+            super.close();
+            byteWindowValues = null;
+            ssmLo = null;
+            ssmHi = null;
+        }
+
+        @Override
+        public void setValueChunks(@NotNull final Chunk<? extends Values>[] valueChunks) {
+            influencerValuesChunk = valueChunks[0].asByteChunk();
+        }
+
+        @Override
+        public void push(int pos, int count) {
+            byteWindowValues.ensureRemaining(count);
+
+            for (int ii = 0; ii < count; ii++) {
+                final byte val = influencerValuesChunk.get(pos + ii);
+                byteWindowValues.addUnsafe(val);
+
+                if (val == NULL_BYTE) {
+                    nullCount++;
+                } else if (ssmHi.totalSize() > 0 && val > ssmHi.getMinByte()) {
+                    ssmHi.insert(val, 1);
+                } else {
+                    ssmLo.insert(val, 1);
+                }
+            }
+        }
+
+        @Override
+        public void pop(int count) {
+            Assert.geq(byteWindowValues.size(), "byteWindowValues.size()", count);
+
+            for (int ii = 0; ii < count; ii++) {
+                final byte val = byteWindowValues.removeUnsafe();
+
+                if (val == NULL_BYTE) {
+                    nullCount--;
+                } else if (ssmLo.totalSize() > 0 && val <= ssmLo.getMaxByte()) {
+                    ssmLo.remove(val, 1);
+                } else {
+                    ssmHi.remove(val, 1);
+                }
+            }
+        }
+
+        @Override
+        public void writeToOutputChunk(int outIdx) {
+            final long loSize = ssmLo.totalSize();
+            final long totalSize = loSize + ssmHi.totalSize();
+            if (totalSize == 0) {
+                outputValues.set(outIdx, NULL_DOUBLE);
+                return;
+            }
+
+            final long targetLo =
+                    SsmChunkedPercentileOperator.targetLoSize(totalSize, percentile, averageEvenlyDivided);
+            if (loSize < targetLo) {
+                ssmHi.moveFrontToBack(ssmLo, targetLo - loSize);
+            } else if (loSize > targetLo) {
+                ssmLo.moveBackToFront(ssmHi, loSize - targetLo);
+            }
+
+            if (averageEvenlyDivided && ssmLo.totalSize() == ssmHi.totalSize()) {
+                outputValues.set(outIdx, ((double) ssmLo.getMaxByte() + ssmHi.getMinByte()) / 2.0);
+            } else {
+                outputValues.set(outIdx, ssmLo.getMaxByte());
+            }
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            byteWindowValues.clear();
+            ssmLo = new ByteSegmentedSortedMultiset(NODE_SIZE);
+            ssmHi = new ByteSegmentedSortedMultiset(NODE_SIZE);
+        }
+    }
+
+    @NotNull
+    @Override
+    public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
+        return new Context(affectedChunkSize, influencerChunkSize);
+    }
+
+    public ByteRollingPercentileOperator(
+            @NotNull final MatchPair pair,
+            @NotNull final String[] affectingColumns,
+            @Nullable final String timestampColumnName,
+            final long reverseWindowScaleUnits,
+            final long forwardWindowScaleUnits,
+            final double percentile,
+            final boolean averageEvenlyDivided
+    // region extra-constructor-args
+    // endregion extra-constructor-args
+    ) {
+        super(pair, affectingColumns, timestampColumnName, reverseWindowScaleUnits, forwardWindowScaleUnits, true);
+        this.percentile = percentile;
+        // as in the percentile aggregation, only some types actually average evenly divided windows
+        this.averageEvenlyDivided = averageEvenlyDivided
+                && SsmChunkedPercentileOperator.averagesEvenlyDivided(ChunkType.Byte);
+        // region constructor
+        // endregion constructor
+    }
+
+    @Override
+    public UpdateByOperator copy() {
+        return new ByteRollingPercentileOperator(
+                pair,
+                affectingColumns,
+                timestampColumnName,
+                reverseWindowScaleUnits,
+                forwardWindowScaleUnits,
+                percentile,
+                averageEvenlyDivided
+        // region extra-copy-args
+        // endregion extra-copy-args
+        );
+    }
+}
@@ -0,0 +1,186 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.updateby.rollingpercentile;
+
+import io.deephaven.base.ringbuffer.FloatRingBuffer;
+import io.deephaven.base.verify.Assert;
+import io.deephaven.chunk.FloatChunk;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.table.impl.MatchPair;
+import io.deephaven.engine.table.impl.by.ssmpercentile.SsmChunkedPercentileOperator;
+import io.deephaven.engine.table.impl.ssms.FloatSegmentedSortedMultiset;
+import io.deephaven.engine.table.impl.updateby.UpdateByOperator;
+import io.deephaven.engine.table.impl.updateby.internal.BaseDoubleUpdateByOperator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static io.deephaven.util.QueryConstants.NULL_FLOAT;
+import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
+
+/**
+ * A rolling percentile that keeps the non-null values of the window in two sorted multisets, a low bucket holding the
+ * values at or below the percentile and a high bucket holding the rest. Each value entering or leaving the window is
+ * inserted into or removed from one bucket, and the buckets are rebalanced by moving values across the boundary when
+ * the result is written, so each row costs time logarithmic in the window size.
+ */
+public class FloatRollingPercentileOperator extends BaseDoubleUpdateByOperator {
+    private static final int BUFFER_INITIAL_CAPACITY = 128;
+    private static final int NODE_SIZE =
+            Configuration.getInstance().getIntegerWithDefault("RollingPercentileOperator.nodeSize", 512);
+    private final double percentile;
+    private final boolean averageEvenlyDivided;
+    // region extra-fields
+    // endregion extra-fields
+
+    protected class Context extends BaseDoubleUpdateByOperator.Context {
+        protected FloatChunk<? extends Values> influencerValuesChunk;
+        protected FloatRingBuffer floatWindowValues;
+        protected FloatSegmentedSortedMultiset ssmLo;
+        protected FloatSegmentedSortedMultiset ssmHi;
+        protected int nanCount;
+
+        @SuppressWarnings("unused")
+        protected Context(final int affectedChunkSize, final int influencerChunkSize) {
+            super(affectedChunkSize);
+            floatWindowValues = new FloatRingBuffer(BUFFER_INITIAL_CAPACITY, true);
+            ssmLo = new FloatSegmentedSortedMultiset(NODE_SIZE);
+            ssmHi = new FloatSegmentedSortedMultiset(NODE_SIZE);
+        }
+
+        @Override
+        public void close() {
+            super.close();
+            floatWindowValues = null;
+            ssmLo = null;
+            ssmHi = null;
+        }
+
+        @Override
+        public void setValueChunks(@NotNull final Chunk<? extends Values>[] valueChunks) {
+            influencerValuesChunk = valueChunks[0].asFloatChunk();
+        }
+
+        @Override
+        public void push(int pos, int count) {
+            floatWindowValues.ensureRemaining(count);
+
+            for (int ii = 0; ii < count; ii++) {
+                final float val = influencerValuesChunk.get(pos + ii);
+                floatWindowValues.addUnsafe(val);
+
+                if (val == NULL_FLOAT) {
+                    nullCount++;
+                } else if (Float.isNaN(val)) {
+                    nanCount++;
+                } else if (ssmHi.totalSize() > 0 && val > ssmHi.getMinFloat()) {
+                    ssmHi.insert(val, 1);
+                } else {
+                    ssmLo.insert(val, 1);
+                }
+            }
+        }
+
+        @Override
+        public void pop(int count) {
+            Assert.geq(floatWindowValues.size(), "floatWindowValues.size()", count);
+
+            for (int ii = 0; ii < count; ii++) {
+                final float val = floatWindowValues.removeUnsafe();
+
+                if (val == NULL_FLOAT) {
+                    nullCount--;
+                } else if (Float.isNaN(val)) {
+                    nanCount--;
+                } else if (ssmLo.totalSize() > 0 && val <= ssmLo.getMaxFloat()) {
+                    ssmLo.remove(val, 1);
+                } else {
+                    ssmHi.remove(val, 1);
+                }
+            }
+        }
+
+        @Override
+        public void writeToOutputChunk(int outIdx) {
+            if (nanCount > 0) {
+                // as in the percentile aggregation, any NaN in the window makes the result NaN
+                outputValues.set(outIdx, Double.NaN);
+                return;
+            }
+
+            final long loSize = ssmLo.totalSize();
+            final long totalSize = loSize + ssmHi.totalSize();
+            if (totalSize == 0) {
+                outputValues.set(outIdx, NULL_DOUBLE);
+                return;
+            }
+
+            final long targetLo =
+                    SsmChunkedPercentileOperator.targetLoSize(totalSize, percentile, averageEvenlyDivided);
+            if (loSize < targetLo) {
+                ssmHi.moveFrontToBack(ssmLo, targetLo - loSize);
+            } else if (loSize > targetLo) {
+                ssmLo.moveBackToFront(ssmHi, loSize - targetLo);
+            }
+
+            if (averageEvenlyDivided && ssmLo.totalSize() == ssmHi.totalSize()) {
+                outputValues.set(outIdx, ((double) ssmLo.getMaxFloat() + ssmHi.getMinFloat()) / 2.0);
+            } else {
+                outputValues.set(outIdx, ssmLo.getMaxFloat());
+            }
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            floatWindowValues.clear();
+            nanCount = 0;
+            ssmLo = new FloatSegmentedSortedMultiset(NODE_SIZE);
+            ssmHi = new FloatSegmentedSortedMultiset(NODE_SIZE);
+        }
+    }
+
+    @NotNull
+    @Override
+    public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
+        return new Context(affectedChunkSize, influencerChunkSize);
+    }
+
+    public FloatRollingPercentileOperator(
+            @NotNull final MatchPair pair,
+            @NotNull final String[] affectingColumns,
+            @Nullable final String timestampColumnName,
+            final long reverseWindowScaleUnits,
+            final long forwardWindowScaleUnits,
+            final double percentile,
+            final boolean averageEvenlyDivided
+    // region extra-constructor-args
+    // endregion extra-constructor-args
+    ) {
+        super(pair, affectingColumns, timestampColumnName, reverseWindowScaleUnits, forwardWindowScaleUnits, true);
+        this.percentile = percentile;
+        // as in the percentile aggregation, only some types actually average evenly divided windows
+        this.averageEvenlyDivided = averageEvenlyDivided
+                && SsmChunkedPercentileOperator.averagesEvenlyDivided(ChunkType.Float);
+        // region constructor
+        // endregion constructor
+    }
+
+    @Override
+    public UpdateByOperator copy() {
+        return new FloatRollingPercentileOperator(
+                pair,
+                affectingColumns,
+                timestampColumnName,
+                reverseWindowScaleUnits,
+                forwardWindowScaleUnits,
+                percentile,
+                averageEvenlyDivided
+        // region extra-copy-args
+        // endregion extra-copy-args
+        );
+    }
+}
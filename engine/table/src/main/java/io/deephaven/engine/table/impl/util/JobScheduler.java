@@ -7,6 +7,8 @@ import io.deephaven.base.log.LogOutput;
 import io.deephaven.base.log.LogOutputAppendable;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.exceptions.CancellationException;
+import io.deephaven.engine.exceptions.OperationException;
 import io.deephaven.engine.table.Context;
 import io.deephaven.engine.table.impl.perf.BasePerformanceEntry;
 import io.deephaven.io.log.impl.LogOutputStringImpl;
@@ -18,9 +20,12 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.function.Supplier;
 
 /**
@@ -445,4 +450,44 @@ public interface JobScheduler {
                 new IterationManager<>(description, start, count, action, onComplete, cleanup, onError);
         iterationManager.startTasks(this, executionContext, taskThreadContextFactory, 1);
     }
+
+    /**
+     * Run {@code action} for each index in {@code [0, count)} in parallel using this {@link JobScheduler}, in the
+     * current {@link ExecutionContext}, and block until all iterations are complete. This is intended for operations
+     * that parallelize work internally but must present a synchronous result, such as a static initial build.
+     * <p>
+     * Runtime exceptions from {@code action} are rethrown unchanged, as they would be from serial code; other
+     * exceptions are wrapped in an {@link OperationException}.
+     *
+     * @param description the description to use for logging and errors
+     * @param count the number of times {@code action} should be called
+     * @param action the task to perform, the current iteration index is provided as a parameter
+     */
+    @FinalDefault
+    default void iterateParallelAndWait(
+            @NotNull final String description,
+            final int count,
+            @NotNull final IntConsumer action) {
+        final CompletableFuture<Void> waitForCompletion = new CompletableFuture<>();
+        iterateParallel(
+                ExecutionContext.getContext(),
+                logOutput -> logOutput.append(description),
+                DEFAULT_CONTEXT_FACTORY,
+                0, count,
+                (context, index, nestedErrorConsumer) -> action.accept(index),
+                () -> waitForCompletion.complete(null),
+                () -> {
+                },
+                waitForCompletion::completeExceptionally);
+        try {
+            waitForCompletion.get();
+        } catch (InterruptedException e) {
+            throw new CancellationException(String.format("%s interrupted", description), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new OperationException(String.format("%s failed", description), e.getCause());
+        }
+    }
 }
@@ -442,7 +442,7 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
                         LogicalClock.State.Updating, "LogicalClock.State.Updating");
                 pendingNormalNotifications.offer(notification);
             }
-            notificationProcessor.onNotificationAdded();
+            notificationProcessor.onNotificationAdded(notification);
         }
     }
 
@@ -467,7 +467,7 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
             }
         }
         if (added) {
-            notificationProcessor.onNotificationAdded();
+            notificationProcessor.onNotificationAdded(notification);
         }
         return added;
     }
@@ -726,8 +726,11 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
 
         /**
          * Called after a pending notification is added.
+         *
+         * @param notification the notification that was added, or null if the caller only needs to wake the thread
+         *        waiting for notifications to become satisfied
          */
-        void onNotificationAdded();
+        void onNotificationAdded(@Nullable Notification notification);
 
         /**
          * Called before pending notifications are drained.
@@ -804,7 +807,7 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
         }
 
         @Override
-        public void onNotificationAdded() {}
+        public void onNotificationAdded(@Nullable final Notification notification) {}
 
         @Override
         public void beforeNotificationsDrained() {}
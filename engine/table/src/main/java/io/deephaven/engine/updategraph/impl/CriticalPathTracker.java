@@ -0,0 +1,182 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.updategraph.impl;
+
+import io.deephaven.engine.table.impl.HasPerformanceEntry;
+import io.deephaven.engine.table.impl.perf.PerformanceEntry;
+import io.deephaven.engine.updategraph.NotificationQueue.Notification;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Learns the critical path of the notification dependency graph from the update cycles that execute it.
+ * <p>
+ * While a notification runs, every notification that it enqueues is recorded as its child. When a cycle completes,
+ * the length of the longest chain of work starting at each notification is computed from the observed run times, and
+ * folded into an exponentially weighted estimate kept on the notification's {@link PerformanceEntry}. Because the
+ * entry outlives the notification, the estimate is available in later cycles as a scheduling
+ * {@link #priority(Notification) priority}: running the satisfied notifications with the most downstream work first
+ * keeps long chains from waiting behind many cheap leaves.
+ * <p>
+ * Each update thread records its runs and the notifications they enqueue without synchronization; the parent of each
+ * run is only resolved when the cycle completes.
+ */
+final class CriticalPathTracker {
+
+    private static final class Run {
+        @NotNull
+        private final Notification notification;
+        @Nullable
+        private final PerformanceEntry entry;
+        private final long sequence;
+        @Nullable
+        private Run parent;
+        private long elapsedNanos;
+        private long longestChildPathNanos;
+
+        private Run(@NotNull final Notification notification, @Nullable final PerformanceEntry entry,
+                final long sequence) {
+            this.notification = notification;
+            this.entry = entry;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * The bookkeeping of one update thread. Only that thread writes to it while a cycle is running; it is read by
+     * {@link #completeCycle()} once no notifications are outstanding, which happens-after every write through the
+     * update graph's outstanding notification accounting.
+     */
+    private static final class ThreadState {
+        private final List<Run> runs = new ArrayList<>();
+        /** The run that enqueued the notification at the same index of {@link #enqueuedChildren}. */
+        private final List<Run> enqueuedParents = new ArrayList<>();
+        private final List<Notification> enqueuedChildren = new ArrayList<>();
+        @Nullable
+        private Run currentRun;
+    }
+
+    /**
+     * The weight of the most recent cycle in each entry's critical path estimate.
+     */
+    private final double estimateWeight;
+
+    /**
+     * Orders runs by start, across threads. Children always start after their parent.
+     */
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    private final Queue<ThreadState> threadStates = new ConcurrentLinkedQueue<>();
+
+    private final ThreadLocal<ThreadState> threadState = ThreadLocal.withInitial(() -> {
+        final ThreadState state = new ThreadState();
+        threadStates.add(state);
+        return state;
+    });
+
+    CriticalPathTracker(final double estimateWeight) {
+        this.estimateWeight = estimateWeight;
+    }
+
+    /**
+     * @param notification a satisfied notification
+     * @return the estimated nanoseconds of work on the longest chain starting with {@code notification}, or zero if
+     *         unknown
+     */
+    static long priority(@NotNull final Notification notification) {
+        if (!(notification instanceof HasPerformanceEntry)) {
+            return 0;
+        }
+        final PerformanceEntry entry = ((HasPerformanceEntry) notification).getPerformanceEntry();
+        return entry == null ? 0 : entry.getCriticalPathNanos();
+    }
+
+    /**
+     * Record that {@code notification} was enqueued, as a child of the notification running on this thread, if any.
+     *
+     * @param notification the enqueued notification
+     */
+    void onNotificationAdded(@NotNull final Notification notification) {
+        final ThreadState state = threadState.get();
+        if (state.currentRun != null) {
+            state.enqueuedParents.add(state.currentRun);
+            state.enqueuedChildren.add(notification);
+        }
+    }
+
+    /**
+     * Run a non-terminal notification, timing it and recording which notifications it enqueues.
+     *
+     * @param notification the notification
+     * @param runner the procedure that actually runs the notification
+     */
+    void run(@NotNull final Notification notification, @NotNull final Consumer<Notification> runner) {
+        final PerformanceEntry entry = notification instanceof HasPerformanceEntry
+                ? ((HasPerformanceEntry) notification).getPerformanceEntry()
+                : null;
+        final ThreadState state = threadState.get();
+        final Run run = new Run(notification, entry, nextSequence.getAndIncrement());
+        state.runs.add(run);
+        state.currentRun = run;
+        final long startNanos = System.nanoTime();
+        try {
+            runner.accept(notification);
+        } finally {
+            run.elapsedNanos = System.nanoTime() - startNanos;
+            state.currentRun = null;
+        }
+    }
+
+    /**
+     * Fold the runs of the cycle that just completed into the critical path estimates of their entries. Must only be
+     * called once no notifications are outstanding.
+     */
+    void completeCycle() {
+        final List<Run> runs = new ArrayList<>();
+        final Map<Notification, Run> runOf = new IdentityHashMap<>();
+        for (final ThreadState state : threadStates) {
+            for (final Run run : state.runs) {
+                runs.add(run);
+                runOf.put(run.notification, run);
+            }
+        }
+        for (final ThreadState state : threadStates) {
+            for (int ei = 0; ei < state.enqueuedChildren.size(); ++ei) {
+                final Run child = runOf.get(state.enqueuedChildren.get(ei));
+                if (child != null && child.parent == null) {
+                    child.parent = state.enqueuedParents.get(ei);
+                }
+            }
+            state.runs.clear();
+            state.enqueuedParents.clear();
+            state.enqueuedChildren.clear();
+        }
+        runs.sort(Comparator.comparingLong(run -> run.sequence));
+
+        // Children always start after their parent, so visiting runs in reverse start order sees each child first
+        for (int ri = runs.size() - 1; ri >= 0; --ri) {
+            final Run run = runs.get(ri);
+            final long pathNanos = run.elapsedNanos + run.longestChildPathNanos;
+            if (run.parent != null) {
+                run.parent.longestChildPathNanos = Math.max(run.parent.longestChildPathNanos, pathNanos);
+            }
+            if (run.entry != null) {
+                final long previous = run.entry.getCriticalPathNanos();
+                run.entry.setCriticalPathNanos(previous == 0
+                        ? pathNanos
+                        : previous + (long) (estimateWeight * (pathNanos - previous)));
+            }
+        }
+    }
+}
@@ -24,10 +24,12 @@ import io.deephaven.util.function.ThrowingRunnable;
 import io.deephaven.util.thread.NamingThreadFactory;
 import io.deephaven.util.thread.ThreadInitializationFactory;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.Random;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -117,6 +119,41 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
      */
     private final int updateThreads;
 
+    public static final String CRITICAL_PATH_SCHEDULING_PROP = "PeriodicUpdateGraph.criticalPathScheduling";
+
+    /**
+     * The weight of the most recent cycle in the estimate of the work downstream of each notification.
+     */
+    private static final double CRITICAL_PATH_ESTIMATE_WEIGHT = Configuration.getInstance()
+            .getDoubleWithDefault("PeriodicUpdateGraph.criticalPathEstimateWeight", 0.25);
+
+    /**
+     * Whether satisfied notifications are dispatched to the update threads in order of the work historically found
+     * downstream of them, rather than in the order they became satisfied. Only relevant with more than one update
+     * thread. Disabled by default: prioritizing costs a timed run per notification and a priority queue insertion per
+     * satisfied notification, which only pays off for graphs with long chains beside many cheap leaves.
+     */
+    private final boolean criticalPathScheduling =
+            Configuration.getInstance().getBooleanWithDefault(CRITICAL_PATH_SCHEDULING_PROP, false);
+
+    public static final String WORK_STEALING_PROP = "PeriodicUpdateGraph.workStealing";
+
+    /**
+     * Whether each update thread has its own deque of satisfied notifications, preferring to run the notifications
+     * enqueued by the listeners it ran and stealing from other threads when idle, rather than all threads sharing one
+     * queue. Only relevant with more than one update thread; critical path scheduling does not apply when enabled.
+     */
+    private final boolean workStealing =
+            Configuration.getInstance().getBooleanWithDefault(WORK_STEALING_PROP, false);
+
+    /**
+     * The number of consecutive update threads that steal from each other before stealing from the rest, or zero for a
+     * single group of all update threads. Setting this to the number of cores per socket keeps stolen work, and the
+     * table data it touches, on one socket where possible.
+     */
+    private final int workStealingLocalityGroupSize = Configuration.getInstance()
+            .getIntegerWithDefault("PeriodicUpdateGraph.workStealingLocalityGroupSize", 0);
+
     private final long minimumInterCycleSleep =
             Configuration.getInstance().getIntegerWithDefault("PeriodicUpdateGraph.minimumInterCycleSleep", 0);
     private final boolean interCycleYield =
@@ -154,7 +191,12 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
         if (updateThreads > 1) {
             final ThreadFactory threadFactory = new NotificationProcessorThreadFactory(
                     new ThreadGroup("PeriodicUpdateGraph-updateExecutors"), "updateExecutor");
-            return new ConcurrentNotificationProcessor(threadFactory, updateThreads);
+            if (workStealing) {
+                return new WorkStealingNotificationProcessor(this, threadFactory, updateThreads,
+                        workStealingLocalityGroupSize);
+            }
+            return new ConcurrentNotificationProcessor(threadFactory, updateThreads,
+                    criticalPathScheduling ? new CriticalPathTracker(CRITICAL_PATH_ESTIMATE_WEIGHT) : null);
         } else {
             return new QueueNotificationProcessor();
         }
@@ -219,6 +261,8 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
             return updateThreads;
         } else if (notificationProcessor instanceof ConcurrentNotificationProcessor) {
             return ((ConcurrentNotificationProcessor) notificationProcessor).threadCount();
+        } else if (notificationProcessor instanceof WorkStealingNotificationProcessor) {
+            return ((WorkStealingNotificationProcessor) notificationProcessor).threadCount();
         } else {
             return 1;
         }
@@ -795,16 +839,50 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
     @TestUseOnly
     public void wakeRefreshThreadForUnitTests() {
         // Pretend we may have added a notification
-        notificationProcessor.onNotificationAdded();
+        notificationProcessor.onNotificationAdded(null);
     }
 
 
+    /**
+     * A satisfied notification, ordered by the estimated work on the longest chain of notifications it starts, and then
+     * by the order it was submitted in.
+     */
+    private static final class PrioritizedNotification implements Comparable<PrioritizedNotification> {
+        private final Notification notification;
+        private final long priority;
+        private final long sequence;
+
+        private PrioritizedNotification(final Notification notification, final long priority, final long sequence) {
+            this.notification = notification;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(@NotNull final PrioritizedNotification other) {
+            final int byPriority = Long.compare(other.priority, priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+
     private class ConcurrentNotificationProcessor implements NotificationProcessor {
 
         private final IntrusiveDoublyLinkedQueue<Notification> satisfiedNotifications =
                 new IntrusiveDoublyLinkedQueue<>(IntrusiveDoublyLinkedNode.Adapter.<Notification>getInstance());
+        /**
+         * Satisfied notifications with a known critical path, which are run before any in
+         * {@link #satisfiedNotifications}. Guarded by {@code satisfiedNotifications}.
+         */
+        private final PriorityQueue<PrioritizedNotification> prioritizedNotifications = new PriorityQueue<>();
+        private long prioritizedSequence;
         private final Thread[] updateThreads;
 
+        /**
+         * Learns the critical path of each cycle, if critical path scheduling is enabled.
+         */
+        @Nullable
+        private final CriticalPathTracker criticalPaths;
+
         private final AtomicInteger outstandingNotifications = new AtomicInteger(0);
         private final Semaphore pendingNormalNotificationsCheckNeeded = new Semaphore(0, false);
 
@@ -813,6 +891,13 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
 
         public ConcurrentNotificationProcessor(@NotNull final ThreadFactory threadFactory,
                 final int updateThreadCount) {
+            this(threadFactory, updateThreadCount, null);
+        }
+
+        public ConcurrentNotificationProcessor(@NotNull final ThreadFactory threadFactory,
+                final int updateThreadCount,
+                @Nullable final CriticalPathTracker criticalPaths) {
+            this.criticalPaths = criticalPaths;
             updateThreads = new Thread[updateThreadCount];
             for (int ti = 0; ti < updateThreadCount; ++ti) {
                 updateThreads[ti] = threadFactory.newThread(this::processSatisfiedNotifications);
@@ -827,7 +912,7 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
             try {
                 while (running) {
                     synchronized (satisfiedNotifications) {
-                        while (running && (satisfiedNotification = satisfiedNotifications.poll()) == null) {
+                        while (running && (satisfiedNotification = pollSatisfied()) == null) {
                             try {
                                 satisfiedNotifications.wait();
                             } catch (InterruptedException ignored) {
@@ -838,7 +923,11 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
                         break;
                     }
 
-                    runNotification(satisfiedNotification);
+                    if (criticalPaths != null && !satisfiedNotification.isTerminal()) {
+                        criticalPaths.run(satisfiedNotification, PeriodicUpdateGraph.this::runNotification);
+                    } else {
+                        runNotification(satisfiedNotification);
+                    }
                     satisfiedNotification = null;
                     outstandingNotifications.decrementAndGet();
                     pendingNormalNotificationsCheckNeeded.release();
@@ -854,11 +943,32 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
             }
         }
 
+        /**
+         * Must be called while holding the lock on {@link #satisfiedNotifications}.
+         */
+        private Notification pollSatisfied() {
+            final PrioritizedNotification prioritized = prioritizedNotifications.poll();
+            return prioritized != null ? prioritized.notification : satisfiedNotifications.poll();
+        }
+
+        /**
+         * Must be called while holding the lock on {@link #satisfiedNotifications}.
+         */
+        private void offerSatisfied(@NotNull final Notification notification) {
+            final long priority = criticalPaths == null ? 0 : CriticalPathTracker.priority(notification);
+            if (priority > 0) {
+                prioritizedNotifications.offer(
+                        new PrioritizedNotification(notification, priority, prioritizedSequence++));
+            } else {
+                satisfiedNotifications.offer(notification);
+            }
+        }
+
         @Override
         public void submit(@NotNull final Notification notification) {
             outstandingNotifications.incrementAndGet();
             synchronized (satisfiedNotifications) {
-                satisfiedNotifications.offer(notification);
+                offerSatisfied(notification);
                 satisfiedNotifications.notify();
             }
         }
@@ -867,7 +977,14 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
         public void submitAll(@NotNull IntrusiveDoublyLinkedQueue<Notification> notifications) {
             outstandingNotifications.addAndGet(notifications.size());
             synchronized (satisfiedNotifications) {
-                satisfiedNotifications.transferAfterTailFrom(notifications);
+                if (criticalPaths == null) {
+                    satisfiedNotifications.transferAfterTailFrom(notifications);
+                } else {
+                    Notification notification;
+                    while ((notification = notifications.poll()) != null) {
+                        offerSatisfied(notification);
+                    }
+                }
                 satisfiedNotifications.notifyAll();
             }
         }
@@ -907,6 +1024,9 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
             // causing this thread to miss a false isHealthy. Since isHealthy is set prior to decrementing
             // outstandingNotificationsCount, we're guaranteed to read the correct value after exiting the while loop.
             Assert.eqTrue(isHealthy, "isHealthy");
+            if (criticalPaths != null) {
+                criticalPaths.completeCycle();
+            }
         }
 
         @Override
@@ -914,6 +1034,7 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
             running = false;
             synchronized (satisfiedNotifications) {
                 satisfiedNotifications.clear();
+                prioritizedNotifications.clear();
                 satisfiedNotifications.notifyAll();
             }
             for (final Thread updateThread : updateThreads) {
@@ -925,7 +1046,10 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
         }
 
         @Override
-        public void onNotificationAdded() {
+        public void onNotificationAdded(@Nullable final Notification notification) {
+            if (criticalPaths != null && notification != null) {
+                criticalPaths.onNotificationAdded(notification);
+            }
             pendingNormalNotificationsCheckNeeded.release();
         }
 
@@ -981,7 +1105,7 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
         }
 
         @Override
-        public void onNotificationAdded() {
+        public void onNotificationAdded(@Nullable final Notification notification) {
             pendingNormalNotificationsCheckNeeded.release();
         }
 
@@ -6,6 +6,7 @@ package io.deephaven.engine.updategraph.impl;
 import io.deephaven.engine.updategraph.NotificationQueue;
 import io.deephaven.util.datastructures.linked.IntrusiveDoublyLinkedQueue;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * The poisoned notification processor is used when an update graph has not yet been started, throwing an
@@ -50,7 +51,7 @@ final class PoisonedNotificationProcessor implements BaseUpdateGraph.Notificatio
     public void shutdown() {}
 
     @Override
-    public void onNotificationAdded() {
+    public void onNotificationAdded(@Nullable final NotificationQueue.Notification notification) {
         throw notYetStarted();
     }
 
@@ -0,0 +1,332 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.updategraph.impl;
+
+import io.deephaven.base.verify.Assert;
+import io.deephaven.engine.table.impl.perf.PerformanceEntry;
+import io.deephaven.engine.updategraph.AbstractNotification;
+import io.deephaven.engine.updategraph.NotificationQueue.Notification;
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import io.deephaven.util.datastructures.linked.IntrusiveDoublyLinkedQueue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link BaseUpdateGraph.NotificationProcessor} that gives each update thread its own deque of satisfied
+ * notifications, rather than sharing a single queue among all of them.
+ * <p>
+ * A notification enqueued by a notification running on an update thread is submitted to that thread's deque, so that a
+ * listener tends to run on the thread that just produced the update to its source table, while that table's data is
+ * still in the thread's caches. A notification that is not satisfied when it is enqueued records the thread that
+ * enqueued it as its {@link AbstractNotification#getUpdateThreadAffinity() affinity}, and is submitted to that thread's
+ * deque once it is satisfied. Other notifications submitted by the refresh thread are distributed round-robin. Each thread
+ * takes the most recently submitted notification from its own deque, and when that is empty steals the oldest
+ * notification from another thread's deque; the threads of its own locality group, if groups are configured, are tried
+ * before the others.
+ * <p>
+ * The time each thread spends running notifications and waiting for work, and the number of notifications it steals,
+ * are recorded in the update performance log under entries named for the thread.
+ */
+final class WorkStealingNotificationProcessor implements BaseUpdateGraph.NotificationProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkStealingNotificationProcessor.class);
+
+    private final class Worker {
+        private final int index;
+        private final Thread thread;
+        /**
+         * Satisfied notifications submitted to this worker. The worker takes from the tail, and thieves from the head.
+         */
+        private final ConcurrentLinkedDeque<Notification> deque = new ConcurrentLinkedDeque<>();
+        /**
+         * The other workers, in the order this worker tries to steal from them.
+         */
+        private Worker[] victims;
+
+        private final AtomicLong busyNanos = new AtomicLong();
+        private final AtomicLong notificationsRun = new AtomicLong();
+        private final AtomicLong idleNanos = new AtomicLong();
+        private final AtomicLong idleWaits = new AtomicLong();
+        private final AtomicLong steals = new AtomicLong();
+
+        private final PerformanceEntry busyEntry;
+        private final PerformanceEntry idleEntry;
+        private final PerformanceEntry stealEntry;
+
+        private Worker(final int index, @NotNull final ThreadFactory threadFactory) {
+            this.index = index;
+            thread = threadFactory.newThread(this::processSatisfiedNotifications);
+            final String prefix = "WorkStealingNotificationProcessor-" + thread.getName();
+            busyEntry = BaseUpdateGraph.createUpdatePerformanceEntry(updateGraph, prefix + ": busy", null);
+            idleEntry = BaseUpdateGraph.createUpdatePerformanceEntry(updateGraph, prefix + ": idle", null);
+            stealEntry = BaseUpdateGraph.createUpdatePerformanceEntry(updateGraph, prefix + ": steals", null);
+        }
+
+        private Notification next() {
+            final Notification own = deque.pollLast();
+            if (own != null) {
+                return own;
+            }
+            for (final Worker victim : victims) {
+                final Notification stolen = victim.deque.pollFirst();
+                if (stolen != null) {
+                    steals.incrementAndGet();
+                    return stolen;
+                }
+            }
+            return null;
+        }
+
+        private void processSatisfiedNotifications() {
+            log.info().append(Thread.currentThread().getName())
+                    .append(": starting to poll for satisfied notifications");
+            currentWorker.set(this);
+            Notification satisfiedNotification = null;
+            try {
+                while (running) {
+                    if ((satisfiedNotification = next()) == null) {
+                        awaitWork();
+                        continue;
+                    }
+                    queuedNotifications.decrementAndGet();
+
+                    final long startNanos = System.nanoTime();
+                    updateGraph.runNotification(satisfiedNotification);
+                    busyNanos.addAndGet(System.nanoTime() - startNanos);
+                    notificationsRun.incrementAndGet();
+
+                    satisfiedNotification = null;
+                    outstandingNotifications.decrementAndGet();
+                    pendingNormalNotificationsCheckNeeded.release();
+                }
+            } finally {
+                if (satisfiedNotification != null) {
+                    // if we were thrown out of the loop; decrement / release after setting the unhealthy flag
+                    isHealthy = false;
+                    outstandingNotifications.decrementAndGet();
+                    pendingNormalNotificationsCheckNeeded.release();
+                }
+                currentWorker.remove();
+                log.info().append(Thread.currentThread().getName()).append(": terminating");
+            }
+        }
+
+        private void awaitWork() {
+            synchronized (idleLock) {
+                if (!running || queuedNotifications.get() != 0) {
+                    // a notification was submitted since we looked, or is being submitted; look again
+                    return;
+                }
+                final long startNanos = System.nanoTime();
+                do {
+                    try {
+                        idleLock.wait();
+                    } catch (InterruptedException ignored) {
+                    }
+                } while (running && queuedNotifications.get() == 0);
+                idleNanos.addAndGet(System.nanoTime() - startNanos);
+                idleWaits.incrementAndGet();
+            }
+        }
+
+        /**
+         * Move this worker's counters into its performance entries. Must be called on the refresh thread, between
+         * cycles, so that it cannot race the update performance tracker's flush.
+         */
+        private void publishCounters() {
+            if (busyEntry != null) {
+                busyEntry.onExternalIntervals(notificationsRun.getAndSet(0), busyNanos.getAndSet(0));
+            }
+            if (idleEntry != null) {
+                idleEntry.onExternalIntervals(idleWaits.getAndSet(0), idleNanos.getAndSet(0));
+            }
+            if (stealEntry != null) {
+                stealEntry.onExternalIntervals(steals.getAndSet(0), 0);
+            }
+        }
+    }
+
+    private final BaseUpdateGraph updateGraph;
+    private final Worker[] workers;
+    private final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+
+    private final AtomicInteger nextRoundRobinWorker = new AtomicInteger(0);
+
+    /**
+     * The number of notifications in the workers' deques, incremented before a notification is offered and decremented
+     * after it is taken. Idle workers wait on {@link #idleLock} until it is positive.
+     */
+    private final AtomicInteger queuedNotifications = new AtomicInteger(0);
+    private final Object idleLock = new Object();
+
+    private final AtomicInteger outstandingNotifications = new AtomicInteger(0);
+    private final Semaphore pendingNormalNotificationsCheckNeeded = new Semaphore(0, false);
+
+    private volatile boolean running = true;
+    private volatile boolean isHealthy = true;
+
+    /**
+     * @param updateGraph the update graph whose notifications are processed
+     * @param threadFactory the factory for update threads
+     * @param updateThreadCount the number of update threads
+     * @param localityGroupSize the number of consecutive update threads that steal from each other before stealing from
+     *        the rest, e.g. the number of cores per socket; zero or less for a single group
+     */
+    WorkStealingNotificationProcessor(
+            @NotNull final BaseUpdateGraph updateGraph,
+            @NotNull final ThreadFactory threadFactory,
+            final int updateThreadCount,
+            final int localityGroupSize) {
+        this.updateGraph = updateGraph;
+        workers = new Worker[updateThreadCount];
+        for (int wi = 0; wi < updateThreadCount; ++wi) {
+            workers[wi] = new Worker(wi, threadFactory);
+        }
+        final int groupSize = localityGroupSize <= 0 ? updateThreadCount : localityGroupSize;
+        for (final Worker worker : workers) {
+            worker.victims = victimOrder(worker.index, updateThreadCount, groupSize);
+        }
+        for (final Worker worker : workers) {
+            worker.thread.start();
+        }
+    }
+
+    private Worker[] victimOrder(final int index, final int numWorkers, final int groupSize) {
+        final Worker[] victims = new Worker[numWorkers - 1];
+        final int groupStart = index - index % groupSize;
+        final int groupEnd = Math.min(groupStart + groupSize, numWorkers);
+        int vi = 0;
+        // our own group first, starting with our neighbor, so that thieves spread out rather than all starting at 0
+        for (int wi = index + 1; wi < groupEnd; ++wi) {
+            victims[vi++] = workers[wi];
+        }
+        for (int wi = groupStart; wi < index; ++wi) {
+            victims[vi++] = workers[wi];
+        }
+        for (int wi = groupEnd; wi < numWorkers; ++wi) {
+            victims[vi++] = workers[wi];
+        }
+        for (int wi = 0; wi < groupStart; ++wi) {
+            victims[vi++] = workers[wi];
+        }
+        return victims;
+    }
+
+    @NotNull
+    private Worker chooseWorker(@NotNull final Notification notification) {
+        if (notification instanceof AbstractNotification) {
+            final AbstractNotification abstractNotification = (AbstractNotification) notification;
+            final int affinity = abstractNotification.getUpdateThreadAffinity();
+            if (affinity >= 0) {
+                abstractNotification.setUpdateThreadAffinity(-1);
+                if (affinity < workers.length) {
+                    return workers[affinity];
+                }
+            }
+        }
+        final Worker current = currentWorker.get();
+        if (current != null) {
+            return current;
+        }
+        return workers[Math.floorMod(nextRoundRobinWorker.getAndIncrement(), workers.length)];
+    }
+
+    private void enqueue(@NotNull final Notification notification) {
+        final Worker worker = chooseWorker(notification);
+        // count the notification first, so that a worker that takes it never sees a negative count
+        queuedNotifications.incrementAndGet();
+        worker.deque.offerLast(notification);
+    }
+
+    @Override
+    public void submit(@NotNull final Notification notification) {
+        outstandingNotifications.incrementAndGet();
+        enqueue(notification);
+        synchronized (idleLock) {
+            idleLock.notify();
+        }
+    }
+
+    @Override
+    public void submitAll(@NotNull final IntrusiveDoublyLinkedQueue<Notification> notifications) {
+        outstandingNotifications.addAndGet(notifications.size());
+        Notification notification;
+        while ((notification = notifications.poll()) != null) {
+            enqueue(notification);
+        }
+        synchronized (idleLock) {
+            idleLock.notifyAll();
+        }
+    }
+
+    @Override
+    public int outstandingNotificationsCount() {
+        return outstandingNotifications.get();
+    }
+
+    @Override
+    public void doWork() {
+        try {
+            pendingNormalNotificationsCheckNeeded.acquire();
+            // if a processing thread exits unexpectedly, propagate an error to the outer refresh thread
+            Assert.eqTrue(isHealthy, "isHealthy");
+        } catch (InterruptedException ignored) {
+        }
+    }
+
+    @Override
+    public void doAllWork() {
+        while (outstandingNotificationsCount() > 0) {
+            doWork();
+        }
+        // See PeriodicUpdateGraph.ConcurrentNotificationProcessor: isHealthy is set prior to decrementing
+        // outstandingNotifications, so we're guaranteed to read the correct value after exiting the while loop.
+        Assert.eqTrue(isHealthy, "isHealthy");
+        for (final Worker worker : workers) {
+            worker.publishCounters();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        running = false;
+        for (final Worker worker : workers) {
+            worker.deque.clear();
+        }
+        synchronized (idleLock) {
+            idleLock.notifyAll();
+        }
+        for (final Worker worker : workers) {
+            try {
+                worker.thread.join();
+            } catch (InterruptedException ignored) {
+            }
+        }
+    }
+
+    @Override
+    public void onNotificationAdded(@Nullable final Notification notification) {
+        final Worker current = currentWorker.get();
+        if (current != null && notification instanceof AbstractNotification) {
+            ((AbstractNotification) notification).setUpdateThreadAffinity(current.index);
+        }
+        pendingNormalNotificationsCheckNeeded.release();
+    }
+
+    @Override
+    public void beforeNotificationsDrained() {
+        pendingNormalNotificationsCheckNeeded.drainPermits();
+    }
+
+    int threadCount() {
+        return workers.length;
+    }
+}
@@ -0,0 +1,139 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl;
+
+import io.deephaven.api.agg.Aggregation;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.test.types.OutOfBandTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static io.deephaven.api.agg.Aggregation.*;
+import static io.deephaven.engine.testutil.TstUtils.assertTableEquals;
+
+/**
+ * Tests that the partitioned parallel initial build of static aggregations produces the same results as a serial build.
+ */
+@Category(OutOfBandTest.class)
+public class QueryTableAggregationParallelTest {
+
+    @Rule
+    public final EngineCleanup base = new EngineCleanup();
+
+    private boolean oldMemoize;
+    private boolean oldForce;
+    private boolean oldDisable;
+    private int oldSegments;
+    private long oldSize;
+
+    @Before
+    public void setUp() throws Exception {
+        // each operation must be recomputed, rather than returning the serial result
+        oldMemoize = QueryTable.setMemoizeResults(false);
+        oldForce = QueryTable.FORCE_PARALLEL_AGGREGATION;
+        oldDisable = QueryTable.DISABLE_PARALLEL_AGGREGATION;
+        oldSegments = QueryTable.PARALLEL_AGGREGATION_SEGMENTS;
+        oldSize = QueryTable.PARALLEL_AGGREGATION_ROWS_PER_SEGMENT;
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        QueryTable.setMemoizeResults(oldMemoize);
+        QueryTable.FORCE_PARALLEL_AGGREGATION = oldForce;
+        QueryTable.DISABLE_PARALLEL_AGGREGATION = oldDisable;
+        QueryTable.PARALLEL_AGGREGATION_SEGMENTS = oldSegments;
+        QueryTable.PARALLEL_AGGREGATION_ROWS_PER_SEGMENT = oldSize;
+    }
+
+    private static Table source(final int size) {
+        return TableTools.emptyTable(size).update(
+                "Key = (int) (i * 7919L % 1013)",
+                "Sym = `S` + (i % 97)",
+                "B = (byte) (i % 100)",
+                "C = (char) ('A' + i % 26)",
+                "S = (short) (i % 1000)",
+                "I = i % 13 == 0 ? NULL_INT : i",
+                "L = ii * 3",
+                "F = i % 11 == 0 ? NULL_FLOAT : (float) i / 7",
+                "D = i % 17 == 0 ? Double.NaN : (double) i / 3",
+                "Str = i % 5 == 0 ? null : `v` + (i % 251)");
+    }
+
+    private void checkParallel(final Table source, final Function<Table, Table> aggregation) {
+        QueryTable.DISABLE_PARALLEL_AGGREGATION = true;
+        final Table serial = aggregation.apply(source);
+
+        QueryTable.DISABLE_PARALLEL_AGGREGATION = false;
+        QueryTable.FORCE_PARALLEL_AGGREGATION = true;
+        for (final int segments : new int[] {2, 3, 4, 7, 16}) {
+            QueryTable.PARALLEL_AGGREGATION_SEGMENTS = segments;
+            assertTableEquals(serial, aggregation.apply(source));
+        }
+    }
+
+    @Test
+    public void testCountBy() {
+        final Table source = source(100_000);
+        checkParallel(source, t -> t.countBy("N", "Key"));
+        checkParallel(source, t -> t.countBy("N", "Sym", "Key"));
+    }
+
+    @Test
+    public void testSumBy() {
+        final Table source = source(100_000);
+        checkParallel(source, t -> t.view("Key", "B", "C", "S", "I", "L").sumBy("Key"));
+    }
+
+    @Test
+    public void testMinMaxBy() {
+        final Table source = source(100_000);
+        checkParallel(source, t -> t.minBy("Sym"));
+        checkParallel(source, t -> t.maxBy("Key"));
+    }
+
+    @Test
+    public void testAggBy() {
+        final Table source = source(100_000);
+        final List<Aggregation> aggregations = List.of(
+                AggCount("N"),
+                AggSum("SumI=I", "SumL=L"),
+                AggMin("MinF=F", "MinStr=Str"),
+                AggMax("MaxD=D", "MaxC=C"));
+        checkParallel(source, t -> t.aggBy(aggregations, "Sym"));
+    }
+
+    @Test
+    public void testUnmergeableOperators() {
+        // floating point sums and averages are not merged, and so are always built serially
+        final Table source = source(10_000);
+        checkParallel(source, t -> t.aggBy(List.of(AggSum("F", "D"), AggAvg("AvgL=L")), "Key"));
+    }
+
+    @Test
+    public void testSmallInputs() {
+        checkParallel(TableTools.emptyTable(0).update("Key = i % 3", "L = ii"), t -> t.sumBy("Key"));
+        checkParallel(TableTools.emptyTable(3).update("Key = i % 3", "L = ii"), t -> t.sumBy("Key"));
+        checkParallel(source(5), t -> t.aggBy(List.of(AggCount("N"), AggMax("L")), "Key"));
+    }
+
+    @Test
+    public void testSegmentDecision() {
+        QueryTable.FORCE_PARALLEL_AGGREGATION = false;
+        QueryTable.PARALLEL_AGGREGATION_SEGMENTS = 4;
+        QueryTable.PARALLEL_AGGREGATION_ROWS_PER_SEGMENT = 10_000;
+        final Table source = source(50_000);
+        QueryTable.DISABLE_PARALLEL_AGGREGATION = true;
+        final Table serial = source.view("Key", "L").sumBy("Key");
+        QueryTable.DISABLE_PARALLEL_AGGREGATION = false;
+        assertTableEquals(serial, source.view("Key", "L").sumBy("Key"));
+    }
+}
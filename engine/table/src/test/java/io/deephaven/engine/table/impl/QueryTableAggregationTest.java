@@ -23,6 +23,7 @@ import io.deephaven.engine.table.impl.perf.UpdatePerformanceTracker;
 import io.deephaven.engine.table.vectors.ColumnVectors;
 import io.deephaven.engine.testutil.QueryTableTestBase.TableComparator;
 import io.deephaven.engine.table.impl.by.*;
+import io.deephaven.engine.table.impl.by.sketch.DDSketchPercentileOperator;
 import io.deephaven.engine.table.impl.select.IncrementalReleaseFilter;
 import io.deephaven.engine.table.impl.select.SelectColumn;
 import io.deephaven.engine.table.impl.select.SelectColumnFactory;
@@ -3123,6 +3124,125 @@ public class QueryTableAggregationTest {
         }
     }
 
+    @Test
+    public void testSketchPercentile() {
+        final int size = 10000;
+        final Random random = new Random(0);
+        final QueryTable queryTable = getTable(false, size, random,
+                initColumnInfos(new String[] {"Sym", "doubleCol", "longCol"},
+                        new SetGenerator<>("a", "b", "c", "d"),
+                        new DoubleGenerator(-1000, 1000, 0.05),
+                        new LongGenerator(0, 1_000_000_000L)));
+
+        final Table sketched = queryTable.aggBy(List.of(
+                AggSketchPct("doubleCol", PctOut(0.25, "D25"), PctOut(0.75, "D75"), PctOut(0.99, "D99")),
+                AggSketchPct(0.5, 0.005, "L50=longCol")), "Sym").sort("Sym");
+        final Table exact = queryTable.aggBy(List.of(
+                AggPct("doubleCol", PctOut(0.25, "D25"), PctOut(0.75, "D75"), PctOut(0.99, "D99")),
+                AggPct(0.5, "L50=longCol")), "Sym").sort("Sym");
+
+        for (final String name : new String[] {"D25", "D75", "D99", "L50"}) {
+            final double[] sketchedValues = ColumnVectors.ofDouble(sketched, name).toArray();
+            final double[] exactValues = ColumnVectors.ofDouble(exact, name).toArray();
+            final double accuracy = name.equals("L50") ? 0.005 : DDSketchPercentileOperator.RELATIVE_ACCURACY_DEFAULT;
+            for (int ii = 0; ii < exactValues.length; ++ii) {
+                assertEquals(name + "[" + ii + "]", exactValues[ii], sketchedValues[ii],
+                        Math.abs(exactValues[ii]) * accuracy);
+            }
+        }
+    }
+
+    @Test
+    public void testSketchPercentileIncremental() {
+        final int size = 1000;
+        final Random random = new Random(0);
+        final ColumnInfo<?, ?>[] columnInfo;
+        final QueryTable queryTable = getTable(size, random,
+                columnInfo = initColumnInfos(new String[] {"Sym", "doubleCol", "intCol"},
+                        new SetGenerator<>("a", "b", "c", "d"),
+                        new DoubleGenerator(-100, 100, 0.05, 0.05),
+                        new IntGenerator(0, 1_000_000)));
+
+        // A sketch depends only on the multiset of values it has seen, so incremental results match a recomputation.
+        final Collection<? extends Aggregation> aggregations = List.of(
+                AggSketchPct("doubleCol", PctOut(0.25, "D25"), PctOut(0.5, "D50"), PctOut(0.99, "D99")),
+                AggSketchPct("intCol", 0.005, PctOut(0.95, "I95")));
+
+        final EvalNuggetInterface[] en = new EvalNuggetInterface[] {
+                EvalNugget.from(() -> queryTable.aggBy(aggregations)),
+                EvalNugget.from(() -> queryTable.aggBy(aggregations, "Sym").sort("Sym")),
+        };
+
+        for (int step = 0; step < 100; step++) {
+            RefreshingTableTestCase.simulateShiftAwareStep(size, random, queryTable, columnInfo, en);
+        }
+    }
+
+    @Test
+    public void testApproxCountDistinct() {
+        final int size = 100_000;
+        final Random random = new Random(0);
+        final QueryTable queryTable = getTable(false, size, random,
+                initColumnInfos(new String[] {"Sym", "intCol", "doubleCol", "strCol"},
+                        new SetGenerator<>("a", "b", "c", "d"),
+                        new IntGenerator(0, 1_000_000, 0.01),
+                        new DoubleGenerator(0, 1000, 0.01),
+                        new SetGenerator<>("p", "q", "r", "s", "t")));
+
+        final Table approx = queryTable.aggBy(List.of(
+                AggApproxCountDistinct("I=intCol", "S=strCol"),
+                AggApproxCountDistinct(14, "D=doubleCol")), "Sym").sort("Sym");
+        final Table exact = queryTable.aggBy(List.of(
+                AggCountDistinct("I=intCol", "S=strCol"),
+                AggCountDistinct("D=doubleCol")), "Sym").sort("Sym");
+
+        for (final String name : new String[] {"I", "D", "S"}) {
+            final long[] approxValues = ColumnVectors.ofLong(approx, name).toArray();
+            final long[] exactValues = ColumnVectors.ofLong(exact, name).toArray();
+            // Four standard errors
+            final double tolerance = 4 * 1.04 / Math.sqrt(1 << (name.equals("D") ? 14 : 12));
+            for (int ii = 0; ii < exactValues.length; ++ii) {
+                assertEquals(name + "[" + ii + "]", exactValues[ii], approxValues[ii],
+                        Math.max(1, exactValues[ii] * tolerance));
+            }
+        }
+    }
+
+    @Test
+    public void testApproxCountDistinctAddOnly() {
+        final int size = 1000;
+        final Random random = new Random(0);
+        final ColumnInfo<?, ?>[] columnInfo;
+        final QueryTable queryTable = setAddOnly(getTable(size, random,
+                columnInfo = initColumnInfos(new String[] {"Sym", "intCol", "doubleCol"},
+                        new SetGenerator<>("a", "b", "c", "d"),
+                        new IntGenerator(0, 100_000, 0.1),
+                        new SetGenerator<>(10.1, 20.1, 30.1, -0.0, 0.0, Double.NaN))));
+
+        // Registers depend only on the set of values offered, so incremental results match a recomputation.
+        final Collection<? extends Aggregation> aggregations = List.of(
+                AggApproxCountDistinct("I=intCol", "D=doubleCol"),
+                AggApproxCountDistinct(16, "IFine=intCol"));
+
+        final EvalNuggetInterface[] en = new EvalNuggetInterface[] {
+                EvalNugget.from(() -> queryTable.aggBy(aggregations)),
+                EvalNugget.from(() -> queryTable.aggBy(aggregations, "Sym").sort("Sym")),
+        };
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        for (int step = 0; step < 50; step++) {
+            updateGraph.runWithinUnitTestCycle(() -> {
+                final RowSet keysToAdd = newIndex(random.nextInt(size / 2 + 1), queryTable.getRowSet(), random);
+                final ColumnHolder<?>[] columnAdditions = new ColumnHolder[columnInfo.length];
+                for (int column = 0; column < columnAdditions.length; column++) {
+                    columnAdditions[column] = columnInfo[column].generateUpdateColumnHolder(keysToAdd, random);
+                }
+                addToTable(queryTable, keysToAdd, columnAdditions);
+                queryTable.notifyListeners(keysToAdd, i(), i());
+            });
+            validate("step = " + step, en);
+        }
+    }
+
     @Test
     public void testMedianTypes() {
         final Boolean[] booleans = new Boolean[] {null, false, true};
@@ -0,0 +1,119 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl;
+
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.test.types.OutOfBandTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static io.deephaven.engine.testutil.TstUtils.assertTableEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that sorts which spill sorted runs to disk produce the same result as an in-memory sort.
+ */
+@Category(OutOfBandTest.class)
+public class QueryTableExternalSortTest {
+
+    @Rule
+    public final EngineCleanup rule = new EngineCleanup();
+
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private boolean oldMemoize;
+    private boolean oldExternalSort;
+    private long oldMemoryBudget;
+    private String oldDirectory;
+
+    @Before
+    public void setUp() {
+        // each operation must be recomputed, rather than returning the in-memory result
+        oldMemoize = QueryTable.setMemoizeResults(false);
+        oldExternalSort = SortHelpers.EXTERNAL_SORT;
+        oldMemoryBudget = SortHelpers.externalSortMemoryBudget;
+        oldDirectory = SortHelpers.externalSortDirectory;
+        SortHelpers.externalSortDirectory = tempFolder.getRoot().getAbsolutePath();
+    }
+
+    @After
+    public void tearDown() {
+        QueryTable.setMemoizeResults(oldMemoize);
+        SortHelpers.EXTERNAL_SORT = oldExternalSort;
+        SortHelpers.externalSortMemoryBudget = oldMemoryBudget;
+        SortHelpers.externalSortDirectory = oldDirectory;
+    }
+
+    private static Table source(final int size) {
+        return TableTools.emptyTable(size).update(
+                "B = i % 37 == 0 ? NULL_BYTE : (byte) (i % 7)",
+                "C = i % 31 == 0 ? NULL_CHAR : (char) ('A' + i % 26)",
+                "S = (short) (i * 13 % 1000)",
+                "I = i % 11 == 0 ? NULL_INT : (int) (i * 7919L % 5003) - 2500",
+                "L = i % 41 == 0 ? NULL_LONG : ii * 104729 % 1000003 - 500000",
+                "F = i % 17 == 0 ? Float.NaN : i % 43 == 0 ? NULL_FLOAT : i % 47 == 0 ? -0.0f : (float) (i % 101) / -3",
+                "D = i % 19 == 0 ? NULL_DOUBLE : i % 53 == 0 ? Double.NEGATIVE_INFINITY : (double) (i % 997) / 7 - 70",
+                "T = i % 29 == 0 ? null : epochNanosToInstant(1_700_000_000_000_000_000L + (i % 307))",
+                "Bool = i % 3 == 0 ? null : i % 2 == 0",
+                "Str = `s` + (i % 409)",
+                "Sentinel = i");
+    }
+
+    private void checkExternal(final Table source, final Function<Table, Table> sort) {
+        SortHelpers.EXTERNAL_SORT = false;
+        final Table inMemory = sort.apply(source);
+
+        SortHelpers.EXTERNAL_SORT = true;
+        // budgets that produce many runs, a few runs, and a single run
+        for (final long rowsPerRun : new long[] {1, 997, 10_000, 100_000}) {
+            SortHelpers.externalSortMemoryBudget = rowsPerRun * ExternalSortHelper.IN_MEMORY_BYTES_PER_ROW - 1;
+            assertTableEquals(inMemory, sort.apply(source));
+        }
+    }
+
+    @Test
+    public void testSortOne() {
+        final Table source = source(20_000);
+        for (final String column : List.of("B", "C", "S", "I", "L", "F", "D", "T", "Bool")) {
+            checkExternal(source, t -> t.sort(column));
+            checkExternal(source, t -> t.sortDescending(column));
+        }
+    }
+
+    @Test
+    public void testSparseSource() {
+        final Table source = source(30_000).where("Sentinel % 3 != 0");
+        checkExternal(source, t -> t.sort("L"));
+        checkExternal(source, t -> t.sortDescending("D"));
+    }
+
+    @Test
+    public void testUnsupportedSorts() {
+        // objects and multiple columns are always sorted in memory
+        final Table source = source(10_000);
+        checkExternal(source, t -> t.sort("Str"));
+        checkExternal(source, t -> t.sort("I", "L"));
+    }
+
+    @Test
+    public void testTemporaryFilesRemoved() {
+        SortHelpers.EXTERNAL_SORT = true;
+        SortHelpers.externalSortMemoryBudget = 1000L * ExternalSortHelper.IN_MEMORY_BYTES_PER_ROW;
+        final Table sorted = source(20_000).sort("L");
+        assertEquals(20_000, sorted.size());
+        assertEquals(0, Objects.requireNonNull(tempFolder.getRoot().listFiles(File::isFile)).length);
+    }
+}
@@ -2526,4 +2526,136 @@ public class QueryTableNaturalJoinTest extends QueryTableTestBase {
 
         listener.close();
     }
+
+    private static JoinControl probeSegmentsControl(final int segments) {
+        return new JoinControl() {
+            @Override
+            int staticProbeSegments(long probeSize) {
+                return segments;
+            }
+        };
+    }
+
+    private static Table naturalJoinWithSegments(
+            final QueryTable left,
+            final QueryTable right,
+            final NaturalJoinType joinType,
+            final int segments) {
+        return NaturalJoinHelper.naturalJoin(left, right,
+                MatchPairFactory.getExpressions("Key"),
+                MatchPairFactory.getExpressions("RightSentinel"),
+                joinType, probeSegmentsControl(segments));
+    }
+
+    public void testNaturalJoinStaticParallelProbe() {
+        final QueryTable right = (QueryTable) emptyTable(500).update("Key = i * 3", "RightSentinel = ii");
+        final QueryTable left = (QueryTable) emptyTable(20_000).update(
+                "Key = (int) (i * 7919L % 2000)", "LeftSentinel = i");
+        final QueryTable sparseLeft = (QueryTable) left.where("LeftSentinel % 3 != 1");
+        final QueryTable refreshingLeft = testRefreshingTable(RowSetFactory.flat(20_000).toTracking(),
+                intCol("Key", IntStream.range(0, 20_000).map(ii -> (int) (ii * 7919L % 2000)).toArray()),
+                intCol("LeftSentinel", IntStream.range(0, 20_000).toArray()));
+
+        for (final QueryTable lhs : List.of(left, sparseLeft, refreshingLeft)) {
+            final Table expected = naturalJoinWithSegments(lhs, right, NaturalJoinType.ERROR_ON_DUPLICATE, 1);
+            for (final int segments : new int[] {2, 3, 8, 64}) {
+                assertTableEquals(expected,
+                        naturalJoinWithSegments(lhs, right, NaturalJoinType.ERROR_ON_DUPLICATE, segments));
+            }
+        }
+
+        // every left key is present on the right
+        final QueryTable exactLeft = (QueryTable) left.update("Key = Key - Key % 3");
+        final Table expectedExact = naturalJoinWithSegments(exactLeft, right, NaturalJoinType.EXACTLY_ONE_MATCH, 1);
+        assertTableEquals(expectedExact,
+                naturalJoinWithSegments(exactLeft, right, NaturalJoinType.EXACTLY_ONE_MATCH, 4));
+    }
+
+    public void testNaturalJoinStaticParallelProbeErrors() {
+        final QueryTable right = (QueryTable) emptyTable(500).update("Key = i * 3", "RightSentinel = ii");
+        final QueryTable left = (QueryTable) emptyTable(20_000).update(
+                "Key = (int) (i * 7919L % 2000)", "LeftSentinel = i");
+
+        try {
+            naturalJoinWithSegments(left, right, NaturalJoinType.EXACTLY_ONE_MATCH, 4);
+            fail("Expected exception");
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage().startsWith("Tables don't have one-to-one mapping - no mappings for key "));
+        }
+
+        final QueryTable duplicateRight = (QueryTable) merge(right, right.where("Key = 300"));
+        try {
+            naturalJoinWithSegments(left, duplicateRight, NaturalJoinType.ERROR_ON_DUPLICATE, 4);
+            fail("Expected exception");
+        } catch (IllegalStateException e) {
+            assertEquals(dupMsg + 300, e.getMessage());
+        }
+    }
+
+    private static Table naturalJoinWithBuildPartitions(
+            final QueryTable left,
+            final QueryTable right,
+            final String keys,
+            final NaturalJoinType joinType,
+            final int partitions) {
+        return NaturalJoinHelper.naturalJoin(left, right,
+                MatchPairFactory.getExpressions(keys.split(",")),
+                MatchPairFactory.getExpressions("RightSentinel"),
+                joinType, new JoinControl() {
+                    @Override
+                    int initialBuildSize() {
+                        // nearly full, so that probes frequently run past the end of a partition
+                        return 8192;
+                    }
+
+                    @Override
+                    boolean useUniqueTable(boolean uniqueValues, long maximumUniqueValue, long minimumUniqueValue) {
+                        return false;
+                    }
+
+                    @Override
+                    int staticProbeSegments(long probeSize) {
+                        return 1;
+                    }
+
+                    @Override
+                    int staticBuildPartitions(long buildSize) {
+                        return partitions;
+                    }
+                });
+    }
+
+    public void testNaturalJoinStaticPartitionedBuild() {
+        final QueryTable right = (QueryTable) emptyTable(6_000).update(
+                "Key = (int) (i * 7919L % 5000)", "Key2 = Key % 7 == 0 ? null : `S` + (Key % 5)", "RightSentinel = ii");
+        final QueryTable left = (QueryTable) emptyTable(10_000).update(
+                "Key = (int) (i * 104729L % 4000)", "Key2 = Key % 7 == 0 ? null : `S` + (Key % 5)", "LeftSentinel = i");
+        final QueryTable sparseRight = (QueryTable) right.where("RightSentinel % 3 != 1");
+
+        for (final QueryTable rhs : List.of(right, sparseRight)) {
+            for (final String keys : List.of("Key", "Key,Key2")) {
+                for (final NaturalJoinType joinType : List.of(NaturalJoinType.FIRST_MATCH,
+                        NaturalJoinType.LAST_MATCH)) {
+                    final Table expected = naturalJoinWithBuildPartitions(left, rhs, keys, joinType, 1);
+                    for (final int partitions : new int[] {2, 3, 8, 64, 1024}) {
+                        assertTableEquals(expected,
+                                naturalJoinWithBuildPartitions(left, rhs, keys, joinType, partitions));
+                    }
+                }
+            }
+        }
+
+        final QueryTable uniqueRight = (QueryTable) right.firstBy("Key").view("Key", "RightSentinel");
+        final Table expectedUnique =
+                naturalJoinWithBuildPartitions(left, uniqueRight, "Key", NaturalJoinType.ERROR_ON_DUPLICATE, 1);
+        assertTableEquals(expectedUnique,
+                naturalJoinWithBuildPartitions(left, uniqueRight, "Key", NaturalJoinType.ERROR_ON_DUPLICATE, 16));
+
+        try {
+            naturalJoinWithBuildPartitions(left, right, "Key", NaturalJoinType.ERROR_ON_DUPLICATE, 16);
+            fail("Expected exception");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().startsWith(dupMsg));
+        }
+    }
 }
@@ -0,0 +1,176 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl;
+
+import io.deephaven.engine.liveness.LivenessScopeStack;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.sources.offheap.AbstractOffHeapArraySource;
+import io.deephaven.engine.table.impl.sources.offheap.OffHeapArraySources;
+import io.deephaven.engine.testutil.ColumnInfo;
+import io.deephaven.engine.testutil.EvalNugget;
+import io.deephaven.engine.testutil.EvalNuggetInterface;
+import io.deephaven.engine.testutil.generator.DoubleGenerator;
+import io.deephaven.engine.testutil.generator.IntGenerator;
+import io.deephaven.engine.testutil.generator.SetGenerator;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.testutil.testcase.RefreshingTableTestCase;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.util.SafeCloseable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Objects;
+import java.util.Random;
+
+import static io.deephaven.engine.testutil.TstUtils.assertTableEquals;
+import static io.deephaven.engine.testutil.TstUtils.getTable;
+import static io.deephaven.engine.testutil.TstUtils.initColumnInfos;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that select and update produce the same results when their primitive columns are stored off-heap.
+ */
+public class QueryTableOffHeapSelectTest {
+
+    @Rule
+    public final EngineCleanup base = new EngineCleanup();
+
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private boolean oldMemoize;
+    private boolean oldEnabled;
+    private String oldDirectory;
+    private boolean oldRedirectSelect;
+    private boolean oldRedirectUpdate;
+
+    @Before
+    public void setUp() {
+        oldMemoize = QueryTable.setMemoizeResults(false);
+        oldEnabled = OffHeapArraySources.ENABLED;
+        oldDirectory = OffHeapArraySources.MAPPED_DIRECTORY;
+        oldRedirectSelect = QueryTable.USE_REDIRECTED_COLUMNS_FOR_SELECT;
+        oldRedirectUpdate = QueryTable.USE_REDIRECTED_COLUMNS_FOR_UPDATE;
+    }
+
+    @After
+    public void tearDown() {
+        QueryTable.setMemoizeResults(oldMemoize);
+        OffHeapArraySources.ENABLED = oldEnabled;
+        OffHeapArraySources.MAPPED_DIRECTORY = oldDirectory;
+        QueryTable.USE_REDIRECTED_COLUMNS_FOR_SELECT = oldRedirectSelect;
+        QueryTable.USE_REDIRECTED_COLUMNS_FOR_UPDATE = oldRedirectUpdate;
+    }
+
+    private static Table source(final int size) {
+        return TableTools.emptyTable(size).update(
+                "B = i % 37 == 0 ? NULL_BYTE : (byte) (i % 7)",
+                "C = i % 31 == 0 ? NULL_CHAR : (char) ('A' + i % 26)",
+                "S = (short) (i * 13 % 1000)",
+                "I = i % 11 == 0 ? NULL_INT : i",
+                "L = ii * 104729",
+                "F = i % 43 == 0 ? NULL_FLOAT : (float) i / 3",
+                "D = i % 19 == 0 ? Double.NaN : (double) i / 7",
+                "Str = `s` + (i % 409)");
+    }
+
+    @Test
+    public void testStaticSelect() {
+        final Table source = source(200_000);
+        final Table sparse = source.where("I % 3 != 0");
+
+        OffHeapArraySources.ENABLED = false;
+        final Table onHeap = source.select();
+        final Table sparseOnHeap = sparse.select();
+
+        OffHeapArraySources.ENABLED = true;
+        final Table offHeap = source.select();
+        assertTrue(offHeap.getColumnSource("L") instanceof AbstractOffHeapArraySource);
+        assertFalse(offHeap.getColumnSource("Str") instanceof AbstractOffHeapArraySource);
+        assertTableEquals(onHeap, offHeap);
+        assertTableEquals(sparseOnHeap, sparse.select());
+
+        QueryTable.USE_REDIRECTED_COLUMNS_FOR_SELECT = true;
+        assertTableEquals(sparseOnHeap, sparse.select());
+
+        OffHeapArraySources.MAPPED_DIRECTORY = tempFolder.getRoot().getAbsolutePath();
+        assertTableEquals(onHeap, source.select());
+    }
+
+    @Test
+    public void testIncrementalRedirected() {
+        OffHeapArraySources.ENABLED = true;
+        QueryTable.USE_REDIRECTED_COLUMNS_FOR_SELECT = true;
+        QueryTable.USE_REDIRECTED_COLUMNS_FOR_UPDATE = true;
+
+        final Random random = new Random(0);
+        final ColumnInfo<?, ?>[] columnInfo;
+        final int size = 50;
+        final QueryTable queryTable = getTable(size, random,
+                columnInfo = initColumnInfos(new String[] {"Sym", "intCol", "doubleCol"},
+                        new SetGenerator<>("a", "b", "c", "d", "e"),
+                        new IntGenerator(10, 100),
+                        new DoubleGenerator(0, 100)));
+
+        final EvalNuggetInterface[] en = new EvalNuggetInterface[] {
+                EvalNugget.from(() -> queryTable.update("newCol = intCol * 2L", "newCol2 = (float) doubleCol")),
+                EvalNugget.from(() -> queryTable.select("Sym", "intCol = intCol + 1", "C = (char) ('A' + intCol)")),
+                EvalNugget.from(() -> queryTable.sort("intCol").update("S = (short) intCol", "B = (byte) intCol")),
+        };
+
+        for (int step = 0; step < 100; ++step) {
+            RefreshingTableTestCase.simulateShiftAwareStep(size, random, queryTable, columnInfo, en);
+        }
+    }
+
+    @Test
+    public void testDerivedTablesReadableAfterRelease() {
+        OffHeapArraySources.ENABLED = true;
+        OffHeapArraySources.MAPPED_DIRECTORY = tempFolder.getRoot().getAbsolutePath();
+
+        final Table source = source(100_000);
+        OffHeapArraySources.ENABLED = false;
+        final Table expected = source.select("L2 = L + 1", "D2 = D * 2").where("L2 % 3 == 0").view("L2", "D3 = D2");
+        OffHeapArraySources.ENABLED = true;
+
+        final Table derived;
+        try (final SafeCloseable ignored = LivenessScopeStack.open()) {
+            final Table result = source.select("L2 = L + 1", "D2 = D * 2");
+            assertTrue(result.getColumnSource("L2") instanceof AbstractOffHeapArraySource);
+            derived = result.where("L2 % 3 == 0").view("L2", "D3 = D2");
+            // the derived table shares the result's sources, so releasing the result must not free their storage
+            result.releaseCachedResources();
+        }
+        assertTableEquals(expected, derived);
+        assertEquals(2, mappedFileCount());
+    }
+
+    @Test
+    public void testMappedFilesDeletedWhenUnreachable() throws InterruptedException {
+        OffHeapArraySources.ENABLED = true;
+        OffHeapArraySources.MAPPED_DIRECTORY = tempFolder.getRoot().getAbsolutePath();
+
+        final Table source = source(1_000);
+        try (final SafeCloseable ignored = LivenessScopeStack.open()) {
+            final Table result = source.select("L2 = L + 1", "D2 = D * 2");
+            assertEquals(source.getColumnSource("L").getLong(17) + 1, result.getColumnSource("L2").getLong(17));
+            assertEquals(2, mappedFileCount());
+        }
+        for (int ii = 0; ii < 20 && mappedFileCount() != 0; ++ii) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        assertEquals(0, mappedFileCount());
+    }
+
+    private int mappedFileCount() {
+        return Objects.requireNonNull(tempFolder.getRoot().listFiles(File::isFile)).length;
+    }
+}
@@ -0,0 +1,108 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl;
+
+import io.deephaven.api.ColumnName;
+import io.deephaven.api.SortColumn;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.test.types.OutOfBandTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static io.deephaven.engine.testutil.TstUtils.assertTableEquals;
+
+/**
+ * Tests that sorting contiguous segments in parallel and merging them produces the same result as a serial sort.
+ */
+@Category(OutOfBandTest.class)
+public class QueryTableParallelSortTest {
+
+    @Rule
+    public final EngineCleanup rule = new EngineCleanup();
+
+    private boolean oldMemoize;
+    private boolean oldParallelSort;
+    private long oldRowsPerSegment;
+
+    @Before
+    public void setUp() {
+        // each operation must be recomputed, rather than returning the serial result
+        oldMemoize = QueryTable.setMemoizeResults(false);
+        oldParallelSort = SortHelpers.PARALLEL_SORT;
+        oldRowsPerSegment = SortHelpers.parallelSortRowsPerSegment;
+    }
+
+    @After
+    public void tearDown() {
+        QueryTable.setMemoizeResults(oldMemoize);
+        SortHelpers.PARALLEL_SORT = oldParallelSort;
+        SortHelpers.parallelSortRowsPerSegment = oldRowsPerSegment;
+    }
+
+    private static Table source(final int size) {
+        return TableTools.emptyTable(size).update(
+                "B = (byte) (i % 7)",
+                "C = i % 31 == 0 ? NULL_CHAR : (char) ('A' + i % 26)",
+                "S = (short) (i * 13 % 1000)",
+                "I = i % 11 == 0 ? NULL_INT : (int) (i * 7919L % 5003)",
+                "L = ii * 104729 % 1000003",
+                "F = i % 17 == 0 ? Float.NaN : (float) (i % 101) / 3",
+                "D = i % 19 == 0 ? NULL_DOUBLE : (double) (i % 997) / 7",
+                "Str = i % 23 == 0 ? null : `s` + (i % 409)",
+                "T = i % 29 == 0 ? null : epochNanosToInstant(1_700_000_000_000_000_000L + (i % 307))",
+                "Sentinel = i");
+    }
+
+    private void checkParallel(final Table source, final Function<Table, Table> sort) {
+        SortHelpers.PARALLEL_SORT = false;
+        final Table serial = sort.apply(source);
+
+        SortHelpers.PARALLEL_SORT = true;
+        for (final long rowsPerSegment : new long[] {1, 1_000, 7_777, 25_000}) {
+            SortHelpers.parallelSortRowsPerSegment = rowsPerSegment;
+            assertTableEquals(serial, sort.apply(source));
+        }
+    }
+
+    @Test
+    public void testSortOne() {
+        final Table source = source(50_000);
+        for (final String column : List.of("B", "C", "S", "I", "L", "F", "D", "Str", "T")) {
+            checkParallel(source, t -> t.sort(column));
+            checkParallel(source, t -> t.sortDescending(column));
+        }
+    }
+
+    @Test
+    public void testSortMulti() {
+        final Table source = source(50_000);
+        checkParallel(source, t -> t.sort("T", "Str"));
+        checkParallel(source, t -> t.sort("I", "D", "L"));
+        checkParallel(source, t -> t.sort(List.of(
+                SortColumn.desc(ColumnName.of("Str")),
+                SortColumn.asc(ColumnName.of("F")))));
+    }
+
+    @Test
+    public void testSparseSource() {
+        final Table source = source(60_000).where("Sentinel % 3 != 0");
+        checkParallel(source, t -> t.sort("L"));
+        checkParallel(source, t -> t.sort("Str", "Sentinel"));
+    }
+
+    @Test
+    public void testSmallSorts() {
+        checkParallel(source(0), t -> t.sort("L"));
+        checkParallel(source(1), t -> t.sort("L"));
+        checkParallel(source(5), t -> t.sort("D", "L"));
+    }
+}
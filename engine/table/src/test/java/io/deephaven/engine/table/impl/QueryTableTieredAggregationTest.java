@@ -0,0 +1,148 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl;
+
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.liveness.LivenessScopeStack;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.by.IncrementalChunkedOperatorAggregationStateManagerOpenAddressedBase;
+import io.deephaven.engine.testutil.ColumnInfo;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.EvalNugget;
+import io.deephaven.engine.testutil.EvalNuggetInterface;
+import io.deephaven.engine.testutil.generator.DoubleGenerator;
+import io.deephaven.engine.testutil.generator.IntGenerator;
+import io.deephaven.engine.testutil.generator.SetGenerator;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.testutil.testcase.RefreshingTableTestCase;
+import io.deephaven.util.SafeCloseable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Objects;
+import java.util.Random;
+
+import static io.deephaven.engine.testutil.TstUtils.addToTable;
+import static io.deephaven.engine.testutil.TstUtils.assertTableEquals;
+import static io.deephaven.engine.testutil.TstUtils.getTable;
+import static io.deephaven.engine.testutil.TstUtils.i;
+import static io.deephaven.engine.testutil.TstUtils.initColumnInfos;
+import static io.deephaven.engine.testutil.TstUtils.testRefreshingTable;
+import static io.deephaven.engine.util.TableTools.col;
+import static io.deephaven.engine.util.TableTools.intCol;
+import static io.deephaven.engine.util.TableTools.longCol;
+import static io.deephaven.engine.util.TableTools.newTable;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that incremental aggregations produce correct results when their state spills to disk.
+ */
+public class QueryTableTieredAggregationTest {
+
+    @Rule
+    public final EngineCleanup base = new EngineCleanup();
+
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private boolean oldMemoize;
+    private int oldHotBlocks;
+    private String oldDirectory;
+
+    @Before
+    public void setUp() {
+        oldMemoize = QueryTable.setMemoizeResults(false);
+        oldHotBlocks = IncrementalChunkedOperatorAggregationStateManagerOpenAddressedBase.TIERED_STATE_HOT_BLOCKS;
+        oldDirectory = IncrementalChunkedOperatorAggregationStateManagerOpenAddressedBase.TIERED_STATE_DIRECTORY;
+    }
+
+    @After
+    public void tearDown() {
+        QueryTable.setMemoizeResults(oldMemoize);
+        IncrementalChunkedOperatorAggregationStateManagerOpenAddressedBase.TIERED_STATE_HOT_BLOCKS = oldHotBlocks;
+        IncrementalChunkedOperatorAggregationStateManagerOpenAddressedBase.TIERED_STATE_DIRECTORY = oldDirectory;
+    }
+
+    private void enableTieredState() {
+        // a single hot block forces output positions and counts beyond the first block to be spilled
+        IncrementalChunkedOperatorAggregationStateManagerOpenAddressedBase.TIERED_STATE_HOT_BLOCKS = 1;
+        IncrementalChunkedOperatorAggregationStateManagerOpenAddressedBase.TIERED_STATE_DIRECTORY =
+                tempFolder.getRoot().getAbsolutePath();
+    }
+
+    private int slabFileCount() {
+        return Objects.requireNonNull(tempFolder.getRoot().listFiles()).length;
+    }
+
+    @Test
+    public void testIncrementalAggregation() {
+        enableTieredState();
+
+        final Random random = new Random(0);
+        final ColumnInfo<?, ?>[] columnInfo;
+        final int size = 10_000;
+        final QueryTable queryTable = getTable(size, random,
+                columnInfo = initColumnInfos(new String[] {"Sym", "intCol", "doubleCol"},
+                        new SetGenerator<>("a", "b", "c", "d", "e"),
+                        new IntGenerator(0, 20_000),
+                        new DoubleGenerator(0, 100)));
+
+        final EvalNuggetInterface[] en = new EvalNuggetInterface[] {
+                EvalNugget.from(() -> queryTable.sumBy("intCol")),
+                EvalNugget.from(() -> queryTable.countBy("Count", "Sym", "intCol")),
+                EvalNugget.from(() -> queryTable.groupBy("intCol").sort("intCol")),
+        };
+
+        for (int step = 0; step < 20; ++step) {
+            RefreshingTableTestCase.simulateShiftAwareStep(size / 10, random, queryTable, columnInfo, en);
+        }
+    }
+
+    @Test
+    public void testReleaseKeepsState() {
+        enableTieredState();
+        final QueryTable source = testRefreshingTable(i(2, 4, 6).toTracking(),
+                col("Sym", "a", "b", "a"), intCol("intCol", 1, 2, 3));
+        final Table result = source.countBy("Count", "Sym");
+        final Table filtered = result.where("Count > 0");
+        // the output position redirection and the counts each spill to their own file
+        assertEquals(2, slabFileCount());
+
+        // the result and the tables derived from it still use the state after their cached resources are released
+        result.releaseCachedResources();
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        updateGraph.runWithinUnitTestCycle(() -> {
+            addToTable(source, i(8, 10), col("Sym", "b", "c"), intCol("intCol", 4, 5));
+            source.notifyListeners(i(8, 10), i(), i());
+        });
+        assertTableEquals(newTable(col("Sym", "a", "b", "c"), longCol("Count", 2, 2, 1)), filtered);
+        assertEquals(2, slabFileCount());
+    }
+
+    @Test
+    public void testSlabFilesDeletedWhenUnreachable() throws InterruptedException {
+        enableTieredState();
+        final QueryTable source = testRefreshingTable(i(2, 4, 6).toTracking(),
+                col("Sym", "a", "b", "a"), intCol("intCol", 1, 2, 3));
+
+        try (final SafeCloseable ignored = LivenessScopeStack.open()) {
+            final Table result = source.countBy("Count", "Sym");
+            assertEquals(2, result.size());
+            assertEquals(2, slabFileCount());
+        }
+        for (int ii = 0; ii < 20 && slabFileCount() != 0; ++ii) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        assertEquals(0, slabFileCount());
+
+        // a static aggregation keeps its state on the heap
+        final Table staticResult = source.snapshot().countBy("Count", "Sym");
+        assertEquals(2, staticResult.size());
+        assertEquals(0, slabFileCount());
+    }
+}
@@ -14,6 +14,7 @@ import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.TableUpdate;
 import io.deephaven.engine.table.hierarchical.HierarchicalTable;
 import io.deephaven.engine.table.hierarchical.RollupTable;
+import io.deephaven.engine.table.impl.by.ChunkedOperatorAggregationHelper;
 import io.deephaven.engine.table.impl.util.ColumnHolder;
 import io.deephaven.engine.testutil.*;
 import io.deephaven.engine.testutil.generator.IntGenerator;
@@ -69,6 +70,7 @@ public class TestRollupTable extends RefreshingTableTestCase {
             AggLast("last=intCol"),
             AggMax("max=intCol"),
             AggMin("min=intCol"),
+            AggSketchPct(0.75, "sketchPct=intCol"),
             AggSortedFirst("Sym", "firstSorted=intCol"),
             AggSortedLast("Sym", "lastSorted=intCol"),
             AggStd("std=intCol"),
@@ -91,6 +93,7 @@ public class TestRollupTable extends RefreshingTableTestCase {
             "last",
             "max",
             "min",
+            "sketchPct",
             "firstSorted",
             "lastSorted",
             "std",
@@ -153,6 +156,9 @@ public class TestRollupTable extends RefreshingTableTestCase {
     // testRollupGroupWithUpstreamShift for what those used to break.
     private static final int INCREMENTAL_TABLE_SIZE = 10_000;
 
+    // Enough rows to snapshot every node of the rollups these tests expand, which have at most two key columns
+    private static final int SNAPSHOT_ROWS = 1_000;
+
     /**
      * Perform a large table test, comparing the rollup table root to the zero-key equivalent table, incorporating all
      * supported aggregations.
@@ -283,6 +289,78 @@ public class TestRollupTable extends RefreshingTableTestCase {
         }
     }
 
+    /**
+     * Compare every level of a rollup built with {@link ChunkedOperatorAggregationHelper#REMEMBER_INPUT_ROW_STATES} to
+     * one built without it, under incremental updates. The re-aggregated levels remember the state of each row of the
+     * level below, so this checks that the remembered states stay right as the source shifts and modifies both its keys
+     * and its values.
+     */
+    @Test
+    public void testRollupRememberedInputRowStatesIncremental() {
+        for (int size = 10; size <= INCREMENTAL_TABLE_SIZE; size *= 10) {
+            testRollupRememberedInputRowStatesInternal("size-" + size, size);
+        }
+    }
+
+    private void testRollupRememberedInputRowStatesInternal(final String ctxt, final int size) {
+        final Random random = new Random(0);
+
+        final ColumnInfo[] columnInfo = initColumnInfos(
+                new String[] {"Sym", "Sym2", "intCol"},
+                new SetGenerator<>("a", "b", "c", "d"),
+                new SetGenerator<>("u", "v", "w"),
+                new IntGenerator(10, 1_000));
+
+        final QueryTable testTable = getTable(true, INCREMENTAL_TABLE_SIZE, random, columnInfo);
+
+        // the rollups are otherwise identical, so neither may be memoized
+        final boolean oldMemoize = QueryTable.setMemoizeResults(false);
+        final boolean oldRemember = ChunkedOperatorAggregationHelper.REMEMBER_INPUT_ROW_STATES;
+        final RollupTable remembered;
+        final RollupTable probed;
+        try {
+            ChunkedOperatorAggregationHelper.REMEMBER_INPUT_ROW_STATES = true;
+            remembered = testTable.rollup(aggs, false, "Sym", "Sym2");
+            ChunkedOperatorAggregationHelper.REMEMBER_INPUT_ROW_STATES = false;
+            probed = testTable.rollup(aggs, false, "Sym", "Sym2");
+        } finally {
+            ChunkedOperatorAggregationHelper.REMEMBER_INPUT_ROW_STATES = oldRemember;
+            QueryTable.setMemoizeResults(oldMemoize);
+        }
+
+        final EvalNuggetInterface[] en = new EvalNuggetInterface[] {
+                new EvalNuggetInterface() {
+                    @Override
+                    public void validate(final String msg) {
+                        final Table expected = snapshotExpandAll(probed);
+                        final Table actual = snapshotExpandAll(remembered);
+                        try {
+                            final String depth = remembered.getRowDepthColumn().name();
+                            assertTableEquals(msg, expected.sort(depth, "Sym", "Sym2"),
+                                    actual.sort(depth, "Sym", "Sym2"));
+                        } finally {
+                            freeSnapshotTableChunks(expected);
+                            freeSnapshotTableChunks(actual);
+                        }
+                    }
+
+                    @Override
+                    public void show() {
+                        dumpRollup(probed);
+                        dumpRollup(remembered);
+                    }
+                }
+        };
+
+        final int steps = 100;
+        for (int step = 0; step < steps; step++) {
+            if (RefreshingTableTestCase.printTableUpdates) {
+                System.out.println("Step = " + step);
+            }
+            simulateShiftAwareStep(ctxt + " step == " + step, size, random, testTable, columnInfo, en);
+        }
+    }
+
     /**
      * Like {@link #testRollupVsZeroKeyStatic()}, but aggregating an {@link Instant} column with every aggregation that
      * accepts one. An Instant aggregation result is exposed as an {@code Instant} column backed by {@code long}
@@ -403,6 +481,49 @@ public class TestRollupTable extends RefreshingTableTestCase {
         }
     }
 
+    /**
+     * Approximate count distinct only supports additions, so it cannot join the {@code aggs} list that the incremental
+     * tests modify and remove from. Instead, grow an add-only table, rolled up by two key columns so that the
+     * intermediate level re-aggregates modified constituents. Merged registers are identical to registers built from
+     * the same values directly, so the root must exactly equal the zero-key equivalent.
+     */
+    @Test
+    public void testRollupApproxCountDistinctAddOnly() {
+        final Random random = new Random(0);
+        final ColumnInfo[] columnInfo = initColumnInfos(
+                new String[] {"Sym", "Sym2", "intCol"},
+                new SetGenerator<>("a", "b", "c", "d"),
+                new SetGenerator<>("u", "v", "w"),
+                new IntGenerator(10, 100_000));
+
+        final QueryTable testTable = (QueryTable) getTable(true, 1_000, random, columnInfo)
+                .withAttributes(Map.of(Table.ADD_ONLY_TABLE_ATTRIBUTE, true));
+        final List<Aggregation> approxAggs = List.of(
+                AggApproxCountDistinct("approx=intCol"),
+                AggApproxCountDistinct(6, "coarse=intCol"));
+
+        final EvalNuggetInterface[] en = new EvalNuggetInterface[] {
+                new RollupCompareNugget(
+                        testTable.rollup(approxAggs, false, "Sym", "Sym2"),
+                        testTable.aggBy(approxAggs),
+                        new String[] {"approx", "coarse"})
+        };
+
+        final ControlledUpdateGraph updateGraph = testTable.getUpdateGraph().cast();
+        for (int step = 0; step < 50; step++) {
+            updateGraph.runWithinUnitTestCycle(() -> {
+                final RowSet keysToAdd = newIndex(random.nextInt(500) + 1, testTable.getRowSet(), random);
+                final ColumnHolder<?>[] columnAdditions = new ColumnHolder[columnInfo.length];
+                for (int column = 0; column < columnAdditions.length; column++) {
+                    columnAdditions[column] = columnInfo[column].generateUpdateColumnHolder(keysToAdd, random);
+                }
+                addToTable(testTable, keysToAdd, columnAdditions);
+                testTable.notifyListeners(keysToAdd, i(), i());
+            });
+            validate("step = " + step, en);
+        }
+    }
+
     private class RollupCompareNugget extends QueryTableTestBase.TableComparator {
 
         private final RollupTable rollup;
@@ -420,6 +541,16 @@ public class TestRollupTable extends RefreshingTableTestCase {
     }
 
     void dumpRollup(HierarchicalTable ht) {
+        final Table snapshot = snapshotExpandAll(ht);
+        TableTools.showWithRowSet(snapshot, 30);
+        freeSnapshotTableChunks(snapshot);
+    }
+
+    /**
+     * Snapshot every row of {@code ht} with all of its nodes expanded. The caller must free the result with
+     * {@link io.deephaven.engine.testutil.HierarchicalTableTestTools#freeSnapshotTableChunks}.
+     */
+    private static Table snapshotExpandAll(HierarchicalTable ht) {
         final HierarchicalTable.SnapshotState ss1 = ht.makeSnapshotState();
         final Table keyTable = ht.getEmptyExpansionsTable();
         final List<ColumnHolder<?>> holders = new ArrayList<>();
@@ -441,10 +572,8 @@ public class TestRollupTable extends RefreshingTableTestCase {
         holders.add(byteCol("Action", HierarchicalTable.KEY_TABLE_ACTION_EXPAND_ALL));
         final ColumnHolder[] array = holders.toArray(ColumnHolder[]::new);
         final Table keyTableExpandAll = TableTools.newTable(array);
-        final Table snapshot =
-                snapshotToTable(ht, ss1, keyTableExpandAll, ColumnName.of("Action"), null, RowSetFactory.flat(30));
-        TableTools.showWithRowSet(snapshot, 30);
-        freeSnapshotTableChunks(snapshot);
+        return snapshotToTable(ht, ss1, keyTableExpandAll, ColumnName.of("Action"), null,
+                RowSetFactory.flat(SNAPSHOT_ROWS));
     }
 
     @Test
@@ -0,0 +1,130 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.sketch;
+
+import io.deephaven.util.QueryConstants;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class DDSketchTest {
+
+    private static final double ACCURACY = 0.01;
+    private static final double[] QUANTILES = {0.0, 0.01, 0.25, 0.5, 0.75, 0.95, 0.99, 1.0};
+
+    @Test
+    public void testRelativeAccuracy() {
+        final Random random = new Random(0);
+        final double[] values = new double[10_000];
+        final DDSketch sketch = new DDSketch(new DDSketch.Mapping(ACCURACY, 2048));
+        for (int ii = 0; ii < values.length; ++ii) {
+            // Mix signs, zeros, and several orders of magnitude.
+            values[ii] = ii % 100 == 0 ? 0 : (random.nextBoolean() ? 1 : -1) * Math.exp(random.nextGaussian() * 5);
+            assertTrue(sketch.add(values[ii]));
+        }
+        checkQuantiles(sketch, values);
+    }
+
+    @Test
+    public void testIgnoredValues() {
+        final DDSketch sketch = new DDSketch(new DDSketch.Mapping(ACCURACY, 2048));
+        assertEquals(QueryConstants.NULL_DOUBLE, sketch.quantile(0.5), 0);
+        assertFalse(sketch.add(QueryConstants.NULL_DOUBLE));
+        assertFalse(sketch.add(Double.NaN));
+        assertFalse(sketch.add(Double.POSITIVE_INFINITY));
+        assertFalse(sketch.remove(Double.NEGATIVE_INFINITY));
+        assertTrue(sketch.isEmpty());
+    }
+
+    @Test
+    public void testRemove() {
+        final Random random = new Random(1);
+        final double[] values = new double[5_000];
+        final DDSketch sketch = new DDSketch(new DDSketch.Mapping(ACCURACY, 2048));
+        final DDSketch expected = new DDSketch(new DDSketch.Mapping(ACCURACY, 2048));
+        for (int ii = 0; ii < values.length; ++ii) {
+            values[ii] = random.nextDouble() * 1000 - 100;
+            sketch.add(values[ii]);
+            if (ii % 2 == 0) {
+                expected.add(values[ii]);
+            }
+        }
+        for (int ii = 1; ii < values.length; ii += 2) {
+            assertTrue(sketch.remove(values[ii]));
+        }
+        assertEquals(expected.count(), sketch.count());
+        assertArrayEquals(expected.toBytes(), sketch.toBytes());
+
+        for (int ii = 0; ii < values.length; ii += 2) {
+            sketch.remove(values[ii]);
+        }
+        assertTrue(sketch.isEmpty());
+        assertThrows(IllegalStateException.class, () -> sketch.remove(1.0));
+    }
+
+    @Test
+    public void testMergeAndSubtract() {
+        final Random random = new Random(2);
+        final double[] values = new double[6_000];
+        final DDSketch[] parts = new DDSketch[3];
+        for (int pi = 0; pi < parts.length; ++pi) {
+            parts[pi] = new DDSketch(new DDSketch.Mapping(ACCURACY, 2048));
+        }
+        final DDSketch all = new DDSketch(new DDSketch.Mapping(ACCURACY, 2048));
+        for (int ii = 0; ii < values.length; ++ii) {
+            // Give each part a different range, so merging has to grow the target's stores in both directions.
+            values[ii] = (random.nextDouble() + 0.01) * Math.pow(100, ii % parts.length) * (ii % 5 == 0 ? -1 : 1);
+            parts[ii % parts.length].add(values[ii]);
+            all.add(values[ii]);
+        }
+
+        final DDSketch merged = new DDSketch(new DDSketch.Mapping(ACCURACY, 2048));
+        for (final DDSketch part : parts) {
+            merged.merge(part.toBytes());
+        }
+        assertArrayEquals(all.toBytes(), merged.toBytes());
+        checkQuantiles(merged, values);
+
+        merged.subtract(parts[1].toBytes());
+        final DDSketch withoutMiddle = new DDSketch(new DDSketch.Mapping(ACCURACY, 2048));
+        withoutMiddle.merge(parts[0].toBytes());
+        withoutMiddle.merge(parts[2].toBytes());
+        assertArrayEquals(withoutMiddle.toBytes(), merged.toBytes());
+    }
+
+    @Test
+    public void testMismatchedAccuracy() {
+        final DDSketch source = new DDSketch(new DDSketch.Mapping(0.02, 2048));
+        source.add(1.0);
+        final DDSketch target = new DDSketch(new DDSketch.Mapping(ACCURACY, 2048));
+        assertThrows(IllegalArgumentException.class, () -> target.merge(source.toBytes()));
+    }
+
+    @Test
+    public void testCollapse() {
+        final DDSketch sketch = new DDSketch(new DDSketch.Mapping(ACCURACY, 64));
+        for (int ii = 1; ii <= 100_000; ++ii) {
+            sketch.add(ii);
+        }
+        // The lowest buckets are collapsed together, but the upper quantiles keep their accuracy.
+        assertEquals(100_000, sketch.count());
+        for (final double quantile : new double[] {0.9, 0.99, 1.0}) {
+            final double expected = Math.floor(quantile * 99_999) + 1;
+            assertEquals(expected, sketch.quantile(quantile), expected * ACCURACY);
+        }
+    }
+
+    private static void checkQuantiles(final DDSketch sketch, final double[] values) {
+        final double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (final double quantile : QUANTILES) {
+            final double expected = sorted[(int) Math.floor(quantile * (sorted.length - 1))];
+            final double actual = sketch.quantile(quantile);
+            assertEquals("quantile " + quantile, expected, actual, Math.abs(expected) * ACCURACY);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.sketch;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class HyperLogLogTest {
+
+    @Test
+    public void testEmpty() {
+        final HyperLogLogRegisters registers = new HyperLogLogRegisters(12);
+        registers.ensureCapacity(3);
+        assertEquals(0, registers.estimate(2, new int[Long.SIZE]));
+    }
+
+    @Test
+    public void testAccuracy() {
+        for (final int precision : new int[] {8, 12, 16}) {
+            // Four standard errors
+            final double tolerance = 4 * 1.04 / Math.sqrt(HyperLogLog.registerCount(precision));
+            for (final int cardinality : new int[] {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000}) {
+                final HyperLogLogRegisters registers = new HyperLogLogRegisters(precision);
+                registers.ensureCapacity(1);
+                final Random random = new Random(cardinality);
+                final long base = random.nextLong();
+                for (int ii = 0; ii < cardinality; ++ii) {
+                    // Offer every value twice; duplicates must not change the estimate.
+                    registers.offer(0, HyperLogLog.hash(base + ii));
+                    registers.offer(0, HyperLogLog.hash(base + ii));
+                }
+                final long estimate = registers.estimate(0, new int[Long.SIZE]);
+                assertEquals("precision " + precision + ", cardinality " + cardinality, cardinality, estimate,
+                        Math.max(1, cardinality * tolerance));
+            }
+        }
+    }
+
+    @Test
+    public void testStrings() {
+        final HyperLogLogRegisters registers = new HyperLogLogRegisters(14);
+        registers.ensureCapacity(1);
+        final int cardinality = 50_000;
+        for (int ii = 0; ii < cardinality; ++ii) {
+            // Short, similar strings, which collide often under String.hashCode
+            registers.offer(0, HyperLogLog.hash("k" + ii));
+        }
+        assertEquals(cardinality, registers.estimate(0, new int[Long.SIZE]), cardinality * 0.04);
+    }
+
+    @Test
+    public void testCanonicalDoubles() {
+        assertEquals(HyperLogLog.hash(0.0), HyperLogLog.hash(-0.0));
+        assertEquals(HyperLogLog.hash(Double.NaN), HyperLogLog.hash(Double.longBitsToDouble(0x7ff8000000000001L)));
+    }
+
+    @Test
+    public void testMerge() {
+        final int precision = 10;
+        final HyperLogLogRegisters registers = new HyperLogLogRegisters(precision);
+        // Span several blocks
+        final int keys = 200;
+        registers.ensureCapacity(keys + 1);
+        final HyperLogLogRegisters union = new HyperLogLogRegisters(precision);
+        union.ensureCapacity(1);
+        final Random random = new Random(0);
+        for (int ii = 0; ii < 20_000; ++ii) {
+            final long hash = HyperLogLog.hash(random.nextInt(5_000));
+            registers.offer(ii % keys, hash);
+            union.offer(0, hash);
+        }
+        for (int key = 0; key < keys; ++key) {
+            if (key % 2 == 0) {
+                registers.merge(keys, registers, key);
+            } else {
+                registers.merge(keys, registers.copy(key));
+            }
+        }
+        assertArrayEquals(union.copy(0), registers.copy(keys));
+        assertFalse(registers.merge(keys, union, 0));
+    }
+
+    @Test
+    public void testSparseToDense() {
+        final int precision = 12;
+        final int registerCount = HyperLogLog.registerCount(precision);
+        final HyperLogLogRegisters registers = new HyperLogLogRegisters(precision);
+        final HyperLogLogRegisters reference = new HyperLogLogRegisters(precision);
+        registers.ensureCapacity(2);
+        reference.ensureCapacity(1);
+        final int[] histogram = new int[Long.SIZE];
+        final Random random = new Random(0);
+        boolean sawSparse = false;
+        for (int ii = 0; ii < 5_000; ++ii) {
+            final long hash = HyperLogLog.hash(random.nextLong());
+            registers.offer(0, hash);
+            // a merged copy is a sparse or dense encoding of the same registers
+            final byte[] copy = registers.copy(0);
+            sawSparse |= copy.length < registerCount;
+            assertTrue(copy.length == registerCount || copy.length % 3 == 0);
+            registers.merge(1, copy);
+            reference.offer(0, hash);
+            if (ii % 97 == 0) {
+                assertEquals(registers.estimate(0, histogram), registers.estimate(1, histogram));
+            }
+        }
+        assertTrue(sawSparse);
+        // enough distinct values to have promoted every key to dense
+        assertEquals(registerCount, registers.copy(0).length);
+        assertArrayEquals(registers.copy(0), registers.copy(1));
+        assertArrayEquals(reference.copy(0), registers.copy(1));
+    }
+
+    @Test
+    public void testSmallKeysStaySparse() {
+        final HyperLogLogRegisters registers = new HyperLogLogRegisters(12);
+        registers.ensureCapacity(1);
+        for (int ii = 0; ii < 10; ++ii) {
+            registers.offer(0, HyperLogLog.hash(ii));
+        }
+        // three bytes for each register set, rather than 2^precision
+        final int setRegisters = registers.copy(0).length / 3;
+        assertTrue(setRegisters > 0 && setRegisters <= 10);
+        assertEquals(10, registers.estimate(0, new int[Long.SIZE]), 1);
+    }
+
+    @Test
+    public void testObjectHashes() {
+        // boxed values hash as their primitive columns do
+        assertEquals(HyperLogLog.hash(42L), HyperLogLog.hash((Object) 42));
+        assertEquals(HyperLogLog.hash(1.5), HyperLogLog.hash((Object) 1.5f));
+        // values whose 32-bit hash codes collide hash apart
+        assertEquals(Long.valueOf(1L << 32).hashCode(), Long.valueOf(1L).hashCode());
+        assertNotEquals(HyperLogLog.hash((Object) (1L << 32)), HyperLogLog.hash((Object) 1L));
+        assertNotEquals(HyperLogLog.hash(new BigDecimal("1.0")), HyperLogLog.hash(new BigDecimal("1.00")));
+        assertEquals(HyperLogLog.hash(new BigInteger("123456789012345678901234567890")),
+                HyperLogLog.hash(new BigInteger("123456789012345678901234567890")));
+    }
+}
@@ -0,0 +1,69 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.dataindex;
+
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.impl.ExternalizableRowSetUtils;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class TestRowSetCodec {
+
+    /**
+     * {0-9, 20, 100-199, 100000}, as written by earlier versions in the compressed delta format: a byte array of the
+     * five small deltas, an int offset to 100000, and the end command.
+     */
+    private static final byte[] COMPRESSED_DELTA_BYTES = {
+            0x1C, 0x05, 0x00, (byte) 0xF7, 0x0B, 0x50, (byte) 0x9D,
+            0x0A, 0x00, 0x01, (byte) 0x85, (byte) 0xD9,
+            0x20};
+
+    private static RowSet expectedRowSet() {
+        final RowSetBuilderSequential builder = RowSetFactory.builderSequential();
+        builder.appendRange(0, 9);
+        builder.appendKey(20);
+        builder.appendRange(100, 199);
+        builder.appendKey(100000);
+        return builder.build();
+    }
+
+    @Test
+    public void testDecodeExistingBytes() {
+        final RowSetCodec codec = new RowSetCodec(null);
+        final byte[] padded = new byte[COMPRESSED_DELTA_BYTES.length + 3];
+        System.arraycopy(COMPRESSED_DELTA_BYTES, 0, padded, 2, COMPRESSED_DELTA_BYTES.length);
+        try (final RowSet expected = expectedRowSet();
+                final RowSet decoded = codec.decode(COMPRESSED_DELTA_BYTES, 0, COMPRESSED_DELTA_BYTES.length);
+                final RowSet decodedAtOffset = codec.decode(padded, 2, COMPRESSED_DELTA_BYTES.length)) {
+            assertEquals(expected, decoded);
+            assertEquals(expected, decodedAtOffset);
+        }
+    }
+
+    @Test
+    public void testEncodeIsReadableByEarlierVersions() {
+        final RowSetCodec codec = new RowSetCodec(null);
+        try (final RowSet rowSet = expectedRowSet()) {
+            final byte[] encoded = codec.encode(rowSet);
+            assertArrayEquals(COMPRESSED_DELTA_BYTES, encoded);
+            assertFalse(ExternalizableRowSetUtils.isContainerFormat(encoded[0]));
+        }
+    }
+
+    @Test
+    public void testDecodeContainerFormat() {
+        final RowSetCodec codec = new RowSetCodec(null);
+        try (final RowSet rowSet = RowSetFactory.fromRange(1000, 500_000)) {
+            final byte[] encoded = ExternalizableRowSetUtils.writeContainerFormat(rowSet);
+            try (final RowSet decoded = codec.decode(encoded, 0, encoded.length)) {
+                assertEquals(rowSet, decoded);
+            }
+        }
+    }
+}
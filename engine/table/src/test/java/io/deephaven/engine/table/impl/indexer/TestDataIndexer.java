@@ -5,8 +5,20 @@ package io.deephaven.engine.table.impl.indexer;
 
 import com.google.common.collect.Sets;
 import io.deephaven.base.verify.Require;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.attributes.Values;
 import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
 import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.DataIndex;
+import io.deephaven.engine.table.DataIndexOptions;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.impl.*;
 import io.deephaven.engine.testutil.ColumnInfo;
@@ -18,7 +30,9 @@ import io.deephaven.engine.testutil.testcase.RefreshingTableTestCase;
 import io.deephaven.engine.testutil.EvalNugget;
 import io.deephaven.engine.util.TableTools;
 import io.deephaven.test.types.OutOfBandTest;
+import io.deephaven.util.QueryConstants;
 import io.deephaven.util.mutable.MutableInt;
+import io.deephaven.util.type.TypeUtils;
 import junit.framework.TestCase;
 
 import java.util.*;
@@ -228,4 +242,61 @@ public class TestDataIndexer extends RefreshingTableTestCase {
         IndexValidator.validateIndex(countingTable, new String[] {"intCol", "Sym", "Sym2", "doubleCol"}, false);
         countingTable.getColumnSources().forEach(x -> ((CountingTable.MethodCounter) x).clear());
     }
+
+    public void testBatchLookup() {
+        final Random random = new Random(0);
+        final int size = 10_000;
+        final int[] ints = new int[size];
+        final String[] syms = new String[size];
+        for (int ii = 0; ii < size; ++ii) {
+            ints[ii] = random.nextInt(20) == 0 ? QueryConstants.NULL_INT : random.nextInt(1_000);
+            syms[ii] = random.nextInt(20) == 0 ? null : "S" + random.nextInt(10);
+        }
+        final Table table = TableTools.newTable(TableTools.intCol("intCol", ints), TableTools.stringCol("Sym", syms));
+
+        final int numLookups = 5_000;
+        try (final WritableIntChunk<Values> intKeys = WritableIntChunk.makeWritableChunk(numLookups);
+                final WritableObjectChunk<String, Values> symKeys = WritableObjectChunk.makeWritableChunk(numLookups)) {
+            for (int ii = 0; ii < numLookups; ++ii) {
+                // Include keys that are absent from the table
+                intKeys.set(ii, random.nextInt(50) == 0 ? QueryConstants.NULL_INT : random.nextInt(1_200));
+                symKeys.set(ii, random.nextInt(50) == 0 ? null : "S" + random.nextInt(12));
+            }
+
+            validateBatchLookup(DataIndexer.getOrCreateDataIndex(table, "intCol"), new Chunk[] {intKeys});
+            validateBatchLookup(DataIndexer.getOrCreateDataIndex(table, "Sym", "intCol"),
+                    new Chunk[] {symKeys, intKeys});
+        }
+    }
+
+    private static void validateBatchLookup(final DataIndex dataIndex, final Chunk<Values>[] lookupKeys) {
+        final int numLookups = lookupKeys[0].size();
+        final DataIndex.RowKeyLookup rowKeyLookup = dataIndex.rowKeyLookup();
+        final ColumnSource<RowSet> rowSetColumn = dataIndex.rowSetColumn();
+        final WritableRowSet expectedUnion = RowSetFactory.empty();
+        try (final WritableLongChunk<RowKeys> rowKeys = WritableLongChunk.makeWritableChunk(numLookups)) {
+            dataIndex.lookupRowKeys(DataIndexOptions.DEFAULT, lookupKeys, false, rowKeys);
+            TestCase.assertEquals(numLookups, rowKeys.size());
+            for (int ii = 0; ii < numLookups; ++ii) {
+                final Object lookupKey;
+                if (lookupKeys.length == 1) {
+                    lookupKey = TypeUtils.box(lookupKeys[0].asIntChunk().get(ii));
+                } else {
+                    lookupKey = new Object[] {
+                            lookupKeys[0].asObjectChunk().get(ii),
+                            TypeUtils.box(lookupKeys[1].asIntChunk().get(ii))};
+                }
+                final long expectedRowKey = rowKeyLookup.apply(lookupKey, false);
+                TestCase.assertEquals(expectedRowKey, rowKeys.get(ii));
+                if (expectedRowKey != RowSequence.NULL_ROW_KEY) {
+                    expectedUnion.insert(rowSetColumn.get(expectedRowKey));
+                }
+            }
+        }
+        try (final RowSet ignored = expectedUnion;
+                final RowSet union = dataIndex.lookupRowSetUnion(DataIndexOptions.DEFAULT, lookupKeys, false)) {
+            TestCase.assertTrue(expectedUnion.isNonempty());
+            TestCase.assertEquals(expectedUnion, union);
+        }
+    }
 }
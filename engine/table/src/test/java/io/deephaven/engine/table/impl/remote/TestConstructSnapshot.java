@@ -6,6 +6,7 @@ package io.deephaven.engine.table.impl.remote;
 import io.deephaven.base.SleepUtil;
 import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.impl.OperationInitializationThreadPool;
 import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.engine.table.impl.select.FunctionalColumn;
 import io.deephaven.engine.table.impl.util.BarrageMessage;
@@ -16,6 +17,7 @@ import io.deephaven.engine.updategraph.UpdateGraph;
 import io.deephaven.engine.util.TableTools;
 import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.thread.NamingThreadFactory;
+import io.deephaven.util.thread.ThreadInitializationFactory;
 import io.deephaven.util.mutable.MutableLong;
 
 import java.util.BitSet;
@@ -142,4 +144,29 @@ public class TestConstructSnapshot extends RefreshingTableTestCase {
 
         executor.shutdownNow();
     }
+
+    public void testParallelSnapshotOfRowRanges() {
+        final int numRows = 3 * ConstructSnapshot.SNAPSHOT_CHUNK_SIZE + 17;
+        final QueryTable table = (QueryTable) TableTools.emptyTable(numRows).update("L = ii", "S = `s` + (ii % 7)");
+
+        final long minimumParallelSnapshotRows = QueryTable.MINIMUM_PARALLEL_SNAPSHOT_ROWS;
+        final OperationInitializationThreadPool pool =
+                new OperationInitializationThreadPool(ThreadInitializationFactory.NO_OP, 8);
+        QueryTable.MINIMUM_PARALLEL_SNAPSHOT_ROWS = 0;
+        try (final SafeCloseable ignored = ExecutionContext.getContext().withOperationInitializer(pool).open();
+                final BarrageMessage snapshot = ConstructSnapshot.constructBackplaneSnapshot("table", table)) {
+            // fewer columns than threads, so each column is split into ranges of rows; chunks must still be in order
+            for (final BarrageMessage.AddColumnData acd : snapshot.addColumnData) {
+                assertEquals(4, acd.data.size());
+                for (int ci = 0; ci < 3; ++ci) {
+                    assertEquals(ConstructSnapshot.SNAPSHOT_CHUNK_SIZE, acd.data.get(ci).size());
+                }
+                assertEquals(17, acd.data.get(3).size());
+            }
+            verifySnapshotBarrageMessage(snapshot, table);
+        } finally {
+            QueryTable.MINIMUM_PARALLEL_SNAPSHOT_ROWS = minimumParallelSnapshotRows;
+            pool.shutdown();
+        }
+    }
 }
@@ -0,0 +1,197 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.replay;
+
+import io.deephaven.api.SortingOrder;
+import io.deephaven.auth.AuthContext;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.context.QueryCompilerImpl;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.perf.UpdatePerformanceTracker;
+import io.deephaven.engine.table.impl.verify.TableAssertions;
+import io.deephaven.engine.updategraph.impl.BaseUpdateGraph;
+import io.deephaven.engine.updategraph.impl.EventDrivenUpdateGraph;
+import io.deephaven.engine.updategraph.impl.PeriodicUpdateGraph;
+import io.deephaven.time.DateTimeUtils;
+import io.deephaven.util.SafeCloseable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+import static io.deephaven.engine.context.TestExecutionContext.OPERATION_INITIALIZATION;
+import static io.deephaven.engine.testutil.TstUtils.assertTableEquals;
+import static io.deephaven.engine.util.TableTools.instantCol;
+import static io.deephaven.engine.util.TableTools.intCol;
+import static io.deephaven.engine.util.TableTools.newTable;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class TestReplayer {
+    private static final String UPDATE_GRAPH_NAME = "TestReplayer";
+    private static final Instant START_TIME = DateTimeUtils.parseInstant("2026-01-05T09:30:00 ET");
+    private static final long STEP_NANOS = DateTimeUtils.SECOND;
+    private static final int MAX_STEPS = 10_000;
+
+    private EventDrivenUpdateGraph updateGraph;
+    private SafeCloseable contextCloseable;
+
+    @Before
+    public void before() {
+        // the default update graph is necessary for the update performance tracker
+        clearUpdateGraphInstances();
+        UpdatePerformanceTracker.resetForUnitTests();
+        EventDrivenUpdateGraph.newBuilder(PeriodicUpdateGraph.DEFAULT_UPDATE_GRAPH_NAME).build();
+        updateGraph = EventDrivenUpdateGraph.newBuilder(UPDATE_GRAPH_NAME).build();
+        contextCloseable = ExecutionContext.newBuilder()
+                .setUpdateGraph(updateGraph)
+                .emptyQueryScope()
+                .newQueryLibrary()
+                .setOperationInitializer(OPERATION_INITIALIZATION)
+                .setQueryCompiler(QueryCompilerImpl.create())
+                .build()
+                .withAuthContext(new AuthContext.Anonymous())
+                .open();
+    }
+
+    @After
+    public void after() {
+        contextCloseable.close();
+        clearUpdateGraphInstances();
+        UpdatePerformanceTracker.resetForUnitTests();
+    }
+
+    private static void clearUpdateGraphInstances() {
+        BaseUpdateGraph.removeInstance(PeriodicUpdateGraph.DEFAULT_UPDATE_GRAPH_NAME);
+        BaseUpdateGraph.removeInstance(UPDATE_GRAPH_NAME);
+    }
+
+    /**
+     * Make a static table with a non-decreasing Timestamp column, at the given offsets in nanoseconds from
+     * {@link #START_TIME}, and a Value column holding each row's position.
+     */
+    private static Table makeSource(final long[] offsetNanos) {
+        final Instant[] timestamps = new Instant[offsetNanos.length];
+        final int[] values = new int[offsetNanos.length];
+        for (int ii = 0; ii < offsetNanos.length; ++ii) {
+            timestamps[ii] = DateTimeUtils.plus(START_TIME, offsetNanos[ii]);
+            values[ii] = ii;
+        }
+        return newTable(instantCol("Timestamp", timestamps), intCol("Value", values));
+    }
+
+    /**
+     * Offsets with duplicates, gaps longer than a step, and runs long enough to exercise the galloping search.
+     */
+    private static long[] makeOffsets(final int size, final int seed) {
+        final long[] offsets = new long[size];
+        long offset = 0;
+        for (int ii = 0; ii < size; ++ii) {
+            final int bucket = (ii * 31 + seed) % 17;
+            if (bucket == 0) {
+                // a gap of several steps
+                offset += 3 * STEP_NANOS + 1;
+            } else if (bucket > 6) {
+                offset += (bucket * DateTimeUtils.MILLI * 7) % STEP_NANOS;
+            }
+            // otherwise a duplicate of the previous time
+            offsets[ii] = offset;
+        }
+        return offsets;
+    }
+
+    private static int releasedCount(final long[] offsetNanos, final long replayTimeNanos) {
+        final long offsetLimit = replayTimeNanos - DateTimeUtils.epochNanos(START_TIME);
+        int count = 0;
+        while (count < offsetNanos.length && offsetNanos[count] <= offsetLimit) {
+            ++count;
+        }
+        return count;
+    }
+
+    private static Instant endTime(final long[]... offsets) {
+        final long maxOffset = Arrays.stream(offsets).mapToLong(o -> o[o.length - 1]).max().orElse(0);
+        return DateTimeUtils.plus(START_TIME, maxOffset + STEP_NANOS);
+    }
+
+    @Test
+    public void testReleasesRowsInTimestampOrder() {
+        final long[] offsets = makeOffsets(2000, 0);
+        final Table source = makeSource(offsets);
+        final Table sortedSource = TableAssertions.assertSorted(source, "Timestamp", SortingOrder.Ascending);
+
+        final Replayer replayer = new FixedStepReplayer(START_TIME, endTime(offsets), STEP_NANOS);
+        final Table replayed = replayer.replay(source, "Timestamp");
+        final Table replayedSorted = replayer.replay(sortedSource, "Timestamp");
+        replayer.start();
+
+        // rows at the start time are released immediately
+        assertTableEquals(source.head(releasedCount(offsets, DateTimeUtils.epochNanos(START_TIME))), replayed);
+
+        int lastCount = -1;
+        int steps = 0;
+        while (lastCount < offsets.length) {
+            updateGraph.requestRefresh();
+            assertTrue("replay did not finish", ++steps < MAX_STEPS);
+
+            final long replayTimeNanos = replayer.currentReplayTimeNanos();
+            final int count = releasedCount(offsets, replayTimeNanos);
+            assertTrue(count >= lastCount);
+            // every row up to the replay time, and none after it, has been released in the source's order
+            assertTableEquals(source.head(count), replayed);
+            assertTableEquals(source.head(count), replayedSorted);
+            lastCount = count;
+        }
+    }
+
+    @Test
+    public void testTablesAdvanceInLockstep() {
+        final long[] denseOffsets = makeOffsets(2000, 3);
+        final long[] sparseOffsets = makeOffsets(40, 11);
+        final long[] singleTimeOffsets = new long[100];
+        Arrays.fill(singleTimeOffsets, 2 * STEP_NANOS + DateTimeUtils.MILLI);
+        final long[][] allOffsets = {denseOffsets, sparseOffsets, singleTimeOffsets};
+
+        final Replayer replayer =
+                new FixedStepReplayer(START_TIME, endTime(denseOffsets, sparseOffsets), STEP_NANOS);
+        final Table[] sources = new Table[allOffsets.length];
+        final Table[] replayed = new Table[allOffsets.length];
+        for (int ti = 0; ti < allOffsets.length; ++ti) {
+            sources[ti] = makeSource(allOffsets[ti]);
+            replayed[ti] = replayer.replay(sources[ti], "Timestamp");
+        }
+        replayer.start();
+
+        boolean allReleased = false;
+        int steps = 0;
+        while (!allReleased) {
+            updateGraph.requestRefresh();
+            assertTrue("replay did not finish", ++steps < MAX_STEPS);
+
+            // every table has released exactly the rows due at the one replay time of this cycle
+            final long replayTimeNanos = replayer.currentReplayTimeNanos();
+            assertEquals(replayer.clock().currentTimeNanos(), replayTimeNanos);
+            allReleased = true;
+            for (int ti = 0; ti < allOffsets.length; ++ti) {
+                final int count = releasedCount(allOffsets[ti], replayTimeNanos);
+                assertTableEquals(sources[ti].head(count), replayed[ti]);
+                allReleased &= count == allOffsets[ti].length;
+            }
+        }
+    }
+
+    @Test
+    public void testDecreasingTimeIsRejected() {
+        final long[] offsets = {0, STEP_NANOS, STEP_NANOS / 2, 2 * STEP_NANOS};
+        final Replayer replayer = new FixedStepReplayer(
+                DateTimeUtils.plus(START_TIME, STEP_NANOS), endTime(offsets), STEP_NANOS);
+        final RuntimeException error =
+                assertThrows(RuntimeException.class, () -> replayer.replay(makeSource(offsets), "Timestamp"));
+        assertEquals("The historical table contains a null or decreasing time that cannot be replayed.",
+                error.getMessage());
+    }
+}
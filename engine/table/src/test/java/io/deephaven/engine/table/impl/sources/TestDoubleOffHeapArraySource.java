@@ -0,0 +1,109 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit TestCharacterOffHeapArraySource and run "./gradlew replicateSourceAndChunkTests" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.sources;
+
+import io.deephaven.chunk.ArrayGenerator;
+import io.deephaven.chunk.WritableDoubleChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.ChunkSink;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.impl.sources.offheap.OffHeapDoubleArraySource;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Random;
+
+import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
+import static junit.framework.TestCase.assertEquals;
+
+public class TestDoubleOffHeapArraySource extends AbstractDoubleColumnSourceTest {
+
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @NotNull
+    @Override
+    OffHeapDoubleArraySource makeTestSource() {
+        final OffHeapDoubleArraySource source = new OffHeapDoubleArraySource();
+        source.ensureCapacity(getSourceSize());
+        return source;
+    }
+
+    @Override
+    int getSourceSize() {
+        // span several blocks
+        return 200_000;
+    }
+
+    @Test
+    public void testPrevValues() {
+        testPrevValues(new OffHeapDoubleArraySource());
+    }
+
+    @Test
+    public void testMappedPrevValues() {
+        testPrevValues(new OffHeapDoubleArraySource(tempFolder.getRoot().toPath()));
+    }
+
+    private void testPrevValues(final OffHeapDoubleArraySource source) {
+        final int size = getSourceSize();
+        final Random random = new Random(0);
+        final double[] values = ArrayGenerator.randomDoubles(random, size);
+        final double[] newValues = ArrayGenerator.randomDoubles(random, size);
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+
+        source.ensureCapacity(size);
+        try (final ChunkSink.FillFromContext ffc = source.makeFillFromContext(size);
+                final WritableDoubleChunk<Values> chunk = WritableDoubleChunk.writableChunkWrap(values)) {
+            source.fillFromChunk(ffc, chunk, RowSetFactory.flat(size));
+        }
+        source.startTrackingPrevValues();
+
+        updateGraph.startCycleForUnitTests();
+        try (final RowSet modified = RowSetFactory.fromRange(size / 3, size - 1);
+                final ChunkSink.FillFromContext ffc = source.makeFillFromContext(modified.intSize());
+                final WritableDoubleChunk<Values> chunk = WritableDoubleChunk.writableChunkWrap(
+                        newValues, size / 3, modified.intSize())) {
+            source.fillFromChunk(ffc, chunk, modified);
+            source.set(0, newValues[0]);
+            for (int ii = 0; ii < size; ++ii) {
+                final boolean changed = ii == 0 || ii >= size / 3;
+                assertEquals(changed ? newValues[ii] : values[ii], source.getDouble(ii));
+                assertEquals(values[ii], source.getPrevDouble(ii));
+            }
+            checkPrevChunk(source, values);
+        } finally {
+            updateGraph.completeCycleForUnitTests();
+        }
+
+        // after the cycle completes, the previous values are the current values
+        for (int ii = 0; ii < size; ++ii) {
+            final boolean changed = ii == 0 || ii >= size / 3;
+            assertEquals(changed ? newValues[ii] : values[ii], source.getPrevDouble(ii));
+        }
+        assertEquals(NULL_DOUBLE, source.getDouble(-1));
+        assertEquals(NULL_DOUBLE, source.getPrevDouble(source.getCapacity()));
+    }
+
+    private static void checkPrevChunk(final OffHeapDoubleArraySource source, final double[] expected) {
+        try (final RowSet rows = RowSetFactory.flat(expected.length);
+                final ColumnSource.FillContext fc = source.makeFillContext(expected.length);
+                final WritableDoubleChunk<Values> chunk = WritableDoubleChunk.makeWritableChunk(expected.length)) {
+            source.fillPrevChunk(fc, chunk, rows);
+            for (int ii = 0; ii < expected.length; ++ii) {
+                assertEquals(expected[ii], chunk.get(ii));
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit TestCharacterTieredArraySource and run "./gradlew replicateSourceAndChunkTests" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.sources;
+
+import io.deephaven.chunk.ArrayGenerator;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.readtracker.impl.QueryPerformanceReadTracker;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ChunkSink;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.impl.sources.offheap.TieredLongArraySource;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Objects;
+import java.util.Random;
+
+import static io.deephaven.util.QueryConstants.NULL_LONG;
+import static junit.framework.TestCase.assertEquals;
+
+public class TestLongTieredArraySource extends AbstractLongColumnSourceTest {
+
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @NotNull
+    @Override
+    TieredLongArraySource makeTestSource() {
+        // keep far fewer blocks on the heap than the source holds, so that most accesses use the slab
+        final TieredLongArraySource source = new TieredLongArraySource(3, tempFolder.getRoot().toPath());
+        source.ensureCapacity(getSourceSize());
+        return source;
+    }
+
+    @Override
+    int getSourceSize() {
+        // span several blocks
+        return 65_536;
+    }
+
+    @Test
+    public void testEviction() {
+        final int size = getSourceSize();
+        final long[] values = ArrayGenerator.randomLongs(new Random(0), size);
+        final TieredLongArraySource source = makeTestSource();
+
+        final QueryPerformanceReadTracker tracker = QueryPerformanceReadTracker.forCurrentThread();
+        final long startHits = tracker.getTieredStateHitCount();
+        final long startMisses = tracker.getTieredStateMissCount();
+
+        // write every value individually, so that each block is loaded and evicted once
+        for (int ii = 0; ii < size; ++ii) {
+            source.set(ii, values[ii]);
+        }
+        source.flushAccessCounts();
+        final long blocks = size / 4096;
+        assertEquals(size - blocks, tracker.getTieredStateHitCount() - startHits);
+        assertEquals(blocks, tracker.getTieredStateMissCount() - startMisses);
+
+        for (int ii = 0; ii < size; ++ii) {
+            assertEquals(values[ii], source.getLong(ii));
+        }
+        assertEquals(NULL_LONG, source.getLong(-1));
+        assertEquals(NULL_LONG, source.getLong(source.getCapacity()));
+        // single-row reads are not reported; chunked reads report each block once, and do not promote blocks, so all
+        // but the three most recently written blocks are read from the slab
+        final long readStartHits = tracker.getTieredStateHitCount();
+        final long readStartMisses = tracker.getTieredStateMissCount();
+        checkChunk(source, values);
+        assertEquals(3, tracker.getTieredStateHitCount() - readStartHits);
+        assertEquals(blocks - 3, tracker.getTieredStateMissCount() - readStartMisses);
+
+        // rewrite a block that was spilled, and make sure both tiers agree afterwards
+        try (final RowSet rows = RowSetFactory.fromRange(100, 5000);
+                final ChunkSink.FillFromContext ffc = source.makeFillFromContext(rows.intSize());
+                final WritableLongChunk<Values> chunk = WritableLongChunk.makeWritableChunk(rows.intSize())) {
+            chunk.fillWithNullValue(0, rows.intSize());
+            source.fillFromChunk(ffc, chunk, rows);
+            rows.forAllRowKeys(key -> values[(int) key] = NULL_LONG);
+        }
+        checkChunk(source, values);
+        checkUnordered(source, values);
+    }
+
+    @Test
+    public void testPrevValues() {
+        final int size = getSourceSize();
+        final Random random = new Random(0);
+        final long[] values = ArrayGenerator.randomLongs(random, size);
+        final long[] newValues = ArrayGenerator.randomLongs(random, size);
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        final TieredLongArraySource source = makeTestSource();
+
+        try (final ChunkSink.FillFromContext ffc = source.makeFillFromContext(size);
+                final WritableLongChunk<Values> chunk = WritableLongChunk.writableChunkWrap(values)) {
+            source.fillFromChunk(ffc, chunk, RowSetFactory.flat(size));
+        }
+        source.startTrackingPrevValues();
+
+        updateGraph.startCycleForUnitTests();
+        try (final RowSet modified = RowSetFactory.fromRange(size / 3, size - 1);
+                final ChunkSink.FillFromContext ffc = source.makeFillFromContext(modified.intSize());
+                final WritableLongChunk<Values> chunk = WritableLongChunk.writableChunkWrap(
+                        newValues, size / 3, modified.intSize())) {
+            source.fillFromChunk(ffc, chunk, modified);
+            source.set(0, newValues[0]);
+            for (int ii = 0; ii < size; ++ii) {
+                final boolean changed = ii == 0 || ii >= size / 3;
+                assertEquals(changed ? newValues[ii] : values[ii], source.getLong(ii));
+                assertEquals(values[ii], source.getPrevLong(ii));
+            }
+            checkPrevChunk(source, values);
+        } finally {
+            updateGraph.completeCycleForUnitTests();
+        }
+
+        // after the cycle completes, the previous values are the current values
+        for (int ii = 0; ii < size; ++ii) {
+            final boolean changed = ii == 0 || ii >= size / 3;
+            assertEquals(changed ? newValues[ii] : values[ii], source.getPrevLong(ii));
+        }
+    }
+
+    @Test
+    public void testReleaseKeepsValues() {
+        final int size = getSourceSize();
+        final long[] values = ArrayGenerator.randomLongs(new Random(0), size);
+        final TieredLongArraySource source = makeTestSource();
+        for (int ii = 0; ii < size; ++ii) {
+            source.set(ii, values[ii]);
+        }
+        assertEquals(1, slabFileCount());
+
+        // tables that share the source may still read it, so releasing cached resources must not drop the slab
+        source.releaseCachedResources();
+        assertEquals(1, slabFileCount());
+        checkChunk(source, values);
+        source.set(0, values[1]);
+        assertEquals(values[1], source.getLong(0));
+    }
+
+    @Test
+    public void testSlabDeletedWhenUnreachable() throws InterruptedException {
+        TieredLongArraySource source = makeTestSource();
+        for (int ii = 0; ii < getSourceSize(); ++ii) {
+            source.set(ii, (long) ii);
+        }
+        assertEquals(1, slabFileCount());
+
+        // noinspection UnusedAssignment
+        source = null;
+        for (int ii = 0; ii < 20 && slabFileCount() != 0; ++ii) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        assertEquals(0, slabFileCount());
+    }
+
+    private int slabFileCount() {
+        return Objects.requireNonNull(tempFolder.getRoot().listFiles()).length;
+    }
+
+    private static void checkPrevChunk(final TieredLongArraySource source, final long[] expected) {
+        try (final RowSet rows = RowSetFactory.flat(expected.length);
+                final ColumnSource.FillContext fc = source.makeFillContext(expected.length);
+                final WritableLongChunk<Values> chunk = WritableLongChunk.makeWritableChunk(expected.length)) {
+            source.fillPrevChunk(fc, chunk, rows);
+            for (int ii = 0; ii < expected.length; ++ii) {
+                assertEquals(expected[ii], chunk.get(ii));
+            }
+        }
+    }
+
+    private static void checkChunk(final TieredLongArraySource source, final long[] expected) {
+        try (final RowSet rows = RowSetFactory.flat(expected.length);
+                final ColumnSource.FillContext fc = source.makeFillContext(expected.length);
+                final WritableLongChunk<Values> chunk = WritableLongChunk.makeWritableChunk(expected.length)) {
+            source.fillChunk(fc, chunk, rows);
+            for (int ii = 0; ii < expected.length; ++ii) {
+                assertEquals(expected[ii], chunk.get(ii));
+            }
+        }
+    }
+
+    private static void checkUnordered(final TieredLongArraySource source, final long[] expected) {
+        final int size = expected.length;
+        try (final ColumnSource.FillContext fc = source.makeFillContext(size);
+                final WritableLongChunk<Values> chunk = WritableLongChunk.makeWritableChunk(size);
+                final WritableLongChunk<RowKeys> keys = WritableLongChunk.makeWritableChunk(size)) {
+            for (int ii = 0; ii < size; ++ii) {
+                keys.set(ii, (ii * 7919L) % size);
+            }
+            source.fillChunkUnordered(fc, chunk, keys);
+            for (int ii = 0; ii < size; ++ii) {
+                assertEquals(expected[(int) keys.get(ii)], chunk.get(ii));
+            }
+        }
+    }
+}
@@ -0,0 +1,345 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.updateby;
+
+import io.deephaven.api.agg.Aggregation;
+import io.deephaven.api.updateby.UpdateByOperation;
+import io.deephaven.api.updateby.spec.RollingPercentileSpec;
+import io.deephaven.api.updateby.spec.WindowScale;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.EvalNugget;
+import io.deephaven.engine.testutil.GenerateTableUpdates;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.generator.CharGenerator;
+import io.deephaven.engine.testutil.generator.SortedInstantGenerator;
+import io.deephaven.engine.testutil.generator.TestDataGenerator;
+import io.deephaven.engine.util.TableDiff;
+import io.deephaven.test.types.OutOfBandTest;
+import io.deephaven.time.DateTimeUtils;
+import io.deephaven.util.annotations.TestUseOnly;
+import io.deephaven.util.annotations.VisibleForTesting;
+import io.deephaven.vector.DoubleVector;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Set;
+
+import static io.deephaven.engine.util.TableTools.doubleCol;
+import static io.deephaven.engine.util.TableTools.newTable;
+import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
+
+@Category(OutOfBandTest.class)
+public class TestRollingPercentile extends BaseUpdateByTest {
+    /**
+     * The columns we compute percentiles of; the expected values are computed from a copy of each column cast to
+     * double, which is exact for the values our generators produce.
+     */
+    final String[] primitiveColumns = new String[] {
+            "charCol",
+            "byteCol",
+            "shortCol",
+            "intCol",
+            "longCol",
+            "floatCol",
+            "doubleCol",
+    };
+
+    private static final Set<String> NON_AVERAGING_COLUMNS = Set.of("charCol", "byteCol", "shortCol");
+
+    final int STATIC_TABLE_SIZE = 10_000;
+    final int DYNAMIC_TABLE_SIZE = 1_000;
+    final int DYNAMIC_UPDATE_SIZE = 100;
+    final int DYNAMIC_UPDATE_STEPS = 20;
+
+    @SuppressWarnings("unused") // Functions used via QueryLibrary
+    @VisibleForTesting
+    @TestUseOnly
+    public static class Helpers {
+
+        /**
+         * A brute force percentile with the same definition as the percentile aggregation: the result is the largest
+         * of the lowest {@code round((n - 1) * percentile) + 1} values. If {@code averageEvenlyDivided}, the rank is
+         * truncated instead of rounded, and the result is the average of that value and the next if exactly half the
+         * values are in the low bucket.
+         */
+        public static double expectedPercentile(
+                final double percentile,
+                final boolean averageEvenlyDivided,
+                final DoubleVector values) {
+            if (values == null) {
+                return NULL_DOUBLE;
+            }
+            final double[] sorted = Arrays.stream(values.toArray())
+                    .filter(v -> v != NULL_DOUBLE)
+                    .sorted()
+                    .toArray();
+            final int n = sorted.length;
+            if (n == 0) {
+                return NULL_DOUBLE;
+            }
+            if (Double.isNaN(sorted[n - 1])) {
+                return Double.NaN;
+            }
+            final int loSize = averageEvenlyDivided
+                    ? (int) ((n - 1) * percentile) + 1
+                    : (int) Math.round((n - 1) * percentile) + 1;
+            if (averageEvenlyDivided && loSize * 2 == n) {
+                return (sorted[loSize - 1] + sorted[loSize]) / 2.0;
+            }
+            return sorted[loSize - 1];
+        }
+    }
+
+    @Before
+    public void importHelpers() {
+        ExecutionContext.getContext().getQueryLibrary().importStatic(Helpers.class);
+    }
+
+    private static String[] getCastFormulas(final String[] columns) {
+        return Arrays.stream(columns).map(c -> c + "=(double)" + c).toArray(String[]::new);
+    }
+
+    private static String[] getFormulas(final double percentile, final boolean averageEvenlyDivided,
+            final String[] columns) {
+        // as in the percentile aggregation, char, byte and short columns are never averaged
+        return Arrays.stream(columns)
+                .map(c -> c + "=expectedPercentile(" + percentile + ", "
+                        + (averageEvenlyDivided && !NON_AVERAGING_COLUMNS.contains(c)) + ", " + c + ")")
+                .toArray(String[]::new);
+    }
+
+    // region Static Zero Key Tests
+
+    @Test
+    public void testStaticZeroKeyRev() {
+        doTestStaticZeroKey(100, 0);
+    }
+
+    @Test
+    public void testStaticZeroKeyRevExclusive() {
+        doTestStaticZeroKey(100, -50);
+    }
+
+    @Test
+    public void testStaticZeroKeyFwd() {
+        doTestStaticZeroKey(0, 100);
+    }
+
+    @Test
+    public void testStaticZeroKeyFwdRevWindow() {
+        doTestStaticZeroKey(100, 100);
+    }
+
+    @Test
+    public void testStaticZeroKeySingleRow() {
+        doTestStaticZeroKey(1, 0);
+    }
+
+    @Test
+    public void testStaticZeroKeyTimedRev() {
+        doTestStaticZeroKeyTimed(Duration.ofMinutes(10), Duration.ZERO);
+    }
+
+    @Test
+    public void testStaticZeroKeyTimedFwdRev() {
+        doTestStaticZeroKeyTimed(Duration.ofMinutes(5), Duration.ofMinutes(5));
+    }
+
+    private void doTestStaticZeroKey(final int prevTicks, final int postTicks) {
+        final QueryTable t = createTestTable(STATIC_TABLE_SIZE, false, false, false, 0x31313131,
+                new String[] {"charCol"},
+                new TestDataGenerator[] {new CharGenerator('A', 'z', 0.1)}).t;
+        final Table groups = t.update(getCastFormulas(primitiveColumns))
+                .updateBy(UpdateByOperation.RollingGroup(prevTicks, postTicks, primitiveColumns));
+
+        final Table actualMedian = t.updateBy(UpdateByOperation.RollingMedian(prevTicks, postTicks, primitiveColumns));
+        TstUtils.assertTableEquals(groups.update(getFormulas(0.5, true, primitiveColumns)), actualMedian,
+                TableDiff.DiffItems.DoublesExact);
+
+        for (final double percentile : new double[] {0.0, 0.25, 0.9, 1.0}) {
+            final Table actual = t.updateBy(
+                    UpdateByOperation.RollingPercentile(percentile, prevTicks, postTicks, primitiveColumns));
+            TstUtils.assertTableEquals(groups.update(getFormulas(percentile, false, primitiveColumns)), actual,
+                    TableDiff.DiffItems.DoublesExact);
+        }
+    }
+
+    private void doTestStaticZeroKeyTimed(final Duration prevTime, final Duration postTime) {
+        final QueryTable t = createTestTable(STATIC_TABLE_SIZE, false, false, false, 0xFFFABBBC,
+                new String[] {"ts", "charCol"}, new TestDataGenerator[] {new SortedInstantGenerator(
+                        DateTimeUtils.parseInstant("2022-03-09T09:00:00.000 NY"),
+                        DateTimeUtils.parseInstant("2022-03-09T16:30:00.000 NY")),
+                        new CharGenerator('A', 'z', 0.1)}).t;
+        final Table groups = t.update(getCastFormulas(primitiveColumns))
+                .updateBy(UpdateByOperation.RollingGroup("ts", prevTime, postTime, primitiveColumns));
+
+        final Table actualMedian =
+                t.updateBy(UpdateByOperation.RollingMedian("ts", prevTime, postTime, primitiveColumns));
+        TstUtils.assertTableEquals(groups.update(getFormulas(0.5, true, primitiveColumns)), actualMedian,
+                TableDiff.DiffItems.DoublesExact);
+
+        final Table actual =
+                t.updateBy(UpdateByOperation.RollingPercentile(0.75, "ts", prevTime, postTime, primitiveColumns));
+        TstUtils.assertTableEquals(groups.update(getFormulas(0.75, false, primitiveColumns)), actual,
+                TableDiff.DiffItems.DoublesExact);
+    }
+
+    // endregion
+
+    // region Static Bucketed Tests
+
+    @Test
+    public void testStaticBucketedRev() {
+        doTestStaticBucketed(false, 100, 0);
+    }
+
+    @Test
+    public void testStaticGroupedBucketedFwdRev() {
+        doTestStaticBucketed(true, 50, 50);
+    }
+
+    @Test
+    public void testStaticBucketedTimedRev() {
+        doTestStaticBucketedTimed(Duration.ofMinutes(10), Duration.ZERO);
+    }
+
+    private void doTestStaticBucketed(final boolean grouped, final int prevTicks, final int postTicks) {
+        final QueryTable t = createTestTable(STATIC_TABLE_SIZE, true, grouped, false, 0x31313131,
+                new String[] {"charCol"},
+                new TestDataGenerator[] {new CharGenerator('A', 'z', 0.1)}).t;
+        final Table groups = t.update(getCastFormulas(primitiveColumns))
+                .updateBy(UpdateByOperation.RollingGroup(prevTicks, postTicks, primitiveColumns), "Sym");
+
+        final Table actualMedian =
+                t.updateBy(UpdateByOperation.RollingMedian(prevTicks, postTicks, primitiveColumns), "Sym");
+        TstUtils.assertTableEquals(groups.update(getFormulas(0.5, true, primitiveColumns)), actualMedian,
+                TableDiff.DiffItems.DoublesExact);
+
+        final Table actual =
+                t.updateBy(UpdateByOperation.RollingPercentile(0.1, prevTicks, postTicks, primitiveColumns), "Sym");
+        TstUtils.assertTableEquals(groups.update(getFormulas(0.1, false, primitiveColumns)), actual,
+                TableDiff.DiffItems.DoublesExact);
+    }
+
+    private void doTestStaticBucketedTimed(final Duration prevTime, final Duration postTime) {
+        final QueryTable t = createTestTable(STATIC_TABLE_SIZE, true, false, false, 0xFFFABBBC,
+                new String[] {"ts", "charCol"}, new TestDataGenerator[] {new SortedInstantGenerator(
+                        DateTimeUtils.parseInstant("2022-03-09T09:00:00.000 NY"),
+                        DateTimeUtils.parseInstant("2022-03-09T16:30:00.000 NY")),
+                        new CharGenerator('A', 'z', 0.1)}).t;
+        final Table groups = t.update(getCastFormulas(primitiveColumns))
+                .updateBy(UpdateByOperation.RollingGroup("ts", prevTime, postTime, primitiveColumns), "Sym");
+
+        final Table actualMedian =
+                t.updateBy(UpdateByOperation.RollingMedian("ts", prevTime, postTime, primitiveColumns), "Sym");
+        TstUtils.assertTableEquals(groups.update(getFormulas(0.5, true, primitiveColumns)), actualMedian,
+                TableDiff.DiffItems.DoublesExact);
+    }
+
+    @Test
+    public void testMatchesPercentileAggregation() {
+        final QueryTable t = createTestTable(STATIC_TABLE_SIZE, true, false, false, 0x31313131,
+                new String[] {"charCol"},
+                new TestDataGenerator[] {new CharGenerator('A', 'z', 0.1)}).t;
+        // the float aggregation averages in float rather than double, so it is left out of the comparison
+        final String[] columns = Arrays.stream(primitiveColumns)
+                .filter(c -> !c.equals("floatCol"))
+                .toArray(String[]::new);
+        for (final double percentile : new double[] {0.0, 0.1, 0.25, 0.4, 0.5, 0.75, 0.9, 1.0}) {
+            for (final boolean average : new boolean[] {false, true}) {
+                // a window spanning the whole bucket computes the bucket's percentile on every row
+                final Table actual = t.updateBy(RollingPercentileSpec.of(percentile, average,
+                        WindowScale.ofTicks(STATIC_TABLE_SIZE + 1), WindowScale.ofTicks(STATIC_TABLE_SIZE))
+                        .clause(columns), "Sym");
+                final Table expected = t.dropColumns(columns)
+                        .naturalJoin(t.aggBy(Aggregation.AggPct(percentile, average, columns), "Sym"), "Sym")
+                        .update(getCastFormulas(columns));
+                TstUtils.assertTableEquals("percentile=" + percentile + ", average=" + average,
+                        expected, actual.view(expected.getDefinition().getColumnNamesArray()),
+                        TableDiff.DiffItems.DoublesExact);
+            }
+        }
+    }
+
+    // endregion
+
+    // region Live Tests
+
+    @Test
+    public void testZeroKeyGeneralTickingRev() {
+        doTestTicking(false, 100, 0);
+    }
+
+    @Test
+    public void testBucketedGeneralTickingFwdRev() {
+        doTestTicking(true, 50, 50);
+    }
+
+    @Test
+    public void testBucketedGeneralTickingTimedRev() {
+        doTestTickingTimed(true, Duration.ofMinutes(10), Duration.ZERO);
+    }
+
+    private void doTestTicking(final boolean bucketed, final long prevTicks, final long fwdTicks) {
+        final CreateResult result = createTestTable(DYNAMIC_TABLE_SIZE, bucketed, false, true, 0x31313131,
+                new String[] {"charCol"},
+                new TestDataGenerator[] {new CharGenerator('A', 'z', 0.1)});
+        final QueryTable t = result.t;
+
+        final EvalNugget[] nuggets = new EvalNugget[] {
+                EvalNugget.from(() -> bucketed ? t.updateBy(
+                        UpdateByOperation.RollingMedian(prevTicks, fwdTicks, primitiveColumns), "Sym")
+                        : t.updateBy(UpdateByOperation.RollingMedian(prevTicks, fwdTicks, primitiveColumns))),
+                EvalNugget.from(() -> bucketed ? t.updateBy(
+                        UpdateByOperation.RollingPercentile(0.25, prevTicks, fwdTicks, primitiveColumns), "Sym")
+                        : t.updateBy(UpdateByOperation.RollingPercentile(0.25, prevTicks, fwdTicks, primitiveColumns)))
+        };
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < DYNAMIC_UPDATE_STEPS; ii++) {
+            ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(
+                    () -> GenerateTableUpdates.generateTableUpdates(DYNAMIC_UPDATE_SIZE, billy, t, result.infos));
+            TstUtils.validate("Table - step " + ii, nuggets);
+        }
+    }
+
+    private void doTestTickingTimed(final boolean bucketed, final Duration prevTime, final Duration postTime) {
+        final CreateResult result = createTestTable(DYNAMIC_TABLE_SIZE, bucketed, false, true, 0x31313131,
+                new String[] {"ts", "charCol"}, new TestDataGenerator[] {new SortedInstantGenerator(
+                        DateTimeUtils.parseInstant("2022-03-09T09:00:00.000 NY"),
+                        DateTimeUtils.parseInstant("2022-03-09T16:30:00.000 NY")),
+                        new CharGenerator('A', 'z', 0.1)});
+        final QueryTable t = result.t;
+
+        final EvalNugget[] nuggets = new EvalNugget[] {
+                EvalNugget.from(() -> bucketed ? t.updateBy(
+                        UpdateByOperation.RollingMedian("ts", prevTime, postTime, primitiveColumns), "Sym")
+                        : t.updateBy(UpdateByOperation.RollingMedian("ts", prevTime, postTime, primitiveColumns)))
+        };
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < DYNAMIC_UPDATE_STEPS; ii++) {
+            ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(
+                    () -> GenerateTableUpdates.generateTableUpdates(DYNAMIC_UPDATE_SIZE, billy, t, result.infos));
+            TstUtils.validate("Table - step " + ii, nuggets);
+        }
+    }
+
+    // endregion
+
+    @Test
+    public void testNaN() {
+        final Table t = newTable(
+                doubleCol("x", 1.0, Double.NaN, 3.0, 4.0, 5.0));
+        final Table actual = t.updateBy(UpdateByOperation.RollingMedian(2, "x"));
+        TstUtils.assertTableEquals(newTable(doubleCol("x", 1.0, Double.NaN, Double.NaN, 3.5, 4.5)), actual);
+    }
+}
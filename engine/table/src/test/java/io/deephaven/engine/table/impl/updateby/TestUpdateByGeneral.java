@@ -23,6 +23,7 @@ import io.deephaven.engine.table.impl.TableDefaults;
 import io.deephaven.api.updateby.UpdateByControl;
 import io.deephaven.engine.testutil.TstUtils;
 import io.deephaven.engine.testutil.generator.CharGenerator;
+import io.deephaven.engine.testutil.generator.SetGenerator;
 import io.deephaven.engine.testutil.generator.TestDataGenerator;
 import io.deephaven.engine.testutil.generator.SortedInstantGenerator;
 import io.deephaven.engine.updategraph.TerminalNotification;
@@ -209,6 +210,76 @@ public class TestUpdateByGeneral extends BaseUpdateByTest implements UpdateError
                 .toArray(String[]::new);
     }
 
+    /**
+     * Process buckets of very different sizes with a small {@link UpdateBy#BUCKET_BATCH_TARGET_ROWS}, so that each
+     * window packs the many small buckets into shared batches while each large bucket is a batch of its own, and
+     * compare the incremental results with a recomputation.
+     */
+    @Test
+    public void testMixedBatchedAndUnbatchedBuckets() {
+        final int oldTarget = UpdateBy.BUCKET_BATCH_TARGET_ROWS;
+        UpdateBy.BUCKET_BATCH_TARGET_ROWS = 64;
+        try {
+            for (int seed = 10; seed < 14; seed++) {
+                doTestBatchedBuckets(seed > 11, 20, 10000, seed);
+            }
+        } finally {
+            UpdateBy.BUCKET_BATCH_TARGET_ROWS = oldTarget;
+        }
+    }
+
+    private void doTestBatchedBuckets(boolean redirected, int steps, int size, int seed) {
+        // Half the rows have Key 0, giving one large bucket per Sym; the rest spread over many small buckets
+        final Integer[] keys = new Integer[400];
+        for (int ii = 0; ii < keys.length; ++ii) {
+            keys[ii] = ii % 2 == 0 ? 0 : ii;
+        }
+        final CreateResult result = createTestTable(size, true, false, true, seed,
+                new String[] {"ts", "Key"}, new TestDataGenerator[] {new SortedInstantGenerator(
+                        DateTimeUtils.parseInstant("2022-03-09T09:00:00.000 NY"),
+                        DateTimeUtils.parseInstant("2022-03-09T16:30:00.000 NY")),
+                        new SetGenerator<>(keys)});
+
+        final EvalNugget[] nuggets = new EvalNugget[] {
+                new EvalNugget() {
+                    @Override
+                    protected Table e() {
+                        final TableDefaults base = (TableDefaults) result.t.sort("ts");
+                        final String[] columnNamesArray = base.getDefinition().getColumnNamesArray();
+                        // operators in cumulative, tick-based and time-based windows
+                        final Collection<? extends UpdateByOperation> clauses = List.of(
+                                UpdateByOperation.Fill(makeOpColNames(columnNamesArray, "_fill", "Sym", "Key", "ts")),
+                                UpdateByOperation.CumSum(
+                                        makeOpColNames(columnNamesArray, "_sum", "Sym", "Key", "ts")),
+                                UpdateByOperation.RollingSum(20, 10,
+                                        makeOpColNames(columnNamesArray, "_rollsumticks", "Sym", "Key", "ts",
+                                                "boolCol")),
+                                UpdateByOperation.RollingMax("ts", Duration.ofMinutes(5), Duration.ofMinutes(5),
+                                        makeOpColNames(columnNamesArray, "_rollmaxtime", "Sym", "Key", "ts",
+                                                "boolCol")));
+                        final UpdateByControl control = UpdateByControl.builder().useRedirection(redirected).build();
+                        return base.updateBy(control, clauses, ColumnName.from("Sym", "Key"));
+                    }
+
+                    @Override
+                    @NotNull
+                    public EnumSet<TableDiff.DiffItems> diffItems() {
+                        return EnumSet.of(TableDiff.DiffItems.DoublesExact, TableDiff.DiffItems.DoubleFraction);
+                    }
+                },
+        };
+
+        final int stepSize = Math.max(5, size / 10);
+        for (int step = 0; step < steps; step++) {
+            try {
+                simulateShiftAwareStep(stepSize, result.random, result.t, result.infos, nuggets);
+            } catch (Throwable t) {
+                System.out.println("Failed on step " + step + " steps " + steps + " size " + size + " seed " + seed);
+                throw t;
+            }
+        }
+    }
+
     @Test
     public void testNewBuckets() {
         final QueryTable table = TstUtils.testRefreshingTable(
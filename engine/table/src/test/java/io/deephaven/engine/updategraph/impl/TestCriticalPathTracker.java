@@ -0,0 +1,104 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.updategraph.impl;
+
+import io.deephaven.base.log.LogOutput;
+import io.deephaven.engine.table.impl.HasPerformanceEntry;
+import io.deephaven.engine.table.impl.perf.PerformanceEntry;
+import io.deephaven.engine.table.impl.perf.UpdatePerformanceTracker;
+import io.deephaven.engine.updategraph.AbstractNotification;
+import io.deephaven.engine.updategraph.NotificationQueue.Notification;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestCriticalPathTracker {
+    private EventDrivenUpdateGraph updateGraph;
+
+    @Before
+    public void before() {
+        // the default update graph is necessary for the update performance tracker
+        BaseUpdateGraph.removeInstance(PeriodicUpdateGraph.DEFAULT_UPDATE_GRAPH_NAME);
+        UpdatePerformanceTracker.resetForUnitTests();
+        updateGraph = EventDrivenUpdateGraph.newBuilder(PeriodicUpdateGraph.DEFAULT_UPDATE_GRAPH_NAME).build();
+    }
+
+    @After
+    public void after() {
+        BaseUpdateGraph.removeInstance(PeriodicUpdateGraph.DEFAULT_UPDATE_GRAPH_NAME);
+        UpdatePerformanceTracker.resetForUnitTests();
+    }
+
+    private final class TestNotification extends AbstractNotification implements HasPerformanceEntry {
+        private final PerformanceEntry entry;
+        private final long workNanos;
+        private CriticalPathTracker tracker;
+        private Notification child;
+
+        private TestNotification(final String description, final long workMillis) {
+            super(false);
+            entry = BaseUpdateGraph.createUpdatePerformanceEntry(updateGraph, description, null);
+            workNanos = TimeUnit.MILLISECONDS.toNanos(workMillis);
+        }
+
+        @Override
+        public void run() {
+            final long endNanos = System.nanoTime() + workNanos;
+            // noinspection StatementWithEmptyBody
+            while (System.nanoTime() < endNanos);
+            if (child != null) {
+                tracker.onNotificationAdded(child);
+            }
+        }
+
+        @Override
+        public boolean canExecute(final long step) {
+            return true;
+        }
+
+        @Override
+        public PerformanceEntry getPerformanceEntry() {
+            return entry;
+        }
+
+        @Override
+        public LogOutput append(final LogOutput logOutput) {
+            return logOutput.append("TestNotification");
+        }
+    }
+
+    @Test
+    public void testChainOutranksExpensiveLeaf() {
+        final CriticalPathTracker tracker = new CriticalPathTracker(0.5);
+        // source -> join -> aggBy, beside a leaf that is more expensive than any single link of the chain
+        final TestNotification source = new TestNotification("source", 5);
+        final TestNotification join = new TestNotification("join", 10);
+        final TestNotification aggBy = new TestNotification("aggBy", 10);
+        final TestNotification leaf = new TestNotification("leaf", 15);
+        source.tracker = join.tracker = tracker;
+        source.child = join;
+        join.child = aggBy;
+
+        assertEquals(0, CriticalPathTracker.priority(source));
+        tracker.run(source, Runnable::run);
+        tracker.run(leaf, Runnable::run);
+        tracker.run(join, Runnable::run);
+        tracker.run(aggBy, Runnable::run);
+        tracker.completeCycle();
+
+        final long sourcePriority = CriticalPathTracker.priority(source);
+        final long joinPriority = CriticalPathTracker.priority(join);
+        final long aggByPriority = CriticalPathTracker.priority(aggBy);
+        final long leafPriority = CriticalPathTracker.priority(leaf);
+        assertTrue(sourcePriority >= TimeUnit.MILLISECONDS.toNanos(25));
+        assertTrue(sourcePriority > joinPriority);
+        assertTrue(joinPriority > leafPriority);
+        assertTrue(leafPriority > aggByPriority);
+    }
+}
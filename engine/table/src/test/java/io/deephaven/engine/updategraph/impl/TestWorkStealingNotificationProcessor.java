@@ -0,0 +1,136 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.updategraph.impl;
+
+import io.deephaven.base.log.LogOutput;
+import io.deephaven.engine.table.impl.perf.UpdatePerformanceTracker;
+import io.deephaven.engine.updategraph.AbstractNotification;
+import io.deephaven.engine.updategraph.NotificationQueue.Notification;
+import io.deephaven.util.datastructures.linked.IntrusiveDoublyLinkedNode;
+import io.deephaven.util.datastructures.linked.IntrusiveDoublyLinkedQueue;
+import io.deephaven.util.thread.NamingThreadFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestWorkStealingNotificationProcessor {
+    private EventDrivenUpdateGraph updateGraph;
+    private WorkStealingNotificationProcessor processor;
+
+    @Before
+    public void before() {
+        // the default update graph is necessary for the update performance tracker
+        BaseUpdateGraph.removeInstance(PeriodicUpdateGraph.DEFAULT_UPDATE_GRAPH_NAME);
+        UpdatePerformanceTracker.resetForUnitTests();
+        updateGraph = EventDrivenUpdateGraph.newBuilder(PeriodicUpdateGraph.DEFAULT_UPDATE_GRAPH_NAME).build();
+        processor = new WorkStealingNotificationProcessor(updateGraph,
+                new NamingThreadFactory(TestWorkStealingNotificationProcessor.class, "updateExecutor", true), 4, 2);
+    }
+
+    @After
+    public void after() {
+        processor.shutdown();
+        BaseUpdateGraph.removeInstance(PeriodicUpdateGraph.DEFAULT_UPDATE_GRAPH_NAME);
+        UpdatePerformanceTracker.resetForUnitTests();
+    }
+
+    private final class ChainNotification extends AbstractNotification {
+        private final int remaining;
+        private final AtomicInteger runs;
+        private final ConcurrentHashMap<Thread, Boolean> threads;
+
+        private ChainNotification(final int remaining, final AtomicInteger runs,
+                final ConcurrentHashMap<Thread, Boolean> threads) {
+            super(false);
+            this.remaining = remaining;
+            this.runs = runs;
+            this.threads = threads;
+        }
+
+        @Override
+        public void run() {
+            runs.incrementAndGet();
+            threads.put(Thread.currentThread(), Boolean.TRUE);
+            if (remaining > 0) {
+                final Notification child = new ChainNotification(remaining - 1, runs, threads);
+                processor.onNotificationAdded(child);
+                processor.submit(child);
+            }
+        }
+
+        @Override
+        public boolean canExecute(final long step) {
+            return true;
+        }
+
+        @Override
+        public LogOutput append(final LogOutput logOutput) {
+            return logOutput.append("ChainNotification{").append(remaining).append('}');
+        }
+    }
+
+    @Test
+    public void testAllNotificationsRun() {
+        final int numChains = 64;
+        final int chainLength = 50;
+        final AtomicInteger runs = new AtomicInteger();
+        final ConcurrentHashMap<Thread, Boolean> threads = new ConcurrentHashMap<>();
+
+        for (int cycle = 0; cycle < 3; ++cycle) {
+            runs.set(0);
+            final IntrusiveDoublyLinkedQueue<Notification> roots =
+                    new IntrusiveDoublyLinkedQueue<>(IntrusiveDoublyLinkedNode.Adapter.<Notification>getInstance());
+            for (int ci = 0; ci < numChains; ++ci) {
+                roots.offer(new ChainNotification(chainLength - 1, runs, threads));
+            }
+            processor.submitAll(roots);
+            processor.doAllWork();
+
+            assertEquals(0, processor.outstandingNotificationsCount());
+            assertEquals(numChains * chainLength, runs.get());
+        }
+        assertTrue(threads.size() <= processor.threadCount());
+    }
+
+    @Test
+    public void testAffinityIsRecordedAndConsumed() {
+        final AtomicInteger runs = new AtomicInteger();
+        final ConcurrentHashMap<Thread, Boolean> threads = new ConcurrentHashMap<>();
+        // enqueued by an update thread, but not yet satisfied
+        final ChainNotification deferred = new ChainNotification(0, runs, threads);
+        final Notification enqueuer = new AbstractNotification(false) {
+            @Override
+            public void run() {
+                processor.onNotificationAdded(deferred);
+            }
+
+            @Override
+            public boolean canExecute(final long step) {
+                return true;
+            }
+
+            @Override
+            public LogOutput append(final LogOutput logOutput) {
+                return logOutput.append("EnqueuingNotification");
+            }
+        };
+        processor.submit(enqueuer);
+        processor.doAllWork();
+
+        final int affinity = deferred.getUpdateThreadAffinity();
+        assertTrue(affinity >= 0 && affinity < processor.threadCount());
+
+        // once satisfied, it is submitted by the refresh thread, which consumes the affinity
+        processor.submit(deferred);
+        processor.doAllWork();
+        assertEquals(1, runs.get());
+        assertEquals(-1, deferred.getUpdateThreadAffinity());
+    }
+}
@@ -631,6 +631,35 @@ public final class TestJobScheduler {
         }
     }
 
+    @Test
+    public void testParallelAndWait() {
+        final AtomicInteger[] calls = new AtomicInteger[50];
+        for (int ii = 0; ii < calls.length; ii++) {
+            calls[ii] = new AtomicInteger();
+        }
+        final JobScheduler scheduler = new ImmediateJobScheduler();
+        scheduler.iterateParallelAndWait("testParallelAndWait", calls.length, idx -> calls[idx].incrementAndGet());
+        for (int ii = 0; ii < calls.length; ii++) {
+            TestCase.assertEquals("calls[" + ii + "]", 1, calls[ii].get());
+        }
+    }
+
+    @Test
+    public void testParallelAndWaitRethrowsRuntimeException() {
+        final JobScheduler scheduler = new ImmediateJobScheduler();
+        try {
+            scheduler.iterateParallelAndWait("testParallelAndWaitRethrowsRuntimeException", 10, idx -> {
+                if (idx == 5) {
+                    throw new IllegalArgumentException("Intentional failure at " + idx);
+                }
+            });
+            TestCase.fail("Expected exception");
+        } catch (IllegalArgumentException expected) {
+            // Rethrown unchanged, as from a serial loop
+            TestCase.assertEquals("Intentional failure at 5", expected.getMessage());
+        }
+    }
+
     private static class Observer extends ContextFactory {
 
         private final Runnable onComplete;
@@ -17,6 +17,11 @@ public abstract class AbstractNotification implements NotificationQueue.Notifica
     private NotificationQueue.Notification next;
     private NotificationQueue.Notification prev;
 
+    /**
+     * The update thread this notification should preferably run on, as recorded by the notification processor, or -1.
+     */
+    private volatile int updateThreadAffinity = -1;
+
     protected AbstractNotification(final boolean isTerminal) {
         this.isTerminal = isTerminal;
         next = prev = this;
@@ -42,6 +47,23 @@ public abstract class AbstractNotification implements NotificationQueue.Notifica
         return isTerminal;
     }
 
+    /**
+     * @return the update thread this notification should preferably run on, or -1 if it has no preference
+     */
+    public int getUpdateThreadAffinity() {
+        return updateThreadAffinity;
+    }
+
+    /**
+     * Record the update thread this notification should preferably run on. This is only a hint for the notification
+     * processor, which is the only caller.
+     *
+     * @param updateThreadAffinity the index of the update thread, or -1 for no preference
+     */
+    public void setUpdateThreadAffinity(final int updateThreadAffinity) {
+        this.updateThreadAffinity = updateThreadAffinity;
+    }
+
     @NotNull
     @Override
     public NotificationQueue.Notification getNext() {
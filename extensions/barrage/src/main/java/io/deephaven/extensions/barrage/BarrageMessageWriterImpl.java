@@ -32,7 +32,9 @@ import io.deephaven.extensions.barrage.chunk.DictionaryChunkWriter;
 import io.deephaven.extensions.barrage.chunk.SingleElementListHeaderWriter;
 import io.deephaven.extensions.barrage.util.ExposedByteArrayOutputStream;
 import io.deephaven.extensions.barrage.util.BarrageUtil;
+import io.deephaven.extensions.barrage.util.BodyCompressionUtil;
 import io.deephaven.extensions.barrage.util.DefensiveDrainable;
+import io.deephaven.extensions.barrage.util.ParallelColumnUtil;
 import io.deephaven.proto.flight.util.MessageHelper;
 import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.SafeCloseableList;
@@ -191,11 +193,12 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
 
             // noinspection unchecked
             addColumnData = (ColumnChunksWriter<Chunk<Values>>[]) new ColumnChunksWriter[message.addColumnData.length];
-            for (int i = 0; i < message.addColumnData.length; ++i) {
+            // preparing the chunks of a large snapshot for encoding is independent per column
+            ParallelColumnUtil.forEachColumn(message.addColumnData.length, message.rowsIncluded.size(), i -> {
                 final BarrageMessage.AddColumnData columnData = message.addColumnData[i];
                 // noinspection resource
                 addColumnData[i] = new ColumnChunksWriter<>(chunkWriters[i], columnData.data);
-            }
+            });
 
             modColumnData = new ModColumnWriter[message.modColumnData.length];
             for (int i = 0; i < modColumnData.length; ++i) {
@@ -839,6 +842,7 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
         };
 
         final FlatBufferBuilder header = new FlatBufferBuilder();
+        final BodyCompressionCodec codec = view.options().compressionCodec();
 
         final int numRows;
         final int nodesOffset;
@@ -851,7 +855,6 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
             // noinspection DataFlowIssue
             bufferInfos.get().setSize(0);
 
-            final MutableLong totalBufferLength = new MutableLong();
             final ChunkWriter.FieldNodeListener fieldNodeListener =
                     (numElements, nullCount) -> {
                         nodeOffsets.ensureCapacityPreserve(nodeOffsets.get().size() + 1);
@@ -861,7 +864,6 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
                     };
 
             final ChunkWriter.BufferListener bufferListener = (length) -> {
-                totalBufferLength.add(length);
                 bufferInfos.ensureCapacityPreserve(bufferInfos.get().size() + 1);
                 bufferInfos.get().add(length);
             };
@@ -879,13 +881,14 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
             nodesOffset = header.endVector();
 
             final WritableLongChunk<Values> biChunk = bufferInfos.get();
-            RecordBatch.startBuffersVector(header, biChunk.size());
-            for (int i = biChunk.size() - 1; i >= 0; --i) {
-                totalBufferLength.subtract(biChunk.get(i));
-                Buffer.createBuffer(header, totalBufferLength.get(), biChunk.get(i));
-            }
-            buffersOffset = header.endVector();
+            final long[] bufferLengths = new long[biChunk.size()];
+            biChunk.copyToTypedArray(0, bufferLengths, 0, bufferLengths.length);
+            final long[] bufferOffsets = maybeCompressBody(codec, streams, size, addStream, bufferLengths);
+            buffersOffset = createBuffersVector(header, bufferOffsets, bufferLengths);
         }
+        final int compressionOffset = codec == BodyCompressionCodec.NONE
+                ? 0
+                : BodyCompressionUtil.createBodyCompression(header, codec);
 
         // Build DictionaryBatch messages for any dict columns with pending deltas.
         // These must precede the RecordBatch in the stream; callers call resetDelta() on success.
@@ -902,6 +905,9 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
         RecordBatch.startRecordBatch(header);
         RecordBatch.addNodes(header, nodesOffset);
         RecordBatch.addBuffers(header, buffersOffset);
+        if (compressionOffset != 0) {
+            RecordBatch.addCompression(header, compressionOffset);
+        }
         setRecordBatchLength(view, header, numRows);
         final int headerOffset = RecordBatch.endRecordBatch(header);
 
@@ -938,6 +944,7 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
             @NotNull final BarrageOptions options) throws IOException {
         final DictionaryWriterState state = entry.state;
         final boolean isDelta = !state.needsFullBatch();
+        final BodyCompressionCodec codec = options.compressionCodec();
 
         // Serialize the delta values via the values writer into a single-column inner RecordBatch body.
         final ArrayDeque<DefensiveDrainable> bodyStreams = new ArrayDeque<>();
@@ -976,7 +983,6 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
             innerBufferInfos.ensureCapacity(4);
             innerBufferInfos.get().setSize(0);
 
-            final MutableLong totalInnerLen = new MutableLong();
             valuesColumn.visitFieldNodes((numElements, nullCount) -> {
                 innerNodes.ensureCapacityPreserve(innerNodes.get().size() + 1);
                 // noinspection resource
@@ -984,7 +990,6 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
                         .add(new ChunkWriter.FieldNodeInfo(numElements, nullCount));
             });
             valuesColumn.visitBuffers((length) -> {
-                totalInnerLen.add(length);
                 innerBufferInfos.ensureCapacityPreserve(innerBufferInfos.get().size() + 1);
                 innerBufferInfos.get().add(length);
             });
@@ -1001,18 +1006,22 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
             innerNodesOffset = dictHeader.endVector();
 
             final WritableLongChunk<Values> biChunk = innerBufferInfos.get();
-            RecordBatch.startBuffersVector(dictHeader, biChunk.size());
-            for (int i = biChunk.size() - 1; i >= 0; --i) {
-                totalInnerLen.subtract(biChunk.get(i));
-                Buffer.createBuffer(dictHeader, totalInnerLen.get(), biChunk.get(i));
-            }
-            innerBuffersOffset = dictHeader.endVector();
+            final long[] bufferLengths = new long[biChunk.size()];
+            biChunk.copyToTypedArray(0, bufferLengths, 0, bufferLengths.length);
+            final long[] bufferOffsets = maybeCompressBody(codec, bodyStreams, bodySize, addBodyStream, bufferLengths);
+            innerBuffersOffset = createBuffersVector(dictHeader, bufferOffsets, bufferLengths);
         }
+        final int compressionOffset = codec == BodyCompressionCodec.NONE
+                ? 0
+                : BodyCompressionUtil.createBodyCompression(dictHeader, codec);
 
         // Build the inner RecordBatch flatbuf (the values array inside the DictionaryBatch).
         RecordBatch.startRecordBatch(dictHeader);
         RecordBatch.addNodes(dictHeader, innerNodesOffset);
         RecordBatch.addBuffers(dictHeader, innerBuffersOffset);
+        if (compressionOffset != 0) {
+            RecordBatch.addCompression(dictHeader, compressionOffset);
+        }
         RecordBatch.addLength(dictHeader, valuesChunk.size());
         final int innerRecordBatchOffset = RecordBatch.endRecordBatch(dictHeader);
 
@@ -1035,6 +1044,62 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
         }
     }
 
+    /**
+     * Compresses the buffers of a record batch body when a {@link BodyCompressionCodec} was requested. The queued body
+     * streams are replaced by the framed, compressed buffers, and {@code bufferLengths} by their compressed lengths.
+     *
+     * @param codec the codec to compress with
+     * @param streams the streams that make up the body so far
+     * @param size the size of the body so far
+     * @param addStream appends a stream to the body, keeping it aligned
+     * @param bufferLengths the length of each buffer in the body
+     * @return the offset of each buffer in the body
+     */
+    private static long[] maybeCompressBody(
+            final BodyCompressionCodec codec,
+            final Collection<DefensiveDrainable> streams,
+            final MutableInt size,
+            final Consumer<DefensiveDrainable> addStream,
+            final long[] bufferLengths) throws IOException {
+        final long[] bufferOffsets = new long[bufferLengths.length];
+        if (codec == BodyCompressionCodec.NONE) {
+            long offset = 0;
+            for (int bi = 0; bi < bufferLengths.length; ++bi) {
+                bufferOffsets[bi] = offset;
+                offset += bufferLengths[bi];
+            }
+            return bufferOffsets;
+        }
+
+        // each buffer is compressed as soon as it has been drained, rather than staging the whole body
+        final BodyCompressionUtil.BufferCompressor compressor =
+                BodyCompressionUtil.bufferCompressor(codec, bufferLengths);
+        for (final DefensiveDrainable stream : streams) {
+            stream.drainTo(compressor);
+            stream.close();
+        }
+        final byte[][] compressed = compressor.finish();
+        streams.clear();
+        size.set(0);
+        for (int bi = 0; bi < compressed.length; ++bi) {
+            bufferOffsets[bi] = size.get();
+            bufferLengths[bi] = compressed[bi].length;
+            addStream.accept(new DrainableByteArrayInputStream(compressed[bi], 0, compressed[bi].length));
+        }
+        return bufferOffsets;
+    }
+
+    private static int createBuffersVector(
+            final FlatBufferBuilder header,
+            final long[] bufferOffsets,
+            final long[] bufferLengths) {
+        RecordBatch.startBuffersVector(header, bufferLengths.length);
+        for (int i = bufferLengths.length - 1; i >= 0; --i) {
+            Buffer.createBuffer(header, bufferOffsets[i], bufferLengths[i]);
+        }
+        return header.endVector();
+    }
+
     protected void setRecordBatchLength(final RecordBatchMessageView view,
             final FlatBufferBuilder header,
             final int numRows) {
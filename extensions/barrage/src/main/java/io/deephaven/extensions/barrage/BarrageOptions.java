@@ -63,4 +63,19 @@ public interface BarrageOptions {
     default long previewListLengthLimit() {
         return 0;
     }
+
+    /**
+     * The codec used to compress the buffers of each record batch body. Compression trades CPU on both ends for
+     * bandwidth, and is worthwhile for large snapshots sent over slow links. Readers decompress any record batch that
+     * declares a {@code BodyCompression}, regardless of this option.
+     * <p>
+     * The codec is not part of the serialized options; clients request it with the
+     * {@link BodyCompressionCodec#REQUEST_HEADER} call header, and servers fall back to
+     * {@link BodyCompressionCodec#NONE} when it is absent.
+     *
+     * @return the codec used to compress record batch bodies
+     */
+    default BodyCompressionCodec compressionCodec() {
+        return BodyCompressionCodec.NONE;
+    }
 }
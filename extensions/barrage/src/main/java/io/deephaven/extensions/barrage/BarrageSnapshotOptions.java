@@ -59,7 +59,16 @@ public abstract class BarrageSnapshotOptions implements BarrageOptions {
         return 0;
     }
 
+    @Override
+    @Default
+    public BodyCompressionCodec compressionCodec() {
+        return BodyCompressionCodec.NONE;
+    }
+
+    public abstract BarrageSnapshotOptions withCompressionCodec(BodyCompressionCodec compressionCodec);
+
     public int appendTo(FlatBufferBuilder builder) {
+        // the compression codec is requested with the BodyCompressionCodec.REQUEST_HEADER call header instead
         return io.deephaven.barrage.flatbuf.BarrageSnapshotOptions.createBarrageSnapshotOptions(builder,
                 useDeephavenNulls(),
                 batchSize(),
@@ -114,6 +123,14 @@ public abstract class BarrageSnapshotOptions implements BarrageOptions {
          */
         Builder previewListLengthLimit(long previewListLengthLimit);
 
+        /**
+         * See {@link BarrageOptions#compressionCodec()} for details.
+         *
+         * @param compressionCodec the codec used to compress record batch bodies
+         * @return this builder
+         */
+        Builder compressionCodec(BodyCompressionCodec compressionCodec);
+
         /**
          * @return a new BarrageSnapshotOptions instance
          */
@@ -91,7 +91,16 @@ public abstract class BarrageSubscriptionOptions implements BarrageOptions {
         return 0;
     }
 
+    @Override
+    @Default
+    public BodyCompressionCodec compressionCodec() {
+        return BodyCompressionCodec.NONE;
+    }
+
+    public abstract BarrageSubscriptionOptions withCompressionCodec(BodyCompressionCodec compressionCodec);
+
     public int appendTo(FlatBufferBuilder builder) {
+        // the compression codec is requested with the BodyCompressionCodec.REQUEST_HEADER call header instead
         return io.deephaven.barrage.flatbuf.BarrageSubscriptionOptions.createBarrageSubscriptionOptions(builder,
                 useDeephavenNulls(),
                 minUpdateIntervalMs(),
@@ -165,6 +174,14 @@ public abstract class BarrageSubscriptionOptions implements BarrageOptions {
          */
         Builder previewListLengthLimit(long previewListLengthLimit);
 
+        /**
+         * See {@link BarrageOptions#compressionCodec()} for details.
+         *
+         * @param compressionCodec the codec used to compress record batch bodies
+         * @return this builder
+         */
+        Builder compressionCodec(BodyCompressionCodec compressionCodec);
+
         /**
          * @return a new BarrageSubscriptionOptions instance
          */
@@ -0,0 +1,26 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.barrage;
+
+/**
+ * The Arrow IPC codecs that may be used to compress the buffers of a record batch body. See the {@code BodyCompression}
+ * table of the Arrow IPC format; every buffer is compressed independently, so that readers can decompress them one at
+ * a time.
+ */
+public enum BodyCompressionCodec {
+    /** Buffers are sent uncompressed, and the record batch carries no {@code BodyCompression}. */
+    NONE,
+    /** Buffers are compressed with the LZ4 frame format; cheap to encode, a good fit for fast networks. */
+    LZ4_FRAME,
+    /** Buffers are compressed with Zstandard; slower to encode, but typically much smaller on the wire. */
+    ZSTD;
+
+    /**
+     * The call header with which a client requests a codec for the record batches of one {@code DoGet} or
+     * {@code DoExchange} call. The barrage options tables have no field for the codec, so it is negotiated per call: a
+     * server that does not recognize the header, or the value, sends uncompressed bodies, as it does when the header is
+     * absent.
+     */
+    public static final String REQUEST_HEADER = "x-deephaven-barrage-compression";
+}
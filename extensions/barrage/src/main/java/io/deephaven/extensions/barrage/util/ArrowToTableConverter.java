@@ -30,6 +30,7 @@ import org.apache.arrow.flatbuf.RecordBatch;
 import org.apache.arrow.flatbuf.Schema;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.DataInput;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -98,6 +99,11 @@ public class ArrowToTableConverter {
 
     public static PrimitiveIterator.OfLong extractBufferInfo(@NotNull final RecordBatch batch) {
         final long[] bufferInfo = new long[batch.buffersLength()];
+        extractBufferInfo(batch, bufferInfo);
+        return Arrays.stream(bufferInfo).iterator();
+    }
+
+    private static void extractBufferInfo(@NotNull final RecordBatch batch, final long[] bufferInfo) {
         for (int bi = 0; bi < batch.buffersLength(); ++bi) {
             int offset = LongSizedDataStructure.intSize("BufferInfo", batch.buffers(bi).offset());
             int length = LongSizedDataStructure.intSize("BufferInfo", batch.buffers(bi).length());
@@ -110,7 +116,30 @@ public class ArrowToTableConverter {
             }
             bufferInfo[bi] = length;
         }
-        return Arrays.stream(bufferInfo).iterator();
+    }
+
+    /**
+     * Returns the body of a record batch, positioned at its first buffer. A body that declares a
+     * {@code BodyCompression} is read and decompressed in full.
+     *
+     * @param mi the message holding the record batch
+     * @param batch the record batch header
+     * @param bufferInfo populated with the length of each buffer in the returned body
+     * @return the body of the record batch
+     */
+    private static DataInput readBody(
+            @NotNull final BarrageProtoUtil.MessageInfo mi,
+            @NotNull final RecordBatch batch,
+            final long[] bufferInfo) {
+        if (batch.compression() == null) {
+            extractBufferInfo(batch, bufferInfo);
+            return mi.inputStream;
+        }
+        try {
+            return BodyCompressionUtil.readCompressedBody(batch, mi.bodyLength, mi.inputStream, bufferInfo);
+        } catch (final IOException e) {
+            throw new UncheckedDeephavenException("Failed to decompress record batch body", e);
+        }
     }
 
     @ScriptApi
@@ -156,9 +185,11 @@ public class ArrowToTableConverter {
         final Iterator<ChunkWriter.FieldNodeInfo> fieldNodeIter =
                 new FlatBufferIteratorAdapter<>(valuesBatch.nodesLength(),
                         i -> new ChunkWriter.FieldNodeInfo(valuesBatch.nodes(i)));
-        final PrimitiveIterator.OfLong bufferInfoIter = extractBufferInfo(valuesBatch);
+        final long[] bufferInfo = new long[valuesBatch.buffersLength()];
+        final DataInput body = readBody(mi, valuesBatch, bufferInfo);
+        final PrimitiveIterator.OfLong bufferInfoIter = Arrays.stream(bufferInfo).iterator();
         try (final WritableChunk<Values> valuesChunk =
-                valuesReader.readChunk(fieldNodeIter, bufferInfoIter, mi.inputStream, null, 0, 0)) {
+                valuesReader.readChunk(fieldNodeIter, bufferInfoIter, body, null, 0, 0)) {
             dictionaryRegistry.update(dictId, valuesChunk, dictIsDelta);
         } catch (final IOException e) {
             throw new UncheckedDeephavenException("Failed to decode DictionaryBatch id=" + dictId, e);
@@ -247,7 +278,9 @@ public class ArrowToTableConverter {
                 new FlatBufferIteratorAdapter<>(batch.nodesLength(),
                         i -> new ChunkWriter.FieldNodeInfo(batch.nodes(i)));
 
-        final PrimitiveIterator.OfLong bufferInfoIter = extractBufferInfo(batch);
+        final long[] bufferInfo = new long[batch.buffersLength()];
+        final DataInput body = readBody(mi, batch, bufferInfo);
+        final PrimitiveIterator.OfLong bufferInfoIter = Arrays.stream(bufferInfo).iterator();
 
         msg.rowsRemoved = RowSetFactory.empty();
         msg.shifted = RowSetShiftData.EMPTY;
@@ -263,7 +296,7 @@ public class ArrowToTableConverter {
             msg.addColumnData[ci].data = new ArrayList<>();
             try {
                 acd.data.add(readers.get(ci).readChunk(
-                        fieldNodeIter, bufferInfoIter, mi.inputStream, null, 0, numRowsAdded));
+                        fieldNodeIter, bufferInfoIter, body, null, 0, numRowsAdded));
             } catch (final IOException unexpected) {
                 throw new UncheckedDeephavenException(unexpected);
             }
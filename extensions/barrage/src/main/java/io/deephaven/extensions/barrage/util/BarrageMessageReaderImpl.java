@@ -38,6 +38,7 @@ import org.apache.arrow.flatbuf.MessageHeader;
 import org.apache.arrow.flatbuf.RecordBatch;
 import org.apache.arrow.flatbuf.Schema;
 
+import java.io.DataInput;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
@@ -247,22 +248,28 @@ public class BarrageMessageReaderImpl implements BarrageMessageReader {
                                         i -> new ChunkWriter.FieldNodeInfo(valuesBatch.nodes(i)));
 
                         final long[] bufferInfo = new long[valuesBatch.buffersLength()];
-                        for (int bi = 0; bi < valuesBatch.buffersLength(); ++bi) {
-                            int offset = LongSizedDataStructure.intSize("DictionaryBatch.BufferInfo",
-                                    valuesBatch.buffers(bi).offset());
-                            int length = LongSizedDataStructure.intSize("DictionaryBatch.BufferInfo",
-                                    valuesBatch.buffers(bi).length());
-                            if (bi < valuesBatch.buffersLength() - 1) {
-                                final int nextOffset = LongSizedDataStructure.intSize(
-                                        "DictionaryBatch.BufferInfo", valuesBatch.buffers(bi + 1).offset());
-                                length += Math.max(0, nextOffset - offset - length);
+                        final DataInput body;
+                        if (valuesBatch.compression() != null) {
+                            body = BodyCompressionUtil.readCompressedBody(valuesBatch, dictBodySize, ois, bufferInfo);
+                        } else {
+                            body = ois;
+                            for (int bi = 0; bi < valuesBatch.buffersLength(); ++bi) {
+                                int offset = LongSizedDataStructure.intSize("DictionaryBatch.BufferInfo",
+                                        valuesBatch.buffers(bi).offset());
+                                int length = LongSizedDataStructure.intSize("DictionaryBatch.BufferInfo",
+                                        valuesBatch.buffers(bi).length());
+                                if (bi < valuesBatch.buffersLength() - 1) {
+                                    final int nextOffset = LongSizedDataStructure.intSize(
+                                            "DictionaryBatch.BufferInfo", valuesBatch.buffers(bi + 1).offset());
+                                    length += Math.max(0, nextOffset - offset - length);
+                                }
+                                bufferInfo[bi] = length;
                             }
-                            bufferInfo[bi] = length;
                         }
                         final PrimitiveIterator.OfLong bufferInfoIter = Arrays.stream(bufferInfo).iterator();
 
                         try (final WritableChunk<Values> valuesChunk =
-                                valuesReader.readChunk(fieldNodeIter, bufferInfoIter, ois, null, 0, 0)) {
+                                valuesReader.readChunk(fieldNodeIter, bufferInfoIter, body, null, 0, 0)) {
                             dictionaryRegistry.update(dictId, valuesChunk, dictIsDelta);
                         }
                     }
@@ -291,16 +298,22 @@ public class BarrageMessageReaderImpl implements BarrageMessageReader {
                                     i -> new ChunkWriter.FieldNodeInfo(batch.nodes(i)));
 
                     final long[] bufferInfo = new long[batch.buffersLength()];
-                    for (int bi = 0; bi < batch.buffersLength(); ++bi) {
-                        int offset = LongSizedDataStructure.intSize("BufferInfo", batch.buffers(bi).offset());
-                        int length = LongSizedDataStructure.intSize("BufferInfo", batch.buffers(bi).length());
-                        if (bi < batch.buffersLength() - 1) {
-                            final int nextOffset =
-                                    LongSizedDataStructure.intSize("BufferInfo", batch.buffers(bi + 1).offset());
-                            // our parsers handle overhanging buffers
-                            length += Math.max(0, nextOffset - offset - length);
+                    final DataInput body;
+                    if (batch.compression() != null) {
+                        body = BodyCompressionUtil.readCompressedBody(batch, size, ois, bufferInfo);
+                    } else {
+                        body = ois;
+                        for (int bi = 0; bi < batch.buffersLength(); ++bi) {
+                            int offset = LongSizedDataStructure.intSize("BufferInfo", batch.buffers(bi).offset());
+                            int length = LongSizedDataStructure.intSize("BufferInfo", batch.buffers(bi).length());
+                            if (bi < batch.buffersLength() - 1) {
+                                final int nextOffset =
+                                        LongSizedDataStructure.intSize("BufferInfo", batch.buffers(bi + 1).offset());
+                                // our parsers handle overhanging buffers
+                                length += Math.max(0, nextOffset - offset - length);
+                            }
+                            bufferInfo[bi] = length;
                         }
-                        bufferInfo[bi] = length;
                     }
                     final PrimitiveIterator.OfLong bufferInfoIter = Arrays.stream(bufferInfo).iterator();
 
@@ -314,7 +327,7 @@ public class BarrageMessageReaderImpl implements BarrageMessageReader {
                                 // we cannot aggregate multiple batches into the same chunk since we're not actually
                                 // sure how many rows are in the batch without reading the offsets of the list payload
                                 final WritableChunk<Values> outChunk = readers.get(ci).readChunk(
-                                        fieldNodeIter, bufferInfoIter, ois, null, 0, 0);
+                                        fieldNodeIter, bufferInfoIter, body, null, 0, 0);
                                 acd.data.add(outChunk);
                                 continue;
                             }
@@ -341,7 +354,7 @@ public class BarrageMessageReaderImpl implements BarrageMessageReader {
 
                             // fill the chunk with data and assign back into the array
                             final WritableChunk<Values> outChunk = readers.get(ci).readChunk(
-                                    fieldNodeIter, bufferInfoIter, ois, inChunk, inChunk.size(), (int) batch.length());
+                                    fieldNodeIter, bufferInfoIter, body, inChunk, inChunk.size(), (int) batch.length());
                             Assert.eq(outChunk, "outChunk", inChunk, "inChunk");
                         }
 
@@ -360,7 +373,7 @@ public class BarrageMessageReaderImpl implements BarrageMessageReader {
                                 // we cannot aggregate multiple batches into the same chunk since we're not actually
                                 // sure how many rows are in the batch without reading the offsets of the list payload
                                 final WritableChunk<Values> outChunk = readers.get(ci).readChunk(
-                                        fieldNodeIter, bufferInfoIter, ois, null, 0, 0);
+                                        fieldNodeIter, bufferInfoIter, body, null, 0, 0);
                                 mcd.data.add(outChunk);
                                 maxModRows = Math.max(outChunk.size(), maxModRows);
                                 continue;
@@ -388,7 +401,7 @@ public class BarrageMessageReaderImpl implements BarrageMessageReader {
 
                             // fill the chunk with data and assign back into the array
                             final WritableChunk<Values> outChunk = readers.get(ci).readChunk(
-                                    fieldNodeIter, bufferInfoIter, ois, inChunk, inChunk.size(), numRowsToRead);
+                                    fieldNodeIter, bufferInfoIter, body, inChunk, inChunk.size(), numRowsToRead);
                             Assert.eq(outChunk, "outChunk", inChunk, "inChunk");
                         }
                         numModRowsRead += maxModRows;
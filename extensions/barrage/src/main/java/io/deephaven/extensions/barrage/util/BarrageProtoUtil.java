@@ -140,6 +140,8 @@ public class BarrageProtoUtil {
         public Flight.FlightDescriptor descriptor = null;
         /** the payload beyond the header metadata */
         public LittleEndianDataInputStream inputStream = null;
+        /** the length of the payload beyond the header metadata */
+        public int bodyLength = 0;
     }
 
     public static MessageInfo parseProtoMessage(final InputStream stream) throws IOException {
@@ -174,6 +176,7 @@ public class BarrageProtoUtil {
                     // at this point, we're in the body, we will read it and then break, the rest of the payload should
                     // be the body
                     size = decoder.readRawVarint32();
+                    mi.bodyLength = size;
                     mi.inputStream = new LittleEndianDataInputStream(
                             new BarrageProtoUtil.ObjectInputStreamAdapter(decoder, size));
                     // we do not actually remove the content from our stream; prevent reading the next tag via a labeled
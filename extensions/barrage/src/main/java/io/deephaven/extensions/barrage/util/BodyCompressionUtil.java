@@ -0,0 +1,418 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.barrage.util;
+
+import com.google.common.io.LittleEndianDataInputStream;
+import com.google.flatbuffers.FlatBufferBuilder;
+import io.airlift.compress.zstd.ZstdCompressor;
+import io.airlift.compress.zstd.ZstdDecompressor;
+import io.deephaven.UncheckedDeephavenException;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.updategraph.OperationInitializer;
+import io.deephaven.extensions.barrage.BodyCompressionCodec;
+import io.deephaven.util.datastructures.LongSizedDataStructure;
+import org.apache.arrow.flatbuf.BodyCompression;
+import org.apache.arrow.flatbuf.BodyCompressionMethod;
+import org.apache.arrow.flatbuf.CompressionType;
+import org.apache.arrow.flatbuf.RecordBatch;
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorInputStream;
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorOutputStream;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Compresses and decompresses the buffers of Arrow IPC record batch bodies, as described by the {@code BodyCompression}
+ * table of the Arrow IPC format.
+ * <p>
+ * Each non-empty buffer is framed by the little-endian 64-bit length of its uncompressed contents, followed by the
+ * compressed contents. A length of {@code -1} marks a buffer that is sent uncompressed; we do that for buffers that are
+ * too small to be worth compressing and for buffers that do not shrink. Buffers of at least
+ * {@code BodyCompressionUtil.parallelCompressionSize} bytes are compressed concurrently on the current execution
+ * context's {@link OperationInitializer}, since a single wide column can otherwise dominate the time to encode a batch.
+ * <p>
+ * The web client does not decompress bodies; GWT uses a super-source replacement of this class that supports only
+ * {@link BodyCompressionCodec#NONE}.
+ */
+public final class BodyCompressionUtil {
+
+    private static final int MIN_COMPRESSION_SIZE = Configuration.getInstance()
+            .getIntegerForClassWithDefault(BodyCompressionUtil.class, "minCompressionSize", 256);
+
+    private static final int PARALLEL_COMPRESSION_SIZE = Configuration.getInstance()
+            .getIntegerForClassWithDefault(BodyCompressionUtil.class, "parallelCompressionSize", 1 << 20);
+
+    /**
+     * The largest ratio of the total decompressed length of a record batch body to its compressed length that we accept.
+     * A zstd block of repeated bytes compresses about 40,000 times, so the default leaves room for columns of a
+     * single value.
+     */
+    private static final int MAX_DECOMPRESSION_RATIO = Configuration.getInstance()
+            .getIntegerForClassWithDefault(BodyCompressionUtil.class, "maxDecompressionRatio", 1 << 16);
+
+    /**
+     * The largest total decompressed length of a record batch body that we accept, regardless of its compressed length.
+     */
+    private static final int MAX_DECOMPRESSED_BODY_SIZE = Configuration.getInstance()
+            .getIntegerForClassWithDefault(BodyCompressionUtil.class, "maxDecompressedBodySize", 1 << 30);
+
+    private static final long NO_COMPRESSION_LENGTH = -1;
+
+    private static final byte[] EMPTY_BUFFER = new byte[0];
+    private static final byte[] EMPTY_LENGTH = new byte[Long.BYTES];
+
+    private BodyCompressionUtil() {} // static use only
+
+    /**
+     * Append the {@code BodyCompression} table for the given codec to a record batch header.
+     *
+     * @param builder the builder of the record batch header
+     * @param codec the codec used to compress the buffers of the record batch body
+     * @return the offset of the {@code BodyCompression} table
+     */
+    public static int createBodyCompression(
+            @NotNull final FlatBufferBuilder builder,
+            @NotNull final BodyCompressionCodec codec) {
+        return BodyCompression.createBodyCompression(builder, codecToFb(codec), BodyCompressionMethod.BUFFER);
+    }
+
+    /**
+     * Create an output stream that compresses the buffers of an uncompressed record batch body as the body is written
+     * to it. The buffers are laid out end to end in the body, in the order of {@code bufferLengths}; each is compressed
+     * as soon as it is complete, so that only one uncompressed buffer is held at a time. Large buffers are compressed on
+     * the {@link OperationInitializer} of the current {@link ExecutionContext}, when it can parallelize.
+     *
+     * @param codec the codec to compress with
+     * @param bufferLengths the length of each buffer in the body
+     * @return a stream to write the uncompressed body to
+     */
+    public static BufferCompressor bufferCompressor(
+            @NotNull final BodyCompressionCodec codec,
+            @NotNull final long[] bufferLengths) {
+        return new BufferCompressor(codec, bufferLengths,
+                ExecutionContext.getContext().getOperationInitializer());
+    }
+
+    /**
+     * An {@link OutputStream} that splits an uncompressed record batch body into its buffers and compresses each of
+     * them. See {@link #bufferCompressor(BodyCompressionCodec, long[])}.
+     */
+    public static final class BufferCompressor extends OutputStream {
+        private final BodyCompressionCodec codec;
+        private final long[] bufferLengths;
+        private final byte[][] compressed;
+        private final OperationInitializer initializer;
+        private final ArrayDeque<Future<?>> pending = new ArrayDeque<>();
+
+        /** Reused to stage buffers that are compressed on the writing thread. */
+        private byte[] staging = EMPTY_BUFFER;
+        /** The index of the buffer being written. */
+        private int bufferIndex;
+        /** The array that the buffer being written is staged in. */
+        private byte[] current;
+        private int currentLength;
+        private int stagedLength;
+
+        private BufferCompressor(
+                final BodyCompressionCodec codec,
+                final long[] bufferLengths,
+                final OperationInitializer initializer) {
+            this.codec = codec;
+            this.bufferLengths = bufferLengths;
+            this.compressed = new byte[bufferLengths.length][];
+            this.initializer = initializer;
+            startBuffer();
+        }
+
+        @Override
+        public void write(final int b) {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(@NotNull final byte[] b, int off, int len) {
+            while (len > 0 && bufferIndex < bufferLengths.length) {
+                final int toCopy = Math.min(len, currentLength - stagedLength);
+                System.arraycopy(b, off, current, stagedLength, toCopy);
+                stagedLength += toCopy;
+                off += toCopy;
+                len -= toCopy;
+                if (stagedLength == currentLength) {
+                    compressCurrent();
+                    ++bufferIndex;
+                    startBuffer();
+                }
+            }
+            // anything after the last buffer is alignment padding, which is not part of any buffer
+        }
+
+        /**
+         * Wait for any concurrent compression to complete.
+         *
+         * @return the framed, compressed contents of each buffer; empty buffers remain empty
+         */
+        public byte[][] finish() {
+            while (!pending.isEmpty()) {
+                await(pending.removeFirst());
+            }
+            if (bufferIndex < bufferLengths.length) {
+                throw new IllegalStateException("Record batch body ended within buffer " + bufferIndex);
+            }
+            return compressed;
+        }
+
+        private void startBuffer() {
+            while (bufferIndex < bufferLengths.length && bufferLengths[bufferIndex] == 0) {
+                compressed[bufferIndex++] = EMPTY_BUFFER;
+            }
+            if (bufferIndex == bufferLengths.length) {
+                return;
+            }
+            currentLength = LongSizedDataStructure.intSize("BodyCompressionUtil", bufferLengths[bufferIndex]);
+            stagedLength = 0;
+            if (currentLength >= PARALLEL_COMPRESSION_SIZE && initializer.canParallelize()) {
+                // handed off to the initializer, so it needs its own array
+                current = new byte[currentLength];
+            } else {
+                if (staging.length < currentLength) {
+                    staging = new byte[currentLength];
+                }
+                current = staging;
+            }
+        }
+
+        private void compressCurrent() {
+            final int bi = bufferIndex;
+            final byte[] contents = current;
+            final int length = currentLength;
+            if (contents == staging) {
+                compressed[bi] = compressBuffer(codec, contents, 0, length);
+                return;
+            }
+            // bound the number of uncompressed buffers that are waiting for the initializer
+            while (pending.size() >= Math.max(1, initializer.parallelismFactor())) {
+                await(pending.removeFirst());
+            }
+            pending.addLast(initializer.submit(() -> compressed[bi] = compressBuffer(codec, contents, 0, length)));
+        }
+
+        private static void await(final Future<?> future) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                throw new CancellationException("interrupted while compressing a record batch body");
+            } catch (ExecutionException e) {
+                throw new UncheckedDeephavenException("failed to compress a record batch buffer", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Read the body of a record batch that declares a {@code BodyCompression}, decompressing each of its buffers.
+     *
+     * <p>
+     * The buffer offsets and lengths, and the decompressed lengths that frame each buffer, are declared by the peer. They
+     * are checked against {@code bodyLength}, and the decompressed lengths against the
+     * {@code BodyCompressionUtil.maxDecompressionRatio} and {@code BodyCompressionUtil.maxDecompressedBodySize} limits,
+     * before any memory is allocated for them.
+     *
+     * @param batch the record batch header
+     * @param bodyLength the length of the record batch body, as declared by the enclosing message
+     * @param body the record batch body, positioned at its start
+     * @param bufferLengths populated with the decompressed length of each buffer
+     * @return the decompressed buffers, laid out end to end in the order of {@code bufferLengths}
+     * @throws IOException if the body could not be read
+     */
+    public static DataInput readCompressedBody(
+            @NotNull final RecordBatch batch,
+            final long bodyLength,
+            @NotNull final DataInput body,
+            @NotNull final long[] bufferLengths) throws IOException {
+        final BodyCompression compression = batch.compression();
+        if (compression.method() != BodyCompressionMethod.BUFFER) {
+            throw new UnsupportedOperationException(
+                    "Unsupported body compression method " + BodyCompressionMethod.name(compression.method()));
+        }
+        final BodyCompressionCodec codec = codecFromFb(compression.codec());
+
+        final long maxTotalLength = bodyLength > MAX_DECOMPRESSED_BODY_SIZE / MAX_DECOMPRESSION_RATIO
+                ? MAX_DECOMPRESSED_BODY_SIZE
+                : bodyLength * MAX_DECOMPRESSION_RATIO;
+        final byte[][] buffers = new byte[batch.buffersLength()][];
+        long bodyOffset = 0;
+        int totalLength = 0;
+        for (int bi = 0; bi < buffers.length; ++bi) {
+            final long offset = batch.buffers(bi).offset();
+            final long declaredLength = batch.buffers(bi).length();
+            if (offset < bodyOffset) {
+                throw new IllegalStateException("Compressed buffers must appear in the body in order");
+            }
+            if (declaredLength < 0 || declaredLength > bodyLength - offset) {
+                throw new IllegalStateException("Compressed buffer " + bi + " at offset " + offset + " with length "
+                        + declaredLength + " does not fit in a record batch body of length " + bodyLength);
+            }
+            final int length = LongSizedDataStructure.intSize("BodyCompressionUtil", declaredLength);
+            final int padding = LongSizedDataStructure.intSize("BodyCompressionUtil", offset - bodyOffset);
+            if (body.skipBytes(padding) != padding) {
+                throw new IllegalStateException("Unexpected end of record batch body");
+            }
+            final byte[] framed = new byte[length];
+            body.readFully(framed);
+            bodyOffset = offset + length;
+
+            buffers[bi] = decompressBuffer(codec, framed, maxTotalLength - totalLength);
+            bufferLengths[bi] = buffers[bi].length;
+            totalLength = Math.addExact(totalLength, buffers[bi].length);
+        }
+
+        final byte[] decompressed = new byte[totalLength];
+        int offset = 0;
+        for (final byte[] buffer : buffers) {
+            System.arraycopy(buffer, 0, decompressed, offset, buffer.length);
+            offset += buffer.length;
+        }
+        return new LittleEndianDataInputStream(new ByteArrayInputStream(decompressed));
+    }
+
+    private static byte[] compressBuffer(
+            final BodyCompressionCodec codec,
+            final byte[] body,
+            final int offset,
+            final int length) {
+        if (length == 0) {
+            return EMPTY_BUFFER;
+        }
+        if (length >= MIN_COMPRESSION_SIZE) {
+            final byte[] compressed = codec == BodyCompressionCodec.ZSTD
+                    ? zstdCompress(body, offset, length)
+                    : lz4Compress(body, offset, length);
+            if (compressed.length < length + Long.BYTES) {
+                writeLength(compressed, length);
+                return compressed;
+            }
+        }
+        final byte[] uncompressed = new byte[length + Long.BYTES];
+        writeLength(uncompressed, NO_COMPRESSION_LENGTH);
+        System.arraycopy(body, offset, uncompressed, Long.BYTES, length);
+        return uncompressed;
+    }
+
+    /**
+     * @param maxLength the largest decompressed length to accept
+     */
+    private static byte[] decompressBuffer(
+            final BodyCompressionCodec codec,
+            final byte[] framed,
+            final long maxLength) throws IOException {
+        if (framed.length == 0) {
+            return EMPTY_BUFFER;
+        }
+        if (framed.length < Long.BYTES) {
+            throw new IllegalStateException("Compressed buffer of length " + framed.length + " has no length prefix");
+        }
+        final long length = ByteBuffer.wrap(framed).order(ByteOrder.LITTLE_ENDIAN).getLong();
+        if (length == NO_COMPRESSION_LENGTH) {
+            if (framed.length - Long.BYTES > maxLength) {
+                throw decompressedBodyTooLarge();
+            }
+            return Arrays.copyOfRange(framed, Long.BYTES, framed.length);
+        }
+        if (length < 0) {
+            throw new IllegalStateException("Invalid decompressed buffer length " + length);
+        }
+        if (length > maxLength) {
+            throw decompressedBodyTooLarge();
+        }
+        final byte[] decompressed = new byte[LongSizedDataStructure.intSize("BodyCompressionUtil", length)];
+        if (codec == BodyCompressionCodec.ZSTD) {
+            final int decompressedLength = new ZstdDecompressor().decompress(
+                    framed, Long.BYTES, framed.length - Long.BYTES, decompressed, 0, decompressed.length);
+            checkLength(decompressedLength, decompressed.length);
+        } else {
+            try (final InputStream in = new FramedLZ4CompressorInputStream(
+                    new ByteArrayInputStream(framed, Long.BYTES, framed.length - Long.BYTES))) {
+                checkLength(in.readNBytes(decompressed, 0, decompressed.length), decompressed.length);
+            }
+        }
+        return decompressed;
+    }
+
+    private static IllegalStateException decompressedBodyTooLarge() {
+        return new IllegalStateException("Record batch body decompresses to more than the limit of "
+                + MAX_DECOMPRESSED_BODY_SIZE + " bytes, or " + MAX_DECOMPRESSION_RATIO
+                + " times its compressed length");
+    }
+
+    /**
+     * @return the compressed contents of the buffer, preceded by room for its length
+     */
+    private static byte[] zstdCompress(final byte[] body, final int offset, final int length) {
+        final ZstdCompressor compressor = new ZstdCompressor();
+        final byte[] compressed = new byte[Long.BYTES + compressor.maxCompressedLength(length)];
+        final int compressedLength = compressor.compress(
+                body, offset, length, compressed, Long.BYTES, compressed.length - Long.BYTES);
+        return Arrays.copyOf(compressed, Long.BYTES + compressedLength);
+    }
+
+    /**
+     * @return the compressed contents of the buffer, preceded by room for its length
+     */
+    private static byte[] lz4Compress(final byte[] body, final int offset, final int length) {
+        final ExposedByteArrayOutputStream compressed = new ExposedByteArrayOutputStream();
+        try {
+            compressed.write(EMPTY_LENGTH);
+            try (final FramedLZ4CompressorOutputStream out = new FramedLZ4CompressorOutputStream(compressed)) {
+                out.write(body, offset, length);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedDeephavenException("Unexpected IOException", e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static void writeLength(final byte[] framed, final long length) {
+        ByteBuffer.wrap(framed).order(ByteOrder.LITTLE_ENDIAN).putLong(0, length);
+    }
+
+    private static void checkLength(final int actual, final int expected) {
+        if (actual != expected) {
+            throw new IllegalStateException(
+                    "Decompressed buffer has " + actual + " bytes, but its header declares " + expected);
+        }
+    }
+
+    private static byte codecToFb(final BodyCompressionCodec codec) {
+        switch (codec) {
+            case LZ4_FRAME:
+                return CompressionType.LZ4_FRAME;
+            case ZSTD:
+                return CompressionType.ZSTD;
+            default:
+                throw new IllegalArgumentException("Unexpected body compression codec " + codec);
+        }
+    }
+
+    private static BodyCompressionCodec codecFromFb(final byte codec) {
+        switch (codec) {
+            case CompressionType.LZ4_FRAME:
+                return BodyCompressionCodec.LZ4_FRAME;
+            case CompressionType.ZSTD:
+                return BodyCompressionCodec.ZSTD;
+            default:
+                throw new UnsupportedOperationException("Unexpected body compression codec " + codec + " (byte)");
+        }
+    }
+}
@@ -6,6 +6,12 @@ package io.deephaven.extensions.barrage.util;
 import java.io.ByteArrayOutputStream;
 
 public class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+    public ExposedByteArrayOutputStream() {}
+
+    public ExposedByteArrayOutputStream(final int size) {
+        super(size);
+    }
+
     public byte[] peekBuffer() {
         return buf;
     }
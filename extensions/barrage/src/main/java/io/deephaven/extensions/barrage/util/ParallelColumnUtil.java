@@ -0,0 +1,86 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.barrage.util;
+
+import io.deephaven.UncheckedDeephavenException;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.updategraph.OperationInitializer;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Prepares the columns of large Barrage messages for encoding concurrently. A snapshot of a wide table may hold many
+ * chunks per column, and transforming each of them into its wire representation (unboxing, encoding strings, and so
+ * on) can otherwise take longer than constructing the snapshot itself.
+ * <p>
+ * The work runs on the {@link OperationInitializer} of the current {@link ExecutionContext}, so that Barrage shares the
+ * server's initialization threads rather than creating its own. Messages with fewer than
+ * {@code ParallelColumnUtil.minimumParallelRows} rows, and callers whose initializer cannot parallelize, are always
+ * prepared serially.
+ * <p>
+ * GWT uses a super-source replacement of this class that always runs serially.
+ */
+public final class ParallelColumnUtil {
+
+    private static final long MINIMUM_PARALLEL_ROWS = Configuration.getInstance()
+            .getLongForClassWithDefault(ParallelColumnUtil.class, "minimumParallelRows", 1L << 16);
+
+    private ParallelColumnUtil() {} // static use only
+
+    /**
+     * Invoke {@code action} once for each column index in {@code [0, numColumns)}, in parallel if the message is large
+     * enough to benefit. Returns once every invocation has completed.
+     *
+     * @param numColumns the number of columns
+     * @param numRows the number of rows in the message, used to decide whether to parallelize
+     * @param action the per-column action; invocations for different columns must be independent
+     */
+    public static void forEachColumn(final int numColumns, final long numRows, final IntConsumer action) {
+        final OperationInitializer initializer = ExecutionContext.getContext().getOperationInitializer();
+        if (numColumns <= 1 || numRows < MINIMUM_PARALLEL_ROWS || !initializer.canParallelize()) {
+            for (int ci = 0; ci < numColumns; ++ci) {
+                action.accept(ci);
+            }
+            return;
+        }
+
+        // the calling thread takes part, so that progress does not depend on the initializer's threads being free
+        final AtomicInteger nextColumn = new AtomicInteger();
+        final Runnable worker = () -> {
+            int ci;
+            while ((ci = nextColumn.getAndIncrement()) < numColumns) {
+                action.accept(ci);
+            }
+        };
+        final int numHelpers = Math.min(initializer.parallelismFactor(), numColumns) - 1;
+        final Future<?>[] helpers = new Future<?>[numHelpers];
+        for (int hi = 0; hi < numHelpers; ++hi) {
+            helpers[hi] = initializer.submit(worker);
+        }
+        try {
+            worker.run();
+        } finally {
+            // stop handing out columns if this thread failed, but wait for the helpers before returning either way
+            nextColumn.set(numColumns);
+            for (final Future<?> helper : helpers) {
+                awaitHelper(helper);
+            }
+        }
+    }
+
+    private static void awaitHelper(final Future<?> helper) {
+        try {
+            helper.get();
+        } catch (InterruptedException e) {
+            throw new CancellationException("interrupted while preparing Barrage columns");
+        } catch (ExecutionException e) {
+            throw new UncheckedDeephavenException("failed to prepare a Barrage column", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,153 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.barrage.util;
+
+import com.google.common.io.LittleEndianDataInputStream;
+import com.google.flatbuffers.FlatBufferBuilder;
+import io.deephaven.extensions.barrage.BodyCompressionCodec;
+import org.apache.arrow.flatbuf.Buffer;
+import org.apache.arrow.flatbuf.RecordBatch;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BodyCompressionUtilTest {
+
+    @Test
+    public void testLz4RoundTrip() throws IOException {
+        verifyRoundTrip(BodyCompressionCodec.LZ4_FRAME);
+    }
+
+    @Test
+    public void testZstdRoundTrip() throws IOException {
+        verifyRoundTrip(BodyCompressionCodec.ZSTD);
+    }
+
+    private static void verifyRoundTrip(final BodyCompressionCodec codec) throws IOException {
+        final Random random = new Random(0);
+        final byte[][] buffers = {
+                new byte[0], // empty buffers stay empty
+                randomBytes(random, 40, 4), // too small to compress
+                randomBytes(random, 4096, 4), // compressible
+                randomBytes(random, 4096, 256), // incompressible, sent as is
+                randomBytes(random, 3 << 20, 16), // large enough to be compressed in parallel
+                randomBytes(random, 2 << 20, 16),
+        };
+
+        final ByteArrayOutputStream uncompressed = new ByteArrayOutputStream();
+        final long[] bufferLengths = new long[buffers.length];
+        for (int bi = 0; bi < buffers.length; ++bi) {
+            uncompressed.write(buffers[bi]);
+            bufferLengths[bi] = buffers[bi].length;
+        }
+        // trailing alignment padding is not part of any buffer
+        uncompressed.write(new byte[3]);
+
+        // write the body in uneven pieces that straddle the buffer boundaries
+        final byte[] body = uncompressed.toByteArray();
+        final BodyCompressionUtil.BufferCompressor compressor =
+                BodyCompressionUtil.bufferCompressor(codec, bufferLengths);
+        int written = 0;
+        for (int piece = 1; written < body.length; piece = piece * 7 % 100_003) {
+            final int len = Math.min(piece, body.length - written);
+            compressor.write(body, written, len);
+            written += len;
+        }
+        final byte[][] compressed = compressor.finish();
+        assertThat(compressed[0]).isEmpty();
+        assertThat(compressed[2].length).isLessThan(buffers[2].length);
+        assertThat(compressed[3].length).isEqualTo(buffers[3].length + Long.BYTES);
+
+        // lay the compressed buffers out as a writer would, aligned to eight bytes
+        final ByteArrayOutputStream compressedBody = new ByteArrayOutputStream();
+        final long[] bufferOffsets = new long[buffers.length];
+        for (int bi = 0; bi < buffers.length; ++bi) {
+            bufferOffsets[bi] = compressedBody.size();
+            compressedBody.write(compressed[bi]);
+            compressedBody.write(new byte[(8 - compressedBody.size() % 8) % 8]);
+        }
+
+        final long[] compressedLengths = Arrays.stream(compressed).mapToLong(b -> b.length).toArray();
+        final RecordBatch batch = makeRecordBatch(codec, bufferOffsets, compressedLengths);
+
+        final long[] decompressedLengths = new long[buffers.length];
+        final DataInput decompressed = BodyCompressionUtil.readCompressedBody(batch, compressedBody.size(),
+                new LittleEndianDataInputStream(new ByteArrayInputStream(compressedBody.toByteArray())),
+                decompressedLengths);
+        assertThat(decompressedLengths).isEqualTo(bufferLengths);
+        for (final byte[] buffer : buffers) {
+            final byte[] actual = new byte[buffer.length];
+            decompressed.readFully(actual);
+            assertThat(Arrays.equals(actual, buffer)).isTrue();
+        }
+    }
+
+    @Test
+    public void testDeclaredLengthsAreBounded() {
+        // a tiny buffer that claims to decompress to a terabyte
+        final byte[] framed = new byte[16];
+        ByteBuffer.wrap(framed).order(ByteOrder.LITTLE_ENDIAN).putLong(1L << 40);
+        assertThatThrownBy(() -> readBody(framed, new long[] {0}, new long[] {framed.length}))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("decompresses to more than the limit");
+
+        // a buffer that claims to extend past the end of the body
+        final byte[] uncompressed = new byte[16];
+        ByteBuffer.wrap(uncompressed).order(ByteOrder.LITTLE_ENDIAN).putLong(-1);
+        assertThatThrownBy(() -> readBody(uncompressed, new long[] {0}, new long[] {1L << 40}))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("does not fit in a record batch body");
+
+        // an uncompressed buffer is read as is
+        assertThatCode(() -> readBody(uncompressed, new long[] {0}, new long[] {uncompressed.length}))
+                .doesNotThrowAnyException();
+    }
+
+    private static DataInput readBody(
+            final byte[] body,
+            final long[] bufferOffsets,
+            final long[] bufferLengths) throws IOException {
+        final RecordBatch batch = makeRecordBatch(BodyCompressionCodec.ZSTD, bufferOffsets, bufferLengths);
+        return BodyCompressionUtil.readCompressedBody(batch, body.length,
+                new LittleEndianDataInputStream(new ByteArrayInputStream(body)),
+                new long[bufferOffsets.length]);
+    }
+
+    private static RecordBatch makeRecordBatch(
+            final BodyCompressionCodec codec,
+            final long[] bufferOffsets,
+            final long[] bufferLengths) {
+        final FlatBufferBuilder builder = new FlatBufferBuilder();
+        RecordBatch.startBuffersVector(builder, bufferOffsets.length);
+        for (int bi = bufferOffsets.length - 1; bi >= 0; --bi) {
+            Buffer.createBuffer(builder, bufferOffsets[bi], bufferLengths[bi]);
+        }
+        final int buffersOffset = builder.endVector();
+        final int compressionOffset = BodyCompressionUtil.createBodyCompression(builder, codec);
+        RecordBatch.startRecordBatch(builder);
+        RecordBatch.addBuffers(builder, buffersOffset);
+        RecordBatch.addCompression(builder, compressionOffset);
+        builder.finish(RecordBatch.endRecordBatch(builder));
+        return RecordBatch.getRootAsRecordBatch(builder.dataBuffer());
+    }
+
+    private static byte[] randomBytes(final Random random, final int length, final int cardinality) {
+        final byte[] bytes = new byte[length];
+        for (int ii = 0; ii < length; ++ii) {
+            bytes[ii] = (byte) random.nextInt(cardinality);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,81 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.benchmark.parquet.table;
+
+import io.deephaven.base.FileUtils;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.context.QueryCompilerImpl;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.parquet.table.ParquetInstructions;
+import io.deephaven.parquet.table.ParquetTools;
+import io.deephaven.util.SafeCloseable;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static io.deephaven.api.agg.Aggregation.AggMax;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 1, time = 2)
+@Fork(1)
+public class TableReadBenchmark {
+
+    @Param({"0", "4", "16"})
+    private int pageReadAheadCount;
+
+    private SafeCloseable exContextCloseable;
+    private Path rootPath;
+    private String tablePath;
+
+    @Setup(Level.Trial)
+    public void setupEnv() throws IOException {
+        rootPath = Files.createTempDirectory("TableReadBenchmark");
+        final ExecutionContext context = ExecutionContext.newBuilder()
+                .newQueryLibrary()
+                .newQueryScope()
+                .setQueryCompiler(
+                        QueryCompilerImpl.create())
+                .build();
+        exContextCloseable = context.open();
+
+        final Table table = TableTools.emptyTable(10_000_000).updateView(
+                "I    = ii % 512   == 0  ? NULL_INT    : (int)   ii",
+                "L    = ii % 1024  == 0  ? NULL_LONG   :         ii",
+                "D    = ii % 4096  == 0  ? NULL_DOUBLE :         ii * 1.25",
+                "Str  = ii % 128   == 0  ? null        :         Long.toString(ii)");
+        // Small pages, so that a scan crosses many page boundaries
+        final ParquetInstructions writeInstructions = ParquetInstructions.builder()
+                .setCompressionCodecName("SNAPPY")
+                .setTargetPageSize(ParquetInstructions.MIN_TARGET_PAGE_SIZE)
+                .build();
+        tablePath = rootPath.resolve("table.parquet").toString();
+        ParquetTools.writeTable(table, tablePath, writeInstructions);
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanUp() {
+        FileUtils.deleteRecursively(rootPath.toFile());
+        exContextCloseable.close();
+    }
+
+    @Benchmark
+    public Table scanTable(@NotNull final Blackhole bh) {
+        final ParquetInstructions instructions = ParquetInstructions.builder()
+                .setPageReadAheadCount(pageReadAheadCount)
+                .build();
+        final Table result = ParquetTools.readTable(tablePath, instructions)
+                .aggBy(AggMax("I", "L", "D", "Str"));
+        bh.consume(result);
+        return result;
+    }
+}
@@ -50,6 +50,9 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
     public static final int DEFAULT_TARGET_PAGE_SIZE = Configuration.getInstance().getIntegerWithDefault(
             "Parquet.defaultTargetPageSize", 1 << 16); // 64KB
 
+    public static final int DEFAULT_PAGE_READ_AHEAD_COUNT = Configuration.getInstance().getIntegerWithDefault(
+            "Parquet.defaultPageReadAheadCount", 0);
+
     /**
      * Throws an exception if {@link ParquetInstructions#getTableDefinition()} is empty.
      *
@@ -177,6 +180,12 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
 
     public abstract Optional<ParquetColumnResolver.Factory> getColumnResolverFactory();
 
+    /**
+     * @return the number of pages to fetch and decode in the background once a column chunk is being read
+     *         sequentially, or zero to only read pages on demand
+     */
+    public abstract int getPageReadAheadCount();
+
     /**
      * Whether the parquet writer should write row group statistics, enabled by default.
      */
@@ -349,6 +358,11 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return Optional.empty();
         }
 
+        @Override
+        public int getPageReadAheadCount() {
+            return DEFAULT_PAGE_READ_AHEAD_COUNT;
+        }
+
         @Override
         boolean writeRowGroupStatistics() {
             return DEFAULT_WRITE_ROW_GROUP_STATISTICS;
@@ -372,7 +386,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                     getMaximumDictionarySize(), isLegacyParquet(), getTargetPageSize(), isRefreshing(),
                     getSpecialInstructions(), generateMetadataFiles(), baseNameForPartitionedParquetData(),
                     useLayout, useDefinition, null, getRowGroupInfo(), null, null, null,
-                    writeRowGroupStatistics());
+                    writeRowGroupStatistics(), getPageReadAheadCount());
         }
 
         @Override
@@ -381,7 +395,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                     getMaximumDictionarySize(), isLegacyParquet(), getTargetPageSize(), isRefreshing(),
                     getSpecialInstructions(), generateMetadataFiles(), baseNameForPartitionedParquetData(),
                     null, null, indexColumns, getRowGroupInfo(), null, null, null,
-                    writeRowGroupStatistics());
+                    writeRowGroupStatistics(), getPageReadAheadCount());
         }
 
         @Override
@@ -502,6 +516,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         private final ParquetColumnResolver.Factory columnResolver;
         private final SeekableChannelsProvider seekableChannelsProviderForWriting;
         private final boolean writeRowGroupStatistics;
+        private final int pageReadAheadCount;
 
         private ReadOnly(
                 final KeyedObjectHashMap<String, ColumnInstructions> columnNameToInstructions,
@@ -522,7 +537,8 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                 final OnWriteCompleted onWriteCompleted,
                 final ParquetColumnResolver.Factory columnResolver,
                 final SeekableChannelsProvider seekableChannelsProviderForWriting,
-                final boolean writeRowGroupStatistics) {
+                final boolean writeRowGroupStatistics,
+                final int pageReadAheadCount) {
             this.columnNameToInstructions = columnNameToInstructions;
             this.parquetColumnNameToInstructions = parquetColumnNameToColumnName;
             this.compressionCodecName = compressionCodecName;
@@ -550,6 +566,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             }
             this.seekableChannelsProviderForWriting = seekableChannelsProviderForWriting;
             this.writeRowGroupStatistics = writeRowGroupStatistics;
+            this.pageReadAheadCount = pageReadAheadCount;
         }
 
         private <T> T getOrDefault(final String columnName, final T defaultValue,
@@ -694,6 +711,11 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return writeRowGroupStatistics;
         }
 
+        @Override
+        public int getPageReadAheadCount() {
+            return pageReadAheadCount;
+        }
+
         @Override
         public ParquetInstructions withTableDefinition(@Nullable final TableDefinition useDefinition) {
             return withTableDefinitionAndLayout(useDefinition, fileLayout);
@@ -713,7 +735,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                     isLegacyParquet(), getTargetPageSize(), isRefreshing(), getSpecialInstructions(),
                     generateMetadataFiles(), baseNameForPartitionedParquetData(), useLayout, useDefinition,
                     indexColumns, rowGroupInfo, onWriteCompleted, columnResolver, seekableChannelsProviderForWriting,
-                    writeRowGroupStatistics);
+                    writeRowGroupStatistics, pageReadAheadCount);
         }
 
         @Override
@@ -724,7 +746,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                     generateMetadataFiles(), baseNameForPartitionedParquetData(), fileLayout,
                     tableDefinition, useIndexColumns, rowGroupInfo, onWriteCompleted, columnResolver,
                     seekableChannelsProviderForWriting,
-                    writeRowGroupStatistics);
+                    writeRowGroupStatistics, pageReadAheadCount);
         }
 
         @Override
@@ -793,6 +815,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         private ParquetColumnResolver.Factory columnResolverFactory;
         private SeekableChannelsProvider seekableChannelsProviderForWriting;
         private boolean writeRowGroupStatistics = DEFAULT_WRITE_ROW_GROUP_STATISTICS;
+        private int pageReadAheadCount = DEFAULT_PAGE_READ_AHEAD_COUNT;
 
         /**
          * For each additional field added, make sure to update the copy constructor builder
@@ -826,6 +849,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             seekableChannelsProviderForWriting =
                     readOnlyParquetInstructions.getSeekableChannelsProviderForWriting().orElse(null);
             writeRowGroupStatistics = readOnlyParquetInstructions.writeRowGroupStatistics();
+            pageReadAheadCount = readOnlyParquetInstructions.getPageReadAheadCount();
         }
 
         public Builder addColumnNameMapping(final String parquetColumnName, final String columnName) {
@@ -943,6 +967,23 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return this;
         }
 
+        /**
+         * Set the number of pages to fetch and decode in the background once a column chunk is being read
+         * sequentially. This hides the latency of fetching and decoding pages from remote files during scans, at the
+         * cost of holding up to this many extra pages per column in memory. Defaults to
+         * {@value #DEFAULT_PAGE_READ_AHEAD_COUNT}, which disables read-ahead, unless overridden with the
+         * "Parquet.defaultPageReadAheadCount" configuration property.
+         *
+         * @param pageReadAheadCount the number of pages to read ahead, or zero to only read pages on demand
+         */
+        public Builder setPageReadAheadCount(final int pageReadAheadCount) {
+            if (pageReadAheadCount < 0) {
+                throw new IllegalArgumentException("Page read ahead count should be >= 0");
+            }
+            this.pageReadAheadCount = pageReadAheadCount;
+            return this;
+        }
+
         public Builder setIsRefreshing(final boolean isRefreshing) {
             this.isRefreshing = isRefreshing;
             return this;
@@ -1124,7 +1165,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                     maximumDictionaryKeys, maximumDictionarySize, isLegacyParquet, targetPageSize, isRefreshing,
                     specialInstructions, generateMetadataFiles, baseNameForPartitionedParquetData, fileLayout,
                     tableDefinition, indexColumns, rowGroupInfo, onWriteCompleted, columnResolverFactory,
-                    seekableChannelsProviderForWriting, writeRowGroupStatistics);
+                    seekableChannelsProviderForWriting, writeRowGroupStatistics, pageReadAheadCount);
         }
     }
 
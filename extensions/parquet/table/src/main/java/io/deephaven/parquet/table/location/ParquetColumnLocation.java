@@ -353,7 +353,8 @@ final class ParquetColumnLocation<ATTR extends Values> extends AbstractColumnLoc
                                     makeToPage(tl().getColumnTypes().get(parquetColumnName),
                                             tl().getReadInstructions(), parquetColumnName, columnChunkReader,
                                             columnDefinition),
-                                    columnDefinition);
+                                    columnDefinition,
+                                    tl().getReadInstructions().getPageReadAheadCount());
                     pageStores[psi] = creatorResult.pageStore;
                     dictionaryChunkSuppliers[psi] = creatorResult.dictionaryChunkSupplier;
                     dictionaryKeysPageStores[psi] = creatorResult.dictionaryKeysPageStore;
@@ -96,24 +96,37 @@ public abstract class ColumnChunkPageStore<ATTR extends Any>
         return major > 0 || major == 0 && minor >= 31;
     }
 
+    /**
+     * Create the page stores for a column chunk.
+     *
+     * @param pageCache the cache that holds recently used pages
+     * @param columnChunkReader the reader for the column chunk
+     * @param mask the mask of row keys within the column chunk's region
+     * @param toPage the converter from parquet pages to chunk pages
+     * @param columnDefinition the definition of the column
+     * @param readAheadCount the number of pages to read in the background ahead of sequential readers; only page stores
+     *        that can access pages directly via the offset index read ahead
+     */
     public static <ATTR extends Any> CreatorResult<ATTR> create(
             @NotNull final PageCache<ATTR> pageCache,
             @NotNull final ColumnChunkReader columnChunkReader,
             final long mask,
             @NotNull final ToPage<ATTR, ?> toPage,
-            @NotNull final ColumnDefinition<?> columnDefinition) throws IOException {
+            @NotNull final ColumnDefinition<?> columnDefinition,
+            final int readAheadCount) throws IOException {
         final boolean canUseOffsetIndex = canUseOffsetIndexBasedPageStore(columnChunkReader, columnDefinition);
         // TODO(deephaven-core#4879): Rather than this fall back logic for supporting incorrect offset index, we should
         // instead log an error and explain to user how to fix the parquet file
         final ColumnChunkPageStore<ATTR> columnChunkPageStore = canUseOffsetIndex
-                ? new OffsetIndexBasedColumnChunkPageStore<>(pageCache, columnChunkReader, mask, toPage)
+                ? new OffsetIndexBasedColumnChunkPageStore<>(pageCache, columnChunkReader, mask, toPage,
+                        readAheadCount)
                 : new VariablePageSizeColumnChunkPageStore<>(pageCache, columnChunkReader, mask, toPage);
         final ToPage<DictionaryKeys, long[]> dictionaryKeysToPage = toPage.getDictionaryKeysToPage();
         final ColumnChunkPageStore<DictionaryKeys> dictionaryKeysColumnChunkPageStore =
                 dictionaryKeysToPage == null ? null
                         : canUseOffsetIndex
                                 ? new OffsetIndexBasedColumnChunkPageStore<>(pageCache.castAttr(), columnChunkReader,
-                                        mask, dictionaryKeysToPage)
+                                        mask, dictionaryKeysToPage, readAheadCount)
                                 : new VariablePageSizeColumnChunkPageStore<>(pageCache.castAttr(), columnChunkReader,
                                         mask, dictionaryKeysToPage);
         return new CreatorResult<>(columnChunkPageStore, toPage::getDictionaryChunk,
@@ -8,6 +8,8 @@ import io.deephaven.base.verify.Assert;
 import io.deephaven.base.verify.Require;
 import io.deephaven.chunk.attributes.Any;
 import io.deephaven.engine.page.ChunkPage;
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
 import io.deephaven.parquet.table.pagestore.PageCache.IntrusivePage;
 import io.deephaven.parquet.table.pagestore.topage.ToPage;
 import io.deephaven.parquet.base.ColumnChunkReader;
@@ -26,13 +28,24 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * A {@link ColumnChunkPageStore} that uses {@link OffsetIndex} to find the page containing a row.
+ * <p>
+ * Because the offset index gives direct access to every page, this page store can also read ahead: once pages are
+ * requested in sequence, the following pages are fetched and decoded on the {@link PageReadAheadExecutor} so that they
+ * are ready, and held in the {@link PageCache}, by the time the reader reaches them.
  */
 final class OffsetIndexBasedColumnChunkPageStore<ATTR extends Any> extends ColumnChunkPageStore<ATTR> {
+    private static final Logger log = LoggerFactory.getLogger(OffsetIndexBasedColumnChunkPageStore.class);
+
     private static final long PAGE_SIZE_NOT_FIXED = -1;
     private static final int NUM_PAGES_NOT_INITIALIZED = -1;
+    private static final int NO_PAGE = -1;
 
     private static final class PageState<ATTR extends Any> {
         private volatile WeakReference<PageCache.IntrusivePage<ATTR>> pageRef;
+        /**
+         * Whether a read-ahead of this page has been submitted and not yet completed, guarded by the page store.
+         */
+        private boolean readAheadPending;
 
         PageState() {
             pageRef = null; // Initialized when used for the first time
@@ -54,14 +67,26 @@ final class OffsetIndexBasedColumnChunkPageStore<ATTR extends Any> extends Colum
     private AtomicReferenceArray<PageState<ATTR>> pageStates;
     private ColumnChunkReader.ColumnPageDirectAccessor columnPageDirectAccessor;
 
+    /**
+     * The number of pages to read ahead of a sequential reader, or zero to disable read-ahead.
+     */
+    private final int readAheadCount;
+    /**
+     * The page most recently requested by a reader, used to detect sequential access. Races between concurrent readers
+     * only affect whether we read ahead, never correctness.
+     */
+    private volatile int lastRequestedPageNum = NO_PAGE;
+
     OffsetIndexBasedColumnChunkPageStore(
             @NotNull final PageCache<ATTR> pageCache,
             @NotNull final ColumnChunkReader columnChunkReader,
             final long mask,
-            @NotNull final ToPage<ATTR, ?> toPage) throws IOException {
+            @NotNull final ToPage<ATTR, ?> toPage,
+            final int readAheadCount) throws IOException {
         super(pageCache, columnChunkReader, mask, toPage);
         numPages = NUM_PAGES_NOT_INITIALIZED;
         fixedPageSize = PAGE_SIZE_NOT_FIXED;
+        this.readAheadCount = Require.geqZero(readAheadCount, "readAheadCount");
     }
 
     private void ensureInitialized(@Nullable final FillContext fillContext) {
@@ -122,10 +147,7 @@ final class OffsetIndexBasedColumnChunkPageStore<ATTR extends Any> extends Colum
         return (low - 1); // 'row' is somewhere in the middle of page
     }
 
-    private ChunkPage<ATTR> getPage(@Nullable final FillContext fillContext, final int pageNum) {
-        if (pageNum < 0 || pageNum >= numPages) {
-            throw new IllegalArgumentException("pageNum " + pageNum + " is out of range [0, " + numPages + ")");
-        }
+    private PageState<ATTR> getPageState(final int pageNum) {
         PageState<ATTR> pageState;
         while ((pageState = pageStates.get(pageNum)) == null) {
             pageState = new PageState<>();
@@ -133,6 +155,14 @@ final class OffsetIndexBasedColumnChunkPageStore<ATTR extends Any> extends Colum
                 break;
             }
         }
+        return pageState;
+    }
+
+    private ChunkPage<ATTR> getPage(@Nullable final FillContext fillContext, final int pageNum) {
+        if (pageNum < 0 || pageNum >= numPages) {
+            throw new IllegalArgumentException("pageNum " + pageNum + " is out of range [0, " + numPages + ")");
+        }
+        final PageState<ATTR> pageState = getPageState(pageNum);
         PageCache.IntrusivePage<ATTR> page;
         WeakReference<PageCache.IntrusivePage<ATTR>> localRef;
         if ((localRef = pageState.pageRef) == null || (page = localRef.get()) == null) {
@@ -148,6 +178,64 @@ final class OffsetIndexBasedColumnChunkPageStore<ATTR extends Any> extends Colum
         return page.getPage();
     }
 
+    private static <ATTR extends Any> boolean isMaterialized(@NotNull final PageState<ATTR> pageState) {
+        final WeakReference<PageCache.IntrusivePage<ATTR>> localRef = pageState.pageRef;
+        return localRef != null && localRef.get() != null;
+    }
+
+    /**
+     * Read ahead of {@code pageNum} if it continues a sequential scan.
+     */
+    private void maybeReadAhead(final int pageNum) {
+        if (readAheadCount == 0) {
+            return;
+        }
+        final int previousPageNum = lastRequestedPageNum;
+        if (pageNum == previousPageNum) {
+            return;
+        }
+        lastRequestedPageNum = pageNum;
+        if (pageNum != previousPageNum + 1) {
+            return;
+        }
+        final int lastPageNum = (int) Math.min(numPages - 1, (long) pageNum + readAheadCount);
+        for (int readAheadPageNum = pageNum + 1; readAheadPageNum <= lastPageNum; ++readAheadPageNum) {
+            final PageState<ATTR> pageState = getPageState(readAheadPageNum);
+            synchronized (this) {
+                if (pageState.readAheadPending || isMaterialized(pageState)) {
+                    continue;
+                }
+                pageState.readAheadPending = true;
+            }
+            final int pageNumToRead = readAheadPageNum;
+            if (!PageReadAheadExecutor.trySubmit(() -> readAhead(pageState, pageNumToRead))) {
+                synchronized (this) {
+                    pageState.readAheadPending = false;
+                }
+                return;
+            }
+        }
+    }
+
+    private void readAhead(@NotNull final PageState<ATTR> pageState, final int pageNum) {
+        try {
+            // Materializing with a null fill context creates (and closes) a channel context for this thread; the page
+            // cache holds the page until the reader needs it
+            getPage(null, pageNum);
+        } catch (RuntimeException e) {
+            // The reader will materialize the page itself, and report any error then
+            if (log.isDebugEnabled()) {
+                log.debug().append("Failed to read ahead page ").append(pageNum).append(" of column ")
+                        .append(columnChunkReader.columnName()).append(", uri ")
+                        .append(String.valueOf(columnChunkReader.getURI())).append(": ").append(e).endl();
+            }
+        } finally {
+            synchronized (this) {
+                pageState.readAheadPending = false;
+            }
+        }
+    }
+
     private ChunkPage<ATTR> getPageImpl(@Nullable FillContext fillContext, int pageNum) {
         // Use the latest context while reading the page, or create (and close) new one
         try (final ContextHolder holder = ensureContext(fillContext)) {
@@ -192,6 +280,8 @@ final class OffsetIndexBasedColumnChunkPageStore<ATTR extends Any> extends Colum
             }
         }
 
-        return getPage(fillContext, pageNum);
+        final ChunkPage<ATTR> page = getPage(fillContext, pageNum);
+        maybeReadAhead(pageNum);
+        return page;
     }
 }
@@ -0,0 +1,54 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.pagestore;
+
+import io.deephaven.configuration.Configuration;
+import io.deephaven.util.thread.NamingThreadFactory;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The bounded pool of threads on which {@link ColumnChunkPageStore page stores} fetch and decode pages ahead of
+ * sequential readers. Read-ahead is opportunistic: when the pool's queue is full, further requests are dropped, and the
+ * pages are read on demand instead.
+ */
+final class PageReadAheadExecutor {
+
+    private static final int NUM_THREADS = Configuration.getInstance().getIntegerWithDefault(
+            "PageReadAheadExecutor.threads", Runtime.getRuntime().availableProcessors());
+    private static final int MAX_QUEUED_PAGES = Configuration.getInstance().getIntegerWithDefault(
+            "PageReadAheadExecutor.maxQueuedPages", 1024);
+
+    private PageReadAheadExecutor() {}
+
+    private static final class Holder {
+        private static final ThreadPoolExecutor EXECUTOR;
+        static {
+            EXECUTOR = new ThreadPoolExecutor(NUM_THREADS, NUM_THREADS, 1, TimeUnit.MINUTES,
+                    new ArrayBlockingQueue<>(MAX_QUEUED_PAGES),
+                    new NamingThreadFactory(PageReadAheadExecutor.class, "pageReadAhead", true),
+                    new ThreadPoolExecutor.AbortPolicy());
+            EXECUTOR.allowCoreThreadTimeOut(true);
+        }
+    }
+
+    /**
+     * Submit {@code task} to run in the background, unless the pool is saturated.
+     *
+     * @param task the task to run
+     * @return true if the task was submitted, false if it was dropped
+     */
+    static boolean trySubmit(@NotNull final Runnable task) {
+        try {
+            Holder.EXECUTOR.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+}
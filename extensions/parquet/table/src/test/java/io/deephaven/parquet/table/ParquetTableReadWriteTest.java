@@ -780,6 +780,22 @@ public final class ParquetTableReadWriteTest {
         }
     }
 
+    @Test
+    public void testPageReadAhead() {
+        final Table table = TableTools.emptyTable(100_000).update("A=(int)i", "B=(long)i * 3", "C=Long.toString(i)");
+        final File dest = new File(rootFile, "ParquetTest_testPageReadAhead.parquet");
+        // Small pages, so that the columns span many pages
+        writeTable(table, dest.getPath(), ParquetInstructions.builder()
+                .setTargetPageSize(ParquetInstructions.MIN_TARGET_PAGE_SIZE)
+                .build());
+        final ParquetInstructions readInstructions = ParquetInstructions.builder()
+                .setPageReadAheadCount(4)
+                .build();
+        assertEquals(4, readInstructions.getPageReadAheadCount());
+        assertTableEquals(table, readTable(dest.getPath(), readInstructions).select());
+        assertTableEquals(table.where("i % 7 == 0"), readTable(dest.getPath(), readInstructions).where("i % 7 == 0"));
+    }
+
     private static void writeReadTableTest(final Table table, final File dest) {
         writeReadTableTest(table, dest, EMPTY);
     }
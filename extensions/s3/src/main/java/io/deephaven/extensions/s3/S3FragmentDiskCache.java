@@ -0,0 +1,409 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.s3;
+
+import io.deephaven.base.stats.Counter;
+import io.deephaven.base.stats.Stats;
+import io.deephaven.base.stats.Value;
+import io.deephaven.base.verify.Require;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static io.deephaven.util.thread.ThreadHelpers.getOrComputeThreadCountProperty;
+
+/**
+ * A size-bounded cache of S3 object fragments in files on local disk, which survives both garbage collection of the
+ * in-memory {@link S3ReadRequestCache} and process restarts.
+ * <p>
+ * Each fragment is stored in its own file, named by a hash of the object URI, object size and fragment offset. The
+ * file also records the object's ETag at the time of the read. An entry with an ETag is only used once the reader has
+ * supplied the object's current ETag, fetching it if necessary, and is discarded if it differs. Entries are evicted in least recently used order once the total size of the cache exceeds its
+ * limit; after a restart, the order is approximated by the files' modification times.
+ * <p>
+ * The cache is best-effort: any failure to read or write an entry is logged and treated as a miss. A single instance is
+ * shared by all providers that use the same directory, and can be used concurrently.
+ * <p>
+ * Fragments fetched from S3 are stored with {@link #writeAsync}, which hands the write to a small shared pool of writer
+ * threads so that file I/O never runs on the threads that complete S3 requests. If more than
+ * {@code S3.maxPendingDiskCacheWrites} writes are already queued, the fragment is not cached.
+ */
+final class S3FragmentDiskCache {
+
+    private static final Logger log = LoggerFactory.getLogger(S3FragmentDiskCache.class);
+
+    private static final Value HITS =
+            Stats.makeItem("S3FragmentDiskCache", "hits", Counter.FACTORY).getValue();
+    private static final Value MISSES =
+            Stats.makeItem("S3FragmentDiskCache", "misses", Counter.FACTORY).getValue();
+    private static final Value EVICTED_BYTES =
+            Stats.makeItem("S3FragmentDiskCache", "evictedBytes", Counter.FACTORY).getValue();
+    private static final Value SKIPPED_WRITES =
+            Stats.makeItem("S3FragmentDiskCache", "skippedWrites", Counter.FACTORY).getValue();
+
+    private static final int NUM_WRITER_THREADS =
+            getOrComputeThreadCountProperty("S3.numDiskCacheWriterThreads", 2);
+    private static final int MAX_PENDING_WRITES =
+            Configuration.getInstance().getIntegerWithDefault("S3.maxPendingDiskCacheWrites", 256);
+
+    private static final int MAGIC = 0x44484643; // "DHFC"
+    private static final int NO_ETAG = -1;
+    private static final String ENTRY_SUFFIX = ".fragment";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final Map<Path, S3FragmentDiskCache> CACHES = new ConcurrentHashMap<>();
+
+    private static volatile ExecutorService writerExecutor;
+
+    /**
+     * Get the cache that stores its entries in {@code directory}, creating it if necessary. If the cache already
+     * exists, its size limit is unchanged, and a warning is logged if {@code maxBytes} differs from it.
+     *
+     * @param directory the directory in which to store entries
+     * @param maxBytes the maximum total size of the cached entries, in bytes
+     * @return the cache for {@code directory}
+     */
+    static S3FragmentDiskCache forDirectory(@NotNull final Path directory, final long maxBytes) {
+        final S3FragmentDiskCache cache = CACHES.computeIfAbsent(directory.toAbsolutePath().normalize(),
+                dir -> new S3FragmentDiskCache(dir, maxBytes));
+        if (cache.maxBytes != maxBytes) {
+            log.warn().append("S3 fragment cache ").append(cache.directory.toString())
+                    .append(" is already in use with a size limit of ").append(cache.maxBytes)
+                    .append(" bytes; ignoring the requested limit of ").append(maxBytes).append(" bytes").endl();
+        }
+        return cache;
+    }
+
+    private final Path directory;
+    private final long maxBytes;
+
+    /**
+     * The size of each entry, by file name, in access order.
+     */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    S3FragmentDiskCache(@NotNull final Path directory, final long maxBytes) {
+        this.directory = Require.neqNull(directory, "directory");
+        this.maxBytes = Require.gtZero(maxBytes, "maxBytes");
+        try {
+            Files.createDirectories(directory);
+            loadExistingEntries();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not use " + directory + " as an S3 fragment cache", e);
+        }
+    }
+
+    /**
+     * Index the entries left in the directory by an earlier process, oldest first, and remove incomplete writes.
+     */
+    private void loadExistingEntries() throws IOException {
+        final List<Path> files = new ArrayList<>();
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (final Path file : stream) {
+                final String name = file.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(ENTRY_SUFFIX)) {
+                    files.add(file);
+                }
+            }
+        }
+        final Map<Path, Long> modifiedTimes = new LinkedHashMap<>();
+        for (final Path file : files) {
+            modifiedTimes.put(file, Files.getLastModifiedTime(file).toMillis());
+        }
+        files.sort(Comparator.comparing(modifiedTimes::get));
+        synchronized (this) {
+            for (final Path file : files) {
+                final long size = Files.size(file);
+                entries.put(file.getFileName().toString(), size);
+                totalBytes += size;
+            }
+            evict();
+        }
+    }
+
+    /**
+     * Fill {@code dest} with the cached fragment for {@code key}, if present.
+     *
+     * @param key the key of the fragment, identifying the object, its version and the fragment's range
+     * @param currentETag supplies the current ETag of the object, or null if it can't be determined; only called if the
+     *        entry recorded an ETag, which must match it
+     * @param dest the buffer to fill; its position is unchanged, and it must have exactly as many bytes remaining as
+     *        the fragment
+     * @return true if {@code dest} was filled from the cache
+     */
+    boolean read(
+            @NotNull final String key,
+            @NotNull final Supplier<String> currentETag,
+            @NotNull final ByteBuffer dest) {
+        final String name = fileName(key);
+        synchronized (this) {
+            if (entries.get(name) == null) {
+                return recordMiss();
+            }
+        }
+        final Path file = directory.resolve(name);
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 2);
+            readFully(channel, header);
+            if (header.getInt(0) != MAGIC) {
+                return discard(name, "unrecognized header");
+            }
+            final int eTagLength = header.getInt(Integer.BYTES);
+            String cachedETag = null;
+            if (eTagLength != NO_ETAG) {
+                final ByteBuffer eTagBytes = ByteBuffer.allocate(eTagLength);
+                readFully(channel, eTagBytes);
+                cachedETag = new String(eTagBytes.array(), StandardCharsets.UTF_8);
+            }
+            if (cachedETag != null) {
+                final String eTag = currentETag.get();
+                if (eTag == null) {
+                    // the entry may be stale, but may become usable once the ETag is known
+                    return recordMiss();
+                }
+                if (!eTag.equals(cachedETag)) {
+                    return discard(name, "stale ETag");
+                }
+            }
+            final ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            readFully(channel, length);
+            if (length.getInt(0) != dest.remaining() || channel.size() - channel.position() != dest.remaining()) {
+                return discard(name, "unexpected length");
+            }
+            readFully(channel, dest.duplicate());
+        } catch (NoSuchFileException e) {
+            // evicted concurrently
+            return recordMiss();
+        } catch (IOException e) {
+            log.warn().append("Failed to read S3 fragment cache entry ").append(file.toString()).append(": ")
+                    .append(e).endl();
+            return discard(name, "read failure");
+        }
+        hitCount.increment();
+        HITS.sample(1);
+        return true;
+    }
+
+    /**
+     * Store the fragment for {@code key} on a writer thread, evicting older entries as necessary. The caller must not
+     * modify {@code src} afterwards.
+     *
+     * @param key the key of the fragment, identifying the object, its version and the fragment's range
+     * @param eTag the ETag of the object the fragment was read from, or null if unknown
+     * @param src the fragment's bytes, from its position to its limit; the position is unchanged
+     * @return a future that completes once the fragment is stored, or immediately if the write was skipped because too
+     *         many writes are pending
+     */
+    CompletableFuture<Void> writeAsync(
+            @NotNull final String key,
+            @Nullable final String eTag,
+            @NotNull final ByteBuffer src) {
+        try {
+            return CompletableFuture.runAsync(() -> write(key, eTag, src), ensureWriterExecutor());
+        } catch (RejectedExecutionException e) {
+            SKIPPED_WRITES.sample(1);
+            if (log.isDebugEnabled()) {
+                log.debug().append("Skipping S3 fragment cache write, too many pending writes: ").append(key).endl();
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Store the fragment for {@code key} on the calling thread, evicting older entries as necessary.
+     *
+     * @param key the key of the fragment, identifying the object, its version and the fragment's range
+     * @param eTag the ETag of the object the fragment was read from, or null if unknown
+     * @param src the fragment's bytes, from its position to its limit; the position is unchanged
+     */
+    void write(@NotNull final String key, @Nullable final String eTag, @NotNull final ByteBuffer src) {
+        final String name = fileName(key);
+        final int length = src.remaining();
+        final byte[] eTagBytes = eTag == null ? null : eTag.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer header = ByteBuffer.allocate(
+                Integer.BYTES * 3 + (eTagBytes == null ? 0 : eTagBytes.length));
+        header.putInt(MAGIC).putInt(eTagBytes == null ? NO_ETAG : eTagBytes.length);
+        if (eTagBytes != null) {
+            header.put(eTagBytes);
+        }
+        header.putInt(length).flip();
+
+        final Path file = directory.resolve(name);
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(directory, name, TEMP_SUFFIX);
+            try (final FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                writeFully(channel, header);
+                writeFully(channel, src.duplicate());
+            }
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn().append("Failed to write S3 fragment cache entry ").append(file.toString()).append(": ")
+                    .append(e).endl();
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                }
+            }
+            return;
+        }
+        final long size = header.limit() + (long) length;
+        synchronized (this) {
+            final Long previousSize = entries.put(name, size);
+            totalBytes += size - (previousSize == null ? 0 : previousSize);
+            evict();
+        }
+    }
+
+    /**
+     * @return the number of reads that were satisfied from this cache
+     */
+    long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of reads that were not satisfied from this cache
+     */
+    long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return the total size of the entries in this cache, in bytes
+     */
+    synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * @return the maximum total size of the entries in this cache, in bytes
+     */
+    long getMaxBytes() {
+        return maxBytes;
+    }
+
+    private boolean recordMiss() {
+        missCount.increment();
+        MISSES.sample(1);
+        return false;
+    }
+
+    private boolean discard(@NotNull final String name, @NotNull final String reason) {
+        if (log.isDebugEnabled()) {
+            log.debug().append("Discarding S3 fragment cache entry ").append(name).append(": ").append(reason).endl();
+        }
+        synchronized (this) {
+            final Long size = entries.remove(name);
+            if (size != null) {
+                totalBytes -= size;
+                delete(name);
+            }
+        }
+        return recordMiss();
+    }
+
+    private void evict() {
+        final Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            final Map.Entry<String, Long> eldest = it.next();
+            it.remove();
+            totalBytes -= eldest.getValue();
+            EVICTED_BYTES.sample(eldest.getValue());
+            delete(eldest.getKey());
+        }
+    }
+
+    private void delete(@NotNull final String name) {
+        try {
+            // readers that already opened the file may continue to read it
+            Files.deleteIfExists(directory.resolve(name));
+        } catch (IOException e) {
+            log.warn().append("Failed to delete S3 fragment cache entry ").append(name).append(": ").append(e).endl();
+        }
+    }
+
+    /**
+     * The executor that performs the writes of all caches, shared so that the number of threads does not grow with the
+     * number of cache directories. Its queue is bounded, since each pending write holds a fragment in memory.
+     */
+    private static ExecutorService ensureWriterExecutor() {
+        if (writerExecutor == null) {
+            synchronized (S3FragmentDiskCache.class) {
+                if (writerExecutor == null) {
+                    writerExecutor = new ThreadPoolExecutor(NUM_WRITER_THREADS, NUM_WRITER_THREADS,
+                            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(MAX_PENDING_WRITES),
+                            new ThreadFactoryBuilder().threadNamePrefix("s3-disk-cache-writer").daemonThreads(true)
+                                    .build());
+                }
+            }
+        }
+        return writerExecutor;
+    }
+
+    private static String fileName(@NotNull final String key) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8))) + ENTRY_SUFFIX;
+    }
+
+    private static void readFully(@NotNull final FileChannel channel, @NotNull final ByteBuffer dest)
+            throws IOException {
+        while (dest.hasRemaining()) {
+            if (channel.read(dest) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+    }
+
+    private static void writeFully(@NotNull final FileChannel channel, @NotNull final ByteBuffer src)
+            throws IOException {
+        while (src.hasRemaining()) {
+            channel.write(src);
+        }
+    }
+}
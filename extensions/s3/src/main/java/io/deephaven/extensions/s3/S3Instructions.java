@@ -40,6 +40,7 @@ public abstract class S3Instructions implements LogOutputAppendable {
     private static final int DEFAULT_NUM_CONCURRENT_WRITE_PARTS = 64;
     private static final int MIN_CONCURRENT_WRITE_PARTS = 1;
     private static final Duration MIN_READ_WRITE_TIMEOUT = Duration.ofMillis(1);
+    private static final long DEFAULT_DISK_CACHE_SIZE = 10L << 30; // 10 GiB
 
     /**
      * We set default part size to 10 MiB. The maximum number of parts allowed is 10,000. This means maximum size of a
@@ -159,6 +160,24 @@ public abstract class S3Instructions implements LogOutputAppendable {
         return DEFAULT_NUM_CONCURRENT_WRITE_PARTS;
     }
 
+    /**
+     * The local directory in which to cache fragments read from S3, so that repeated reads of the same objects are
+     * served from local disk rather than fetched again, including after the in-memory cache is cleared or the process
+     * restarts. If not provided, fragments are only cached in memory. Providers that use the same directory share a
+     * single cache.
+     */
+    public abstract Optional<Path> diskCacheDirectory();
+
+    /**
+     * The maximum number of bytes to keep in the {@link #diskCacheDirectory() disk cache}, defaults to
+     * {@value #DEFAULT_DISK_CACHE_SIZE}. The least recently used fragments are evicted once the cache exceeds this
+     * size.
+     */
+    @Default
+    public long diskCacheSize() {
+        return DEFAULT_DISK_CACHE_SIZE;
+    }
+
     /**
      * The default profile name used for configuring the default region, credentials, etc., when reading or writing to
      * S3. If not provided, the AWS SDK picks the profile name from the 'aws.profile' system property, the "AWS_PROFILE"
@@ -250,6 +269,10 @@ public abstract class S3Instructions implements LogOutputAppendable {
 
         Builder credentialsFilePath(Path credentialsFilePath);
 
+        Builder diskCacheDirectory(Path diskCacheDirectory);
+
+        Builder diskCacheSize(long diskCacheSize);
+
         default Builder endpointOverride(final String endpointOverride) {
             return endpointOverride(URI.create(endpointOverride));
         }
@@ -262,6 +285,10 @@ public abstract class S3Instructions implements LogOutputAppendable {
             return credentialsFilePath(Path.of(credentialsFilePath));
         }
 
+        default Builder diskCacheDirectory(final String diskCacheDirectory) {
+            return diskCacheDirectory(Path.of(diskCacheDirectory));
+        }
+
         S3Instructions build();
     }
 
@@ -341,6 +368,13 @@ public abstract class S3Instructions implements LogOutputAppendable {
         }
     }
 
+    @Check
+    final void boundsCheckDiskCacheSize() {
+        if (diskCacheSize() < 1) {
+            throw new IllegalArgumentException("diskCacheSize(=" + diskCacheSize() + ") must be >= 1");
+        }
+    }
+
     @Check
     final void boundsCheckMaxNumConcurrentWriteParts() {
         if (numConcurrentWriteParts() > maxConcurrentRequests()) {
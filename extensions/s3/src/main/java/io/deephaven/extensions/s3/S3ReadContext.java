@@ -9,6 +9,7 @@ import io.deephaven.io.logger.Logger;
 import io.deephaven.util.channel.SeekableChannelContext;
 import io.deephaven.util.channel.BaseSeekableChannelContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Uri;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
@@ -45,6 +46,13 @@ final class S3ReadContext extends BaseSeekableChannelContext implements Seekable
      */
     final S3ReadRequestCache sharedReadCache;
 
+    /**
+     * Used to store fetched fragments on local disk, so that they outlive the {@link #sharedReadCache}, or null if
+     * disabled. This cache can be shared across multiple providers and be accessed concurrently.
+     */
+    @Nullable
+    final S3FragmentDiskCache diskCache;
+
     /**
      * The size of the object in bytes, stored in context to avoid fetching multiple times
      */
@@ -59,11 +67,13 @@ final class S3ReadContext extends BaseSeekableChannelContext implements Seekable
             @NotNull final S3SeekableChannelProvider provider,
             @NotNull final S3AsyncClient client,
             @NotNull final S3Instructions instructions,
-            @NotNull final S3ReadRequestCache sharedReadCache) {
+            @NotNull final S3ReadRequestCache sharedReadCache,
+            @Nullable final S3FragmentDiskCache diskCache) {
         this.provider = Objects.requireNonNull(provider);
         this.client = Objects.requireNonNull(client);
         this.instructions = Objects.requireNonNull(instructions);
         this.sharedReadCache = sharedReadCache;
+        this.diskCache = diskCache;
         if (sharedReadCache.getFragmentSize() != instructions.fragmentSize()) {
             throw new IllegalArgumentException("Fragment size mismatch between shared cache and instructions, "
                     + sharedReadCache.getFragmentSize() + " != " + instructions.fragmentSize());
@@ -140,6 +150,24 @@ final class S3ReadContext extends BaseSeekableChannelContext implements Seekable
         return filled;
     }
 
+    /**
+     * @return the ETag of the object at {@link #uri}, or null if it is not known
+     */
+    @Nullable
+    String eTag() {
+        return provider.getCachedETag(uri.uri());
+    }
+
+    /**
+     * @return the ETag of the object at {@link #uri}, fetched with a HEAD request if it is not known, or null if S3 did
+     *         not provide one
+     * @throws IOException if the request failed
+     */
+    @Nullable
+    String fetchETag() throws IOException {
+        return provider.fetchETag(uri);
+    }
+
     private void reset() {
         // Reset the internal state
         uri = null;
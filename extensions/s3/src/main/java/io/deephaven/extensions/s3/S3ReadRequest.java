@@ -104,6 +104,18 @@ final class S3ReadRequest extends SoftReference<ByteBuffer>
     private int fillCount;
     private long fillBytes;
     private final S3ReadRequestCache sharedCache;
+    @Nullable
+    private final S3FragmentDiskCache diskCache;
+    /**
+     * The key for this fragment in the {@link #diskCache}, which identifies the object by its URI and size.
+     */
+    private final String diskCacheKey;
+    /**
+     * The ETag of the object, if known, recorded alongside this fragment in the {@link #diskCache}. A disk cache entry
+     * is validated against it, after fetching it if it is not known.
+     */
+    @Nullable
+    private volatile String eTag;
 
     /**
      * Create a new request for the given fragment index using the provided context object.
@@ -120,6 +132,7 @@ final class S3ReadRequest extends SoftReference<ByteBuffer>
         final long requestLength = to - from + 1;
         final ByteBuffer buffer = ByteBuffer.allocate((int) requestLength);
         final S3ReadRequest request = new S3ReadRequest(fragmentIndex, context, buffer, from, to);
+        request.maybeFillFromDiskCache(buffer, context);
         return request.acquire(buffer);
     }
 
@@ -137,6 +150,9 @@ final class S3ReadRequest extends SoftReference<ByteBuffer>
         this.from = from;
         this.to = to;
         sharedCache = context.sharedReadCache;
+        diskCache = context.diskCache;
+        diskCacheKey = s3Uri.uri() + "|" + context.size + "|" + from + "|" + (to - from + 1);
+        eTag = diskCache == null ? null : context.eTag();
         createdAt = Instant.now();
         id = new ID(s3Uri, fragmentIndex);
         if (log.isDebugEnabled()) {
@@ -149,6 +165,46 @@ final class S3ReadRequest extends SoftReference<ByteBuffer>
         return id;
     }
 
+    /**
+     * Fill the buffer from the disk cache if it holds this fragment, in which case this request is complete and will
+     * never be sent. Must be called before the request is shared.
+     */
+    private void maybeFillFromDiskCache(@NotNull final ByteBuffer buffer, @NotNull final S3ReadContext context) {
+        if (diskCache != null && diskCache.read(diskCacheKey, () -> currentETag(context), buffer)) {
+            if (log.isDebugEnabled()) {
+                log.debug().append("Filled from disk cache: ").append(requestStr()).endl();
+            }
+            consumerFuture = CompletableFuture.completedFuture(true);
+        }
+    }
+
+    /**
+     * @return the ETag of the object, fetching it from S3 if it was not known when this request was created, or null if
+     *         it could not be fetched
+     */
+    @Nullable
+    private String currentETag(@NotNull final S3ReadContext context) {
+        if (eTag == null) {
+            try {
+                eTag = context.fetchETag();
+            } catch (IOException e) {
+                log.warn().append("Failed to fetch the ETag to validate a disk cache entry: ").append(requestStr())
+                        .append(": ").append(e).endl();
+            }
+        }
+        return eTag;
+    }
+
+    /**
+     * Store the fetched fragment in the disk cache, if enabled. The write happens on the disk cache's writer threads,
+     * rather than the thread completing this request, and holds the buffer until it is done.
+     */
+    private void maybeWriteToDiskCache(@NotNull final ByteBuffer buffer) {
+        if (diskCache != null) {
+            diskCache.writeAsync(diskCacheKey, eTag, buffer.asReadOnlyBuffer().clear());
+        }
+    }
+
     /**
      * Try to acquire a reference to this request and underlying buffer. Returns {@code null} if the buffer is already
      * released.
@@ -316,7 +372,9 @@ final class S3ReadRequest extends SoftReference<ByteBuffer>
 
     @Override
     public void onResponse(GetObjectResponse response) {
-
+        if (response.eTag() != null) {
+            eTag = response.eTag();
+        }
     }
 
     @Override
@@ -414,7 +472,8 @@ final class S3ReadRequest extends SoftReference<ByteBuffer>
 
         @Override
         public void onComplete() {
-            if (S3ReadRequest.this.get() == null) {
+            final ByteBuffer resultBuffer = S3ReadRequest.this.get();
+            if (resultBuffer == null) {
                 localProducer.complete(false);
                 return;
             }
@@ -425,6 +484,8 @@ final class S3ReadRequest extends SoftReference<ByteBuffer>
                 return;
             }
             localProducer.complete(true);
+            // Readers need not wait for the fragment to reach the disk cache
+            maybeWriteToDiskCache(resultBuffer);
         }
     }
 }
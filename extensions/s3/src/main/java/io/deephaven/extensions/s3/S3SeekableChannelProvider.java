@@ -19,6 +19,7 @@ import io.deephaven.util.channel.CompletableOutputStream;
 import io.deephaven.util.channel.SeekableChannelContext;
 import io.deephaven.util.channel.SeekableChannelsProvider;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Uri;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
@@ -74,6 +75,12 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
      */
     private final S3ReadRequestCache sharedReadCache;
 
+    /**
+     * The cache of fragments on local disk, or null if {@link S3Instructions#diskCacheDirectory()} is not set.
+     */
+    @Nullable
+    private final S3FragmentDiskCache diskCache;
+
     @SuppressWarnings("rawtypes")
     private static final AtomicReferenceFieldUpdater<S3SeekableChannelProvider, SoftReference> FILE_SIZE_CACHE_REF_UPDATER =
             AtomicReferenceFieldUpdater.newUpdater(S3SeekableChannelProvider.class, SoftReference.class,
@@ -107,6 +114,9 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
             final boolean ownsClient) {
         this.s3Instructions = s3Instructions;
         this.sharedReadCache = new S3ReadRequestCache(s3Instructions.fragmentSize());
+        this.diskCache = s3Instructions.diskCacheDirectory()
+                .map(directory -> S3FragmentDiskCache.forDirectory(directory, s3Instructions.diskCacheSize()))
+                .orElse(null);
         this.fileSizeCacheRef = new SoftReference<>(new KeyedObjectHashMap<>(FileSizeInfo.URI_MATCH_KEY));
         this.s3AsyncClient = s3AsyncClient;
         this.ownsClient = ownsClient;
@@ -145,7 +155,7 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
     public SeekableByteChannel getReadChannel(@NotNull SeekableChannelContext channelContext, @NotNull URI uri,
             long fileSize) {
         final S3Uri s3Uri = s3AsyncClient.utilities().parseUri(uri);
-        updateFileSizeCache(uri, fileSize);
+        updateFileSizeCache(uri, fileSize, null);
         return new S3SeekableByteChannel(s3Uri, fileSize);
     }
 
@@ -157,12 +167,12 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
 
     @Override
     public SeekableChannelContext makeReadContext() {
-        return new S3ReadContext(this, s3AsyncClient, s3Instructions, sharedReadCache);
+        return new S3ReadContext(this, s3AsyncClient, s3Instructions, sharedReadCache, diskCache);
     }
 
     @Override
     public SeekableChannelContext makeSingleUseReadContext() {
-        return new S3ReadContext(this, s3AsyncClient, s3Instructions.singleUse(), sharedReadCache);
+        return new S3ReadContext(this, s3AsyncClient, s3Instructions.singleUse(), sharedReadCache, diskCache);
     }
 
     @Override
@@ -295,7 +305,7 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
                                         + s3Object.key() + " and bucket " + bucketName + " inside directory "
                                         + directory, e);
                             }
-                            updateFileSizeCache(uri, s3Object.size());
+                            updateFileSizeCache(uri, s3Object.size(), s3Object.eTag());
                             return uri;
                         }).iterator();
                 // The following token is null when the last batch is fetched.
@@ -333,10 +343,37 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
             return cachedSize;
         }
         // Fetch the size of the file using a blocking HEAD request, and store it in the cache for future use
+        final HeadObjectResponse headObjectResponse = headObject(s3Uri);
+        final long fileSize = headObjectResponse.contentLength();
+        updateFileSizeCache(s3Uri.uri(), fileSize, headObjectResponse.eTag());
+        return fileSize;
+    }
+
+    /**
+     * Get the ETag of the object at {@code s3Uri} from the cache, or else with a blocking HEAD request, whose result is
+     * cached if the object's size is unchanged. Sizes supplied by callers are cached without an ETag, so this is how a
+     * disk cache entry for such an object is validated.
+     *
+     * @return the ETag, or null if S3 did not provide one
+     */
+    @Nullable
+    String fetchETag(@NotNull final S3Uri s3Uri) throws IOException {
+        final String cachedETag = getCachedETag(s3Uri.uri());
+        if (cachedETag != null) {
+            return cachedETag;
+        }
+        final HeadObjectResponse headObjectResponse = headObject(s3Uri);
+        final long cachedSize = getCachedSize(s3Uri.uri());
+        if (cachedSize == UNKNOWN_SIZE || cachedSize == headObjectResponse.contentLength()) {
+            updateFileSizeCache(s3Uri.uri(), headObjectResponse.contentLength(), headObjectResponse.eTag());
+        }
+        return headObjectResponse.eTag();
+    }
+
+    private HeadObjectResponse headObject(@NotNull final S3Uri s3Uri) throws IOException {
         if (log.isDebugEnabled()) {
             log.debug().append("Head: ").append(s3Uri.toString()).endl();
         }
-        final HeadObjectResponse headObjectResponse;
         final HeadObjectRequest.Builder requestBuilder = HeadObjectRequest.builder()
                 .bucket(s3Uri.bucket().orElseThrow())
                 .key(s3Uri.key().orElseThrow());
@@ -345,7 +382,7 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
         final long start = System.nanoTime();
         final CompletableFuture<HeadObjectResponse> responseFuture = s3AsyncClient.headObject(requestBuilder.build());
         try {
-            headObjectResponse = responseFuture.get(readTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            return responseFuture.get(readTimeout.toNanos(), TimeUnit.NANOSECONDS);
         } catch (final InterruptedException | ExecutionException | TimeoutException | CancellationException e) {
             responseFuture.cancel(true);
             throw handleS3Exception(e, String.format("fetching HEAD for file %s", s3Uri), s3Instructions);
@@ -354,9 +391,6 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
             QueryPerformanceReadTracker.recordMetadataOperation(duration);
             FETCH_FILE_SIZE_DURATION_NANOS.sample(duration);
         }
-        final long fileSize = headObjectResponse.contentLength();
-        updateFileSizeCache(s3Uri.uri(), fileSize);
-        return fileSize;
     }
 
     /**
@@ -374,19 +408,36 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
     }
 
     /**
-     * Cache the file size for the given URI.
+     * Get the cached ETag for the given URI, or null if it is not known.
+     */
+    @Nullable
+    String getCachedETag(@NotNull final URI uri) {
+        final Map<URI, FileSizeInfo> fileSizeCache = fileSizeCacheRef.get();
+        if (fileSizeCache != null) {
+            final FileSizeInfo sizeInfo = fileSizeCache.get(uri);
+            if (sizeInfo != null) {
+                return sizeInfo.eTag;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Cache the file size, and ETag if known, for the given URI.
      */
-    private void updateFileSizeCache(@NotNull final URI uri, final long size) {
+    private void updateFileSizeCache(@NotNull final URI uri, final long size, @Nullable final String eTag) {
         if (size < 0) {
             throw new IllegalArgumentException("Invalid file size: " + size + " for URI " + uri);
         }
         final Map<URI, FileSizeInfo> fileSizeCache = getFileSizeCache();
         fileSizeCache.compute(uri, (key, existingInfo) -> {
             if (existingInfo == null) {
-                return new FileSizeInfo(uri, size);
+                return new FileSizeInfo(uri, size, eTag);
             } else if (existingInfo.size != size) {
                 throw new IllegalStateException("Existing size " + existingInfo.size + " does not match "
                         + " the new size " + size + " for key " + key);
+            } else if (eTag != null && !eTag.equals(existingInfo.eTag)) {
+                return new FileSizeInfo(uri, size, eTag);
             }
             return existingInfo;
         });
@@ -395,10 +446,13 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
     private static final class FileSizeInfo {
         private final URI uri;
         private final long size;
+        @Nullable
+        private final String eTag;
 
-        FileSizeInfo(@NotNull final URI uri, final long size) {
+        FileSizeInfo(@NotNull final URI uri, final long size, @Nullable final String eTag) {
             this.uri = Require.neqNull(uri, "uri");
             this.size = size;
+            this.eTag = eTag;
         }
 
         private static final KeyedObjectKey<URI, FileSizeInfo> URI_MATCH_KEY = new KeyedObjectKey.Basic<>() {
@@ -0,0 +1,135 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.s3;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class S3FragmentDiskCacheTest {
+
+    private static final int FRAGMENT_SIZE = 1024;
+
+    @TempDir
+    Path directory;
+
+    private static ByteBuffer fragment(final int seed) {
+        final ByteBuffer buffer = ByteBuffer.allocate(FRAGMENT_SIZE);
+        for (int ii = 0; ii < FRAGMENT_SIZE; ++ii) {
+            buffer.put(ii, (byte) (seed * 31 + ii));
+        }
+        return buffer;
+    }
+
+    private static String key(final int fragmentIndex) {
+        return "s3://bucket/table.parquet|1048576|" + fragmentIndex * FRAGMENT_SIZE + "|" + FRAGMENT_SIZE;
+    }
+
+    @Test
+    void readWhatWasWritten() {
+        final S3FragmentDiskCache cache = new S3FragmentDiskCache(directory, 1 << 20);
+        final ByteBuffer dest = ByteBuffer.allocate(FRAGMENT_SIZE);
+        assertThat(cache.read(key(0), () -> null, dest)).isFalse();
+
+        cache.write(key(0), "etag-0", fragment(0));
+        assertThat(cache.read(key(0), () -> "etag-0", dest)).isTrue();
+        assertThat(dest.position()).isEqualTo(0);
+        assertThat(dest).isEqualTo(fragment(0));
+        assertThat(cache.read(key(1), () -> "etag-0", dest)).isFalse();
+
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void entriesWithAnETagAreValidated() {
+        final S3FragmentDiskCache cache = new S3FragmentDiskCache(directory, 1 << 20);
+        final ByteBuffer dest = ByteBuffer.allocate(FRAGMENT_SIZE);
+        final AtomicInteger fetches = new AtomicInteger();
+
+        // an entry without an ETag is identified by its key alone
+        cache.write(key(0), null, fragment(0));
+        assertThat(cache.read(key(0), () -> "etag-" + fetches.incrementAndGet(), dest)).isTrue();
+        assertThat(fetches.get()).isEqualTo(0);
+
+        // an entry with an ETag is not used until the current ETag is known, but is kept
+        cache.write(key(1), "etag-0", fragment(1));
+        assertThat(cache.read(key(1), () -> null, dest)).isFalse();
+        assertThat(cache.read(key(1), () -> {
+            fetches.incrementAndGet();
+            return "etag-0";
+        }, dest)).isTrue();
+        assertThat(fetches.get()).isEqualTo(1);
+        assertThat(dest).isEqualTo(fragment(1));
+    }
+
+    @Test
+    void sharedCachesKeepTheirSizeLimit() {
+        final S3FragmentDiskCache cache = S3FragmentDiskCache.forDirectory(directory, 1 << 20);
+        assertThat(S3FragmentDiskCache.forDirectory(directory, 1 << 10)).isSameAs(cache);
+        assertThat(cache.getMaxBytes()).isEqualTo(1 << 20);
+    }
+
+    @Test
+    void asyncWritesAreReadable() {
+        final S3FragmentDiskCache cache = new S3FragmentDiskCache(directory, 1 << 20);
+        final ByteBuffer src = fragment(0);
+        cache.writeAsync(key(0), "etag-0", src).join();
+        assertThat(src.position()).isEqualTo(0);
+
+        final ByteBuffer dest = ByteBuffer.allocate(FRAGMENT_SIZE);
+        assertThat(cache.read(key(0), () -> "etag-0", dest)).isTrue();
+        assertThat(dest).isEqualTo(fragment(0));
+    }
+
+    @Test
+    void staleEntriesAreDiscarded() {
+        final S3FragmentDiskCache cache = new S3FragmentDiskCache(directory, 1 << 20);
+        cache.write(key(0), "etag-0", fragment(0));
+        assertThat(cache.read(key(0), () -> "etag-1", ByteBuffer.allocate(FRAGMENT_SIZE))).isFalse();
+        assertThat(cache.read(key(0), () -> "etag-0", ByteBuffer.allocate(FRAGMENT_SIZE))).isFalse();
+        assertThat(cache.getTotalBytes()).isEqualTo(0);
+
+        // an entry of a different length is not a match either
+        cache.write(key(1), null, fragment(1));
+        assertThat(cache.read(key(1), () -> null, ByteBuffer.allocate(FRAGMENT_SIZE / 2))).isFalse();
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesAreEvicted() {
+        // room for three entries and their headers
+        final S3FragmentDiskCache cache = new S3FragmentDiskCache(directory, 3 * (FRAGMENT_SIZE + 64));
+        for (int ii = 0; ii < 3; ++ii) {
+            cache.write(key(ii), null, fragment(ii));
+        }
+        final ByteBuffer dest = ByteBuffer.allocate(FRAGMENT_SIZE);
+        assertThat(cache.read(key(0), () -> null, dest)).isTrue();
+
+        cache.write(key(3), null, fragment(3));
+        assertThat(cache.getTotalBytes()).isLessThanOrEqualTo(3 * (FRAGMENT_SIZE + 64));
+        assertThat(cache.read(key(0), () -> null, dest)).isTrue();
+        assertThat(cache.read(key(1), () -> null, dest)).isFalse();
+        assertThat(cache.read(key(2), () -> null, dest)).isTrue();
+        assertThat(cache.read(key(3), () -> null, dest)).isTrue();
+        assertThat(dest).isEqualTo(fragment(3));
+    }
+
+    @Test
+    void entriesSurviveRestart() {
+        final S3FragmentDiskCache cache = new S3FragmentDiskCache(directory, 1 << 20);
+        cache.write(key(0), "etag-0", fragment(0));
+        cache.write(key(1), "etag-0", fragment(1));
+
+        final S3FragmentDiskCache restarted = new S3FragmentDiskCache(directory, 1 << 20);
+        assertThat(restarted.getTotalBytes()).isEqualTo(cache.getTotalBytes());
+        final ByteBuffer dest = ByteBuffer.allocate(FRAGMENT_SIZE);
+        assertThat(restarted.read(key(1), () -> "etag-0", dest)).isTrue();
+        assertThat(dest).isEqualTo(fragment(1));
+    }
+}
@@ -36,6 +36,8 @@ class S3InstructionsTest {
         assertThat(instructions.configFilePath()).isEmpty();
         assertThat(instructions.credentialsFilePath()).isEmpty();
         assertThat(instructions.aggregatedProfileFile()).isEmpty();
+        assertThat(instructions.diskCacheDirectory()).isEmpty();
+        assertThat(instructions.diskCacheSize()).isEqualTo(10L << 30);
     }
 
     @Test
@@ -3,12 +3,18 @@
 //
 package io.deephaven.client.impl;
 
+import io.deephaven.extensions.barrage.BarrageOptions;
 import io.deephaven.extensions.barrage.BarrageSnapshotOptions;
 import io.deephaven.extensions.barrage.BarrageSubscriptionOptions;
+import io.deephaven.extensions.barrage.BodyCompressionCodec;
 import io.deephaven.proto.DeephavenChannel;
 import io.deephaven.qst.table.TableSpec;
 import io.deephaven.util.annotations.InternalUseOnly;
+import io.grpc.Channel;
+import io.grpc.ClientInterceptors;
 import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.stub.MetadataUtils;
 import org.apache.arrow.flight.FlightClient;
 import org.apache.arrow.flight.FlightGrpcUtilsExtension;
 import org.apache.arrow.memory.BufferAllocator;
@@ -49,6 +55,24 @@ public class BarrageSession extends FlightSession implements BarrageSubscription
         super(session, client);
     }
 
+    /**
+     * Wrap {@code channel} so that its calls request the {@link BarrageOptions#compressionCodec() compression codec} of
+     * {@code options}. The codec is negotiated per call, since the serialized options have no field for it.
+     *
+     * @param channel the channel to make the {@code DoExchange} call on
+     * @param options the options of the subscription or snapshot
+     * @return a channel whose calls carry the {@link BodyCompressionCodec#REQUEST_HEADER} header, if needed
+     */
+    static Channel withCompressionCodec(final Channel channel, final BarrageOptions options) {
+        if (options.compressionCodec() == BodyCompressionCodec.NONE) {
+            return channel;
+        }
+        final Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of(BodyCompressionCodec.REQUEST_HEADER, Metadata.ASCII_STRING_MARSHALLER),
+                options.compressionCodec().name());
+        return ClientInterceptors.intercept(channel, MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+
     @Override
     public BarrageSubscription subscribe(final TableSpec tableSpec, final BarrageSubscriptionOptions options)
             throws TableHandle.TableHandleException, InterruptedException {
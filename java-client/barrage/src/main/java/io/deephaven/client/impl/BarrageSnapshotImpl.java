@@ -104,7 +104,8 @@ public class BarrageSnapshotImpl extends ReferenceCountedLivenessNode implements
         final ClientCall<FlightData, BarrageMessage> call;
         final Context previous = Context.ROOT.attach();
         try {
-            call = session.channel().channel().newCall(snapshotDescriptor, CallOptions.DEFAULT);
+            call = BarrageSession.withCompressionCodec(session.channel().channel(), options)
+                    .newCall(snapshotDescriptor, CallOptions.DEFAULT);
         } finally {
             Context.ROOT.detach(previous);
         }
@@ -111,7 +111,8 @@ public class BarrageSubscriptionImpl extends ReferenceCountedLivenessNode implem
         try {
             Channel channel = session.channel().channel();
             channelName = channel.authority();
-            call = channel.newCall(subscribeDescriptor, CallOptions.DEFAULT);
+            call = BarrageSession.withCompressionCodec(channel, options)
+                    .newCall(subscribeDescriptor, CallOptions.DEFAULT);
         } finally {
             Context.ROOT.detach(previous);
         }
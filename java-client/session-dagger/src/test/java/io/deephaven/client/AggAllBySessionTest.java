@@ -7,6 +7,7 @@ import io.deephaven.api.ColumnName;
 import io.deephaven.api.SortColumn;
 import io.deephaven.api.agg.spec.AggSpec;
 import io.deephaven.api.agg.spec.AggSpecAbsSum;
+import io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct;
 import io.deephaven.api.agg.spec.AggSpecApproximatePercentile;
 import io.deephaven.api.agg.spec.AggSpecAvg;
 import io.deephaven.api.agg.spec.AggSpecCountDistinct;
@@ -20,6 +21,7 @@ import io.deephaven.api.agg.spec.AggSpecMax;
 import io.deephaven.api.agg.spec.AggSpecMedian;
 import io.deephaven.api.agg.spec.AggSpecMin;
 import io.deephaven.api.agg.spec.AggSpecPercentile;
+import io.deephaven.api.agg.spec.AggSpecSketchPercentile;
 import io.deephaven.api.agg.spec.AggSpecSortedFirst;
 import io.deephaven.api.agg.spec.AggSpecSortedLast;
 import io.deephaven.api.agg.spec.AggSpecStd;
@@ -120,6 +122,12 @@ public class AggAllBySessionTest extends TableSpecTestBase {
             out.add(AggSpecAbsSum.of());
         }
 
+        @Override
+        public void visit(AggSpecApproximateCountDistinct approxCountDistinct) {
+            out.add(AggSpecApproximateCountDistinct.of());
+            out.add(AggSpecApproximateCountDistinct.of(12));
+        }
+
         @Override
         public void visit(AggSpecApproximatePercentile approxPct) {
             out.add(AggSpecApproximatePercentile.of(0.25));
@@ -192,6 +200,12 @@ public class AggAllBySessionTest extends TableSpecTestBase {
             out.add(AggSpecPercentile.of(0.25, true));
         }
 
+        @Override
+        public void visit(AggSpecSketchPercentile sketchPct) {
+            out.add(AggSpecSketchPercentile.of(0.25));
+            out.add(AggSpecSketchPercentile.of(0.25, 0.05));
+        }
+
         @Override
         public void visit(AggSpecSortedFirst sortedFirst) {
             out.add(AggSpecSortedFirst.builder().addColumns(SortColumn.asc(ColumnName.of("B"))).build());
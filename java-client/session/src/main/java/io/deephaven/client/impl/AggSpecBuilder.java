@@ -9,6 +9,7 @@ import io.deephaven.api.object.UnionObject;
 import io.deephaven.api.object.UnionObject.Visitor;
 import io.deephaven.proto.backplane.grpc.AggSpec;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecAbsSum;
+import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecApproximateCountDistinct;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecApproximatePercentile;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecAvg;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecCountDistinct;
@@ -23,6 +24,7 @@ import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecMedian;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecMin;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecNonUniqueSentinel;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecPercentile;
+import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecSketchPercentile;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecSorted;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecSortedColumn;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecStd;
@@ -60,6 +62,13 @@ class AggSpecBuilder implements io.deephaven.api.agg.spec.AggSpec.Visitor {
         out = spec(Builder::setAbsSum, AggSpecAbsSum.newBuilder());
     }
 
+    @Override
+    public void visit(io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct approxCountDistinct) {
+        final AggSpecApproximateCountDistinct.Builder builder = AggSpecApproximateCountDistinct.newBuilder();
+        approxCountDistinct.precision().ifPresent(builder::setPrecision);
+        out = spec(Builder::setApproximateCountDistinct, builder);
+    }
+
     @Override
     public void visit(io.deephaven.api.agg.spec.AggSpecApproximatePercentile approxPct) {
         final AggSpecApproximatePercentile.Builder builder = AggSpecApproximatePercentile.newBuilder()
@@ -135,6 +144,14 @@ class AggSpecBuilder implements io.deephaven.api.agg.spec.AggSpec.Visitor {
                 .setAverageEvenlyDivided(pct.averageEvenlyDivided()));
     }
 
+    @Override
+    public void visit(io.deephaven.api.agg.spec.AggSpecSketchPercentile sketchPct) {
+        final AggSpecSketchPercentile.Builder builder = AggSpecSketchPercentile.newBuilder()
+                .setPercentile(sketchPct.percentile());
+        sketchPct.relativeAccuracy().ifPresent(builder::setRelativeAccuracy);
+        out = spec(Builder::setSketchPercentile, builder);
+    }
+
     private static AggSpecSortedColumn adapt(SortColumn sortColumn) {
         return AggSpecSortedColumn.newBuilder()
                 .setColumnName(sortColumn.column().name())
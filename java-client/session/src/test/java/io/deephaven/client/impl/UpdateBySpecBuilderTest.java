@@ -331,6 +331,25 @@ public class UpdateBySpecBuilderTest {
                     .build();
         }
 
+        @Override
+        public UpdateByColumn.UpdateBySpec visit(RollingPercentileSpec spec) {
+            return UpdateByColumn.UpdateBySpec
+                    .newBuilder().setRollingPercentile(
+                            UpdateByColumn.UpdateBySpec.UpdateByRollingPercentile.newBuilder()
+                                    .setReverseWindowScale(UpdateByWindowScale.newBuilder()
+                                            .setTime(UpdateByWindowScale.UpdateByWindowTime.newBuilder()
+                                                    .setColumn("Timestamp").setNanos(1).build())
+                                            .build())
+                                    .setForwardWindowScale(UpdateByWindowScale.newBuilder()
+                                            .setTime(UpdateByWindowScale.UpdateByWindowTime.newBuilder()
+                                                    .setColumn("Timestamp").setNanos(1).build())
+                                            .build())
+                                    .setPercentile(0.5)
+                                    .setAverageEvenlyDivided(true)
+                                    .build())
+                    .build();
+        }
+
         @Override
         public UpdateByColumn.UpdateBySpec visit(RollingCountWhereSpec spec) {
             return UpdateByColumn.UpdateBySpec
@@ -714,6 +733,28 @@ public class UpdateBySpecBuilderTest {
                         .build());
     }
 
+    @Test
+    void rollingPercentile() {
+        check(RollingPercentileSpec.ofTime(0.25, "Timestamp", Duration.ofNanos(1), Duration.ofNanos(2)),
+                UpdateByColumn.UpdateBySpec.newBuilder().setRollingPercentile(
+                        UpdateByColumn.UpdateBySpec.UpdateByRollingPercentile.newBuilder()
+                                .setReverseWindowScale(time("Timestamp", 1))
+                                .setForwardWindowScale(time("Timestamp", 2))
+                                .setPercentile(0.25)
+                                .build())
+                        .build());
+
+        check(RollingPercentileSpec.of(0.5, true, WindowScale.ofTicks(42L), WindowScale.ofTicks(43L)),
+                UpdateByColumn.UpdateBySpec.newBuilder().setRollingPercentile(
+                        UpdateByColumn.UpdateBySpec.UpdateByRollingPercentile.newBuilder()
+                                .setReverseWindowScale(ticks(42L))
+                                .setForwardWindowScale(ticks(43L))
+                                .setPercentile(0.5)
+                                .setAverageEvenlyDivided(true)
+                                .build())
+                        .build());
+    }
+
     private static void check(UpdateBySpec spec) {
         check(spec, spec.walk(ExpectedSpecVisitor.INSTANCE));
     }
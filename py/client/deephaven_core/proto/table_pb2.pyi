@@ -1133,6 +1133,39 @@ class UpdateByRequest(google.protobuf.message.Message):
                     _ClearFieldArgType: typing_extensions.TypeAlias = typing.Literal["filters", b"filters", "forward_window_scale", b"forward_window_scale", "result_column", b"result_column", "reverse_window_scale", b"reverse_window_scale"]
                     def ClearField(self, field_name: _ClearFieldArgType) -> None: ...
 
+                @typing.final
+                class UpdateByRollingPercentile(google.protobuf.message.Message):
+                    DESCRIPTOR: google.protobuf.descriptor.Descriptor
+
+                    REVERSE_WINDOW_SCALE_FIELD_NUMBER: builtins.int
+                    FORWARD_WINDOW_SCALE_FIELD_NUMBER: builtins.int
+                    PERCENTILE_FIELD_NUMBER: builtins.int
+                    AVERAGE_EVENLY_DIVIDED_FIELD_NUMBER: builtins.int
+                    percentile: builtins.float
+                    """The percentile to compute, between 0 and 1 inclusive"""
+                    average_evenly_divided: builtins.bool
+                    """Whether to average the two candidate values when the window is evenly divided"""
+                    @property
+                    def reverse_window_scale(self) -> Global___UpdateByWindowScale:
+                        """The reverse window for the rolling operation, may be in ticks or time-based."""
+
+                    @property
+                    def forward_window_scale(self) -> Global___UpdateByWindowScale:
+                        """The forward window for the rolling operation, may be in ticks or time-based."""
+
+                    def __init__(
+                        self,
+                        *,
+                        reverse_window_scale: Global___UpdateByWindowScale | None = ...,
+                        forward_window_scale: Global___UpdateByWindowScale | None = ...,
+                        percentile: builtins.float = ...,
+                        average_evenly_divided: builtins.bool = ...,
+                    ) -> None: ...
+                    _HasFieldArgType: typing_extensions.TypeAlias = typing.Literal["forward_window_scale", b"forward_window_scale", "reverse_window_scale", b"reverse_window_scale"]
+                    def HasField(self, field_name: _HasFieldArgType) -> builtins.bool: ...
+                    _ClearFieldArgType: typing_extensions.TypeAlias = typing.Literal["average_evenly_divided", b"average_evenly_divided", "forward_window_scale", b"forward_window_scale", "percentile", b"percentile", "reverse_window_scale", b"reverse_window_scale"]
+                    def ClearField(self, field_name: _ClearFieldArgType) -> None: ...
+
                 @typing.final
                 class UpdateByCumulativeCountWhere(google.protobuf.message.Message):
                     DESCRIPTOR: google.protobuf.descriptor.Descriptor
@@ -1177,6 +1210,7 @@ class UpdateByRequest(google.protobuf.message.Message):
                 ROLLING_FORMULA_FIELD_NUMBER: builtins.int
                 ROLLING_COUNT_WHERE_FIELD_NUMBER: builtins.int
                 COUNT_WHERE_FIELD_NUMBER: builtins.int
+                ROLLING_PERCENTILE_FIELD_NUMBER: builtins.int
                 @property
                 def sum(self) -> Global___UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByCumulativeSum: ...
                 @property
@@ -1223,6 +1257,8 @@ class UpdateByRequest(google.protobuf.message.Message):
                 def rolling_count_where(self) -> Global___UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingCountWhere: ...
                 @property
                 def count_where(self) -> Global___UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByCumulativeCountWhere: ...
+                @property
+                def rolling_percentile(self) -> Global___UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingPercentile: ...
                 def __init__(
                     self,
                     *,
@@ -1249,12 +1285,13 @@ class UpdateByRequest(google.protobuf.message.Message):
                     rolling_formula: Global___UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingFormula | None = ...,
                     rolling_count_where: Global___UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingCountWhere | None = ...,
                     count_where: Global___UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByCumulativeCountWhere | None = ...,
+                    rolling_percentile: Global___UpdateByRequest.UpdateByOperation.UpdateByColumn.UpdateBySpec.UpdateByRollingPercentile | None = ...,
                 ) -> None: ...
-                _HasFieldArgType: typing_extensions.TypeAlias = typing.Literal["count_where", b"count_where", "delta", b"delta", "em_max", b"em_max", "em_min", b"em_min", "em_std", b"em_std", "ema", b"ema", "ems", b"ems", "fill", b"fill", "max", b"max", "min", b"min", "product", b"product", "rolling_avg", b"rolling_avg", "rolling_count", b"rolling_count", "rolling_count_where", b"rolling_count_where", "rolling_formula", b"rolling_formula", "rolling_group", b"rolling_group", "rolling_max", b"rolling_max", "rolling_min", b"rolling_min", "rolling_product", b"rolling_product", "rolling_std", b"rolling_std", "rolling_sum", b"rolling_sum", "rolling_wavg", b"rolling_wavg", "sum", b"sum", "type", b"type"]
+                _HasFieldArgType: typing_extensions.TypeAlias = typing.Literal["count_where", b"count_where", "delta", b"delta", "em_max", b"em_max", "em_min", b"em_min", "em_std", b"em_std", "ema", b"ema", "ems", b"ems", "fill", b"fill", "max", b"max", "min", b"min", "product", b"product", "rolling_avg", b"rolling_avg", "rolling_count", b"rolling_count", "rolling_count_where", b"rolling_count_where", "rolling_formula", b"rolling_formula", "rolling_group", b"rolling_group", "rolling_max", b"rolling_max", "rolling_min", b"rolling_min", "rolling_percentile", b"rolling_percentile", "rolling_product", b"rolling_product", "rolling_std", b"rolling_std", "rolling_sum", b"rolling_sum", "rolling_wavg", b"rolling_wavg", "sum", b"sum", "type", b"type"]
                 def HasField(self, field_name: _HasFieldArgType) -> builtins.bool: ...
-                _ClearFieldArgType: typing_extensions.TypeAlias = typing.Literal["count_where", b"count_where", "delta", b"delta", "em_max", b"em_max", "em_min", b"em_min", "em_std", b"em_std", "ema", b"ema", "ems", b"ems", "fill", b"fill", "max", b"max", "min", b"min", "product", b"product", "rolling_avg", b"rolling_avg", "rolling_count", b"rolling_count", "rolling_count_where", b"rolling_count_where", "rolling_formula", b"rolling_formula", "rolling_group", b"rolling_group", "rolling_max", b"rolling_max", "rolling_min", b"rolling_min", "rolling_product", b"rolling_product", "rolling_std", b"rolling_std", "rolling_sum", b"rolling_sum", "rolling_wavg", b"rolling_wavg", "sum", b"sum", "type", b"type"]
+                _ClearFieldArgType: typing_extensions.TypeAlias = typing.Literal["count_where", b"count_where", "delta", b"delta", "em_max", b"em_max", "em_min", b"em_min", "em_std", b"em_std", "ema", b"ema", "ems", b"ems", "fill", b"fill", "max", b"max", "min", b"min", "product", b"product", "rolling_avg", b"rolling_avg", "rolling_count", b"rolling_count", "rolling_count_where", b"rolling_count_where", "rolling_formula", b"rolling_formula", "rolling_group", b"rolling_group", "rolling_max", b"rolling_max", "rolling_min", b"rolling_min", "rolling_percentile", b"rolling_percentile", "rolling_product", b"rolling_product", "rolling_std", b"rolling_std", "rolling_sum", b"rolling_sum", "rolling_wavg", b"rolling_wavg", "sum", b"sum", "type", b"type"]
                 def ClearField(self, field_name: _ClearFieldArgType) -> None: ...
-                _WhichOneofReturnType_type: typing_extensions.TypeAlias = typing.Literal["sum", "min", "max", "product", "fill", "ema", "rolling_sum", "rolling_group", "rolling_avg", "rolling_min", "rolling_max", "rolling_product", "delta", "ems", "em_min", "em_max", "em_std", "rolling_count", "rolling_std", "rolling_wavg", "rolling_formula", "rolling_count_where", "count_where"]
+                _WhichOneofReturnType_type: typing_extensions.TypeAlias = typing.Literal["sum", "min", "max", "product", "fill", "ema", "rolling_sum", "rolling_group", "rolling_avg", "rolling_min", "rolling_max", "rolling_product", "delta", "ems", "em_min", "em_max", "em_std", "rolling_count", "rolling_std", "rolling_wavg", "rolling_formula", "rolling_count_where", "count_where", "rolling_percentile"]
                 _WhichOneofArgType_type: typing_extensions.TypeAlias = typing.Literal["type", b"type"]
                 def WhichOneof(self, oneof_group: _WhichOneofArgType_type) -> _WhichOneofReturnType_type | None: ...
 
@@ -2160,6 +2197,28 @@ Global___AggregateAllRequest: typing_extensions.TypeAlias = AggregateAllRequest
 class AggSpec(google.protobuf.message.Message):
     DESCRIPTOR: google.protobuf.descriptor.Descriptor
 
+    @typing.final
+    class AggSpecApproximateCountDistinct(google.protobuf.message.Message):
+        DESCRIPTOR: google.protobuf.descriptor.Descriptor
+
+        PRECISION_FIELD_NUMBER: builtins.int
+        precision: builtins.int
+        """HyperLogLog precision, the base-2 logarithm of the number of registers. Must be in range [4, 18].
+        When not specified, the server will choose a precision.
+        """
+        def __init__(
+            self,
+            *,
+            precision: builtins.int | None = ...,
+        ) -> None: ...
+        _HasFieldArgType: typing_extensions.TypeAlias = typing.Literal["_precision", b"_precision", "precision", b"precision"]
+        def HasField(self, field_name: _HasFieldArgType) -> builtins.bool: ...
+        _ClearFieldArgType: typing_extensions.TypeAlias = typing.Literal["_precision", b"_precision", "precision", b"precision"]
+        def ClearField(self, field_name: _ClearFieldArgType) -> None: ...
+        _WhichOneofReturnType__precision: typing_extensions.TypeAlias = typing.Literal["precision"]
+        _WhichOneofArgType__precision: typing_extensions.TypeAlias = typing.Literal["_precision", b"_precision"]
+        def WhichOneof(self, oneof_group: _WhichOneofArgType__precision) -> _WhichOneofReturnType__precision | None: ...
+
     @typing.final
     class AggSpecApproximatePercentile(google.protobuf.message.Message):
         DESCRIPTOR: google.protobuf.descriptor.Descriptor
@@ -2273,6 +2332,32 @@ class AggSpec(google.protobuf.message.Message):
         _ClearFieldArgType: typing_extensions.TypeAlias = typing.Literal["average_evenly_divided", b"average_evenly_divided", "percentile", b"percentile"]
         def ClearField(self, field_name: _ClearFieldArgType) -> None: ...
 
+    @typing.final
+    class AggSpecSketchPercentile(google.protobuf.message.Message):
+        DESCRIPTOR: google.protobuf.descriptor.Descriptor
+
+        PERCENTILE_FIELD_NUMBER: builtins.int
+        RELATIVE_ACCURACY_FIELD_NUMBER: builtins.int
+        percentile: builtins.float
+        """Percentile. Must be in range [0.0, 1.0]."""
+        relative_accuracy: builtins.float
+        """DDSketch relative accuracy. Must be in range (0.0, 1.0).
+        When not specified, the server will choose a relative accuracy.
+        """
+        def __init__(
+            self,
+            *,
+            percentile: builtins.float = ...,
+            relative_accuracy: builtins.float | None = ...,
+        ) -> None: ...
+        _HasFieldArgType: typing_extensions.TypeAlias = typing.Literal["_relative_accuracy", b"_relative_accuracy", "relative_accuracy", b"relative_accuracy"]
+        def HasField(self, field_name: _HasFieldArgType) -> builtins.bool: ...
+        _ClearFieldArgType: typing_extensions.TypeAlias = typing.Literal["_relative_accuracy", b"_relative_accuracy", "percentile", b"percentile", "relative_accuracy", b"relative_accuracy"]
+        def ClearField(self, field_name: _ClearFieldArgType) -> None: ...
+        _WhichOneofReturnType__relative_accuracy: typing_extensions.TypeAlias = typing.Literal["relative_accuracy"]
+        _WhichOneofArgType__relative_accuracy: typing_extensions.TypeAlias = typing.Literal["_relative_accuracy", b"_relative_accuracy"]
+        def WhichOneof(self, oneof_group: _WhichOneofArgType__relative_accuracy) -> _WhichOneofReturnType__relative_accuracy | None: ...
+
     @typing.final
     class AggSpecSorted(google.protobuf.message.Message):
         DESCRIPTOR: google.protobuf.descriptor.Descriptor
@@ -2527,6 +2612,8 @@ class AggSpec(google.protobuf.message.Message):
     WEIGHTED_AVG_FIELD_NUMBER: builtins.int
     WEIGHTED_SUM_FIELD_NUMBER: builtins.int
     VAR_FIELD_NUMBER: builtins.int
+    SKETCH_PERCENTILE_FIELD_NUMBER: builtins.int
+    APPROXIMATE_COUNT_DISTINCT_FIELD_NUMBER: builtins.int
     @property
     def abs_sum(self) -> Global___AggSpec.AggSpecAbsSum: ...
     @property
@@ -2573,6 +2660,10 @@ class AggSpec(google.protobuf.message.Message):
     def weighted_sum(self) -> Global___AggSpec.AggSpecWeighted: ...
     @property
     def var(self) -> Global___AggSpec.AggSpecVar: ...
+    @property
+    def sketch_percentile(self) -> Global___AggSpec.AggSpecSketchPercentile: ...
+    @property
+    def approximate_count_distinct(self) -> Global___AggSpec.AggSpecApproximateCountDistinct: ...
     def __init__(
         self,
         *,
@@ -2599,12 +2690,14 @@ class AggSpec(google.protobuf.message.Message):
         weighted_avg: Global___AggSpec.AggSpecWeighted | None = ...,
         weighted_sum: Global___AggSpec.AggSpecWeighted | None = ...,
         var: Global___AggSpec.AggSpecVar | None = ...,
+        sketch_percentile: Global___AggSpec.AggSpecSketchPercentile | None = ...,
+        approximate_count_distinct: Global___AggSpec.AggSpecApproximateCountDistinct | None = ...,
     ) -> None: ...
-    _HasFieldArgType: typing_extensions.TypeAlias = typing.Literal["abs_sum", b"abs_sum", "approximate_percentile", b"approximate_percentile", "avg", b"avg", "count_distinct", b"count_distinct", "distinct", b"distinct", "first", b"first", "formula", b"formula", "freeze", b"freeze", "group", b"group", "last", b"last", "max", b"max", "median", b"median", "min", b"min", "percentile", b"percentile", "sorted_first", b"sorted_first", "sorted_last", b"sorted_last", "std", b"std", "sum", b"sum", "t_digest", b"t_digest", "type", b"type", "unique", b"unique", "var", b"var", "weighted_avg", b"weighted_avg", "weighted_sum", b"weighted_sum"]
+    _HasFieldArgType: typing_extensions.TypeAlias = typing.Literal["abs_sum", b"abs_sum", "approximate_count_distinct", b"approximate_count_distinct", "approximate_percentile", b"approximate_percentile", "avg", b"avg", "count_distinct", b"count_distinct", "distinct", b"distinct", "first", b"first", "formula", b"formula", "freeze", b"freeze", "group", b"group", "last", b"last", "max", b"max", "median", b"median", "min", b"min", "percentile", b"percentile", "sketch_percentile", b"sketch_percentile", "sorted_first", b"sorted_first", "sorted_last", b"sorted_last", "std", b"std", "sum", b"sum", "t_digest", b"t_digest", "type", b"type", "unique", b"unique", "var", b"var", "weighted_avg", b"weighted_avg", "weighted_sum", b"weighted_sum"]
     def HasField(self, field_name: _HasFieldArgType) -> builtins.bool: ...
-    _ClearFieldArgType: typing_extensions.TypeAlias = typing.Literal["abs_sum", b"abs_sum", "approximate_percentile", b"approximate_percentile", "avg", b"avg", "count_distinct", b"count_distinct", "distinct", b"distinct", "first", b"first", "formula", b"formula", "freeze", b"freeze", "group", b"group", "last", b"last", "max", b"max", "median", b"median", "min", b"min", "percentile", b"percentile", "sorted_first", b"sorted_first", "sorted_last", b"sorted_last", "std", b"std", "sum", b"sum", "t_digest", b"t_digest", "type", b"type", "unique", b"unique", "var", b"var", "weighted_avg", b"weighted_avg", "weighted_sum", b"weighted_sum"]
+    _ClearFieldArgType: typing_extensions.TypeAlias = typing.Literal["abs_sum", b"abs_sum", "approximate_count_distinct", b"approximate_count_distinct", "approximate_percentile", b"approximate_percentile", "avg", b"avg", "count_distinct", b"count_distinct", "distinct", b"distinct", "first", b"first", "formula", b"formula", "freeze", b"freeze", "group", b"group", "last", b"last", "max", b"max", "median", b"median", "min", b"min", "percentile", b"percentile", "sketch_percentile", b"sketch_percentile", "sorted_first", b"sorted_first", "sorted_last", b"sorted_last", "std", b"std", "sum", b"sum", "t_digest", b"t_digest", "type", b"type", "unique", b"unique", "var", b"var", "weighted_avg", b"weighted_avg", "weighted_sum", b"weighted_sum"]
     def ClearField(self, field_name: _ClearFieldArgType) -> None: ...
-    _WhichOneofReturnType_type: typing_extensions.TypeAlias = typing.Literal["abs_sum", "approximate_percentile", "avg", "count_distinct", "distinct", "first", "formula", "freeze", "group", "last", "max", "median", "min", "percentile", "sorted_first", "sorted_last", "std", "sum", "t_digest", "unique", "weighted_avg", "weighted_sum", "var"]
+    _WhichOneofReturnType_type: typing_extensions.TypeAlias = typing.Literal["abs_sum", "approximate_percentile", "avg", "count_distinct", "distinct", "first", "formula", "freeze", "group", "last", "max", "median", "min", "percentile", "sorted_first", "sorted_last", "std", "sum", "t_digest", "unique", "weighted_avg", "weighted_sum", "var", "sketch_percentile", "approximate_count_distinct"]
     _WhichOneofArgType_type: typing_extensions.TypeAlias = typing.Literal["type", b"type"]
     def WhichOneof(self, oneof_group: _WhichOneofArgType_type) -> _WhichOneofReturnType_type | None: ...
 
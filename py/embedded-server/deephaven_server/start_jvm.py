@@ -117,6 +117,8 @@ def start_jvm(
         "--add-exports=java.management/sun.management=ALL-UNNAMED",
         # Allow our clock-impl project to access internals
         "--add-exports=java.base/jdk.internal.misc=ALL-UNNAMED",
+        # Allow our engine-simd project to use the incubating Vector API
+        "--add-modules=jdk.incubator.vector",
     ]
     if jvm_args is None:
         jvm_args = required_jvm_args
@@ -162,6 +162,8 @@ class S3Instructions(JObjectWrapper):
         profile_name: Optional[str] = None,
         config_file_path: Optional[str] = None,
         credentials_file_path: Optional[str] = None,
+        disk_cache_directory: Optional[str] = None,
+        disk_cache_size: Optional[int] = None,
     ):
         """
         Initializes the instructions.
@@ -237,6 +239,11 @@ class S3Instructions(JObjectWrapper):
                 The main difference between config_file_path and credentials_file_path is around the conventions used
                 in the files. For reference on the credentials file format, check
                 https://docs.aws.amazon.com/cli/latest/userguide/cli-configure-files.html
+            disk_cache_directory (Optional[str]): the local directory in which to cache fragments read from S3, so that
+                repeated reads of the same objects are served from local disk, including after a restart. If not
+                provided, fragments are only cached in memory.
+            disk_cache_size (Optional[int]): the maximum number of bytes to keep in the disk cache, defaults to 10 GiB.
+                The least recently used fragments are evicted once the cache exceeds this size.
 
         Raises:
             DHError: If unable to build the instructions object.
@@ -333,6 +340,12 @@ class S3Instructions(JObjectWrapper):
             if credentials_file_path is not None:
                 builder.credentialsFilePath(credentials_file_path)
 
+            if disk_cache_directory is not None:
+                builder.diskCacheDirectory(disk_cache_directory)
+
+            if disk_cache_size is not None:
+                builder.diskCacheSize(disk_cache_size)
+
             self._j_object = builder.build()
         except Exception as e:
             raise DHError(e, "Failed to build S3 instructions") from e
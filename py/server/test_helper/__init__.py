@@ -46,6 +46,8 @@ def start_jvm_for_tests(jvm_props: Optional[dict[str, str]] = None):
             "--add-exports=java.management/sun.management=ALL-UNNAMED",
             # Allow our clock-impl project to access internals
             "--add-exports=java.base/jdk.internal.misc=ALL-UNNAMED",
+            # Allow our engine-simd project to use the incubating Vector API
+            "--add-modules=jdk.incubator.vector",
         }
         jvm_classpath = os.environ.get("DEEPHAVEN_CLASSPATH", "")
 
@@ -25,6 +25,12 @@ public class ReplicateChunkFilters {
     private static final String FLOAT_CHUNK_MATCH_FILTER_FACTORY =
             CHUNK_FILTER_PATH + "FloatChunkMatchFilterFactory.java";
 
+    private static final String SIMD_CHUNK_FILTER_PATH =
+            "engine/simd/src/main/java/io/deephaven/engine/table/impl/chunkfilter/simd/";
+    private static final String LONG_SIMD_CHUNK_FILTER = SIMD_CHUNK_FILTER_PATH + "LongSimdChunkFilter.java";
+    private static final String LONG_SIMD_FILTERS = SIMD_CHUNK_FILTER_PATH + "LongSimdFilters.java";
+    private static final String FLOAT_SIMD_FILTERS = SIMD_CHUNK_FILTER_PATH + "FloatSimdFilters.java";
+
     private static final String RANGE_FILTER_PATH =
             "engine/table/src/main/java/io/deephaven/engine/table/impl/select/";
     private static final String CHAR_RANGE_FILTER = RANGE_FILTER_PATH + "CharRangeFilter.java";
@@ -61,5 +67,23 @@ public class ReplicateChunkFilters {
         charToIntegers(TASK, CHAR_RANGE_FILTER);
         charToLong(TASK, CHAR_RANGE_FILTER);
         floatToAllFloatingPoints(TASK, FLOAT_RANGE_FILTER);
+
+        // *SimdChunkFilter.java and *SimdFilters.java; the Vector API has no char vectors
+        longToSimdTypes(LONG_SIMD_CHUNK_FILTER, "Byte", "Short", "Int", "Float", "Double");
+        longToSimdTypes(LONG_SIMD_FILTERS, "Byte", "Short", "Int");
+        floatToAllFloatingPoints(TASK, FLOAT_SIMD_FILTERS);
+    }
+
+    private static void longToSimdTypes(final String sourcePath, final String... types) throws IOException {
+        for (final String type : types) {
+            final String boxedType = type.equals("Int") ? "Integer" : type;
+            // Row keys are always longs, as are the lane bits of a vector mask
+            replaceAll(TASK, sourcePath, null,
+                    new String[] {"LongChunk<OrderedRowKeys>", "mask.toLong"},
+                    new String[] {"<Long>", "<" + boxedType + ">"},
+                    new String[] {"Long", type},
+                    new String[] {"long", type.toLowerCase()},
+                    new String[] {"LONG", type.toUpperCase()});
+        }
     }
 }
@@ -17,10 +17,14 @@ import static io.deephaven.replication.ReplicatePrimitiveCode.*;
 
 public class ReplicateOperators {
     private static final String TASK = "replicateOperators";
+    private static final String SIMD_MIN_MAX_PATH =
+            "engine/simd/src/main/java/io/deephaven/engine/table/impl/by/simd/";
 
     public static void main(String[] args) throws IOException {
         charToAllButBooleanAndFloats(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/by/SumCharChunk.java");
+        fixupSimdSum("Int");
+        fixupSimdSum("Long");
         charToAllButBooleanAndFloats(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/by/CharChunkedSumOperator.java");
         charToAllButBooleanAndFloats(TASK,
@@ -44,6 +48,7 @@ public class ReplicateOperators {
         charToAllButBoolean(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/util/cast/CharToBigDecimalCast.java");
         replicateObjectAddOnlyMinMax();
+        fixupIntAddOnlyMinMax();
         fixupFloatAddOnlyMinMax();
         fixupDoubleAddOnlyMinMax();
         fixupLongAddOnlyMinMax();
@@ -55,6 +60,12 @@ public class ReplicateOperators {
         charToAllButBoolean(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/by/alternatingcolumnsource/CharAlternatingColumnSourceUnorderedMergeKernel.java");
         replicateObjectUnorderedMergeKernel();
+        replaceAll(TASK, SIMD_MIN_MAX_PATH + "LongSimdMinMax.java", null, new String[0],
+                new String[] {"<Long>", "<Integer>"},
+                new String[] {"Long", "Int"},
+                new String[] {"long", "int"},
+                new String[] {"LONG", "INT"});
+        floatToAllFloatingPoints(TASK, SIMD_MIN_MAX_PATH + "FloatSimdMinMax.java");
     }
 
     private static void replicateObjectAddOnlyMinMax() throws IOException {
@@ -72,6 +83,47 @@ public class ReplicateOperators {
         FileUtils.writeLines(objectAddOnlyMinMaxFile, lines);
     }
 
+    private static void fixupSimdSum(final String type) throws IOException {
+        final File sumChunkFile =
+                new File("engine/table/src/main/java/io/deephaven/engine/table/impl/by/Sum" + type + "Chunk.java");
+        List<String> lines = FileUtils.readLines(sumChunkFile, Charset.defaultCharset());
+        lines = ReplicationUtils.replaceRegion(lines, "simd sum", simdKernelCall("kernel",
+                "chunkSize", "sum" + type + "Chunk(values, chunkStart, chunkSize, nonNullCount)"));
+        FileUtils.writeLines(sumChunkFile, lines);
+    }
+
+    private static void fixupIntAddOnlyMinMax() throws IOException {
+        final File intAddOnlyMinMaxFile =
+                new File(
+                        "engine/table/src/main/java/io/deephaven/engine/table/impl/by/IntChunkedAddOnlyMinMaxOperator.java");
+        List<String> lines = FileUtils.readLines(intAddOnlyMinMaxFile, Charset.defaultCharset());
+        lines = addSimdMinMax(lines, "Int");
+        FileUtils.writeLines(intAddOnlyMinMaxFile, lines);
+    }
+
+    private static List<String> addSimdMinMax(List<String> lines, final String type) {
+        // floating point minimums and maximums of zero may have either sign
+        final String kernel = type.equals("Float") || type.equals("Double") ? "inexactKernel" : "kernel";
+        for (final String function : new String[] {"min", "max"}) {
+            lines = ReplicationUtils.replaceRegion(lines, "simd " + function, simdKernelCall(kernel,
+                    "chunkEnd - chunkStart", function + type + "Chunk(values, chunkNonNull, chunkStart, chunkEnd)"));
+        }
+        return lines;
+    }
+
+    private static List<String> simdKernelCall(final String kernel, final String runLength, final String call) {
+        final String declaration = "        final SimdAggregationKernels.SimdAggregationKernel simd =";
+        final String lookup = "SimdAggregationKernels." + kernel + "(" + runLength + ");";
+        return Collections.singletonList("" +
+                (declaration.length() + 1 + lookup.length() <= 120
+                        ? declaration + " " + lookup
+                        : declaration + "\n                " + lookup)
+                + "\n" +
+                "        if (simd != null) {\n" +
+                "            return simd." + call + ";\n" +
+                "        }");
+    }
+
     private static final String resultInitReplacementForLong = "" +
             "        if (type == Instant.class) {\n" +
             "            actualResult = new InstantArraySource();\n" +
@@ -106,6 +158,7 @@ public class ReplicateOperators {
                 "        } else {\n" +
                 "            result = minimum ? min(chunkValue, oldValue) : max(chunkValue, oldValue);\n" +
                 "        }"));
+        lines = addSimdMinMax(lines, "Float");
         FileUtils.writeLines(floatAddOnlyMinMaxFile, lines);
     }
 
@@ -135,6 +188,7 @@ public class ReplicateOperators {
                 "        } else {\n" +
                 "            result = minimum ? min(chunkValue, oldValue) : max(chunkValue, oldValue);\n" +
                 "        }"));
+        lines = addSimdMinMax(lines, "Double");
         FileUtils.writeLines(floatAddOnlyMinMaxFile, lines);
     }
 
@@ -156,6 +210,7 @@ public class ReplicateOperators {
                 Collections.singletonList(resultInitReplacementForLong));
         lines = ReplicationUtils.replaceRegion(lines, "getResultColumns", Collections.singletonList(
                 "        return Collections.<String, ColumnSource<?>>singletonMap(name, actualResult);"));
+        lines = addSimdMinMax(lines, "Long");
         FileUtils.writeLines(longAddOnlyMinMaxFile, lines);
     }
 
@@ -49,6 +49,13 @@ public class ReplicateSourceAndChunkTests {
                 "engine/table/src/test/java/io/deephaven/engine/table/impl/sources/TestCharacterImmutableArraySource.java");
         charToAllButBoolean(TASK,
                 "engine/table/src/test/java/io/deephaven/engine/table/impl/sources/TestCharacterImmutable2DArraySource.java");
+        charToAllButBoolean(TASK,
+                "engine/table/src/test/java/io/deephaven/engine/table/impl/sources/TestCharacterOffHeapArraySource.java");
+        charToInteger(TASK,
+                "engine/table/src/test/java/io/deephaven/engine/table/impl/sources/TestCharacterTieredArraySource.java",
+                Collections.emptyMap());
+        charToLong(TASK,
+                "engine/table/src/test/java/io/deephaven/engine/table/impl/sources/TestCharacterTieredArraySource.java");
 
         charToAllButBoolean(TASK, "engine/chunk/src/test/java/io/deephaven/chunk/TestCharChunk.java");
         fixupChunkTest(charToObject(TASK, "engine/chunk/src/test/java/io/deephaven/chunk/TestCharChunk.java"));
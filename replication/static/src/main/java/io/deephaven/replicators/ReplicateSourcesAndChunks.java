@@ -50,6 +50,14 @@ public class ReplicateSourcesAndChunks {
         charToAllButBoolean(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/sources/UngroupedBoxedCharArrayColumnSource.java");
 
+        charToAllButBoolean(TASK,
+                "engine/table/src/main/java/io/deephaven/engine/table/impl/sources/offheap/OffHeapCharacterArraySource.java");
+        charToInteger(TASK,
+                "engine/table/src/main/java/io/deephaven/engine/table/impl/sources/offheap/TieredCharacterArraySource.java",
+                Collections.emptyMap());
+        charToLong(TASK,
+                "engine/table/src/main/java/io/deephaven/engine/table/impl/sources/offheap/TieredCharacterArraySource.java");
+
         charToAllButBooleanAndLong(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/sources/immutable/ImmutableCharArraySource.java");
         fixupImmutableLongArraySource(charToLong(TASK,
@@ -134,6 +134,18 @@ public class ReplicateUpdateBy {
         ReplicatePrimitiveCode.floatToAllFloatingPoints(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/updateby/rollingavg/FloatRollingAvgOperator.java");
 
+        files = ReplicatePrimitiveCode.charToIntegers(TASK,
+                "engine/table/src/main/java/io/deephaven/engine/table/impl/updateby/rollingpercentile/CharRollingPercentileOperator.java",
+                exemptions);
+        for (final String f : files) {
+            if (f.contains("Int")) {
+                fixupIntegerSsm(f);
+                fixupInteger(f);
+            }
+        }
+        ReplicatePrimitiveCode.floatToAllFloatingPoints(TASK,
+                "engine/table/src/main/java/io/deephaven/engine/table/impl/updateby/rollingpercentile/FloatRollingPercentileOperator.java");
+
         files = ReplicatePrimitiveCode.charToAllButBoolean(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/updateby/rollingminmax/CharRollingMinMaxOperator.java",
                 exemptions);
@@ -393,6 +405,16 @@ public class ReplicateUpdateBy {
         FileUtils.writeLines(objectFile, lines);
     }
 
+    private static void fixupIntegerSsm(String intResult) throws IOException {
+        final File objectFile = new File(intResult);
+        List<String> lines = FileUtils.readLines(objectFile, Charset.defaultCharset());
+        lines = ReplicationUtils.globalReplacements(lines,
+                "IntegerSegmentedSortedMultiset", "IntSegmentedSortedMultiset",
+                "getMinInteger", "getMinInt",
+                "getMaxInteger", "getMaxInt");
+        FileUtils.writeLines(objectFile, lines);
+    }
+
     private static void fixupInteger(String intResult) throws IOException {
         final File objectFile = new File(intResult);
         List<String> lines = FileUtils.readLines(objectFile, Charset.defaultCharset());
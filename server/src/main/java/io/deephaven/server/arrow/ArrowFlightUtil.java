@@ -23,6 +23,7 @@ import io.deephaven.engine.table.impl.util.BarrageMessage;
 import io.deephaven.extensions.barrage.BarragePerformanceLog;
 import io.deephaven.extensions.barrage.BarrageMessageWriter;
 import io.deephaven.extensions.barrage.BarrageSubscriptionOptions;
+import io.deephaven.extensions.barrage.BodyCompressionCodec;
 import io.deephaven.extensions.barrage.table.BarrageTable;
 import io.deephaven.extensions.barrage.util.ArrowToTableConverter;
 import io.deephaven.extensions.barrage.util.BarrageProtoUtil;
@@ -32,6 +33,7 @@ import io.deephaven.extensions.barrage.util.GrpcUtil;
 import io.deephaven.internal.log.LoggerFactory;
 import io.deephaven.io.logger.Logger;
 import io.deephaven.proto.util.Exceptions;
+import io.deephaven.server.barrage.BarrageMessageProducer;
 import io.deephaven.server.session.SessionService;
 import io.deephaven.server.session.SessionState;
 import io.deephaven.server.session.TicketRouter;
@@ -52,13 +54,41 @@ import java.util.*;
 public class ArrowFlightUtil {
     private static final Logger log = LoggerFactory.getLogger(ArrowFlightUtil.class);
 
-    private static class MessageViewAdapter implements StreamObserver<BarrageMessageWriter.MessageView> {
+    private static class MessageViewAdapter implements StreamObserver<BarrageMessageWriter.MessageView>,
+            BarrageMessageProducer.FlowControlledListener {
         private final StreamObserver<InputStream> delegate;
+        private volatile Runnable onReadyHandler;
 
         private MessageViewAdapter(final StreamObserver<InputStream> delegate) {
             this.delegate = delegate;
         }
 
+        /**
+         * Forward the transport's readiness notifications to this adapter's ready handler. gRPC only permits this
+         * while the call is first being handled.
+         */
+        private void listenForReady() {
+            if (delegate instanceof ServerCallStreamObserver) {
+                ((ServerCallStreamObserver<InputStream>) delegate).setOnReadyHandler(() -> {
+                    final Runnable handler = onReadyHandler;
+                    if (handler != null) {
+                        handler.run();
+                    }
+                });
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return !(delegate instanceof ServerCallStreamObserver)
+                    || ((ServerCallStreamObserver<InputStream>) delegate).isReady();
+        }
+
+        @Override
+        public void setOnReadyHandler(final Runnable onReadyHandler) {
+            this.onReadyHandler = onReadyHandler;
+        }
+
         public void onNext(final BarrageMessageWriter.MessageView value) {
             synchronized (delegate) {
                 try {
@@ -102,6 +132,8 @@ public class ArrowFlightUtil {
 
             final BarragePerformanceLog.SnapshotMetricsHelper metrics =
                     new BarragePerformanceLog.SnapshotMetricsHelper();
+            // read on the call's context, before the snapshot is handed off to another thread
+            final BodyCompressionCodec compressionCodec = BarrageCompressionInterceptor.requestedCodec();
 
             final long queueStartTm = System.nanoTime();
             session.nonExport()
@@ -134,7 +166,8 @@ public class ArrowFlightUtil {
 
                         // shared code between `DoGet` and `BarrageSnapshotRequest`
                         BarrageUtil.createAndSendSnapshot(streamGeneratorFactory, table, null, null, false,
-                                BarrageUtil.DEFAULT_SNAPSHOT_OPTIONS, listener, metrics);
+                                BarrageUtil.DEFAULT_SNAPSHOT_OPTIONS.withCompressionCodec(compressionCodec),
+                                listener, metrics);
                     });
         }
     }
@@ -361,7 +394,7 @@ public class ArrowFlightUtil {
         private final String myPrefix;
         private final SessionState session;
 
-        private final StreamObserver<BarrageMessageWriter.MessageView> listener;
+        private final MessageViewAdapter listener;
 
         private volatile boolean isClosed = false;
 
@@ -432,6 +465,7 @@ public class ArrowFlightUtil {
             this.session.addOnCloseCallback(this);
             if (responseObserver instanceof ServerCallStreamObserver) {
                 ((ServerCallStreamObserver<InputStream>) responseObserver).setOnCancelHandler(this::onCancel);
+                listener.listenForReady();
             }
         }
 
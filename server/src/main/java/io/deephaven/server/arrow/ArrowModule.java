@@ -18,6 +18,7 @@ import io.deephaven.extensions.barrage.BarrageMessageWriterImpl;
 import io.deephaven.server.session.ActionResolver;
 import io.deephaven.server.session.TicketResolver;
 import io.grpc.BindableService;
+import io.grpc.ServerInterceptor;
 
 import javax.inject.Singleton;
 import java.util.Set;
@@ -32,6 +33,12 @@ public abstract class ArrowModule {
     @IntoSet
     abstract BindableService bindBrowserFlightServiceBinding(BrowserFlightServiceGrpcBinding service);
 
+    @Provides
+    @IntoSet
+    static ServerInterceptor provideBarrageCompressionInterceptor() {
+        return new BarrageCompressionInterceptor();
+    }
+
     @Provides
     @Singleton
     static BarrageMessageWriter.Factory bindStreamGenerator() {
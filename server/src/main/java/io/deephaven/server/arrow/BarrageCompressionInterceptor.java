@@ -0,0 +1,60 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.server.arrow;
+
+import io.deephaven.extensions.barrage.BodyCompressionCodec;
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+/**
+ * Interceptor to notice the {@value BodyCompressionCodec#REQUEST_HEADER} header of a call and provide the requested
+ * codec to the Barrage request handlers, so that each {@code DoGet} or {@code DoExchange} call negotiates its own body
+ * compression. Calls without the header, such as those from the web client, and calls that request a codec this server
+ * does not know, use {@link BodyCompressionCodec#NONE}.
+ */
+public class BarrageCompressionInterceptor implements ServerInterceptor {
+    private static final Logger log = LoggerFactory.getLogger(BarrageCompressionInterceptor.class);
+
+    private static final Metadata.Key<String> COMPRESSION_HEADER =
+            Metadata.Key.of(BodyCompressionCodec.REQUEST_HEADER, Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final Context.Key<BodyCompressionCodec> COMPRESSION_CODEC_KEY =
+            Context.key(BodyCompressionCodec.REQUEST_HEADER);
+
+    /**
+     * Get the codec requested by the current call. This must be called from the gRPC context of the call, not from work
+     * that the call has handed off to another thread.
+     *
+     * @return the requested codec, or {@link BodyCompressionCodec#NONE} if none was requested
+     */
+    public static BodyCompressionCodec requestedCodec() {
+        final BodyCompressionCodec codec = COMPRESSION_CODEC_KEY.get();
+        return codec == null ? BodyCompressionCodec.NONE : codec;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        final String requested = headers.get(COMPRESSION_HEADER);
+        if (requested == null) {
+            return next.startCall(call, headers);
+        }
+
+        BodyCompressionCodec codec;
+        try {
+            codec = BodyCompressionCodec.valueOf(requested);
+        } catch (IllegalArgumentException e) {
+            log.warn().append("Ignoring unknown barrage compression codec ").append(requested).endl();
+            codec = BodyCompressionCodec.NONE;
+        }
+        final Context ctx = Context.current().withValue(COMPRESSION_CODEC_KEY, codec);
+        return Contexts.interceptCall(ctx, call, headers, next);
+    }
+}
@@ -12,6 +12,7 @@ import io.deephaven.engine.table.impl.perf.QueryPerformanceRecorder;
 import io.deephaven.extensions.barrage.BarrageMessageWriter;
 import io.deephaven.extensions.barrage.BarragePerformanceLog;
 import io.deephaven.extensions.barrage.BarrageSnapshotOptions;
+import io.deephaven.extensions.barrage.BodyCompressionCodec;
 import io.deephaven.extensions.barrage.util.BarrageProtoUtil;
 import io.deephaven.extensions.barrage.util.GrpcUtil;
 import io.deephaven.proto.util.Exceptions;
@@ -36,6 +37,7 @@ public class BarrageSnapshotRequestHandler implements ArrowFlightUtil.DoExchange
     private final SessionState session;
     private final StreamObserver<BarrageMessageWriter.MessageView> listener;
     private final BarrageMessageWriter.Factory streamGeneratorFactory;
+    private final BodyCompressionCodec compressionCodec;
 
     public BarrageSnapshotRequestHandler(final ArrowFlightUtil.DoExchangeMarshaller marshaller,
             final TicketRouter ticketRouter,
@@ -47,6 +49,8 @@ public class BarrageSnapshotRequestHandler implements ArrowFlightUtil.DoExchange
         this.session = session;
         this.listener = listener;
         this.streamGeneratorFactory = streamGeneratorFactory;
+        // the handler is created on the call's context; the snapshot itself is sent from another thread
+        this.compressionCodec = BarrageCompressionInterceptor.requestedCodec();
     }
 
     @Override
@@ -106,7 +110,8 @@ public class BarrageSnapshotRequestHandler implements ArrowFlightUtil.DoExchange
                                     + ticketLogName + ") is has no associated exchange marshaller.");
                         }
 
-                        final BarrageSnapshotOptions options = BarrageSnapshotOptions.of(snapshotRequest);
+                        final BarrageSnapshotOptions options = BarrageSnapshotOptions.of(snapshotRequest)
+                                .withCompressionCodec(compressionCodec);
 
                         marshallerForExport.snapshot(snapshotRequest, options, export, metrics,
                                 listener, ticketLogName, streamGeneratorFactory);
@@ -12,6 +12,7 @@ import io.deephaven.engine.table.impl.perf.QueryPerformanceNugget;
 import io.deephaven.engine.table.impl.perf.QueryPerformanceRecorder;
 import io.deephaven.extensions.barrage.BarrageMessageWriter;
 import io.deephaven.extensions.barrage.BarrageSubscriptionOptions;
+import io.deephaven.extensions.barrage.BodyCompressionCodec;
 import io.deephaven.extensions.barrage.util.BarrageProtoUtil;
 import io.deephaven.extensions.barrage.util.GrpcUtil;
 import io.deephaven.proto.util.Exceptions;
@@ -36,6 +37,7 @@ public class BarrageSubscriptionRequestHandler implements ArrowFlightUtil.DoExch
     private final TicketRouter ticketRouter;
     private final SessionState session;
     private final StreamObserver<BarrageMessageWriter.MessageView> listener;
+    private final BodyCompressionCodec compressionCodec;
 
     /**
      * The object representing the subscription.
@@ -53,6 +55,8 @@ public class BarrageSubscriptionRequestHandler implements ArrowFlightUtil.DoExch
         this.ticketRouter = ticketRouter;
         this.session = session;
         this.listener = listener;
+        // the handler is created on the call's context; the subscription is created once the export resolves
+        this.compressionCodec = BarrageCompressionInterceptor.requestedCodec();
     }
 
     @Override
@@ -149,7 +153,8 @@ public class BarrageSubscriptionRequestHandler implements ArrowFlightUtil.DoExch
             return;
         }
 
-        final BarrageSubscriptionOptions options = BarrageSubscriptionOptions.of(subscriptionRequest);
+        final BarrageSubscriptionOptions options = BarrageSubscriptionOptions.of(subscriptionRequest)
+                .withCompressionCodec(compressionCodec);
 
         final ExchangeMarshaller.Subscription newSubscriptionObject =
                 marshallerForExport.subscribe(subscriptionRequest, options, export, listener);
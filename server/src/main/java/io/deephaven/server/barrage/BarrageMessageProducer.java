@@ -33,6 +33,7 @@ import io.deephaven.extensions.barrage.BarrageTypeInfo;
 import io.deephaven.extensions.barrage.chunk.BarrageCopyKernel;
 import io.deephaven.extensions.barrage.chunk.ChunkWriter;
 import io.deephaven.extensions.barrage.chunk.DefaultChunkWriterFactory;
+import io.deephaven.extensions.barrage.chunk.DictionaryChunkWriter;
 import io.deephaven.extensions.barrage.chunk.DictionaryWriterRegistry;
 import io.deephaven.extensions.barrage.chunk.DictionaryWriterRegistryImpl;
 import io.deephaven.extensions.barrage.chunk.SharedWriterDictionary;
@@ -43,11 +44,13 @@ import io.deephaven.extensions.barrage.util.BarrageMessageReader;
 import io.deephaven.internal.log.LoggerFactory;
 import io.deephaven.io.logger.Logger;
 import io.deephaven.proto.flight.util.SchemaHelper;
+import io.deephaven.proto.util.Exceptions;
 import io.deephaven.server.session.SessionService;
 import io.deephaven.server.util.Scheduler;
 import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.SafeCloseableArray;
 import io.deephaven.util.datastructures.LongSizedDataStructure;
+import io.deephaven.util.mutable.MutableLong;
 import io.deephaven.vector.Vector;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
@@ -57,9 +60,12 @@ import org.jetbrains.annotations.Nullable;
 import org.HdrHistogram.Histogram;
 
 import javax.annotation.OverridingMethodsMustInvokeSuper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.*;
 import java.util.stream.Stream;
@@ -95,6 +101,60 @@ public class BarrageMessageProducer extends LivenessArtifact
             Configuration.getInstance().getBooleanForClassWithDefault(BarrageMessageProducer.class,
                     "subscriptionGrowthEnabled", true);
 
+    /**
+     * Whether subscriptions that would receive identical payloads share a single encoding of each update. Tables with
+     * dictionary-encoded columns never share, since each subscription tracks which dictionary values it has been sent.
+     */
+    public static final boolean SHARE_SUBSCRIPTION_VIEWS =
+            Configuration.getInstance().getBooleanForClassWithDefault(BarrageMessageProducer.class,
+                    "shareSubscriptionViews", true);
+
+    /**
+     * Whether propagation adapts to the readiness of subscribers' transports. While a subscriber is still buffering
+     * earlier messages, the deltas it has not been sent are held back and later squashed into a single update for that
+     * subscriber alone.
+     */
+    public static final boolean FLOW_CONTROL_ENABLED =
+            Configuration.getInstance().getBooleanForClassWithDefault(BarrageMessageProducer.class,
+                    "flowControlEnabled", false);
+
+    /** The longest time that deltas are held back while waiting for a subscriber's transport to become ready. */
+    public static final long MAX_COALESCE_INTERVAL_MS =
+            Configuration.getInstance().getLongForClassWithDefault(BarrageMessageProducer.class,
+                    "maxCoalesceIntervalMs", 5_000);
+
+    /** The most deltas that are held back while waiting for a subscriber's transport to become ready. */
+    public static final int MAX_COALESCED_DELTAS =
+            Configuration.getInstance().getIntegerForClassWithDefault(BarrageMessageProducer.class,
+                    "maxCoalescedDeltas", 1024);
+
+    /**
+     * The most bytes that may be outstanding for a subscriber whose transport is not ready before the subscription is
+     * failed with {@code RESOURCE_EXHAUSTED}; the client may then resubscribe for a fresh snapshot. Bytes are
+     * outstanding from when they are written while the transport is not ready until the transport next reports that it
+     * is ready. Zero or less disables the limit.
+     */
+    public static final long MAX_QUEUED_BYTES_PER_SUBSCRIPTION =
+            Configuration.getInstance().getLongForClassWithDefault(BarrageMessageProducer.class,
+                    "maxQueuedBytesPerSubscription", 256L << 20);
+
+    /**
+     * A subscription listener whose transport reports when it can accept more messages without buffering them.
+     */
+    public interface FlowControlledListener {
+        /**
+         * @return whether the transport can accept more messages without buffering them
+         */
+        boolean isReady();
+
+        /**
+         * Set the handler invoked when the transport transitions to being ready.
+         *
+         * @param onReadyHandler the handler
+         */
+        void setOnReadyHandler(Runnable onReadyHandler);
+    }
+
     private long snapshotTargetCellCount = MIN_SNAPSHOT_CELL_COUNT;
     private double snapshotNanosPerCell = 0;
 
@@ -209,6 +269,14 @@ public class BarrageMessageProducer extends LivenessArtifact
     private final org.apache.arrow.vector.types.pojo.Schema chunkWriterSchema;
     /** effective maximum batch size; Short.MAX_VALUE when any column uses Int16 REE, otherwise DEFAULT_BATCH_SIZE */
     private final int maxBatchSize;
+    /** whether equivalent subscriptions may share encoded updates; see {@link #SHARE_SUBSCRIPTION_VIEWS} */
+    private final boolean shareSubscriptionViews;
+    /** whether propagation adapts to the readiness of subscribers' transports; see {@link #FLOW_CONTROL_ENABLED} */
+    private boolean flowControlEnabled = FLOW_CONTROL_ENABLED;
+    /** see {@link #MAX_QUEUED_BYTES_PER_SUBSCRIPTION} */
+    private long maxQueuedBytesPerSubscription = MAX_QUEUED_BYTES_PER_SUBSCRIPTION;
+    /** whether updates to this table may be held back from subscriptions whose transports are not ready */
+    private final boolean canHoldBackLaggingSubscriptions;
     /** internally, booleans are reinterpretted to bytes; however we need to be packed bitsets over Arrow */
     private final Class<?>[] realColumnType;
     private final Class<?>[] realColumnComponentType;
@@ -228,6 +296,13 @@ public class BarrageMessageProducer extends LivenessArtifact
     private Throwable pendingError = null;
     private final List<Delta> pendingDeltas = new ArrayList<>();
 
+    /** subscriptions that are being held back because their transports were not ready */
+    private final List<Subscription> laggingSubscriptions = new ArrayList<>();
+    /** deltas already propagated to other subscriptions that some lagging subscription has not been sent */
+    private final List<Delta> laggingDeltas = new ArrayList<>();
+    /** the number of deltas released from the front of laggingDeltas; positions of lagging deltas start here */
+    private long laggingDeltasBase = 0;
+
     private static final class Delta implements SafeCloseable {
         private final long step;
         private final TableUpdate update;
@@ -409,6 +484,12 @@ public class BarrageMessageProducer extends LivenessArtifact
                     columnSource.getComponentType(),
                     schema.fields(ii)));
         });
+        final boolean hasDictionaryColumns =
+                Arrays.stream(chunkWriters).anyMatch(writer -> writer instanceof DictionaryChunkWriter);
+        shareSubscriptionViews = SHARE_SUBSCRIPTION_VIEWS && !hasDictionaryColumns;
+        // blink tables propagate each update's rows only once, and dictionary registries track what each subscription
+        // has been sent as it is sent; neither can be replayed to a lagging subscription later
+        canHoldBackLaggingSubscriptions = !isBlinkTable && !hasDictionaryColumns;
 
         for (int ci = 0; ci < sources.length; ++ci) {
             // avoid silly reinterpretations during ser/deser by using primitive types when possible
@@ -424,6 +505,19 @@ public class BarrageMessageProducer extends LivenessArtifact
         }
     }
 
+    /**
+     * Override {@link #FLOW_CONTROL_ENABLED} and {@link #MAX_QUEUED_BYTES_PER_SUBSCRIPTION} for this producer. Must be
+     * called before any subscriptions are added.
+     *
+     * @param enabled whether propagation adapts to the readiness of subscribers' transports
+     * @param maxQueuedBytes the most bytes that may be outstanding for a subscriber; zero or less for no limit
+     */
+    @VisibleForTesting
+    synchronized void setFlowControl(final boolean enabled, final long maxQueuedBytes) {
+        flowControlEnabled = enabled;
+        maxQueuedBytesPerSubscription = maxQueuedBytes;
+    }
+
     /**
      * Returns subscription options whose effective batch size does not exceed {@link #maxBatchSize}. When
      * {@code maxBatchSize} equals {@link BarrageMessageWriterImpl#DEFAULT_BATCH_SIZE} the original options are returned
@@ -551,6 +645,16 @@ public class BarrageMessageProducer extends LivenessArtifact
         @Nullable
         private DictionaryWriterRegistry dictionaryRegistry = null;
 
+        /** bytes written to this subscription's listener since its transport last reported that it is ready */
+        private final AtomicLong queuedBytes = new AtomicLong();
+
+        /** the propagation RowSet before the first delta this lagging subscription has not been sent */
+        private WritableRowSet laggingRowSetPrev = null;
+        /** the position of the first delta this lagging subscription has not been sent; see laggingDeltasBase */
+        private long laggingFromDelta;
+        /** when this subscription started lagging */
+        private long laggingSinceMillis;
+
         private Subscription(final StreamObserver<BarrageMessageWriter.MessageView> listener,
                 final BarrageSubscriptionOptions options,
                 final BitSet subscribedColumns,
@@ -575,6 +679,10 @@ public class BarrageMessageProducer extends LivenessArtifact
                     || (hasPendingUpdate && pendingViewport == null)
                     || (isGrowingViewport && targetViewport == null);
         }
+
+        public boolean isLagging() {
+            return laggingRowSetPrev != null;
+        }
     }
 
     /**
@@ -625,6 +733,10 @@ public class BarrageMessageProducer extends LivenessArtifact
             subscription.hasPendingUpdate = true;
             pendingSubscriptions.add(subscription);
 
+            if (flowControlEnabled && listener instanceof FlowControlledListener) {
+                ((FlowControlledListener) listener).setOnReadyHandler(() -> onSubscriberReady(subscription));
+            }
+
             // we'd like to send the initial snapshot as soon as possible
             updatePropagationJob.scheduleImmediately();
         }
@@ -1097,6 +1209,249 @@ public class BarrageMessageProducer extends LivenessArtifact
         }
     }
 
+    /**
+     * Invoked by a {@link FlowControlledListener} when its transport becomes ready. Nothing written to the subscription
+     * is outstanding any longer, and any deltas held back for it may now be sent.
+     */
+    private void onSubscriberReady(final Subscription subscription) {
+        subscription.queuedBytes.set(0);
+        synchronized (this) {
+            if (subscription.isLagging()) {
+                schedulePropagation();
+            }
+        }
+    }
+
+    private static boolean isTransportReady(final Subscription subscription) {
+        return !(subscription.listener instanceof FlowControlledListener)
+                || ((FlowControlledListener) subscription.listener).isReady();
+    }
+
+    /**
+     * Start holding back the pending deltas from each active subscription whose transport is still buffering earlier
+     * messages. The deltas are retained after they are propagated to the other subscriptions, and are later squashed
+     * into a single update for the lagging subscription; see {@link #collectLaggingCatchUps}.
+     */
+    private void startLaggingSubscriptions() {
+        Assert.assertion(Thread.holdsLock(this), "startLaggingSubscriptions must hold lock!");
+        if (!flowControlEnabled || !canHoldBackLaggingSubscriptions || pendingDeltas.isEmpty()) {
+            return;
+        }
+
+        final long now = scheduler.currentTimeMillis();
+        boolean started = false;
+        for (final Subscription subscription : activeSubscriptions) {
+            if (subscription.isLagging() || subscription.pendingInitialSnapshot || subscription.pendingDelete
+                    || subscription.hasPendingUpdate || subscription.isGrowingViewport
+                    || isTransportReady(subscription)) {
+                continue;
+            }
+            subscription.laggingRowSetPrev = propagationRowSet.copy();
+            subscription.laggingFromDelta = laggingDeltasBase + laggingDeltas.size();
+            subscription.laggingSinceMillis = now;
+            laggingSubscriptions.add(subscription);
+            started = true;
+
+            if (log.isDebugEnabled()) {
+                log.debug().append(logPrefix).append(subscription.logPrefix)
+                        .append("holding back deltas; transport is not ready.").endl();
+            }
+        }
+
+        if (started) {
+            // make sure the held back deltas are sent even if the transport never becomes ready
+            updatePropagationJob.scheduleAt(now + MAX_COALESCE_INTERVAL_MS);
+        }
+    }
+
+    /**
+     * A single update squashing the deltas held back from a lagging subscription, and the view of the subscription it
+     * is to be sent with.
+     */
+    private static final class LaggingCatchUp implements SafeCloseable {
+        private final Subscription subscription;
+        private final BarrageMessage message;
+        private final RowSet rowSetPrev;
+        private final RowSet rowSet;
+        private final BarrageSubscriptionOptions options;
+        private final boolean isFullSubscription;
+        private final RowSet viewport;
+        private final boolean reverseViewport;
+        private final BitSet columns;
+
+        private LaggingCatchUp(
+                final Subscription subscription,
+                final BarrageMessage message,
+                final RowSet rowSetPrev,
+                final RowSet rowSet,
+                final BarrageSubscriptionOptions options) {
+            this.subscription = subscription;
+            this.message = message;
+            this.rowSetPrev = rowSetPrev;
+            this.rowSet = rowSet;
+            this.options = options;
+            this.isFullSubscription = subscription.isFullSubscription();
+            this.viewport = subscription.viewport == null ? null : subscription.viewport.copy();
+            this.reverseViewport = subscription.reverseViewport;
+            this.columns = (BitSet) subscription.subscribedColumns.clone();
+        }
+
+        @Override
+        public void close() {
+            SafeCloseable.closeAll(rowSetPrev, rowSet, viewport);
+        }
+    }
+
+    /**
+     * Squash the deltas held back from each lagging subscription that should now catch up: its transport is ready, it
+     * has been held back for {@link #MAX_COALESCE_INTERVAL_MS} or for {@link #MAX_COALESCED_DELTAS} deltas, or
+     * {@code force} is set. Subscriptions are forced to catch up before any subscription changes, snapshots or errors
+     * are processed, so that held back deltas never span a change to the recorded columns or viewports.
+     *
+     * @param force whether every lagging subscription must catch up
+     * @return the updates to send with {@link #sendLaggingCatchUps}, or null if there are none
+     */
+    @Nullable
+    private List<LaggingCatchUp> collectLaggingCatchUps(final boolean force) {
+        Assert.assertion(Thread.holdsLock(this), "collectLaggingCatchUps must hold lock!");
+        if (laggingSubscriptions.isEmpty()) {
+            return null;
+        }
+
+        final long now = scheduler.currentTimeMillis();
+        List<LaggingCatchUp> catchUps = null;
+        for (final Iterator<Subscription> it = laggingSubscriptions.iterator(); it.hasNext();) {
+            final Subscription subscription = it.next();
+            final int startDelta = LongSizedDataStructure.intSize("laggingFromDelta",
+                    subscription.laggingFromDelta - laggingDeltasBase);
+            final int numDeltas = laggingDeltas.size() - startDelta;
+
+            if (!subscription.pendingDelete && !force && !isTransportReady(subscription)
+                    && now - subscription.laggingSinceMillis < MAX_COALESCE_INTERVAL_MS
+                    && numDeltas < MAX_COALESCED_DELTAS) {
+                continue;
+            }
+            it.remove();
+
+            final WritableRowSet rowSetPrev = subscription.laggingRowSetPrev;
+            subscription.laggingRowSetPrev = null;
+            if (subscription.pendingDelete || numDeltas == 0) {
+                rowSetPrev.close();
+                continue;
+            }
+
+            final long startTm = System.nanoTime();
+            final WritableRowSet rowSet = rowSetPrev.copy();
+            final BarrageMessage message =
+                    aggregateUpdatesInRange(laggingDeltas, startDelta, laggingDeltas.size(), rowSet, false);
+            recordMetric(stats -> stats.aggregate, System.nanoTime() - startTm);
+            // the histogram is reported in millionths, as are the other stats
+            recordMetric(stats -> stats.coalescedDeltas, numDeltas * 1_000_000L);
+
+            if (catchUps == null) {
+                catchUps = new ArrayList<>();
+            }
+            catchUps.add(new LaggingCatchUp(subscription, message, rowSetPrev, rowSet,
+                    effectiveOptions(subscription.options)));
+        }
+
+        releaseLaggingDeltas();
+        return catchUps;
+    }
+
+    /**
+     * Release the lagging deltas that every lagging subscription has been sent.
+     */
+    private void releaseLaggingDeltas() {
+        Assert.assertion(Thread.holdsLock(this), "releaseLaggingDeltas must hold lock!");
+        long firstNeeded = laggingDeltasBase + laggingDeltas.size();
+        for (final Subscription subscription : laggingSubscriptions) {
+            firstNeeded = Math.min(firstNeeded, subscription.laggingFromDelta);
+        }
+
+        final int numToRelease = (int) (firstNeeded - laggingDeltasBase);
+        if (numToRelease == 0) {
+            return;
+        }
+        final List<Delta> released = laggingDeltas.subList(0, numToRelease);
+        released.forEach(Delta::close);
+        released.clear();
+        laggingDeltasBase = firstNeeded;
+    }
+
+    /**
+     * Stop holding back deltas for every lagging subscription, and release the deltas.
+     */
+    private void clearLaggingSubscriptions() {
+        Assert.assertion(Thread.holdsLock(this), "clearLaggingSubscriptions must hold lock!");
+        for (final Subscription subscription : laggingSubscriptions) {
+            subscription.laggingRowSetPrev.close();
+            subscription.laggingRowSetPrev = null;
+        }
+        laggingSubscriptions.clear();
+        laggingDeltas.forEach(Delta::close);
+        laggingDeltas.clear();
+    }
+
+    /**
+     * Send each lagging subscription the update that squashes the deltas held back from it. This must happen before
+     * anything else is sent to these subscriptions.
+     */
+    private void sendLaggingCatchUps(@Nullable final List<LaggingCatchUp> catchUps) {
+        if (catchUps == null) {
+            return;
+        }
+        for (final LaggingCatchUp catchUp : catchUps) {
+            final long startTm = System.nanoTime();
+            // the message is released via transfer to the stream generator
+            try (final LaggingCatchUp ignored = catchUp;
+                    final BarrageMessageWriter bmw = streamGeneratorFactory.newMessageWriter(
+                            catchUp.message, chunkWriters, this::recordWriteMetrics);
+                    final RowSet clientViewPrev = catchUp.viewport != null
+                            ? catchUp.rowSetPrev.subSetForPositions(catchUp.viewport, catchUp.reverseViewport)
+                            : null;
+                    final RowSet clientView = catchUp.viewport != null
+                            ? catchUp.rowSet.subSetForPositions(catchUp.viewport, catchUp.reverseViewport)
+                            : null) {
+                sendToSubscription(catchUp.subscription, bmw.getSubView(catchUp.options, false,
+                        catchUp.isFullSubscription, catchUp.viewport, catchUp.reverseViewport, clientViewPrev,
+                        clientView, catchUp.columns, catchUp.subscription.dictionaryRegistry));
+            } catch (final Exception e) {
+                failSubscription(catchUp.subscription, e);
+            }
+            recordMetric(stats -> stats.propagate, System.nanoTime() - startTm);
+        }
+    }
+
+    /**
+     * Send a message to a subscription. When the subscription's transport is not ready, the message will be buffered;
+     * we account for the bytes outstanding until the transport next reports that it is ready, and fail the
+     * subscription once they exceed {@link #MAX_QUEUED_BYTES_PER_SUBSCRIPTION}.
+     */
+    private void sendToSubscription(final Subscription subscription, final BarrageMessageWriter.MessageView view) {
+        if (!flowControlEnabled || isTransportReady(subscription)) {
+            subscription.listener.onNext(view);
+            return;
+        }
+
+        final MutableLong bytesWritten = new MutableLong();
+        subscription.listener.onNext(visitor -> view.forEachStream(stream -> {
+            try {
+                bytesWritten.add(stream.available());
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            visitor.accept(stream);
+        }));
+        final long queuedBytes = subscription.queuedBytes.addAndGet(bytesWritten.get());
+        recordMetric(stats -> stats.queuedBytes, queuedBytes);
+
+        if (maxQueuedBytesPerSubscription > 0 && queuedBytes > maxQueuedBytesPerSubscription) {
+            throw Exceptions.statusRuntimeException(Code.RESOURCE_EXHAUSTED, "Subscriber has "
+                    + queuedBytes + " bytes outstanding without reading them; resubscribe to resume");
+        }
+    }
+
     ///////////////////////////////////////////
     // Propagation and Serialization Methods //
     ///////////////////////////////////////////
@@ -1129,6 +1484,7 @@ public class BarrageMessageProducer extends LivenessArtifact
 
                         activeSubscriptions.clear();
                         pendingSubscriptions.clear();
+                        clearLaggingSubscriptions();
                     }
                 } finally {
                     runLock.unlock();
@@ -1202,9 +1558,14 @@ public class BarrageMessageProducer extends LivenessArtifact
         boolean pendingChanges = false;
 
         List<Subscription> deletedSubscriptions = null;
+        final List<LaggingCatchUp> laggingCatchUps;
 
         // check for pending changes (under the lock)
         synchronized (this) {
+            // lagging subscriptions catch up before anything that changes what is recorded for them
+            laggingCatchUps = collectLaggingCatchUps(
+                    !pendingSubscriptions.isEmpty() || numGrowingSubscriptions > 0 || pendingError != null);
+
             List<Subscription> updatedSubscriptions = null;
 
             if (!pendingSubscriptions.isEmpty()) {
@@ -1303,6 +1664,8 @@ public class BarrageMessageProducer extends LivenessArtifact
             }
         }
 
+        sendLaggingCatchUps(laggingCatchUps);
+
         BarrageMessage preSnapshot = null;
         BarrageMessage blinkTableFlushPreSnapshot = null;
         RowSet preSnapRowSetPrev = null;
@@ -1491,6 +1854,15 @@ public class BarrageMessageProducer extends LivenessArtifact
             if (growingSubscriptions.isEmpty() && pendingDeltas.isEmpty() && pendingError == null) {
                 return;
             }
+            if (snapshot == null && growingSubscriptions.isEmpty() && deletedSubscriptions == null
+                    && pendingError == null) {
+                startLaggingSubscriptions();
+            }
+            if (!pendingDeltas.isEmpty()) {
+                // the histogram is reported in millionths, as are the other stats
+                final long numDeltas = pendingDeltas.size();
+                recordMetric(stats -> stats.coalescedDeltas, numDeltas * 1_000_000L);
+            }
 
             // prepare updates to propagate
             final long maxStep = snapshot != null ? snapshot.firstSeq : Long.MAX_VALUE;
@@ -1540,9 +1912,14 @@ public class BarrageMessageProducer extends LivenessArtifact
                 recordMetric(stats -> stats.aggregate, System.nanoTime() - startTm);
             }
 
-            // cleanup for next iteration, Delta.close() releases any un-transferred chunks
-            for (final Delta delta : pendingDeltas) {
-                delta.close();
+            // cleanup for next iteration, Delta.close() releases any un-transferred chunks; lagging subscriptions
+            // still need these deltas
+            if (laggingSubscriptions.isEmpty()) {
+                for (final Delta delta : pendingDeltas) {
+                    delta.close();
+                }
+            } else {
+                laggingDeltas.addAll(pendingDeltas);
             }
             blinkTableUpdateSize = 0;
             pendingDeltas.clear();
@@ -1642,8 +2019,12 @@ public class BarrageMessageProducer extends LivenessArtifact
         // message is released via transfer to stream generator (as it must live until all views are closed)
         try (final BarrageMessageWriter bmw = streamGeneratorFactory.newMessageWriter(
                 message, chunkWriters, this::recordWriteMetrics)) {
+            if (shareSubscriptionViews) {
+                propagateToSubscriptionGroups(bmw, propRowSetForMessagePrev, propRowSetForMessage);
+                return;
+            }
             for (final Subscription subscription : activeSubscriptions) {
-                if (subscription.pendingInitialSnapshot || subscription.pendingDelete) {
+                if (subscription.pendingInitialSnapshot || subscription.pendingDelete || subscription.isLagging()) {
                     continue;
                 }
 
@@ -1672,21 +2053,152 @@ public class BarrageMessageProducer extends LivenessArtifact
                         final long viewportRowCount = clientView != null ? clientView.size() : 0;
                         subscription.dictionaryRegistry.resetOverflowedEntries(viewportRowCount);
                     }
-                    subscription.listener.onNext(bmw.getSubView(
+                    sendToSubscription(subscription, bmw.getSubView(
                             effectiveOptions(subscription.options), false, subscription.isFullSubscription(), vp,
                             subscription.reverseViewport, clientViewPrev, clientView, cols,
                             subscription.dictionaryRegistry));
                 } catch (final Exception e) {
-                    try {
-                        subscription.listener.onError(errorTransformer.transform(e));
-                    } catch (final Exception ignored) {
-                    }
-                    removeSubscription(subscription.listener);
+                    failSubscription(subscription, e);
                 }
             }
         }
     }
 
+    /**
+     * Propagate an update to the active subscriptions, grouped by the payload they would receive. Subscriptions that
+     * agree on their options, viewport, columns and direction are sent the same message, so we encode it once per group
+     * and only the subscribers' write queues are separate.
+     */
+    private void propagateToSubscriptionGroups(
+            final BarrageMessageWriter bmw,
+            final RowSet propRowSetForMessagePrev,
+            final RowSet propRowSetForMessage) {
+        final Map<SubscriptionViewKey, List<Subscription>> groups = new LinkedHashMap<>();
+        for (final Subscription subscription : activeSubscriptions) {
+            if (subscription.pendingInitialSnapshot || subscription.pendingDelete || subscription.isLagging()) {
+                continue;
+            }
+
+            // see propagateToSubscribers for the meaning of the pre-snapshot phase
+            final boolean isPreSnapshot = subscription.snapshotViewport != null;
+            final SubscriptionViewKey key = new SubscriptionViewKey(
+                    effectiveOptions(subscription.options),
+                    subscription.isFullSubscription(),
+                    isPreSnapshot ? subscription.snapshotViewport : subscription.viewport,
+                    isPreSnapshot ? subscription.snapshotReverseViewport : subscription.reverseViewport,
+                    subscription.reverseViewport,
+                    isPreSnapshot ? subscription.snapshotColumns : subscription.subscribedColumns);
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(subscription);
+        }
+
+        for (final Map.Entry<SubscriptionViewKey, List<Subscription>> group : groups.entrySet()) {
+            final SubscriptionViewKey key = group.getKey();
+            final List<Subscription> subscriptions = group.getValue();
+
+            final BarrageMessageWriter.MessageView view;
+            try (final RowSet clientViewPrev = key.viewport != null
+                    ? propRowSetForMessagePrev.subSetForPositions(key.viewport, key.isReversed)
+                    : null;
+                    final RowSet clientView = key.viewport != null
+                            ? propRowSetForMessage.subSetForPositions(key.viewport, key.isReversed)
+                            : null) {
+                final BarrageMessageWriter.MessageView subView = bmw.getSubView(
+                        key.options, false, key.isFullSubscription, key.viewport, key.reverseViewport,
+                        clientViewPrev, clientView, key.columns, subscriptions.get(0).dictionaryRegistry);
+                view = subscriptions.size() == 1 ? subView : new SharedMessageView(subView, subscriptions.size());
+            } catch (final Exception e) {
+                subscriptions.forEach(subscription -> failSubscription(subscription, e));
+                continue;
+            }
+
+            for (final Subscription subscription : subscriptions) {
+                try {
+                    sendToSubscription(subscription, view);
+                } catch (final Exception e) {
+                    failSubscription(subscription, e);
+                }
+            }
+        }
+    }
+
+    private void failSubscription(final Subscription subscription, final Exception e) {
+        try {
+            subscription.listener.onError(errorTransformer.transform(e));
+        } catch (final Exception ignored) {
+        }
+        removeSubscription(subscription.listener);
+    }
+
+    /**
+     * The parts of a subscription that determine the message it is sent for an update. Viewports are compared by
+     * content, as equal viewports requested by different clients are distinct row sets.
+     */
+    private static final class SubscriptionViewKey {
+        private final BarrageSubscriptionOptions options;
+        private final boolean isFullSubscription;
+        @Nullable
+        private final RowSet viewport;
+        private final boolean isReversed;
+        private final boolean reverseViewport;
+        private final BitSet columns;
+        private final int hashCode;
+
+        private SubscriptionViewKey(
+                final BarrageSubscriptionOptions options,
+                final boolean isFullSubscription,
+                @Nullable final RowSet viewport,
+                final boolean isReversed,
+                final boolean reverseViewport,
+                final BitSet columns) {
+            this.options = options;
+            this.isFullSubscription = isFullSubscription;
+            this.viewport = viewport;
+            this.isReversed = isReversed;
+            this.reverseViewport = reverseViewport;
+            this.columns = columns;
+
+            int hash = Objects.hash(options, isFullSubscription, isReversed, reverseViewport, columns);
+            if (viewport != null) {
+                hash = 31 * hash + Long.hashCode(viewport.size());
+                if (viewport.isNonempty()) {
+                    hash = 31 * hash + Long.hashCode(viewport.firstRowKey());
+                    hash = 31 * hash + Long.hashCode(viewport.lastRowKey());
+                }
+            }
+            hashCode = hash;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof SubscriptionViewKey)) {
+                return false;
+            }
+            final SubscriptionViewKey that = (SubscriptionViewKey) other;
+            return hashCode == that.hashCode
+                    && isFullSubscription == that.isFullSubscription
+                    && isReversed == that.isReversed
+                    && reverseViewport == that.reverseViewport
+                    && options.equals(that.options)
+                    && Objects.equals(columns, that.columns)
+                    && viewportEquals(viewport, that.viewport);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        private static boolean viewportEquals(@Nullable final RowSet a, @Nullable final RowSet b) {
+            if (a == null || b == null) {
+                return a == b;
+            }
+            return a == b || (a.size() == b.size() && a.subsetOf(b));
+        }
+    }
+
     private void propagateSnapshotForSubscription(final Subscription subscription,
             final BarrageMessageWriter snapshotGenerator) {
         boolean needsSnapshot = subscription.pendingInitialSnapshot;
@@ -1765,12 +2277,33 @@ public class BarrageMessageProducer extends LivenessArtifact
     }
 
     private BarrageMessage aggregateUpdatesInRange(final int startDelta, final int endDelta) {
+        // chunks may only be transferred to the message when no lagging subscription will need these deltas later
+        return aggregateUpdatesInRange(pendingDeltas, startDelta, endDelta, propagationRowSet,
+                laggingSubscriptions.isEmpty());
+    }
+
+    /**
+     * Squash a range of deltas into a single message.
+     *
+     * @param deltas the deltas to aggregate from
+     * @param startDelta the first delta to aggregate
+     * @param endDelta one past the last delta to aggregate
+     * @param rowSet the RowSet before the first delta; advanced past the last delta
+     * @param transferChunks whether the deltas' chunks may be transferred to the message rather than copied
+     * @return the aggregated message
+     */
+    private BarrageMessage aggregateUpdatesInRange(
+            final List<Delta> deltas,
+            final int startDelta,
+            final int endDelta,
+            final WritableRowSet rowSet,
+            final boolean transferChunks) {
         Assert.assertion(Thread.holdsLock(this), "propagateUpdatesInRange must hold lock!");
 
         final boolean singleDelta = endDelta - startDelta == 1;
         final BarrageMessage downstream = new BarrageMessage();
-        downstream.firstSeq = startDelta < 0 ? -1 : pendingDeltas.get(startDelta).step;
-        downstream.lastSeq = endDelta < 1 ? -1 : pendingDeltas.get(endDelta - 1).step;
+        downstream.firstSeq = startDelta < 0 ? -1 : deltas.get(startDelta).step;
+        downstream.lastSeq = endDelta < 1 ? -1 : deltas.get(endDelta - 1).step;
 
         final BitSet addColumnSet;
         final BitSet modColumnSet;
@@ -1780,7 +2313,7 @@ public class BarrageMessageProducer extends LivenessArtifact
             long size = 0;
             final RowSetBuilderSequential recordedBuilder = RowSetFactory.builderSequential();
             for (int ii = startDelta; ii < endDelta; ++ii) {
-                final Delta delta = pendingDeltas.get(ii);
+                final Delta delta = deltas.get(ii);
 
                 try (final WritableRowSet positions = delta.update.added().invert(delta.recordedAdds)) {
                     positions.shiftInPlace(size);
@@ -1798,7 +2331,7 @@ public class BarrageMessageProducer extends LivenessArtifact
                     ModifiedColumnSet.EMPTY);
 
             final boolean hasDelta = startDelta < endDelta;
-            final Delta origDelta = hasDelta ? pendingDeltas.get(startDelta) : null;
+            final Delta origDelta = hasDelta ? deltas.get(startDelta) : null;
 
             // Gather addChunks from all underlying deltas into a single array per column.
             // Each delta's addChunks contain exactly its recordedAdds rows in order, so concatenation
@@ -1811,7 +2344,7 @@ public class BarrageMessageProducer extends LivenessArtifact
                 for (int ci = subscribedCols.nextSetBit(0); ci >= 0; ci = subscribedCols.nextSetBit(ci + 1)) {
                     int totalChunks = 0;
                     for (int ii = startDelta; ii < endDelta; ++ii) {
-                        final WritableChunk<Values>[] dc = pendingDeltas.get(ii).addChunks[ci];
+                        final WritableChunk<Values>[] dc = deltas.get(ii).addChunks[ci];
                         if (dc != null) {
                             totalChunks += dc.length;
                         }
@@ -1821,7 +2354,7 @@ public class BarrageMessageProducer extends LivenessArtifact
                         blinkAddChunks[ci] = new WritableChunk[totalChunks];
                         int idx = 0;
                         for (int ii = startDelta; ii < endDelta; ++ii) {
-                            final WritableChunk<Values>[] chunks = pendingDeltas.get(ii).extractAddChunks(ci);
+                            final WritableChunk<Values>[] chunks = deltas.get(ii).extractAddChunks(ci);
                             if (chunks != null) {
                                 System.arraycopy(chunks, 0, blinkAddChunks[ci], idx, chunks.length);
                                 idx += chunks.length;
@@ -1845,10 +2378,10 @@ public class BarrageMessageProducer extends LivenessArtifact
             // store our update size to remove on the next update
             lastBlinkTableUpdateSize = size;
         } else {
-            firstDelta = pendingDeltas.get(startDelta);
+            firstDelta = deltas.get(startDelta);
         }
 
-        if (singleDelta || isBlinkTable) {
+        if ((singleDelta && transferChunks) || isBlinkTable) {
             // Zero-copy fast path: transfer chunk ownership directly from the delta to the BarrageMessage.
             // For singleDelta, firstDelta IS the real delta in pendingDeltas (closed in cleanup).
             // For isBlinkTable, firstDelta is a synthetic local delta (closed explicitly below).
@@ -1911,9 +2444,9 @@ public class BarrageMessageProducer extends LivenessArtifact
         } else {
             // We must coalesce these updates.
             final UpdateCoalescer coalescer =
-                    new UpdateCoalescer(propagationRowSet, firstDelta.update);
+                    new UpdateCoalescer(rowSet, firstDelta.update);
             for (int i = startDelta + 1; i < endDelta; ++i) {
-                coalescer.update(pendingDeltas.get(i).update);
+                coalescer.update(deltas.get(i).update);
             }
 
             // We need to build our included additions and included modifications in addition to the coalesced update.
@@ -1922,7 +2455,7 @@ public class BarrageMessageProducer extends LivenessArtifact
 
             final WritableRowSet localAdded = RowSetFactory.empty();
             for (int i = startDelta; i < endDelta; ++i) {
-                final Delta delta = pendingDeltas.get(i);
+                final Delta delta = deltas.get(i);
                 localAdded.remove(delta.update.removed());
                 delta.update.shifted().apply(localAdded);
 
@@ -1965,7 +2498,7 @@ public class BarrageMessageProducer extends LivenessArtifact
             final IntFunction<ColumnInfo> getColumnInfo = (columnIndex) -> {
                 final BitSet deltasThatModifyThisColumn = new BitSet();
                 for (int i = startDelta; i < endDelta; ++i) {
-                    if (pendingDeltas.get(i).modifiedColumns.get(columnIndex)) {
+                    if (deltas.get(i).modifiedColumns.get(columnIndex)) {
                         deltasThatModifyThisColumn.set(i);
                     }
                 }
@@ -1977,7 +2510,7 @@ public class BarrageMessageProducer extends LivenessArtifact
 
                 final ColumnInfo retval = new ColumnInfo();
                 for (int i = startDelta; i < endDelta; ++i) {
-                    final Delta delta = pendingDeltas.get(i);
+                    final Delta delta = deltas.get(i);
                     retval.modified.remove(delta.update.removed());
                     retval.recordedMods.remove(delta.update.removed());
                     delta.update.shifted().apply(retval.modified);
@@ -2006,7 +2539,7 @@ public class BarrageMessageProducer extends LivenessArtifact
                         break;
                     }
 
-                    final Delta delta = pendingDeltas.get(i);
+                    final Delta delta = deltas.get(i);
 
                     // Encode (fromMods, deltaIndex) into the high bits of sourceRows values so that
                     // applyRedirMapping stores them verbatim in the mapping arrays.
@@ -2075,13 +2608,13 @@ public class BarrageMessageProducer extends LivenessArtifact
             // Helper to create the copy kernel contexts for a given column index.
             final BiFunction<BarrageCopyKernel, Integer, BarrageCopyKernel.BarrageCopyKernelContext> contextCreator =
                     (copyKernel, columnIndex) -> {
-                        final int numDeltas = pendingDeltas.size();
+                        final int numDeltas = deltas.size();
                         // noinspection unchecked
                         final WritableChunk<Values>[][] colAddChunks = new WritableChunk[numDeltas][];
                         // noinspection unchecked
                         final WritableChunk<Values>[][] colModChunks = new WritableChunk[numDeltas][];
                         for (int di = 0; di < numDeltas; ++di) {
-                            final Delta d = pendingDeltas.get(di);
+                            final Delta d = deltas.get(di);
                             colAddChunks[di] = d.addChunks[columnIndex];
                             colModChunks[di] = d.modChunks[columnIndex];
                         }
@@ -2147,10 +2680,10 @@ public class BarrageMessageProducer extends LivenessArtifact
         }
 
         // Update our propagation RowSet.
-        propagationRowSet.remove(downstream.rowsRemoved);
-        downstream.shifted.apply(propagationRowSet);
-        propagationRowSet.insert(downstream.rowsAdded);
-        downstream.tableSize = propagationRowSet.size();
+        rowSet.remove(downstream.rowsRemoved);
+        downstream.shifted.apply(rowSet);
+        rowSet.insert(downstream.rowsAdded);
+        downstream.tableSize = rowSet.size();
 
         return downstream;
     }
@@ -2406,6 +2939,7 @@ public class BarrageMessageProducer extends LivenessArtifact
         }
 
         final SnapshotControl snapshotControl = new SnapshotControl(snapshotSubscriptions);
+        // the scheduler's threads run with the server's operation initializer, which parallelizes large snapshots
         final BarrageMessage msg = ConstructSnapshot.constructBackplaneSnapshotInPositionSpace(
                 this, parent, columnsToSnapshot, positionsToSnapshot, reversePositionsToSnapshot,
                 snapshotControl);
@@ -2424,6 +2958,7 @@ public class BarrageMessageProducer extends LivenessArtifact
         if (stats != null) {
             stats.stop();
         }
+        clearLaggingSubscriptions();
     }
 
     private void recordWriteMetrics(final long bytes, final long cpuNanos) {
@@ -2452,6 +2987,8 @@ public class BarrageMessageProducer extends LivenessArtifact
         public final Histogram updateJob = new Histogram(NUM_SIG_FIGS);
         public final Histogram writeTime = new Histogram(NUM_SIG_FIGS);
         public final Histogram writeBits = new Histogram(NUM_SIG_FIGS);
+        public final Histogram queuedBytes = new Histogram(NUM_SIG_FIGS);
+        public final Histogram coalescedDeltas = new Histogram(NUM_SIG_FIGS);
 
         private volatile boolean running = true;
 
@@ -2481,6 +3018,8 @@ public class BarrageMessageProducer extends LivenessArtifact
                 flush(now, logger, updateJob, "UpdateJobMillis");
                 flush(now, logger, writeTime, "WriteMillis");
                 flush(now, logger, writeBits, "WriteMegabits");
+                flush(now, logger, queuedBytes, "QueuedMegabytes");
+                flush(now, logger, coalescedDeltas, "CoalescedDeltas");
             }
         }
 
@@ -0,0 +1,105 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.server.barrage;
+
+import io.deephaven.extensions.barrage.BarrageMessageWriter;
+import io.deephaven.extensions.barrage.DrainableByteArrayInputStream;
+import io.deephaven.extensions.barrage.util.DefensiveDrainable;
+import io.deephaven.extensions.barrage.util.ExposedByteArrayOutputStream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A {@link BarrageMessageWriter.MessageView} that is handed to several subscribers which would all receive exactly the
+ * same payload. The wrapped view is encoded only once, by whichever subscriber visits first; every subscriber is then
+ * given its own {@link DrainableByteArrayInputStream streams} over the shared encoded bytes, so that only their write
+ * queues are separate.
+ * <p>
+ * The view counts the subscribers that have yet to visit it, and releases its reference to the encoded bytes after the
+ * last of them has done so. Streams that are still queued for writing keep the bytes they need reachable on their own.
+ * If encoding fails, the failure is kept and rethrown to every subscriber that visits, as the wrapped view cannot be
+ * visited again.
+ */
+class SharedMessageView implements BarrageMessageWriter.MessageView {
+
+    private BarrageMessageWriter.MessageView delegate;
+    private int remainingVisits;
+    private List<byte[]> encoded;
+    private List<Integer> encodedLengths;
+    /** the failure to encode the wrapped view, if any; an {@link IOException} or a {@link RuntimeException} */
+    private Exception encodeFailure;
+
+    /**
+     * @param delegate the view to encode; it is visited at most once
+     * @param numSubscribers the number of subscribers that will visit this view
+     */
+    SharedMessageView(final BarrageMessageWriter.MessageView delegate, final int numSubscribers) {
+        this.delegate = delegate;
+        this.remainingVisits = numSubscribers;
+    }
+
+    @Override
+    public void forEachStream(final Consumer<DefensiveDrainable> visitor) throws IOException {
+        final List<byte[]> buffers;
+        final List<Integer> lengths;
+        synchronized (this) {
+            if (remainingVisits <= 0) {
+                throw new IllegalStateException("SharedMessageView visited by more subscribers than expected");
+            }
+            if (encoded == null && encodeFailure == null) {
+                try {
+                    encode();
+                } catch (final IOException | RuntimeException e) {
+                    encodeFailure = e;
+                }
+            }
+            final Exception failure = encodeFailure;
+            buffers = encoded;
+            lengths = encodedLengths;
+            if (--remainingVisits == 0) {
+                encoded = null;
+                encodedLengths = null;
+                encodeFailure = null;
+            }
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+        }
+
+        for (int ii = 0; ii < buffers.size(); ++ii) {
+            visitor.accept(new DrainableByteArrayInputStream(buffers.get(ii), 0, lengths.get(ii)));
+        }
+    }
+
+    private void encode() throws IOException {
+        final List<byte[]> buffers = new ArrayList<>();
+        final List<Integer> lengths = new ArrayList<>();
+        try {
+            delegate.forEachStream(stream -> {
+                try (final DefensiveDrainable toDrain = stream) {
+                    final ExposedByteArrayOutputStream out = new ExposedByteArrayOutputStream(toDrain.available());
+                    toDrain.drainTo(out);
+                    buffers.add(out.peekBuffer());
+                    lengths.add(out.size());
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            // the delegate releases its resources when visited, and must not be visited again
+            delegate = null;
+        }
+        encoded = buffers;
+        encodedLengths = lengths;
+    }
+}
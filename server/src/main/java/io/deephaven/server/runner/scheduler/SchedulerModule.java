@@ -9,6 +9,7 @@ import dagger.multibindings.ElementsIntoSet;
 import io.deephaven.base.clock.Clock;
 import io.deephaven.chunk.util.pools.MultiChunkPool;
 import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.updategraph.OperationInitializer;
 import io.deephaven.engine.updategraph.UpdateGraph;
 import io.deephaven.engine.updategraph.impl.PeriodicUpdateGraph;
 import io.deephaven.server.runner.DeephavenApiServer;
@@ -53,9 +54,10 @@ public class SchedulerModule {
     public static Scheduler provideScheduler(
             final @Named(PeriodicUpdateGraph.DEFAULT_UPDATE_GRAPH_NAME) UpdateGraph updateGraph,
             final @Named("scheduler.poolSize") int poolSize,
-            final ThreadInitializationFactory initializationFactory) {
+            final ThreadInitializationFactory initializationFactory,
+            final OperationInitializer operationInitializer) {
         final ThreadFactory concurrentThreadFactory =
-                new ThreadFactory("Scheduler-Concurrent", updateGraph, initializationFactory);
+                new ThreadFactory("Scheduler-Concurrent", updateGraph, operationInitializer, initializationFactory);
         final ScheduledExecutorService concurrentExecutor =
                 new ScheduledThreadPoolExecutor(poolSize, concurrentThreadFactory) {
                     @Override
@@ -66,7 +68,7 @@ public class SchedulerModule {
                 };
 
         final ThreadFactory serialThreadFactory =
-                new ThreadFactory("Scheduler-Serial", updateGraph, initializationFactory);
+                new ThreadFactory("Scheduler-Serial", updateGraph, operationInitializer, initializationFactory);
         final ExecutorService serialExecutor = new ThreadPoolExecutor(1, 1, 0L,
                 TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), serialThreadFactory) {
 
@@ -82,12 +84,15 @@ public class SchedulerModule {
 
     private static class ThreadFactory extends NamingThreadFactory {
         private final UpdateGraph updateGraph;
+        private final OperationInitializer operationInitializer;
         private final ThreadInitializationFactory initializationFactory;
 
         public ThreadFactory(final String name, final UpdateGraph updateGraph,
+                final OperationInitializer operationInitializer,
                 ThreadInitializationFactory initializationFactory) {
             super(DeephavenApiServer.class, name);
             this.updateGraph = updateGraph;
+            this.operationInitializer = operationInitializer;
             this.initializationFactory = initializationFactory;
         }
 
@@ -95,8 +100,10 @@ public class SchedulerModule {
         public Thread newThread(@NotNull final Runnable r) {
             return super.newThread(initializationFactory.createInitializer(() -> {
                 MultiChunkPool.enableDedicatedPoolForThisThread();
+                // scheduled work, such as Barrage snapshots, may parallelize on the server's operation initializer
                 // noinspection resource
-                ExecutionContext.getContext().withUpdateGraph(updateGraph).open();
+                ExecutionContext.getContext().withUpdateGraph(updateGraph)
+                        .withOperationInitializer(operationInitializer).open();
                 r.run();
             }));
         }
@@ -16,6 +16,7 @@ import io.deephaven.api.agg.spec.AggSpecWAvg;
 import io.deephaven.api.agg.spec.AggSpecWSum;
 import io.deephaven.api.object.UnionObject;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecAbsSum;
+import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecApproximateCountDistinct;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecApproximatePercentile;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecAvg;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecCountDistinct;
@@ -30,6 +31,7 @@ import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecMedian;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecMin;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecNonUniqueSentinel;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecPercentile;
+import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecSketchPercentile;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecSorted;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecSortedColumn;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecStd;
@@ -135,6 +137,13 @@ class AggSpecAdapter {
         return Singleton.INSTANCE.adapters.adapt(spec);
     }
 
+    private static io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct adapt(
+            AggSpecApproximateCountDistinct countDistinct) {
+        return countDistinct.hasPrecision()
+                ? AggSpec.approximateCountDistinct(countDistinct.getPrecision())
+                : AggSpec.approximateCountDistinct();
+    }
+
     private static io.deephaven.api.agg.spec.AggSpecApproximatePercentile adapt(
             AggSpecApproximatePercentile percentile) {
         return percentile.hasCompression()
@@ -162,6 +171,12 @@ class AggSpecAdapter {
         return AggSpec.percentile(percentile.getPercentile(), percentile.getAverageEvenlyDivided());
     }
 
+    private static io.deephaven.api.agg.spec.AggSpecSketchPercentile adapt(AggSpecSketchPercentile percentile) {
+        return percentile.hasRelativeAccuracy()
+                ? AggSpec.sketchPercentile(percentile.getPercentile(), percentile.getRelativeAccuracy())
+                : AggSpec.sketchPercentile(percentile.getPercentile());
+    }
+
     private static SortColumn adapt(AggSpecSortedColumn sortedColumn) {
         return SortColumn.asc(ColumnName.of(sortedColumn.getColumnName()));
     }
@@ -290,6 +305,16 @@ class AggSpecAdapter {
                     AggSpec::absSum);
         }
 
+        @Override
+        public void visit(io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct approxCountDistinct) {
+            add(
+                    TypeCase.APPROXIMATE_COUNT_DISTINCT,
+                    AggSpecApproximateCountDistinct.class,
+                    io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct.class,
+                    GrpcErrorHelper::checkHasNoUnknownFieldsRecursive,
+                    AggSpecAdapter::adapt);
+        }
+
         @Override
         public void visit(io.deephaven.api.agg.spec.AggSpecApproximatePercentile approxPct) {
             add(
@@ -420,6 +445,16 @@ class AggSpecAdapter {
                     AggSpecAdapter::adapt);
         }
 
+        @Override
+        public void visit(io.deephaven.api.agg.spec.AggSpecSketchPercentile sketchPct) {
+            add(
+                    TypeCase.SKETCH_PERCENTILE,
+                    AggSpecSketchPercentile.class,
+                    io.deephaven.api.agg.spec.AggSpecSketchPercentile.class,
+                    GrpcErrorHelper::checkHasNoUnknownFieldsRecursive,
+                    AggSpecAdapter::adapt);
+        }
+
         @Override
         public void visit(AggSpecSortedFirst sortedFirst) {
             add(
@@ -195,6 +195,8 @@ public final class UpdateByGrpcImpl extends GrpcTableOperation<UpdateByRequest>
                 return adaptRollingFormula(spec.getRollingFormula());
             case ROLLING_COUNT_WHERE:
                 return adaptRollingCountWhere(spec.getRollingCountWhere());
+            case ROLLING_PERCENTILE:
+                return adaptRollingPercentile(spec.getRollingPercentile());
 
             case TYPE_NOT_SET:
             default:
@@ -232,6 +234,7 @@ public final class UpdateByGrpcImpl extends GrpcTableOperation<UpdateByRequest>
             case ROLLING_COUNT:
             case ROLLING_STD:
             case ROLLING_WAVG:
+            case ROLLING_PERCENTILE:
                 // these types do not contain formula
                 return;
 
@@ -471,6 +474,14 @@ public final class UpdateByGrpcImpl extends GrpcTableOperation<UpdateByRequest>
                 countWhere.getFiltersList().toArray(String[]::new));
     }
 
+    private static RollingPercentileSpec adaptRollingPercentile(UpdateByRollingPercentile percentile) {
+        return RollingPercentileSpec.of(
+                percentile.getPercentile(),
+                percentile.getAverageEvenlyDivided(),
+                adaptWindowScale(percentile.getReverseWindowScale()),
+                adaptWindowScale(percentile.getForwardWindowScale()));
+    }
+
     private static MathContext adaptMathContext(io.deephaven.proto.backplane.grpc.MathContext bigValueContext) {
         return new MathContext(bigValueContext.getPrecision(), adaptRoundingMode(bigValueContext.getRoundingMode()));
     }
@@ -46,6 +46,7 @@ import io.deephaven.util.annotations.ReferentialIntegrity;
 import io.deephaven.util.annotations.ScriptApi;
 import io.deephaven.util.mutable.MutableInt;
 import io.deephaven.vector.IntVector;
+import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
 import junit.framework.TestCase;
@@ -1245,6 +1246,43 @@ public class BarrageMessageRoundTripTest extends RefreshingTableTestCase {
         remoteNugget.validate("new viewport with modification");
     }
 
+    public void testEquivalentSubscriptionsShareEncodedMessage() {
+        final BitSet allColumns = new BitSet(1);
+        allColumns.set(0);
+
+        final QueryTable queryTable = TstUtils.testRefreshingTable(i(5, 10, 12).toTracking(),
+                col("intCol", 5, 10, 12));
+        final RemoteNugget remoteNugget = new RemoteNugget(() -> queryTable);
+
+        // two full subscriptions with identical options, and a viewport subscription that is sent a different payload
+        final RemoteClient full1 = remoteNugget.newClient(null, allColumns, "full1");
+        final RemoteClient full2 = remoteNugget.newClient(null, allColumns, "full2");
+        final RemoteClient viewport = remoteNugget.newClient(RowSetFactory.fromRange(0, 1), allColumns, "viewport");
+
+        // the initial snapshots are per subscription
+        flushProducerTable();
+        remoteNugget.flushClientEvents();
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        updateGraph.runWithinUnitTestCycle(updateSourceCombiner::run);
+        remoteNugget.validate("initial snapshot");
+
+        updateGraph.runWithinUnitTestCycle(() -> {
+            TstUtils.addToTable(queryTable, i(0, 11), col("intCol", 0, 11));
+            queryTable.notifyListeners(i(0, 11), i(), i());
+        });
+        flushProducerTable();
+
+        final BarrageMessageWriter.MessageView sharedView = full1.dummyObserver.lastView;
+        TestCase.assertTrue(sharedView instanceof SharedMessageView);
+        TestCase.assertSame(sharedView, full2.dummyObserver.lastView);
+        TestCase.assertNotSame(sharedView, viewport.dummyObserver.lastView);
+
+        // every subscriber decodes the shared bytes to the same rows as the source
+        remoteNugget.flushClientEvents();
+        updateGraph.runWithinUnitTestCycle(updateSourceCombiner::run);
+        remoteNugget.validate("shared update");
+    }
+
     public void testCoalescingLargeUpdates() {
         final BitSet allColumns = new BitSet(1);
         allColumns.set(0);
@@ -1316,6 +1354,183 @@ public class BarrageMessageRoundTripTest extends RefreshingTableTestCase {
         remoteNugget.validate("large mod rows update");
     }
 
+    public void testFlowControlCoalescesLaggingSubscriptions() {
+        final int size = 100;
+        final Random random = new Random(0);
+        final ColumnInfo<?, ?>[] columnInfo;
+        final QueryTable sourceTable = getTable(size / 4, random,
+                columnInfo = initColumnInfos(new String[] {"intCol", "doubleCol"},
+                        new IntGenerator(10, 100),
+                        new SetGenerator<>(10.1, 20.1, 30.1)));
+        final BitSet allColumns = new BitSet();
+        allColumns.set(0, sourceTable.numColumns());
+
+        final RemoteNugget remoteNugget = new RemoteNugget(() -> sourceTable);
+        remoteNugget.barrageMessageProducer.setFlowControl(true, 0);
+        final RemoteClient ready = remoteNugget.newClient(null, allColumns, "ready");
+        final RemoteClient lagging = remoteNugget.newClient(null, allColumns, "lagging");
+        final RemoteClient laggingViewport =
+                remoteNugget.newClient(RowSetFactory.fromRange(0, size / 10), allColumns, "lagging viewport");
+
+        flushProducerTable();
+        remoteNugget.flushClientEvents();
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        updateGraph.runWithinUnitTestCycle(updateSourceCombiner::run);
+        remoteNugget.validate("initial snapshot");
+
+        lagging.dummyObserver.setReady(false);
+        laggingViewport.dummyObserver.setReady(false);
+
+        // deltas are held back from the lagging subscriptions, but not from the ready one
+        final int numSteps = 3;
+        for (int step = 0; step < numSteps; ++step) {
+            updateGraph.runWithinUnitTestCycle(() -> GenerateTableUpdates.generateShiftAwareTableUpdates(
+                    GenerateTableUpdates.DEFAULT_PROFILE, size, random, sourceTable, columnInfo));
+            scheduler.runThrough(scheduler.currentTimeMillis() + UPDATE_INTERVAL);
+            assertEquals(0, lagging.commandQueue.size());
+            assertEquals(0, laggingViewport.commandQueue.size());
+        }
+        assertFalse(ready.commandQueue.isEmpty());
+
+        // each lagging subscription is sent one update that squashes the held back deltas once it is ready
+        lagging.dummyObserver.setReady(true);
+        scheduler.runThrough(scheduler.currentTimeMillis() + UPDATE_INTERVAL);
+        assertEquals(1, lagging.commandQueue.size());
+        assertEquals(0, laggingViewport.commandQueue.size());
+
+        laggingViewport.dummyObserver.setReady(true);
+        scheduler.runThrough(scheduler.currentTimeMillis() + UPDATE_INTERVAL);
+        assertEquals(1, laggingViewport.commandQueue.size());
+
+        remoteNugget.flushClientEvents();
+        updateGraph.runWithinUnitTestCycle(updateSourceCombiner::run);
+        remoteNugget.validate("lagging subscriptions caught up");
+
+        // subscriptions that are ready again receive every update
+        for (int step = 0; step < numSteps; ++step) {
+            updateGraph.runWithinUnitTestCycle(() -> GenerateTableUpdates.generateShiftAwareTableUpdates(
+                    GenerateTableUpdates.DEFAULT_PROFILE, size, random, sourceTable, columnInfo));
+            flushProducerTable();
+            remoteNugget.flushClientEvents();
+            updateGraph.runWithinUnitTestCycle(updateSourceCombiner::run);
+            remoteNugget.validate("step " + step);
+        }
+    }
+
+    public void testFlowControlSendsHeldBackDeltasAfterInterval() {
+        final int size = 100;
+        final Random random = new Random(0);
+        final ColumnInfo<?, ?>[] columnInfo;
+        final QueryTable sourceTable = getTable(size / 4, random,
+                columnInfo = initColumnInfos(new String[] {"intCol", "doubleCol"},
+                        new IntGenerator(10, 100),
+                        new SetGenerator<>(10.1, 20.1, 30.1)));
+        final BitSet allColumns = new BitSet();
+        allColumns.set(0, sourceTable.numColumns());
+
+        final RemoteNugget remoteNugget = new RemoteNugget(() -> sourceTable);
+        remoteNugget.barrageMessageProducer.setFlowControl(true, 0);
+        final RemoteClient lagging = remoteNugget.newClient(null, allColumns, "lagging");
+
+        flushProducerTable();
+        remoteNugget.flushClientEvents();
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        updateGraph.runWithinUnitTestCycle(updateSourceCombiner::run);
+        remoteNugget.validate("initial snapshot");
+
+        lagging.dummyObserver.setReady(false);
+        updateGraph.runWithinUnitTestCycle(() -> GenerateTableUpdates.generateShiftAwareTableUpdates(
+                GenerateTableUpdates.DEFAULT_PROFILE, size, random, sourceTable, columnInfo));
+        scheduler.runThrough(scheduler.currentTimeMillis() + UPDATE_INTERVAL);
+        assertEquals(0, lagging.commandQueue.size());
+
+        // the transport never becomes ready, and the table stops ticking; the deltas are sent anyway
+        scheduler.runThrough(scheduler.currentTimeMillis() + BarrageMessageProducer.MAX_COALESCE_INTERVAL_MS);
+        assertEquals(1, lagging.commandQueue.size());
+
+        remoteNugget.flushClientEvents();
+        updateGraph.runWithinUnitTestCycle(updateSourceCombiner::run);
+        remoteNugget.validate("held back deltas sent");
+    }
+
+    public void testFlowControlQueuedByteLimit() {
+        final int size = 100;
+        final Random random = new Random(0);
+        final ColumnInfo<?, ?>[] columnInfo;
+        final QueryTable sourceTable = getTable(size / 4, random,
+                columnInfo = initColumnInfos(new String[] {"intCol", "doubleCol"},
+                        new IntGenerator(10, 100),
+                        new SetGenerator<>(10.1, 20.1, 30.1)));
+        final BitSet allColumns = new BitSet();
+        allColumns.set(0, sourceTable.numColumns());
+
+        final RemoteNugget remoteNugget = new RemoteNugget(() -> sourceTable);
+        remoteNugget.barrageMessageProducer.setFlowControl(true, 4096);
+        final RemoteClient reading = remoteNugget.newClient(null, allColumns, "reading");
+        final RemoteClient stalled = remoteNugget.newClient(null, allColumns, "stalled");
+
+        flushProducerTable();
+        remoteNugget.flushClientEvents();
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        updateGraph.runWithinUnitTestCycle(updateSourceCombiner::run);
+        remoteNugget.validate("initial snapshot");
+
+        // the stalled transport never becomes ready, so held back deltas are sent once the coalesce interval passes
+        // and pile up until the subscription is failed
+        stalled.dummyObserver.setReady(false);
+        for (int step = 0; step < 100 && stalled.dummyObserver.failure == null; ++step) {
+            updateGraph.runWithinUnitTestCycle(() -> GenerateTableUpdates.generateShiftAwareTableUpdates(
+                    GenerateTableUpdates.DEFAULT_PROFILE, size, random, sourceTable, columnInfo));
+            scheduler.runThrough(scheduler.currentTimeMillis() + BarrageMessageProducer.MAX_COALESCE_INTERVAL_MS);
+        }
+
+        assertTrue(stalled.dummyObserver.failure instanceof StatusRuntimeException);
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED,
+                ((StatusRuntimeException) stalled.dummyObserver.failure).getStatus().getCode());
+        assertNull(reading.dummyObserver.failure);
+
+        remoteNugget.flushClientEvents();
+        updateGraph.runWithinUnitTestCycle(updateSourceCombiner::run);
+        reading.validate("reading subscriber", sourceTable);
+    }
+
+    public void testFlowControlClearsQueuedBytesWhenReady() {
+        final int size = 100;
+        final Random random = new Random(0);
+        final ColumnInfo<?, ?>[] columnInfo;
+        final QueryTable sourceTable = getTable(size / 4, random,
+                columnInfo = initColumnInfos(new String[] {"intCol", "doubleCol"},
+                        new IntGenerator(10, 100),
+                        new SetGenerator<>(10.1, 20.1, 30.1)));
+        final BitSet allColumns = new BitSet();
+        allColumns.set(0, sourceTable.numColumns());
+
+        final RemoteNugget remoteNugget = new RemoteNugget(() -> sourceTable);
+        remoteNugget.barrageMessageProducer.setFlowControl(true, 4096);
+        final RemoteClient slow = remoteNugget.newClient(null, allColumns, "slow");
+
+        flushProducerTable();
+        remoteNugget.flushClientEvents();
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        updateGraph.runWithinUnitTestCycle(updateSourceCombiner::run);
+        remoteNugget.validate("initial snapshot");
+
+        // a slow subscriber that keeps reading is never failed, however much it is sent in total
+        for (int step = 0; step < 100; ++step) {
+            slow.dummyObserver.setReady(false);
+            updateGraph.runWithinUnitTestCycle(() -> GenerateTableUpdates.generateShiftAwareTableUpdates(
+                    GenerateTableUpdates.DEFAULT_PROFILE, size, random, sourceTable, columnInfo));
+            scheduler.runThrough(scheduler.currentTimeMillis() + BarrageMessageProducer.MAX_COALESCE_INTERVAL_MS);
+            slow.dummyObserver.setReady(true);
+            scheduler.runThrough(scheduler.currentTimeMillis() + UPDATE_INTERVAL);
+            assertNull(slow.dummyObserver.failure);
+        }
+
+        remoteNugget.flushClientEvents();
+        updateGraph.runWithinUnitTestCycle(updateSourceCombiner::run);
+        remoteNugget.validate("slow subscriber");
+    }
+
     /**
      * Bug-fix verification: when a full subscription and a gapped-viewport subscription coexist, the producer stores
      * all modified rows in a single delta (not just the viewport intersection). The viewport client's modOffsets then
@@ -2173,9 +2388,13 @@ public class BarrageMessageRoundTripTest extends RefreshingTableTestCase {
         }
     }
 
-    public static class DummyObserver implements StreamObserver<BarrageMessageWriter.MessageView> {
+    public static class DummyObserver implements StreamObserver<BarrageMessageWriter.MessageView>,
+            BarrageMessageProducer.FlowControlledListener {
         volatile boolean completed = false;
         volatile Throwable failure = null;
+        volatile boolean ready = true;
+        volatile Runnable onReadyHandler = null;
+        volatile BarrageMessageWriter.MessageView lastView = null;
 
         private final BarrageDataMarshaller marshaller;
         private final Queue<BarrageMessage> receivedCommands;
@@ -2187,6 +2406,7 @@ public class BarrageMessageRoundTripTest extends RefreshingTableTestCase {
 
         @Override
         public void onNext(final BarrageMessageWriter.MessageView messageView) {
+            lastView = messageView;
             try {
                 messageView.forEachStream(inputStream -> {
                     try (final ExposedByteArrayOutputStream baos = new ExposedByteArrayOutputStream()) {
@@ -2211,9 +2431,31 @@ public class BarrageMessageRoundTripTest extends RefreshingTableTestCase {
 
         @Override
         public void onError(final Throwable throwable) {
+            this.failure = throwable;
             throw new IllegalStateException(throwable);
         }
 
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setOnReadyHandler(final Runnable onReadyHandler) {
+            this.onReadyHandler = onReadyHandler;
+        }
+
+        /**
+         * Simulate the transport becoming ready or starting to buffer; becoming ready notifies the ready handler.
+         */
+        void setReady(final boolean ready) {
+            this.ready = ready;
+            final Runnable handler = onReadyHandler;
+            if (ready && handler != null) {
+                handler.run();
+            }
+        }
+
         @Override
         public void onCompleted() {
             completed = true;
@@ -0,0 +1,83 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.server.barrage;
+
+import io.deephaven.extensions.barrage.BarrageMessageWriter;
+import io.deephaven.extensions.barrage.DrainableByteArrayInputStream;
+import io.deephaven.extensions.barrage.util.DefensiveDrainable;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+public class SharedMessageViewTest {
+
+    @Test
+    public void testEncodesOnceForAllSubscribers() throws IOException {
+        final byte[][] messages = {
+                "schema".getBytes(StandardCharsets.UTF_8),
+                "record batch".getBytes(StandardCharsets.UTF_8),
+        };
+        final int[] visits = new int[1];
+        final BarrageMessageWriter.MessageView delegate = visitor -> {
+            ++visits[0];
+            for (final byte[] message : messages) {
+                visitor.accept(new DrainableByteArrayInputStream(message, 0, message.length));
+            }
+        };
+
+        final SharedMessageView view = new SharedMessageView(delegate, 3);
+        for (int ii = 0; ii < 3; ++ii) {
+            final List<byte[]> received = drain(view);
+            assertEquals(messages.length, received.size());
+            for (int mi = 0; mi < messages.length; ++mi) {
+                assertArrayEquals(messages[mi], received.get(mi));
+            }
+        }
+        assertEquals(1, visits[0]);
+
+        // every subscriber has visited, so the encoded bytes have been released
+        assertThrows(IllegalStateException.class, () -> drain(view));
+    }
+
+    @Test
+    public void testEncodingFailureIsRethrownToEverySubscriber() {
+        final IOException failure = new IOException("encoding failed");
+        final int[] visits = new int[1];
+        final BarrageMessageWriter.MessageView delegate = visitor -> {
+            ++visits[0];
+            throw failure;
+        };
+
+        final SharedMessageView view = new SharedMessageView(delegate, 3);
+        for (int ii = 0; ii < 3; ++ii) {
+            assertSame(failure, assertThrows(IOException.class, () -> drain(view)));
+        }
+        assertEquals(1, visits[0]);
+
+        assertThrows(IllegalStateException.class, () -> drain(view));
+    }
+
+    private static List<byte[]> drain(final BarrageMessageWriter.MessageView view) throws IOException {
+        final List<byte[]> received = new ArrayList<>();
+        view.forEachStream(stream -> {
+            try (final DefensiveDrainable toDrain = stream) {
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                toDrain.drainTo(out);
+                received.add(out.toByteArray());
+            } catch (final IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        return received;
+    }
+}
@@ -6,12 +6,14 @@ package io.deephaven.api.agg;
 import io.deephaven.api.ColumnName;
 import io.deephaven.api.Pair;
 import io.deephaven.api.agg.spec.AggSpec;
+import io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct;
 import io.deephaven.api.agg.spec.AggSpecApproximatePercentile;
 import io.deephaven.api.agg.spec.AggSpecCountDistinct;
 import io.deephaven.api.agg.spec.AggSpecDistinct;
 import io.deephaven.api.agg.spec.AggSpecFormula;
 import io.deephaven.api.agg.spec.AggSpecMedian;
 import io.deephaven.api.agg.spec.AggSpecPercentile;
+import io.deephaven.api.agg.spec.AggSpecSketchPercentile;
 import io.deephaven.api.agg.spec.AggSpecTDigest;
 import io.deephaven.api.agg.spec.AggSpecUnique;
 import io.deephaven.api.agg.spec.AggSpecWAvg;
@@ -141,6 +143,34 @@ public interface Aggregation {
         return of(AggSpec.absSum(), pairs);
     }
 
+    /**
+     * Create an {@link io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct approximate count distinct}
+     * aggregation for the supplied column name pairs with the default HyperLogLog
+     * {@link AggSpecApproximateCountDistinct#precision() precision}. This will not count {@code null} values from the
+     * input column(s).
+     *
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static Aggregation AggApproxCountDistinct(String... pairs) {
+        return of(AggSpec.approximateCountDistinct(), pairs);
+    }
+
+    /**
+     * Create an {@link io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct approximate count distinct}
+     * aggregation for the supplied HyperLogLog precision and column name pairs. This will not count {@code null} values
+     * from the input column(s).
+     *
+     * @param precision HyperLogLog {@link AggSpecApproximateCountDistinct#precision() precision}; must be in range
+     *        [{@value AggSpecApproximateCountDistinct#MIN_PRECISION},
+     *        {@value AggSpecApproximateCountDistinct#MAX_PRECISION}]
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static Aggregation AggApproxCountDistinct(int precision, String... pairs) {
+        return of(AggSpec.approximateCountDistinct(precision), pairs);
+    }
+
     /**
      * Create an {@link io.deephaven.api.agg.spec.AggSpecApproximatePercentile approximate percentile} aggregation for
      * the supplied percentile and column name pairs with the default T-Digest
@@ -533,6 +563,70 @@ public interface Aggregation {
         return of(aggFactory, inputColumn, percentileOutputs);
     }
 
+    /**
+     * Create a {@link io.deephaven.api.agg.spec.AggSpecSketchPercentile sketch percentile} aggregation for the supplied
+     * percentile and column name pairs with the default DDSketch {@link AggSpecSketchPercentile#relativeAccuracy()
+     * relative accuracy}.
+     *
+     * @param percentile The {@link AggSpecSketchPercentile#percentile() percentile} to use for all component
+     *        aggregations
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static Aggregation AggSketchPct(double percentile, String... pairs) {
+        return of(AggSpec.sketchPercentile(percentile), pairs);
+    }
+
+    /**
+     * Create a {@link io.deephaven.api.agg.spec.AggSpecSketchPercentile sketch percentile} aggregation for the supplied
+     * percentile, DDSketch relative accuracy, and column name pairs.
+     *
+     * @param percentile The {@link AggSpecSketchPercentile#percentile() percentile} to use for all component
+     *        aggregations
+     * @param relativeAccuracy DDSketch {@link AggSpecSketchPercentile#relativeAccuracy() relative accuracy}; must be
+     *        in range (0.0, 1.0)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static Aggregation AggSketchPct(double percentile, double relativeAccuracy, String... pairs) {
+        return of(AggSpec.sketchPercentile(percentile, relativeAccuracy), pairs);
+    }
+
+    /**
+     * Create a {@link io.deephaven.api.agg.spec.AggSpecSketchPercentile sketch percentile} aggregation for the supplied
+     * input column name and percentile/output column name pairs with the default DDSketch
+     * {@link AggSpecSketchPercentile#relativeAccuracy() relative accuracy}.
+     *
+     * @param inputColumn The input column name
+     * @param percentileOutputs The {@link PercentileOutput percentile/output column name pairs} for the component
+     *        aggregations; see {@link #PctOut(double, String)}.
+     * @return The aggregation
+     */
+    static Aggregation AggSketchPct(String inputColumn, PercentileOutput... percentileOutputs) {
+        final BiFunction<ColumnName, PercentileOutput, ColumnAggregation> aggFactory = (ic, po) -> ColumnAggregation
+                .of(AggSpec.sketchPercentile(po.percentile()), Pair.of(ic, po.output()));
+        return of(aggFactory, inputColumn, percentileOutputs);
+    }
+
+    /**
+     * Create a {@link io.deephaven.api.agg.spec.AggSpecSketchPercentile sketch percentile} aggregation for the supplied
+     * input column name, DDSketch relative accuracy, and percentile/output column name pairs.
+     *
+     * @param inputColumn The input column name
+     * @param relativeAccuracy DDSketch {@link AggSpecSketchPercentile#relativeAccuracy() relative accuracy}; must be
+     *        in range (0.0, 1.0)
+     * @param percentileOutputs The {@link PercentileOutput percentile/output column name pairs} for the component
+     *        aggregations; see {@link #PctOut(double, String)}.
+     * @return The aggregation
+     */
+    static Aggregation AggSketchPct(String inputColumn, double relativeAccuracy,
+            PercentileOutput... percentileOutputs) {
+        final BiFunction<ColumnName, PercentileOutput, ColumnAggregation> aggFactory =
+                (ic, po) -> ColumnAggregation.of(AggSpec.sketchPercentile(po.percentile(), relativeAccuracy),
+                        Pair.of(ic, po.output()));
+        return of(aggFactory, inputColumn, percentileOutputs);
+    }
+
     /**
      * Create a {@link io.deephaven.api.agg.spec.AggSpecSortedFirst sorted first} aggregation for the supplied sort
      * column name and input/output column name pairs.
@@ -720,6 +814,8 @@ public interface Aggregation {
      * @see #AggApproxPct(String, double, PercentileOutput...)
      * @see #AggPct(String, PercentileOutput...)
      * @see #AggPct(String, boolean, PercentileOutput...)
+     * @see #AggSketchPct(String, PercentileOutput...)
+     * @see #AggSketchPct(String, double, PercentileOutput...)
      */
     static PercentileOutput PctOut(double percentile, String outputColumn) {
         return PercentileOutput.of(percentile, outputColumn);
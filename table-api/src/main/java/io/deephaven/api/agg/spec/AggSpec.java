@@ -26,6 +26,20 @@ public interface AggSpec {
         return AggSpecAbsSum.of();
     }
 
+    /**
+     * @return {@link AggSpecApproximateCountDistinct#of()}
+     */
+    static AggSpecApproximateCountDistinct approximateCountDistinct() {
+        return AggSpecApproximateCountDistinct.of();
+    }
+
+    /**
+     * @return {@link AggSpecApproximateCountDistinct#of(int)} for {@code precision}
+     */
+    static AggSpecApproximateCountDistinct approximateCountDistinct(int precision) {
+        return AggSpecApproximateCountDistinct.of(precision);
+    }
+
     /**
      * @return {@link AggSpecApproximatePercentile#of(double)} for {@code percentile}
      */
@@ -150,6 +164,20 @@ public interface AggSpec {
         return AggSpecPercentile.of(percentile, averageEvenlyDivided);
     }
 
+    /**
+     * @return {@link AggSpecSketchPercentile#of(double)} for {@code percentile}
+     */
+    static AggSpecSketchPercentile sketchPercentile(double percentile) {
+        return AggSpecSketchPercentile.of(percentile);
+    }
+
+    /**
+     * @return {@link AggSpecSketchPercentile#of(double, double)} for {@code percentile} and {@code relativeAccuracy}
+     */
+    static AggSpecSketchPercentile sketchPercentile(double percentile, double relativeAccuracy) {
+        return AggSpecSketchPercentile.of(percentile, relativeAccuracy);
+    }
+
     /**
      * @return {@link AggSpecSortedFirst} for the supplied sort {@code columns}
      */
@@ -263,6 +291,7 @@ public interface AggSpec {
      */
     static void visitAll(Visitor visitor) {
         visitor.visit((AggSpecAbsSum) null);
+        visitor.visit((AggSpecApproximateCountDistinct) null);
         visitor.visit((AggSpecApproximatePercentile) null);
         visitor.visit((AggSpecAvg) null);
         visitor.visit((AggSpecCountDistinct) null);
@@ -276,6 +305,7 @@ public interface AggSpec {
         visitor.visit((AggSpecMedian) null);
         visitor.visit((AggSpecMin) null);
         visitor.visit((AggSpecPercentile) null);
+        visitor.visit((AggSpecSketchPercentile) null);
         visitor.visit((AggSpecSortedFirst) null);
         visitor.visit((AggSpecSortedLast) null);
         visitor.visit((AggSpecStd) null);
@@ -335,6 +365,8 @@ public interface AggSpec {
     interface Visitor {
         void visit(AggSpecAbsSum absSum);
 
+        void visit(AggSpecApproximateCountDistinct approxCountDistinct);
+
         void visit(AggSpecApproximatePercentile approxPct);
 
         void visit(AggSpecAvg avg);
@@ -361,6 +393,8 @@ public interface AggSpec {
 
         void visit(AggSpecPercentile pct);
 
+        void visit(AggSpecSketchPercentile sketchPct);
+
         void visit(AggSpecSortedFirst sortedFirst);
 
         void visit(AggSpecSortedLast sortedLast);
@@ -0,0 +1,90 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.api.agg.spec;
+
+import io.deephaven.annotations.BuildableStyle;
+import org.immutables.value.Value.Check;
+import org.immutables.value.Value.Immutable;
+
+import java.util.OptionalInt;
+
+/**
+ * Specifies an aggregation that outputs the approximate count of distinct values for each group, estimated using a
+ * HyperLogLog sketch with {@code 2^}{@link #precision() precision} registers.
+ *
+ * <p>
+ * Uses at most {@code 2^precision} bytes per group, regardless of the number of distinct values; a group with few
+ * distinct values uses a few bytes for each. The relative standard error of the estimate is about
+ * {@code 1.04 / sqrt(2^precision)}.
+ *
+ * <p>
+ * May only be used on static, add-only, or blink tables. May be used in rollups, where each level merges the registers
+ * of the level below.
+ *
+ * <p>
+ * Does not count {@code null} values.
+ */
+@Immutable
+@BuildableStyle
+public abstract class AggSpecApproximateCountDistinct extends AggSpecBase {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 18;
+
+    /**
+     * Create a new AggSpecApproximateCountDistinct with {@code precision} chosen by the server.
+     *
+     * @return the agg spec
+     */
+    public static AggSpecApproximateCountDistinct of() {
+        return ImmutableAggSpecApproximateCountDistinct.builder().build();
+    }
+
+    /**
+     * Create a new AggSpecApproximateCountDistinct.
+     *
+     * @param precision the precision
+     * @return the agg spec
+     */
+    public static AggSpecApproximateCountDistinct of(int precision) {
+        return ImmutableAggSpecApproximateCountDistinct.builder()
+                .precision(precision)
+                .build();
+    }
+
+    @Override
+    public final String description() {
+        if (precision().isPresent()) {
+            return String.format("approximate count distinct with precision %d", precision().getAsInt());
+        }
+        return "approximate count distinct with default precision";
+    }
+
+    /**
+     * HyperLogLog precision, the base-2 logarithm of the number of registers kept for each group. Must be in range
+     * [{@value #MIN_PRECISION}, {@value #MAX_PRECISION}]. Each increment halves the variance of the estimate and
+     * doubles the most memory used per group.
+     *
+     * <p>
+     * When not specified, the engine will choose a precision.
+     *
+     * @return The HyperLogLog precision if specified
+     */
+    public abstract OptionalInt precision();
+
+    @Override
+    public final <V extends Visitor> V walk(V visitor) {
+        visitor.visit(this);
+        return visitor;
+    }
+
+    @Check
+    final void checkPrecision() {
+        if (precision().isPresent()
+                && (precision().getAsInt() < MIN_PRECISION || precision().getAsInt() > MAX_PRECISION)) {
+            throw new IllegalArgumentException(
+                    String.format("Precision must be in range [%d, %d]", MIN_PRECISION, MAX_PRECISION));
+        }
+    }
+}
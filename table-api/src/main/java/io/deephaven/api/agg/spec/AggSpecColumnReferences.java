@@ -28,6 +28,11 @@ public class AggSpecColumnReferences implements AggSpec.Visitor {
         out = Collections.emptySet();
     }
 
+    @Override
+    public void visit(AggSpecApproximateCountDistinct approxCountDistinct) {
+        out = Collections.emptySet();
+    }
+
     @Override
     public void visit(AggSpecApproximatePercentile approxPct) {
         out = Collections.emptySet();
@@ -93,6 +98,11 @@ public class AggSpecColumnReferences implements AggSpec.Visitor {
         out = Collections.emptySet();
     }
 
+    @Override
+    public void visit(AggSpecSketchPercentile sketchPct) {
+        out = Collections.emptySet();
+    }
+
     @Override
     public void visit(AggSpecSortedFirst sortedFirst) {
         out = sortedFirst.columns().stream().map(SortColumn::column).collect(Collectors.toSet());
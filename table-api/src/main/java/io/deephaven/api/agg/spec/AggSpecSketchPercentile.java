@@ -0,0 +1,103 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.api.agg.spec;
+
+import io.deephaven.annotations.BuildableStyle;
+import org.immutables.value.Value.Check;
+import org.immutables.value.Value.Immutable;
+
+import java.util.OptionalDouble;
+
+/**
+ * Specifies an aggregation that outputs a percentile approximated using a DDSketch, a quantile sketch that guarantees
+ * the {@link #relativeAccuracy() relative accuracy} of each result and keeps its state as primitive bucket counts.
+ *
+ * <p>
+ * Efficiently supports multiple output percentiles based on a single input column.
+ *
+ * <p>
+ * Unlike {@link AggSpecApproximatePercentile}, may be used on refreshing tables with removed and modified rows, and in
+ * rollups, where each level merges the sketches of the level below.
+ *
+ * <p>
+ * Only supported for numeric types. Null, NaN, and infinite values are ignored.
+ */
+@Immutable
+@BuildableStyle
+public abstract class AggSpecSketchPercentile extends AggSpecBase {
+
+    /**
+     * Create a new AggSpecSketchPercentile with {@code relativeAccuracy} chosen by the server.
+     *
+     * @param percentile the percentile
+     * @return the agg spec
+     */
+    public static AggSpecSketchPercentile of(double percentile) {
+        return ImmutableAggSpecSketchPercentile.builder()
+                .percentile(percentile)
+                .build();
+    }
+
+    /**
+     * Create a new AggSpecSketchPercentile.
+     *
+     * @param percentile the percentile
+     * @param relativeAccuracy the relative accuracy
+     * @return the agg spec
+     */
+    public static AggSpecSketchPercentile of(double percentile, double relativeAccuracy) {
+        return ImmutableAggSpecSketchPercentile.builder()
+                .percentile(percentile)
+                .relativeAccuracy(relativeAccuracy)
+                .build();
+    }
+
+    @Override
+    public final String description() {
+        if (relativeAccuracy().isPresent()) {
+            return String.format("%.2f sketch percentile with relative accuracy %.4f", percentile(),
+                    relativeAccuracy().getAsDouble());
+        }
+        return String.format("%.2f sketch percentile with default relative accuracy", percentile());
+    }
+
+    /**
+     * Percentile. Must be in range [0.0, 1.0].
+     *
+     * @return The percentile
+     */
+    public abstract double percentile();
+
+    /**
+     * DDSketch relative accuracy. Must be in range (0.0, 1.0). Each result is within this fraction of a value whose
+     * rank is the requested percentile; smaller values use more memory per key.
+     *
+     * <p>
+     * When not specified, the engine will choose a relative accuracy.
+     *
+     * @return The DDSketch relative accuracy if specified
+     */
+    public abstract OptionalDouble relativeAccuracy();
+
+    @Override
+    public final <V extends Visitor> V walk(V visitor) {
+        visitor.visit(this);
+        return visitor;
+    }
+
+    @Check
+    final void checkPercentile() {
+        if (percentile() < 0.0 || percentile() > 1.0) {
+            throw new IllegalArgumentException("Percentile must be in range [0.0, 1.0]");
+        }
+    }
+
+    @Check
+    final void checkRelativeAccuracy() {
+        if (relativeAccuracy().isPresent()
+                && !(relativeAccuracy().getAsDouble() > 0.0 && relativeAccuracy().getAsDouble() < 1.0)) {
+            throw new IllegalArgumentException("Relative accuracy must be in range (0.0, 1.0)");
+        }
+    }
+}
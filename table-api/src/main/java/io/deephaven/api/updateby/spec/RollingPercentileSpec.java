@@ -0,0 +1,112 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.api.updateby.spec;
+
+import io.deephaven.annotations.BuildableStyle;
+import org.immutables.value.Value;
+import org.immutables.value.Value.Immutable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+
+/**
+ * A {@link UpdateBySpec} for performing a windowed rolling percentile (e.g. median) across the specified columns
+ */
+@Immutable
+@BuildableStyle
+public abstract class RollingPercentileSpec extends RollingOpSpec {
+
+    public static final boolean AVERAGE_EVENLY_DIVIDED = false;
+
+    public static RollingPercentileSpec ofTicks(double percentile, long revTicks) {
+        return of(percentile, WindowScale.ofTicks(revTicks));
+    }
+
+    public static RollingPercentileSpec ofTicks(double percentile, long revTicks, long fwdTicks) {
+        return of(percentile, WindowScale.ofTicks(revTicks), WindowScale.ofTicks(fwdTicks));
+    }
+
+    public static RollingPercentileSpec ofTime(double percentile, final String timestampCol, Duration revDuration) {
+        return of(percentile, WindowScale.ofTime(timestampCol, revDuration));
+    }
+
+    public static RollingPercentileSpec ofTime(double percentile, final String timestampCol, Duration revDuration,
+            Duration fwdDuration) {
+        return of(percentile, WindowScale.ofTime(timestampCol, revDuration),
+                WindowScale.ofTime(timestampCol, fwdDuration));
+    }
+
+    public static RollingPercentileSpec ofTime(double percentile, final String timestampCol, long revDuration) {
+        return of(percentile, WindowScale.ofTime(timestampCol, revDuration));
+    }
+
+    public static RollingPercentileSpec ofTime(double percentile, final String timestampCol, long revDuration,
+            long fwdDuration) {
+        return of(percentile, WindowScale.ofTime(timestampCol, revDuration),
+                WindowScale.ofTime(timestampCol, fwdDuration));
+    }
+
+    public static RollingPercentileSpec of(double percentile, WindowScale revWindowScale) {
+        return ImmutableRollingPercentileSpec.builder().percentile(percentile).revWindowScale(revWindowScale).build();
+    }
+
+    public static RollingPercentileSpec of(double percentile, WindowScale revWindowScale,
+            WindowScale fwdWindowScale) {
+        return ImmutableRollingPercentileSpec.builder().percentile(percentile)
+                .revWindowScale(revWindowScale).fwdWindowScale(fwdWindowScale).build();
+    }
+
+    public static RollingPercentileSpec of(double percentile, boolean averageEvenlyDivided,
+            WindowScale revWindowScale) {
+        return ImmutableRollingPercentileSpec.builder().percentile(percentile)
+                .averageEvenlyDivided(averageEvenlyDivided).revWindowScale(revWindowScale).build();
+    }
+
+    public static RollingPercentileSpec of(double percentile, boolean averageEvenlyDivided,
+            WindowScale revWindowScale, WindowScale fwdWindowScale) {
+        return ImmutableRollingPercentileSpec.builder().percentile(percentile)
+                .averageEvenlyDivided(averageEvenlyDivided)
+                .revWindowScale(revWindowScale).fwdWindowScale(fwdWindowScale).build();
+    }
+
+    /**
+     * The percentile to calculate. Must be &gt;= 0.0 and &lt;= 1.0.
+     *
+     * @return The percentile to calculate
+     */
+    public abstract double percentile();
+
+    /**
+     * Whether to average the highest low-bucket value and lowest high-bucket value, when the low-bucket and high-bucket
+     * are of equal size. Defaults to {@value AVERAGE_EVENLY_DIVIDED}.
+     *
+     * @return Whether to average the two result candidates for evenly-divided windows
+     */
+    @Value.Default
+    public boolean averageEvenlyDivided() {
+        return AVERAGE_EVENLY_DIVIDED;
+    }
+
+    @Override
+    public final boolean applicableTo(Class<?> inputType) {
+        return
+        // is primitive or boxed numeric?
+        (applicableToNumeric(inputType) && inputType != BigInteger.class && inputType != BigDecimal.class)
+                // or char
+                || inputType == char.class || inputType == Character.class;
+    }
+
+    @Override
+    public final <T> T walk(Visitor<T> visitor) {
+        return visitor.visit(this);
+    }
+
+    @Value.Check
+    final void checkPercentile() {
+        if (percentile() < 0.0 || percentile() > 1.0) {
+            throw new IllegalArgumentException("Percentile must be in range [0.0, 1.0]");
+        }
+    }
+}
@@ -41,6 +41,11 @@ public class AggSpecTest {
             ++count;
         }
 
+        @Override
+        public void visit(AggSpecApproximateCountDistinct approxCountDistinct) {
+            ++count;
+        }
+
         @Override
         public void visit(AggSpecApproximatePercentile approxPct) {
             ++count;
@@ -106,6 +111,11 @@ public class AggSpecTest {
             ++count;
         }
 
+        @Override
+        public void visit(AggSpecSketchPercentile sketchPct) {
+            ++count;
+        }
+
         @Override
         public void visit(AggSpecSortedFirst sortedFirst) {
             ++count;
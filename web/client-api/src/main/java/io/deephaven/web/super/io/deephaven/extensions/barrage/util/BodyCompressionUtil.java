@@ -0,0 +1,41 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.barrage.util;
+
+import com.google.flatbuffers.FlatBufferBuilder;
+import io.deephaven.extensions.barrage.BodyCompressionCodec;
+
+import java.io.OutputStream;
+
+/**
+ * GWT super-source replacement for {@link BodyCompressionUtil}. The compression libraries are unavailable in GWT, so
+ * the web client only writes uncompressed record batch bodies. It must stay in sync with the signatures of the JVM
+ * implementation in {@code extensions/barrage/.../util/BodyCompressionUtil.java}.
+ */
+public final class BodyCompressionUtil {
+    private BodyCompressionUtil() {}
+
+    public static int createBodyCompression(final FlatBufferBuilder builder, final BodyCompressionCodec codec) {
+        throw new UnsupportedOperationException("Body compression is not supported by the web client: " + codec);
+    }
+
+    public static BufferCompressor bufferCompressor(
+            final BodyCompressionCodec codec,
+            final long[] bufferLengths) {
+        throw new UnsupportedOperationException("Body compression is not supported by the web client: " + codec);
+    }
+
+    public static final class BufferCompressor extends OutputStream {
+        private BufferCompressor() {}
+
+        @Override
+        public void write(final int b) {
+            throw new UnsupportedOperationException("Body compression is not supported by the web client");
+        }
+
+        public byte[][] finish() {
+            throw new UnsupportedOperationException("Body compression is not supported by the web client");
+        }
+    }
+}
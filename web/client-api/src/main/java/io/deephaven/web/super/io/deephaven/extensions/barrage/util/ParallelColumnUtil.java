@@ -0,0 +1,21 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.barrage.util;
+
+import java.util.function.IntConsumer;
+
+/**
+ * GWT super-source replacement for {@link ParallelColumnUtil}. The browser is single-threaded, so columns are always
+ * prepared serially. It must stay in sync with the signatures of the JVM implementation in
+ * {@code extensions/barrage/.../util/ParallelColumnUtil.java}.
+ */
+public final class ParallelColumnUtil {
+    private ParallelColumnUtil() {}
+
+    public static void forEachColumn(final int numColumns, final long numRows, final IntConsumer action) {
+        for (int ci = 0; ci < numColumns; ++ci) {
+            action.accept(ci);
+        }
+    }
+}